@@ -119,6 +119,8 @@
  * 26-Apr-2005 : Removed LOGGER (DG);
  * 01-Jun-2005 : Fixed zooming for combined plots - see bug report 
  *               1212039, fix thanks to Onno vd Akker (DG);
+ * 19-Oct-2026 : Ask a ContourGridEntity for the tooltip of the cell
+ *               under the mouse;
  */
 
 package org.jfree.chart;
@@ -162,6 +164,7 @@ import javax.swing.ToolTipManager;
 import org.jfree.chart.block.ArrangeParams;
 import org.jfree.chart.block.RectangleConstraint;
 import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.ContourGridEntity;
 import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.event.ChartChangeEvent;
 import org.jfree.chart.event.ChartChangeListener;
@@ -1068,11 +1071,14 @@ public class ChartPanel extends JPanel
             EntityCollection entities = this.info.getEntityCollection();
             if (entities != null) {
                 Insets insets = getInsets();
-                ChartEntity entity = entities.getEntity(
-                    (int) ((e.getX() - insets.left) / this.scaleX),
-                    (int) ((e.getY() - insets.top) / this.scaleY)
-                );
-                if (entity != null) {
+                double x = (e.getX() - insets.left) / this.scaleX;
+                double y = (e.getY() - insets.top) / this.scaleY;
+                ChartEntity entity = entities.getEntity((int) x, (int) y);
+                if (entity instanceof ContourGridEntity) {
+                    result = ((ContourGridEntity) entity).getToolTipText(x, 
+                            y);
+                }
+                else if (entity != null) {
                     result = entity.getToolTipText();
                 }
             }
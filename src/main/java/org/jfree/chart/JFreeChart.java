@@ -118,6 +118,8 @@
  * 20-Apr-2005 : Modified to collect chart entities from titles and 
  *               subtitles (DG);
  * 26-Apr-2005 : Removed LOGGER (DG);
+ * 18-Oct-2026 : Added beginUpdate(), endUpdate() and an optional event
+ *               throttle;
  *
  */
 
@@ -143,6 +145,7 @@ import java.io.Serializable;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EventObject;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ResourceBundle;
@@ -178,6 +181,8 @@ import org.jfree.chart.title.LegendTitle;
 import org.jfree.chart.title.TextTitle;
 import org.jfree.chart.title.Title;
 import org.jfree.data.Range;
+import org.jfree.data.general.ChangeEventCoalescer;
+import org.jfree.data.general.EventThrottle;
 import org.jfree.ui.Align;
 import org.jfree.ui.HorizontalAlignment;
 import org.jfree.ui.RectangleEdge;
@@ -272,7 +277,10 @@ public class JFreeChart extends AbstractContentBlock
      * events. 
      */
     private boolean notify;
-    
+
+    /** Combines the change events (<code>null</code> until needed). */
+    private transient volatile ChangeEventCoalescer coalescer;
+
     private BlockContainer container;
 
     /**
@@ -1235,17 +1243,92 @@ public class JFreeChart extends AbstractContentBlock
      */
     protected void notifyListeners(ChartChangeEvent event) {
         if (this.notify) {
-            Object[] listeners = this.changeListeners.getListenerList();
-            for (int i = listeners.length - 2; i >= 0; i -= 2) {
-                if (listeners[i] == ChartChangeListener.class) {
-                    ((ChartChangeListener) listeners[i + 1]).chartChanged(
-                        event
-                    );
-                }
+            ChangeEventCoalescer c = this.coalescer;
+            if (c != null) {
+                c.post(event);
+            }
+            else {
+                dispatchChartChanged(event);
             }
         }
     }
 
+    /**
+     * Sends an event to all registered listeners.
+     *
+     * @param event  the event.
+     */
+    private void dispatchChartChanged(ChartChangeEvent event) {
+        Object[] listeners = this.changeListeners.getListenerList();
+        for (int i = listeners.length - 2; i >= 0; i -= 2) {
+            if (listeners[i] == ChartChangeListener.class) {
+                ((ChartChangeListener) listeners[i + 1]).chartChanged(event);
+            }
+        }
+    }
+
+    /**
+     * Starts an update of the chart.  Change events are held back until the
+     * matching call to {@link #endUpdate()}, and then a single event is 
+     * sent.  Updates can be nested.
+     */
+    public void beginUpdate() {
+        getChangeEventCoalescer().beginUpdate();
+    }
+
+    /**
+     * Ends an update of the chart (see {@link #beginUpdate()}), sending 
+     * the most recent change event that was held back when the outermost 
+     * update ends.
+     *
+     * @throws IllegalStateException if there is no update in progress.
+     */
+    public void endUpdate() {
+        getChangeEventCoalescer().endUpdate();
+    }
+
+    /**
+     * Returns the throttle for the change events sent by the chart.
+     *
+     * @return The throttle (possibly <code>null</code>).
+     */
+    public EventThrottle getEventThrottle() {
+        ChangeEventCoalescer c = this.coalescer;
+        return (c != null ? c.getThrottle() : null);
+    }
+
+    /**
+     * Sets the throttle for the change events sent by the chart.  With a 
+     * throttle, a burst of changes results in a single event, and events are
+     * sent at most once per interval on the throttle's thread.  With no
+     * throttle (the default), every change sends an event immediately.
+     *
+     * @param throttle  the throttle (<code>null</code> permitted).
+     */
+    public void setEventThrottle(EventThrottle throttle) {
+        if (throttle == null && this.coalescer == null) {
+            return;
+        }
+        getChangeEventCoalescer().setThrottle(throttle);
+    }
+
+    /**
+     * Returns the object that combines the change events, creating it if 
+     * necessary.
+     *
+     * @return The coalescer.
+     */
+    private synchronized ChangeEventCoalescer getChangeEventCoalescer() {
+        if (this.coalescer == null) {
+            this.coalescer = new ChangeEventCoalescer() {
+                protected void dispatch(EventObject event) {
+                    dispatchChartChanged((ChartChangeEvent) event);
+                }
+            };
+        }
+        return this.coalescer;
+    }
+
     /**
      * Registers an object for notification of progress events relating to the 
      * chart.
@@ -1445,6 +1528,7 @@ public class JFreeChart extends AbstractContentBlock
 
         chart.progressListeners = new EventListenerList();
         chart.changeListeners = new EventListenerList();
+        chart.coalescer = null;
         //private boolean notify;
 
         return chart;
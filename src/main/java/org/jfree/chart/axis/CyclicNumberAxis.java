@@ -44,6 +44,9 @@
  *               (for consistency with other classes) and removed unused
  *               parameters (DG);
  * 08-Jun-2005 : Fixed equals() method to handle GradientPaint (DG);
+ * 18-Oct-2026 : Added valuesToJava2D() method;
+ * 19-Oct-2026 : Fall back to valueToJava2D() in valuesToJava2D() when
+ *               a subclass overrides it;
  * 
  */
 
@@ -837,6 +840,83 @@ public class CyclicNumberAxis extends NumberAxis {
         }
     }
     
+    /**
+     * Translates an array of values from data space to Java 2D space, 
+     * calculating the cycle bound and the area bounds once for all the 
+     * values.  Values outside the axis range are translated to 
+     * <code>Double.NaN</code>.
+     * 
+     * @param values  the data values (<code>null</code> not permitted).
+     * @param from  the index of the first value to convert.
+     * @param to  the index after the last value to convert.
+     * @param result  the array for the Java2D values 
+     *                (<code>null</code> not permitted).
+     * @param dataArea  the data area.
+     * @param edge  the edge.
+     */
+    public void valuesToJava2D(double[] values, int from, int to, 
+                               double[] result, Rectangle2D dataArea, 
+                               RectangleEdge edge) {
+        checkValuesToJava2DArguments(values, from, to, result);
+        if (isValueToJava2DOverridden(CyclicNumberAxis.class)) {
+            for (int i = from; i < to; i++) {
+                result[i] = valueToJava2D(values[i], dataArea, edge);
+            }
+            return;
+        }
+        Range range = getRange();
+        
+        double vmin = range.getLowerBound();
+        double vmax = range.getUpperBound();
+        double vp = getCycleBound();
+
+        double jmin = 0.0;
+        double jmax = 0.0;
+        if (RectangleEdge.isTopOrBottom(edge)) {
+            jmin = dataArea.getMinX();
+            jmax = dataArea.getMaxX();
+        }
+        else if (RectangleEdge.isLeftOrRight(edge)) {
+            jmax = dataArea.getMinY();
+            jmin = dataArea.getMaxY();
+        }
+        double extent = jmax - jmin;
+        boolean inverted = isInverted();
+        double boundValue;
+        if (inverted) {
+            boundValue = this.boundMappedToLastCycle ? jmin : jmax;
+        }
+        else {
+            boundValue = this.boundMappedToLastCycle ? jmax : jmin;
+        }
+
+        for (int i = from; i < to; i++) {
+            double value = values[i];
+            if ((value < vmin) || (value > vmax)) {
+                result[i] = Double.NaN;
+            }
+            else if (value == vp) {
+                result[i] = boundValue;
+            }
+            else if (inverted) {
+                if (value > vp) {
+                    result[i] = jmax - (value - vp) * extent / this.period;
+                } 
+                else {
+                    result[i] = jmin + (vp - value) * extent / this.period;
+                }
+            }
+            else {
+                if (value >= vp) {
+                    result[i] = jmin + (value - vp) * extent / this.period;
+                } 
+                else {
+                    result[i] = jmax - (vp - value) * extent / this.period;
+                }
+            }
+        }
+    }
+    
     /**
      * Centers the range about the given value.
      * 
@@ -106,6 +106,9 @@
  *               argument from selectAutoTickUnit() (DG);
  * 10-Feb-2006 : Added some API doc comments in respect of bug 821046 (DG);
  * 19-Apr-2006 : Fixed bug 1472942 in equals() method (DG);
+ * 18-Oct-2026 : Added valuesToJava2D() method;
+ * 19-Oct-2026 : Fall back to valueToJava2D() in valuesToJava2D() when
+ *               a subclass overrides it;
  * 
  *
  */
@@ -670,6 +673,80 @@ public class DateAxis extends ValueAxis
 
     }
 
+    /**
+     * Translates an array of data values to Java2D coordinates.  The axis 
+     * bounds are converted to timeline values only once, and the conversion
+     * of the data values is skipped for the default timeline.
+     *
+     * @param values  the dates to be plotted (<code>null</code> not 
+     *                permitted).
+     * @param from  the index of the first value to convert.
+     * @param to  the index after the last value to convert.
+     * @param result  the array for the Java2D coordinates 
+     *                (<code>null</code> not permitted).
+     * @param area  the rectangle (in Java2D space) where the data is to be 
+     *              plotted.
+     * @param edge  the axis location.
+     */
+    public void valuesToJava2D(double[] values, int from, int to, 
+                               double[] result, Rectangle2D area, 
+                               RectangleEdge edge) {
+
+        checkValuesToJava2DArguments(values, from, to, result);
+        if (isValueToJava2DOverridden(DateAxis.class)) {
+            for (int i = from; i < to; i++) {
+                result[i] = valueToJava2D(values[i], area, edge);
+            }
+            return;
+        }
+        DateRange range = (DateRange) getRange();
+        double axisMin = this.timeline.toTimelineValue(range.getLowerDate());
+        double axisMax = this.timeline.toTimelineValue(range.getUpperDate());
+        double axisLength = axisMax - axisMin;
+        boolean identity = (this.timeline == DEFAULT_TIMELINE);
+
+        double start = 0.0;
+        double extent = 0.0;
+        if (RectangleEdge.isTopOrBottom(edge)) {
+            double minX = area.getX();
+            double maxX = area.getMaxX();
+            if (isInverted()) {
+                start = maxX;
+                extent = minX - maxX;
+            }
+            else {
+                start = minX;
+                extent = maxX - minX;
+            }
+        }
+        else if (RectangleEdge.isLeftOrRight(edge)) {
+            double minY = area.getMinY();
+            double maxY = area.getMaxY();
+            if (isInverted()) {
+                start = minY;
+                extent = maxY - minY;
+            }
+            else {
+                start = maxY;
+                extent = minY - maxY;
+            }
+        }
+        else {
+            for (int i = from; i < to; i++) {
+                result[i] = 0.0;
+            }
+            return;
+        }
+
+        for (int i = from; i < to; i++) {
+            long millis = (long) values[i];
+            double value = identity ? millis 
+                    : this.timeline.toTimelineValue(millis);
+            result[i] = start + ((value - axisMin) / axisLength) * extent;
+        }
+
+    }
+
     /**
      * Translates a date to Java2D coordinates, based on the range displayed by
      * this axis for the specified data area.
@@ -85,6 +85,9 @@
  * 22-Apr-2005 : Renamed refreshHorizontalTicks --> refreshTicksHorizontal
  *               (and likewise the vertical version) for consistency with
  *               other axis classes (DG);
+ * 18-Oct-2026 : Added valuesToJava2D() method;
+ * 19-Oct-2026 : Fall back to valueToJava2D() in valuesToJava2D() when
+ *               a subclass overrides it;
  *
  */
 
@@ -600,6 +603,58 @@ public class LogarithmicAxis extends NumberAxis {
 
     }
 
+    /**
+     * Converts an array of data values to Java2D coordinates.  The logarithms
+     * of the axis bounds are calculated once for all the values.
+     *
+     * @param values  the data values (<code>null</code> not permitted).
+     * @param from  the index of the first value to convert.
+     * @param to  the index after the last value to convert.
+     * @param result  the array for the Java2D coordinates 
+     *                (<code>null</code> not permitted).
+     * @param plotArea  the area for plotting the data.
+     * @param edge  the axis location.
+     */
+    public void valuesToJava2D(double[] values, int from, int to, 
+                               double[] result, Rectangle2D plotArea, 
+                               RectangleEdge edge) {
+
+        checkValuesToJava2DArguments(values, from, to, result);
+        if (isValueToJava2DOverridden(LogarithmicAxis.class)) {
+            for (int i = from; i < to; i++) {
+                result[i] = valueToJava2D(values[i], plotArea, edge);
+            }
+            return;
+        }
+        Range range = getRange();
+        double axisMin = switchedLog10(range.getLowerBound());
+        double axisLength = switchedLog10(range.getUpperBound()) - axisMin;
+
+        double min = 0.0;
+        double max = 0.0;
+        if (RectangleEdge.isTopOrBottom(edge)) {
+            min = plotArea.getMinX();
+            max = plotArea.getMaxX();
+        }
+        else if (RectangleEdge.isLeftOrRight(edge)) {
+            min = plotArea.getMaxY();
+            max = plotArea.getMinY();
+        }
+        double extent = max - min;
+        boolean inverted = isInverted();
+
+        for (int i = from; i < to; i++) {
+            double ratio = (switchedLog10(values[i]) - axisMin) / axisLength;
+            if (inverted) {
+                result[i] = max - (ratio * extent);
+            }
+            else {
+                result[i] = min + (ratio * extent);
+            }
+        }
+
+    }
+
     /**
      * Converts a coordinate in Java2D space to the corresponding data
      * value, assuming that the axis runs along one edge of the specified
@@ -36,6 +36,9 @@
  * Changes
  * -------
  * 13-Aug-2004 : Version 1 (DG);
+ * 18-Oct-2026 : Added valuesToJava2D() method;
+ * 19-Oct-2026 : Fall back to valueToJava2D() in valuesToJava2D() when
+ *               a subclass overrides it;
  * 
  */
 
@@ -163,6 +166,94 @@ public class ModuloAxis extends NumberAxis {
         return result;
     }
 
+    /**
+     * Translates an array of data values to Java2D coordinates.  The bounds 
+     * of the one or two sections of the axis are calculated once for all the
+     * values.
+     * 
+     * @param values  the data values (<code>null</code> not permitted).
+     * @param from  the index of the first value to convert.
+     * @param to  the index after the last value to convert.
+     * @param result  the array for the Java2D coordinates 
+     *                (<code>null</code> not permitted).
+     * @param area  the area.
+     * @param edge  the edge.
+     */
+    public void valuesToJava2D(double[] values, int from, int to, 
+                               double[] result, Rectangle2D area, 
+                               RectangleEdge edge) {
+        checkValuesToJava2DArguments(values, from, to, result);
+        if (isValueToJava2DOverridden(ModuloAxis.class)) {
+            for (int i = from; i < to; i++) {
+                result[i] = valueToJava2D(values[i], area, edge);
+            }
+            return;
+        }
+        boolean inverted = isInverted();
+        boolean horizontal = RectangleEdge.isTopOrBottom(edge);
+        boolean vertical = RectangleEdge.isLeftOrRight(edge);
+        double lower = this.fixedRange.getLowerBound();
+        double upper = this.fixedRange.getUpperBound();
+        if (this.displayStart < this.displayEnd) {  // regular number axis
+            double min = 0.0;
+            double max = 0.0;
+            if (horizontal) {
+                min = area.getX();
+                max = area.getX() + area.getWidth();
+            }
+            else if (vertical) {
+                min = area.getMaxY();
+                max = area.getMaxY() - area.getHeight();
+            }
+            double length = this.displayEnd - this.displayStart;
+            for (int i = from; i < to; i++) {
+                double ratio = (mapValueToFixedRange(values[i]) 
+                        - this.displayStart) / length;
+                result[i] = inverted ? max - ratio * (max - min) 
+                        : min + ratio * (max - min);
+            }
+        }
+        else {  // displayStart > displayEnd, need to handle split
+            double cutoff = (this.displayStart + this.displayEnd) / 2.0;
+            double length1 = upper - this.displayStart;
+            double length2 = this.displayEnd - lower;
+            double min1 = 0.0;
+            double max1 = 0.0;
+            double min2 = 0.0;
+            double max2 = 0.0;
+            if (horizontal) {
+                min1 = area.getX();
+                max1 = area.getX() + area.getWidth() * length1 
+                       / (length1 + length2);
+                max2 = area.getMaxX();
+                min2 = area.getMaxX() - area.getWidth() * length2 
+                       / (length1 + length2);
+            }
+            else if (vertical) {
+                min1 = area.getMaxY();
+                max1 = area.getMaxY() - area.getHeight() * length1 
+                       / (length1 + length2);
+                max2 = area.getMinY();
+                min2 = area.getMinY() + area.getHeight() * length2 
+                       / (length1 + length2);
+            }
+            for (int i = from; i < to; i++) {
+                double v = mapValueToFixedRange(values[i]);
+                if (v > cutoff) {
+                    double ratio = (v - this.displayStart) 
+                            / (upper - this.displayStart);
+                    result[i] = inverted ? max1 - ratio * (max1 - min1) 
+                            : min1 + ratio * (max1 - min1);
+                }
+                else {
+                    double ratio = (v - lower) / (this.displayEnd - lower);
+                    result[i] = inverted ? max2 - ratio * (max2 - min2) 
+                            : min2 + ratio * (max2 - min2);
+                }
+            }
+        }
+    }
+
     /**
      * A regular translation from a data value to a Java2D value.
      * 
@@ -84,6 +84,9 @@
  *               (and likewise the vertical version) for consistency with
  *               other axis classes (DG);
  * 10-Feb-2006 : Added some API doc comments in respect of bug 821046 (DG);
+ * 18-Oct-2026 : Added valuesToJava2D() method;
+ * 19-Oct-2026 : Fall back to valueToJava2D() in valuesToJava2D() when
+ *               a subclass overrides it;
  *
  */
 
@@ -517,6 +520,57 @@ public class NumberAxis extends ValueAxis
 
     }
 
+    /**
+     * Converts an array of data values to Java2D coordinates, calculating the
+     * axis range and the area bounds once for all the values.
+     *
+     * @param values  the data values (<code>null</code> not permitted).
+     * @param from  the index of the first value to convert.
+     * @param to  the index after the last value to convert.
+     * @param result  the array for the Java2D coordinates 
+     *                (<code>null</code> not permitted).
+     * @param area  the area for plotting the data.
+     * @param edge  the axis location.
+     */
+    public void valuesToJava2D(double[] values, int from, int to, 
+                               double[] result, Rectangle2D area, 
+                               RectangleEdge edge) {
+
+        checkValuesToJava2DArguments(values, from, to, result);
+        if (isValueToJava2DOverridden(NumberAxis.class)) {
+            for (int i = from; i < to; i++) {
+                result[i] = valueToJava2D(values[i], area, edge);
+            }
+            return;
+        }
+        Range range = getRange();
+        double axisMin = range.getLowerBound();
+        double axisLength = range.getUpperBound() - axisMin;
+
+        double min = 0.0;
+        double max = 0.0;
+        if (RectangleEdge.isTopOrBottom(edge)) {
+            min = area.getX();
+            max = area.getMaxX();
+        }
+        else if (RectangleEdge.isLeftOrRight(edge)) {
+            max = area.getMinY();
+            min = area.getMaxY();
+        }
+        double extent = max - min;
+        if (isInverted()) {
+            for (int i = from; i < to; i++) {
+                result[i] = max - ((values[i] - axisMin) / axisLength) * extent;
+            }
+        }
+        else {
+            for (int i = from; i < to; i++) {
+                result[i] = min + ((values[i] - axisMin) / axisLength) * extent;
+            }
+        }
+
+    }
+
     /**
      * Converts a coordinate in Java2D space to the corresponding data value,
      * assuming that the axis runs along one edge of the specified dataArea.
@@ -41,6 +41,13 @@
  * 30-Sep-2004 : Replaced getTime().getTime() with getTimeInMillis() (DG);
  * 04-Nov-2004 : Reverted change of 30-Sep-2004, won't work with JDK 1.3 (DG);
  * 11-Jan-2005 : Removed deprecated code in preparation for 1.0.0 release (DG);
+ * 18-Oct-2026 : Index the exception segments in sorted arrays with prefix 
+ *               counts, and removed Segment allocation from 
+ *               toTimelineValue() and toMillisecond();
+ * 19-Oct-2026 : Copy the exception list in setExceptionSegments() and
+ *               clone(), so the index cannot go stale.  Keep the index in 
+ *               one immutable object, and sort the list passed to 
+ *               setExceptionSegments();
  * 
  */
 
@@ -258,6 +265,14 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
      */
     private List exceptionSegments = new ArrayList();
 
+    /** 
+     * An index of the exception segments, built when it is first needed and 
+     * discarded (set to <code>null</code>) whenever the exception list or the
+     * start time changes.  The index is immutable, so a thread that reads 
+     * this field once sees a consistent set of arrays.
+     */
+    private transient volatile ExceptionIndex exceptionIndex;
+
     /**
      * This base timeline is used to specify exceptions at a higher level. For 
      * example, if we are a intraday timeline and want to exclude holidays, 
@@ -402,6 +417,7 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
      */
     public void setStartTime(long millisecond) {
         this.startTime = millisecond;
+        this.exceptionIndex = null;
     }
 
     /**
@@ -491,12 +507,34 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
     }
 
     /**
-     * Sets the exception segments list.
+     * Sets the exception segments list.  The timeline keeps a sorted copy 
+     * of the list, so later changes to <code>exceptionSegments</code> have no 
+     * effect.  The segments must not overlap.
      * 
-     * @param exceptionSegments  the exception segments.
+     * @param exceptionSegments  the exception segments (<code>null</code> 
+     *                           not permitted).
+     *
+     * @throws IllegalArgumentException if two of the segments overlap.
      */
     public void setExceptionSegments(List exceptionSegments) {
-        this.exceptionSegments = exceptionSegments;
+        if (exceptionSegments == null) {
+            throw new IllegalArgumentException(
+                "Null 'exceptionSegments' argument."
+            );
+        }
+        List sorted = new ArrayList(exceptionSegments);
+        Collections.sort(sorted);
+        for (int i = 1; i < sorted.size(); i++) {
+            Segment previous = (Segment) sorted.get(i - 1);
+            Segment segment = (Segment) sorted.get(i);
+            if (!previous.before(segment)) {
+                throw new IllegalArgumentException(
+                    "Overlapping exception segments."
+                );
+            }
+        }
+        this.exceptionSegments = sorted;
+        this.exceptionIndex = null;
     }
 
     /**
@@ -555,52 +593,32 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
      */
     public long toTimelineValue(long millisecond) {
   
-        long result;
-        long rawMilliseconds = millisecond - this.startTime;
-        long groupMilliseconds = rawMilliseconds % this.segmentsGroupSize;
-        long groupIndex = rawMilliseconds / this.segmentsGroupSize;
+        long millis = millisecond;
+        while (true) {
+            long rawMilliseconds = millis - this.startTime;
+            long groupMilliseconds = rawMilliseconds % this.segmentsGroupSize;
+            long groupIndex = rawMilliseconds / this.segmentsGroupSize;
         
-        if (groupMilliseconds >= this.segmentsIncludedSize) {
-            result = toTimelineValue(
-                this.startTime + this.segmentsGroupSize * (groupIndex + 1)
-            );
-        } 
-        else {       
-            Segment segment = getSegment(millisecond);
-            if (segment.inExceptionSegments()) {
-                result = toTimelineValue(segment.getSegmentEnd() + 1);
+            if (groupMilliseconds >= this.segmentsIncludedSize) {
+                // move to the start of the next segment group
+                millis = this.startTime 
+                    + this.segmentsGroupSize * (groupIndex + 1);
+                continue;
+            } 
+            long segmentStart = this.startTime 
+                + calculateSegmentNumber(millis) * this.segmentSize;
+            long segmentEnd = segmentStart + this.segmentSize - 1;
+            if (isExceptionSegment(segmentStart, segmentEnd)) {
+                // move to the start of the next segment
+                millis = segmentEnd + 1;
+                continue;
             }      
-            else {
-                long shiftedSegmentedValue = millisecond - this.startTime;
-                long x = shiftedSegmentedValue % this.segmentsGroupSize;
-                long y = shiftedSegmentedValue / this.segmentsGroupSize;
-
-                long wholeExceptionsBeforeDomainValue =
-                    getExceptionSegmentCount(this.startTime, millisecond - 1);
-
-//                long partialTimeInException = 0;
-//                Segment ss = getSegment(millisecond);
-//                if (ss.inExceptionSegments()) {
-//                    partialTimeInException = millisecond 
-                //     - ss.getSegmentStart();
-//                }
-
-                if (x < this.segmentsIncludedSize) {
-                    result = this.segmentsIncludedSize * y 
-                             + x - wholeExceptionsBeforeDomainValue 
-                             * this.segmentSize;
-                             // - partialTimeInException;; 
-                }
-                else {
-                    result = this.segmentsIncludedSize * (y + 1) 
-                             - wholeExceptionsBeforeDomainValue 
-                             * this.segmentSize;
-                             // - partialTimeInException;
-                }
-            }
+            long wholeExceptionsBeforeDomainValue 
+                = getExceptionSegmentCount(this.startTime, millis - 1);
+            return this.segmentsIncludedSize * groupIndex + groupMilliseconds 
+                - wholeExceptionsBeforeDomainValue * this.segmentSize;
         }
 
-        return result;
     }
 
     /**
@@ -627,43 +645,51 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
     public long toMillisecond(long timelineValue) {
         
         // calculate the result as if no exceptions
-        Segment result = new Segment(this.startTime + timelineValue 
+        long millis = this.startTime + timelineValue 
             + (timelineValue / this.segmentsIncludedSize) 
-            * this.segmentsExcludedSize);
+            * this.segmentsExcludedSize;
+        long segmentNumber = calculateSegmentNumber(millis);
+        long segmentStart = this.startTime + segmentNumber * this.segmentSize;
         
         long lastIndex = this.startTime;
 
         // adjust result for any exceptions in the result calculated
-        while (lastIndex <= result.segmentStart) {
+        while (lastIndex <= segmentStart) {
 
             // skip all whole exception segments in the range
             long exceptionSegmentCount;
             while ((exceptionSegmentCount = getExceptionSegmentCount(
-                 lastIndex, (result.millisecond / this.segmentSize) 
+                 lastIndex, (millis / this.segmentSize) 
                  * this.segmentSize - 1)) > 0
             ) { 
-                lastIndex = result.segmentStart;
+                lastIndex = segmentStart;
                 // move forward exceptionSegmentCount segments skipping 
                 // excluded segments
                 for (int i = 0; i < exceptionSegmentCount; i++) {
                     do {
-                        result.inc();
+                        segmentNumber++;
+                        segmentStart += this.segmentSize;
+                        millis += this.segmentSize;
                     }
-                    while (result.inExcludeSegments());
+                    while (isExcludedSegment(segmentNumber));
                 }
             }
-            lastIndex = result.segmentStart;
+            lastIndex = segmentStart;
 
             // skip exception or excluded segments we may fall on
-            while (result.inExceptionSegments() || result.inExcludeSegments()) {
-                result.inc();
+            while (isExceptionSegment(segmentStart, 
+                    segmentStart + this.segmentSize - 1) 
+                    || isExcludedSegment(segmentNumber)) {
+                segmentNumber++;
+                segmentStart += this.segmentSize;
+                millis += this.segmentSize;
                 lastIndex += this.segmentSize;
             }
 
             lastIndex++;
         }
 
-        return getTimeFromLong(result.millisecond); 
+        return getTimeFromLong(millis); 
     }
 
     /**
@@ -852,6 +878,7 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
          if (segment.inIncludeSegments()) {
              int p = binarySearchExceptionSegments(segment);
              this.exceptionSegments.add(-(p + 1), segment);
+             this.exceptionIndex = null;
          }
     }
 
@@ -980,7 +1007,9 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
 
     /**
      * Returns the number of exception segments wholly contained in the
-     * (fromDomainValue, toDomainValue) interval.
+     * (fromDomainValue, toDomainValue) interval.  The exceptions are located
+     * with a binary search, so the cost does not depend on the number of 
+     * exceptions outside the interval.
      *
      * @param fromMillisecond  the beginning of the interval.
      * @param toMillisecond  the end of the interval.
@@ -992,19 +1021,171 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
         if (toMillisecond < fromMillisecond) {
             return (0);
         }
+        ExceptionIndex index = getExceptionIndex();
+
+        // the first exception ending at or after fromMillisecond
+        int first = 0;
+        int high = index.ends.length - 1;
+        while (first <= high) {
+            int mid = (first + high) >>> 1;
+            if (index.ends[mid] < fromMillisecond) {
+                first = mid + 1;
+            }
+            else {
+                high = mid - 1;
+            }
+        }
+        // the last exception starting at or before toMillisecond
+        int last = index.findLastStartingAtOrBefore(toMillisecond);
+        if (first > last) {
+            return (0);
+        }
 
-        int n = 0;
+        long n = getExceptionSegmentCount(index, first, fromMillisecond, 
+                toMillisecond);
+        if (last > first) {
+            // the exceptions in between are wholly contained in the interval
+            n += index.counts[last] - index.counts[first + 1];
+            n += getExceptionSegmentCount(index, last, fromMillisecond, 
+                    toMillisecond);
+        }
+        return (n);
+    }
+
+    /**
+     * Returns the number of segments of one exception that are counted as 
+     * contained in an interval, following the rules of 
+     * {@link Segment#intersect(long, long)} and 
+     * {@link SegmentRange#intersect(long, long)}.
+     *
+     * @param index  the exception index.
+     * @param i  the position of the exception in the index.
+     * @param from  the start of the interval.
+     * @param to  the end of the interval.
+     * 
+     * @return The segment count.
+     */
+    private long getExceptionSegmentCount(ExceptionIndex index, int i, 
+                                          long from, long to) {
+        long start = index.starts[i];
+        long end = index.ends[i];
+        if (index.ranges[i]) {
+            start = Math.max(from, start);
+            end = Math.min(to, end);
+            if (start <= end) {
+                return calculateSegmentNumber(end) 
+                    - calculateSegmentNumber(start) + 1;
+            }
+            return 0;
+        }
+        return (from <= start && end <= to) ? 1 : 0;
+    }
+
+    /**
+     * Returns <code>true</code> if the segment with the specified bounds is an
+     * exception segment.  This gives the same result as 
+     * {@link Segment#inExceptionSegments()} without creating a segment.
+     *
+     * @param segmentStart  the segment start.
+     * @param segmentEnd  the segment end.
+     * 
+     * @return A boolean.
+     */
+    private boolean isExceptionSegment(long segmentStart, long segmentEnd) {
+        ExceptionIndex index = getExceptionIndex();
+        int i = index.findLastStartingAtOrBefore(segmentEnd);
+        if (i < 0) {
+            return false;
+        }
+        long start = index.starts[i];
+        long end = index.ends[i];
+        return (start <= segmentStart && segmentEnd <= end) 
+            || (segmentStart <= start && end <= segmentEnd);
+    }
+
+    /**
+     * Returns <code>true</code> if a segment number falls in the excluded 
+     * part of its segment group.
+     *
+     * @param segmentNumber  the segment number.
+     * 
+     * @return A boolean.
+     */
+    private boolean isExcludedSegment(long segmentNumber) {
+        return getSegmentNumberRelativeToGroup(segmentNumber) 
+            >= this.segmentsIncluded;
+    }
+
+    /**
+     * Calculates the segment number for a given millisecond.
+     * 
+     * @param millis  the millisecond (as encoded by java.util.Date).
+     *  
+     * @return The segment number.
+     */
+    private long calculateSegmentNumber(long millis) {
+        if (millis >= this.startTime) {
+            return (millis - this.startTime) / this.segmentSize;
+        }
+        else {
+            return ((millis - this.startTime) / this.segmentSize) - 1;
+        }
+    }
+
+    /**
+     * Calculates a segment number relative to the segment group. This will be
+     * a number between 0 and segmentsGroup-1.
+     * 
+     * @param segmentNumber  the segment number.
+     * 
+     * @return The segment number relative to the group.
+     */
+    private long getSegmentNumberRelativeToGroup(long segmentNumber) {
+        long p = (segmentNumber % this.groupSegmentCount);
+        if (p < 0) {
+            p += this.groupSegmentCount;
+        }
+        return p;
+    }
+
+    /**
+     * Returns the index of the exception segments, building it if the 
+     * exception list or the start time has changed since it was last built.
+     * The list is kept sorted and free of overlaps by 
+     * {@link #addException(Segment)} and 
+     * {@link #setExceptionSegments(List)}, so the start and end arrays are 
+     * both in ascending order.
+     *
+     * @return The index (never <code>null</code>).
+     */
+    private ExceptionIndex getExceptionIndex() {
+        ExceptionIndex index = this.exceptionIndex;
+        if (index != null) {
+            return index;
+        }
+        int count = this.exceptionSegments.size();
+        long[] starts = new long[count];
+        long[] ends = new long[count];
+        boolean[] ranges = new boolean[count];
+        long[] counts = new long[count + 1];
+        int i = 0;
         for (Iterator iter = this.exceptionSegments.iterator(); 
              iter.hasNext();) {
             Segment segment = (Segment) iter.next();
-            Segment intersection 
-                = segment.intersect(fromMillisecond, toMillisecond);
-            if (intersection != null) {
-                n += intersection.getSegmentCount();
+            starts[i] = segment.getSegmentStart();
+            ends[i] = segment.getSegmentEnd();
+            ranges[i] = (segment instanceof SegmentRange);
+            long n = 1;
+            if (ranges[i]) {
+                n = calculateSegmentNumber(ends[i]) 
+                    - calculateSegmentNumber(starts[i]) + 1;
             }
+            counts[i + 1] = counts[i] + n;
+            i++;
         }
-
-        return (n);
+        index = new ExceptionIndex(starts, ends, ranges, counts);
+        this.exceptionIndex = index;
+        return index;
     }
 
     /**
@@ -1187,9 +1368,77 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
      */    
     public Object clone() throws CloneNotSupportedException {
         SegmentedTimeline clone = (SegmentedTimeline) super.clone();
+        clone.exceptionSegments = new ArrayList(this.exceptionSegments);
+        clone.exceptionIndex = null;
         return clone;
     }
 
+    /**
+     * An immutable index of the exception segments, held in sorted arrays 
+     * with prefix sums of their segment counts.
+     */
+    private static class ExceptionIndex {
+
+        /** The start of each exception segment, in ascending order. */
+        private final long[] starts;
+
+        /** The end of each exception segment, in ascending order. */
+        private final long[] ends;
+
+        /** 
+         * A flag for each exception that is <code>true</code> if it is a 
+         * {@link SegmentRange} (partially intersecting ranges are counted 
+         * segment by segment, single segments only when wholly contained).
+         */
+        private final boolean[] ranges;
+
+        /** 
+         * The number of segments in the exceptions before each index (the 
+         * array has one more element than there are exceptions).
+         */
+        private final long[] counts;
+
+        /**
+         * Creates a new index.
+         *
+         * @param starts  the exception starts.
+         * @param ends  the exception ends.
+         * @param ranges  the range flags.
+         * @param counts  the cumulative segment counts.
+         */
+        ExceptionIndex(long[] starts, long[] ends, boolean[] ranges, 
+                       long[] counts) {
+            this.starts = starts;
+            this.ends = ends;
+            this.ranges = ranges;
+            this.counts = counts;
+        }
+
+        /**
+         * Returns the index of the last exception that starts at or before a
+         * millisecond, or -1 if there is no such exception.
+         *
+         * @param millisecond  the millisecond.
+         * 
+         * @return The exception index.
+         */
+        int findLastStartingAtOrBefore(long millisecond) {
+            int low = 0;
+            int high = this.starts.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (this.starts[mid] <= millisecond) {
+                    low = mid + 1;
+                }
+                else {
+                    high = mid - 1;
+                }
+            }
+            return high;
+        }
+
+    }
+
     /**
      * Internal class to represent a valid segment for this timeline. A segment
      * is valid on a timeline if it is part of its included, excluded or 
@@ -1241,14 +1490,7 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
          * @return The segment number.
          */
         public long calculateSegmentNumber(long millis) {
-            if (millis >= SegmentedTimeline.this.startTime) {
-                return (millis - SegmentedTimeline.this.startTime) 
-                    / SegmentedTimeline.this.segmentSize;
-            }
-            else {
-                return ((millis - SegmentedTimeline.this.startTime) 
-                    / SegmentedTimeline.this.segmentSize) - 1;
-            }
+            return SegmentedTimeline.this.calculateSegmentNumber(millis);
         }
 
         /**
@@ -1496,12 +1738,9 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
          * @return The segment number.
          */
         private long getSegmentNumberRelativeToGroup() {
-            long p = (this.segmentNumber 
-                    % SegmentedTimeline.this.groupSegmentCount);
-            if (p < 0) {
-                p += SegmentedTimeline.this.groupSegmentCount;
-            }
-            return p;
+            return SegmentedTimeline.this.getSegmentNumberRelativeToGroup(
+                this.segmentNumber
+            );
         }
 
         /**
@@ -93,6 +93,10 @@
  * 11-Jan-2005 : Removed deprecated methods in preparation for 1.0.0 
  *               release (DG);
  * 21-Apr-2005 : Replaced Insets with RectangleInsets (DG);
+ * 18-Oct-2026 : Added valuesToJava2D() for converting arrays of values;
+ * 19-Oct-2026 : Added isValueToJava2DOverridden() so that the optimised
+ *               valuesToJava2D() methods respect subclasses, and cache its
+ *               result for each class;
  *
  */
 
@@ -144,6 +148,31 @@ public abstract class ValueAxis extends Axis
 
     /** For serialization. */
     private static final long serialVersionUID = 3698345477322391456L;
+
+    /** 
+     * For each axis class, the nearest class in its hierarchy (itself or a 
+     * superclass) that declares 
+     * {@link #valueToJava2D(double, Rectangle2D, RectangleEdge)}.  The 
+     * reflective search runs once per class, not once per conversion.
+     */
+    private static final ClassValue VALUE_TO_JAVA2D_DECLARER 
+        = new ClassValue() {
+            protected Object computeValue(Class type) {
+                Class c = type;
+                while (c != null) {
+                    try {
+                        c.getDeclaredMethod("valueToJava2D", new Class[] {
+                            Double.TYPE, Rectangle2D.class, 
+                            RectangleEdge.class});
+                        return c;
+                    }
+                    catch (NoSuchMethodException e) {
+                        c = c.getSuperclass();
+                    }
+                }
+                return ValueAxis.class;
+            }
+        };
     
     /** The default axis range. */
     public static final Range DEFAULT_RANGE = new Range(0.0, 1.0);
@@ -1742,6 +1771,80 @@ public abstract class ValueAxis extends Axis
     public abstract double valueToJava2D(double value, Rectangle2D area, 
                                          RectangleEdge edge);
     
+    /**
+     * Converts the data values <code>values[from]</code> to 
+     * <code>values[to - 1]</code> into Java2D coordinates, which are written 
+     * to the same positions in the <code>result</code> array (this may be the
+     * same array as <code>values</code>).  This gives the same results as 
+     * calling {@link #valueToJava2D(double, Rectangle2D, RectangleEdge)} for 
+     * each value, but subclasses override it to calculate the constants for 
+     * the transformation only once.  Those overrides convert each value with
+     * <code>valueToJava2D()</code> instead when a further subclass overrides
+     * that method (see {@link #isValueToJava2DOverridden(Class)}).
+     *
+     * @param values  the data values (<code>null</code> not permitted).
+     * @param from  the index of the first value to convert.
+     * @param to  the index after the last value to convert.
+     * @param result  the array for the Java2D coordinates 
+     *                (<code>null</code> not permitted).
+     * @param area  the area for plotting the data.
+     * @param edge  the edge along which the axis lies.
+     */
+    public void valuesToJava2D(double[] values, int from, int to, 
+                               double[] result, Rectangle2D area, 
+                               RectangleEdge edge) {
+        checkValuesToJava2DArguments(values, from, to, result);
+        for (int i = from; i < to; i++) {
+            result[i] = valueToJava2D(values[i], area, edge);
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the class of this axis, or any of its 
+     * superclasses below <code>base</code>, declares the 
+     * {@link #valueToJava2D(double, Rectangle2D, RectangleEdge)} method.  An
+     * optimised <code>valuesToJava2D()</code> in <code>base</code> uses this
+     * to fall back to converting the values one by one, so that it never 
+     * bypasses a transformation defined in a subclass.
+     *
+     * @param base  the class that provides the optimised conversion.
+     *
+     * @return A boolean.
+     */
+    protected boolean isValueToJava2DOverridden(Class base) {
+        Class declarer = (Class) VALUE_TO_JAVA2D_DECLARER.get(getClass());
+        return declarer != base && base.isAssignableFrom(declarer);
+    }
+
+    /**
+     * Checks the arguments for the 
+     * {@link #valuesToJava2D(double[], int, int, double[], Rectangle2D, 
+     * RectangleEdge)} method.
+     *
+     * @param values  the data values.
+     * @param from  the index of the first value to convert.
+     * @param to  the index after the last value to convert.
+     * @param result  the array for the Java2D coordinates.
+     * 
+     * @throws IllegalArgumentException if either array is <code>null</code>
+     *         or the index range is not valid for both arrays.
+     */
+    protected static void checkValuesToJava2DArguments(double[] values, 
+            int from, int to, double[] result) {
+        if (values == null) {
+            throw new IllegalArgumentException("Null 'values' argument.");
+        }
+        if (result == null) {
+            throw new IllegalArgumentException("Null 'result' argument.");
+        }
+        if (from < 0 || to < from || to > values.length 
+                || to > result.length) {
+            throw new IllegalArgumentException(
+                "Invalid range [" + from + ", " + to + ")."
+            );
+        }
+    }
+
     /**
      * Converts a length in data coordinates into the corresponding length in 
      * Java2D coordinates.
@@ -0,0 +1,277 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation,
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * ContourGridEntity.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Added per-cell tooltips and hashCode() method;
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import java.awt.Shape;
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.jfree.chart.labels.ContourToolTipGenerator;
+import org.jfree.data.contour.ContourDataset;
+
+/**
+ * A single entity that covers all the cells of a contour plot.  Instead of
+ * holding one entity per cell, it records the Java2D coordinates of the
+ * cell centres, and the cell under a point is looked up on demand with
+ * {@link #getIndex(double, double)}.  Each cell extends halfway to the
+ * centres of its neighbours.
+ * <P>
+ * The dataset is organised in columns of increasing x-value, each holding
+ * items of increasing y-value (see
+ * {@link org.jfree.data.contour.ContourDataset#getXIndices()}).  When a
+ * tooltip generator is supplied, the tooltip for the cell under a point is
+ * generated on demand by {@link #getToolTipText(double, double)}.
+ */
+public class ContourGridEntity extends ContourEntity
+                               implements Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 3640572081946214359L;
+
+    /** The Java2D x-coordinate of the centre of each column. */
+    private double[] columnCentres;
+
+    /**
+     * The index of the first item in each column, plus the item count as a
+     * final element.
+     */
+    private int[] columnStarts;
+
+    /** The Java2D y-coordinate of the centre of each item. */
+    private double[] itemCentres;
+
+    /** The dataset (used to generate the tooltips). */
+    private transient ContourDataset dataset;
+
+    /** The tooltip generator (<code>null</code> permitted). */
+    private transient ContourToolTipGenerator toolTipGenerator;
+
+    /**
+     * Creates a new entity with a fixed tooltip.
+     *
+     * @param area  the area covered by the grid (<code>null</code> not
+     *              permitted).
+     * @param toolTipText  the tooltip text (<code>null</code> permitted).
+     * @param columnCentres  the Java2D x-coordinate of each column
+     *                       (<code>null</code> not permitted).
+     * @param columnStarts  the index of the first item in each column,
+     *                      followed by the item count (<code>null</code> not
+     *                      permitted).
+     * @param itemCentres  the Java2D y-coordinate of each item
+     *                     (<code>null</code> not permitted).
+     */
+    public ContourGridEntity(Shape area, String toolTipText,
+                             double[] columnCentres, int[] columnStarts,
+                             double[] itemCentres) {
+        this(area, toolTipText, null, null, columnCentres, columnStarts,
+                itemCentres);
+    }
+
+    /**
+     * Creates a new entity.
+     *
+     * @param area  the area covered by the grid (<code>null</code> not
+     *              permitted).
+     * @param toolTipText  the tooltip text for points outside the cells
+     *                     (<code>null</code> permitted).
+     * @param dataset  the dataset (<code>null</code> permitted).
+     * @param toolTipGenerator  the generator for the tooltip of each cell 
+     *                          (<code>null</code> permitted).
+     * @param columnCentres  the Java2D x-coordinate of each column
+     *                       (<code>null</code> not permitted).
+     * @param columnStarts  the index of the first item in each column,
+     *                      followed by the item count (<code>null</code> not
+     *                      permitted).
+     * @param itemCentres  the Java2D y-coordinate of each item
+     *                     (<code>null</code> not permitted).
+     */
+    public ContourGridEntity(Shape area, String toolTipText,
+                             ContourDataset dataset, 
+                             ContourToolTipGenerator toolTipGenerator,
+                             double[] columnCentres, int[] columnStarts,
+                             double[] itemCentres) {
+        super(area, toolTipText);
+        if (columnCentres == null) {
+            throw new IllegalArgumentException(
+                "Null 'columnCentres' argument."
+            );
+        }
+        if (columnStarts == null) {
+            throw new IllegalArgumentException(
+                "Null 'columnStarts' argument."
+            );
+        }
+        if (itemCentres == null) {
+            throw new IllegalArgumentException("Null 'itemCentres' argument.");
+        }
+        if (columnStarts.length != columnCentres.length + 1) {
+            throw new IllegalArgumentException(
+                "Expected one more column start than column centres."
+            );
+        }
+        this.columnCentres = columnCentres;
+        this.columnStarts = columnStarts;
+        this.itemCentres = itemCentres;
+        this.dataset = dataset;
+        this.toolTipGenerator = toolTipGenerator;
+    }
+
+    /**
+     * Returns the index of the dataset item whose cell contains a point in
+     * Java2D space.
+     *
+     * @param x  the x-coordinate.
+     * @param y  the y-coordinate.
+     *
+     * @return The item index, or -1 if the point is not inside the area of
+     *         this entity.
+     */
+    public int getIndex(double x, double y) {
+        if (this.columnCentres.length == 0 || !getArea().contains(x, y)) {
+            return -1;
+        }
+        int column = findNearest(this.columnCentres, 0,
+                this.columnCentres.length, x);
+        int start = this.columnStarts[column];
+        int end = this.columnStarts[column + 1];
+        if (start == end) {
+            return -1;
+        }
+        return findNearest(this.itemCentres, start, end, y);
+    }
+
+    /**
+     * Returns the tooltip text for the cell that contains a point in Java2D
+     * space.  If there is no tooltip generator or dataset, or the point is 
+     * not inside a cell, this returns {@link #getToolTipText()}.
+     *
+     * @param x  the x-coordinate.
+     * @param y  the y-coordinate.
+     *
+     * @return The tooltip text (possibly <code>null</code>).
+     */
+    public String getToolTipText(double x, double y) {
+        if (this.toolTipGenerator != null && this.dataset != null) {
+            int index = getIndex(x, y);
+            if (index >= 0) {
+                return this.toolTipGenerator.generateToolTip(this.dataset, 
+                        index);
+            }
+        }
+        return getToolTipText();
+    }
+
+    /**
+     * Returns the index of the value nearest to <code>v</code>, in a range of
+     * an array that is sorted in either ascending or descending order.
+     *
+     * @param values  the values.
+     * @param start  the first index of the range.
+     * @param end  the end of the range (exclusive, greater than
+     *             <code>start</code>).
+     * @param v  the value to find.
+     *
+     * @return The index of the nearest value.
+     */
+    private static int findNearest(double[] values, int start, int end,
+                                   double v) {
+        boolean ascending = values[start] <= values[end - 1];
+        int low = start;
+        int high = end - 1;
+        // find the first index whose value is at or past v
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            boolean before = ascending ? values[mid] < v : values[mid] > v;
+            if (before) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        if (low > start
+                && Math.abs(values[low - 1] - v) <= Math.abs(values[low] - v)) {
+            return low - 1;
+        }
+        return low;
+    }
+
+    /**
+     * Tests the entity for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof ContourGridEntity) || !super.equals(obj)) {
+            return false;
+        }
+        ContourGridEntity that = (ContourGridEntity) obj;
+        if (!Arrays.equals(this.columnCentres, that.columnCentres)) {
+            return false;
+        }
+        if (!Arrays.equals(this.columnStarts, that.columnStarts)) {
+            return false;
+        }
+        if (!Arrays.equals(this.itemCentres, that.itemCentres)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this entity.
+     *
+     * @return A hash code.
+     */
+    public int hashCode() {
+        int result;
+        result = Arrays.hashCode(this.columnCentres);
+        result = 29 * result + Arrays.hashCode(this.columnStarts);
+        result = 29 * result + Arrays.hashCode(this.itemCentres);
+        return result;
+    }
+
+}
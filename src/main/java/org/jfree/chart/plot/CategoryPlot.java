@@ -129,6 +129,8 @@
  * 09-Jun-2005 : Added setRenderers(), as per RFE 1183100 (DG);
  * 16-Jun-2005 : Added getDomainAxisCount() and getRangeAxisCount() methods, to
  *               match XYPlot (see RFE 1220495) (DG);
+ * 18-Oct-2026 : Use fireChangeEvent() so that no event is created when
+ *               there are no listeners;
  * 
  */
 
@@ -499,7 +501,7 @@ public class CategoryPlot extends Plot
             throw new IllegalArgumentException("Null 'orientation' argument.");
         }
         this.orientation = orientation;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -521,7 +523,7 @@ public class CategoryPlot extends Plot
             throw new IllegalArgumentException("Null 'offset' argument.");   
         }
         this.axisOffset = offset;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
 
@@ -601,7 +603,7 @@ public class CategoryPlot extends Plot
             axis.addChangeListener(this);
         }
         if (notify) {
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -615,7 +617,7 @@ public class CategoryPlot extends Plot
         for (int i = 0; i < axes.length; i++) {
             setDomainAxis(i, axes[i], false);   
         }
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -681,7 +683,7 @@ public class CategoryPlot extends Plot
         // TODO: handle argument checking for primary axis location which 
         // should not be null
         this.domainAxisLocations.set(index, location);
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -734,7 +736,7 @@ public class CategoryPlot extends Plot
             }
         }
         this.domainAxes.clear();
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -825,7 +827,7 @@ public class CategoryPlot extends Plot
             axis.addChangeListener(this);
         }
         if (notify) {
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -839,7 +841,7 @@ public class CategoryPlot extends Plot
         for (int i = 0; i < axes.length; i++) {
             setRangeAxis(i, axes[i], false);   
         }
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -915,7 +917,7 @@ public class CategoryPlot extends Plot
         // TODO: don't allow null for index = 0
         this.rangeAxisLocations.set(index, location);
         if (notify) {
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -967,7 +969,7 @@ public class CategoryPlot extends Plot
             }
         }
         this.rangeAxes.clear();
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1194,7 +1196,7 @@ public class CategoryPlot extends Plot
         configureRangeAxes();
         
         if (notify) {
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -1208,7 +1210,7 @@ public class CategoryPlot extends Plot
         for (int i = 0; i < renderers.length; i++) {
             setRenderer(i, renderers[i], false);   
         }
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -1264,7 +1266,7 @@ public class CategoryPlot extends Plot
             throw new IllegalArgumentException("Null 'order' argument.");   
         }
         this.renderingOrder = order;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1327,7 +1329,7 @@ public class CategoryPlot extends Plot
     public void setDomainGridlinesVisible(boolean visible) {
         if (this.domainGridlinesVisible != visible) {
             this.domainGridlinesVisible = visible;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -1351,7 +1353,7 @@ public class CategoryPlot extends Plot
             throw new IllegalArgumentException("Null 'position' argument.");   
         }
         this.domainGridlinePosition = position;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1374,7 +1376,7 @@ public class CategoryPlot extends Plot
             throw new IllegalArgumentException("Null 'stroke' not permitted.");   
         }
         this.domainGridlineStroke = stroke;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1397,7 +1399,7 @@ public class CategoryPlot extends Plot
             throw new IllegalArgumentException("Null 'paint' argument.");   
         }
         this.domainGridlinePaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1419,7 +1421,7 @@ public class CategoryPlot extends Plot
     public void setRangeGridlinesVisible(boolean visible) {
         if (this.rangeGridlinesVisible != visible) {
             this.rangeGridlinesVisible = visible;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -1443,7 +1445,7 @@ public class CategoryPlot extends Plot
             throw new IllegalArgumentException("Null 'stroke' argument.");   
         }
         this.rangeGridlineStroke = stroke;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1466,7 +1468,7 @@ public class CategoryPlot extends Plot
             throw new IllegalArgumentException("Null 'paint' argument.");   
         }
         this.rangeGridlinePaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -1487,7 +1489,7 @@ public class CategoryPlot extends Plot
      */
     public void setFixedLegendItems(LegendItemCollection items) {
         this.fixedLegendItems = items;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -1693,7 +1695,7 @@ public class CategoryPlot extends Plot
             }
             markers.add(marker);            
         }
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1707,7 +1709,7 @@ public class CategoryPlot extends Plot
         if (this.foregroundDomainMarkers != null) {
             this.foregroundDomainMarkers.clear();
         }
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1766,7 +1768,7 @@ public class CategoryPlot extends Plot
                 markers.clear();
             }
         }
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -1827,7 +1829,7 @@ public class CategoryPlot extends Plot
             }
             markers.add(marker);            
         }
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1841,7 +1843,7 @@ public class CategoryPlot extends Plot
         if (this.foregroundRangeMarkers != null) {
             this.foregroundRangeMarkers.clear();
         }
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1900,7 +1902,7 @@ public class CategoryPlot extends Plot
                 markers.clear();
             }
         }
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1921,7 +1923,7 @@ public class CategoryPlot extends Plot
 
         if (this.rangeCrosshairVisible != flag) {
             this.rangeCrosshairVisible = flag;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
 
     }
@@ -1946,7 +1948,7 @@ public class CategoryPlot extends Plot
 
         if (this.rangeCrosshairLockedOnData != flag) {
             this.rangeCrosshairLockedOnData = flag;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
 
     }
@@ -1988,7 +1990,7 @@ public class CategoryPlot extends Plot
 
         this.rangeCrosshairValue = value;
         if (isRangeCrosshairVisible() && notify) {
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
 
     }
@@ -2012,7 +2014,7 @@ public class CategoryPlot extends Plot
      */
     public void setRangeCrosshairStroke(Stroke stroke) {
         this.rangeCrosshairStroke = stroke;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -2032,7 +2034,7 @@ public class CategoryPlot extends Plot
      */
     public void setRangeCrosshairPaint(Paint paint) {
         this.rangeCrosshairPaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -2055,7 +2057,7 @@ public class CategoryPlot extends Plot
             throw new IllegalArgumentException("Null 'annotation' argument.");   
         }
         this.annotations.add(annotation);
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -2072,7 +2074,7 @@ public class CategoryPlot extends Plot
         }
         boolean removed = this.annotations.remove(annotation);
         if (removed) {
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
         return removed;
     }
@@ -2083,7 +2085,7 @@ public class CategoryPlot extends Plot
      */
     public void clearAnnotations() {
         this.annotations.clear();
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -2827,7 +2829,7 @@ public class CategoryPlot extends Plot
      */
     public void setDrawSharedDomainAxis(boolean draw) {
         this.drawSharedDomainAxis = draw;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -2937,7 +2939,7 @@ public class CategoryPlot extends Plot
     public void setAnchorValue(double value, boolean notify) {
         this.anchorValue = value;
         if (notify) {
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
     
@@ -49,6 +49,9 @@
  * 21-Feb-2005 : The getLegendItems() method now returns the fixed legend
  *               items if set (DG);
  * 05-May-2005 : Updated draw() method parameters (DG);
+ * 18-Oct-2026 : Added option to draw the subplots concurrently;
+ * 18-Oct-2026 : Use fireChangeEvent() so that no event is created when
+ *               there are no listeners;
  *
  */
 
@@ -94,6 +97,12 @@ public class CombinedDomainCategoryPlot extends CategoryPlot
     /** The gap between subplots. */
     private double gap;
 
+    /** 
+     * A flag that controls whether the subplots are drawn concurrently, into
+     * separate image tiles. 
+     */
+    private boolean parallelRendering = false;
+
     /** Temporary storage for the subplot areas. */
     private transient Rectangle2D[] subplotAreas;
     // TODO:  move the above to the plot state
@@ -135,7 +144,33 @@ public class CombinedDomainCategoryPlot extends CategoryPlot
      */
     public void setGap(double gap) {
         this.gap = gap;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
+    }
+
+    /**
+     * Returns the flag that controls whether the subplots are drawn 
+     * concurrently.
+     *
+     * @return A boolean.
+     */
+    public boolean isParallelRendering() {
+        return this.parallelRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether the subplots are drawn concurrently
+     * and sends a {@link PlotChangeEvent} to all registered listeners.  When 
+     * set, each subplot is drawn on the common fork-join pool into its own 
+     * image tile, and the tiles are then drawn in order on the target device.
+     * The subplots are rasterised, so this is intended for screen and image 
+     * output, and the subplots must not share renderers.  It has no effect 
+     * if the device is scaled, rotated or sheared.
+     *
+     * @param flag  the flag.
+     */
+    public void setParallelRendering(boolean flag) {
+        this.parallelRendering = flag;
+        fireChangeEvent();
     }
 
     /**
@@ -175,7 +210,7 @@ public class CombinedDomainCategoryPlot extends CategoryPlot
         if (axis != null) {
             axis.configure();
         }
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -209,7 +244,7 @@ public class CombinedDomainCategoryPlot extends CategoryPlot
             if (domain != null) {
                 domain.configure();
             }
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -421,14 +456,27 @@ public class CombinedDomainCategoryPlot extends CategoryPlot
         parentState.getSharedAxisStates().put(axis, axisState);
         
         // draw all the subplots
-        for (int i = 0; i < this.subplots.size(); i++) {
-            CategoryPlot plot = (CategoryPlot) this.subplots.get(i);
-            PlotRenderingInfo subplotInfo = null;
-            if (info != null) {
-                subplotInfo = new PlotRenderingInfo(info.getOwner());
-                info.addSubplotInfo(subplotInfo);
+        int n = this.subplots.size();
+        if (this.parallelRendering 
+                && ParallelSubplotRenderer.isSupported(g2, n)) {
+            Plot[] plots = new Plot[n];
+            for (int i = 0; i < n; i++) {
+                plots[i] = (Plot) this.subplots.get(i);
+            }
+            ParallelSubplotRenderer.draw(g2, plots, this.subplotAreas, null, 
+                    parentState, info);
+        }
+        else {
+            for (int i = 0; i < n; i++) {
+                CategoryPlot plot = (CategoryPlot) this.subplots.get(i);
+                PlotRenderingInfo subplotInfo = null;
+                if (info != null) {
+                    subplotInfo = new PlotRenderingInfo(info.getOwner());
+                    info.addSubplotInfo(subplotInfo);
+                }
+                plot.draw(g2, this.subplotAreas[i], null, parentState, 
+                        subplotInfo);
             }
-            plot.draw(g2, this.subplotAreas[i], null, parentState, subplotInfo);
         }
 
         if (info != null) {
@@ -577,6 +625,9 @@ public class CombinedDomainCategoryPlot extends CategoryPlot
         if (this.gap != plot.gap) { 
             return false;
         }
+        if (this.parallelRendering != plot.parallelRendering) {
+            return false;
+        }
         return true;
     }
 
@@ -76,6 +76,8 @@
  * 21-Feb-2005 : The getLegendItems() method now returns the fixed legend
  *               items if set (DG);
  * 05-May-2005 : Removed unused draw() method (DG);
+ * 18-Oct-2026 : Use fireChangeEvent() so that no event is created when
+ *               there are no listeners;
  *
  */
 
@@ -212,7 +214,7 @@ public class CombinedDomainXYPlot extends XYPlot
      */
     public void setGap(double gap) {
         this.gap = gap;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -264,7 +266,7 @@ public class CombinedDomainXYPlot extends XYPlot
             axis.configure();
         }
         
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
 
     }
 
@@ -297,7 +299,7 @@ public class CombinedDomainXYPlot extends XYPlot
             if (domain != null) {
                 domain.configure();
             }
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
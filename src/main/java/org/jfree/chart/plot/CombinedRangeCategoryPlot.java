@@ -50,6 +50,9 @@
  * 21-Feb-2005 : The getLegendItems() method now returns the fixed legend
  *               items if set (DG);
  * 05-May-2005 : Updated draw() method parameters (DG);
+ * 18-Oct-2026 : Added option to draw the subplots concurrently;
+ * 18-Oct-2026 : Use fireChangeEvent() so that no event is created when
+ *               there are no listeners;
  * 
  */
  
@@ -99,6 +102,12 @@ public class CombinedRangeCategoryPlot extends CategoryPlot
     /** The gap between subplots. */
     private double gap;
 
+    /** 
+     * A flag that controls whether the subplots are drawn concurrently, into
+     * separate image tiles. 
+     */
+    private boolean parallelRendering = false;
+
     /** Temporary storage for the subplot areas. */
     private transient Rectangle2D[] subplotArea;  // TODO: move to plot state
 
@@ -138,7 +147,33 @@ public class CombinedRangeCategoryPlot extends CategoryPlot
      */
     public void setGap(double gap) {
         this.gap = gap;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
+    }
+
+    /**
+     * Returns the flag that controls whether the subplots are drawn 
+     * concurrently.
+     *
+     * @return A boolean.
+     */
+    public boolean isParallelRendering() {
+        return this.parallelRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether the subplots are drawn concurrently
+     * and sends a {@link PlotChangeEvent} to all registered listeners.  When 
+     * set, each subplot is drawn on the common fork-join pool into its own 
+     * image tile, and the tiles are then drawn in order on the target device.
+     * The subplots are rasterised, so this is intended for screen and image 
+     * output, and the subplots must not share renderers.  It has no effect 
+     * if the device is scaled, rotated or sheared.
+     *
+     * @param flag  the flag.
+     */
+    public void setParallelRendering(boolean flag) {
+        this.parallelRendering = flag;
+        fireChangeEvent();
     }
 
     /**
@@ -182,7 +217,7 @@ public class CombinedRangeCategoryPlot extends CategoryPlot
         if (axis != null) {
             axis.configure();
         }
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -218,7 +253,7 @@ public class CombinedRangeCategoryPlot extends CategoryPlot
             if (range2 != null) {
                 range2.configure();
             }
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -362,15 +397,28 @@ public class CombinedRangeCategoryPlot extends CategoryPlot
         }
         parentState.getSharedAxisStates().put(axis, state);
         
-        // draw all the charts
-        for (int i = 0; i < this.subplots.size(); i++) {
-            CategoryPlot plot = (CategoryPlot) this.subplots.get(i);
-            PlotRenderingInfo subplotInfo = null;
-            if (info != null) {
-                subplotInfo = new PlotRenderingInfo(info.getOwner());
-                info.addSubplotInfo(subplotInfo);
+        // draw all the subplots
+        int n = this.subplots.size();
+        if (this.parallelRendering 
+                && ParallelSubplotRenderer.isSupported(g2, n)) {
+            Plot[] plots = new Plot[n];
+            for (int i = 0; i < n; i++) {
+                plots[i] = (Plot) this.subplots.get(i);
+            }
+            ParallelSubplotRenderer.draw(g2, plots, this.subplotArea, null, 
+                    parentState, info);
+        }
+        else {
+            for (int i = 0; i < n; i++) {
+                CategoryPlot plot = (CategoryPlot) this.subplots.get(i);
+                PlotRenderingInfo subplotInfo = null;
+                if (info != null) {
+                    subplotInfo = new PlotRenderingInfo(info.getOwner());
+                    info.addSubplotInfo(subplotInfo);
+                }
+                plot.draw(g2, this.subplotArea[i], null, parentState, 
+                        subplotInfo);
             }
-            plot.draw(g2, this.subplotArea[i], null, parentState, subplotInfo);
         }
 
         if (info != null) {
@@ -513,6 +561,9 @@ public class CombinedRangeCategoryPlot extends CategoryPlot
         if (this.gap != that.gap) {
             return false;
         }
+        if (this.parallelRendering != that.parallelRendering) {
+            return false;
+        }
         return true;       
     }
 
@@ -79,6 +79,9 @@
  * 21-Feb-2005 : The getLegendItems() method now returns the fixed legend
  *               items if set (DG);
  * 05-May-2005 : Removed unused draw() method (DG);
+ * 18-Oct-2026 : Added option to draw the subplots concurrently;
+ * 18-Oct-2026 : Use fireChangeEvent() so that no event is created when
+ *               there are no listeners;
  *
  */
 
@@ -128,6 +131,12 @@ public class CombinedRangeXYPlot extends XYPlot
     /** The gap between subplots. */
     private double gap = 5.0;
 
+    /** 
+     * A flag that controls whether the subplots are drawn concurrently, into
+     * separate image tiles. 
+     */
+    private boolean parallelRendering = false;
+
     /** Temporary storage for the subplot areas. */
     private transient Rectangle2D[] subplotAreas;
 
@@ -181,6 +190,32 @@ public class CombinedRangeXYPlot extends XYPlot
         this.gap = gap;
     }
 
+    /**
+     * Returns the flag that controls whether the subplots are drawn 
+     * concurrently.
+     *
+     * @return A boolean.
+     */
+    public boolean isParallelRendering() {
+        return this.parallelRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether the subplots are drawn concurrently
+     * and sends a {@link PlotChangeEvent} to all registered listeners.  When 
+     * set, each subplot is drawn on the common fork-join pool into its own 
+     * image tile, and the tiles are then drawn in order on the target device.
+     * The subplots are rasterised, so this is intended for screen and image 
+     * output, and the subplots must not share renderers.  It has no effect 
+     * if the device is scaled, rotated or sheared.
+     *
+     * @param flag  the flag.
+     */
+    public void setParallelRendering(boolean flag) {
+        this.parallelRendering = flag;
+        fireChangeEvent();
+    }
+
     /**
      * Adds a subplot, with a default 'weight' of 1.
      *
@@ -218,7 +253,7 @@ public class CombinedRangeXYPlot extends XYPlot
         // keep track of total weights
         this.totalWeight += weight;
         configureRangeAxes();
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
 
     }
 
@@ -245,7 +280,7 @@ public class CombinedRangeXYPlot extends XYPlot
             subplot.removeChangeListener(this);
             this.totalWeight -= subplot.getWeight();
             configureRangeAxes();
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -408,17 +443,28 @@ public class CombinedRangeXYPlot extends XYPlot
         }
         parentState.getSharedAxisStates().put(axis, axisState);
         
-        // draw all the charts
-        for (int i = 0; i < this.subplots.size(); i++) {
-            XYPlot plot = (XYPlot) this.subplots.get(i);
-            PlotRenderingInfo subplotInfo = null;
-            if (info != null) {
-                subplotInfo = new PlotRenderingInfo(info.getOwner());
-                info.addSubplotInfo(subplotInfo);
+        // draw all the subplots
+        int n = this.subplots.size();
+        if (this.parallelRendering 
+                && ParallelSubplotRenderer.isSupported(g2, n)) {
+            Plot[] plots = new Plot[n];
+            for (int i = 0; i < n; i++) {
+                plots[i] = (Plot) this.subplots.get(i);
+            }
+            ParallelSubplotRenderer.draw(g2, plots, this.subplotAreas, anchor, 
+                    parentState, info);
+        }
+        else {
+            for (int i = 0; i < n; i++) {
+                XYPlot plot = (XYPlot) this.subplots.get(i);
+                PlotRenderingInfo subplotInfo = null;
+                if (info != null) {
+                    subplotInfo = new PlotRenderingInfo(info.getOwner());
+                    info.addSubplotInfo(subplotInfo);
+                }
+                plot.draw(g2, this.subplotAreas[i], anchor, parentState, 
+                        subplotInfo);
             }
-            plot.draw(
-                g2, this.subplotAreas[i], anchor, parentState, subplotInfo
-            );
         }
 
         if (info != null) {
@@ -635,6 +681,9 @@ public class CombinedRangeXYPlot extends XYPlot
         if (this.gap != that.gap) {
             return false;
         }
+        if (this.parallelRendering != that.parallelRendering) {
+            return false;
+        }
         return true;
     }
     
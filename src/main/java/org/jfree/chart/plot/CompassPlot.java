@@ -54,6 +54,8 @@
  * 17-Apr-2005 : Fixed bug in clone() method (DG);
  * 16-Jun-2005 : Renamed getData() --> getDatasets() and 
  *               addData() --> addDataset() (DG);
+ * 18-Oct-2026 : Use fireChangeEvent() so that no event is created when
+ *               there are no listeners;
  *
  */
 
@@ -223,7 +225,7 @@ public class CompassPlot extends Plot
 
         if (this.labelType != type) {
             this.labelType = type;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
 
     }
@@ -254,7 +256,7 @@ public class CompassPlot extends Plot
         // make the change...
         if (!this.labelFont.equals(font)) {
             this.labelFont = font;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
 
     }
@@ -279,7 +281,7 @@ public class CompassPlot extends Plot
             throw new IllegalArgumentException("Null 'paint' argument.");
         }
         this.rosePaint = paint;
-        notifyListeners(new PlotChangeEvent(this));        
+        fireChangeEvent();        
     }
 
     /**
@@ -303,7 +305,7 @@ public class CompassPlot extends Plot
             throw new IllegalArgumentException("Null 'paint' argument.");
         }
         this.roseCenterPaint = paint;
-        notifyListeners(new PlotChangeEvent(this));        
+        fireChangeEvent();        
     }
     
     /**
@@ -327,7 +329,7 @@ public class CompassPlot extends Plot
             throw new IllegalArgumentException("Null 'paint' argument.");
         }
         this.roseHighlightPaint = paint;
-        notifyListeners(new PlotChangeEvent(this));        
+        fireChangeEvent();        
     }
     
     /**
@@ -454,7 +456,7 @@ public class CompassPlot extends Plot
         if ((needle != null) && (index < this.seriesNeedle.length)) {
             this.seriesNeedle[index] = needle;
         }
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
 
     }
 
@@ -60,6 +60,12 @@
  * 11-Jan-2005 : Removed deprecated code in preparation for 1.0.0 release (DG);
  * 16-Jun-2005 : Added default constructor (DG);
  * 01-Sep-2005 : Moved dataAreaRatio from Plot to here (DG);
+ * 18-Oct-2026 : Added renderAsImage, imageInterpolated and singleGridEntity
+ *               options;
+ * 18-Oct-2026 : Use fireChangeEvent() so that no event is created when
+ *               there are no listeners;
+ * 19-Oct-2026 : Pass the dataset and tooltip generator to the grid
+ *               entity;
  * 
  */
 
@@ -80,9 +86,12 @@ import java.awt.geom.Line2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.geom.RectangularShape;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ResourceBundle;
@@ -97,11 +106,13 @@ import org.jfree.chart.block.ArrangeParams;
 import org.jfree.chart.block.ArrangeResult;
 import org.jfree.chart.block.RectangleConstraint;
 import org.jfree.chart.entity.ContourEntity;
+import org.jfree.chart.entity.ContourGridEntity;
 import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.event.AxisChangeEvent;
 import org.jfree.chart.event.PlotChangeEvent;
 import org.jfree.chart.labels.ContourToolTipGenerator;
 import org.jfree.chart.labels.StandardContourToolTipGenerator;
+import org.jfree.chart.ui.ColorPalette;
 import org.jfree.chart.urls.XYURLGenerator;
 import org.jfree.data.Range;
 import org.jfree.data.contour.ContourDataset;
@@ -218,6 +229,24 @@ public class ContourPlot extends Plot implements ContourValuePlot,
      */
     private double ptSizePct = 0.05;
 
+    /** 
+     * Controls whether the cells are drawn into an image that is drawn with a
+     * single call, instead of being filled one at a time.
+     */
+    private boolean renderAsImage = false;
+
+    /** 
+     * Controls whether the image interpolates the z-values between the cell 
+     * centres (used when renderAsImage = true). 
+     */
+    private boolean imageInterpolated = false;
+
+    /**
+     * Controls whether a single {@link ContourGridEntity} is added for the 
+     * cells, instead of one {@link ContourEntity} per cell.
+     */
+    private boolean singleGridEntity = false;
+
     /** Contains the a ClipPath to "trim" the contours. */
     private transient ClipPath clipPath = null;
 
@@ -296,7 +325,7 @@ public class ContourPlot extends Plot implements ContourValuePlot,
      */
     public void setColorBarLocation(RectangleEdge edge) {
         this.colorBarLocation = edge;
-        notifyListeners(new PlotChangeEvent(this));    
+        fireChangeEvent();    
     }
     
     /**
@@ -370,7 +399,7 @@ public class ContourPlot extends Plot implements ContourValuePlot,
             }
 
             this.domainAxis = axis;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
 
         }
 
@@ -410,7 +439,7 @@ public class ContourPlot extends Plot implements ContourValuePlot,
         }
 
         this.rangeAxis = axis;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
 
     }
 
@@ -422,7 +451,7 @@ public class ContourPlot extends Plot implements ContourValuePlot,
     public void setColorBarAxis(ColorBar axis) {
 
         this.colorBar = axis;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
 
     }
 
@@ -458,7 +487,7 @@ public class ContourPlot extends Plot implements ContourValuePlot,
             this.domainMarkers = new java.util.ArrayList();
         }
         this.domainMarkers.add(marker);
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
 
     }
 
@@ -468,7 +497,7 @@ public class ContourPlot extends Plot implements ContourValuePlot,
     public void clearDomainMarkers() {
         if (this.domainMarkers != null) {
             this.domainMarkers.clear();
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -486,7 +515,7 @@ public class ContourPlot extends Plot implements ContourValuePlot,
             this.rangeMarkers = new java.util.ArrayList();
         }
         this.rangeMarkers.add(marker);
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
 
     }
 
@@ -496,7 +525,7 @@ public class ContourPlot extends Plot implements ContourValuePlot,
     public void clearRangeMarkers() {
         if (this.rangeMarkers != null) {
             this.rangeMarkers.clear();
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -511,7 +540,7 @@ public class ContourPlot extends Plot implements ContourValuePlot,
             this.annotations = new java.util.ArrayList();
         }
         this.annotations.add(annotation);
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
 
     }
 
@@ -521,7 +550,7 @@ public class ContourPlot extends Plot implements ContourValuePlot,
     public void clearAnnotations() {
         if (this.annotations != null) {
             this.annotations.clear();
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -775,6 +804,11 @@ public class ContourPlot extends Plot implements ContourValuePlot,
                         this.domainAxis, this.rangeAxis, zAxis,
                               data, crosshairState);
             }
+            else if (this.renderAsImage) {
+                imageRenderer(g2, dataArea, info, this,
+                        this.domainAxis, this.rangeAxis, zAxis,
+                              data, crosshairState);
+            }
             else {
                 contourRenderer(g2, dataArea, info, this,
                         this.domainAxis, this.rangeAxis, zAxis,
@@ -982,7 +1016,7 @@ public class ContourPlot extends Plot implements ContourValuePlot,
             entityArea = rect;
 
             // add an entity for the item...
-            if (entities != null) {
+            if (entities != null && !this.singleGridEntity) {
                 String tip = "";
                 if (getToolTipGenerator() != null) {
                     tip = this.toolTipGenerator.generateToolTip(data, k);
@@ -1024,12 +1058,464 @@ public class ContourPlot extends Plot implements ContourValuePlot,
             }
         }
 
+        if (entities != null && this.singleGridEntity) {
+            double[] transXs = new double[x.length];
+            double[] transYs = new double[y.length];
+            horizontalAxis.valuesToJava2D(
+                x, 0, x.length, transXs, dataArea, RectangleEdge.BOTTOM
+            );
+            verticalAxis.valuesToJava2D(
+                y, 0, y.length, transYs, dataArea, RectangleEdge.LEFT
+            );
+            entities.add(
+                createGridEntity(getColumnStarts(data), transXs, transYs)
+            );
+        }
+
         g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, antiAlias);
 
         return;
 
     }
 
+    /**
+     * Fills the plot by drawing the cells into an image, which is then drawn
+     * with a single call.  The cell colors are looked up in a table built
+     * from the color bar's palette, and the cell boundaries are the same as 
+     * in {@link #contourRenderer(Graphics2D, Rectangle2D, PlotRenderingInfo, 
+     * ContourPlot, ValueAxis, ValueAxis, ColorBar, ContourDataset, 
+     * CrosshairState)}.  If the image is interpolated and the data form a 
+     * regular grid, each pixel is colored by interpolating the z-values 
+     * between the four surrounding cell centres.  Missing values are drawn
+     * with the missing paint if it is a <code>Color</code>, and are 
+     * otherwise transparent.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the area within which the data is being drawn.
+     * @param info  collects information about the drawing.
+     * @param plot  the plot (can be used to obtain standard color 
+     *              information etc).
+     * @param horizontalAxis  the domain (horizontal) axis.
+     * @param verticalAxis  the range (vertical) axis.
+     * @param colorBar  the color bar axis.
+     * @param data  the dataset.
+     * @param crosshairState  information about crosshairs on a plot.
+     */
+    public void imageRenderer(Graphics2D g2,
+                              Rectangle2D dataArea,
+                              PlotRenderingInfo info,
+                              ContourPlot plot,
+                              ValueAxis horizontalAxis,
+                              ValueAxis verticalAxis,
+                              ColorBar colorBar,
+                              ContourDataset data,
+                              CrosshairState crosshairState) {
+
+        Number[] xNumber = data.getXValues();
+        Number[] yNumber = data.getYValues();
+        Number[] zNumber = data.getZValues();
+        int n = xNumber.length;
+        if (n == 0) {
+            return;
+        }
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int k = 0; k < n; k++) {
+            x[k] = xNumber[k].doubleValue();
+            y[k] = yNumber[k].doubleValue();
+        }
+        double[] transX = new double[n];
+        double[] transY = new double[n];
+        horizontalAxis.valuesToJava2D(
+            x, 0, n, transX, dataArea, RectangleEdge.BOTTOM
+        );
+        verticalAxis.valuesToJava2D(y, 0, n, transY, dataArea, 
+                RectangleEdge.LEFT);
+        int[] columnStarts = getColumnStarts(data);
+        int columnCount = columnStarts.length - 1;
+
+        // look up the colors for the cells in a table built from the palette
+        ColorPalette palette = colorBar.getColorPalette();
+        int[] lookup = new int[256];
+        for (int i = 2; i < lookup.length; i++) {
+            lookup[i] = palette.getRGB(i);
+        }
+        int missing = 0;
+        if (this.missingPaint instanceof Color) {
+            missing = ((Color) this.missingPaint).getRGB();
+        }
+        double[] z = new double[n];
+        int[] rgb = new int[n];
+        for (int k = 0; k < n; k++) {
+            if (zNumber[k] != null) {
+                z[k] = zNumber[k].doubleValue();
+                rgb[k] = lookup[palette.getColorIndex(z[k])];
+            }
+            else {
+                z[k] = Double.NaN;
+                rgb[k] = missing;
+            }
+        }
+
+        // the image covers the cell centres, within the data area
+        double minX = dataArea.getMaxX();
+        double maxX = dataArea.getMinX();
+        double minY = dataArea.getMaxY();
+        double maxY = dataArea.getMinY();
+        for (int k = 0; k < n; k++) {
+            minX = Math.min(minX, transX[k]);
+            maxX = Math.max(maxX, transX[k]);
+            minY = Math.min(minY, transY[k]);
+            maxY = Math.max(maxY, transY[k]);
+        }
+        int x0 = (int) Math.floor(Math.max(minX, dataArea.getMinX()));
+        int y0 = (int) Math.floor(Math.max(minY, dataArea.getMinY()));
+        int width = (int) Math.ceil(Math.min(maxX, dataArea.getMaxX())) - x0;
+        int height = (int) Math.ceil(Math.min(maxY, dataArea.getMaxY())) 
+                - y0;
+
+        EntityCollection entities = null;
+        if (info != null) {
+            entities = info.getOwner().getEntityCollection();
+        }
+
+        if (width > 0 && height > 0) {
+            BufferedImage image = new BufferedImage(width, height, 
+                    BufferedImage.TYPE_INT_ARGB);
+            int[] pixels = ((DataBufferInt) image.getRaster()
+                    .getDataBuffer()).getData();
+            if (this.imageInterpolated && columnCount > 1 
+                    && isRegularGrid(columnStarts, y)) {
+                fillInterpolated(pixels, width, height, x0, y0, columnStarts,
+                        transX, transY, z, rgb, palette, lookup);
+            }
+            else {
+                fillCells(pixels, width, height, x0, y0, columnStarts, 
+                        transX, transY, rgb);
+            }
+            g2.drawImage(image, x0, y0, null);
+        }
+
+        for (int i = 0; i < columnCount; i++) {
+            double[] xBounds = getCellBounds(transX, columnStarts, i, 
+                    columnCount);
+            for (int k = columnStarts[i]; k < columnStarts[i + 1]; k++) {
+
+                // add an entity for the item...
+                if (entities != null && !this.singleGridEntity) {
+                    double[] yBounds = getItemBounds(transY, 
+                            columnStarts[i], columnStarts[i + 1], k);
+                    Rectangle2D.Double rect = new Rectangle2D.Double(
+                        Math.min(xBounds[0], xBounds[1]), 
+                        Math.min(yBounds[0], yBounds[1]),
+                        Math.abs(xBounds[1] - xBounds[0]), 
+                        Math.abs(yBounds[1] - yBounds[0])
+                    );
+                    String tip = "";
+                    if (getToolTipGenerator() != null) {
+                        tip = this.toolTipGenerator.generateToolTip(data, k);
+                    }
+                    ContourEntity entity = new ContourEntity(rect, tip, null);
+                    entity.setIndex(k);
+                    entities.add(entity);
+                }
+
+                // do we need to update the crosshair values?
+                if (plot.isDomainCrosshairLockedOnData()) {
+                    if (plot.isRangeCrosshairLockedOnData()) {
+                        // both axes
+                        crosshairState.updateCrosshairPoint(x[k], y[k], 
+                            transX[k], transY[k], PlotOrientation.VERTICAL);
+                    }
+                    else {
+                        // just the horizontal axis...
+                        crosshairState.updateCrosshairX(transX[k]);
+                    }
+                }
+                else {
+                    if (plot.isRangeCrosshairLockedOnData()) {
+                        // just the vertical axis...
+                        crosshairState.updateCrosshairY(transY[k]);
+                    }
+                }
+            }
+        }
+
+        if (entities != null && this.singleGridEntity) {
+            entities.add(createGridEntity(columnStarts, transX, transY));
+        }
+
+    }
+
+    /**
+     * Returns the index of the first item in each column of a dataset, 
+     * followed by the item count.
+     *
+     * @param data  the dataset.
+     *
+     * @return The column starts.
+     */
+    private static int[] getColumnStarts(ContourDataset data) {
+        int[] indexX = data.getXIndices();
+        int[] result = new int[indexX.length + 1];
+        System.arraycopy(indexX, 0, result, 0, indexX.length);
+        result[indexX.length] = data.getXValues().length;
+        return result;
+    }
+
+    /**
+     * Returns <code>true</code> if every column has the same y-values.
+     *
+     * @param columnStarts  the column starts.
+     * @param y  the y-values.
+     *
+     * @return A boolean.
+     */
+    private static boolean isRegularGrid(int[] columnStarts, double[] y) {
+        int rows = columnStarts[1] - columnStarts[0];
+        for (int i = 1; i < columnStarts.length - 1; i++) {
+            int start = columnStarts[i];
+            if (columnStarts[i + 1] - start != rows) {
+                return false;
+            }
+            for (int j = 0; j < rows; j++) {
+                if (y[start + j] != y[j]) {
+                    return false;
+                }
+            }
+        }
+        return rows > 1;
+    }
+
+    /**
+     * Returns the Java2D x-coordinates of the two sides of a column of cells.
+     * Each side is halfway to the neighbouring column, except at the first 
+     * and last columns, which end at their own centres.
+     *
+     * @param transX  the Java2D x-coordinates of the items.
+     * @param columnStarts  the column starts.
+     * @param column  the column.
+     * @param columnCount  the number of columns.
+     *
+     * @return The two sides, in the order of increasing x-value.
+     */
+    private static double[] getCellBounds(double[] transX, int[] columnStarts,
+                                          int column, int columnCount) {
+        double centre = transX[columnStarts[column]];
+        double lower = centre;
+        double upper = centre;
+        if (column > 0) {
+            lower = 0.5 * (centre + transX[columnStarts[column - 1]]);
+        }
+        if (column < columnCount - 1) {
+            upper = 0.5 * (centre + transX[columnStarts[column + 1]]);
+        }
+        return new double[] {lower, upper};
+    }
+
+    /**
+     * Returns the Java2D y-coordinates of the two sides of a cell within its
+     * column, on the same basis as {@link #getCellBounds(double[], int[], 
+     * int, int)}.
+     *
+     * @param transY  the Java2D y-coordinates of the items.
+     * @param start  the first item in the column.
+     * @param end  the end of the column (exclusive).
+     * @param k  the item.
+     *
+     * @return The two sides, in the order of increasing y-value.
+     */
+    private static double[] getItemBounds(double[] transY, int start, int end,
+                                          int k) {
+        double lower = transY[k];
+        double upper = transY[k];
+        if (k > start) {
+            lower = 0.5 * (transY[k] + transY[k - 1]);
+        }
+        if (k < end - 1) {
+            upper = 0.5 * (transY[k] + transY[k + 1]);
+        }
+        return new double[] {lower, upper};
+    }
+
+    /**
+     * Returns the range of pixels (relative to <code>origin</code>) whose 
+     * centres lie between two Java2D coordinates, clipped to the image.
+     *
+     * @param a  the first coordinate.
+     * @param b  the second coordinate.
+     * @param origin  the coordinate of the first pixel.
+     * @param size  the number of pixels.
+     *
+     * @return The first pixel and the end pixel (exclusive).
+     */
+    private static int[] getPixelRange(double a, double b, int origin, 
+                                       int size) {
+        double low = Math.min(a, b) - origin - 0.5;
+        double high = Math.max(a, b) - origin - 0.5;
+        int first = Math.max(0, (int) Math.ceil(low));
+        int end = Math.min(size, (int) Math.ceil(high));
+        return new int[] {first, end};
+    }
+
+    /**
+     * Fills each cell of the image with the color of its item.
+     *
+     * @param pixels  the image pixels.
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param x0  the Java2D x-coordinate of the image.
+     * @param y0  the Java2D y-coordinate of the image.
+     * @param columnStarts  the column starts.
+     * @param transX  the Java2D x-coordinates of the items.
+     * @param transY  the Java2D y-coordinates of the items.
+     * @param rgb  the ARGB color of each item.
+     */
+    private void fillCells(int[] pixels, int width, int height, int x0, 
+                           int y0, int[] columnStarts, double[] transX, 
+                           double[] transY, int[] rgb) {
+        int columnCount = columnStarts.length - 1;
+        for (int i = 0; i < columnCount; i++) {
+            double[] xBounds = getCellBounds(transX, columnStarts, i, 
+                    columnCount);
+            int[] px = getPixelRange(xBounds[0], xBounds[1], x0, width);
+            if (px[0] >= px[1]) {
+                continue;
+            }
+            int start = columnStarts[i];
+            int end = columnStarts[i + 1];
+            for (int k = start; k < end; k++) {
+                double[] yBounds = getItemBounds(transY, start, end, k);
+                int[] py = getPixelRange(yBounds[0], yBounds[1], y0, height);
+                for (int row = py[0]; row < py[1]; row++) {
+                    Arrays.fill(pixels, row * width + px[0], 
+                            row * width + px[1], rgb[k]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Fills the image by interpolating the z-values between the centres of 
+     * the cells of a regular grid.  Pixels next to a missing value take the 
+     * color of the nearest item.
+     *
+     * @param pixels  the image pixels.
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param x0  the Java2D x-coordinate of the image.
+     * @param y0  the Java2D y-coordinate of the image.
+     * @param columnStarts  the column starts.
+     * @param transX  the Java2D x-coordinates of the items.
+     * @param transY  the Java2D y-coordinates of the items.
+     * @param z  the z-values (<code>NaN</code> for missing values).
+     * @param rgb  the ARGB color of each item.
+     * @param palette  the color palette.
+     * @param lookup  the ARGB colors for the palette indices.
+     */
+    private void fillInterpolated(int[] pixels, int width, int height, 
+                                  int x0, int y0, int[] columnStarts, 
+                                  double[] transX, double[] transY, 
+                                  double[] z, int[] rgb, ColorPalette palette,
+                                  int[] lookup) {
+        int columnCount = columnStarts.length - 1;
+        int rows = columnStarts[1];
+
+        // for each pixel column, the grid column to its left and the 
+        // fraction of the way to the next grid column (and likewise for rows)
+        int[] pixelColumn = new int[width];
+        double[] pixelColumnFraction = new double[width];
+        Arrays.fill(pixelColumn, -1);
+        for (int i = 0; i < columnCount - 1; i++) {
+            double a = transX[columnStarts[i]];
+            double b = transX[columnStarts[i + 1]];
+            int[] px = getPixelRange(a, b, x0, width);
+            for (int p = px[0]; p < px[1]; p++) {
+                pixelColumn[p] = i;
+                pixelColumnFraction[p] = (x0 + p + 0.5 - a) / (b - a);
+            }
+        }
+        int[] pixelRow = new int[height];
+        double[] pixelRowFraction = new double[height];
+        Arrays.fill(pixelRow, -1);
+        for (int j = 0; j < rows - 1; j++) {
+            double a = transY[j];
+            double b = transY[j + 1];
+            int[] py = getPixelRange(a, b, y0, height);
+            for (int p = py[0]; p < py[1]; p++) {
+                pixelRow[p] = j;
+                pixelRowFraction[p] = (y0 + p + 0.5 - a) / (b - a);
+            }
+        }
+
+        for (int py = 0; py < height; py++) {
+            int j = pixelRow[py];
+            if (j < 0) {
+                continue;
+            }
+            double u = pixelRowFraction[py];
+            int offset = py * width;
+            for (int px = 0; px < width; px++) {
+                int i = pixelColumn[px];
+                if (i < 0) {
+                    continue;
+                }
+                double t = pixelColumnFraction[px];
+                int k00 = columnStarts[i] + j;
+                int k10 = columnStarts[i + 1] + j;
+                double z00 = z[k00];
+                double z01 = z[k00 + 1];
+                double z10 = z[k10];
+                double z11 = z[k10 + 1];
+                double value = (1.0 - t) * ((1.0 - u) * z00 + u * z01) 
+                    + t * ((1.0 - u) * z10 + u * z11);
+                if (Double.isNaN(value)) {
+                    int k = (t < 0.5 ? k00 : k10) + (u < 0.5 ? 0 : 1);
+                    pixels[offset + px] = rgb[k];
+                }
+                else {
+                    pixels[offset + px] = lookup[palette.getColorIndex(value)];
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a single entity for all the cells.
+     *
+     * @param columnStarts  the column starts.
+     * @param transX  the Java2D x-coordinates of the items.
+     * @param transY  the Java2D y-coordinates of the items.
+     *
+     * @return The entity.
+     */
+    private ContourGridEntity createGridEntity(int[] columnStarts, 
+                                               double[] transX, 
+                                               double[] transY) {
+        int columnCount = columnStarts.length - 1;
+        double[] columnCentres = new double[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columnCentres[i] = transX[columnStarts[i]];
+        }
+        double minX = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (int k = 0; k < transX.length; k++) {
+            minX = Math.min(minX, transX[k]);
+            maxX = Math.max(maxX, transX[k]);
+            minY = Math.min(minY, transY[k]);
+            maxY = Math.max(maxY, transY[k]);
+        }
+        Rectangle2D area = new Rectangle2D.Double();
+        if (minX <= maxX) {
+            area.setRect(minX, minY, maxX - minX, maxY - minY);
+        }
+        return new ContourGridEntity(area, null, getDataset(), 
+                this.toolTipGenerator, columnCentres, columnStarts, 
+                transY.clone());
+    }
+
     /**
      * Draws the visual representation of a single data item.
      *
@@ -1329,7 +1815,7 @@ public class ContourPlot extends Plot implements ContourValuePlot,
      * @param event  Information about the property change.
      */
     public void propertyChange(PropertyChangeEvent event) {
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1380,7 +1866,7 @@ public class ContourPlot extends Plot implements ContourValuePlot,
 
         if (this.domainCrosshairVisible != flag) {
             this.domainCrosshairVisible = flag;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
 
     }
@@ -1404,7 +1890,7 @@ public class ContourPlot extends Plot implements ContourValuePlot,
     public void setDomainCrosshairLockedOnData(boolean flag) {
         if (this.domainCrosshairLockedOnData != flag) {
             this.domainCrosshairLockedOnData = flag;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -1445,7 +1931,7 @@ public class ContourPlot extends Plot implements ContourValuePlot,
 
         this.domainCrosshairValue = value;
         if (isDomainCrosshairVisible() && notify) {
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
 
     }
@@ -1467,7 +1953,7 @@ public class ContourPlot extends Plot implements ContourValuePlot,
      */
     public void setDomainCrosshairStroke(Stroke stroke) {
         this.domainCrosshairStroke = stroke;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1487,7 +1973,7 @@ public class ContourPlot extends Plot implements ContourValuePlot,
      */
     public void setDomainCrosshairPaint(Paint paint) {
         this.domainCrosshairPaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1508,7 +1994,7 @@ public class ContourPlot extends Plot implements ContourValuePlot,
 
         if (this.rangeCrosshairVisible != flag) {
             this.rangeCrosshairVisible = flag;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
 
     }
@@ -1533,7 +2019,7 @@ public class ContourPlot extends Plot implements ContourValuePlot,
 
         if (this.rangeCrosshairLockedOnData != flag) {
             this.rangeCrosshairLockedOnData = flag;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
 
     }
@@ -1575,7 +2061,7 @@ public class ContourPlot extends Plot implements ContourValuePlot,
 
         this.rangeCrosshairValue = value;
         if (isRangeCrosshairVisible() && notify) {
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
 
     }
@@ -1597,7 +2083,7 @@ public class ContourPlot extends Plot implements ContourValuePlot,
      */
     public void setRangeCrosshairStroke(Stroke stroke) {
         this.rangeCrosshairStroke = stroke;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1617,7 +2103,7 @@ public class ContourPlot extends Plot implements ContourValuePlot,
      */
     public void setRangeCrosshairPaint(Paint paint) {
         this.rangeCrosshairPaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1786,6 +2272,75 @@ public class ContourPlot extends Plot implements ContourValuePlot,
         this.renderAsPoints = renderAsPoints;
     }
 
+    /**
+     * Returns the flag that controls whether the cells are drawn into an 
+     * image that is drawn with a single call.
+     * 
+     * @return A boolean.
+     */
+    public boolean isRenderAsImage() {
+        return this.renderAsImage;
+    }
+
+    /**
+     * Sets the flag that controls whether the cells are drawn into an image 
+     * that is drawn with a single call, and sends a {@link PlotChangeEvent} 
+     * to all registered listeners.  This is much faster than filling each 
+     * cell for large grids.
+     * 
+     * @param flag  the flag.
+     */
+    public void setRenderAsImage(boolean flag) {
+        this.renderAsImage = flag;
+        fireChangeEvent();
+    }
+
+    /**
+     * Returns the flag that controls whether the image interpolates between
+     * the cell centres.
+     * 
+     * @return A boolean.
+     */
+    public boolean isImageInterpolated() {
+        return this.imageInterpolated;
+    }
+
+    /**
+     * Sets the flag that controls whether the image interpolates between the
+     * cell centres (the data must form a regular grid), and sends a 
+     * {@link PlotChangeEvent} to all registered listeners.
+     * 
+     * @param flag  the flag.
+     */
+    public void setImageInterpolated(boolean flag) {
+        this.imageInterpolated = flag;
+        fireChangeEvent();
+    }
+
+    /**
+     * Returns the flag that controls whether a single entity is created for
+     * all the cells.
+     * 
+     * @return A boolean.
+     */
+    public boolean isSingleGridEntity() {
+        return this.singleGridEntity;
+    }
+
+    /**
+     * Sets the flag that controls whether a single {@link ContourGridEntity} 
+     * is created for all the cells, instead of one entity per cell, and 
+     * sends a {@link PlotChangeEvent} to all registered listeners.  The cell
+     * at a point can then be found with 
+     * {@link ContourGridEntity#getIndex(double, double)}.
+     * 
+     * @param flag  the flag.
+     */
+    public void setSingleGridEntity(boolean flag) {
+        this.singleGridEntity = flag;
+        fireChangeEvent();
+    }
+
     /**
      * Receives notification of a change to one of the plot's axes.
      *
@@ -42,6 +42,7 @@
  * 04-Dec-2003 : Crosshair anchor point now stored outside chart since it is
  *               dependent on the display target (DG);
  * 25-Feb-2004 : Replaced CrosshairInfo --> CrosshairState (DG);               
+ * 18-Oct-2026 : Added getCrosshairDistance() and getAnchor() methods;
  *
  */
 
@@ -99,6 +100,16 @@ public class CrosshairState {
         this.calculateDistanceInDataSpace = calculateDistanceInDataSpace;
     }
 
+    /**
+     * Returns the distance between the anchor point and the current crosshair
+     * point.
+     *
+     * @return The distance.
+     */
+    public double getCrosshairDistance() {
+        return this.distance;
+    }
+
     /**
      * Sets the distance between the anchor point and the current crosshair 
      * point.  As each data point is processed, its distance to the anchor 
@@ -196,6 +207,15 @@ public class CrosshairState {
 
     }
 
+    /**
+     * Returns the anchor point.
+     *
+     * @return The anchor point (possibly <code>null</code>).
+     */
+    public Point2D getAnchor() {
+        return this.anchor;
+    }
+
     /** 
      * Sets the anchor point.  This is usually the mouse click point in a chart
      * panel, and the crosshair point will often be the data item that is 
@@ -51,6 +51,14 @@
  *               --> ArrayUtilities (DG);
  * 12-Nov-2004 : Implemented the new Zoomable interface (DG);
  * 16-Jun-2005 : Added get/setData() methods (DG);
+ * 18-Oct-2026 : Translate the data to Java2D in blocks with 
+ *               ValueAxis.valuesToJava2D();
+ * 18-Oct-2026 : Use fireChangeEvent() so that no event is created when
+ *               there are no listeners;
+ * 18-Oct-2026 : Added a density rendering mode that counts the points in
+ *               each pixel and draws the counts as a single image;
+ * 19-Oct-2026 : Translate the points for the density image on the calling
+ *               thread, since the axes are not thread-safe;
  *
  */
 
@@ -67,6 +75,8 @@ import java.awt.Stroke;
 import java.awt.geom.Line2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
@@ -74,6 +84,9 @@ import java.io.Serializable;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ResourceBundle;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
 import org.jfree.chart.axis.AxisSpace;
 import org.jfree.chart.axis.AxisState;
@@ -83,6 +96,8 @@ import org.jfree.chart.block.ArrangeParams;
 import org.jfree.chart.block.ArrangeResult;
 import org.jfree.chart.block.RectangleConstraint;
 import org.jfree.chart.event.PlotChangeEvent;
+import org.jfree.chart.ui.ColorPalette;
+import org.jfree.chart.ui.RainbowPalette;
 import org.jfree.data.Range;
 import org.jfree.io.SerialUtilities;
 import org.jfree.ui.RectangleEdge;
@@ -112,6 +127,21 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot,
     /** The default grid line paint. */
     public static final Paint DEFAULT_GRIDLINE_PAINT = Color.lightGray;
 
+    /** The number of points translated to Java2D space at a time. */
+    private static final int RENDER_BLOCK_SIZE = 1024;
+
+    /** 
+     * The smallest number of points that is counted by a separate task in 
+     * the density rendering mode. 
+     */
+    private static final int DENSITY_TASK_SIZE = 256 * 1024;
+
+    /** 
+     * The number of point counts for which the density colors are looked up
+     * in advance. 
+     */
+    private static final int DENSITY_LOOKUP_SIZE = 1024;
+
     /** The data. */
     private float[][] data;
 
@@ -130,6 +160,15 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot,
     /** The paint used to plot data points. */
     private transient Paint paint;
 
+    /** 
+     * Controls whether the number of points in each pixel is drawn (as an 
+     * image colored with the density palette) instead of the points.
+     */
+    private boolean renderAsDensity = false;
+
+    /** The palette used to color the point counts in the density mode. */
+    private ColorPalette densityPalette;
+
     /** A flag that controls whether the domain grid-lines are visible. */
     private boolean domainGridlinesVisible;
 
@@ -189,6 +228,7 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot,
         }
 
         this.paint = Color.red;
+        this.densityPalette = new RainbowPalette();
         
         this.domainGridlinesVisible = true;
         this.domainGridlinePaint = FastScatterPlot.DEFAULT_GRIDLINE_PAINT;
@@ -226,7 +266,7 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot,
      */
     public void setData(float[][] data) {
         this.data = data;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -280,7 +320,60 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot,
             throw new IllegalArgumentException("Null 'paint' argument.");
         }
         this.paint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
+    }
+
+    /**
+     * Returns the flag that controls whether the plot draws the number of 
+     * points in each pixel instead of the points themselves.
+     * 
+     * @return A boolean.
+     */
+    public boolean isRenderAsDensity() {
+        return this.renderAsDensity;
+    }
+
+    /**
+     * Sets the flag that controls whether the plot draws the number of points
+     * in each pixel (colored with the density palette) instead of the points
+     * themselves, and sends a {@link PlotChangeEvent} to all registered 
+     * listeners.  The points are counted concurrently and the counts are 
+     * drawn as a single image, which is much faster than drawing the points
+     * one at a time for large datasets, and shows where points overlap.
+     * 
+     * @param flag  the flag.
+     */
+    public void setRenderAsDensity(boolean flag) {
+        this.renderAsDensity = flag;
+        fireChangeEvent();
+    }
+
+    /**
+     * Returns the palette used to color the point counts when the plot draws
+     * the density of the points.
+     * 
+     * @return The palette (never <code>null</code>).
+     */
+    public ColorPalette getDensityPalette() {
+        return this.densityPalette;
+    }
+
+    /**
+     * Sets the palette used to color the point counts when the plot draws 
+     * the density of the points, and sends a {@link PlotChangeEvent} to all
+     * registered listeners.  The palette spans the counts from one to the 
+     * largest count in any pixel, on a log scale if 
+     * {@link ColorPalette#isLogscale()} is <code>true</code>.  The palette's
+     * own z-range is not used.
+     * 
+     * @param palette  the palette (<code>null</code> not permitted).
+     */
+    public void setDensityPalette(ColorPalette palette) {
+        if (palette == null) {
+            throw new IllegalArgumentException("Null 'palette' argument.");
+        }
+        this.densityPalette = palette;
+        fireChangeEvent();
     }
 
     /**
@@ -303,7 +396,7 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot,
     public void setDomainGridlinesVisible(boolean visible) {
         if (this.domainGridlinesVisible != visible) {
             this.domainGridlinesVisible = visible;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -326,7 +419,7 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot,
      */
     public void setDomainGridlineStroke(Stroke stroke) {
         this.domainGridlineStroke = stroke;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -348,7 +441,7 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot,
      */
     public void setDomainGridlinePaint(Paint paint) {
         this.domainGridlinePaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -371,7 +464,7 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot,
     public void setRangeGridlinesVisible(boolean visible) {
         if (this.rangeGridlinesVisible != visible) {
             this.rangeGridlinesVisible = visible;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -394,7 +487,7 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot,
      */
     public void setRangeGridlineStroke(Stroke stroke) {
         this.rangeGridlineStroke = stroke;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -416,7 +509,7 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot,
      */
     public void setRangeGridlinePaint(Paint paint) {
         this.rangeGridlinePaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -542,33 +635,32 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot,
         //System.out.println("Start: " + start);
         g2.setPaint(this.paint);
 
-        // if the axes use a linear scale, you can uncomment the code below and
-        // switch to the alternative transX/transY calculation inside the loop 
-        // that follows - it is a little bit faster then.
-        // 
-        // int xx = (int) dataArea.getMinX();
-        // int ww = (int) dataArea.getWidth();
-        // int yy = (int) dataArea.getMaxY();
-        // int hh = (int) dataArea.getHeight();
-        // double domainMin = this.domainAxis.getLowerBound();
-        // double domainLength = this.domainAxis.getUpperBound() - domainMin;
-        // double rangeMin = this.rangeAxis.getLowerBound();
-        // double rangeLength = this.rangeAxis.getUpperBound() - rangeMin;
-
-        if (this.data != null) {
-            for (int i = 0; i < this.data[0].length; i++) {
-                float x = this.data[0][i];
-                float y = this.data[1][i];
-                
-                //int transX = (int) (xx + ww * (x - domainMin) / domainLength);
-                //int transY = (int) (yy - hh * (y - rangeMin) / rangeLength); 
-                int transX = (int) this.domainAxis.valueToJava2D(
-                    x, dataArea, RectangleEdge.BOTTOM
+        // the points are translated to Java2D space in blocks, so that the 
+        // axes calculate their scaling constants once per block rather than 
+        // once per point
+        if (this.data != null && this.renderAsDensity) {
+            renderDensity(g2, dataArea);
+        }
+        else if (this.data != null) {
+            int count = this.data[0].length;
+            int blockSize = Math.min(count, RENDER_BLOCK_SIZE);
+            double[] xx = new double[blockSize];
+            double[] yy = new double[blockSize];
+            for (int start = 0; start < count; start += blockSize) {
+                int n = Math.min(blockSize, count - start);
+                for (int i = 0; i < n; i++) {
+                    xx[i] = this.data[0][start + i];
+                    yy[i] = this.data[1][start + i];
+                }
+                this.domainAxis.valuesToJava2D(
+                    xx, 0, n, xx, dataArea, RectangleEdge.BOTTOM
                 );
-                int transY = (int) this.rangeAxis.valueToJava2D(
-                    y, dataArea, RectangleEdge.LEFT
+                this.rangeAxis.valuesToJava2D(
+                    yy, 0, n, yy, dataArea, RectangleEdge.LEFT
                 );
-                g2.fillRect(transX, transY, 1, 1);
+                for (int i = 0; i < n; i++) {
+                    g2.fillRect((int) xx[i], (int) yy[i], 1, 1);
+                }
             }
         }
         //long finish = System.currentTimeMillis();
@@ -577,6 +669,178 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot,
 
     }
 
+    /**
+     * Draws the number of points in each pixel of the data area as a single
+     * image, colored with the density palette.  The points are translated to
+     * pixels on the calling thread (the axes are shared with the rest of the
+     * chart, so they are only used by one thread), then counted by tasks on
+     * the common fork-join pool, each with its own count buffer, and the 
+     * buffers are added together when all the tasks are done.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the region in which the data is to be drawn.
+     */
+    protected void renderDensity(Graphics2D g2, Rectangle2D dataArea) {
+
+        int x0 = (int) Math.floor(dataArea.getMinX());
+        int y0 = (int) Math.floor(dataArea.getMinY());
+        int width = (int) Math.ceil(dataArea.getMaxX()) - x0;
+        int height = (int) Math.ceil(dataArea.getMaxY()) - y0;
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+
+        // find the pixel for each point...
+        int count = this.data[0].length;
+        int[] pixels = new int[count];
+        int blockSize = Math.max(1, Math.min(count, RENDER_BLOCK_SIZE));
+        double[] xx = new double[blockSize];
+        double[] yy = new double[blockSize];
+        for (int start = 0; start < count; start += blockSize) {
+            int n = Math.min(blockSize, count - start);
+            for (int i = 0; i < n; i++) {
+                xx[i] = this.data[0][start + i];
+                yy[i] = this.data[1][start + i];
+            }
+            this.domainAxis.valuesToJava2D(
+                xx, 0, n, xx, dataArea, RectangleEdge.BOTTOM
+            );
+            this.rangeAxis.valuesToJava2D(
+                yy, 0, n, yy, dataArea, RectangleEdge.LEFT
+            );
+            for (int i = 0; i < n; i++) {
+                double column = Math.floor(xx[i]) - x0;
+                double row = Math.floor(yy[i]) - y0;
+                if (column >= 0 && column < width 
+                        && row >= 0 && row < height) {
+                    pixels[start + i] = (int) row * width + (int) column;
+                }
+                else {
+                    pixels[start + i] = -1;
+                }
+            }
+        }
+
+        // count the points in each pixel...
+        int taskCount = Math.max(1, Math.min(
+                ForkJoinPool.getCommonPoolParallelism(), 
+                count / DENSITY_TASK_SIZE));
+        CountPointsAction[] actions = new CountPointsAction[taskCount];
+        for (int i = 0; i < taskCount; i++) {
+            int start = (int) ((long) count * i / taskCount);
+            int end = (int) ((long) count * (i + 1) / taskCount);
+            actions[i] = new CountPointsAction(pixels, start, end, 
+                    width * height);
+        }
+        if (taskCount == 1) {
+            actions[0].compute();
+        }
+        else {
+            ForkJoinTask.invokeAll(actions);
+        }
+        int[] counts = actions[0].counts;
+        for (int i = 1; i < taskCount; i++) {
+            int[] more = actions[i].counts;
+            for (int j = 0; j < counts.length; j++) {
+                counts[j] += more[j];
+            }
+        }
+        int maxCount = 0;
+        for (int j = 0; j < counts.length; j++) {
+            if (counts[j] > maxCount) {
+                maxCount = counts[j];
+            }
+        }
+        if (maxCount == 0) {
+            return;
+        }
+
+        // color the counts...
+        ColorPalette palette;
+        try {
+            palette = (ColorPalette) this.densityPalette.clone();
+        }
+        catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("Palette cannot be cloned.");
+        }
+        palette.setMinZ(1.0);
+        palette.setMaxZ(maxCount);
+        int[] lookup = new int[Math.min(maxCount, DENSITY_LOOKUP_SIZE) + 1];
+        for (int c = 1; c < lookup.length; c++) {
+            lookup[c] = palette.getRGB(palette.getColorIndex(c));
+        }
+        BufferedImage image = new BufferedImage(width, height, 
+                BufferedImage.TYPE_INT_ARGB);
+        int[] rgb 
+            = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        for (int j = 0; j < counts.length; j++) {
+            int c = counts[j];
+            if (c > 0) {
+                if (c < lookup.length) {
+                    rgb[j] = lookup[c];
+                }
+                else {
+                    rgb[j] = palette.getRGB(palette.getColorIndex(c));
+                }
+            }
+        }
+        g2.drawImage(image, x0, y0, null);
+
+    }
+
+    /**
+     * Counts the points in a range of the data that fall in each pixel.
+     */
+    private static class CountPointsAction extends RecursiveAction {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 5930184127710653825L;
+
+        /** The pixel index for each point (-1 if outside the data area). */
+        private int[] pixels;
+
+        /** The index of the first point. */
+        private int start;
+
+        /** The index after the last point. */
+        private int end;
+
+        /** The size of the count buffer. */
+        private int size;
+
+        /** The number of points in each pixel (row by row). */
+        private int[] counts;
+
+        /**
+         * Creates a new action.
+         *
+         * @param pixels  the pixel index for each point.
+         * @param start  the index of the first point.
+         * @param end  the index after the last point.
+         * @param size  the size of the count buffer.
+         */
+        CountPointsAction(int[] pixels, int start, int end, int size) {
+            this.pixels = pixels;
+            this.start = start;
+            this.end = end;
+            this.size = size;
+        }
+
+        /**
+         * Counts the points.
+         */
+        protected void compute() {
+            this.counts = new int[this.size];
+            for (int i = this.start; i < this.end; i++) {
+                int pixel = this.pixels[i];
+                if (pixel >= 0) {
+                    this.counts[pixel]++;
+                }
+            }
+        }
+
+    }
+
     /**
      * Draws the gridlines for the plot, if they are visible.
      *
@@ -826,6 +1090,12 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot,
         if (!PaintUtilities.equal(this.paint, that.paint)) {
             return false;
         }
+        if (this.renderAsDensity != that.renderAsDensity) {
+            return false;
+        }
+        if (!ObjectUtilities.equal(this.densityPalette, that.densityPalette)) {
+            return false;
+        }
         if (this.domainGridlinesVisible != that.domainGridlinesVisible) {
             return false;
         }
@@ -878,6 +1148,11 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot,
             clone.rangeAxis.setPlot(clone);
             clone.rangeAxis.addChangeListener(clone);
         }
+
+        if (this.densityPalette != null) {
+            clone.densityPalette 
+                = (ColorPalette) this.densityPalette.clone();
+        }
             
         return clone;
         
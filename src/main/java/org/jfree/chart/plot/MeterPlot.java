@@ -76,6 +76,8 @@
  * 08-Jun-2005 : Fixed equals() method to handle GradientPaint (DG);
  * 10-Nov-2005 : Added tickPaint, tickSize and valuePaint attributes, and
  *               put value label drawing code into a separate method (DG);
+ * 18-Oct-2026 : Use fireChangeEvent() so that no event is created when
+ *               there are no listeners;
  * 
  */
 
@@ -269,7 +271,7 @@ public class MeterPlot extends Plot implements Serializable, Cloneable {
             throw new IllegalArgumentException("Null 'shape' argument.");
         }
         this.shape = shape;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -295,7 +297,7 @@ public class MeterPlot extends Plot implements Serializable, Cloneable {
             );
         }
         this.meterAngle = angle;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -324,7 +326,7 @@ public class MeterPlot extends Plot implements Serializable, Cloneable {
             );
         }
         this.range = range;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -347,7 +349,7 @@ public class MeterPlot extends Plot implements Serializable, Cloneable {
             throw new IllegalArgumentException("Requires 'size' > 0.");
         }
         this.tickSize = size;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -370,7 +372,7 @@ public class MeterPlot extends Plot implements Serializable, Cloneable {
             throw new IllegalArgumentException("Null 'paint' argument.");
         }
         this.tickPaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -390,7 +392,7 @@ public class MeterPlot extends Plot implements Serializable, Cloneable {
      */
     public void setUnits(String units) {
         this.units = units;    
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
         
     /**
@@ -413,7 +415,7 @@ public class MeterPlot extends Plot implements Serializable, Cloneable {
             throw new IllegalArgumentException("Null 'paint' argument.");
         }
         this.needlePaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -434,7 +436,7 @@ public class MeterPlot extends Plot implements Serializable, Cloneable {
     public void setTickLabelsVisible(boolean visible) {
         if (this.tickLabelsVisible != visible) {
             this.tickLabelsVisible = visible;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -459,7 +461,7 @@ public class MeterPlot extends Plot implements Serializable, Cloneable {
         }
         if (!this.tickLabelFont.equals(font)) {
             this.tickLabelFont = font;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -484,7 +486,7 @@ public class MeterPlot extends Plot implements Serializable, Cloneable {
         }
         if (!this.tickLabelPaint.equals(paint)) {
             this.tickLabelPaint = paint;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -508,7 +510,7 @@ public class MeterPlot extends Plot implements Serializable, Cloneable {
             throw new IllegalArgumentException("Null 'format' argument.");   
         }
         this.tickLabelFormat = format;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -531,7 +533,7 @@ public class MeterPlot extends Plot implements Serializable, Cloneable {
             throw new IllegalArgumentException("Null 'font' argument.");
         }
         this.valueFont = font;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -554,7 +556,7 @@ public class MeterPlot extends Plot implements Serializable, Cloneable {
             throw new IllegalArgumentException("Null 'paint' argument.");
         }
         this.valuePaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -574,7 +576,7 @@ public class MeterPlot extends Plot implements Serializable, Cloneable {
      */
     public void setDialBackgroundPaint(Paint paint) {
         this.dialBackgroundPaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -594,7 +596,7 @@ public class MeterPlot extends Plot implements Serializable, Cloneable {
      */
     public void setDialOutlinePaint(Paint paint) {
         this.dialOutlinePaint = paint;
-        notifyListeners(new PlotChangeEvent(this));        
+        fireChangeEvent();        
     }
 
     /**
@@ -654,7 +656,7 @@ public class MeterPlot extends Plot implements Serializable, Cloneable {
             throw new IllegalArgumentException("Null 'interval' argument.");
         }
         this.intervals.add(interval);
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -663,7 +665,7 @@ public class MeterPlot extends Plot implements Serializable, Cloneable {
      */
     public void clearIntervals() {
         this.intervals.clear();
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
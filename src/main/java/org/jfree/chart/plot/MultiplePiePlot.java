@@ -42,6 +42,8 @@
  * 16-Jun-2005 : Added get/setDataset() and equals() methods (DG);
  * 06-Apr-2006 : Fixed bug 1190647 - legend and section colors not consistent
  *               when aggregation limit is specified (DG);
+ * 18-Oct-2026 : Use fireChangeEvent() so that no event is created when
+ *               there are no listeners;
  *
  */
 
@@ -204,7 +206,7 @@ public class MultiplePiePlot extends Plot
      */
     public void setPieChart(JFreeChart pieChart) {
         this.pieChart = pieChart;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -227,7 +229,7 @@ public class MultiplePiePlot extends Plot
             throw new IllegalArgumentException("Null 'order' argument");
         }
         this.dataExtractOrder = order;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -248,7 +250,7 @@ public class MultiplePiePlot extends Plot
      */
     public void setLimit(double limit) {
         this.limit = limit;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -276,7 +278,7 @@ public class MultiplePiePlot extends Plot
             throw new IllegalArgumentException("Null 'key' argument.");
         }
         this.aggregatedItemsKey = key;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -304,7 +306,7 @@ public class MultiplePiePlot extends Plot
             throw new IllegalArgumentException("Null 'paint' argument.");
         }
         this.aggregatedItemsPaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -0,0 +1,305 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation,
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------------
+ * ParallelSubplotRenderer.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Added a margin around the tiles and assign the series
+ *               attributes before drawing;
+ *
+ */
+
+package org.jfree.chart.plot;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Paint;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.StandardEntityCollection;
+
+/**
+ * Draws the subplots of a combined plot concurrently.  Each subplot is drawn
+ * on the common fork-join pool into its own image tile, with its own
+ * {@link ChartRenderingInfo} for the entities.  When all the subplots are
+ * done, the tiles are drawn on the target device and the rendering info is
+ * merged back, both in the order of the subplots, so the result does not
+ * depend on the order in which the subplots finish.  Each tile covers the
+ * area of its subplot plus a small margin for outlines that straddle the 
+ * edge of the area, so anything else a subplot draws outside its area is 
+ * clipped.
+ * <P>
+ * The subplots are drawn from several threads at once, so they must not
+ * share renderers or datasets that are modified while the chart is drawn.
+ * Series paints, strokes and shapes that come from the drawing supplier are 
+ * assigned before the subplots are drawn, in the order of the legend items.
+ */
+final class ParallelSubplotRenderer {
+
+    /** The margin (in pixels) added around the area of each tile. */
+    private static final int TILE_MARGIN = 4;
+
+    /**
+     * Private constructor prevents object creation.
+     */
+    private ParallelSubplotRenderer() {
+    }
+
+    /**
+     * Returns <code>true</code> if the subplots can be drawn into tiles for
+     * the given device.  The device transform must not do anything other
+     * than translate, since the tiles are rasterised at one pixel per unit.
+     *
+     * @param g2  the graphics device.
+     * @param subplotCount  the number of subplots.
+     *
+     * @return A boolean.
+     */
+    static boolean isSupported(Graphics2D g2, int subplotCount) {
+        if (subplotCount < 2) {
+            return false;
+        }
+        int type = g2.getTransform().getType();
+        return (type & ~AffineTransform.TYPE_TRANSLATION) == 0;
+    }
+
+    /**
+     * Draws the subplots.  This is equivalent to calling
+     * {@link Plot#draw(Graphics2D, Rectangle2D, Point2D, PlotState,
+     * PlotRenderingInfo)} for each subplot in turn, with a new
+     * {@link PlotRenderingInfo} added to <code>info</code> for each one.
+     *
+     * @param g2  the graphics device.
+     * @param subplots  the subplots.
+     * @param areas  the area for each subplot.
+     * @param anchor  the anchor point (<code>null</code> permitted).
+     * @param parentState  the state from the combined plot.
+     * @param info  collects information about the drawing (<code>null</code>
+     *              permitted).
+     */
+    static void draw(Graphics2D g2, Plot[] subplots, Rectangle2D[] areas,
+                     Point2D anchor, PlotState parentState,
+                     PlotRenderingInfo info) {
+
+        EntityCollection entities = null;
+        if (info != null) {
+            entities = info.getOwner().getEntityCollection();
+        }
+        int n = subplots.length;
+        // the renderers take their series paints, strokes and shapes from
+        // the drawing supplier of the combined plot the first time they are
+        // needed, so fetch the legend items here (as the chart does when it
+        // draws a legend) to assign them in the order of the subplots
+        for (int i = 0; i < n; i++) {
+            subplots[i].getLegendItems();
+        }
+        DrawSubplotAction[] actions = new DrawSubplotAction[n];
+        for (int i = 0; i < n; i++) {
+            PlotRenderingInfo subplotInfo = null;
+            if (info != null) {
+                ChartRenderingInfo owner = new ChartRenderingInfo(
+                    entities != null ? new StandardEntityCollection() : null
+                );
+                subplotInfo = new PlotRenderingInfo(owner);
+            }
+            actions[i] = new DrawSubplotAction(g2, subplots[i], areas[i],
+                    anchor, parentState, subplotInfo);
+        }
+        ForkJoinTask.invokeAll(actions);
+
+        for (int i = 0; i < n; i++) {
+            DrawSubplotAction action = actions[i];
+            if (action.tile != null) {
+                g2.drawImage(action.tile, action.x, action.y, null);
+            }
+            if (info != null) {
+                info.addSubplotInfo(copy(action.info, info.getOwner()));
+                EntityCollection more =
+                    action.info.getOwner().getEntityCollection();
+                if (entities != null && more != null) {
+                    entities.addAll(more);
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Returns a copy of some plot rendering info (including the info for any
+     * subplots) that belongs to a different owner.
+     *
+     * @param info  the info.
+     * @param owner  the new owner.
+     *
+     * @return The copy.
+     */
+    private static PlotRenderingInfo copy(PlotRenderingInfo info,
+                                          ChartRenderingInfo owner) {
+        PlotRenderingInfo result = new PlotRenderingInfo(owner);
+        result.setPlotArea(info.getPlotArea());
+        result.setDataArea(info.getDataArea());
+        for (int i = 0; i < info.getSubplotCount(); i++) {
+            result.addSubplotInfo(copy(info.getSubplotInfo(i), owner));
+        }
+        return result;
+    }
+
+    /**
+     * Draws one subplot into an image tile.
+     */
+    private static class DrawSubplotAction extends RecursiveAction {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -2384563913478227156L;
+
+        /** The subplot. */
+        private Plot plot;
+
+        /** The subplot area. */
+        private Rectangle2D area;
+
+        /** The anchor point. */
+        private Point2D anchor;
+
+        /** The state from the combined plot. */
+        private PlotState parentState;
+
+        /** The rendering info for the subplot (possibly <code>null</code>). */
+        private PlotRenderingInfo info;
+
+        /** The rendering hints for the tile. */
+        private RenderingHints hints;
+
+        /** The initial font for the tile. */
+        private Font font;
+
+        /** The initial paint for the tile. */
+        private Paint paint;
+
+        /** The initial stroke for the tile. */
+        private Stroke stroke;
+
+        /** The background color for the tile. */
+        private Color background;
+
+        /** The clip for the tile (<code>null</code> permitted). */
+        private Shape clip;
+
+        /** 
+         * The tile (<code>null</code> until drawn, or if the area is empty).
+         */
+        private BufferedImage tile;
+
+        /** The x-coordinate of the tile. */
+        private int x;
+
+        /** The y-coordinate of the tile. */
+        private int y;
+
+        /**
+         * Creates a new action.  The state of the graphics device is copied
+         * here, on the calling thread.
+         *
+         * @param g2  the graphics device.
+         * @param plot  the subplot.
+         * @param area  the subplot area.
+         * @param anchor  the anchor point (<code>null</code> permitted).
+         * @param parentState  the state from the combined plot.
+         * @param info  the rendering info for the subplot (<code>null</code>
+         *              permitted).
+         */
+        DrawSubplotAction(Graphics2D g2, Plot plot, Rectangle2D area,
+                          Point2D anchor, PlotState parentState,
+                          PlotRenderingInfo info) {
+            this.hints = (RenderingHints) g2.getRenderingHints().clone();
+            this.font = g2.getFont();
+            this.paint = g2.getPaint();
+            this.stroke = g2.getStroke();
+            this.background = g2.getBackground();
+            this.clip = g2.getClip();
+            this.plot = plot;
+            this.area = area;
+            this.anchor = anchor;
+            this.parentState = parentState;
+            this.info = info;
+            this.x = (int) Math.floor(area.getMinX()) - TILE_MARGIN;
+            this.y = (int) Math.floor(area.getMinY()) - TILE_MARGIN;
+        }
+
+        /**
+         * Draws the subplot.
+         */
+        protected void compute() {
+            if (this.area.isEmpty()) {
+                return;
+            }
+            int width = (int) Math.ceil(this.area.getMaxX()) + TILE_MARGIN 
+                    - this.x;
+            int height = (int) Math.ceil(this.area.getMaxY()) + TILE_MARGIN 
+                    - this.y;
+            BufferedImage image = new BufferedImage(width, height,
+                    BufferedImage.TYPE_INT_ARGB);
+            Graphics2D tileG2 = image.createGraphics();
+            tileG2.setRenderingHints(this.hints);
+            tileG2.setFont(this.font);
+            tileG2.setPaint(this.paint);
+            tileG2.setStroke(this.stroke);
+            tileG2.setBackground(this.background);
+            tileG2.translate(-this.x, -this.y);
+            if (this.clip != null) {
+                tileG2.clip(this.clip);
+            }
+            try {
+                this.plot.draw(tileG2, this.area, this.anchor,
+                        this.parentState, this.info);
+            }
+            finally {
+                tileG2.dispose();
+            }
+            this.tile = image;
+        }
+
+    }
+
+}
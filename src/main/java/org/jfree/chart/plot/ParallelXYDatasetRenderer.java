@@ -0,0 +1,498 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation,
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------------------
+ * ParallelXYDatasetRenderer.java
+ * ------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Require distinct generators, and compare renderers and
+ *               generators by identity.  Check the series and base 
+ *               generators too;
+ *
+ */
+
+package org.jfree.chart.plot;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Paint;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.StandardEntityCollection;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * Renders the datasets of an {@link XYPlot} concurrently.  Each dataset is
+ * rendered on the common fork-join pool into its own transparent image tile,
+ * with its own {@link ChartRenderingInfo} for the entities and its own
+ * {@link CrosshairState}.  When all the datasets are done, the tiles are
+ * drawn on the target device in the dataset rendering order, and the
+ * entities and crosshair updates are merged back in the same order on the
+ * calling thread, so the result is the same as rendering the datasets one
+ * after the other.
+ */
+final class ParallelXYDatasetRenderer {
+
+    /**
+     * Private constructor prevents object creation.
+     */
+    private ParallelXYDatasetRenderer() {
+    }
+
+    /**
+     * Returns <code>true</code> if the datasets of a plot can be rendered
+     * concurrently on the given device.  There must be at least two
+     * non-empty datasets, each with a different renderer (renderers are not
+     * safe to use from two threads at once).  The item label, tooltip and 
+     * URL generators used for a dataset must not be used for any other 
+     * dataset either, since they typically hold a <code>NumberFormat</code>
+     * or <code>DateFormat</code>, which are not thread-safe.  The device 
+     * transform must not do anything other than translate, since the tiles
+     * are rasterised at one pixel per unit.
+     *
+     * @param plot  the plot.
+     * @param g2  the graphics device.
+     *
+     * @return A boolean.
+     */
+    static boolean isSupported(XYPlot plot, Graphics2D g2) {
+        int type = g2.getTransform().getType();
+        if ((type & ~AffineTransform.TYPE_TRANSLATION) != 0) {
+            return false;
+        }
+        Map owners = new IdentityHashMap();
+        int layers = 0;
+        for (int i = 0; i < plot.getDatasetCount(); i++) {
+            XYDataset dataset = plot.getDataset(i);
+            if (DatasetUtilities.isEmptyOrNull(dataset)) {
+                continue;
+            }
+            XYItemRenderer renderer = plot.getRenderer(i);
+            if (renderer == null) {
+                renderer = plot.getRenderer();
+            }
+            if (renderer == null) {
+                continue;
+            }
+            Integer layer = Integer.valueOf(layers);
+            if (!claim(owners, renderer, layer)
+                    || !claimGenerators(owners, renderer, 
+                            dataset.getSeriesCount(), layer)) {
+                return false;
+            }
+            layers++;
+        }
+        return layers > 1;
+    }
+
+    /**
+     * Records the generators used by a renderer for a layer: the URL 
+     * generator, the base item label and tooltip generators, and the 
+     * generators for each series (both the series-level generators and the
+     * ones the renderer actually returns for the series, which may be an
+     * override for all series).  Returns <code>false</code> if any of them 
+     * is already used by another layer.
+     *
+     * @param owners  the layer of each object seen so far (keyed by 
+     *                identity).
+     * @param renderer  the renderer.
+     * @param seriesCount  the number of series in the dataset.
+     * @param layer  the layer.
+     *
+     * @return <code>true</code> if no generator is shared with another 
+     *         layer.
+     */
+    private static boolean claimGenerators(Map owners, 
+            XYItemRenderer renderer, int seriesCount, Integer layer) {
+        if (!claim(owners, renderer.getURLGenerator(), layer)
+                || !claim(owners, renderer.getBaseItemLabelGenerator(), layer)
+                || !claim(owners, renderer.getBaseToolTipGenerator(), layer)) {
+            return false;
+        }
+        for (int s = 0; s < seriesCount; s++) {
+            if (!claim(owners, renderer.getSeriesItemLabelGenerator(s), layer)
+                    || !claim(owners, renderer.getSeriesToolTipGenerator(s), 
+                            layer)
+                    || !claim(owners, renderer.getItemLabelGenerator(s, 0), 
+                            layer)
+                    || !claim(owners, renderer.getToolTipGenerator(s, 0), 
+                            layer)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Records that an object is used to render a layer, and returns 
+     * <code>false</code> if it is already used by another layer.
+     *
+     * @param owners  the layer of each object seen so far (keyed by 
+     *                identity).
+     * @param obj  the object (<code>null</code> is ignored).
+     * @param layer  the layer.
+     *
+     * @return <code>true</code> if the object is not shared with another 
+     *         layer.
+     */
+    private static boolean claim(Map owners, Object obj, Integer layer) {
+        if (obj == null) {
+            return true;
+        }
+        Object owner = owners.put(obj, layer);
+        return owner == null || owner.equals(layer);
+    }
+
+    /**
+     * Renders the datasets of a plot, in the order given by
+     * {@link XYPlot#getDatasetRenderingOrder()}.  This is equivalent to
+     * calling {@link XYPlot#render(Graphics2D, Rectangle2D, int,
+     * PlotRenderingInfo, CrosshairState)} for each dataset in turn.
+     *
+     * @param plot  the plot.
+     * @param g2  the graphics device.
+     * @param dataArea  the region in which the data is to be drawn.
+     * @param info  an optional object for collection dimension information.
+     * @param crosshairState  collects crosshair information.
+     *
+     * @return A flag that indicates whether any data was actually rendered.
+     */
+    static boolean render(XYPlot plot, Graphics2D g2, Rectangle2D dataArea,
+                          PlotRenderingInfo info,
+                          CrosshairState crosshairState) {
+
+        EntityCollection entities = null;
+        if (info != null) {
+            entities = info.getOwner().getEntityCollection();
+        }
+        List actions = new ArrayList();
+        int count = plot.getDatasetCount();
+        boolean reverse
+            = plot.getDatasetRenderingOrder() == DatasetRenderingOrder.REVERSE;
+        for (int j = 0; j < count; j++) {
+            int i = reverse ? count - 1 - j : j;
+            if (DatasetUtilities.isEmptyOrNull(plot.getDataset(i))) {
+                continue;
+            }
+            PlotRenderingInfo layerInfo = null;
+            if (info != null) {
+                ChartRenderingInfo owner = new ChartRenderingInfo(
+                    entities != null ? new StandardEntityCollection() : null
+                );
+                layerInfo = new PlotRenderingInfo(owner);
+                layerInfo.setPlotArea(info.getPlotArea());
+                layerInfo.setDataArea(info.getDataArea());
+            }
+            actions.add(new RenderDatasetAction(g2, plot, dataArea, i,
+                    layerInfo, crosshairState));
+        }
+        ForkJoinTask.invokeAll(actions);
+
+        boolean foundData = false;
+        Composite originalComposite = g2.getComposite();
+        g2.setComposite(AlphaComposite.SrcOver);
+        for (int j = 0; j < actions.size(); j++) {
+            RenderDatasetAction action = (RenderDatasetAction) actions.get(j);
+            foundData = action.foundData || foundData;
+            if (action.tile != null) {
+                g2.drawImage(action.tile, action.x, action.y, null);
+            }
+            action.crosshairState.mergeInto(crosshairState);
+            if (entities != null) {
+                EntityCollection more
+                    = action.info.getOwner().getEntityCollection();
+                entities.addAll(more);
+            }
+        }
+        g2.setComposite(originalComposite);
+        return foundData;
+
+    }
+
+    /**
+     * Renders one dataset into an image tile.
+     */
+    private static class RenderDatasetAction extends RecursiveAction {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 7021938357762871106L;
+
+        /** The plot. */
+        private XYPlot plot;
+
+        /** The data area. */
+        private Rectangle2D dataArea;
+
+        /** The dataset index. */
+        private int index;
+
+        /** The rendering info for the dataset (possibly <code>null</code>). */
+        private PlotRenderingInfo info;
+
+        /** The crosshair state for the dataset. */
+        private RecordingCrosshairState crosshairState;
+
+        /** The rendering hints for the tile. */
+        private RenderingHints hints;
+
+        /** The initial font for the tile. */
+        private Font font;
+
+        /** The initial paint for the tile. */
+        private Paint paint;
+
+        /** The initial stroke for the tile. */
+        private Stroke stroke;
+
+        /** The background color for the tile. */
+        private Color background;
+
+        /** The composite for the tile. */
+        private Composite composite;
+
+        /** The clip for the tile (<code>null</code> permitted). */
+        private Shape clip;
+
+        /** The x-coordinate of the tile. */
+        private int x;
+
+        /** The y-coordinate of the tile. */
+        private int y;
+
+        /** The tile (<code>null</code> until rendered). */
+        private BufferedImage tile;
+
+        /** A flag that indicates whether any data was rendered. */
+        private boolean foundData;
+
+        /**
+         * Creates a new action.  The state of the graphics device is copied
+         * here, on the calling thread.
+         *
+         * @param g2  the graphics device.
+         * @param plot  the plot.
+         * @param dataArea  the data area.
+         * @param index  the dataset index.
+         * @param info  the rendering info for the dataset (<code>null</code>
+         *              permitted).
+         * @param crosshairState  the crosshair state for the plot.
+         */
+        RenderDatasetAction(Graphics2D g2, XYPlot plot, Rectangle2D dataArea,
+                            int index, PlotRenderingInfo info,
+                            CrosshairState crosshairState) {
+            this.plot = plot;
+            this.dataArea = dataArea;
+            this.index = index;
+            this.info = info;
+            this.crosshairState = new RecordingCrosshairState(crosshairState);
+            this.hints = (RenderingHints) g2.getRenderingHints().clone();
+            this.font = g2.getFont();
+            this.paint = g2.getPaint();
+            this.stroke = g2.getStroke();
+            this.background = g2.getBackground();
+            this.composite = g2.getComposite();
+            this.clip = g2.getClip();
+            this.x = (int) Math.floor(dataArea.getMinX());
+            this.y = (int) Math.floor(dataArea.getMinY());
+        }
+
+        /**
+         * Renders the dataset.
+         */
+        protected void compute() {
+            int width = (int) Math.ceil(this.dataArea.getMaxX()) - this.x;
+            int height = (int) Math.ceil(this.dataArea.getMaxY()) - this.y;
+            if (width <= 0 || height <= 0) {
+                return;
+            }
+            BufferedImage image = new BufferedImage(width, height,
+                    BufferedImage.TYPE_INT_ARGB);
+            Graphics2D tileG2 = image.createGraphics();
+            tileG2.setRenderingHints(this.hints);
+            tileG2.setFont(this.font);
+            tileG2.setPaint(this.paint);
+            tileG2.setStroke(this.stroke);
+            tileG2.setBackground(this.background);
+            tileG2.setComposite(this.composite);
+            tileG2.translate(-this.x, -this.y);
+            if (this.clip != null) {
+                tileG2.clip(this.clip);
+            }
+            try {
+                this.foundData = this.plot.render(tileG2, this.dataArea,
+                        this.index, this.info, this.crosshairState);
+            }
+            finally {
+                tileG2.dispose();
+            }
+            this.tile = image;
+        }
+
+    }
+
+    /**
+     * A crosshair state that starts from a copy of the plot's state and
+     * records every update it accepts.  Replaying the recorded updates
+     * against the plot's state, in the dataset rendering order, gives the
+     * same result as if every item had updated the plot's state directly:
+     * an update that beats the closest point seen so far in the plot's state
+     * must also have beaten the closest point seen so far in its own
+     * dataset.
+     */
+    private static class RecordingCrosshairState extends CrosshairState {
+
+        /** An update of both the x and y values. */
+        private static final int POINT = 0;
+
+        /** An update of the x value. */
+        private static final int X = 1;
+
+        /** An update of the y value. */
+        private static final int Y = 2;
+
+        /** The accepted updates (kind, x, y, distance). */
+        private List updates = new ArrayList();
+
+        /**
+         * Creates a new state with the same anchor and starting values as
+         * the plot's state.
+         *
+         * @param state  the plot's state.
+         */
+        RecordingCrosshairState(CrosshairState state) {
+            setAnchor(state.getAnchor());
+            setCrosshairX(state.getCrosshairX());
+            setCrosshairY(state.getCrosshairY());
+            setCrosshairDistance(state.getCrosshairDistance());
+        }
+
+        /**
+         * Updates the crosshair point, recording the update if it is
+         * accepted.
+         *
+         * @param x  the x-value.
+         * @param y  the y-value.
+         * @param transX  the x-value in Java2D space.
+         * @param transY  the y-value in Java2D space.
+         * @param orientation  the plot orientation.
+         */
+        public void updateCrosshairPoint(double x, double y, double transX,
+                                         double transY,
+                                         PlotOrientation orientation) {
+            double d = getCrosshairDistance();
+            super.updateCrosshairPoint(x, y, transX, transY, orientation);
+            if (getCrosshairDistance() != d) {
+                record(POINT);
+            }
+        }
+
+        /**
+         * Updates the crosshair x-value, recording the update if it is
+         * accepted.
+         *
+         * @param candidateX  the candidate x-value.
+         */
+        public void updateCrosshairX(double candidateX) {
+            double d = getCrosshairDistance();
+            super.updateCrosshairX(candidateX);
+            if (getCrosshairDistance() != d) {
+                record(X);
+            }
+        }
+
+        /**
+         * Updates the crosshair y-value, recording the update if it is
+         * accepted.
+         *
+         * @param candidateY  the candidate y-value.
+         */
+        public void updateCrosshairY(double candidateY) {
+            double d = getCrosshairDistance();
+            super.updateCrosshairY(candidateY);
+            if (getCrosshairDistance() != d) {
+                record(Y);
+            }
+        }
+
+        /**
+         * Records the current values as an accepted update.
+         *
+         * @param kind  the kind of update.
+         */
+        private void record(int kind) {
+            this.updates.add(new double[] {kind, getCrosshairX(),
+                    getCrosshairY(), getCrosshairDistance()});
+        }
+
+        /**
+         * Replays the recorded updates against another state.
+         *
+         * @param state  the state.
+         */
+        void mergeInto(CrosshairState state) {
+            for (int i = 0; i < this.updates.size(); i++) {
+                double[] update = (double[]) this.updates.get(i);
+                if (update[3] < state.getCrosshairDistance()) {
+                    int kind = (int) update[0];
+                    if (kind != Y) {
+                        state.setCrosshairX(update[1]);
+                    }
+                    if (kind != X) {
+                        state.setCrosshairY(update[2]);
+                    }
+                    state.setCrosshairDistance(update[3]);
+                }
+            }
+        }
+
+    }
+
+}
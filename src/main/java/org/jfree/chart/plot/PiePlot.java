@@ -127,6 +127,8 @@
  * 08-Jun-2005 : Fixed bug in getLegendItems() method (not respecting flags
  *               for ignoring null and zero values), and fixed equals() method 
  *               to handle GradientPaint (DG);
+ * 18-Oct-2026 : Use fireChangeEvent() so that no event is created when
+ *               there are no listeners;
  * 
  */
 
@@ -551,7 +553,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
      */
     public void setStartAngle(double angle) {
         this.startAngle = angle;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -575,7 +577,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
             throw new IllegalArgumentException("Null 'direction' argument.");
         }
         this.direction = direction;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
 
     }
 
@@ -610,7 +612,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
     public void setCircular(boolean circular, boolean notify) {
         this.circular = circular;
         if (notify) {
-            notifyListeners(new PlotChangeEvent(this));   
+            fireChangeEvent();   
         }
     }
 
@@ -634,7 +636,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
      */
     public void setIgnoreNullValues(boolean flag) {
         this.ignoreNullValues = flag;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -657,7 +659,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
      */
     public void setIgnoreZeroValues(boolean flag) {
         this.ignoreZeroValues = flag;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     //// SECTION PAINT ////////////////////////////////////////////////////////
@@ -680,7 +682,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
      */
     public void setSectionPaint(Paint paint) {
         this.sectionPaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -723,7 +725,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
      */
     public void setSectionPaint(int section, Paint paint) {
         this.sectionPaintList.setPaint(section, paint);
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -746,7 +748,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
             throw new IllegalArgumentException("Null 'paint' argument.");   
         }
         this.baseSectionPaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     //// SECTION OUTLINE PAINT ////////////////////////////////////////////////
@@ -771,7 +773,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
      */
     public void setSectionOutlinesVisible(boolean visible) {
         this.sectionOutlinesVisible = visible;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -792,7 +794,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
      */
     public void setSectionOutlinePaint(Paint paint) {
         this.sectionOutlinePaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -827,7 +829,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
      */
     public void setSectionOutlinePaint(int section, Paint paint) {
         this.sectionOutlinePaintList.setPaint(section, paint);
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -850,7 +852,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
             throw new IllegalArgumentException("Null 'paint' argument.");   
         }
         this.baseSectionOutlinePaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     //// SECTION OUTLINE STROKE ///////////////////////////////////////////////
@@ -873,7 +875,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
      */
     public void setSectionOutlineStroke(Stroke stroke) {
         this.sectionOutlineStroke = stroke;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -908,7 +910,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
      */
     public void setSectionOutlineStroke(int section, Stroke stroke) {
         this.sectionOutlineStrokeList.setStroke(section, stroke);
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -931,7 +933,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
             throw new IllegalArgumentException("Null 'stroke' argument.");   
         }
         this.baseSectionOutlineStroke = stroke;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -951,7 +953,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
      */
     public void setShadowPaint(Paint paint) {
         this.shadowPaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -971,7 +973,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
      */
     public void setShadowXOffset(double offset) {
         this.shadowXOffset = offset;   
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -991,7 +993,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
      */
     public void setShadowYOffset(double offset) {
         this.shadowYOffset = offset;   
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -1024,7 +1026,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
             this.explodePercentages = new ObjectList();
         }
         this.explodePercentages.set(section, new Double(percent));
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -1060,7 +1062,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
      */
     public void setLabelGenerator(PieSectionLabelGenerator generator) {
         this.labelGenerator = generator;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -1082,7 +1084,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
      */
     public void setLabelGap(double gap) {
         this.labelGap = gap;   
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -1102,7 +1104,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
      */
     public void setMaximumLabelWidth(double width) {
         this.maximumLabelWidth = width;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -1126,7 +1128,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
      */
     public void setLabelLinksVisible(boolean visible) {
         this.labelLinksVisible = visible;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -1147,7 +1149,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
      */
     public void setLabelLinkMargin(double margin) {
         this.labelLinkMargin = margin;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -1172,7 +1174,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
             throw new IllegalArgumentException("Null 'paint' argument.");
         }
         this.labelLinkPaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -1195,7 +1197,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
             throw new IllegalArgumentException("Null 'stroke' argument.");
         }
         this.labelLinkStroke = stroke;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -1218,7 +1220,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
             throw new IllegalArgumentException("Null 'font' argument.");
         }
         this.labelFont = font;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1241,7 +1243,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
             throw new IllegalArgumentException("Null 'paint' argument.");
         }
         this.labelPaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1261,7 +1263,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
      */
     public void setLabelBackgroundPaint(Paint paint) {
         this.labelBackgroundPaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1281,7 +1283,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
      */
     public void setLabelOutlinePaint(Paint paint) {
         this.labelOutlinePaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1301,7 +1303,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
      */
     public void setLabelOutlineStroke(Stroke stroke) {
         this.labelOutlineStroke = stroke;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1321,7 +1323,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
      */
     public void setLabelShadowPaint(Paint paint) {
         this.labelShadowPaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1344,7 +1346,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
      */
     public void setToolTipGenerator(PieToolTipGenerator generator) {
         this.toolTipGenerator = generator;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1364,7 +1366,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
      */
     public void setURLGenerator(PieURLGenerator generator) {
         this.urlGenerator = generator;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1416,7 +1418,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
             throw new IllegalArgumentException("Null 'shape' argument.");
         }
         this.legendItemShape = shape;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -1437,7 +1439,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
     public void setLegendLabelToolTipGenerator(
             PieSectionLabelGenerator generator) {
         this.legendLabelToolTipGenerator = generator;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -1460,7 +1462,7 @@ public class PiePlot extends Plot implements Block, Cloneable, Serializable {
             throw new IllegalArgumentException("Null 'generator' argument.");
         }
         this.legendLabelGenerator = generator;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -111,6 +111,13 @@
  * 05-May-2005 : Removed unused draw() method (DG);
  * 06-Jun-2005 : Fixed bugs in equals() method (DG);
  * 01-Sep-2005 : Moved dataAreaRatio from here to ContourPlot (DG);
+ * 18-Oct-2026 : Added beginUpdate(), endUpdate() and an optional event
+ *               throttle;
+ * 18-Oct-2026 : Replaced EventListenerList with a copy-on-write array of
+ *               listeners, and only create events if there are
+ *               listeners;
+ *               added fireChangeEvent();
+ * 19-Oct-2026 : Remove listeners by identity, as EventListenerList did;
  *
  */
 
@@ -131,8 +138,8 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.EventObject;
 
-import javax.swing.event.EventListenerList;
 
 import org.jfree.chart.LegendItemCollection;
 import org.jfree.chart.LegendItemSource;
@@ -143,9 +150,11 @@ import org.jfree.chart.event.AxisChangeListener;
 import org.jfree.chart.event.ChartChangeEventType;
 import org.jfree.chart.event.PlotChangeEvent;
 import org.jfree.chart.event.PlotChangeListener;
+import org.jfree.data.general.ChangeEventCoalescer;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.DatasetChangeListener;
 import org.jfree.data.general.DatasetGroup;
+import org.jfree.data.general.EventThrottle;
 import org.jfree.io.SerialUtilities;
 import org.jfree.text.G2TextMeasurer;
 import org.jfree.text.TextBlock;
@@ -235,15 +244,28 @@ public abstract class Plot extends AbstractContentBlock
     /** The drawing supplier. */
     private DrawingSupplier drawingSupplier;
 
-    /** Storage for registered change listeners. */
-    private transient EventListenerList listenerList;
+    /** An empty array of listeners. */
+    private static final PlotChangeListener[] NO_LISTENERS 
+        = new PlotChangeListener[0];
+
+    /** 
+     * The registered change listeners, most recently added last.  The array
+     * is replaced (never modified) when a listener is added or removed, so
+     * events can be sent without locking or copying.
+     */
+    private transient volatile PlotChangeListener[] listeners = NO_LISTENERS;
+
+    /** The lock for adding and removing listeners. */
+    private transient Object listenerLock = new Object();
+
+    /** Combines the change events (<code>null</code> until needed). */
+    private transient volatile ChangeEventCoalescer coalescer;
 
     /**
      * Creates a new plot with default settings.
      */
     protected Plot() {
         this.parent = null;
-        this.listenerList = new EventListenerList();
         setMargin(DEFAULT_MARGIN);
         setBackgroundPaint(DEFAULT_BACKGROUND_PAINT);
         this.backgroundAlpha = DEFAULT_BACKGROUND_ALPHA;
@@ -254,8 +276,6 @@ public abstract class Plot extends AbstractContentBlock
         this.noDataMessagePaint = Color.black;
         this.drawingSupplier = new DefaultDrawingSupplier();
 
-        this.listenerList = new EventListenerList();
-
     }
 
     /**
@@ -406,7 +426,7 @@ public abstract class Plot extends AbstractContentBlock
     public void setBackgroundPaint(Paint paint, boolean notify) {
         super.setBackgroundPaint(paint);
         if (notify) {
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -418,7 +438,7 @@ public abstract class Plot extends AbstractContentBlock
      */
     public void setInteriorBackgroundPaint(Paint paint) {
         super.setInteriorBackgroundPaint(paint);
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -440,7 +460,7 @@ public abstract class Plot extends AbstractContentBlock
 
         if (this.backgroundAlpha != alpha) {
             this.backgroundAlpha = alpha;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
 
     }
@@ -472,7 +492,7 @@ public abstract class Plot extends AbstractContentBlock
      */
     public void setDrawingSupplier(DrawingSupplier supplier) {
         this.drawingSupplier = supplier;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -492,7 +512,7 @@ public abstract class Plot extends AbstractContentBlock
      */
     public void setBackgroundImage(Image image) {
         this.backgroundImage = image;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -517,7 +537,7 @@ public abstract class Plot extends AbstractContentBlock
     public void setBackgroundImageAlignment(int alignment) {
         if (this.backgroundImageAlignment != alignment) {
             this.backgroundImageAlignment = alignment;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -539,7 +559,7 @@ public abstract class Plot extends AbstractContentBlock
 
         if (this.foregroundAlpha != alpha) {
             this.foregroundAlpha = alpha;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
 
     }
@@ -556,21 +576,56 @@ public abstract class Plot extends AbstractContentBlock
     }
 
     /**
-     * Registers an object for notification of changes to the plot.
+     * Registers an object to receive notification of changes to the plot.
      *
-     * @param listener  the object to be registered.
+     * @param listener  the object to register (<code>null</code> is 
+     *                  ignored).
      */
     public void addChangeListener(PlotChangeListener listener) {
-        this.listenerList.add(PlotChangeListener.class, listener);
+        if (listener == null) {
+            return;
+        }
+        synchronized (this.listenerLock) {
+            PlotChangeListener[] current = this.listeners;
+            PlotChangeListener[] updated 
+                = new PlotChangeListener[current.length + 1];
+            System.arraycopy(current, 0, updated, 0, current.length);
+            updated[current.length] = listener;
+            this.listeners = updated;
+        }
     }
 
     /**
-     * Unregisters an object for notification of changes to the plot.
+     * Deregisters an object so that it no longer receives notification of 
+     * changes to the plot.
      *
-     * @param listener  the object to be unregistered.
+     * @param listener  the object to deregister.
      */
     public void removeChangeListener(PlotChangeListener listener) {
-        this.listenerList.remove(PlotChangeListener.class, listener);
+        synchronized (this.listenerLock) {
+            PlotChangeListener[] current = this.listeners;
+            for (int i = current.length - 1; i >= 0; i--) {
+                if (current[i] == listener) {
+                    PlotChangeListener[] updated 
+                        = new PlotChangeListener[current.length - 1];
+                    System.arraycopy(current, 0, updated, 0, i);
+                    System.arraycopy(current, i + 1, updated, i, 
+                            updated.length - i);
+                    this.listeners = updated;
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Sends a {@link PlotChangeEvent} to all registered listeners.  No event
+     * is created if there are no listeners.
+     */
+    protected void fireChangeEvent() {
+        if (this.listeners.length > 0) {
+            notifyListeners(new PlotChangeEvent(this));
+        }
     }
 
     /**
@@ -579,16 +634,91 @@ public abstract class Plot extends AbstractContentBlock
      * @param event  information about the change event.
      */
     public void notifyListeners(PlotChangeEvent event) {
+        ChangeEventCoalescer c = this.coalescer;
+        if (c != null) {
+            c.post(event);
+        }
+        else {
+            dispatchPlotChanged(event);
+        }
+    }
 
-        Object[] listeners = this.listenerList.getListenerList();
-        for (int i = listeners.length - 2; i >= 0; i -= 2) {
-            if (listeners[i] == PlotChangeListener.class) {
-                ((PlotChangeListener) listeners[i + 1]).plotChanged(event);
-            }
+    /**
+     * Sends an event to all registered listeners.
+     *
+     * @param event  the event.
+     */
+    private void dispatchPlotChanged(PlotChangeEvent event) {
+
+        PlotChangeListener[] current = this.listeners;
+        for (int i = current.length - 1; i >= 0; i--) {
+            current[i].plotChanged(event);
         }
 
     }
 
+    /**
+     * Starts an update of the plot.  Change events are held back until the
+     * matching call to {@link #endUpdate()}, and then a single event is 
+     * sent.  Updates can be nested.
+     */
+    public void beginUpdate() {
+        getChangeEventCoalescer().beginUpdate();
+    }
+
+    /**
+     * Ends an update of the plot (see {@link #beginUpdate()}), sending 
+     * the most recent change event that was held back when the outermost 
+     * update ends.
+     *
+     * @throws IllegalStateException if there is no update in progress.
+     */
+    public void endUpdate() {
+        getChangeEventCoalescer().endUpdate();
+    }
+
+    /**
+     * Returns the throttle for the change events sent by the plot.
+     *
+     * @return The throttle (possibly <code>null</code>).
+     */
+    public EventThrottle getEventThrottle() {
+        ChangeEventCoalescer c = this.coalescer;
+        return (c != null ? c.getThrottle() : null);
+    }
+
+    /**
+     * Sets the throttle for the change events sent by the plot.  With a 
+     * throttle, a burst of changes results in a single event, and events are
+     * sent at most once per interval on the throttle's thread.  With no
+     * throttle (the default), every change sends an event immediately.
+     *
+     * @param throttle  the throttle (<code>null</code> permitted).
+     */
+    public void setEventThrottle(EventThrottle throttle) {
+        if (throttle == null && this.coalescer == null) {
+            return;
+        }
+        getChangeEventCoalescer().setThrottle(throttle);
+    }
+
+    /**
+     * Returns the object that combines the change events, creating it if 
+     * necessary.
+     *
+     * @return The coalescer.
+     */
+    private synchronized ChangeEventCoalescer getChangeEventCoalescer() {
+        if (this.coalescer == null) {
+            this.coalescer = new ChangeEventCoalescer() {
+                protected void dispatch(EventObject event) {
+                    dispatchPlotChanged((PlotChangeEvent) event);
+                }
+            };
+        }
+        return this.coalescer;
+    }
+
     /**
      * Draws the plot within the specified area.
      * 
@@ -752,7 +882,7 @@ public abstract class Plot extends AbstractContentBlock
      * @param event  information about the event (not used here).
      */
     public void axisChanged(AxisChangeEvent event) {
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -884,7 +1014,9 @@ public abstract class Plot extends AbstractContentBlock
         }
         clone.drawingSupplier 
             = (DrawingSupplier) ObjectUtilities.clone(this.drawingSupplier);
-        clone.listenerList = new EventListenerList();
+        clone.listeners = NO_LISTENERS;
+        clone.listenerLock = new Object();
+        clone.coalescer = null;
         return clone;
 
     }
@@ -915,7 +1047,8 @@ public abstract class Plot extends AbstractContentBlock
         stream.defaultReadObject();
         this.noDataMessagePaint = SerialUtilities.readPaint(stream);
         // backgroundImage
-        this.listenerList = new EventListenerList();
+        this.listeners = NO_LISTENERS;
+        this.listenerLock = new Object();
     }
 
     /**
@@ -39,6 +39,8 @@
  * 07-Apr-2004 : Changed text bounds calculation (DG);
  * 09-Jun-2005 : Fixed getDataRange() and equals() methods (DG);
  * 25-Oct-2005 : Implemented Zoomable (DG);
+ * 18-Oct-2026 : Use fireChangeEvent() so that no event is created when
+ *               there are no listeners;
  *
  */
 
@@ -254,7 +256,7 @@ public class PolarPlot extends Plot
             throw new IllegalArgumentException("Null 'text' argument.");
         }
         this.cornerTextItems.add(text);
-        this.notifyListeners(new PlotChangeEvent(this));
+        this.fireChangeEvent();
     }
    
     /**
@@ -265,7 +267,7 @@ public class PolarPlot extends Plot
     public void removeCornerTextItem(String text) {
         boolean removed = this.cornerTextItems.remove(text);
         if (removed) {
-            this.notifyListeners(new PlotChangeEvent(this));        
+            this.fireChangeEvent();        
         }
     }
    
@@ -275,7 +277,7 @@ public class PolarPlot extends Plot
     public void clearCornerTextItems() {
         if (this.cornerTextItems.size() > 0) {
             this.cornerTextItems.clear();
-            this.notifyListeners(new PlotChangeEvent(this));        
+            this.fireChangeEvent();        
         }
     }
    
@@ -318,7 +320,7 @@ public class PolarPlot extends Plot
             this.axis.configure();
             this.axis.addChangeListener(this);
         }
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
    
     /**
@@ -383,7 +385,7 @@ public class PolarPlot extends Plot
             this.renderer.setPlot(this);
         }
        
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
    
     /**
@@ -404,7 +406,7 @@ public class PolarPlot extends Plot
     public void setAngleLabelsVisible(boolean visible) {
         if (this.angleLabelsVisible != visible) {
             this.angleLabelsVisible = visible;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
     
@@ -428,7 +430,7 @@ public class PolarPlot extends Plot
             throw new IllegalArgumentException("Null 'font' argument.");   
         }
         this.angleLabelFont = font;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -448,7 +450,7 @@ public class PolarPlot extends Plot
      */
     public void setAngleLabelPaint(Paint paint) {
         this.angleLabelPaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -473,7 +475,7 @@ public class PolarPlot extends Plot
     public void setAngleGridlinesVisible(boolean visible) {
         if (this.angleGridlinesVisible != visible) {
             this.angleGridlinesVisible = visible;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
    
@@ -496,7 +498,7 @@ public class PolarPlot extends Plot
      */
     public void setAngleGridlineStroke(Stroke stroke) {
         this.angleGridlineStroke = stroke;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -518,7 +520,7 @@ public class PolarPlot extends Plot
      */
     public void setAngleGridlinePaint(Paint paint) {
         this.angleGridlinePaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -543,7 +545,7 @@ public class PolarPlot extends Plot
     public void setRadiusGridlinesVisible(boolean visible) {
         if (this.radiusGridlinesVisible != visible) {
             this.radiusGridlinesVisible = visible;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
    
@@ -566,7 +568,7 @@ public class PolarPlot extends Plot
      */
     public void setRadiusGridlineStroke(Stroke stroke) {
         this.radiusGridlineStroke = stroke;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -588,7 +590,7 @@ public class PolarPlot extends Plot
      */
     public void setRadiusGridlinePaint(Paint paint) {
         this.radiusGridlinePaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -888,7 +890,7 @@ public class PolarPlot extends Plot
      * @param event  information about the property change.
      */
     public void rendererChanged(RendererChangeEvent event) {
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
    
     /**
@@ -41,6 +41,8 @@
  * 06-Jun-2005 : Added default constructor and fixed equals() method to handle
  *               GradientPaint (DG);
  * 20-Dec-2005 : Fixed problem with entity shape (bug 1386328) (DG);
+ * 18-Oct-2026 : Use fireChangeEvent() so that no event is created when
+ *               there are no listeners;
  * 
  */
 
@@ -154,7 +156,7 @@ public class RingPlot extends PiePlot implements Cloneable, Serializable {
      */
     public void setSectionSeparatorsVisible(boolean visible) {
         this.sectionSeparatorsVisible = visible;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -176,7 +178,7 @@ public class RingPlot extends PiePlot implements Cloneable, Serializable {
             throw new IllegalArgumentException("Null 'stroke' argument.");
         }
         this.separatorStroke = stroke;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -198,7 +200,7 @@ public class RingPlot extends PiePlot implements Cloneable, Serializable {
             throw new IllegalArgumentException("Null 'paint' argument.");
         }
         this.separatorPaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -222,7 +224,7 @@ public class RingPlot extends PiePlot implements Cloneable, Serializable {
      */
     public void setInnerSeparatorExtension(double percent) {
         this.innerSeparatorExtension = percent;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -246,7 +248,7 @@ public class RingPlot extends PiePlot implements Cloneable, Serializable {
      */
     public void setOuterSeparatorExtension(double percent) {
         this.outerSeparatorExtension = percent;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -54,6 +54,8 @@
  *               1462727 (DG);
  * 05-Apr-2006 : Added support for mouse clicks, tool tips and URLs - see patch
  *               1463455 (DG);
+ * 18-Oct-2026 : Use fireChangeEvent() so that no event is created when
+ *               there are no listeners;
  *
  */
 
@@ -362,7 +364,7 @@ public class SpiderWebPlot extends Plot
      */
     public void setWebFilled(boolean flag) {
         this.webFilled = flag;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
   
     /**
@@ -385,7 +387,7 @@ public class SpiderWebPlot extends Plot
             throw new IllegalArgumentException("Null 'order' argument");
         }
         this.dataExtractOrder = order;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -405,7 +407,7 @@ public class SpiderWebPlot extends Plot
      */
     public void setHeadPercent(double percent) {
         this.headPercent = percent;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -432,7 +434,7 @@ public class SpiderWebPlot extends Plot
      */
     public void setStartAngle(double angle) {
         this.startAngle = angle;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -452,7 +454,7 @@ public class SpiderWebPlot extends Plot
      */
     public void setMaxValue(double value) {
         this.maxValue = value;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -476,7 +478,7 @@ public class SpiderWebPlot extends Plot
             throw new IllegalArgumentException("Null 'direction' argument.");
         }
         this.direction = direction;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -503,7 +505,7 @@ public class SpiderWebPlot extends Plot
         }
         if (this.interiorGap != percent) {
             this.interiorGap = percent;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -524,7 +526,7 @@ public class SpiderWebPlot extends Plot
      */
     public void setAxisLabelGap(double gap) {
         this.axisLabelGap = gap;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     //// SERIES PAINT /////////////////////////
@@ -547,7 +549,7 @@ public class SpiderWebPlot extends Plot
      */
     public void setSeriesPaint(Paint paint) {
         this.seriesPaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -590,7 +592,7 @@ public class SpiderWebPlot extends Plot
      */
     public void setSeriesPaint(int series, Paint paint) {
         this.seriesPaintList.setPaint(series, paint);
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -613,7 +615,7 @@ public class SpiderWebPlot extends Plot
             throw new IllegalArgumentException("Null 'paint' argument.");
         }
         this.baseSeriesPaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     //// SERIES OUTLINE PAINT ////////////////////////////
@@ -636,7 +638,7 @@ public class SpiderWebPlot extends Plot
      */
     public void setSeriesOutlinePaint(Paint paint) {
         this.seriesOutlinePaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -668,7 +670,7 @@ public class SpiderWebPlot extends Plot
      */
     public void setSeriesOutlinePaint(int series, Paint paint) {
         this.seriesOutlinePaintList.setPaint(series, paint);
-        notifyListeners(new PlotChangeEvent(this));  
+        fireChangeEvent();  
     }
 
     /**
@@ -691,7 +693,7 @@ public class SpiderWebPlot extends Plot
             throw new IllegalArgumentException("Null 'paint' argument.");
         }
         this.baseSeriesOutlinePaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     //// SERIES OUTLINE STROKE /////////////////////
@@ -714,7 +716,7 @@ public class SpiderWebPlot extends Plot
      */
     public void setSeriesOutlineStroke(Stroke stroke) {
         this.seriesOutlineStroke = stroke;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -749,7 +751,7 @@ public class SpiderWebPlot extends Plot
      */
     public void setSeriesOutlineStroke(int series, Stroke stroke) {
         this.seriesOutlineStrokeList.setStroke(series, stroke);
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -772,7 +774,7 @@ public class SpiderWebPlot extends Plot
             throw new IllegalArgumentException("Null 'stroke' argument.");
         }
         this.baseSeriesOutlineStroke = stroke;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -794,7 +796,7 @@ public class SpiderWebPlot extends Plot
             throw new IllegalArgumentException("Null 'shape' argument.");
         }
         this.legendItemShape = shape;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -817,7 +819,7 @@ public class SpiderWebPlot extends Plot
             throw new IllegalArgumentException("Null 'font' argument.");
         }
         this.labelFont = font;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -840,7 +842,7 @@ public class SpiderWebPlot extends Plot
             throw new IllegalArgumentException("Null 'paint' argument.");
         }
         this.labelPaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -890,7 +892,7 @@ public class SpiderWebPlot extends Plot
      */
     public void setToolTipGenerator(CategoryToolTipGenerator generator) {
         this.toolTipGenerator = generator;
-        this.notifyListeners(new PlotChangeEvent(this));
+        this.fireChangeEvent();
     }
     
     /**
@@ -918,7 +920,7 @@ public class SpiderWebPlot extends Plot
      */
     public void setURLGenerator(CategoryURLGenerator generator) {
         this.urlGenerator = generator;
-        this.notifyListeners(new PlotChangeEvent(this));
+        this.fireChangeEvent();
     }
     
     /**
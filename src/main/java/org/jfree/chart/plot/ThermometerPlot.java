@@ -70,6 +70,8 @@
  * 29-Mar-2005 : Fixed equals() method (DG);
  * 09-Jun-2005 : Fixed more bugs in equals() method (DG);
  * 10-Jun-2005 : Fixed minor bug in setDisplayRange() method (DG);
+ * 18-Oct-2026 : Use fireChangeEvent() so that no event is created when
+ *               there are no listeners;
  * 
  */
 
@@ -105,7 +107,6 @@ import org.jfree.chart.block.ArrangeParams;
 import org.jfree.chart.block.ArrangeResult;
 import org.jfree.chart.block.Block;
 import org.jfree.chart.block.RectangleConstraint;
-import org.jfree.chart.event.PlotChangeEvent;
 import org.jfree.data.Range;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.DefaultValueDataset;
@@ -479,7 +480,7 @@ public class ThermometerPlot extends Plot
      */
     public void setPadding(RectangleInsets padding) {
         this.padding = padding;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -499,7 +500,7 @@ public class ThermometerPlot extends Plot
     public void setThermometerStroke(Stroke s) {
         if (s != null) {
             this.thermometerStroke = s;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -520,7 +521,7 @@ public class ThermometerPlot extends Plot
     public void setThermometerPaint(Paint paint) {
         if (paint != null) {
             this.thermometerPaint = paint;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -551,7 +552,7 @@ public class ThermometerPlot extends Plot
         if ((u >= 0) && (u < UNITS.length)) {
             if (this.units != u) {
                 this.units = u;
-                notifyListeners(new PlotChangeEvent(this));
+                fireChangeEvent();
             }
         }
     }
@@ -598,7 +599,7 @@ public class ThermometerPlot extends Plot
     public void setValueLocation(int location) {
         if ((location >= 0) && (location < 4)) {
             this.valueLocation = location;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
         else {
             throw new IllegalArgumentException("Location not recognised.");
@@ -619,7 +620,7 @@ public class ThermometerPlot extends Plot
     public void setAxisLocation(int location) {
         if ((location >= 0) && (location < 3)) {
             this.axisLocation = location;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
         else {
             throw new IllegalArgumentException("Location not recognised.");
@@ -652,7 +653,7 @@ public class ThermometerPlot extends Plot
     public void setValueFont(Font f) {
         if ((f != null) && (!this.valueFont.equals(f))) {
             this.valueFont = f;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -673,7 +674,7 @@ public class ThermometerPlot extends Plot
     public void setValuePaint(Paint p) {
         if ((p != null) && (!this.valuePaint.equals(p))) {
             this.valuePaint = p;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -685,7 +686,7 @@ public class ThermometerPlot extends Plot
     public void setValueFormat(NumberFormat formatter) {
         if (formatter != null) {
             this.valueFormat = formatter;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -705,7 +706,7 @@ public class ThermometerPlot extends Plot
      */
     public void setMercuryPaint(Paint paint) {
         this.mercuryPaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -724,7 +725,7 @@ public class ThermometerPlot extends Plot
      */
     public void setShowValueLines(boolean b) {
         this.showValueLines = b;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -755,7 +756,7 @@ public class ThermometerPlot extends Plot
             setSubrange(range, rangeLow, rangeHigh);
             setDisplayRange(range, displayLow, displayHigh);
             setAxisRange();
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
 
     }
@@ -825,7 +826,7 @@ public class ThermometerPlot extends Plot
         if ((range >= 0) 
                 && (range < this.subrangePaint.length) && (paint != null)) {
             this.subrangePaint[range] = paint;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -847,7 +848,7 @@ public class ThermometerPlot extends Plot
      */
     public void setFollowDataInSubranges(boolean flag) {
         this.followDataInSubranges = flag;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -867,7 +868,7 @@ public class ThermometerPlot extends Plot
      */
     public void setUseSubrangePaint(boolean flag) {
         this.useSubrangePaint = flag;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
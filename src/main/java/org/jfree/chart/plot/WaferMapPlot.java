@@ -38,6 +38,8 @@
  * 10-Jun-2005 : Changed private --> protected for drawChipGrid(), 
  *               drawWaferEdge() and getWafterEdge() (DG);
  * 16-Jun-2005 : Added default constructor and setDataset() method (DG);
+ * 18-Oct-2026 : Use fireChangeEvent() so that no event is created when
+ *               there are no listeners;
  *
  */
 package org.jfree.chart.plot;
@@ -218,7 +220,7 @@ public class WaferMapPlot extends Plot implements RendererChangeListener,
             renderer.setPlot(this);
         }
 
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
 
     }
     
@@ -456,7 +458,7 @@ public class WaferMapPlot extends Plot implements RendererChangeListener,
      * @param event  the event.
      */
     public void rendererChanged(RendererChangeEvent event) {
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
 }
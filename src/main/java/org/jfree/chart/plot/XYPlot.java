@@ -156,6 +156,20 @@
  * 21-Apr-2005 : Added get/setSeriesRenderingOrder() methods (ET);
  * 06-Jul-2005 : Fixed crosshair bug (id = 1233336) (DG);
  * 26-Jan-2006 : Added getAnnotations() method (DG);
+ * 18-Oct-2026 : Added option to render the datasets concurrently, and an
+ *               optional tile cache for the datasets;
+ * 18-Oct-2026 : Use fireChangeEvent() so that no event is created when
+ *               there are no listeners;
+ * 18-Oct-2026 : Render a snapshot of any dataset that implements
+ *               ConcurrentDataset;
+ * 18-Oct-2026 : Skip the items outside the visible domain when the renderer
+ *               state allows it and the dataset is an 
+ *               IntervalIndexedXYDataset;
+ * 18-Oct-2026 : Render a view of any dataset that implements
+ *               MultiResolutionXYDataset;
+ * 19-Oct-2026 : Do not use the tile cache for snapshots and views;
+ * 19-Oct-2026 : The entities for items drawn from a view refer to the 
+ *               dataset;
  *
  */
 
@@ -180,6 +194,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -194,6 +209,9 @@ import org.jfree.chart.axis.AxisLocation;
 import org.jfree.chart.axis.AxisSpace;
 import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.axis.ValueTick;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.XYItemEntity;
 import org.jfree.chart.block.ArrangeParams;
 import org.jfree.chart.block.ArrangeResult;
 import org.jfree.chart.block.Block;
@@ -206,9 +224,12 @@ import org.jfree.chart.event.RendererChangeListener;
 import org.jfree.chart.renderer.xy.XYItemRenderer;
 import org.jfree.chart.renderer.xy.XYItemRendererState;
 import org.jfree.data.Range;
+import org.jfree.data.general.ConcurrentDataset;
 import org.jfree.data.general.Dataset;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.xy.IntervalIndexedXYDataset;
+import org.jfree.data.xy.MultiResolutionXYDataset;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.io.SerialUtilities;
 import org.jfree.ui.Layer;
@@ -423,6 +444,27 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
     private SeriesRenderingOrder seriesRenderingOrder
         = SeriesRenderingOrder.REVERSE;
 
+    /**
+     * A flag that controls whether the datasets are rendered concurrently,
+     * into separate image tiles.
+     */
+    private boolean parallelRendering = false;
+
+    /** An optional cache of rendered tiles for the datasets. */
+    private transient XYTileCache tileCache;
+
+    /** 
+     * A version number for the datasets and renderers, incremented when any
+     * of them changes (used to identify the tiles in the tile cache). 
+     */
+    private transient long dataVersion;
+
+    /** 
+     * The snapshots and views of datasets that are being rendered, mapped to
+     * the dataset index (<code>null</code> until needed). 
+     */
+    private transient Map snapshots;
+
     /**
      * The weight for this plot (only relevant if this is a subplot in a
      * combined plot).
@@ -563,7 +605,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
         }
         if (orientation != this.orientation) {
             this.orientation = orientation;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -586,7 +628,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
             throw new IllegalArgumentException("Null 'offset' argument.");
         }
         this.axisOffset = offset;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -665,7 +707,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
             axis.addChangeListener(this);
         }
         if (notify) {
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -679,7 +721,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
         for (int i = 0; i < axes.length; i++) {
             setDomainAxis(i, axes[i], false);   
         }
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -715,7 +757,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
         }
         this.domainAxisLocations.set(0, location);
         if (notify) {
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
     
@@ -774,7 +816,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
             }
         }
         this.domainAxes.clear();
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -818,7 +860,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
      */
     public void setDomainAxisLocation(int index, AxisLocation location) {
         this.domainAxisLocations.set(index, location);
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -874,7 +916,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
             axis.configure();
             axis.addChangeListener(this);
         }
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
 
     }
 
@@ -911,7 +953,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
         }
         this.rangeAxisLocations.set(0, location);
         if (notify) {
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
 
     }
@@ -981,7 +1023,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
             axis.addChangeListener(this);
         }
         if (notify) {
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -995,7 +1037,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
         for (int i = 0; i < axes.length; i++) {
             setRangeAxis(i, axes[i], false);   
         }
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -1019,7 +1061,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
             }
         }
         this.rangeAxes.clear();
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1063,7 +1105,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
      */
     public void setRangeAxisLocation(int index, AxisLocation location) {
         this.rangeAxisLocations.set(index, location);
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1164,6 +1206,12 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
                 break;
             }
         }
+        if (result < 0 && this.snapshots != null) {
+            Integer snapshotIndex = (Integer) this.snapshots.get(dataset);
+            if (snapshotIndex != null) {
+                result = snapshotIndex.intValue();
+            }
+        }
         return result;
     }
 
@@ -1266,7 +1314,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
         configureDomainAxes();
         configureRangeAxes();
         if (notify) {
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -1280,7 +1328,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
         for (int i = 0; i < renderers.length; i++) {
             setRenderer(i, renderers[i], false);   
         }
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -1305,7 +1353,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
             throw new IllegalArgumentException("Null 'order' argument.");
         }
         this.datasetRenderingOrder = order;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1330,7 +1378,60 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
             throw new IllegalArgumentException("Null 'order' argument.");
         }
         this.seriesRenderingOrder = order;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
+    }
+
+    /**
+     * Returns the flag that controls whether the datasets are rendered
+     * concurrently.
+     *
+     * @return A boolean.
+     */
+    public boolean isParallelRendering() {
+        return this.parallelRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether the datasets are rendered
+     * concurrently and sends a {@link PlotChangeEvent} to all registered
+     * listeners.  When set, each dataset is rendered on the common fork-join
+     * pool into its own transparent image tile, and the tiles are drawn in 
+     * the dataset rendering order.  Entities and the crosshair are merged in
+     * the same order, so the result matches sequential rendering.  The data 
+     * is rasterised, so this is intended for screen and image output.  It 
+     * has no effect unless every non-empty dataset has its own renderer and
+     * its own item label, tooltip and URL generators (the formats held by 
+     * the standard generators are not thread-safe, so a generator shared by
+     * two renderers disables the option), or if the device is scaled, 
+     * rotated or sheared.
+     *
+     * @param flag  the flag.
+     */
+    public void setParallelRendering(boolean flag) {
+        this.parallelRendering = flag;
+        fireChangeEvent();
+    }
+
+    /**
+     * Returns the cache of rendered tiles for the datasets.
+     *
+     * @return The cache (possibly <code>null</code>).
+     */
+    public XYTileCache getTileCache() {
+        return this.tileCache;
+    }
+
+    /**
+     * Sets the cache of rendered tiles for the datasets and sends a 
+     * {@link PlotChangeEvent} to all registered listeners.  With a cache,
+     * panning and zooming back to an earlier scale reuse the tiles that have
+     * already been rendered (see {@link XYTileCache} for the conditions).
+     *
+     * @param cache  the cache (<code>null</code> permitted).
+     */
+    public void setTileCache(XYTileCache cache) {
+        this.tileCache = cache;
+        fireChangeEvent();
     }
 
     /**
@@ -1409,7 +1510,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
     public void setDomainGridlinesVisible(boolean visible) {
         if (this.domainGridlinesVisible != visible) {
             this.domainGridlinesVisible = visible;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -1432,7 +1533,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
      */
     public void setDomainGridlineStroke(Stroke stroke) {
         this.domainGridlineStroke = stroke;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1454,7 +1555,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
      */
     public void setDomainGridlinePaint(Paint paint) {
         this.domainGridlinePaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1479,7 +1580,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
     public void setRangeGridlinesVisible(boolean visible) {
         if (this.rangeGridlinesVisible != visible) {
             this.rangeGridlinesVisible = visible;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -1504,7 +1605,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
             throw new IllegalArgumentException("Null 'stroke' argument.");
         }
         this.rangeGridlineStroke = stroke;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1525,7 +1626,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
      */
     public void setRangeGridlinePaint(Paint paint) {
         this.rangeGridlinePaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1547,7 +1648,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
      */
     public void setRangeZeroBaselineVisible(boolean visible) {
         this.rangeZeroBaselineVisible = visible;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1570,7 +1671,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
             throw new IllegalArgumentException("Null 'stroke' argument.");
         }
         this.rangeZeroBaselineStroke = stroke;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1591,7 +1692,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
      */
     public void setRangeZeroBaselinePaint(Paint paint) {
         this.rangeZeroBaselinePaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1611,7 +1712,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
      */
     public void setDomainTickBandPaint(Paint paint) {
         this.domainTickBandPaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1631,7 +1732,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
      */
     public void setRangeTickBandPaint(Paint paint) {
         this.rangeTickBandPaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1655,7 +1756,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
             throw new IllegalArgumentException("Null 'origin' argument.");
         }
         this.quadrantOrigin = origin;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1688,7 +1789,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
             );
         }
         this.quadrantPaint[index] = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1730,7 +1831,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
         if (this.backgroundDomainMarkers != null) {
             this.backgroundDomainMarkers.clear();
         }
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1755,7 +1856,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
                 markers.clear();
             }
         }
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1792,7 +1893,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
             }
             markers.add(marker);
         }
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1833,7 +1934,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
         if (this.backgroundRangeMarkers != null) {
             this.backgroundRangeMarkers.clear();
         }
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1869,7 +1970,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
             }
             markers.add(marker);
         }
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1894,7 +1995,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
                 markers.clear();
             }
         }
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1908,7 +2009,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
             throw new IllegalArgumentException("Null 'annotation' argument.");
         }
         this.annotations.add(annotation);
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -1925,7 +2026,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
         }
         boolean removed = this.annotations.remove(annotation);
         if (removed) {
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
         return removed;
     }
@@ -1947,7 +2048,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
      */
     public void clearAnnotations() {
         this.annotations.clear();
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
     
     /**
@@ -2120,9 +2221,17 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
             }
 
             // render data items...
-            for (int i = 0; i < getDatasetCount(); i++) {
-                foundData = render(g2, dataArea, i, info, crosshairState)
-                    || foundData;
+            if (this.parallelRendering 
+                    && ParallelXYDatasetRenderer.isSupported(this, g2)) {
+                foundData = ParallelXYDatasetRenderer.render(
+                    this, g2, dataArea, info, crosshairState
+                );
+            }
+            else {
+                for (int i = 0; i < getDatasetCount(); i++) {
+                    foundData = render(g2, dataArea, i, info, crosshairState)
+                        || foundData;
+                }
             }
 
             // draw foreground annotations
@@ -2155,9 +2264,17 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
                 }
             }
 
-            for (int i = getDatasetCount() - 1; i >= 0; i--) {
-                foundData = render(g2, dataArea, i, info, crosshairState)
-                    || foundData;
+            if (this.parallelRendering 
+                    && ParallelXYDatasetRenderer.isSupported(this, g2)) {
+                foundData = ParallelXYDatasetRenderer.render(
+                    this, g2, dataArea, info, crosshairState
+                );
+            }
+            else {
+                for (int i = getDatasetCount() - 1; i >= 0; i--) {
+                    foundData = render(g2, dataArea, i, info, crosshairState)
+                        || foundData;
+                }
             }
 
             // draw foreground annotations
@@ -2443,6 +2560,19 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
      * <P>
      * The <code>info</code> and <code>crosshairState</code> arguments may be
      * <code>null</code>.
+     * <P>
+     * If the dataset implements {@link ConcurrentDataset}, a snapshot of the
+     * dataset is rendered, so that all the items are consistent even if 
+     * another thread is updating the dataset.  While the snapshot is being
+     * rendered, {@link #indexOf(XYDataset)} returns the index of the
+     * dataset for it.
+     * <P>
+     * If the dataset (or snapshot) implements 
+     * {@link MultiResolutionXYDataset}, the view for the range of the domain
+     * axis and the size of the data area is rendered in the same way, and 
+     * the entities for the items drawn are changed to refer to the items in
+     * the dataset.  A new snapshot or view is created for each pass, so the
+     * tile cache is not used for them.
      *
      * @param g2  the graphics device.
      * @param dataArea  the region in which the data is to be drawn.
@@ -2459,8 +2589,105 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
                           PlotRenderingInfo info,
                           CrosshairState crosshairState) {
 
-        boolean foundData = false;
         XYDataset dataset = getDataset(index);
+        XYDataset snapshot = dataset;
+        if (dataset instanceof ConcurrentDataset) {
+            snapshot = (XYDataset) ((ConcurrentDataset) dataset)
+                    .createSnapshot();
+        }
+        MultiResolutionXYDataset source = null;
+        if (snapshot instanceof MultiResolutionXYDataset) {
+            ValueAxis xAxis = getDomainAxisForDataset(index);
+            double length = (this.orientation == PlotOrientation.VERTICAL 
+                    ? dataArea.getWidth() : dataArea.getHeight());
+            source = (MultiResolutionXYDataset) snapshot;
+            snapshot = source.getView(
+                    xAxis.getLowerBound(), xAxis.getUpperBound(), 
+                    (int) Math.ceil(length));
+        }
+        if (snapshot == dataset) {
+            return render(g2, dataArea, index, dataset, true, info, 
+                    crosshairState);
+        }
+        Map map;
+        synchronized (this) {
+            if (this.snapshots == null) {
+                this.snapshots = Collections.synchronizedMap(
+                        new IdentityHashMap());
+            }
+            map = this.snapshots;
+        }
+        EntityCollection entities = null;
+        int entityCount = 0;
+        if (source != null && source != snapshot && info != null 
+                && info.getOwner() != null) {
+            entities = info.getOwner().getEntityCollection();
+            if (entities != null) {
+                entityCount = entities.getEntityCount();
+            }
+        }
+        map.put(snapshot, new Integer(index));
+        try {
+            boolean result = render(g2, dataArea, index, snapshot, false, 
+                    info, crosshairState);
+            if (entities != null) {
+                mapEntities(entities, entityCount, snapshot, source, dataset);
+            }
+            return result;
+        }
+        finally {
+            map.remove(snapshot);
+        }
+    }
+
+    /**
+     * Changes the entities added for the items in a view so that they refer
+     * to the items in the dataset.
+     *
+     * @param entities  the entity collection.
+     * @param first  the index of the first entity added.
+     * @param view  the view.
+     * @param source  the dataset (or snapshot) that created the view.
+     * @param dataset  the dataset.
+     */
+    private void mapEntities(EntityCollection entities, int first, 
+                             XYDataset view, MultiResolutionXYDataset source, 
+                             XYDataset dataset) {
+        for (int i = first; i < entities.getEntityCount(); i++) {
+            ChartEntity entity = entities.getEntity(i);
+            if (entity instanceof XYItemEntity) {
+                XYItemEntity e = (XYItemEntity) entity;
+                if (e.getDataset() == view) {
+                    e.setItem(source.getItemIndex(view, e.getSeriesIndex(), 
+                            e.getItem()));
+                    e.setDataset(dataset);
+                }
+            }
+        }
+    }
+
+    /**
+     * Draws the items in a dataset (or a snapshot of a dataset).
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the region in which the data is to be drawn.
+     * @param index  the dataset index.
+     * @param dataset  the dataset (<code>null</code> permitted).
+     * @param cacheable  <code>false</code> if the dataset is a snapshot or
+     *                   view that is only used once, in which case the tile
+     *                   cache is not used.
+     * @param info  an optional object for collection dimension information.
+     * @param crosshairState  collects crosshair information
+     *                        (<code>null</code> permitted).
+     *
+     * @return A flag that indicates whether any data was actually rendered.
+     */
+    private boolean render(Graphics2D g2, Rectangle2D dataArea, int index,
+                           XYDataset dataset, boolean cacheable, 
+                           PlotRenderingInfo info,
+                           CrosshairState crosshairState) {
+
+        boolean foundData = false;
         if (!DatasetUtilities.isEmptyOrNull(dataset)) {
             foundData = true;
             ValueAxis xAxis = getDomainAxisForDataset(index);
@@ -2470,46 +2697,105 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
                 renderer = getRenderer();
             }
 
-            XYItemRendererState state = renderer.initialise(
-                g2, dataArea, this, dataset, info
-            );
-            int passCount = renderer.getPassCount();
+            if (cacheable && this.tileCache != null 
+                    && this.tileCache.draw(this, this.dataVersion, g2, 
+                    dataArea, dataset, renderer, xAxis, yAxis, info, 
+                    crosshairState)) {
+                return foundData;
+            }
+            renderItems(g2, dataArea, dataset, renderer, xAxis, yAxis, info,
+                    crosshairState);
+        }
+        return foundData;
+    }
 
-            SeriesRenderingOrder seriesOrder = getSeriesRenderingOrder();
-            if (seriesOrder == SeriesRenderingOrder.REVERSE) {
-                   //render series in reverse order
-                for (int pass = 0; pass < passCount; pass++) {
-                    int seriesCount = dataset.getSeriesCount();
-                    for (int series = seriesCount-1; series >= 0 ; series--) {
-                        int itemCount = dataset.getItemCount(series);
-                        for (int item = 0; item < itemCount; item++) {
-                            renderer.drawItem(
-                                g2, state, dataArea, info,
-                                this, xAxis, yAxis, dataset, series, item,
-                                crosshairState, pass
-                            );
-                        }
+    /**
+     * Draws all the items in a dataset with a renderer.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the region in which the data is to be drawn.
+     * @param dataset  the dataset.
+     * @param renderer  the renderer.
+     * @param xAxis  the domain axis.
+     * @param yAxis  the range axis.
+     * @param info  an optional object for collection dimension information.
+     * @param crosshairState  collects crosshair information.
+     */
+    void renderItems(Graphics2D g2, Rectangle2D dataArea, XYDataset dataset,
+                     XYItemRenderer renderer, ValueAxis xAxis, 
+                     ValueAxis yAxis, PlotRenderingInfo info, 
+                     CrosshairState crosshairState) {
+        XYItemRendererState state = renderer.initialise(
+            g2, dataArea, this, dataset, info
+        );
+        int passCount = renderer.getPassCount();
+
+        SeriesRenderingOrder seriesOrder = getSeriesRenderingOrder();
+        if (seriesOrder == SeriesRenderingOrder.REVERSE) {
+               //render series in reverse order
+            for (int pass = 0; pass < passCount; pass++) {
+                int seriesCount = dataset.getSeriesCount();
+                for (int series = seriesCount-1; series >= 0 ; series--) {
+                    int[] items = getVisibleItems(state, dataset, series, 
+                            xAxis);
+                    int itemCount = (items != null ? items.length 
+                            : dataset.getItemCount(series));
+                    for (int i = 0; i < itemCount; i++) {
+                        int item = (items != null ? items[i] : i);
+                        renderer.drawItem(
+                            g2, state, dataArea, info,
+                            this, xAxis, yAxis, dataset, series, item,
+                            crosshairState, pass
+                        );
                     }
                 }
             }
-            else {
-                   //render series in forward order
-                for (int pass = 0; pass < passCount; pass++) {
-                    int seriesCount = dataset.getSeriesCount();
-                    for (int series = 0; series < seriesCount; series++) {
-                        int itemCount = dataset.getItemCount(series);
-                        for (int item = 0; item < itemCount; item++) {
-                            renderer.drawItem(
-                                g2, state, dataArea, info,
-                                this, xAxis, yAxis, dataset, series, item,
-                                crosshairState, pass
-                            );
-                        }
+        }
+        else {
+               //render series in forward order
+            for (int pass = 0; pass < passCount; pass++) {
+                int seriesCount = dataset.getSeriesCount();
+                for (int series = 0; series < seriesCount; series++) {
+                    int[] items = getVisibleItems(state, dataset, series, 
+                            xAxis);
+                    int itemCount = (items != null ? items.length 
+                            : dataset.getItemCount(series));
+                    for (int i = 0; i < itemCount; i++) {
+                        int item = (items != null ? items[i] : i);
+                        renderer.drawItem(
+                            g2, state, dataArea, info,
+                            this, xAxis, yAxis, dataset, series, item,
+                            crosshairState, pass
+                        );
                     }
                 }
             }
         }
-        return foundData;
+    }
+
+    /**
+     * Returns the items in a series that lie in the visible domain, if the 
+     * renderer state allows the other items to be skipped and the dataset 
+     * can find the visible items.
+     *
+     * @param state  the renderer state.
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param xAxis  the domain axis.
+     *
+     * @return The item indices, or <code>null</code> if all the items must be
+     *         drawn.
+     */
+    private int[] getVisibleItems(XYItemRendererState state, 
+                                  XYDataset dataset, int series, 
+                                  ValueAxis xAxis) {
+        if (state.getProcessVisibleItemsOnly() 
+                && dataset instanceof IntervalIndexedXYDataset) {
+            Range range = xAxis.getRange();
+            return ((IntervalIndexedXYDataset) dataset).getItemsIntersecting(
+                    series, range.getLowerBound(), range.getUpperBound());
+        }
+        return null;
     }
 
     /**
@@ -3056,6 +3342,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
      * @param event  information about the event (not used here).
      */
     public void datasetChanged(DatasetChangeEvent event) {
+        this.dataVersion++;
         configureDomainAxes();
         configureRangeAxes();
         if (getParent() != null) {
@@ -3074,7 +3361,8 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
      * @param event  the event.
      */
     public void rendererChanged(RendererChangeEvent event) {
-        notifyListeners(new PlotChangeEvent(this));
+        this.dataVersion++;
+        fireChangeEvent();
     }
 
     /**
@@ -3095,7 +3383,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
 
         if (this.domainCrosshairVisible != flag) {
             this.domainCrosshairVisible = flag;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
 
     }
@@ -3120,7 +3408,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
 
         if (this.domainCrosshairLockedOnData != flag) {
             this.domainCrosshairLockedOnData = flag;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
 
     }
@@ -3155,7 +3443,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
     public void setDomainCrosshairValue(double value, boolean notify) {
         this.domainCrosshairValue = value;
         if (isDomainCrosshairVisible() && notify) {
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -3176,7 +3464,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
      */
     public void setDomainCrosshairStroke(Stroke stroke) {
         this.domainCrosshairStroke = stroke;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -3196,7 +3484,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
      */
     public void setDomainCrosshairPaint(Paint paint) {
         this.domainCrosshairPaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -3217,7 +3505,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
 
         if (this.rangeCrosshairVisible != flag) {
             this.rangeCrosshairVisible = flag;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
 
     }
@@ -3242,7 +3530,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
 
         if (this.rangeCrosshairLockedOnData != flag) {
             this.rangeCrosshairLockedOnData = flag;
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
 
     }
@@ -3281,7 +3569,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
     public void setRangeCrosshairValue(double value, boolean notify) {
         this.rangeCrosshairValue = value;
         if (isRangeCrosshairVisible() && notify) {
-            notifyListeners(new PlotChangeEvent(this));
+            fireChangeEvent();
         }
     }
 
@@ -3302,7 +3590,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
      */
     public void setRangeCrosshairStroke(Stroke stroke) {
         this.rangeCrosshairStroke = stroke;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -3322,7 +3610,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
      */
     public void setRangeCrosshairPaint(Paint paint) {
         this.rangeCrosshairPaint = paint;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -3486,7 +3774,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
      */
     public void setFixedLegendItems(LegendItemCollection items) {
         this.fixedLegendItems = items;
-        notifyListeners(new PlotChangeEvent(this));
+        fireChangeEvent();
     }
 
     /**
@@ -3551,6 +3839,9 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
         if (this.weight != that.weight) {
             return false;
         }
+        if (this.parallelRendering != that.parallelRendering) {
+            return false;
+        }
         if (this.orientation != that.orientation) {
             return false;
         }
@@ -3717,6 +4008,7 @@ public class XYPlot extends Plot implements Block, ValueAxisPlot,
     public Object clone() throws CloneNotSupportedException {
 
         XYPlot clone = (XYPlot) super.clone();
+        clone.snapshots = null;
         clone.domainAxes = (ObjectList) ObjectUtilities.clone(this.domainAxes);
         for (int i = 0; i < this.domainAxes.size(); i++) {
             ValueAxis axis = (ValueAxis) this.domainAxes.get(i);
@@ -0,0 +1,660 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation,
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------
+ * XYTileCache.java
+ * ----------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Check the timeline class of date axes, and hold the plot,
+ *               dataset and renderer of each tile weakly;
+ *
+ */
+
+package org.jfree.chart.plot;
+
+import java.awt.AlphaComposite;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import org.jfree.chart.axis.DateAxis;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.axis.SegmentedTimeline;
+import org.jfree.chart.axis.Timeline;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.data.Range;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.ui.RectangleEdge;
+
+/**
+ * A cache of rendered tiles for the datasets in an {@link XYPlot}, in the
+ * style of map tiles.  The tiles form a fixed grid over the data, at the
+ * current scale of the axes, so when a plot is panned the tiles that are
+ * still visible are reused and only the newly exposed tiles are rendered
+ * (with a single pass over the dataset).  Zooming changes the scale, and
+ * the tiles for each scale are kept, so returning to an earlier zoom level
+ * is also fast.  The least recently used tiles are discarded when the
+ * memory used by the tiles exceeds a budget.
+ * <P>
+ * A tile is identified by the plot, the dataset and renderer, a version
+ * number that the plot increments when a dataset or renderer changes, the
+ * scale of each axis and the position of the tile in the grid.  The plot,
+ * dataset and renderer are only weakly referenced, so the cache does not
+ * keep them alive (their tiles are discarded in the usual way, as they
+ * become the least recently used).
+ * <P>
+ * The cache is only used where it cannot change the result (apart from
+ * placing the data to the nearest pixel): there must be no entities to
+ * collect and no crosshair point to find, both axes must be linear
+ * ({@link NumberAxis}, or {@link DateAxis} with the default timeline),
+ * and the device transform must not do anything other than translate.
+ * It is not used for a dataset that implements 
+ * {@link org.jfree.data.general.ConcurrentDataset} or 
+ * {@link org.jfree.data.xy.MultiResolutionXYDataset}, since the plot renders
+ * a new snapshot or view of such a dataset each time, and its tiles could 
+ * never be reused.
+ * Since the tiles are rendered with axes that cover just the tiles, the
+ * cache is not suitable for renderers that draw relative to the bounds of
+ * the axes.  For the charts in a {@link org.jfree.chart.ChartPanel},
+ * entities can be turned off with
+ * <code>chartPanel.getChartRenderingInfo().setEntityCollection(null)</code>.
+ */
+public class XYTileCache {
+
+    /** The default tile size (in pixels). */
+    public static final int DEFAULT_TILE_SIZE = 256;
+
+    /** The default memory budget (in bytes). */
+    public static final long DEFAULT_MEMORY_BUDGET = 64L * 1024L * 1024L;
+
+    /**
+     * The extra space (in pixels) rendered around the tiles, so that shapes
+     * centred just outside a tile are drawn in it.
+     */
+    private static final int MARGIN = 16;
+
+    /** The maximum number of tiles across or down the data area. */
+    private static final int MAXIMUM_TILES = 256;
+
+    /** The number of scale steps per doubling of the scale. */
+    private static final double SCALE_STEPS = 1 << 20;
+
+    /** The timeline of a standard {@link DateAxis}. */
+    private static final Timeline DEFAULT_TIMELINE 
+            = new DateAxis().getTimeline();
+
+    /** The tile size (in pixels). */
+    private int tileSize;
+
+    /** The memory budget (in bytes). */
+    private long memoryBudget;
+
+    /** The memory used by the tiles (in bytes). */
+    private long memoryUsage;
+
+    /** The tiles, in order of use (least recent first). */
+    private LinkedHashMap tiles;
+
+    /**
+     * Creates a new cache with the default tile size and memory budget.
+     */
+    public XYTileCache() {
+        this(DEFAULT_TILE_SIZE, DEFAULT_MEMORY_BUDGET);
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param tileSize  the tile size, in pixels (must be positive).
+     * @param memoryBudget  the memory budget, in bytes (must not be
+     *                      negative).
+     */
+    public XYTileCache(int tileSize, long memoryBudget) {
+        if (tileSize <= 0) {
+            throw new IllegalArgumentException("Requires 'tileSize' > 0.");
+        }
+        if (memoryBudget < 0) {
+            throw new IllegalArgumentException(
+                "Requires 'memoryBudget' >= 0."
+            );
+        }
+        this.tileSize = tileSize;
+        this.memoryBudget = memoryBudget;
+        this.tiles = new LinkedHashMap(16, 0.75f, true);
+    }
+
+    /**
+     * Returns the tile size.
+     *
+     * @return The tile size (in pixels).
+     */
+    public int getTileSize() {
+        return this.tileSize;
+    }
+
+    /**
+     * Returns the memory budget.
+     *
+     * @return The memory budget (in bytes).
+     */
+    public synchronized long getMemoryBudget() {
+        return this.memoryBudget;
+    }
+
+    /**
+     * Sets the memory budget, discarding the least recently used tiles if
+     * necessary.
+     *
+     * @param memoryBudget  the memory budget, in bytes (must not be
+     *                      negative).
+     */
+    public synchronized void setMemoryBudget(long memoryBudget) {
+        if (memoryBudget < 0) {
+            throw new IllegalArgumentException(
+                "Requires 'memoryBudget' >= 0."
+            );
+        }
+        this.memoryBudget = memoryBudget;
+        evict();
+    }
+
+    /**
+     * Returns the memory used by the tiles.
+     *
+     * @return The memory usage (in bytes).
+     */
+    public synchronized long getMemoryUsage() {
+        return this.memoryUsage;
+    }
+
+    /**
+     * Returns the number of tiles in the cache.
+     *
+     * @return The tile count.
+     */
+    public synchronized int getTileCount() {
+        return this.tiles.size();
+    }
+
+    /**
+     * Discards all the tiles.
+     */
+    public synchronized void clear() {
+        this.tiles.clear();
+        this.memoryUsage = 0L;
+    }
+
+    /**
+     * Returns a tile, or <code>null</code> if it is not in the cache.
+     *
+     * @param key  the key.
+     *
+     * @return The tile.
+     */
+    private synchronized BufferedImage get(TileKey key) {
+        return (BufferedImage) this.tiles.get(key);
+    }
+
+    /**
+     * Adds a tile to the cache, discarding the least recently used tiles if
+     * the memory budget is exceeded.
+     *
+     * @param key  the key.
+     * @param tile  the tile.
+     */
+    private synchronized void put(TileKey key, BufferedImage tile) {
+        BufferedImage old = (BufferedImage) this.tiles.put(key, tile);
+        if (old != null) {
+            this.memoryUsage -= getSize(old);
+        }
+        this.memoryUsage += getSize(tile);
+        evict();
+    }
+
+    /**
+     * Discards the least recently used tiles until the memory usage is
+     * within the budget.
+     */
+    private void evict() {
+        Iterator iterator = this.tiles.values().iterator();
+        while (this.memoryUsage > this.memoryBudget && iterator.hasNext()) {
+            BufferedImage tile = (BufferedImage) iterator.next();
+            iterator.remove();
+            this.memoryUsage -= getSize(tile);
+        }
+    }
+
+    /**
+     * Returns the memory used by a tile.
+     *
+     * @param tile  the tile.
+     *
+     * @return The size (in bytes).
+     */
+    private static long getSize(BufferedImage tile) {
+        return 4L * tile.getWidth() * tile.getHeight();
+    }
+
+    /**
+     * Draws a dataset from the cache, rendering any tiles that are missing.
+     * Returns <code>false</code>, without drawing anything, if the cache
+     * cannot be used for this drawing.
+     *
+     * @param plot  the plot.
+     * @param version  the version of the plot's datasets and renderers.
+     * @param g2  the graphics device.
+     * @param dataArea  the region in which the data is to be drawn.
+     * @param dataset  the dataset.
+     * @param renderer  the renderer.
+     * @param xAxis  the domain axis for the dataset.
+     * @param yAxis  the range axis for the dataset.
+     * @param info  an optional object for collection dimension information.
+     * @param crosshairState  collects crosshair information.
+     *
+     * @return A boolean.
+     */
+    boolean draw(XYPlot plot, long version, Graphics2D g2,
+                 Rectangle2D dataArea, XYDataset dataset,
+                 XYItemRenderer renderer, ValueAxis xAxis, ValueAxis yAxis,
+                 PlotRenderingInfo info, CrosshairState crosshairState) {
+
+        if (info != null && info.getOwner().getEntityCollection() != null) {
+            return false;
+        }
+        if (crosshairState != null && (crosshairState.getAnchor() != null
+                || plot.isDomainCrosshairLockedOnData()
+                != plot.isRangeCrosshairLockedOnData())) {
+            return false;
+        }
+        int type = g2.getTransform().getType();
+        if ((type & ~AffineTransform.TYPE_TRANSLATION) != 0) {
+            return false;
+        }
+        if (!isLinear(xAxis) || !isLinear(yAxis)) {
+            return false;
+        }
+
+        // work out which axis runs across the screen, and the scale of each
+        RectangleEdge domainEdge = plot.getDomainAxisEdge();
+        RectangleEdge rangeEdge = plot.getRangeAxisEdge();
+        boolean horizontal = RectangleEdge.isTopOrBottom(domainEdge);
+        ValueAxis acrossAxis = horizontal ? xAxis : yAxis;
+        ValueAxis downAxis = horizontal ? yAxis : xAxis;
+        double[] across = getScale(acrossAxis, dataArea,
+                horizontal ? domainEdge : rangeEdge);
+        double[] down = getScale(downAxis, dataArea,
+                horizontal ? rangeEdge : domainEdge);
+        if (across == null || down == null) {
+            return false;
+        }
+
+        // find the visible tiles (in 'world' pixels, where a value v is at
+        // scale * v, and at scale * v + offset on the screen)
+        Rectangle2D visible = dataArea;
+        Shape clip = g2.getClip();
+        if (clip != null) {
+            visible = dataArea.createIntersection(clip.getBounds2D());
+        }
+        if (visible.isEmpty()) {
+            return true;
+        }
+        int size = this.tileSize;
+        long col0 = (long) Math.floor((visible.getMinX() - across[1]) / size);
+        long col1 = (long) Math.floor((visible.getMaxX() - across[1]) / size);
+        long row0 = (long) Math.floor((visible.getMinY() - down[1]) / size);
+        long row1 = (long) Math.floor((visible.getMaxY() - down[1]) / size);
+        if (col1 - col0 >= MAXIMUM_TILES || row1 - row0 >= MAXIMUM_TILES) {
+            return false;
+        }
+        int cols = (int) (col1 - col0 + 1);
+        int rows = (int) (row1 - row0 + 1);
+
+        Object antialias = g2.getRenderingHint(
+                RenderingHints.KEY_ANTIALIASING);
+        BufferedImage[] visibleTiles = new BufferedImage[cols * rows];
+        TileKey[] keys = new TileKey[cols * rows];
+        long missingCol0 = Long.MAX_VALUE;
+        long missingCol1 = Long.MIN_VALUE;
+        long missingRow0 = Long.MAX_VALUE;
+        long missingRow1 = Long.MIN_VALUE;
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                TileKey key = new TileKey(plot, version, dataset, renderer,
+                        plot.getSeriesRenderingOrder(),
+                        plot.getForegroundAlpha(), antialias, horizontal,
+                        across[0], down[0], col0 + c, row0 + r);
+                keys[r * cols + c] = key;
+                visibleTiles[r * cols + c] = get(key);
+                if (visibleTiles[r * cols + c] == null) {
+                    missingCol0 = Math.min(missingCol0, col0 + c);
+                    missingCol1 = Math.max(missingCol1, col0 + c);
+                    missingRow0 = Math.min(missingRow0, row0 + r);
+                    missingRow1 = Math.max(missingRow1, row0 + r);
+                }
+            }
+        }
+
+        // render the block of tiles that covers all the missing tiles
+        if (missingCol0 <= missingCol1) {
+            int width = (int) (missingCol1 - missingCol0 + 1) * size
+                    + 2 * MARGIN;
+            int height = (int) (missingRow1 - missingRow0 + 1) * size
+                    + 2 * MARGIN;
+            ValueAxis acrossClone = createTileAxis(acrossAxis, across[0],
+                    missingCol0 * size - MARGIN, width);
+            ValueAxis downClone = createTileAxis(downAxis, down[0],
+                    missingRow0 * size - MARGIN, height);
+            if (acrossClone == null || downClone == null) {
+                return false;
+            }
+            BufferedImage block = new BufferedImage(width, height,
+                    BufferedImage.TYPE_INT_ARGB);
+            Graphics2D blockG2 = block.createGraphics();
+            blockG2.setRenderingHints(g2.getRenderingHints());
+            blockG2.setComposite(AlphaComposite.getInstance(
+                    AlphaComposite.SRC_OVER, plot.getForegroundAlpha()));
+            try {
+                plot.renderItems(blockG2,
+                    new Rectangle2D.Double(0.0, 0.0, width, height),
+                    dataset, renderer,
+                    horizontal ? acrossClone : downClone,
+                    horizontal ? downClone : acrossClone,
+                    null, new CrosshairState());
+            }
+            finally {
+                blockG2.dispose();
+            }
+            WritableRaster raster = block.getRaster();
+            int[] pixels = null;
+            for (int r = 0; r < rows; r++) {
+                for (int c = 0; c < cols; c++) {
+                    if (visibleTiles[r * cols + c] != null) {
+                        continue;
+                    }
+                    int x = (int) (col0 + c - missingCol0) * size + MARGIN;
+                    int y = (int) (row0 + r - missingRow0) * size + MARGIN;
+                    pixels = (int[]) raster.getDataElements(x, y, size, size,
+                            pixels);
+                    BufferedImage tile = new BufferedImage(size, size,
+                            BufferedImage.TYPE_INT_ARGB);
+                    tile.getRaster().setDataElements(0, 0, size, size,
+                            pixels);
+                    visibleTiles[r * cols + c] = tile;
+                    put(keys[r * cols + c], tile);
+                }
+            }
+        }
+
+        // draw the tiles
+        Composite originalComposite = g2.getComposite();
+        g2.setComposite(AlphaComposite.SrcOver);
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int x = (int) Math.round((col0 + c) * size + across[1]);
+                int y = (int) Math.round((row0 + r) * size + down[1]);
+                g2.drawImage(visibleTiles[r * cols + c], x, y, null);
+            }
+        }
+        g2.setComposite(originalComposite);
+        return true;
+
+    }
+
+    /**
+     * Returns <code>true</code> if an axis maps values to Java2D coordinates
+     * linearly.
+     *
+     * @param axis  the axis.
+     *
+     * @return A boolean.
+     */
+    private static boolean isLinear(ValueAxis axis) {
+        if (axis.getClass() == NumberAxis.class) {
+            return true;
+        }
+        if (axis.getClass() == DateAxis.class) {
+            // a segmented timeline leaves gaps, and any other timeline is
+            // unknown, so only the default (all milliseconds) is linear
+            Timeline timeline = ((DateAxis) axis).getTimeline();
+            return !(timeline instanceof SegmentedTimeline)
+                && DEFAULT_TIMELINE.equals(timeline);
+        }
+        return false;
+    }
+
+    /**
+     * Returns the scale of an axis (rounded to one of a fixed set of values,
+     * so that panning does not change it) and the Java2D coordinate of the
+     * value zero at that scale.
+     *
+     * @param axis  the axis.
+     * @param dataArea  the data area.
+     * @param edge  the axis edge.
+     *
+     * @return The scale and offset, or <code>null</code> if the axis range
+     *         is empty.
+     */
+    private static double[] getScale(ValueAxis axis, Rectangle2D dataArea,
+                                     RectangleEdge edge) {
+        double lower = axis.getLowerBound();
+        double upper = axis.getUpperBound();
+        if (!(upper > lower)) {
+            return null;
+        }
+        double j0 = axis.valueToJava2D(lower, dataArea, edge);
+        double j1 = axis.valueToJava2D(upper, dataArea, edge);
+        double scale = (j1 - j0) / (upper - lower);
+        if (scale == 0.0 || Double.isNaN(scale)
+                || Double.isInfinite(scale)) {
+            return null;
+        }
+        double step = Math.rint(Math.log(Math.abs(scale)) / Math.log(2.0)
+                * SCALE_STEPS);
+        double rounded = Math.pow(2.0, step / SCALE_STEPS);
+        if (scale < 0.0) {
+            rounded = -rounded;
+        }
+        return new double[] {rounded, j0 - rounded * lower};
+    }
+
+    /**
+     * Creates a copy of an axis with a range that maps a block of 'world'
+     * pixels onto a data area that starts at zero.
+     *
+     * @param axis  the axis.
+     * @param scale  the scale.
+     * @param start  the first world pixel.
+     * @param length  the number of pixels.
+     *
+     * @return The axis, or <code>null</code> if it cannot be copied.
+     */
+    private static ValueAxis createTileAxis(ValueAxis axis, double scale,
+                                            long start, int length) {
+        ValueAxis result;
+        try {
+            result = (ValueAxis) axis.clone();
+        }
+        catch (CloneNotSupportedException e) {
+            return null;
+        }
+        double v0 = start / scale;
+        double v1 = (start + length) / scale;
+        result.setRange(new Range(Math.min(v0, v1), Math.max(v0, v1)), true,
+                false);
+        return result;
+    }
+
+    /**
+     * Identifies a tile.
+     */
+    private static final class TileKey {
+
+        /** The plot. */
+        private WeakReference plot;
+
+        /** The version of the plot's datasets and renderers. */
+        private long version;
+
+        /** The dataset. */
+        private WeakReference dataset;
+
+        /** The renderer. */
+        private WeakReference renderer;
+
+        /** The hash code. */
+        private int hashCode;
+
+        /** The series rendering order. */
+        private SeriesRenderingOrder order;
+
+        /** The foreground alpha. */
+        private float alpha;
+
+        /** The antialiasing hint. */
+        private Object antialias;
+
+        /** A flag that indicates whether the domain axis is horizontal. */
+        private boolean horizontal;
+
+        /** The horizontal scale. */
+        private double acrossScale;
+
+        /** The vertical scale. */
+        private double downScale;
+
+        /** The column of the tile. */
+        private long column;
+
+        /** The row of the tile. */
+        private long row;
+
+        /**
+         * Creates a new key.
+         *
+         * @param plot  the plot.
+         * @param version  the version of the plot's datasets and renderers.
+         * @param dataset  the dataset.
+         * @param renderer  the renderer.
+         * @param order  the series rendering order.
+         * @param alpha  the foreground alpha.
+         * @param antialias  the antialiasing hint.
+         * @param horizontal  whether the domain axis is horizontal.
+         * @param acrossScale  the horizontal scale.
+         * @param downScale  the vertical scale.
+         * @param column  the column.
+         * @param row  the row.
+         */
+        TileKey(XYPlot plot, long version, XYDataset dataset,
+                XYItemRenderer renderer, SeriesRenderingOrder order,
+                float alpha, Object antialias, boolean horizontal,
+                double acrossScale, double downScale, long column, long row) {
+            this.plot = new WeakReference(plot);
+            this.version = version;
+            this.dataset = new WeakReference(dataset);
+            this.renderer = new WeakReference(renderer);
+            this.order = order;
+            this.alpha = alpha;
+            this.antialias = antialias;
+            this.horizontal = horizontal;
+            this.acrossScale = acrossScale;
+            this.downScale = downScale;
+            this.column = column;
+            this.row = row;
+            long bits = Double.doubleToLongBits(acrossScale)
+                + 31 * Double.doubleToLongBits(downScale);
+            int result = System.identityHashCode(dataset);
+            result = 37 * result + System.identityHashCode(renderer);
+            result = 37 * result + (int) (version ^ (version >>> 32));
+            result = 37 * result + (int) (bits ^ (bits >>> 32));
+            result = 37 * result + (int) (column ^ (column >>> 32));
+            result = 37 * result + (int) (row ^ (row >>> 32));
+            this.hashCode = result;
+        }
+
+        /**
+         * Returns <code>true</code> if two weak references refer to the same
+         * object, and it has not been discarded.
+         *
+         * @param r1  the first reference.
+         * @param r2  the second reference.
+         *
+         * @return A boolean.
+         */
+        private static boolean same(WeakReference r1, WeakReference r2) {
+            Object obj = r1.get();
+            return obj != null && obj == r2.get();
+        }
+
+        /**
+         * Tests this key for equality with an arbitrary object.
+         *
+         * @param obj  the object (<code>null</code> permitted).
+         *
+         * @return A boolean.
+         */
+        public boolean equals(Object obj) {
+            if (!(obj instanceof TileKey)) {
+                return false;
+            }
+            TileKey that = (TileKey) obj;
+            return same(this.plot, that.plot) && this.version == that.version
+                && same(this.dataset, that.dataset)
+                && same(this.renderer, that.renderer)
+                && this.order == that.order && this.alpha == that.alpha
+                && this.antialias == that.antialias
+                && this.horizontal == that.horizontal
+                && this.acrossScale == that.acrossScale
+                && this.downScale == that.downScale
+                && this.column == that.column && this.row == that.row;
+        }
+
+        /**
+         * Returns a hash code for this key.
+         *
+         * @return A hash code.
+         */
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+    }
+
+}
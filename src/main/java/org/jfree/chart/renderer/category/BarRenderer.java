@@ -73,6 +73,7 @@
  * 01-Dec-2005 : Update legend item to use/not use outline (DG);
  * 06-Dec-2005 : Fixed bug 1374222 (JDK 1.4 specific code) (DG);
  * 11-Jan-2006 : Fixed bug 1401856 (bad rendering for non-zero base) (DG);
+ * 19-Oct-2026 : Read the item value with getDoubleValue();
  * 
  */
 
@@ -666,13 +667,11 @@ public class BarRenderer extends AbstractCategoryItemRenderer
                          int pass) {
 
         // nothing is drawn for null values...
-        Number dataValue = dataset.getValue(row, column);
-        if (dataValue == null) {
+        double value = dataset.getDoubleValue(row, column);
+        if (Double.isNaN(value)) {
             return;
         }
         
-        double value = dataValue.doubleValue();
-        
         PlotOrientation orientation = plot.getOrientation();
         double barW0 = calculateBarW0(plot, orientation, dataArea, domainAxis, 
                 state, row, column);
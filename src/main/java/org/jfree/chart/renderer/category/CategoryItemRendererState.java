@@ -36,6 +36,7 @@
  * Changes (since 20-Oct-2003):
  * ----------------------------
  * 20-Oct-2003 : Added series running total (DG);
+ * 18-Oct-2026 : Added stacked values table;
  *
  */
 
@@ -43,6 +44,7 @@ package org.jfree.chart.renderer.category;
 
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.renderer.RendererState;
+import org.jfree.data.general.StackedValues;
 
 /**
  * An object that retains temporary state information for a 
@@ -55,6 +57,9 @@ public class CategoryItemRendererState extends RendererState {
     
     /** The series running total. */
     private double seriesRunningTotal;
+
+    /** The cumulative stack values (used by stacked renderers only). */
+    private StackedValues stackedValues;
     
     /**
      * Creates a new object for recording temporary state information for a
@@ -105,5 +110,26 @@ public class CategoryItemRendererState extends RendererState {
     void setSeriesRunningTotal(double total) {
         this.seriesRunningTotal = total;
     }
+
+    /**
+     * Returns the cumulative stack values for the dataset being rendered.  
+     * Stacked renderers calculate these in their <code>initialise()</code> 
+     * method.
+     * 
+     * @return The stacked values (possibly <code>null</code>).
+     */
+    public StackedValues getStackedValues() {
+        return this.stackedValues;
+    }
+
+    /**
+     * Sets the cumulative stack values (this method is intended for the use 
+     * of the renderer only).
+     * 
+     * @param values  the stacked values (<code>null</code> permitted).
+     */
+    public void setStackedValues(StackedValues values) {
+        this.stackedValues = values;
+    }
     
 }
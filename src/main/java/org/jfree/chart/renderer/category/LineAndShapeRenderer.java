@@ -78,6 +78,7 @@
  * 15-Mar-2005 : Fixed bug 1163897, concerning outlines for shapes (DG);
  * 13-Apr-2005 : Check flags that control series visibility (DG);
  * 20-Apr-2005 : Use generators for legend labels, tooltips and URLs (DG);
+ * 19-Oct-2026 : Read the item values with getDoubleValue();
  *
  */
 
@@ -700,8 +701,8 @@ public class LineAndShapeRenderer extends AbstractCategoryItemRenderer
         }
 
         // nothing is drawn for null...
-        Number v = dataset.getValue(row, column);
-        if (v == null) {
+        double value = dataset.getDoubleValue(row, column);
+        if (Double.isNaN(value)) {
             return;
         }
 
@@ -711,17 +712,15 @@ public class LineAndShapeRenderer extends AbstractCategoryItemRenderer
         double x1 = domainAxis.getCategoryMiddle(
             column, getColumnCount(), dataArea, plot.getDomainAxisEdge()
         );
-        double value = v.doubleValue();
         double y1 = rangeAxis.valueToJava2D(
             value, dataArea, plot.getRangeAxisEdge()
         );
 
         if (pass == 0 && getItemLineVisible(row, column)) {
             if (column != 0) {
-                Number previousValue = dataset.getValue(row, column - 1);
-                if (previousValue != null) {
+                double previous = dataset.getDoubleValue(row, column - 1);
+                if (!Double.isNaN(previous)) {
                     // previous data point...
-                    double previous = previousValue.doubleValue();
                     double x0 = domainAxis.getCategoryMiddle(
                         column - 1, getColumnCount(), dataArea, 
                         plot.getDomainAxisEdge()
@@ -55,6 +55,10 @@
  * 29-Apr-2004 : Added getRangeExtent() override (DG);
  * 05-Nov-2004 : Modified drawItem() signature (DG);
  * 07-Jan-2005 : Renamed getRangeExtent() --> findRangeBounds() (DG);
+ * 18-Oct-2026 : Look up previous heights in a StackedValues table 
+ *               calculated in initialise();
+ * 19-Oct-2026 : Made the table lookup optional (see the precalculateHeights
+ *               flag) and ignore NaN values in getPreviousHeight();
  * 
  */
 
@@ -71,9 +75,11 @@ import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.plot.CategoryPlot;
 import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.data.Range;
 import org.jfree.data.category.CategoryDataset;
 import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.general.StackedValues;
 import org.jfree.ui.RectangleEdge;
 import org.jfree.util.PublicCloneable;
 
@@ -89,12 +95,76 @@ public class StackedAreaRenderer extends AreaRenderer
 
     /** For serialization. */
     private static final long serialVersionUID = -3595635038460823663L;
+
+    /** 
+     * A flag that controls whether the previous heights are looked up in a 
+     * table calculated once per draw. 
+     */
+    private boolean precalculateHeights;
      
     /**
      * Creates a new renderer.
      */
     public StackedAreaRenderer() {
         super();
+        this.precalculateHeights = false;
+    }
+
+    /**
+     * Returns the flag that controls whether the previous heights are looked
+     * up in a {@link StackedValues} table that is calculated once per draw.
+     *
+     * @return A boolean.
+     *
+     * @see #setPrecalculateHeights(boolean)
+     */
+    public boolean isPrecalculateHeights() {
+        return this.precalculateHeights;
+    }
+
+    /**
+     * Sets the flag that controls whether the previous heights are looked up
+     * in a {@link StackedValues} table that is calculated once per draw, 
+     * rather than by calling {@link #getPreviousHeight(CategoryDataset, int, 
+     * int)} for every item.  This is much faster for datasets with many 
+     * series, but a subclass that overrides 
+     * <code>getPreviousHeight()</code> should leave the flag set to 
+     * <code>false</code> (the default).
+     *
+     * @param precalculate  the new flag value.
+     *
+     * @see #isPrecalculateHeights()
+     */
+    public void setPrecalculateHeights(boolean precalculate) {
+        this.precalculateHeights = precalculate;
+    }
+
+    /**
+     * Initialises the renderer and returns a state object that will be passed
+     * to subsequent calls to the drawItem method.  If the 
+     * <code>precalculateHeights</code> flag is set, the state records the 
+     * cumulative stack values for the dataset.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the area in which the data is to be plotted.
+     * @param plot  the plot.
+     * @param rendererIndex  the renderer index.
+     * @param info  collects chart rendering information for return to caller.
+     * 
+     * @return The renderer state.
+     */
+    public CategoryItemRendererState initialise(Graphics2D g2,
+                                                Rectangle2D dataArea,
+                                                CategoryPlot plot,
+                                                int rendererIndex,
+                                                PlotRenderingInfo info) {
+        CategoryItemRendererState state = super.initialise(g2, dataArea, plot,
+                rendererIndex, info);
+        CategoryDataset dataset = plot.getDataset(rendererIndex);
+        if (dataset != null && this.precalculateHeights) {
+            state.setStackedValues(new StackedValues(dataset));
+        }
+        return state;
     }
 
     /**
@@ -166,9 +236,9 @@ public class StackedAreaRenderer extends AreaRenderer
                 // Get the previous height, but this will be different for both
                 // y0 and y1 as the previous series values could differ.
                 double previousHeightx0Untranslated 
-                    = getPreviousHeight(dataset, row, column - 1);
+                    = getPreviousHeight(state, dataset, row, column - 1);
                 double previousHeightx1Untranslated 
-                    = getPreviousHeight(dataset, row, column);
+                    = getPreviousHeight(state, dataset, row, column);
 
                 // Now stack the current y values on top of the previous values.
                 y0Untranslated += previousHeightx0Untranslated;
@@ -243,7 +313,7 @@ public class StackedAreaRenderer extends AreaRenderer
         Number tmp;
         for (int i = 0; i < series; i++) {
             tmp = data.getValue(i, category);
-            if (tmp != null) {
+            if (tmp != null && !Double.isNaN(tmp.doubleValue())) {
                 result += tmp.doubleValue();
             }
         }
@@ -251,4 +321,48 @@ public class StackedAreaRenderer extends AreaRenderer
 
     }
 
-}
\ No newline at end of file
+    /**
+     * Returns the previous height for an item, using the stacked values in 
+     * the renderer state if they were calculated for the dataset, and falling
+     * back to {@link #getPreviousHeight(CategoryDataset, int, int)} 
+     * otherwise.
+     *
+     * @param state  the renderer state.
+     * @param data  the dataset.
+     * @param series  the series index.
+     * @param category  the category index.
+     *
+     * @return The previous height.
+     */
+    private double getPreviousHeight(CategoryItemRendererState state, 
+                                     CategoryDataset data, 
+                                     int series, int category) {
+        StackedValues stacks = state.getStackedValues();
+        if (stacks != null && stacks.getDataset() == data) {
+            return stacks.getBase(series, category);
+        }
+        return getPreviousHeight(data, series, category);
+    }
+
+    /**
+     * Tests the renderer for equality with an arbitrary object.
+     * 
+     * @param obj  the object (<code>null</code> permitted).
+     * 
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof StackedAreaRenderer)) {
+            return false;
+        }
+        StackedAreaRenderer that = (StackedAreaRenderer) obj;
+        if (this.precalculateHeights != that.precalculateHeights) {
+            return false;
+        }
+        return super.equals(obj);
+    }
+
+}
@@ -85,6 +85,9 @@
  * 22-Sep-2005 : Renamed getMaxBarWidth() --> getMaximumBarWidth() (DG);
  * 30-Sep-2005 : Use outline stroke in drawItem() method - fixes bug 
  *               1304139 (DG);
+ * 18-Oct-2026 : Look up the bar bases in a StackedValues table calculated in
+ *               initialise();
+ * 19-Oct-2026 : Read the item values with getDoubleValue();
  */
 
 package org.jfree.chart.renderer.category;
@@ -104,10 +107,12 @@ import org.jfree.chart.labels.ItemLabelAnchor;
 import org.jfree.chart.labels.ItemLabelPosition;
 import org.jfree.chart.plot.CategoryPlot;
 import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.data.DataUtilities;
 import org.jfree.data.Range;
 import org.jfree.data.category.CategoryDataset;
 import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.general.StackedValues;
 import org.jfree.ui.GradientPaintTransformer;
 import org.jfree.ui.RectangleEdge;
 import org.jfree.ui.TextAnchor;
@@ -193,6 +198,35 @@ public class StackedBarRenderer extends BarRenderer
         return 2;
     }
     
+    /**
+     * Initialises the renderer and returns a state object that will be passed
+     * to subsequent calls to the drawItem method.  In addition to the bar 
+     * width, the state records the cumulative stack values for the dataset, 
+     * so that the base of each bar does not have to be recalculated from the
+     * preceding series.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the area in which the data is to be plotted.
+     * @param plot  the plot.
+     * @param rendererIndex  the renderer index.
+     * @param info  collects chart rendering information for return to caller.
+     * 
+     * @return The renderer state.
+     */
+    public CategoryItemRendererState initialise(Graphics2D g2,
+                                                Rectangle2D dataArea,
+                                                CategoryPlot plot,
+                                                int rendererIndex,
+                                                PlotRenderingInfo info) {
+        CategoryItemRendererState state = super.initialise(g2, dataArea, plot,
+                rendererIndex, info);
+        CategoryDataset dataset = plot.getDataset(rendererIndex);
+        if (dataset != null) {
+            state.setStackedValues(new StackedValues(dataset));
+        }
+        return state;
+    }
+
     /**
      * Returns the range of values the renderer requires to display all the
      * items from the specified dataset.
@@ -281,15 +315,24 @@ public class StackedBarRenderer extends BarRenderer
                          int pass) {
      
         // nothing is drawn for null values...
-        Number dataValue = dataset.getValue(row, column);
-        if (dataValue == null) {
+        double value = dataset.getDoubleValue(row, column);
+        if (Double.isNaN(value)) {
             return;
         }
         
-        double value = dataValue.doubleValue();
+        StackedValues stacks = state.getStackedValues();
+        if (stacks != null && stacks.getDataset() != dataset) {
+            stacks = null;
+        }
+
         double total = 0.0;  // only needed if calculating percentages
         if (this.renderAsPercentages) {
-            total = DataUtilities.calculateColumnTotal(dataset, column);
+            if (stacks != null) {
+                total = stacks.getTotal(column);
+            }
+            else {
+                total = DataUtilities.calculateColumnTotal(dataset, column);
+            }
             value = value / total;
         }
         
@@ -301,18 +344,35 @@ public class StackedBarRenderer extends BarRenderer
         double positiveBase = getBase();
         double negativeBase = positiveBase;
 
-        for (int i = 0; i < row; i++) {
-            Number v = dataset.getValue(i, column);
-            if (v != null) {
-                double d = v.doubleValue();
-                if (this.renderAsPercentages) {
-                    d = d / total;
+        if (stacks != null) {
+            double p = stacks.getPositiveBase(row, column);
+            double n = stacks.getNegativeBase(row, column);
+            if (this.renderAsPercentages) {
+                p = p / total;
+                n = n / total;
+                if (total < 0.0) {
+                    // dividing by a negative total swaps the signs...
+                    double tmp = p;
+                    p = n;
+                    n = tmp;
                 }
-                if (d > 0) {
-                    positiveBase = positiveBase + d;
-                }
-                else {
-                    negativeBase = negativeBase + d;
+            }
+            positiveBase = positiveBase + p;
+            negativeBase = negativeBase + n;
+        }
+        else {
+            for (int i = 0; i < row; i++) {
+                double d = dataset.getDoubleValue(i, column);
+                if (!Double.isNaN(d)) {
+                    if (this.renderAsPercentages) {
+                        d = d / total;
+                    }
+                    if (d > 0) {
+                        positiveBase = positiveBase + d;
+                    }
+                    else {
+                        negativeBase = negativeBase + d;
+                    }
                 }
             }
         }
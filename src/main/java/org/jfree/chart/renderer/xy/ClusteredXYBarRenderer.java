@@ -55,6 +55,10 @@
  *               the 'base' setting from the super-class. Added an equals() 
  *               method (DG);
  * 19-May-2005 : Added minimal item label implementation - needs improving (DG);
+ * 18-Oct-2026 : Use the interval read by the superclass in initialise()
+ *               for a UniformIntervalXYDataset;
+ * 18-Oct-2026 : Don't allow the plot to skip the items outside the visible
+ *               domain when the bars are centered on the start value;
  * 
  */
 
@@ -119,6 +123,33 @@ public class ClusteredXYBarRenderer extends XYBarRenderer
         this.centerBarAtStartValue = centerBarAtStartValue;
     }
 
+    /**
+     * Initialises the renderer.  When the bars are centered on the start 
+     * value, a bar can be drawn outside the x-interval of its item, so the 
+     * plot must not skip the items outside the visible domain.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the area inside the axes.
+     * @param plot  the plot.
+     * @param dataset  the data.
+     * @param info  an optional info collection object to return data back to
+     *              the caller.
+     *
+     * @return A state object.
+     */
+    public XYItemRendererState initialise(Graphics2D g2,
+                                          Rectangle2D dataArea,
+                                          XYPlot plot,
+                                          XYDataset dataset,
+                                          PlotRenderingInfo info) {
+        XYItemRendererState state = super.initialise(g2, dataArea, plot, 
+                dataset, info);
+        if (this.centerBarAtStartValue) {
+            state.setProcessVisibleItemsOnly(false);
+        }
+        return state;
+    }
+
     /**
      * Draws the visual representation of a single data item. This method
      * is mostly copied from the superclass, the change is that in the
@@ -179,12 +210,12 @@ public class ClusteredXYBarRenderer extends XYBarRenderer
         );
 
         RectangleEdge xAxisLocation = plot.getDomainAxisEdge();
-        double x1 = intervalDataset.getStartXValue(series, item);
+        double x1 = getStartXValue(state, intervalDataset, series, item);
         double translatedX1 = domainAxis.valueToJava2D(
             x1, dataArea, xAxisLocation
         );
 
-        double x2 = intervalDataset.getEndXValue(series, item);
+        double x2 = getEndXValue(state, intervalDataset, series, item);
         double translatedX2 = domainAxis.valueToJava2D(
             x2, dataArea, xAxisLocation
         );
@@ -54,6 +54,10 @@
  * 06-Jan-2005 : Override equals() (DG);
  * 07-Jan-2005 : Update for method name changes in DatasetUtilities (DG);
  * 28-Mar-2005 : Use getXValue() and getYValue() from dataset (DG);
+ * 18-Oct-2026 : Look up previous heights in a StackedValues table 
+ *               calculated in initialise();
+ * 19-Oct-2026 : Made the table lookup optional (see the precalculateHeights
+ *               flag);
  * 
  */
 
@@ -84,6 +88,7 @@ import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.urls.XYURLGenerator;
 import org.jfree.data.Range;
 import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.general.StackedValues;
 import org.jfree.data.xy.TableXYDataset;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.io.SerialUtilities;
@@ -209,6 +214,12 @@ public class StackedXYAreaRenderer extends XYAreaRenderer
      */
     private Stroke shapeStroke = null;
 
+    /** 
+     * A flag that controls whether the previous heights are looked up in a 
+     * table calculated once per draw. 
+     */
+    private boolean precalculateHeights = false;
+
     /**
      * Creates a new renderer.
      */
@@ -280,6 +291,35 @@ public class StackedXYAreaRenderer extends XYAreaRenderer
         this.shapeStroke = shapeStroke;
     }
 
+    /**
+     * Returns the flag that controls whether the previous heights are looked
+     * up in a {@link StackedValues} table that is calculated once per draw.
+     *
+     * @return A boolean.
+     *
+     * @see #setPrecalculateHeights(boolean)
+     */
+    public boolean isPrecalculateHeights() {
+        return this.precalculateHeights;
+    }
+
+    /**
+     * Sets the flag that controls whether the previous heights are looked up
+     * in a {@link StackedValues} table that is calculated once per draw, 
+     * rather than by calling {@link #getPreviousHeight(TableXYDataset, int, 
+     * int)} for every item.  This is much faster for datasets with many 
+     * series, but a subclass that overrides 
+     * <code>getPreviousHeight()</code> should leave the flag set to 
+     * <code>false</code> (the default).
+     *
+     * @param precalculate  the new flag value.
+     *
+     * @see #isPrecalculateHeights()
+     */
+    public void setPrecalculateHeights(boolean precalculate) {
+        this.precalculateHeights = precalculate;
+    }
+
     /**
      * Initialises the renderer. This method will be called before the first
      * item is rendered, giving the renderer an opportunity to initialise any 
@@ -302,7 +342,11 @@ public class StackedXYAreaRenderer extends XYAreaRenderer
                                           XYDataset data,
                                           PlotRenderingInfo info) {
 
-        return new StackedXYAreaRendererState(info);
+        XYItemRendererState state = new StackedXYAreaRendererState(info);
+        if (data instanceof TableXYDataset && this.precalculateHeights) {
+            state.setStackedValues(new StackedValues((TableXYDataset) data));
+        }
+        return state;
 
     }
 
@@ -383,7 +427,7 @@ public class StackedXYAreaRenderer extends XYAreaRenderer
         }
 
         //  Get height adjustment based on stack and translate to Java2D values
-        double ph1 = getPreviousHeight(tdataset, series, item);
+        double ph1 = getPreviousHeight(state, tdataset, series, item);
         double transX1 = domainAxis.valueToJava2D(
             x1, dataArea, plot.getDomainAxisEdge()
         );
@@ -443,7 +487,9 @@ public class StackedXYAreaRenderer extends XYAreaRenderer
                     // get the previous data point...
                     double x0 = dataset.getXValue(series, item - 1);
                     double y0 = dataset.getYValue(series, item - 1);
-                    double ph0 = getPreviousHeight(tdataset, series, item - 1);
+                    double ph0 = getPreviousHeight(
+                        state, tdataset, series, item - 1
+                    );
                     double transX0 = domainAxis.valueToJava2D(
                         x0, dataArea, plot.getDomainAxisEdge()
                     );
@@ -613,6 +659,28 @@ public class StackedXYAreaRenderer extends XYAreaRenderer
         return result;
     }
     
+    /**
+     * Returns the previous height for an item, using the stacked values in 
+     * the renderer state if they were calculated for the dataset, and falling
+     * back to {@link #getPreviousHeight(TableXYDataset, int, int)} otherwise.
+     *
+     * @param state  the renderer state.
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param index  the item index.
+     *
+     * @return The previous height.
+     */
+    private double getPreviousHeight(XYItemRendererState state,
+                                     TableXYDataset dataset, 
+                                     int series, int index) {
+        StackedValues stacks = state.getStackedValues();
+        if (stacks != null && stacks.getDataset() == dataset) {
+            return stacks.getBase(series, index);
+        }
+        return getPreviousHeight(dataset, series, index);
+    }
+    
     /**
      * Tests the renderer for equality with an arbitrary object.
      * 
@@ -634,6 +702,9 @@ public class StackedXYAreaRenderer extends XYAreaRenderer
         if (!ObjectUtilities.equal(this.shapeStroke, that.shapeStroke)) {
             return false;
         }
+        if (this.precalculateHeights != that.precalculateHeights) {
+            return false;
+        }
         return true;
     }
 
@@ -43,6 +43,8 @@
  * 06-Jan-2004 : Renamed getRangeExtent() --> findRangeBounds (DG);
  * 28-Mar-2005 : Use getXValue() and getYValue() from dataset (DG);
  * 03-Oct-2005 : Add entity generation to drawItem() method (DG);
+ * 18-Oct-2026 : Look up stack values in a StackedValues table calculated in
+ *               initialise();
  * 
  */
 
@@ -63,6 +65,7 @@ import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.urls.XYURLGenerator;
 import org.jfree.data.Range;
+import org.jfree.data.general.StackedValues;
 import org.jfree.data.xy.TableXYDataset;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.ui.RectangleEdge;
@@ -98,6 +101,34 @@ public class StackedXYAreaRenderer2 extends XYAreaRenderer2
         super(labelGenerator, urlGenerator);
     }
 
+    /**
+     * Initialises the renderer.  The state returned by this method records 
+     * the cumulative stack values for the dataset, so that each item is 
+     * stacked without summing the values of all the preceding series.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the area inside the axes.
+     * @param plot  the plot.
+     * @param data  the data.
+     * @param info  an optional info collection object to return data back to 
+     *              the caller.
+     *
+     * @return A state object that should be passed to subsequent calls to the 
+     *         drawItem() method.
+     */
+    public XYItemRendererState initialise(Graphics2D g2,
+                                          Rectangle2D dataArea,
+                                          XYPlot plot,
+                                          XYDataset data,
+                                          PlotRenderingInfo info) {
+        XYItemRendererState state = super.initialise(g2, dataArea, plot, data,
+                info);
+        if (data instanceof TableXYDataset) {
+            state.setStackedValues(new StackedValues((TableXYDataset) data));
+        }
+        return state;
+    }
+
     /**
      * Returns the range of values the renderer requires to display all the 
      * items from the specified dataset.
@@ -176,7 +207,11 @@ public class StackedXYAreaRenderer2 extends XYAreaRenderer2
         if (Double.isNaN(y1)) {
             y1 = 0.0;
         }        
-        double[] stack1 = getStackValues(tdataset, series, item);
+        StackedValues stacks = state.getStackedValues();
+        if (stacks != null && stacks.getDataset() != dataset) {
+            stacks = null;
+        }
+        double[] stack1 = getStackValues(stacks, tdataset, series, item);
         
         // get the previous point and the next point so we can calculate a 
         // "hot spot" for the area (used by the chart entity)...
@@ -186,7 +221,7 @@ public class StackedXYAreaRenderer2 extends XYAreaRenderer2
             y0 = 0.0;
         }
         double[] stack0 = getStackValues(
-            tdataset, series, Math.max(item - 1, 0)
+            stacks, tdataset, series, Math.max(item - 1, 0)
         );
         
         int itemCount = dataset.getItemCount(series);
@@ -200,7 +235,7 @@ public class StackedXYAreaRenderer2 extends XYAreaRenderer2
             y2 = 0.0;
         }
         double[] stack2 = getStackValues(
-            tdataset, series, Math.min(item + 1, itemCount - 1)
+            stacks, tdataset, series, Math.min(item + 1, itemCount - 1)
         );
 
         double xleft = (x0 + x1) / 2.0;
@@ -371,6 +406,30 @@ public class StackedXYAreaRenderer2 extends XYAreaRenderer2
         return result;
     }
     
+    /**
+     * Returns the stack values for an item, reading them from the supplied 
+     * table if there is one, otherwise calculating them from the dataset.
+     *
+     * @param stacks  the stacked values (<code>null</code> permitted).
+     * @param dataset  the dataset.
+     * @param series  the series.
+     * @param index  the index.
+     *
+     * @return The negative (in [0]) and positive (in [1]) cumulative values 
+     *         for all series' values up to but excluding <code>series</code> 
+     *         for <code>index</code>.
+     */
+    private double[] getStackValues(StackedValues stacks, 
+            TableXYDataset dataset, int series, int index) {
+        if (stacks == null) {
+            return getStackValues(dataset, series, index);
+        }
+        double[] result = new double[2];
+        result[0] = stacks.getNegativeBase(series, index);
+        result[1] = stacks.getPositiveBase(series, index);
+        return result;
+    }
+
     /**
      * Returns a pair of "stack" values calculated from the two specified pairs.
      * 
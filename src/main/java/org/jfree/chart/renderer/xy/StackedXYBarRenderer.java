@@ -45,6 +45,8 @@
  *               than Number objects (DG);
  * 07-Jan-2005 : Updated for method name change in DatasetUtilities (DG);
  * 25-Jan-2005 : Modified to handle negative values correctly (DG);
+ * 18-Oct-2026 : Look up bar bases in a StackedValues table calculated in 
+ *               initialise();
  * 
  */
 
@@ -64,6 +66,7 @@ import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.XYPlot;
 import org.jfree.data.Range;
 import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.general.StackedValues;
 import org.jfree.data.xy.IntervalXYDataset;
 import org.jfree.data.xy.TableXYDataset;
 import org.jfree.data.xy.XYDataset;
@@ -103,8 +106,8 @@ public class StackedXYBarRenderer extends XYBarRenderer
 
     /**
      * Initialises the renderer and returns a state object that should be 
-     * passed to all subsequent calls to the drawItem() method. Here there is 
-     * nothing to do.
+     * passed to all subsequent calls to the drawItem() method.  The state 
+     * records the cumulative stack values for the dataset.
      *
      * @param g2  the graphics device.
      * @param dataArea  the area inside the axes.
@@ -120,7 +123,11 @@ public class StackedXYBarRenderer extends XYBarRenderer
                                           XYPlot plot,
                                           XYDataset data,
                                           PlotRenderingInfo info) {
-        return new XYBarRendererState(info);
+        XYItemRendererState state = new XYBarRendererState(info);
+        if (data instanceof TableXYDataset) {
+            state.setStackedValues(new StackedValues((TableXYDataset) data));
+        }
+        return state;
     }
 
     /**
@@ -201,14 +208,21 @@ public class StackedXYBarRenderer extends XYBarRenderer
         double positiveBase = 0.0;
         double negativeBase = 0.0;
 
-        for (int i = 0; i < series; i++) {
-            double v = dataset.getYValue(i, item);
-            if (!Double.isNaN(v)) {
-                if (v > 0) {
-                    positiveBase = positiveBase + v;
-                }
-                else {
-                    negativeBase = negativeBase + v;
+        StackedValues stacks = state.getStackedValues();
+        if (stacks != null && stacks.getDataset() == dataset) {
+            positiveBase = stacks.getPositiveBase(series, item);
+            negativeBase = stacks.getNegativeBase(series, item);
+        }
+        else {
+            for (int i = 0; i < series; i++) {
+                double v = dataset.getYValue(i, item);
+                if (!Double.isNaN(v)) {
+                    if (v > 0) {
+                        positiveBase = positiveBase + v;
+                    }
+                    else {
+                        negativeBase = negativeBase + v;
+                    }
                 }
             }
         }
@@ -71,6 +71,11 @@
  * 20-Apr-2005 : Use generators for label tooltips and URLs (DG);
  * 19-May-2005 : Added minimal item label implementation - needs improving (DG);
  * 14-Oct-2005 : Fixed rendering problem with inverted axes (DG);
+ * 18-Oct-2026 : Read the interval once per drawing for a
+ *               UniformIntervalXYDataset, and use the double versions of
+ *               the start and end x-values;
+ * 18-Oct-2026 : Allow the plot to skip the items outside the visible 
+ *               domain;
  * 
  */
 
@@ -102,6 +107,7 @@ import org.jfree.chart.plot.XYPlot;
 import org.jfree.data.Range;
 import org.jfree.data.general.DatasetUtilities;
 import org.jfree.data.xy.IntervalXYDataset;
+import org.jfree.data.xy.UniformIntervalXYDataset;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.io.SerialUtilities;
 import org.jfree.ui.GradientPaintTransformer;
@@ -134,6 +140,18 @@ public class XYBarRenderer extends AbstractXYItemRenderer
         /** Base for bars against the range axis, in Java 2D space. */
         private double g2Base;
         
+        /** 
+         * A flag that indicates whether the interval width and position 
+         * are set in the state (see {@link #setInterval(double, double)}).
+         */
+        private boolean intervalSet;
+        
+        /** The width of the x-interval for every item. */
+        private double intervalWidth;
+        
+        /** The position of the x-value within the x-interval. */
+        private double intervalPositionFactor;
+        
         /**
          * Creates a new state object.
          * 
@@ -160,6 +178,68 @@ public class XYBarRenderer extends AbstractXYItemRenderer
         public void setG2Base(double value) {
             this.g2Base = value;
         }
+        
+        /**
+         * Returns <code>true</code> if the interval width and position have 
+         * been set, and <code>false</code> otherwise.
+         * 
+         * @return A boolean.
+         */
+        public boolean isIntervalSet() {
+            return this.intervalSet;
+        }
+        
+        /**
+         * Sets the width and position of the x-interval for every item in 
+         * the dataset, so that the start and end x-values can be calculated
+         * from the x-values (see {@link UniformIntervalXYDataset}).
+         * 
+         * @param width  the interval width.
+         * @param positionFactor  the interval position factor.
+         */
+        public void setInterval(double width, double positionFactor) {
+            this.intervalWidth = width;
+            this.intervalPositionFactor = positionFactor;
+            this.intervalSet = true;
+        }
+        
+        /**
+         * Returns the start x-value for an item, using the interval in the
+         * state if it is set.
+         * 
+         * @param dataset  the dataset.
+         * @param series  the series index (zero-based).
+         * @param item  the item index (zero-based).
+         * 
+         * @return The start x-value.
+         */
+        public double getStartXValue(IntervalXYDataset dataset, int series, 
+                                     int item) {
+            if (this.intervalSet) {
+                return dataset.getXValue(series, item) 
+                    - this.intervalPositionFactor * this.intervalWidth;
+            }
+            return dataset.getStartXValue(series, item);
+        }
+        
+        /**
+         * Returns the end x-value for an item, using the interval in the
+         * state if it is set.
+         * 
+         * @param dataset  the dataset.
+         * @param series  the series index (zero-based).
+         * @param item  the item index (zero-based).
+         * 
+         * @return The end x-value.
+         */
+        public double getEndXValue(IntervalXYDataset dataset, int series, 
+                                   int item) {
+            if (this.intervalSet) {
+                return dataset.getXValue(series, item) 
+                    + (1.0 - this.intervalPositionFactor) * this.intervalWidth;
+            }
+            return dataset.getEndXValue(series, item);
+        }
     }
 
     /** The default base value for the bars. */
@@ -369,6 +449,12 @@ public class XYBarRenderer extends AbstractXYItemRenderer
                 this.base, dataArea, plot.getRangeAxisEdge()
             )
         );
+        if (dataset instanceof UniformIntervalXYDataset) {
+            UniformIntervalXYDataset d = (UniformIntervalXYDataset) dataset;
+            state.setInterval(d.getIntervalWidth(), 
+                    d.getIntervalPositionFactor());
+        }
+        state.setProcessVisibleItemsOnly(true);
         return state;
 
     }
@@ -480,20 +566,20 @@ public class XYBarRenderer extends AbstractXYItemRenderer
         );
 
         RectangleEdge location = plot.getDomainAxisEdge();
-        Number startXNumber = intervalDataset.getStartX(series, item);
-        if (startXNumber == null) {
+        double startX = getStartXValue(state, intervalDataset, series, item);
+        if (Double.isNaN(startX)) {
             return;
         }
         double translatedStartX = domainAxis.valueToJava2D(
-            startXNumber.doubleValue(), dataArea, location
+            startX, dataArea, location
         );
 
-        Number endXNumber = intervalDataset.getEndX(series, item);
-        if (endXNumber == null) {
+        double endX = getEndXValue(state, intervalDataset, series, item);
+        if (Double.isNaN(endX)) {
             return;
         }
         double translatedEndX = domainAxis.valueToJava2D(
-            endXNumber.doubleValue(), dataArea, location
+            endX, dataArea, location
         );
 
         double translatedWidth = Math.max(
@@ -572,6 +658,52 @@ public class XYBarRenderer extends AbstractXYItemRenderer
 
     }
 
+    /**
+     * Returns the start x-value for an item.  If the state is an 
+     * {@link XYBarRendererState} with the interval set, the value is 
+     * calculated from the x-value without calling the dataset for the 
+     * interval.
+     * 
+     * @param state  the renderer state.
+     * @param dataset  the dataset.
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     * 
+     * @return The start x-value.
+     */
+    protected double getStartXValue(XYItemRendererState state, 
+                                    IntervalXYDataset dataset, 
+                                    int series, int item) {
+        if (state instanceof XYBarRendererState) {
+            return ((XYBarRendererState) state).getStartXValue(dataset, 
+                    series, item);
+        }
+        return dataset.getStartXValue(series, item);
+    }
+
+    /**
+     * Returns the end x-value for an item.  If the state is an 
+     * {@link XYBarRendererState} with the interval set, the value is 
+     * calculated from the x-value without calling the dataset for the 
+     * interval.
+     * 
+     * @param state  the renderer state.
+     * @param dataset  the dataset.
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     * 
+     * @return The end x-value.
+     */
+    protected double getEndXValue(XYItemRendererState state, 
+                                  IntervalXYDataset dataset, 
+                                  int series, int item) {
+        if (state instanceof XYBarRendererState) {
+            return ((XYBarRendererState) state).getEndXValue(dataset, 
+                    series, item);
+        }
+        return dataset.getEndXValue(series, item);
+    }
+
     /**
      * Returns the lower and upper bounds (range) of the x-values in the 
      * specified dataset.  Since this renderer uses the x-interval in the 
@@ -37,6 +37,8 @@
  * --------
  * 07-Oct-2003 : Version 1 (DG);
  * 27-Jan-2004 : Added workingLine attribute (DG);
+ * 18-Oct-2026 : Added stacked values table;
+ * 18-Oct-2026 : Added processVisibleItemsOnly flag;
  * 
  */
 
@@ -46,6 +48,8 @@ import java.awt.geom.Line2D;
 
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.renderer.RendererState;
+import org.jfree.data.general.StackedValues;
+import org.jfree.data.xy.IntervalIndexedXYDataset;
 
 /**
  * The state for an {@link XYItemRenderer}.
@@ -57,6 +61,15 @@ public class XYItemRendererState extends RendererState {
      * of objects. 
      */
     public Line2D workingLine;
+
+    /** The cumulative stack values (used by stacked renderers only). */
+    private StackedValues stackedValues;
+    
+    /** 
+     * A flag that indicates whether the plot may skip the items that lie 
+     * outside the visible domain. 
+     */
+    private boolean processVisibleItemsOnly;
     
     /**
      * Creates a new state.
@@ -67,5 +80,50 @@ public class XYItemRendererState extends RendererState {
         super(info);
         this.workingLine = new Line2D.Double();
     }
+
+    /**
+     * Returns the cumulative stack values for the dataset being rendered.  
+     * Stacked renderers calculate these in their <code>initialise()</code> 
+     * method.
+     * 
+     * @return The stacked values (possibly <code>null</code>).
+     */
+    public StackedValues getStackedValues() {
+        return this.stackedValues;
+    }
+
+    /**
+     * Sets the cumulative stack values (this method is intended for the use 
+     * of the renderer only).
+     * 
+     * @param values  the stacked values (<code>null</code> permitted).
+     */
+    public void setStackedValues(StackedValues values) {
+        this.stackedValues = values;
+    }
+    
+    /**
+     * Returns the flag that indicates whether the plot may skip the items 
+     * that lie outside the visible domain, for a dataset that can find the
+     * visible items (see {@link IntervalIndexedXYDataset}).  This is only 
+     * safe for a renderer that draws each item independently, within the 
+     * x-interval of the item.  The default is <code>false</code>.
+     * 
+     * @return A boolean.
+     */
+    public boolean getProcessVisibleItemsOnly() {
+        return this.processVisibleItemsOnly;
+    }
+    
+    /**
+     * Sets the flag that indicates whether the plot may skip the items that
+     * lie outside the visible domain (this method is intended for the use of
+     * the renderer only).
+     * 
+     * @param flag  the new flag value.
+     */
+    public void setProcessVisibleItemsOnly(boolean flag) {
+        this.processVisibleItemsOnly = flag;
+    }
     
 }
@@ -38,6 +38,8 @@
  * 26-Nov-2002 : Version 1 contributed by David M. O'Donnell (DG);
  * 26-Mar-2003 : Implemented Serializable (DG);
  * 14-Aug-2003 : Implemented Cloneable (DG);
+ * 18-Oct-2026 : Added getColorIndex() and getRGB() methods so that colors
+ *               can be looked up without creating Color objects;
  *
  */
 
@@ -132,6 +134,17 @@ public abstract class ColorPalette implements Cloneable, Serializable {
      * @return The color.
      */
     public Color getColorLinear(double value) {
+        return getColor(getColorIndexLinear(value));
+    }
+
+    /**
+     * Returns the index of the palette color for a value on a linear palette.
+     *
+     * @param value  the value.
+     *
+     * @return The color index (in the range 2 to 255).
+     */
+    private int getColorIndexLinear(double value) {
         int izV = 0;
         if (this.stepped) {
             int index = Arrays.binarySearch(this.tickValues, value);
@@ -150,7 +163,7 @@ public abstract class ColorPalette implements Cloneable, Serializable {
         izV = (int) (253 * (value - this.minZ) / (this.maxZ - this.minZ)) + 2;
         izV = Math.min(izV, 255);
         izV = Math.max(izV, 2);
-        return getColor(izV);
+        return izV;
     }
 
     /**
@@ -161,6 +174,18 @@ public abstract class ColorPalette implements Cloneable, Serializable {
      * @return The color.
      */
     public Color getColorLog(double value) {
+        return getColor(getColorIndexLog(value));
+    }
+
+    /**
+     * Returns the index of the palette color for a value on a common log 
+     * palette.
+     *
+     * @param value  the value.
+     *
+     * @return The color index (in the range 2 to 255).
+     */
+    private int getColorIndexLog(double value) {
         int izV = 0;
         double minZtmp = this.minZ;
         double maxZtmp = this.maxZ;
@@ -190,7 +215,7 @@ public abstract class ColorPalette implements Cloneable, Serializable {
         this.minZ = minZtmp;
         this.maxZ = maxZtmp;
 
-        return getColor(izV);
+        return izV;
     }
 
     /**
@@ -228,6 +253,39 @@ public abstract class ColorPalette implements Cloneable, Serializable {
         }
     }
 
+    /**
+     * Returns the index of the palette color for a value, mapping the value to
+     * either a linear or common log palette as controlled by the value 
+     * logscale.  The color for the index is given by {@link #getColor(int)} 
+     * or {@link #getRGB(int)}.
+     *
+     * @param value  the value.
+     *
+     * @return The color index (in the range 2 to 255).
+     */
+    public int getColorIndex(double value) {
+        if (isLogscale()) {
+            return getColorIndexLog(value);
+        }
+        else {
+            return getColorIndexLinear(value);
+        }
+    }
+
+    /**
+     * Returns the opaque color at an index in the palette as an ARGB value, 
+     * as returned by {@link Color#getRGB()}.  Unlike {@link #getColor(int)}, 
+     * no <code>Color</code> object is created.
+     *
+     * @param izV  the color index.
+     *
+     * @return The ARGB value.
+     */
+    public int getRGB(int izV) {
+        return 0xFF000000 | ((this.r[izV] & 0xFF) << 16) 
+            | ((this.g[izV] & 0xFF) << 8) | (this.b[izV] & 0xFF);
+    }
+
     /**
      * Returns the palette name.
      *
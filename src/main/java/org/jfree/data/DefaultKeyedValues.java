@@ -48,16 +48,23 @@
  * 25-Nov-2004 : Small update to the clone() implementation (DG);
  * 24-Feb-2005 : Added methods addValue(Comparable, double) and 
  *               setValue(Comparable, double) for convenience (DG);
+ * 18-Oct-2026 : Added a hash index for key lookups;
+ * 19-Oct-2026 : Rebuild the key index on deserialization;
+ * 19-Oct-2026 : Override getDoubleValue() to avoid boxing;
  *
  */
 
 package org.jfree.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.jfree.util.ObjectUtilities;
 import org.jfree.util.PublicCloneable;
@@ -77,11 +84,15 @@ public class DefaultKeyedValues implements KeyedValues,
     /** Storage for the data. */
     private List data;
 
+    /** Contains (key, Integer) mappings, where the Integer is the index. */
+    private transient Map indexMap;
+
     /**
      * Creates a new collection (initially empty).
      */
     public DefaultKeyedValues() {
         this.data = new java.util.ArrayList();
+        this.indexMap = new HashMap();
     }
 
     /**
@@ -111,6 +122,21 @@ public class DefaultKeyedValues implements KeyedValues,
         return result;
     }
 
+    /**
+     * Returns a value as a primitive.
+     *
+     * @param item  the item of interest (zero-based index).
+     *
+     * @return The value (<code>Double.NaN</code> if the value is 
+     *         <code>null</code>).
+     * 
+     * @throws IndexOutOfBoundsException if <code>item</code> is out of bounds.
+     */
+    public double getDoubleValue(int item) {
+        Number n = ((KeyedValue) this.data.get(item)).getValue();
+        return (n != null ? n.doubleValue() : Double.NaN);
+    }
+
     /**
      * Returns a key.
      *
@@ -137,16 +163,11 @@ public class DefaultKeyedValues implements KeyedValues,
      * @return The index, or <code>-1</code> if the key is unrecognised.
      */
     public int getIndex(Comparable key) {
-        int i = 0;
-        Iterator iterator = this.data.iterator();
-        while (iterator.hasNext()) {
-            KeyedValue kv = (KeyedValue) iterator.next();
-            if (kv.getKey().equals(key)) {
-                return i;
-            }
-            i++;
+        Integer i = (Integer) this.indexMap.get(key);
+        if (i == null) {
+            return -1;  // key not found
         }
-        return -1;  // key not found
+        return i.intValue();
     }
 
     /**
@@ -230,6 +251,7 @@ public class DefaultKeyedValues implements KeyedValues,
         }
         else {
             KeyedValue kv = new DefaultKeyedValue(key, value);
+            this.indexMap.put(key, new Integer(this.data.size()));
             this.data.add(kv);
         }
     }
@@ -240,7 +262,9 @@ public class DefaultKeyedValues implements KeyedValues,
      * @param index  the index of the item to remove.
      */
     public void removeValue(int index) {
-        this.data.remove(index);
+        KeyedValue kv = (KeyedValue) this.data.remove(index);
+        this.indexMap.remove(kv.getKey());
+        rebuildIndex(index);
     }
 
     /**
@@ -266,6 +290,7 @@ public class DefaultKeyedValues implements KeyedValues,
             KeyedValueComparatorType.BY_KEY, order
         );
         Collections.sort(this.data, comparator);
+        rebuildIndex(0);
     }
 
     /**
@@ -280,6 +305,25 @@ public class DefaultKeyedValues implements KeyedValues,
             KeyedValueComparatorType.BY_VALUE, order
         );
         Collections.sort(this.data, comparator);
+        rebuildIndex(0);
+    }
+
+    /**
+     * Rebuilds the key index for the items from the specified position 
+     * onwards.  This is called whenever the positions of existing items 
+     * change (that is, after a removal or a sort).
+     *
+     * @param start  the index of the first item whose position may have 
+     *               changed.
+     */
+    private void rebuildIndex(int start) {
+        if (start == 0) {
+            this.indexMap.clear();
+        }
+        for (int i = start; i < this.data.size(); i++) {
+            KeyedValue kv = (KeyedValue) this.data.get(i);
+            this.indexMap.put(kv.getKey(), new Integer(i));
+        }
     }
 
     /**
@@ -346,7 +390,24 @@ public class DefaultKeyedValues implements KeyedValues,
     public Object clone() throws CloneNotSupportedException {
         DefaultKeyedValues clone = (DefaultKeyedValues) super.clone();
         clone.data = (List) ObjectUtilities.deepClone(this.data);
+        clone.indexMap = new HashMap(this.indexMap);
         return clone;    
     }
-    
-}
\ No newline at end of file
+
+    /**
+     * Restores a serialized object.  The key index is not serialized, so 
+     * it is rebuilt here.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException if there is an I/O problem.
+     * @throws ClassNotFoundException if there is a problem loading a class.
+     */
+    private void readObject(ObjectInputStream stream) 
+        throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.indexMap = new HashMap();
+        rebuildIndex(0);
+    }
+
+}
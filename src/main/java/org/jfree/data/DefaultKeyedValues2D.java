@@ -47,15 +47,22 @@
  * 23-Mar-2005 : Implemented PublicCloneable (DG);
  * 09-Jun-2005 : Modified getValue() method to throw exception for unknown
  *               keys (DG);
+ * 18-Oct-2026 : Added hash indices for the row and column keys;
+ * 19-Oct-2026 : Rebuild the key indices on deserialization;
+ * 19-Oct-2026 : Override getDoubleValue() to avoid boxing;
  *
  */
 
 package org.jfree.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.jfree.util.ObjectUtilities;
 import org.jfree.util.PublicCloneable;
@@ -84,6 +91,15 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
     /** If the row keys should be sorted by their comparable order. */
     private boolean sortRowKeys;
 
+    /** Contains (row key, Integer) mappings, where the Integer is the index. */
+    private transient Map rowKeyIndex;
+
+    /** 
+     * Contains (column key, Integer) mappings, where the Integer is the 
+     * index. 
+     */
+    private transient Map columnKeyIndex;
+
     /**
      * Creates a new instance (initially empty).
      */
@@ -101,6 +117,8 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
         this.columnKeys = new java.util.ArrayList();
         this.rows = new java.util.ArrayList();
         this.sortRowKeys = sortRowKeys;
+        this.rowKeyIndex = new HashMap();
+        this.columnKeyIndex = new HashMap();
     }
 
     /**
@@ -144,6 +162,27 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
         return result;
     }
 
+    /**
+     * Returns the value for a given row and column as a primitive.
+     *
+     * @param row  the row index.
+     * @param column  the column index.
+     *
+     * @return The value (<code>Double.NaN</code> if the value is 
+     *         <code>null</code>).
+     */
+    public double getDoubleValue(int row, int column) {
+        DefaultKeyedValues rowData = (DefaultKeyedValues) this.rows.get(row);
+        if (rowData != null) {
+            Comparable columnKey = (Comparable) this.columnKeys.get(column);
+            int index = rowData.getIndex(columnKey);
+            if (index >= 0) {
+                return rowData.getDoubleValue(index);
+            }
+        }
+        return Double.NaN;
+    }
+
     /**
      * Returns the key for a given row.
      *
@@ -166,12 +205,15 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
         if (key == null) {
             throw new IllegalArgumentException("Null 'key' argument.");
         }
+        Integer index = (Integer) this.rowKeyIndex.get(key);
+        if (index != null) {
+            return index.intValue();
+        }
         if (this.sortRowKeys) {
+            // return the (negative) insertion point...
             return Collections.binarySearch(this.rowKeys, key);
         }
-        else {
-            return this.rowKeys.indexOf(key);
-        }
+        return -1;
     }
 
     /**
@@ -205,7 +247,11 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
         if (key == null) {
             throw new IllegalArgumentException("Null 'key' argument.");
         }
-        return this.columnKeys.indexOf(key);
+        Integer index = (Integer) this.columnKeyIndex.get(key);
+        if (index == null) {
+            return -1;
+        }
+        return index.intValue();
     }
 
     /**
@@ -281,16 +327,20 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
                 rowIndex = -rowIndex - 1;
                 this.rowKeys.add(rowIndex, rowKey);
                 this.rows.add(rowIndex, row);
+                rebuildRowIndex(rowIndex);
             }
             else {
+                this.rowKeyIndex.put(rowKey, new Integer(this.rowKeys.size()));
                 this.rowKeys.add(rowKey);
                 this.rows.add(row);
             }
         }
         row.setValue(columnKey, value);
         
-        int columnIndex = this.columnKeys.indexOf(columnKey);
-        if (columnIndex < 0) {
+        if (!this.columnKeyIndex.containsKey(columnKey)) {
+            this.columnKeyIndex.put(
+                columnKey, new Integer(this.columnKeys.size())
+            );
             this.columnKeys.add(columnKey);
         }
     }
@@ -318,8 +368,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
         }
         
         if (allNull) {
-            this.rowKeys.remove(rowIndex);
-            this.rows.remove(rowIndex);
+            removeRow(rowIndex);
         }
         
         // 2. check whether the column is now empty.
@@ -342,6 +391,8 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
                 row.removeValue(columnIndex);
             }
             this.columnKeys.remove(columnIndex);
+            this.columnKeyIndex.remove(columnKey);
+            rebuildColumnIndex(columnIndex);
         }
     }
 
@@ -351,8 +402,10 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
      * @param rowIndex  the row index.
      */
     public void removeRow(int rowIndex) {
-        this.rowKeys.remove(rowIndex);
+        Comparable rowKey = (Comparable) this.rowKeys.remove(rowIndex);
         this.rows.remove(rowIndex);
+        this.rowKeyIndex.remove(rowKey);
+        rebuildRowIndex(rowIndex);
     }
 
     /**
@@ -385,7 +438,12 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
             DefaultKeyedValues rowData = (DefaultKeyedValues) iterator.next();
             rowData.removeValue(columnKey);
         }
-        this.columnKeys.remove(columnKey);
+        int columnIndex = getColumnIndex(columnKey);
+        if (columnIndex >= 0) {
+            this.columnKeys.remove(columnIndex);
+            this.columnKeyIndex.remove(columnKey);
+            rebuildColumnIndex(columnIndex);
+        }
     }
 
     /**
@@ -395,6 +453,34 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
         this.rowKeys.clear();
         this.columnKeys.clear();
         this.rows.clear();
+        this.rowKeyIndex.clear();
+        this.columnKeyIndex.clear();
+    }
+
+    /**
+     * Updates the row key index for the rows from the specified position 
+     * onwards, after rows have been inserted or removed.
+     *
+     * @param start  the index of the first row whose position may have 
+     *               changed.
+     */
+    private void rebuildRowIndex(int start) {
+        for (int i = start; i < this.rowKeys.size(); i++) {
+            this.rowKeyIndex.put(this.rowKeys.get(i), new Integer(i));
+        }
+    }
+
+    /**
+     * Updates the column key index for the columns from the specified 
+     * position onwards, after a column has been removed.
+     *
+     * @param start  the index of the first column whose position may have 
+     *               changed.
+     */
+    private void rebuildColumnIndex(int start) {
+        for (int i = start; i < this.columnKeys.size(); i++) {
+            this.columnKeyIndex.put(this.columnKeys.get(i), new Integer(i));
+        }
     }
     
     /**
@@ -479,10 +565,30 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
         // should be immutable...
         clone.columnKeys = new java.util.ArrayList(this.columnKeys);
         clone.rowKeys = new java.util.ArrayList(this.rowKeys);
+        clone.rowKeyIndex = new HashMap(this.rowKeyIndex);
+        clone.columnKeyIndex = new HashMap(this.columnKeyIndex);
         
         // but the row data requires a deep copy
         clone.rows = (List) ObjectUtilities.deepClone(this.rows);
         return clone;
     }
 
+    /**
+     * Restores a serialized object.  The key indices are not serialized, so 
+     * they are rebuilt here.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException if there is an I/O problem.
+     * @throws ClassNotFoundException if there is a problem loading a class.
+     */
+    private void readObject(ObjectInputStream stream) 
+        throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.rowKeyIndex = new HashMap();
+        this.columnKeyIndex = new HashMap();
+        rebuildRowIndex(0);
+        rebuildColumnIndex(0);
+    }
+
 }
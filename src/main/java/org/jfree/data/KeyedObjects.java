@@ -37,14 +37,20 @@
  * --------
  * 31-Oct-2002 : Version 1 (DG);
  * 11-Jan-2005 : Minor tidy up (DG);
+ * 18-Oct-2026 : Added a hash index for key lookups;
+ * 19-Oct-2026 : Rebuild the key index on deserialization;
  * 
  */
 
 package org.jfree.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.jfree.util.PublicCloneable;
 
@@ -59,11 +65,15 @@ public class KeyedObjects  implements Cloneable, PublicCloneable, Serializable {
     /** Storage for the data. */
     private List data;
 
+    /** Contains (key, Integer) mappings, where the Integer is the index. */
+    private transient Map indexMap;
+
     /**
      * Creates a new collection (initially empty).
      */
     public KeyedObjects() {
         this.data = new java.util.ArrayList();
+        this.indexMap = new HashMap();
     }
 
     /**
@@ -121,17 +131,11 @@ public class KeyedObjects  implements Cloneable, PublicCloneable, Serializable {
      * @return The index, or <code>-1</code> if the key is unrecognised.
      */
     public int getIndex(Comparable key) {
-        int result = -1;
-        int i = 0;
-        Iterator iterator = this.data.iterator();
-        while (iterator.hasNext()) {
-            KeyedObject ko = (KeyedObject) iterator.next();
-            if (ko.getKey().equals(key)) {
-                result = i;
-            }
-            i++;
+        Integer i = (Integer) this.indexMap.get(key);
+        if (i == null) {
+            return -1;
         }
-        return result;
+        return i.intValue();
     }
 
     /**
@@ -188,6 +192,7 @@ public class KeyedObjects  implements Cloneable, PublicCloneable, Serializable {
         }
         else {
             KeyedObject ko = new KeyedObject(key, object);
+            this.indexMap.put(key, new Integer(this.data.size()));
             this.data.add(ko);
         }
     }
@@ -198,7 +203,23 @@ public class KeyedObjects  implements Cloneable, PublicCloneable, Serializable {
      * @param index  the index of the item to remove.
      */
     public void removeValue(int index) {
-        this.data.remove(index);
+        KeyedObject ko = (KeyedObject) this.data.remove(index);
+        this.indexMap.remove(ko.getKey());
+        rebuildIndex(index);
+    }
+
+    /**
+     * Updates the key index for the items from the specified position 
+     * onwards, after an item has been removed.
+     *
+     * @param start  the index of the first item whose position may have 
+     *               changed.
+     */
+    private void rebuildIndex(int start) {
+        for (int i = start; i < this.data.size(); i++) {
+            KeyedObject ko = (KeyedObject) this.data.get(i);
+            this.indexMap.put(ko.getKey(), new Integer(i));
+        }
     }
 
     /**
@@ -225,6 +246,7 @@ public class KeyedObjects  implements Cloneable, PublicCloneable, Serializable {
             KeyedObject ko = (KeyedObject) iterator.next();
             clone.data.add(ko.clone());
         }
+        clone.indexMap = new HashMap(this.indexMap);
         return clone;      
     }
     
@@ -276,5 +298,21 @@ public class KeyedObjects  implements Cloneable, PublicCloneable, Serializable {
         return true;
 
     }
-    
+
+    /**
+     * Restores a serialized object.  The key index is not serialized, so 
+     * it is rebuilt here.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException if there is an I/O problem.
+     * @throws ClassNotFoundException if there is a problem loading a class.
+     */
+    private void readObject(ObjectInputStream stream) 
+        throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.indexMap = new HashMap();
+        rebuildIndex(0);
+    }
+
 }
@@ -38,15 +38,21 @@
  * 05-Feb-2003 : Version 1 (DG);
  * 01-Mar-2004 : Added equals() and clone() methods and implemented 
  *               Serializable (DG);
+ * 18-Oct-2026 : Added hash indices for the row and column keys;
+ * 19-Oct-2026 : Rebuild the key indices on deserialization;
  *
  */
 
 package org.jfree.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -67,6 +73,15 @@ public class KeyedObjects2D implements Cloneable, Serializable {
     /** The row data. */
     private List rows;
 
+    /** Contains (row key, Integer) mappings, where the Integer is the index. */
+    private transient Map rowKeyIndex;
+
+    /** 
+     * Contains (column key, Integer) mappings, where the Integer is the 
+     * index. 
+     */
+    private transient Map columnKeyIndex;
+
     /**
      * Creates a new instance (initially empty).
      */
@@ -74,6 +89,8 @@ public class KeyedObjects2D implements Cloneable, Serializable {
         this.rowKeys = new java.util.ArrayList();
         this.columnKeys = new java.util.ArrayList();
         this.rows = new java.util.ArrayList();
+        this.rowKeyIndex = new HashMap();
+        this.columnKeyIndex = new HashMap();
     }
 
     /**
@@ -135,7 +152,11 @@ public class KeyedObjects2D implements Cloneable, Serializable {
      * @return The row index.
      */
     public int getRowIndex(Comparable key) {
-        return this.rowKeys.indexOf(key);
+        Integer index = (Integer) this.rowKeyIndex.get(key);
+        if (index == null) {
+            return -1;
+        }
+        return index.intValue();
     }
 
     /**
@@ -166,7 +187,11 @@ public class KeyedObjects2D implements Cloneable, Serializable {
      * @return The column index.
      */
     public int getColumnIndex(Comparable key) {
-        return this.columnKeys.indexOf(key);
+        Integer index = (Integer) this.columnKeyIndex.get(key);
+        if (index == null) {
+            return -1;
+        }
+        return index.intValue();
     }
 
     /**
@@ -189,7 +214,7 @@ public class KeyedObjects2D implements Cloneable, Serializable {
     public Object getObject(Comparable rowKey, Comparable columnKey) {
 
         Object result = null;
-        int row = this.rowKeys.indexOf(rowKey);
+        int row = getRowIndex(rowKey);
         if (row >= 0) {
             KeyedObjects rowData = (KeyedObjects) this.rows.get(row);
             result = rowData.getObject(columnKey);
@@ -223,18 +248,21 @@ public class KeyedObjects2D implements Cloneable, Serializable {
                           Comparable columnKey) {
 
         KeyedObjects row;
-        int rowIndex = this.rowKeys.indexOf(rowKey);
+        int rowIndex = getRowIndex(rowKey);
         if (rowIndex >= 0) {
             row = (KeyedObjects) this.rows.get(rowIndex);
         }
         else {
+            this.rowKeyIndex.put(rowKey, new Integer(this.rowKeys.size()));
             this.rowKeys.add(rowKey);
             row = new KeyedObjects();
             this.rows.add(row);
         }
         row.setObject(columnKey, object);
-        int columnIndex = this.columnKeys.indexOf(columnKey);
-        if (columnIndex < 0) {
+        if (!this.columnKeyIndex.containsKey(columnKey)) {
+            this.columnKeyIndex.put(
+                columnKey, new Integer(this.columnKeys.size())
+            );
             this.columnKeys.add(columnKey);
         }
 
@@ -258,8 +286,10 @@ public class KeyedObjects2D implements Cloneable, Serializable {
      * @param rowIndex  the row index.
      */
     public void removeRow(int rowIndex) {
-        this.rowKeys.remove(rowIndex);
+        Comparable rowKey = (Comparable) this.rowKeys.remove(rowIndex);
         this.rows.remove(rowIndex);
+        this.rowKeyIndex.remove(rowKey);
+        rebuildRowIndex(rowIndex);
     }
 
     /**
@@ -292,7 +322,38 @@ public class KeyedObjects2D implements Cloneable, Serializable {
             KeyedObjects rowData = (KeyedObjects) iterator.next();
             rowData.removeValue(columnKey);
         }
-        this.columnKeys.remove(columnKey);
+        int columnIndex = getColumnIndex(columnKey);
+        if (columnIndex >= 0) {
+            this.columnKeys.remove(columnIndex);
+            this.columnKeyIndex.remove(columnKey);
+            rebuildColumnIndex(columnIndex);
+        }
+    }
+
+    /**
+     * Updates the row key index for the rows from the specified position 
+     * onwards, after a row has been removed.
+     *
+     * @param start  the index of the first row whose position may have 
+     *               changed.
+     */
+    private void rebuildRowIndex(int start) {
+        for (int i = start; i < this.rowKeys.size(); i++) {
+            this.rowKeyIndex.put(this.rowKeys.get(i), new Integer(i));
+        }
+    }
+
+    /**
+     * Updates the column key index for the columns from the specified 
+     * position onwards, after a column has been removed.
+     *
+     * @param start  the index of the first column whose position may have 
+     *               changed.
+     */
+    private void rebuildColumnIndex(int start) {
+        for (int i = start; i < this.columnKeys.size(); i++) {
+            this.columnKeyIndex.put(this.columnKeys.get(i), new Integer(i));
+        }
     }
 
     /**
@@ -377,4 +438,22 @@ public class KeyedObjects2D implements Cloneable, Serializable {
         return super.clone();
     }
 
+    /**
+     * Restores a serialized object.  The key indices are not serialized, so 
+     * they are rebuilt here.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException if there is an I/O problem.
+     * @throws ClassNotFoundException if there is a problem loading a class.
+     */
+    private void readObject(ObjectInputStream stream) 
+        throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.rowKeyIndex = new HashMap();
+        this.columnKeyIndex = new HashMap();
+        rebuildRowIndex(0);
+        rebuildColumnIndex(0);
+    }
+
 }
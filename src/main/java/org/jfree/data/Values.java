@@ -37,6 +37,7 @@
  * --------
  * 08-Nov-2001 : Version 1 (DG);
  * 23-Oct-2002 : Renamed getValueCount --> getItemCount (DG);
+ * 19-Oct-2026 : Added getDoubleValue() default method;
  *
  */
 
@@ -63,4 +64,19 @@ public interface Values {
      */
     public Number getValue(int item);
 
+    /**
+     * Returns a value as a primitive.  Implementations that store primitive
+     * values should override this method, so that callers do not create (or
+     * unbox) a <code>Number</code> for each value.
+     *
+     * @param item  the item of interest (zero-based index).
+     *
+     * @return The value (<code>Double.NaN</code> if the value is 
+     *         <code>null</code>).
+     */
+    public default double getDoubleValue(int item) {
+        Number n = getValue(item);
+        return (n != null ? n.doubleValue() : Double.NaN);
+    }
+
 }
\ No newline at end of file
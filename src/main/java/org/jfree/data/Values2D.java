@@ -36,6 +36,7 @@
  * Changes:
  * --------
  * 28-Oct-2002 : Version 1 (DG);
+ * 19-Oct-2026 : Added getDoubleValue() default method;
  *
  */
 
@@ -73,4 +74,23 @@ public interface Values2D {
      */
     public Number getValue(int row, int column);
 
+    /**
+     * Returns a value from the table as a primitive.  Implementations that
+     * store primitive values should override this method, so that callers 
+     * do not create (or unbox) a <code>Number</code> for each value.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value (<code>Double.NaN</code> if the value is 
+     *         <code>null</code>).
+     * 
+     * @throws IndexOutOfBoundsException if the <code>row</code> 
+     *         or <code>column</code> is out of bounds.
+     */
+    public default double getDoubleValue(int row, int column) {
+        Number n = getValue(row, column);
+        return (n != null ? n.doubleValue() : Double.NaN);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,510 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation,
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * ArrayCategoryDataset.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Only equal to another ArrayCategoryDataset, to match
+ *               hashCode();
+ * 19-Oct-2026 : Override getDoubleValue() to avoid boxing;
+ *
+ */
+
+package org.jfree.data.category;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.AbstractDataset;
+
+/**
+ * A {@link CategoryDataset} that is a view of a table of values held in a 
+ * <code>double[][]</code> array (indexed by [row][column]) or a 
+ * {@link DoubleBuffer} (in row order) owned by the caller.  The values are
+ * neither copied nor boxed, so a dataset can be created from the output of
+ * an analysis without any extra garbage.  A missing value is represented by
+ * <code>Double.NaN</code>, and is reported as <code>null</code> by 
+ * {@link #getValue(int, int)}.
+ * <P>
+ * The keys are fixed when the dataset is created.  Since the dataset cannot
+ * tell when the caller changes the values, the caller must call 
+ * {@link #dataChanged()} afterwards.  This clears the bounds that the 
+ * dataset has cached for the {@link RangeInfo} methods, and sends a 
+ * {@link org.jfree.data.general.DatasetChangeEvent} to the registered 
+ * listeners.
+ */
+public class ArrayCategoryDataset extends AbstractDataset 
+                                  implements CategoryDataset, RangeInfo {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -1620864379305221186L;
+
+    /** The row keys. */
+    private List rowKeys;
+
+    /** The column keys. */
+    private List columnKeys;
+
+    /** Contains (row key, Integer) mappings, where the Integer is the index. */
+    private Map rowKeyIndex;
+
+    /** 
+     * Contains (column key, Integer) mappings, where the Integer is the 
+     * index. 
+     */
+    private Map columnKeyIndex;
+
+    /** The values in each row. */
+    private transient DoubleBuffer[] rows;
+
+    /** The cached range of the values (<code>null</code> if not known). */
+    private transient Range bounds;
+
+    /** A flag that indicates whether the cached bounds are valid. */
+    private transient boolean boundsValid;
+
+    /**
+     * Creates a new dataset that is a view of an array of values.  The array
+     * is not copied.
+     *
+     * @param rowKeys  the row keys (<code>null</code> not permitted).
+     * @param columnKeys  the column keys (<code>null</code> not permitted).
+     * @param data  the values, indexed by [row][column] (<code>null</code> 
+     *              not permitted).
+     */
+    public ArrayCategoryDataset(Comparable[] rowKeys, Comparable[] columnKeys,
+                                double[][] data) {
+        this(rowKeys, columnKeys);
+        if (data == null) {
+            throw new IllegalArgumentException("Null 'data' argument.");
+        }
+        if (data.length != rowKeys.length) {
+            throw new IllegalArgumentException(
+                "The number of row keys does not match the number of rows in "
+                + "the data array.");
+        }
+        this.rows = new DoubleBuffer[data.length];
+        for (int r = 0; r < data.length; r++) {
+            if (data[r] == null || data[r].length != columnKeys.length) {
+                throw new IllegalArgumentException(
+                    "The number of column keys does not match the number of "
+                    + "columns in the data array.");
+            }
+            this.rows[r] = DoubleBuffer.wrap(data[r]);
+        }
+    }
+
+    /**
+     * Creates a new dataset that is a view of a buffer of values, in row 
+     * order.  The dataset reads the values between the position and the 
+     * limit of the buffer at the time the constructor is called, without 
+     * copying them.
+     *
+     * @param rowKeys  the row keys (<code>null</code> not permitted).
+     * @param columnKeys  the column keys (<code>null</code> not permitted).
+     * @param data  the values (<code>null</code> not permitted).
+     */
+    public ArrayCategoryDataset(Comparable[] rowKeys, Comparable[] columnKeys,
+                                DoubleBuffer data) {
+        this(rowKeys, columnKeys);
+        if (data == null) {
+            throw new IllegalArgumentException("Null 'data' argument.");
+        }
+        int columnCount = columnKeys.length;
+        if (data.remaining() != rowKeys.length * columnCount) {
+            throw new IllegalArgumentException(
+                "The number of values in the buffer does not match the "
+                + "number of row and column keys.");
+        }
+        int start = data.position();
+        DoubleBuffer buffer = data.duplicate();
+        this.rows = new DoubleBuffer[rowKeys.length];
+        for (int r = 0; r < rowKeys.length; r++) {
+            buffer.limit(start + (r + 1) * columnCount);
+            buffer.position(start + r * columnCount);
+            this.rows[r] = buffer.slice();
+        }
+    }
+
+    /**
+     * Sets up the keys.
+     *
+     * @param rowKeys  the row keys (<code>null</code> not permitted).
+     * @param columnKeys  the column keys (<code>null</code> not permitted).
+     */
+    private ArrayCategoryDataset(Comparable[] rowKeys, 
+                                 Comparable[] columnKeys) {
+        if (rowKeys == null) {
+            throw new IllegalArgumentException("Null 'rowKeys' argument.");
+        }
+        if (columnKeys == null) {
+            throw new IllegalArgumentException("Null 'columnKeys' argument.");
+        }
+        this.rowKeys = Arrays.asList(rowKeys.clone());
+        this.columnKeys = Arrays.asList(columnKeys.clone());
+        this.rowKeyIndex = createIndex(this.rowKeys, "row");
+        this.columnKeyIndex = createIndex(this.columnKeys, "column");
+    }
+
+    /**
+     * Creates a map from keys to their indices.
+     *
+     * @param keys  the keys.
+     * @param name  the name of the keys (for the error messages).
+     *
+     * @return The map.
+     */
+    private static Map createIndex(List keys, String name) {
+        Map result = new HashMap();
+        for (int i = 0; i < keys.size(); i++) {
+            Object key = keys.get(i);
+            if (key == null) {
+                throw new IllegalArgumentException("Null " + name + " key.");
+            }
+            if (result.put(key, new Integer(i)) != null) {
+                throw new IllegalArgumentException("Duplicate " + name 
+                        + " key: " + key);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of rows in the table.
+     *
+     * @return The row count.
+     */
+    public int getRowCount() {
+        return this.rowKeys.size();
+    }
+
+    /**
+     * Returns the number of columns in the table.
+     *
+     * @return The column count.
+     */
+    public int getColumnCount() {
+        return this.columnKeys.size();
+    }
+
+    /**
+     * Returns a value from the table.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value (possibly <code>null</code>).
+     */
+    public Number getValue(int row, int column) {
+        double v = getDoubleValue(row, column);
+        if (Double.isNaN(v)) {
+            return null;
+        }
+        return new Double(v);
+    }
+
+    /**
+     * Returns a value from the table as a primitive, without creating a 
+     * <code>Number</code> instance.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value (<code>Double.NaN</code> for a missing value).
+     */
+    public double getDoubleValue(int row, int column) {
+        return this.rows[row].get(column);
+    }
+
+    /**
+     * Returns the key for the specified row.
+     *
+     * @param row  the row index (zero-based).
+     *
+     * @return The row key.
+     */
+    public Comparable getRowKey(int row) {
+        return (Comparable) this.rowKeys.get(row);
+    }
+
+    /**
+     * Returns the row index for a given key.
+     *
+     * @param key  the row key.
+     *
+     * @return The row index, or <code>-1</code> if the key is unrecognised.
+     */
+    public int getRowIndex(Comparable key) {
+        Integer index = (Integer) this.rowKeyIndex.get(key);
+        return (index != null ? index.intValue() : -1);
+    }
+
+    /**
+     * Returns the row keys.
+     *
+     * @return The keys.
+     */
+    public List getRowKeys() {
+        return Collections.unmodifiableList(this.rowKeys);
+    }
+
+    /**
+     * Returns a column key.
+     *
+     * @param column  the column index (zero-based).
+     *
+     * @return The column key.
+     */
+    public Comparable getColumnKey(int column) {
+        return (Comparable) this.columnKeys.get(column);
+    }
+
+    /**
+     * Returns the column index for a given key.
+     *
+     * @param key  the column key.
+     *
+     * @return The column index, or <code>-1</code> if the key is 
+     *         unrecognised.
+     */
+    public int getColumnIndex(Comparable key) {
+        Integer index = (Integer) this.columnKeyIndex.get(key);
+        return (index != null ? index.intValue() : -1);
+    }
+
+    /**
+     * Returns the column keys.
+     *
+     * @return The keys.
+     */
+    public List getColumnKeys() {
+        return Collections.unmodifiableList(this.columnKeys);
+    }
+
+    /**
+     * Returns the value for a pair of keys.
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @return The value (possibly <code>null</code>).
+     * 
+     * @throws UnknownKeyException if either key is not defined in the dataset.
+     */
+    public Number getValue(Comparable rowKey, Comparable columnKey) {
+        if (rowKey == null) {
+            throw new IllegalArgumentException("Null 'rowKey' argument.");
+        }
+        if (columnKey == null) {
+            throw new IllegalArgumentException("Null 'columnKey' argument.");
+        }
+        int row = getRowIndex(rowKey);
+        if (row < 0) {
+            throw new UnknownKeyException("Unrecognised rowKey: " + rowKey);
+        }
+        int column = getColumnIndex(columnKey);
+        if (column < 0) {
+            throw new UnknownKeyException(
+                "Unrecognised columnKey: " + columnKey);
+        }
+        return getValue(row, column);
+    }
+
+    /**
+     * Tells the dataset that the caller has changed the values.  The cached
+     * bounds are cleared and a 
+     * {@link org.jfree.data.general.DatasetChangeEvent} is sent to all 
+     * registered listeners.
+     */
+    public void dataChanged() {
+        this.boundsValid = false;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the minimum value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The minimum value (<code>Double.NaN</code> if there is none).
+     */
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range range = getRangeBounds(includeInterval);
+        return (range != null) ? range.getLowerBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The maximum value (<code>Double.NaN</code> if there is none).
+     */
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range range = getRangeBounds(includeInterval);
+        return (range != null) ? range.getUpperBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the range of the values in the dataset.  The range is cached
+     * until {@link #dataChanged()} is called.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The range (<code>null</code> if there are no values).
+     */
+    public Range getRangeBounds(boolean includeInterval) {
+        if (!this.boundsValid) {
+            double minimum = Double.POSITIVE_INFINITY;
+            double maximum = Double.NEGATIVE_INFINITY;
+            int columnCount = this.columnKeys.size();
+            for (int r = 0; r < this.rows.length; r++) {
+                DoubleBuffer row = this.rows[r];
+                for (int c = 0; c < columnCount; c++) {
+                    double v = row.get(c);
+                    if (v < minimum) {
+                        minimum = v;
+                    }
+                    if (v > maximum) {
+                        maximum = v;
+                    }
+                }
+            }
+            this.bounds = (minimum <= maximum ? new Range(minimum, maximum) 
+                    : null);
+            this.boundsValid = true;
+        }
+        return this.bounds;
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof ArrayCategoryDataset)) {
+            return false;
+        }
+        ArrayCategoryDataset that = (ArrayCategoryDataset) obj;
+        if (!getRowKeys().equals(that.getRowKeys())) {
+            return false;
+        }
+        if (!getColumnKeys().equals(that.getColumnKeys())) {
+            return false;
+        }
+        int rowCount = getRowCount();
+        int colCount = getColumnCount();
+        for (int r = 0; r < rowCount; r++) {
+            for (int c = 0; c < colCount; c++) {
+                Number v1 = getValue(r, c);
+                Number v2 = that.getValue(r, c);
+                if (v1 == null) {
+                    if (v2 != null) {
+                        return false;
+                    }
+                }
+                else if (!v1.equals(v2)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for the dataset.
+     *
+     * @return A hash code.
+     */
+    public int hashCode() {
+        int result = this.rowKeys.hashCode();
+        result = 29 * result + this.columnKeys.hashCode();
+        return result;
+    }
+
+    /**
+     * Provides serialization support.  The values are written out in full.
+     *
+     * @param stream  the output stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     */
+    private void writeObject(ObjectOutputStream stream) throws IOException {
+        stream.defaultWriteObject();
+        int columnCount = this.columnKeys.size();
+        for (int r = 0; r < this.rows.length; r++) {
+            for (int c = 0; c < columnCount; c++) {
+                stream.writeDouble(this.rows[r].get(c));
+            }
+        }
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream) 
+        throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        int columnCount = this.columnKeys.size();
+        this.rows = new DoubleBuffer[this.rowKeys.size()];
+        for (int r = 0; r < this.rows.length; r++) {
+            double[] values = new double[columnCount];
+            for (int c = 0; c < columnCount; c++) {
+                values[c] = stream.readDouble();
+            }
+            this.rows[r] = DoubleBuffer.wrap(values);
+        }
+    }
+
+}
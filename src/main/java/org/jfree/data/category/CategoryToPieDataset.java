@@ -40,6 +40,7 @@
  * 29-Jan-2004 : Replaced 'extract' int with TableOrder (DG);
  * 11-Jan-2005 : Removed deprecated code in preparation for the 1.0.0 
  *               release (DG);
+ * 19-Oct-2026 : Override getDoubleValue() to avoid boxing;
  *
  */
 
@@ -130,6 +131,29 @@ public class CategoryToPieDataset extends AbstractDataset
         return result;
     }
 
+    /**
+     * Returns a value as a primitive.  If the underlying dataset overrides
+     * {@link CategoryDataset#getDoubleValue(int, int)}, no 
+     * <code>Number</code> instance is created.
+     *
+     * @param item  the item index (zero-based).
+     *
+     * @return The value (<code>Double.NaN</code> if the value is 
+     *         <code>null</code>).
+     */
+    public double getDoubleValue(int item) {
+        double result = Double.NaN;
+        if (this.source != null) {
+            if (this.extract == TableOrder.BY_ROW) {
+                result = this.source.getDoubleValue(this.index, item);
+            }
+            else if (this.extract == TableOrder.BY_COLUMN) {
+                result = this.source.getDoubleValue(item, this.index);
+            }
+        }
+        return result;
+    }
+
     /**
      * Returns a key.
      *
@@ -40,6 +40,7 @@
  * 06-Oct-2003 : Added incrementValue() method (DG);
  * 05-Apr-2004 : Added clear() method (DG);
  * 18-Aug-2004 : Moved from org.jfree.data --> org.jfree.data.category (DG);
+ * 19-Oct-2026 : Override getDoubleValue() to avoid boxing;
  *
  */
 
@@ -102,6 +103,19 @@ public class DefaultCategoryDataset extends AbstractDataset
         return this.data.getValue(row, column);
     }
 
+    /**
+     * Returns a value from the table as a primitive.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value (<code>Double.NaN</code> if the value is 
+     *         <code>null</code>).
+     */
+    public double getDoubleValue(int row, int column) {
+        return this.data.getDoubleValue(row, column);
+    }
+
     /**
      * Returns a row key.
      *
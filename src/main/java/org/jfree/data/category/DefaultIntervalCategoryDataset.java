@@ -37,6 +37,7 @@
  * -------
  * 29-Apr-2002 : Version 1, contributed by Jeremy Bowman (DG);
  * 24-Oct-2002 : Amendments for changes made to the dataset interface (DG);
+ * 19-Oct-2026 : Override getDoubleValue() to avoid boxing;
  *
  */
 
@@ -413,6 +414,21 @@ public class DefaultIntervalCategoryDataset extends AbstractSeriesDataset
         return getEndValue(series, category);
     }
 
+    /**
+     * Returns the data value for one category in a series as a primitive
+     * (this is the end value).
+     *
+     * @param series  the required series (zero based index).
+     * @param category  the required category.
+     *
+     * @return The data value (<code>Double.NaN</code> if the value is 
+     *         <code>null</code>).
+     */
+    public double getDoubleValue(int series, int category) {
+        Number n = getEndValue(series, category);
+        return (n != null ? n.doubleValue() : Double.NaN);
+    }
+
     /**
      * Returns the start data value for one category in a series.
      *
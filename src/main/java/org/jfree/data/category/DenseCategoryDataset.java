@@ -0,0 +1,815 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * DenseCategoryDataset.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  JFreeChart contributors;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Override getDoubleValue() to avoid boxing;
+ *
+ */
+
+package org.jfree.data.category;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.AbstractDataset;
+import org.jfree.util.PublicCloneable;
+
+/**
+ * A {@link CategoryDataset} implementation that stores its values in 
+ * primitive <code>double</code> arrays, one array per column (category).  It 
+ * has the same key semantics as {@link DefaultCategoryDataset}: the row and 
+ * column keys are kept in insertion order and are added automatically when a 
+ * value is set.
+ * <P>
+ * Compared with {@link DefaultCategoryDataset}, which stores a boxed 
+ * <code>Number</code> inside a key/value object for every cell, this class 
+ * uses roughly one fifth of the memory and provides bulk access to rows and 
+ * columns (see {@link #getColumnValues(int, double[])} and 
+ * {@link #calculateColumnTotal(int)}), which is used by 
+ * {@link org.jfree.data.DataUtilities} and 
+ * {@link org.jfree.data.general.DatasetUtilities} to avoid per-cell method 
+ * calls.
+ * <P>
+ * Missing (<code>null</code>) values are stored as <code>Double.NaN</code>, so
+ * a cell that is set to <code>Double.NaN</code> is reported as 
+ * <code>null</code> by {@link #getValue(int, int)}.
+ */
+public class DenseCategoryDataset extends AbstractDataset 
+                                  implements CategoryDataset, PublicCloneable,
+                                             Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 5370162418409622447L;
+
+    /** The initial row capacity of each column. */
+    private static final int INITIAL_ROW_CAPACITY = 8;
+
+    /** The row keys. */
+    private List rowKeys;
+
+    /** The column keys. */
+    private List columnKeys;
+
+    /** Contains (row key, Integer) mappings, where the Integer is the index. */
+    private Map rowKeyIndex;
+
+    /** 
+     * Contains (column key, Integer) mappings, where the Integer is the 
+     * index. 
+     */
+    private Map columnKeyIndex;
+
+    /** 
+     * The values, indexed by [column][row].  Each column array has the same 
+     * length, which may exceed the row count. 
+     */
+    private double[][] columns;
+
+    /** The length of each column array. */
+    private int rowCapacity;
+
+    /**
+     * Creates a new (empty) dataset.
+     */
+    public DenseCategoryDataset() {
+        this.rowKeys = new java.util.ArrayList();
+        this.columnKeys = new java.util.ArrayList();
+        this.rowKeyIndex = new HashMap();
+        this.columnKeyIndex = new HashMap();
+        this.columns = new double[INITIAL_ROW_CAPACITY][];
+        this.rowCapacity = INITIAL_ROW_CAPACITY;
+    }
+
+    /**
+     * Creates a new dataset containing the specified keys and values.
+     *
+     * @param rowKeys  the row keys (<code>null</code> not permitted).
+     * @param columnKeys  the column keys (<code>null</code> not permitted).
+     * @param data  the data values, indexed by [row][column] 
+     *              (<code>null</code> not permitted).
+     */
+    public DenseCategoryDataset(Comparable[] rowKeys, Comparable[] columnKeys,
+                                double[][] data) {
+        this();
+        if (rowKeys == null) {
+            throw new IllegalArgumentException("Null 'rowKeys' argument.");
+        }
+        if (columnKeys == null) {
+            throw new IllegalArgumentException("Null 'columnKeys' argument.");
+        }
+        if (data == null) {
+            throw new IllegalArgumentException("Null 'data' argument.");
+        }
+        if (data.length != rowKeys.length) {
+            throw new IllegalArgumentException(
+                "The number of row keys does not match the number of rows in "
+                + "the data array.");
+        }
+        for (int r = 0; r < rowKeys.length; r++) {
+            if (rowKeys[r] == null) {
+                throw new IllegalArgumentException("Null row key.");
+            }
+            if (this.rowKeyIndex.containsKey(rowKeys[r])) {
+                throw new IllegalArgumentException(
+                    "Duplicate row key: " + rowKeys[r]);
+            }
+            addRowKey(rowKeys[r]);
+        }
+        for (int c = 0; c < columnKeys.length; c++) {
+            if (columnKeys[c] == null) {
+                throw new IllegalArgumentException("Null column key.");
+            }
+            if (this.columnKeyIndex.containsKey(columnKeys[c])) {
+                throw new IllegalArgumentException(
+                    "Duplicate column key: " + columnKeys[c]);
+            }
+            addColumnKey(columnKeys[c]);
+        }
+        for (int r = 0; r < data.length; r++) {
+            if (data[r].length != columnKeys.length) {
+                throw new IllegalArgumentException(
+                    "The number of column keys does not match the number of "
+                    + "columns in the data array.");
+            }
+            for (int c = 0; c < data[r].length; c++) {
+                this.columns[c][r] = data[r][c];
+            }
+        }
+    }
+
+    /**
+     * Creates a new dataset containing a copy of the keys and values in 
+     * another dataset.
+     *
+     * @param source  the source dataset (<code>null</code> not permitted).
+     */
+    public DenseCategoryDataset(CategoryDataset source) {
+        this();
+        if (source == null) {
+            throw new IllegalArgumentException("Null 'source' argument.");
+        }
+        int rowCount = source.getRowCount();
+        int columnCount = source.getColumnCount();
+        for (int r = 0; r < rowCount; r++) {
+            addRowKey(source.getRowKey(r));
+        }
+        for (int c = 0; c < columnCount; c++) {
+            addColumnKey(source.getColumnKey(c));
+            double[] column = this.columns[c];
+            for (int r = 0; r < rowCount; r++) {
+                Number n = source.getValue(r, c);
+                if (n != null) {
+                    column[r] = n.doubleValue();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of rows in the table.
+     *
+     * @return The row count.
+     */
+    public int getRowCount() {
+        return this.rowKeys.size();
+    }
+
+    /**
+     * Returns the number of columns in the table.
+     *
+     * @return The column count.
+     */
+    public int getColumnCount() {
+        return this.columnKeys.size();
+    }
+
+    /**
+     * Returns a value from the table.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value (possibly <code>null</code>).
+     */
+    public Number getValue(int row, int column) {
+        double v = getDoubleValue(row, column);
+        if (Double.isNaN(v)) {
+            return null;
+        }
+        return new Double(v);
+    }
+
+    /**
+     * Returns a value from the table as a primitive, without creating a 
+     * <code>Number</code> instance.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value (<code>Double.NaN</code> for a missing value).
+     */
+    public double getDoubleValue(int row, int column) {
+        checkRow(row);
+        checkColumn(column);
+        return this.columns[column][row];
+    }
+
+    /**
+     * Returns the key for the specified row.
+     *
+     * @param row  the row index (zero-based).
+     *
+     * @return The row key.
+     */
+    public Comparable getRowKey(int row) {
+        return (Comparable) this.rowKeys.get(row);
+    }
+
+    /**
+     * Returns the row index for a given key.
+     *
+     * @param key  the row key.
+     *
+     * @return The row index, or <code>-1</code> if the key is unrecognised.
+     */
+    public int getRowIndex(Comparable key) {
+        Integer index = (Integer) this.rowKeyIndex.get(key);
+        return (index != null ? index.intValue() : -1);
+    }
+
+    /**
+     * Returns the row keys.
+     *
+     * @return The keys.
+     */
+    public List getRowKeys() {
+        return Collections.unmodifiableList(this.rowKeys);
+    }
+
+    /**
+     * Returns a column key.
+     *
+     * @param column  the column index (zero-based).
+     *
+     * @return The column key.
+     */
+    public Comparable getColumnKey(int column) {
+        return (Comparable) this.columnKeys.get(column);
+    }
+
+    /**
+     * Returns the column index for a given key.
+     *
+     * @param key  the column key.
+     *
+     * @return The column index, or <code>-1</code> if the key is 
+     *         unrecognised.
+     */
+    public int getColumnIndex(Comparable key) {
+        Integer index = (Integer) this.columnKeyIndex.get(key);
+        return (index != null ? index.intValue() : -1);
+    }
+
+    /**
+     * Returns the column keys.
+     *
+     * @return The keys.
+     */
+    public List getColumnKeys() {
+        return Collections.unmodifiableList(this.columnKeys);
+    }
+
+    /**
+     * Returns the value for a pair of keys.
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @return The value (possibly <code>null</code>).
+     * 
+     * @throws UnknownKeyException if either key is not defined in the dataset.
+     */
+    public Number getValue(Comparable rowKey, Comparable columnKey) {
+        if (rowKey == null) {
+            throw new IllegalArgumentException("Null 'rowKey' argument.");
+        }
+        if (columnKey == null) {
+            throw new IllegalArgumentException("Null 'columnKey' argument.");
+        }
+        int row = getRowIndex(rowKey);
+        if (row < 0) {
+            throw new UnknownKeyException("Unrecognised rowKey: " + rowKey);
+        }
+        int column = getColumnIndex(columnKey);
+        if (column < 0) {
+            throw new UnknownKeyException(
+                "Unrecognised columnKey: " + columnKey);
+        }
+        return getValue(row, column);
+    }
+
+    /**
+     * Copies the values from one row into an array.  Missing values are 
+     * written as <code>Double.NaN</code>.
+     *
+     * @param row  the row index (zero-based).
+     * @param buffer  an array to receive the values, or <code>null</code> 
+     *                (a new array is allocated if the buffer is 
+     *                <code>null</code> or too short).
+     *
+     * @return The array containing the values for the row.
+     *
+     * @throws IndexOutOfBoundsException if <code>row</code> is out of 
+     *         bounds.
+     */
+    public double[] getRowValues(int row, double[] buffer) {
+        checkRow(row);
+        int columnCount = this.columnKeys.size();
+        if (buffer == null || buffer.length < columnCount) {
+            buffer = new double[columnCount];
+        }
+        for (int c = 0; c < columnCount; c++) {
+            buffer[c] = this.columns[c][row];
+        }
+        return buffer;
+    }
+
+    /**
+     * Copies the values from one column into an array.  Missing values are 
+     * written as <code>Double.NaN</code>.
+     *
+     * @param column  the column index (zero-based).
+     * @param buffer  an array to receive the values, or <code>null</code> 
+     *                (a new array is allocated if the buffer is 
+     *                <code>null</code> or too short).
+     *
+     * @return The array containing the values for the column.
+     *
+     * @throws IndexOutOfBoundsException if <code>column</code> is out of 
+     *         bounds.
+     */
+    public double[] getColumnValues(int column, double[] buffer) {
+        checkColumn(column);
+        int rowCount = this.rowKeys.size();
+        if (buffer == null || buffer.length < rowCount) {
+            buffer = new double[rowCount];
+        }
+        System.arraycopy(this.columns[column], 0, buffer, 0, rowCount);
+        return buffer;
+    }
+
+    /**
+     * Returns the sum of the (non-missing) values in one row.
+     *
+     * @param row  the row index (zero-based).
+     *
+     * @return The total.
+     *
+     * @throws IndexOutOfBoundsException if <code>row</code> is out of 
+     *         bounds.
+     */
+    public double calculateRowTotal(int row) {
+        checkRow(row);
+        double total = 0.0;
+        int columnCount = this.columnKeys.size();
+        for (int c = 0; c < columnCount; c++) {
+            double v = this.columns[c][row];
+            if (!Double.isNaN(v)) {
+                total += v;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns the sum of the (non-missing) values in one column.
+     *
+     * @param column  the column index (zero-based).
+     *
+     * @return The total.
+     *
+     * @throws IndexOutOfBoundsException if <code>column</code> is out of 
+     *         bounds.
+     */
+    public double calculateColumnTotal(int column) {
+        checkColumn(column);
+        double total = 0.0;
+        double[] values = this.columns[column];
+        int rowCount = this.rowKeys.size();
+        for (int r = 0; r < rowCount; r++) {
+            double v = values[r];
+            if (!Double.isNaN(v)) {
+                total += v;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Adds a value to the table.  Performs the same function as 
+     * {@link #setValue(Number, Comparable, Comparable)}.
+     *
+     * @param value  the value (<code>null</code> permitted).
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     */
+    public void addValue(Number value, Comparable rowKey, 
+                         Comparable columnKey) {
+        setValue(value, rowKey, columnKey);
+    }
+
+    /**
+     * Adds a value to the table.
+     *
+     * @param value  the value.
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     */
+    public void addValue(double value, Comparable rowKey, 
+                         Comparable columnKey) {
+        setValue(value, rowKey, columnKey);
+    }
+
+    /**
+     * Adds or updates a value in the table and sends a 
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered 
+     * listeners.
+     *
+     * @param value  the value (<code>null</code> permitted).
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     */
+    public void setValue(Number value, Comparable rowKey, 
+                         Comparable columnKey) {
+        setValue(value != null ? value.doubleValue() : Double.NaN, rowKey, 
+                columnKey);
+    }
+
+    /**
+     * Adds or updates a value in the table and sends a 
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered 
+     * listeners.
+     *
+     * @param value  the value (<code>Double.NaN</code> for a missing value).
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     */
+    public void setValue(double value, Comparable rowKey, 
+                         Comparable columnKey) {
+        if (rowKey == null) {
+            throw new IllegalArgumentException("Null 'rowKey' argument.");
+        }
+        if (columnKey == null) {
+            throw new IllegalArgumentException("Null 'columnKey' argument.");
+        }
+        int row = getRowIndex(rowKey);
+        if (row < 0) {
+            row = addRowKey(rowKey);
+        }
+        int column = getColumnIndex(columnKey);
+        if (column < 0) {
+            column = addColumnKey(columnKey);
+        }
+        this.columns[column][row] = value;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Adds the specified value to an existing value in the dataset (if the 
+     * existing value is <code>null</code>, it is treated as if it were 0.0).
+     * 
+     * @param value  the value.
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     * 
+     * @throws UnknownKeyException if either key is not defined in the dataset.
+     */
+    public void incrementValue(double value, Comparable rowKey, 
+                               Comparable columnKey) {
+        double existing = 0.0;
+        Number n = getValue(rowKey, columnKey);
+        if (n != null) {
+            existing = n.doubleValue();
+        }
+        setValue(existing + value, rowKey, columnKey);
+    }
+
+    /**
+     * Removes a value from the dataset.  If the row or column then contains 
+     * only missing values, it is removed as well (this matches the behaviour
+     * of {@link DefaultCategoryDataset}).
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     */
+    public void removeValue(Comparable rowKey, Comparable columnKey) {
+        int row = getRowIndex(rowKey);
+        int column = getColumnIndex(columnKey);
+        if (row < 0 || column < 0) {
+            return;
+        }
+        this.columns[column][row] = Double.NaN;
+        boolean allNull = true;
+        for (int c = 0; c < this.columnKeys.size() && allNull; c++) {
+            allNull = Double.isNaN(this.columns[c][row]);
+        }
+        if (allNull) {
+            removeRowInternal(row);
+        }
+        allNull = true;
+        int rowCount = this.rowKeys.size();
+        for (int r = 0; r < rowCount && allNull; r++) {
+            allNull = Double.isNaN(this.columns[column][r]);
+        }
+        if (allNull) {
+            removeColumnInternal(column);
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a row from the dataset and sends a 
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered 
+     * listeners.
+     *
+     * @param rowIndex  the row index.
+     */
+    public void removeRow(int rowIndex) {
+        removeRowInternal(rowIndex);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a row from the dataset and sends a 
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered 
+     * listeners.
+     *
+     * @param rowKey  the row key.
+     */
+    public void removeRow(Comparable rowKey) {
+        removeRow(getRowIndex(rowKey));
+    }
+
+    /**
+     * Removes a column from the dataset and sends a 
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered 
+     * listeners.
+     *
+     * @param columnIndex  the column index.
+     */
+    public void removeColumn(int columnIndex) {
+        removeColumnInternal(columnIndex);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a column from the dataset and sends a 
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered 
+     * listeners.
+     *
+     * @param columnKey  the column key.
+     */
+    public void removeColumn(Comparable columnKey) {
+        removeColumn(getColumnIndex(columnKey));
+    }
+
+    /**
+     * Clears all data from the dataset and sends a 
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered 
+     * listeners.
+     */
+    public void clear() {
+        this.rowKeys.clear();
+        this.columnKeys.clear();
+        this.rowKeyIndex.clear();
+        this.columnKeyIndex.clear();
+        this.columns = new double[INITIAL_ROW_CAPACITY][];
+        this.rowCapacity = INITIAL_ROW_CAPACITY;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Checks that a row index is valid (the column arrays can be longer than
+     * the row count).
+     *
+     * @param row  the row index.
+     *
+     * @throws IndexOutOfBoundsException if <code>row</code> is out of bounds.
+     */
+    private void checkRow(int row) {
+        if (row < 0 || row >= this.rowKeys.size()) {
+            throw new IndexOutOfBoundsException("Invalid row index: " + row);
+        }
+    }
+
+    /**
+     * Checks that a column index is valid (the column arrays can be longer 
+     * than the column count).
+     *
+     * @param column  the column index.
+     *
+     * @throws IndexOutOfBoundsException if <code>column</code> is out of 
+     *         bounds.
+     */
+    private void checkColumn(int column) {
+        if (column < 0 || column >= this.columnKeys.size()) {
+            throw new IndexOutOfBoundsException(
+                "Invalid column index: " + column);
+        }
+    }
+
+    /**
+     * Adds a row key, growing the column arrays if necessary.  The new row is
+     * filled with missing values.
+     *
+     * @param rowKey  the row key.
+     *
+     * @return The index of the new row.
+     */
+    private int addRowKey(Comparable rowKey) {
+        int row = this.rowKeys.size();
+        if (row == this.rowCapacity) {
+            int newCapacity = this.rowCapacity * 2;
+            for (int c = 0; c < this.columnKeys.size(); c++) {
+                double[] column = new double[newCapacity];
+                System.arraycopy(this.columns[c], 0, column, 0, row);
+                Arrays.fill(column, row, newCapacity, Double.NaN);
+                this.columns[c] = column;
+            }
+            this.rowCapacity = newCapacity;
+        }
+        this.rowKeys.add(rowKey);
+        this.rowKeyIndex.put(rowKey, new Integer(row));
+        return row;
+    }
+
+    /**
+     * Adds a column key and a new column array filled with missing values.
+     *
+     * @param columnKey  the column key.
+     *
+     * @return The index of the new column.
+     */
+    private int addColumnKey(Comparable columnKey) {
+        int column = this.columnKeys.size();
+        if (column == this.columns.length) {
+            double[][] newColumns = new double[column * 2][];
+            System.arraycopy(this.columns, 0, newColumns, 0, column);
+            this.columns = newColumns;
+        }
+        double[] values = new double[this.rowCapacity];
+        Arrays.fill(values, Double.NaN);
+        this.columns[column] = values;
+        this.columnKeys.add(columnKey);
+        this.columnKeyIndex.put(columnKey, new Integer(column));
+        return column;
+    }
+
+    /**
+     * Removes a row without sending a change event.
+     *
+     * @param row  the row index.
+     */
+    private void removeRowInternal(int row) {
+        Comparable rowKey = (Comparable) this.rowKeys.remove(row);
+        this.rowKeyIndex.remove(rowKey);
+        int rowCount = this.rowKeys.size();
+        for (int c = 0; c < this.columnKeys.size(); c++) {
+            double[] values = this.columns[c];
+            System.arraycopy(values, row + 1, values, row, rowCount - row);
+            values[rowCount] = Double.NaN;
+        }
+        for (int r = row; r < rowCount; r++) {
+            this.rowKeyIndex.put(this.rowKeys.get(r), new Integer(r));
+        }
+    }
+
+    /**
+     * Removes a column without sending a change event.
+     *
+     * @param column  the column index.
+     */
+    private void removeColumnInternal(int column) {
+        Comparable columnKey = (Comparable) this.columnKeys.remove(column);
+        this.columnKeyIndex.remove(columnKey);
+        int columnCount = this.columnKeys.size();
+        System.arraycopy(this.columns, column + 1, this.columns, column, 
+                columnCount - column);
+        this.columns[columnCount] = null;
+        for (int c = column; c < columnCount; c++) {
+            this.columnKeyIndex.put(this.columnKeys.get(c), new Integer(c));
+        }
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.  The object 
+     * must be a <code>DenseCategoryDataset</code> with the same keys and 
+     * values.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof DenseCategoryDataset)) {
+            return false;
+        }
+        DenseCategoryDataset that = (DenseCategoryDataset) obj;
+        if (!getRowKeys().equals(that.getRowKeys())) {
+            return false;
+        }
+        if (!getColumnKeys().equals(that.getColumnKeys())) {
+            return false;
+        }
+        int rowCount = getRowCount();
+        int colCount = getColumnCount();
+        for (int r = 0; r < rowCount; r++) {
+            for (int c = 0; c < colCount; c++) {
+                Number v1 = getValue(r, c);
+                Number v2 = that.getValue(r, c);
+                if (v1 == null) {
+                    if (v2 != null) {
+                        return false;
+                    }
+                }
+                else if (!v1.equals(v2)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for the dataset.
+     *
+     * @return A hash code.
+     */
+    public int hashCode() {
+        int result = this.rowKeys.hashCode();
+        result = 29 * result + this.columnKeys.hashCode();
+        return result;
+    }
+
+    /**
+     * Returns a clone of the dataset.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning the 
+     *         dataset.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        DenseCategoryDataset clone = (DenseCategoryDataset) super.clone();
+        clone.rowKeys = new java.util.ArrayList(this.rowKeys);
+        clone.columnKeys = new java.util.ArrayList(this.columnKeys);
+        clone.rowKeyIndex = new HashMap(this.rowKeyIndex);
+        clone.columnKeyIndex = new HashMap(this.columnKeyIndex);
+        clone.columns = new double[this.columns.length][];
+        for (int c = 0; c < this.columnKeys.size(); c++) {
+            clone.columns[c] = this.columns[c].clone();
+        }
+        return clone;
+    }
+
+}
@@ -0,0 +1,612 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation,
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------------------
+ * InverseDistanceInterpolator.java
+ * --------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.contour;
+
+import java.io.Serializable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Interpolates scattered (x, y, z) data onto a set of grid points using
+ * inverse distance weighting, with the same weights as
+ * {@link NonGridContourDataset#buildGrid(int, int, int)}.
+ * <P>
+ * When a neighbour count is specified, each grid point is interpolated from
+ * only its nearest data points, which are found with a bucket grid over the
+ * data, so the cost no longer grows with the product of the grid size and
+ * the number of data points.  The grid points can be interpolated in
+ * parallel in the common fork-join pool.
+ * <P>
+ * A <code>Double.NaN</code> z-value is treated in the same way as a
+ * <code>null</code> value in {@link NonGridContourDataset}: the point adds
+ * to the total weight, but not to the weighted sum.
+ */
+public class InverseDistanceInterpolator implements Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -4318207651349032870L;
+
+    /** The default number of nearest neighbours. */
+    public static final int DEFAULT_NEIGHBOUR_COUNT = 12;
+
+    /**
+     * The number of grid points below which the interpolation is not split
+     * into parallel tasks.
+     */
+    private static final int PARALLEL_THRESHOLD = 256;
+
+    /** The average number of data points in each bucket of the index. */
+    private static final int POINTS_PER_BUCKET = 4;
+
+    /** The exponent for inverse distance weighting. */
+    private int power;
+
+    /**
+     * The number of nearest data points used for each grid point (zero or
+     * less to use all data points).
+     */
+    private int neighbourCount;
+
+    /** A flag that controls whether the grid is interpolated in parallel. */
+    private boolean parallel;
+
+    /**
+     * Creates an interpolator that uses all the data points for every grid
+     * point, in sequence.
+     *
+     * @param power  the exponent for inverse distance weighting.
+     */
+    public InverseDistanceInterpolator(int power) {
+        this(power, 0, false);
+    }
+
+    /**
+     * Creates a new interpolator.
+     *
+     * @param power  the exponent for inverse distance weighting.
+     * @param neighbourCount  the number of nearest data points used for each
+     *                        grid point (zero or less to use all the data
+     *                        points).
+     * @param parallel  a flag that controls whether the grid points are
+     *                  interpolated in parallel.
+     */
+    public InverseDistanceInterpolator(int power, int neighbourCount,
+                                       boolean parallel) {
+        this.power = power;
+        this.neighbourCount = neighbourCount;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Returns the exponent for inverse distance weighting.
+     *
+     * @return The power.
+     */
+    public int getPower() {
+        return this.power;
+    }
+
+    /**
+     * Returns the number of nearest data points used for each grid point.
+     *
+     * @return The neighbour count (zero or less if all the data points are
+     *         used).
+     */
+    public int getNeighbourCount() {
+        return this.neighbourCount;
+    }
+
+    /**
+     * Returns <code>true</code> if the grid points are interpolated in
+     * parallel.
+     *
+     * @return A boolean.
+     */
+    public boolean isParallel() {
+        return this.parallel;
+    }
+
+    /**
+     * Interpolates the data onto the grid points.
+     *
+     * @param xData  the x-values of the data (<code>null</code> not
+     *               permitted).
+     * @param yData  the y-values of the data (<code>null</code> not
+     *               permitted).
+     * @param zData  the z-values of the data (<code>null</code> not
+     *               permitted).
+     * @param xGrid  the x-values of the grid points (<code>null</code> not
+     *               permitted).
+     * @param yGrid  the y-values of the grid points (<code>null</code> not
+     *               permitted).
+     *
+     * @return The interpolated z-values for the grid points.
+     */
+    public double[] interpolate(double[] xData, double[] yData,
+                                double[] zData, double[] xGrid,
+                                double[] yGrid) {
+        if (xData == null) {
+            throw new IllegalArgumentException("Null 'xData' argument.");
+        }
+        if (yData == null) {
+            throw new IllegalArgumentException("Null 'yData' argument.");
+        }
+        if (zData == null) {
+            throw new IllegalArgumentException("Null 'zData' argument.");
+        }
+        if (xGrid == null) {
+            throw new IllegalArgumentException("Null 'xGrid' argument.");
+        }
+        if (yGrid == null) {
+            throw new IllegalArgumentException("Null 'yGrid' argument.");
+        }
+        if (yData.length != xData.length || zData.length != xData.length) {
+            throw new IllegalArgumentException(
+                "The data arrays must have the same length."
+            );
+        }
+        if (yGrid.length != xGrid.length) {
+            throw new IllegalArgumentException(
+                "The grid arrays must have the same length."
+            );
+        }
+        Index index = null;
+        if (this.neighbourCount > 0 && this.neighbourCount < xData.length) {
+            index = new Index(xData, yData, zData);
+        }
+        double[] zGrid = new double[xGrid.length];
+        InterpolateAction action = new InterpolateAction(xData, yData, zData,
+                index, xGrid, yGrid, zGrid, 0, xGrid.length);
+        if (this.parallel && xGrid.length > PARALLEL_THRESHOLD) {
+            ForkJoinPool.commonPool().invoke(action);
+        }
+        else {
+            action.interpolate();
+        }
+        return zGrid;
+    }
+
+    /**
+     * Returns the inverse distance weight for a squared distance.
+     *
+     * @param distanceSquared  the square of the distance between the data
+     *                         point and the grid point.
+     *
+     * @return The weight.
+     */
+    private double weight(double distanceSquared) {
+        double d = Math.sqrt(distanceSquared);
+        if (this.power != 1) {
+            d = Math.pow(d, this.power);
+        }
+        d = Math.sqrt(d);
+        if (d > 0.0) {
+            return 1.0 / d;
+        }
+        else { // if d is real small set the inverse to a large number
+               // to avoid INF
+            return 1.e20;
+        }
+    }
+
+    /**
+     * Tests this interpolator for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof InverseDistanceInterpolator)) {
+            return false;
+        }
+        InverseDistanceInterpolator that = (InverseDistanceInterpolator) obj;
+        if (this.power != that.power) {
+            return false;
+        }
+        if (this.neighbourCount != that.neighbourCount) {
+            return false;
+        }
+        if (this.parallel != that.parallel) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this interpolator.
+     *
+     * @return A hash code.
+     */
+    public int hashCode() {
+        int result = 193;
+        result = 37 * result + this.power;
+        result = 37 * result + this.neighbourCount;
+        result = 37 * result + (this.parallel ? 1 : 0);
+        return result;
+    }
+
+    /**
+     * A bucket grid over the data points.  The points are copied into arrays
+     * ordered by bucket, so that the points in each bucket are contiguous.
+     */
+    private static class Index {
+
+        /** The x-values, ordered by bucket. */
+        private double[] x;
+
+        /** The y-values, ordered by bucket. */
+        private double[] y;
+
+        /** The z-values, ordered by bucket. */
+        private double[] z;
+
+        /** The index of the first point in each bucket (plus an end index). */
+        private int[] bucketStart;
+
+        /** The number of bucket columns. */
+        private int columns;
+
+        /** The number of bucket rows. */
+        private int rows;
+
+        /** The minimum x-value. */
+        private double xMin;
+
+        /** The minimum y-value. */
+        private double yMin;
+
+        /** The width of a bucket. */
+        private double bucketWidth;
+
+        /** The height of a bucket. */
+        private double bucketHeight;
+
+        /**
+         * Creates an index for the data points.
+         *
+         * @param xData  the x-values.
+         * @param yData  the y-values.
+         * @param zData  the z-values.
+         */
+        Index(double[] xData, double[] yData, double[] zData) {
+            int n = xData.length;
+            double xMax = Double.NEGATIVE_INFINITY;
+            double yMax = Double.NEGATIVE_INFINITY;
+            this.xMin = Double.POSITIVE_INFINITY;
+            this.yMin = Double.POSITIVE_INFINITY;
+            for (int k = 0; k < n; k++) {
+                this.xMin = Math.min(this.xMin, xData[k]);
+                xMax = Math.max(xMax, xData[k]);
+                this.yMin = Math.min(this.yMin, yData[k]);
+                yMax = Math.max(yMax, yData[k]);
+            }
+            double width = xMax - this.xMin;
+            double height = yMax - this.yMin;
+            int buckets = Math.max(1, n / POINTS_PER_BUCKET);
+            if (width > 0.0 && height > 0.0) {
+                double aspect = width / height;
+                this.columns = (int) Math.ceil(Math.sqrt(buckets * aspect));
+                this.columns = Math.max(1, Math.min(this.columns, buckets));
+                this.rows = Math.max(1, buckets / this.columns);
+            }
+            else if (width > 0.0) {
+                this.columns = buckets;
+                this.rows = 1;
+            }
+            else {
+                this.columns = 1;
+                this.rows = (height > 0.0 ? buckets : 1);
+            }
+            this.bucketWidth = (width > 0.0 ? width / this.columns : 1.0);
+            this.bucketHeight = (height > 0.0 ? height / this.rows : 1.0);
+
+            // a counting sort of the points by bucket
+            int[] bucket = new int[n];
+            this.bucketStart = new int[this.columns * this.rows + 1];
+            for (int k = 0; k < n; k++) {
+                bucket[k] = getRow(yData[k]) * this.columns
+                    + getColumn(xData[k]);
+                this.bucketStart[bucket[k] + 1]++;
+            }
+            for (int b = 0; b < this.columns * this.rows; b++) {
+                this.bucketStart[b + 1] += this.bucketStart[b];
+            }
+            int[] next = new int[this.columns * this.rows];
+            System.arraycopy(this.bucketStart, 0, next, 0, next.length);
+            this.x = new double[n];
+            this.y = new double[n];
+            this.z = new double[n];
+            for (int k = 0; k < n; k++) {
+                int p = next[bucket[k]]++;
+                this.x[p] = xData[k];
+                this.y[p] = yData[k];
+                this.z[p] = zData[k];
+            }
+        }
+
+        /**
+         * Returns the bucket column for an x-value, clamped to the grid.
+         *
+         * @param xx  the x-value.
+         *
+         * @return The column.
+         */
+        int getColumn(double xx) {
+            int c = (int) Math.floor((xx - this.xMin) / this.bucketWidth);
+            return Math.max(0, Math.min(c, this.columns - 1));
+        }
+
+        /**
+         * Returns the bucket row for a y-value, clamped to the grid.
+         *
+         * @param yy  the y-value.
+         *
+         * @return The row.
+         */
+        int getRow(double yy) {
+            int r = (int) Math.floor((yy - this.yMin) / this.bucketHeight);
+            return Math.max(0, Math.min(r, this.rows - 1));
+        }
+
+        /**
+         * Finds the k nearest data points to a location, searching rings of
+         * buckets outwards from the bucket containing the location until no
+         * unsearched bucket can hold a nearer point.
+         *
+         * @param xx  the x-coordinate.
+         * @param yy  the y-coordinate.
+         * @param distances  an array to hold the squared distances of the
+         *                   nearest points, in ascending order (its length
+         *                   is the number of points to find).
+         * @param values  an array to hold the z-values of the nearest points.
+         */
+        void findNearest(double xx, double yy, double[] distances,
+                         double[] values) {
+            int k = distances.length;
+            int found = 0;
+            int c0 = getColumn(xx);
+            int r0 = getRow(yy);
+            int maxRing = Math.max(this.columns, this.rows);
+            for (int ring = 0; ring <= maxRing; ring++) {
+                int cMin = c0 - ring;
+                int cMax = c0 + ring;
+                int rMin = r0 - ring;
+                int rMax = r0 + ring;
+                for (int r = Math.max(rMin, 0);
+                        r <= Math.min(rMax, this.rows - 1); r++) {
+                    // inside the ring, only the first and last columns are new
+                    int step = (r == rMin || r == rMax) ? 1 : cMax - cMin;
+                    for (int c = cMin; c <= cMax; c += step) {
+                        if (c < 0 || c >= this.columns) {
+                            continue;
+                        }
+                        int b = r * this.columns + c;
+                        for (int p = this.bucketStart[b];
+                                p < this.bucketStart[b + 1]; p++) {
+                            double dx = this.x[p] - xx;
+                            double dy = this.y[p] - yy;
+                            double d2 = dx * dx + dy * dy;
+                            if (found < k) {
+                                found = insert(distances, values, found, d2,
+                                        this.z[p]);
+                            }
+                            else if (d2 < distances[k - 1]) {
+                                insert(distances, values, k - 1, d2,
+                                        this.z[p]);
+                            }
+                        }
+                    }
+                }
+                if (found == k) {
+                    // the distance from the location to the edge of the
+                    // searched square bounds every point not yet searched
+                    double gap = Math.min(
+                        Math.min(xx - (this.xMin + cMin * this.bucketWidth),
+                            this.xMin + (cMax + 1) * this.bucketWidth - xx),
+                        Math.min(yy - (this.yMin + rMin * this.bucketHeight),
+                            this.yMin + (rMax + 1) * this.bucketHeight - yy)
+                    );
+                    if (gap > 0.0 && distances[k - 1] <= gap * gap) {
+                        return;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Inserts a point into the sorted nearest point arrays.
+         *
+         * @param distances  the squared distances (ascending).
+         * @param values  the z-values.
+         * @param count  the number of entries to keep before the insertion
+         *               (the last of these is dropped if the arrays are
+         *               full).
+         * @param d2  the squared distance of the new point.
+         * @param value  the z-value of the new point.
+         *
+         * @return The number of entries after the insertion.
+         */
+        private static int insert(double[] distances, double[] values,
+                                  int count, double d2, double value) {
+            int i = count;
+            while (i > 0 && distances[i - 1] > d2) {
+                if (i < distances.length) {
+                    distances[i] = distances[i - 1];
+                    values[i] = values[i - 1];
+                }
+                i--;
+            }
+            distances[i] = d2;
+            values[i] = value;
+            return Math.min(count + 1, distances.length);
+        }
+
+    }
+
+    /**
+     * A task that interpolates a range of the grid points, splitting itself
+     * in two while the range is larger than the parallel threshold.
+     */
+    private class InterpolateAction extends RecursiveAction {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -2812797013067883031L;
+
+        /** The x-values of the data. */
+        private double[] xData;
+
+        /** The y-values of the data. */
+        private double[] yData;
+
+        /** The z-values of the data. */
+        private double[] zData;
+
+        /** The bucket index (<code>null</code> to use all the data). */
+        private Index index;
+
+        /** The x-values of the grid points. */
+        private double[] xGrid;
+
+        /** The y-values of the grid points. */
+        private double[] yGrid;
+
+        /** The interpolated z-values. */
+        private double[] zGrid;
+
+        /** The first grid point. */
+        private int start;
+
+        /** The end of the range of grid points (exclusive). */
+        private int end;
+
+        /**
+         * Creates a new task.
+         *
+         * @param xData  the x-values of the data.
+         * @param yData  the y-values of the data.
+         * @param zData  the z-values of the data.
+         * @param index  the bucket index (<code>null</code> permitted).
+         * @param xGrid  the x-values of the grid points.
+         * @param yGrid  the y-values of the grid points.
+         * @param zGrid  the array for the interpolated values.
+         * @param start  the first grid point.
+         * @param end  the end of the range of grid points (exclusive).
+         */
+        InterpolateAction(double[] xData, double[] yData, double[] zData,
+                          Index index, double[] xGrid, double[] yGrid,
+                          double[] zGrid, int start, int end) {
+            this.xData = xData;
+            this.yData = yData;
+            this.zData = zData;
+            this.index = index;
+            this.xGrid = xGrid;
+            this.yGrid = yGrid;
+            this.zGrid = zGrid;
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Interpolates the grid points, splitting the range if it is large.
+         */
+        protected void compute() {
+            if (this.end - this.start <= PARALLEL_THRESHOLD) {
+                interpolate();
+            }
+            else {
+                int mid = (this.start + this.end) >>> 1;
+                invokeAll(
+                    new InterpolateAction(this.xData, this.yData, this.zData,
+                        this.index, this.xGrid, this.yGrid, this.zGrid,
+                        this.start, mid),
+                    new InterpolateAction(this.xData, this.yData, this.zData,
+                        this.index, this.xGrid, this.yGrid, this.zGrid,
+                        mid, this.end)
+                );
+            }
+        }
+
+        /**
+         * Interpolates the grid points in this task's range, in sequence.
+         */
+        void interpolate() {
+            if (this.index == null) {
+                for (int kGrid = this.start; kGrid < this.end; kGrid++) {
+                    double dTotal = 0.0;
+                    double zTotal = 0.0;
+                    for (int k = 0; k < this.xData.length; k++) {
+                        double dx = this.xData[k] - this.xGrid[kGrid];
+                        double dy = this.yData[k] - this.yGrid[kGrid];
+                        double d = weight(dx * dx + dy * dy);
+                        if (!Double.isNaN(this.zData[k])) {
+                            zTotal += this.zData[k] * d;
+                        }
+                        dTotal += d;
+                    }
+                    this.zGrid[kGrid] = zTotal / dTotal;
+                }
+            }
+            else {
+                double[] distances = new double[neighbourCount];
+                double[] values = new double[neighbourCount];
+                for (int kGrid = this.start; kGrid < this.end; kGrid++) {
+                    this.index.findNearest(this.xGrid[kGrid],
+                            this.yGrid[kGrid], distances, values);
+                    double dTotal = 0.0;
+                    double zTotal = 0.0;
+                    for (int k = 0; k < distances.length; k++) {
+                        double d = weight(distances[k]);
+                        if (!Double.isNaN(values[k])) {
+                            zTotal += values[k] * d;
+                        }
+                        dTotal += d;
+                    }
+                    this.zGrid[kGrid] = zTotal / dTotal;
+                }
+            }
+        }
+
+    }
+
+}
@@ -36,6 +36,8 @@
  * Changes (from 24-Jul-2003)
  * --------------------------
  * 24-Jul-2003 : Added standard header (DG);
+ * 18-Oct-2026 : Added constructor for primitive arrays with a selectable
+ *               InverseDistanceInterpolator;
  *
  */
 
@@ -100,6 +102,49 @@ public class NonGridContourDataset extends DefaultContourDataset {
         buildGrid(numX, numY, power);
     }
 
+    /**
+     * Constructor for NonGridContourDataset that maps the data into the grid
+     * with the specified interpolator.  An interpolator with a neighbour 
+     * count uses only the nearest data points for each grid point, which is
+     * much faster than {@link #buildGrid(int, int, int)} for large datasets.
+     * 
+     * @param seriesName  the series name.
+     * @param xData  the x values (<code>null</code> not permitted).
+     * @param yData  the y values (<code>null</code> not permitted).
+     * @param zData  the z values (<code>null</code> not permitted, use 
+     *               <code>Double.NaN</code> for missing values).
+     * @param numX  number grid cells in along the x-axis
+     * @param numY  number grid cells in along the y-axis
+     * @param interpolator  the interpolator (<code>null</code> not 
+     *                      permitted).
+     */
+    public NonGridContourDataset(String seriesName, 
+                                 double[] xData, double[] yData, 
+                                 double[] zData,
+                                 int numX, int numY, 
+                                 InverseDistanceInterpolator interpolator) {
+        super();
+        if (xData == null) {
+            throw new IllegalArgumentException("Null 'xData' argument.");
+        }
+        if (yData == null) {
+            throw new IllegalArgumentException("Null 'yData' argument.");
+        }
+        if (zData == null) {
+            throw new IllegalArgumentException("Null 'zData' argument.");
+        }
+        if (yData.length != xData.length || zData.length != xData.length) {
+            throw new IllegalArgumentException(
+                "The data arrays must have the same length."
+            );
+        }
+        if (interpolator == null) {
+            throw new IllegalArgumentException("Null 'interpolator' argument.");
+        }
+        this.seriesKey = seriesName;
+        buildGrid(xData, yData, zData, numX, numY, interpolator);
+    }
+
     /**
      * Builds a regular grid.  Maps the non-grid data into the regular grid 
      * using an inverse distance between grid and non-grid points.  Weighting 
@@ -113,10 +158,7 @@ public class NonGridContourDataset extends DefaultContourDataset {
      */
     protected void buildGrid(int numX, int numY, int power) {
 
-        int numValues = numX * numY;
-        double[] xGrid = new double[numValues];
-        double[] yGrid = new double [numValues];
-        double[] zGrid = new double [numValues];
+        double[] zGrid = new double [numX * numY];
 
         // Find min, max for the x and y axes
         double xMin = 1.e20;
@@ -139,38 +181,9 @@ public class NonGridContourDataset extends DefaultContourDataset {
             yMax = Math.max(yMax, this.yValues[k].doubleValue());
         }
 
-        Range xRange = new Range(xMin, xMax);
-        Range yRange = new Range(yMin, yMax);
-
-        xRange.getLength();
-        yRange.getLength();
-
-        // Determine the cell size
-        double dxGrid = xRange.getLength() / (numX - 1);
-        double dyGrid = yRange.getLength() / (numY - 1);
-
-        // Generate the grid
-        double x = 0.0;
-        for (int i = 0; i < numX; i++) {
-            if (i == 0) {
-                x = xMin;
-            }
-            else {
-                x += dxGrid;
-            }
-            double y = 0.0;
-            for (int j = 0; j < numY; j++) {
-                int k = numY * i + j;
-                xGrid[k] = x;
-                if (j == 0) {
-                    y = yMin;
-                }
-                else {
-                    y += dyGrid;
-                }
-                yGrid[k] = y;
-            }
-        }
+        double[][] grid = createGrid(xMin, xMax, yMin, yMax, numX, numY);
+        double[] xGrid = grid[0];
+        double[] yGrid = grid[1];
 
         // Map the nongrid data into the new regular grid
         for (int kGrid = 0; kGrid < xGrid.length; kGrid++) {
@@ -208,6 +221,102 @@ public class NonGridContourDataset extends DefaultContourDataset {
 
     }
 
+    /**
+     * Builds a regular grid, using an interpolator to map the non-grid data 
+     * into the grid.
+     * 
+     * @param xData  the x values.
+     * @param yData  the y values.
+     * @param zData  the z values.
+     * @param numX  number grid points in along the x-axis
+     * @param numY  number grid points in along the y-axis
+     * @param interpolator  the interpolator.
+     */
+    protected void buildGrid(double[] xData, double[] yData, double[] zData,
+                             int numX, int numY, 
+                             InverseDistanceInterpolator interpolator) {
+
+        double xMin = 1.e20;
+        double xMax = -1.e20;
+        for (int k = 0; k < xData.length; k++) {
+            xMin = Math.min(xMin, xData[k]);
+            xMax = Math.max(xMax, xData[k]);
+        }
+        double yMin = 1.e20;
+        double yMax = -1.e20;
+        for (int k = 0; k < yData.length; k++) {
+            yMin = Math.min(yMin, yData[k]);
+            yMax = Math.max(yMax, yData[k]);
+        }
+
+        double[][] grid = createGrid(xMin, xMax, yMin, yMax, numX, numY);
+        double[] zGrid = interpolator.interpolate(
+            xData, yData, zData, grid[0], grid[1]
+        );
+
+        //initalize xValues, yValues, and zValues arrays.
+        initialize(
+            formObjectArray(grid[0]), formObjectArray(grid[1]), 
+            formObjectArray(zGrid)
+        );
+
+    }
+
+    /**
+     * Generates the x and y values of a regular grid, with the y values 
+     * varying fastest.
+     * 
+     * @param xMin  the minimum x value.
+     * @param xMax  the maximum x value.
+     * @param yMin  the minimum y value.
+     * @param yMax  the maximum y value.
+     * @param numX  number grid points in along the x-axis
+     * @param numY  number grid points in along the y-axis
+     * 
+     * @return An array containing the x values and the y values of the grid.
+     */
+    private static double[][] createGrid(double xMin, double xMax, 
+                                         double yMin, double yMax,
+                                         int numX, int numY) {
+
+        int numValues = numX * numY;
+        double[] xGrid = new double[numValues];
+        double[] yGrid = new double [numValues];
+
+        Range xRange = new Range(xMin, xMax);
+        Range yRange = new Range(yMin, yMax);
+
+        // Determine the cell size
+        double dxGrid = xRange.getLength() / (numX - 1);
+        double dyGrid = yRange.getLength() / (numY - 1);
+
+        // Generate the grid
+        double x = 0.0;
+        for (int i = 0; i < numX; i++) {
+            if (i == 0) {
+                x = xMin;
+            }
+            else {
+                x += dxGrid;
+            }
+            double y = 0.0;
+            for (int j = 0; j < numY; j++) {
+                int k = numY * i + j;
+                xGrid[k] = x;
+                if (j == 0) {
+                    y = yMin;
+                }
+                else {
+                    y += dyGrid;
+                }
+                yGrid[k] = y;
+            }
+        }
+
+        return new double[][] {xGrid, yGrid};
+
+    }
+
     /**
      * Calculates the distance between two points.
      * 
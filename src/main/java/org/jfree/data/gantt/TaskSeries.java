@@ -40,13 +40,17 @@
  * 24-Oct-2002 : Added methods to get TimeAllocation by task index (DG);
  * 10-Jan-2003 : Renamed GanttSeries --> TaskSeries (DG);
  * 30-Jul-2004 : Added equals() method (DG);
+ * 18-Oct-2026 : Index the tasks by description, so that get(String) does
+ *               not search the list of tasks;
  *
  */
 
 package org.jfree.data.gantt;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.jfree.data.general.Series;
 
@@ -55,12 +59,22 @@ import org.jfree.data.general.Series;
  * <P>
  * This class is used as a building block for the {@link TaskSeriesCollection}
  * class that can be used to construct basic Gantt charts.
+ * <P>
+ * The tasks are indexed by description.  If you change the description of a
+ * task after it has been added to the series, call 
+ * {@link #fireSeriesChanged()} so that the index is rebuilt.
  */
 public class TaskSeries extends Series {
 
     /** Storage for the tasks in the series. */
     private List tasks;
 
+    /** 
+     * The first task for each description (<code>null</code> if it needs to
+     * be rebuilt).
+     */
+    private transient volatile Map index;
+
     /**
      * Constructs a new series with the specified name.
      *
@@ -83,7 +97,11 @@ public class TaskSeries extends Series {
             throw new IllegalArgumentException("Null 'task' argument.");
         }
         this.tasks.add(task);
-        fireSeriesChanged();
+        if (this.index != null 
+                && !this.index.containsKey(task.getDescription())) {
+            this.index.put(task.getDescription(), task);
+        }
+        super.fireSeriesChanged();
     }
 
     /**
@@ -136,16 +154,16 @@ public class TaskSeries extends Series {
      * @return The task (possibly <code>null</code>).
      */
     public Task get(String description) {
-        Task result = null;
-        int count = this.tasks.size();
-        for (int i = 0; i < count; i++) {
-            Task t = (Task) this.tasks.get(i);
-            if (t.getDescription().equals(description)) {
-                result = t;
-                break;
+        Map map = this.index;
+        if (map == null) {
+            map = new HashMap();
+            for (int i = this.tasks.size() - 1; i >= 0; i--) {
+                Task t = (Task) this.tasks.get(i);
+                map.put(t.getDescription(), t);
             }
+            this.index = map;
         }
-        return result;
+        return (Task) map.get(description);
     }
 
     /**
@@ -157,6 +175,16 @@ public class TaskSeries extends Series {
         return Collections.unmodifiableList(this.tasks);
     }
 
+    /**
+     * Sends a {@link org.jfree.data.general.SeriesChangeEvent} to all 
+     * registered listeners.  Call this method after changing the description
+     * of a task in the series.
+     */
+    public void fireSeriesChanged() {
+        this.index = null;
+        super.fireSeriesChanged();
+    }
+
     /**
      * Tests this object for equality with an arbitrary object.
      * 
@@ -46,14 +46,18 @@
  * 12-Jan-2005 : Fixed bug 1099331 (DG);
  * 18-Jan-2006 : Added new methods getSeries(int) and 
  *               getSeries(Comparable) (DG);
+ * 18-Oct-2026 : Index the column keys and series keys with hash maps, and
+ *               look up tasks by row and column index directly;
  *
  */
 
 package org.jfree.data.gantt;
 
 import java.io.Serializable;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.jfree.data.general.AbstractSeriesDataset;
 import org.jfree.data.general.SeriesChangeEvent;
@@ -82,6 +86,18 @@ public class TaskSeriesCollection extends AbstractSeriesDataset
     /** Storage for the series. */
     private List data;
 
+    /** 
+     * The index of each column key (<code>null</code> if it needs to be 
+     * rebuilt). 
+     */
+    private transient volatile Map keyIndex;
+
+    /** 
+     * The index of each series key (<code>null</code> if it needs to be 
+     * rebuilt). 
+     */
+    private transient volatile Map seriesIndex;
+
     /**
      * Default constructor.
      */
@@ -203,7 +219,28 @@ public class TaskSeriesCollection extends AbstractSeriesDataset
      * @return The column index.
      */
     public int getColumnIndex(Comparable columnKey) {
-        return this.keys.indexOf(columnKey);
+        Integer index = (Integer) getKeyIndex().get(columnKey);
+        if (index == null) {
+            return -1;
+        }
+        return index.intValue();
+    }
+
+    /**
+     * Returns the index of each column key, building it if necessary.
+     *
+     * @return The index.
+     */
+    private Map getKeyIndex() {
+        Map result = this.keyIndex;
+        if (result == null) {
+            result = new HashMap();
+            for (int i = this.keys.size() - 1; i >= 0; i--) {
+                result.put(this.keys.get(i), new Integer(i));
+            }
+            this.keyIndex = result;
+        }
+        return result;
     }
 
     /**
@@ -214,6 +251,28 @@ public class TaskSeriesCollection extends AbstractSeriesDataset
      * @return The index.
      */
     public int getRowIndex(Comparable rowKey) {
+        Map map = this.seriesIndex;
+        if (map == null) {
+            map = new HashMap();
+            for (int i = this.data.size() - 1; i >= 0; i--) {
+                TaskSeries s = (TaskSeries) this.data.get(i);
+                map.put(s.getKey(), new Integer(i));
+            }
+            this.seriesIndex = map;
+        }
+        Integer index = (Integer) map.get(rowKey);
+        if (index != null) {
+            int i = index.intValue();
+            // the series key can be changed without a change event, so 
+            // check that the index is still valid
+            if (i < this.data.size()) {
+                TaskSeries s = (TaskSeries) this.data.get(i);
+                if (s.getKey().equals(rowKey)) {
+                    return i;
+                }
+            }
+            this.seriesIndex = null;
+        }
         int result = -1;
         int count = this.data.size();
         for (int i = 0; i < count; i++) {
@@ -251,17 +310,10 @@ public class TaskSeriesCollection extends AbstractSeriesDataset
         }
         this.data.add(series);
         series.addChangeListener(this);
+        this.seriesIndex = null;
 
         // look for any keys that we don't already know about...
-        Iterator iterator = series.getTasks().iterator();
-        while (iterator.hasNext()) {
-            Task task = (Task) iterator.next();
-            String key = task.getDescription();
-            int index = this.keys.indexOf(key);
-            if (index < 0) {
-                this.keys.add(key);
-            }
-        }
+        addKeys(series);
         fireDatasetChanged();
     }
 
@@ -279,6 +331,7 @@ public class TaskSeriesCollection extends AbstractSeriesDataset
         if (this.data.contains(series)) {
             series.removeChangeListener(this);
             this.data.remove(series);
+            this.seriesIndex = null;
             fireDatasetChanged();
         }
     }
@@ -300,6 +353,7 @@ public class TaskSeriesCollection extends AbstractSeriesDataset
         TaskSeries ts = (TaskSeries) this.data.get(series);
         ts.removeChangeListener(this);
         this.data.remove(series);
+        this.seriesIndex = null;
         fireDatasetChanged();
 
     }
@@ -321,6 +375,7 @@ public class TaskSeriesCollection extends AbstractSeriesDataset
 
         // remove all the series from the collection and notify listeners.
         this.data.clear();
+        this.seriesIndex = null;
         fireDatasetChanged();
 
     }
@@ -359,10 +414,18 @@ public class TaskSeriesCollection extends AbstractSeriesDataset
      * @return The start value (possibly <code>null</code>).
      */
     public Number getStartValue(Comparable rowKey, Comparable columnKey) {
+        return getStartValue(getTask(rowKey, columnKey));
+    }
+
+    /**
+     * Returns the start value for a task.
+     *
+     * @param task  the task (<code>null</code> permitted).
+     *
+     * @return The start value (possibly <code>null</code>).
+     */
+    private Number getStartValue(Task task) {
         Number result = null;
-        int row = getRowIndex(rowKey);
-        TaskSeries series = (TaskSeries) this.data.get(row);
-        Task task = series.get(columnKey.toString());
         if (task != null) {
             TimePeriod duration = task.getDuration();
             if (duration != null) {
@@ -381,9 +444,7 @@ public class TaskSeriesCollection extends AbstractSeriesDataset
      * @return The start value.
      */
     public Number getStartValue(int row, int column) {
-        Comparable rowKey = getRowKey(row);
-        Comparable columnKey = getColumnKey(column);
-        return getStartValue(rowKey, columnKey);
+        return getStartValue(getTask(row, column));
     }
 
     /**
@@ -396,10 +457,18 @@ public class TaskSeriesCollection extends AbstractSeriesDataset
      * @return The end value (possibly <code>null</code>).
      */
     public Number getEndValue(Comparable rowKey, Comparable columnKey) {
+        return getEndValue(getTask(rowKey, columnKey));
+    }
+
+    /**
+     * Returns the end value for a task.
+     *
+     * @param task  the task (<code>null</code> permitted).
+     *
+     * @return The end value (possibly <code>null</code>).
+     */
+    private Number getEndValue(Task task) {
         Number result = null;
-        int row = getRowIndex(rowKey);
-        TaskSeries series = (TaskSeries) this.data.get(row);
-        Task task = series.get(columnKey.toString());
         if (task != null) {
             TimePeriod duration = task.getDuration();
             if (duration != null) {
@@ -418,9 +487,7 @@ public class TaskSeriesCollection extends AbstractSeriesDataset
      * @return The end value.
      */
     public Number getEndValue(int row, int column) {
-        Comparable rowKey = getRowKey(row);
-        Comparable columnKey = getColumnKey(column);
-        return getEndValue(rowKey, columnKey);
+        return getEndValue(getTask(row, column));
     }
 
     /**
@@ -432,9 +499,8 @@ public class TaskSeriesCollection extends AbstractSeriesDataset
      * @return The percent complete (possibly <code>null</code>).
      */
     public Number getPercentComplete(int row, int column) {
-        Comparable rowKey = getRowKey(row);
-        Comparable columnKey = getColumnKey(column);
-        return getPercentComplete(rowKey, columnKey);
+        Task task = getTask(row, column);
+        return (task != null ? task.getPercentComplete() : null);
     }
 
     /**
@@ -446,14 +512,8 @@ public class TaskSeriesCollection extends AbstractSeriesDataset
      * @return The percent complete.
      */
     public Number getPercentComplete(Comparable rowKey, Comparable columnKey) {
-        Number result = null;
-        int row = getRowIndex(rowKey);
-        TaskSeries series = (TaskSeries) this.data.get(row);
-        Task task = series.get(columnKey.toString());
-        if (task != null) {
-            result = task.getPercentComplete();
-        }
-        return result;
+        Task task = getTask(rowKey, columnKey);
+        return (task != null ? task.getPercentComplete() : null);
     }
 
     /**
@@ -465,9 +525,8 @@ public class TaskSeriesCollection extends AbstractSeriesDataset
      * @return The sub-interval count.
      */
     public int getSubIntervalCount(int row, int column) {
-        Comparable rowKey = getRowKey(row);
-        Comparable columnKey = getColumnKey(column);
-        return getSubIntervalCount(rowKey, columnKey);
+        Task task = getTask(row, column);
+        return (task != null ? task.getSubtaskCount() : 0);
     }
 
     /**
@@ -479,14 +538,8 @@ public class TaskSeriesCollection extends AbstractSeriesDataset
      * @return The sub-interval count.
      */
     public int getSubIntervalCount(Comparable rowKey, Comparable columnKey) {
-        int result = 0;
-        int row = getRowIndex(rowKey);
-        TaskSeries series = (TaskSeries) this.data.get(row);
-        Task task = series.get(columnKey.toString());
-        if (task != null) {
-            result = task.getSubtaskCount();
-        }
-        return result;
+        Task task = getTask(rowKey, columnKey);
+        return (task != null ? task.getSubtaskCount() : 0);
     }
 
     /**
@@ -499,9 +552,7 @@ public class TaskSeriesCollection extends AbstractSeriesDataset
      * @return The start value (possibly <code>null</code>).
      */
     public Number getStartValue(int row, int column, int subinterval) {
-        Comparable rowKey = getRowKey(row);
-        Comparable columnKey = getColumnKey(column);
-        return getStartValue(rowKey, columnKey, subinterval);
+        return getSubintervalStartValue(getTask(row, column), subinterval);
     }
 
     /**
@@ -515,10 +566,20 @@ public class TaskSeriesCollection extends AbstractSeriesDataset
      */
     public Number getStartValue(Comparable rowKey, Comparable columnKey, 
                                 int subinterval) {
+        return getSubintervalStartValue(getTask(rowKey, columnKey), 
+                subinterval);
+    }
+
+    /**
+     * Returns the start value of a sub-interval for a task.
+     *
+     * @param task  the task (<code>null</code> permitted).
+     * @param subinterval  the subinterval.
+     *
+     * @return The start value (possibly <code>null</code>).
+     */
+    private Number getSubintervalStartValue(Task task, int subinterval) {
         Number result = null;
-        int row = getRowIndex(rowKey);
-        TaskSeries series = (TaskSeries) this.data.get(row);
-        Task task = series.get(columnKey.toString());
         if (task != null) {
             Task sub = task.getSubtask(subinterval);
             if (sub != null) {
@@ -539,9 +600,7 @@ public class TaskSeriesCollection extends AbstractSeriesDataset
      * @return The end value (possibly <code>null</code>).
      */
     public Number getEndValue(int row, int column, int subinterval) {
-        Comparable rowKey = getRowKey(row);
-        Comparable columnKey = getColumnKey(column);
-        return getEndValue(rowKey, columnKey, subinterval);
+        return getSubintervalEndValue(getTask(row, column), subinterval);
     }
 
     /**
@@ -555,10 +614,20 @@ public class TaskSeriesCollection extends AbstractSeriesDataset
      */
     public Number getEndValue(Comparable rowKey, Comparable columnKey, 
                               int subinterval) {
+        return getSubintervalEndValue(getTask(rowKey, columnKey), 
+                subinterval);
+    }
+
+    /**
+     * Returns the end value of a sub-interval for a task.
+     *
+     * @param task  the task (<code>null</code> permitted).
+     * @param subinterval  the subinterval.
+     *
+     * @return The end value (possibly <code>null</code>).
+     */
+    private Number getSubintervalEndValue(Task task, int subinterval) {
         Number result = null;
-        int row = getRowIndex(rowKey);
-        TaskSeries series = (TaskSeries) this.data.get(row);
-        Task task = series.get(columnKey.toString());
         if (task != null) {
             Task sub = task.getSubtask(subinterval);
             if (sub != null) {
@@ -579,9 +648,8 @@ public class TaskSeriesCollection extends AbstractSeriesDataset
      * @return The percent complete value (possibly <code>null</code>).
      */
     public Number getPercentComplete(int row, int column, int subinterval) {
-        Comparable rowKey = getRowKey(row);
-        Comparable columnKey = getColumnKey(column);
-        return getPercentComplete(rowKey, columnKey, subinterval);
+        return getSubintervalPercentComplete(getTask(row, column), 
+                subinterval);
     }
 
     /**
@@ -595,10 +663,20 @@ public class TaskSeriesCollection extends AbstractSeriesDataset
      */
     public Number getPercentComplete(Comparable rowKey, Comparable columnKey, 
                                      int subinterval) {
+        return getSubintervalPercentComplete(getTask(rowKey, columnKey), 
+                subinterval);
+    }
+
+    /**
+     * Returns the percentage complete value of a sub-interval for a task.
+     *
+     * @param task  the task (<code>null</code> permitted).
+     * @param subinterval  the sub-interval.
+     *
+     * @return The percent complete value (possibly <code>null</code>).
+     */
+    private Number getSubintervalPercentComplete(Task task, int subinterval) {
         Number result = null;
-        int row = getRowIndex(rowKey);
-        TaskSeries series = (TaskSeries) this.data.get(row);
-        Task task = series.get(columnKey.toString());
         if (task != null) {
             Task sub = task.getSubtask(subinterval);
             if (sub != null) {
@@ -608,6 +686,33 @@ public class TaskSeriesCollection extends AbstractSeriesDataset
         return result;
     }
 
+    /**
+     * Returns the task for an item.
+     *
+     * @param rowKey  the row key.
+     * @param columnKey  the column key.
+     *
+     * @return The task (possibly <code>null</code>).
+     */
+    private Task getTask(Comparable rowKey, Comparable columnKey) {
+        int row = getRowIndex(rowKey);
+        TaskSeries series = (TaskSeries) this.data.get(row);
+        return series.get(columnKey.toString());
+    }
+
+    /**
+     * Returns the task for an item.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The task (possibly <code>null</code>).
+     */
+    private Task getTask(int row, int column) {
+        TaskSeries series = (TaskSeries) this.data.get(row);
+        return series.get(this.keys.get(column).toString());
+    }
+
     /**
      * Called when a series belonging to the dataset changes.
      *
@@ -624,21 +729,32 @@ public class TaskSeriesCollection extends AbstractSeriesDataset
     private void refreshKeys() {
 
         this.keys.clear();
+        this.keyIndex = new HashMap();
         for (int i = 0; i < getSeriesCount(); i++) {
             TaskSeries series = (TaskSeries) this.data.get(i);
-            // look for any keys that we don't already know about...
-            Iterator iterator = series.getTasks().iterator();
-            while (iterator.hasNext()) {
-                Task task = (Task) iterator.next();
-                String key = task.getDescription();
-                int index = this.keys.indexOf(key);
-                if (index < 0) {
-                    this.keys.add(key);
-                }
-            }
+            addKeys(series);
         }
 
     }
+
+    /**
+     * Adds the keys for any tasks in a series that we don't already know 
+     * about.
+     *
+     * @param series  the series.
+     */
+    private void addKeys(TaskSeries series) {
+        Map index = getKeyIndex();
+        Iterator iterator = series.getTasks().iterator();
+        while (iterator.hasNext()) {
+            Task task = (Task) iterator.next();
+            String key = task.getDescription();
+            if (!index.containsKey(key)) {
+                index.put(key, new Integer(this.keys.size()));
+                this.keys.add(key);
+            }
+        }
+    }
     
     /**
      * Tests this instance for equality with an arbitrary object.
@@ -53,6 +53,14 @@
  * 08-Sep-2003 : Serialization fixes (NB);
  * 11-Sep-2003 : Cloning Fixes (NB);
  * 01-Jun-2005 : Added hasListener() method for unit testing (DG);
+ * 18-Oct-2026 : Added beginUpdate(), endUpdate() and an optional event
+ *               throttle;
+ * 18-Oct-2026 : Replaced EventListenerList with a copy-on-write array of
+ *               listeners, and only create events if there are
+ *               listeners;
+ * 18-Oct-2026 : Added fireDatasetAppended() and combine append events that
+ *               are held back;
+ * 19-Oct-2026 : Remove listeners by identity, as EventListenerList did;
  * 
  */
 
@@ -64,11 +72,8 @@ import java.io.ObjectInputStream;
 import java.io.ObjectInputValidation;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
-import java.util.Arrays;
 import java.util.EventListener;
-import java.util.List;
-
-import javax.swing.event.EventListenerList;
+import java.util.EventObject;
 
 /**
  * An abstract implementation of the {@link Dataset} interface, containing a 
@@ -85,8 +90,22 @@ public abstract class AbstractDataset implements Dataset,
     /** The group that the dataset belongs to. */
     private DatasetGroup group;
 
-    /** Storage for registered change listeners. */
-    private transient EventListenerList listenerList;
+    /** An empty array of listeners. */
+    private static final DatasetChangeListener[] NO_LISTENERS 
+        = new DatasetChangeListener[0];
+
+    /** 
+     * The registered change listeners, most recently added last.  The array
+     * is replaced (never modified) when a listener is added or removed, so
+     * events can be sent without locking or copying.
+     */
+    private transient volatile DatasetChangeListener[] listeners = NO_LISTENERS;
+
+    /** The lock for adding and removing listeners. */
+    private transient Object listenerLock = new Object();
+
+    /** Combines the change events (<code>null</code> until needed). */
+    private transient volatile ChangeEventCoalescer coalescer;
 
     /**
      * Constructs a dataset. By default, the dataset is assigned to its own 
@@ -94,7 +113,6 @@ public abstract class AbstractDataset implements Dataset,
      */
     protected AbstractDataset() {
         this.group = new DatasetGroup();
-        this.listenerList = new EventListenerList();
     }
 
     /**
@@ -121,10 +139,21 @@ public abstract class AbstractDataset implements Dataset,
     /**
      * Registers an object to receive notification of changes to the dataset.
      *
-     * @param listener  the object to register.
+     * @param listener  the object to register (<code>null</code> is 
+     *                  ignored).
      */
     public void addChangeListener(DatasetChangeListener listener) {
-        this.listenerList.add(DatasetChangeListener.class, listener);
+        if (listener == null) {
+            return;
+        }
+        synchronized (this.listenerLock) {
+            DatasetChangeListener[] current = this.listeners;
+            DatasetChangeListener[] updated 
+                = new DatasetChangeListener[current.length + 1];
+            System.arraycopy(current, 0, updated, 0, current.length);
+            updated[current.length] = listener;
+            this.listeners = updated;
+        }
     }
 
     /**
@@ -134,7 +163,20 @@ public abstract class AbstractDataset implements Dataset,
      * @param listener  the object to deregister.
      */
     public void removeChangeListener(DatasetChangeListener listener) {
-        this.listenerList.remove(DatasetChangeListener.class, listener);
+        synchronized (this.listenerLock) {
+            DatasetChangeListener[] current = this.listeners;
+            for (int i = current.length - 1; i >= 0; i--) {
+                if (current[i] == listener) {
+                    DatasetChangeListener[] updated 
+                        = new DatasetChangeListener[current.length - 1];
+                    System.arraycopy(current, 0, updated, 0, i);
+                    System.arraycopy(current, i + 1, updated, i, 
+                            updated.length - i);
+                    this.listeners = updated;
+                    return;
+                }
+            }
+        }
     }
 
     /**
@@ -147,14 +189,23 @@ public abstract class AbstractDataset implements Dataset,
      * @return A boolean.
      */
     public boolean hasListener(EventListener listener) {
-        List list = Arrays.asList(this.listenerList.getListenerList());
-        return list.contains(listener);
+        DatasetChangeListener[] current = this.listeners;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i].equals(listener)) {
+                return true;
+            }
+        }
+        return false;
     }
     
     /**
-     * Notifies all registered listeners that the dataset has changed.
+     * Notifies all registered listeners that the dataset has changed.  No 
+     * event is created if there are no listeners.
      */
     protected void fireDatasetChanged() {
+        if (this.listeners.length == 0) {
+            return;
+        }
         notifyListeners(
             new DatasetChangeEvent(
                 this, // source
@@ -163,6 +214,30 @@ public abstract class AbstractDataset implements Dataset,
         );
     }
 
+    /**
+     * Notifies all registered listeners that items have been added to the 
+     * end of a series in the dataset (see {@link DatasetAppendEvent}).  No 
+     * event is created if there are no listeners.
+     *
+     * @param series  the series index (zero-based), or 
+     *                {@link DatasetAppendEvent#ALL_SERIES}.
+     * @param appendedItemCount  the number of items added to the end of the
+     *                           series.
+     * @param removedItemCount  the number of items removed from the start of
+     *                          the series.
+     */
+    protected void fireDatasetAppended(int series, int appendedItemCount, 
+                                       int removedItemCount) {
+        if (this.listeners.length == 0) {
+            return;
+        }
+        notifyListeners(
+            new DatasetAppendEvent(
+                this, this, series, appendedItemCount, removedItemCount
+            )
+        );
+    }
+
     /**
      * Notifies all registered listeners that the dataset has changed.
      *
@@ -170,16 +245,127 @@ public abstract class AbstractDataset implements Dataset,
      *               notification.
      */
     protected void notifyListeners(DatasetChangeEvent event) {
+        ChangeEventCoalescer c = this.coalescer;
+        if (c != null) {
+            c.post(event);
+        }
+        else {
+            dispatchDatasetChanged(event);
+        }
+    }
+
+    /**
+     * Sends an event to all registered listeners.
+     *
+     * @param event  the event.
+     */
+    private void dispatchDatasetChanged(DatasetChangeEvent event) {
+
+        DatasetChangeListener[] current = this.listeners;
+        for (int i = current.length - 1; i >= 0; i--) {
+            current[i].datasetChanged(event);
+        }
+
+    }
 
-        Object[] listeners = this.listenerList.getListenerList();
-        for (int i = listeners.length - 2; i >= 0; i -= 2) {
-            if (listeners[i] == DatasetChangeListener.class) {
-                ((DatasetChangeListener) listeners[i + 1]).datasetChanged(
-                    event
+    /**
+     * Starts an update of the dataset.  Change events are held back until the
+     * matching call to {@link #endUpdate()}, and then a single event is 
+     * sent.  Updates can be nested.
+     */
+    public void beginUpdate() {
+        getChangeEventCoalescer().beginUpdate();
+    }
+
+    /**
+     * Ends an update of the dataset (see {@link #beginUpdate()}), sending 
+     * the most recent change event that was held back when the outermost 
+     * update ends.
+     *
+     * @throws IllegalStateException if there is no update in progress.
+     */
+    public void endUpdate() {
+        getChangeEventCoalescer().endUpdate();
+    }
+
+    /**
+     * Returns the throttle for the change events sent by the dataset.
+     *
+     * @return The throttle (possibly <code>null</code>).
+     */
+    public EventThrottle getEventThrottle() {
+        ChangeEventCoalescer c = this.coalescer;
+        return (c != null ? c.getThrottle() : null);
+    }
+
+    /**
+     * Sets the throttle for the change events sent by the dataset.  With a 
+     * throttle, a burst of changes results in a single event, and events are
+     * sent at most once per interval on the throttle's thread.  With no
+     * throttle (the default), every change sends an event immediately.
+     *
+     * @param throttle  the throttle (<code>null</code> permitted).
+     */
+    public void setEventThrottle(EventThrottle throttle) {
+        if (throttle == null && this.coalescer == null) {
+            return;
+        }
+        getChangeEventCoalescer().setThrottle(throttle);
+    }
+
+    /**
+     * Returns the object that combines the change events, creating it if 
+     * necessary.
+     *
+     * @return The coalescer.
+     */
+    private synchronized ChangeEventCoalescer getChangeEventCoalescer() {
+        if (this.coalescer == null) {
+            this.coalescer = new ChangeEventCoalescer() {
+                protected EventObject coalesce(EventObject pending, 
+                                               EventObject event) {
+                    return coalesceDatasetChanged(
+                        (DatasetChangeEvent) pending, 
+                        (DatasetChangeEvent) event
+                    );
+                }
+                protected void dispatch(EventObject event) {
+                    dispatchDatasetChanged((DatasetChangeEvent) event);
+                }
+            };
+        }
+        return this.coalescer;
+    }
+
+    /**
+     * Returns a single event that describes two changes to the dataset.  Two
+     * {@link DatasetAppendEvent}s for the same series are added together, 
+     * and in any other case an append event is replaced by a plain 
+     * {@link DatasetChangeEvent}, since the details of the first change 
+     * would otherwise be lost.
+     *
+     * @param pending  the event for the first change.
+     * @param event  the event for the second change.
+     *
+     * @return The combined event.
+     */
+    private DatasetChangeEvent coalesceDatasetChanged(
+            DatasetChangeEvent pending, DatasetChangeEvent event) {
+        if (!(event instanceof DatasetAppendEvent)) {
+            return event;
+        }
+        DatasetAppendEvent e = (DatasetAppendEvent) event;
+        if (pending instanceof DatasetAppendEvent) {
+            DatasetAppendEvent p = (DatasetAppendEvent) pending;
+            if (p.getSeries() == e.getSeries()) {
+                return new DatasetAppendEvent(
+                    e.getSource(), e.getDataset(), e.getSeries(),
+                    p.getAppendedItemCount() + e.getAppendedItemCount(),
+                    p.getRemovedItemCount() + e.getRemovedItemCount()
                 );
             }
         }
-
+        return new DatasetChangeEvent(e.getSource(), e.getDataset());
     }
 
     /**
@@ -194,7 +380,9 @@ public abstract class AbstractDataset implements Dataset,
      */
     public Object clone() throws CloneNotSupportedException {
         AbstractDataset clone = (AbstractDataset) super.clone();
-        clone.listenerList = new EventListenerList();
+        clone.listeners = NO_LISTENERS;
+        clone.listenerLock = new Object();
+        clone.coalescer = null;
         return clone;    
     }
     
@@ -220,7 +408,8 @@ public abstract class AbstractDataset implements Dataset,
     private void readObject(ObjectInputStream stream) 
         throws IOException, ClassNotFoundException {
         stream.defaultReadObject();
-        this.listenerList = new EventListenerList();
+        this.listeners = NO_LISTENERS;
+        this.listenerLock = new Object();
         stream.registerValidation(this, 10);  // see comments about priority of
                                               // 10 in validateObject() 
     }
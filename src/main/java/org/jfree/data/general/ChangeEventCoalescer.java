@@ -0,0 +1,218 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation,
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * ChangeEventCoalescer.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ * 18-Oct-2026 : Added coalesce() method;
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.util.EventObject;
+
+/**
+ * Combines the change events sent by a single object (a dataset, plot or
+ * chart).  Events posted between {@link #beginUpdate()} and the matching
+ * {@link #endUpdate()} are held back, and the most recent one is sent when
+ * the update ends.  If the coalescer has an {@link EventThrottle}, the
+ * events are also sent no more often than the throttle allows, on the
+ * throttle's thread.  Otherwise they are sent immediately, on the thread
+ * that posts them.
+ * <P>
+ * Subclasses send the events to the object's listeners in
+ * {@link #dispatch(EventObject)}, and can override 
+ * {@link #coalesce(EventObject, EventObject)} to control how an event that 
+ * is held back is combined with a later one.
+ */
+public abstract class ChangeEventCoalescer {
+
+    /** The number of updates in progress. */
+    private int updateDepth;
+
+    /** The most recent event held back during an update. */
+    private EventObject updateEvent;
+
+    /** The throttle (<code>null</code> permitted). */
+    private EventThrottle throttle;
+
+    /** The most recent event waiting for the throttle. */
+    private EventObject throttledEvent;
+
+    /** A flag that indicates whether a throttled event is scheduled. */
+    private boolean scheduled;
+
+    /** The time that the last throttled event was sent. */
+    private long lastDispatch = Long.MIN_VALUE / 2;
+
+    /**
+     * Creates a new coalescer with no throttle.
+     */
+    protected ChangeEventCoalescer() {
+    }
+
+    /**
+     * Returns the throttle.
+     *
+     * @return The throttle (possibly <code>null</code>).
+     */
+    public synchronized EventThrottle getThrottle() {
+        return this.throttle;
+    }
+
+    /**
+     * Sets the throttle.  Any event that is waiting for the old throttle is
+     * still sent.
+     *
+     * @param throttle  the throttle (<code>null</code> permitted).
+     */
+    public synchronized void setThrottle(EventThrottle throttle) {
+        this.throttle = throttle;
+    }
+
+    /**
+     * Returns <code>true</code> if an update is in progress.
+     *
+     * @return A boolean.
+     */
+    public synchronized boolean isUpdating() {
+        return this.updateDepth > 0;
+    }
+
+    /**
+     * Starts an update.  Updates can be nested, and events are held back
+     * until the outermost update ends.
+     */
+    public synchronized void beginUpdate() {
+        this.updateDepth++;
+    }
+
+    /**
+     * Ends an update, and posts the most recent event that was held back
+     * (if any) when the outermost update ends.
+     *
+     * @throws IllegalStateException if there is no update in progress.
+     */
+    public void endUpdate() {
+        EventObject event;
+        synchronized (this) {
+            if (this.updateDepth == 0) {
+                throw new IllegalStateException("No update in progress.");
+            }
+            this.updateDepth--;
+            if (this.updateDepth > 0 || this.updateEvent == null) {
+                return;
+            }
+            event = this.updateEvent;
+            this.updateEvent = null;
+        }
+        post(event);
+    }
+
+    /**
+     * Posts an event.  The event is held back if an update is in progress,
+     * passed to the throttle if there is one, and otherwise sent
+     * immediately.
+     *
+     * @param event  the event (<code>null</code> not permitted).
+     */
+    public void post(EventObject event) {
+        if (event == null) {
+            throw new IllegalArgumentException("Null 'event' argument.");
+        }
+        synchronized (this) {
+            if (this.updateDepth > 0) {
+                this.updateEvent = (this.updateEvent == null ? event 
+                        : coalesce(this.updateEvent, event));
+                return;
+            }
+            if (this.throttle != null) {
+                this.throttledEvent = (this.throttledEvent == null ? event 
+                        : coalesce(this.throttledEvent, event));
+                if (!this.scheduled) {
+                    this.scheduled = true;
+                    long delay = this.lastDispatch
+                        + this.throttle.getMinimumInterval()
+                        - System.currentTimeMillis();
+                    this.throttle.schedule(new Runnable() {
+                        public void run() {
+                            dispatchThrottledEvent();
+                        }
+                    }, delay);
+                }
+                return;
+            }
+        }
+        dispatch(event);
+    }
+
+    /**
+     * Sends the event that is waiting for the throttle.
+     */
+    private void dispatchThrottledEvent() {
+        EventObject event;
+        synchronized (this) {
+            event = this.throttledEvent;
+            this.throttledEvent = null;
+            this.scheduled = false;
+            this.lastDispatch = System.currentTimeMillis();
+        }
+        if (event != null) {
+            dispatch(event);
+        }
+    }
+
+    /**
+     * Returns the event to hold back in place of an event that is already 
+     * held back and a later event.  The default implementation returns the
+     * later event, which is correct as long as events carry no details of 
+     * the change.
+     *
+     * @param pending  the event that is held back.
+     * @param event  the later event.
+     *
+     * @return The event to hold back.
+     */
+    protected EventObject coalesce(EventObject pending, EventObject event) {
+        return event;
+    }
+
+    /**
+     * Sends an event to the listeners.
+     *
+     * @param event  the event.
+     */
+    protected abstract void dispatch(EventObject event);
+
+}
@@ -0,0 +1,60 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation,
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * ConcurrentDataset.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.general;
+
+/**
+ * An interface (optional) that can be implemented by a dataset that is 
+ * updated by one thread while it is read by others, for example a chart that
+ * is being drawn.  A reader that needs a consistent view of the data for 
+ * the whole of a pass (such as a plot rendering its items) can ask for a 
+ * snapshot, rather than locking the dataset and blocking the writer.
+ */
+public interface ConcurrentDataset extends Dataset {
+
+    /**
+     * Returns a copy of the current contents of the dataset that will not
+     * change.  The copy implements the same dataset interfaces as this 
+     * dataset, and does not send change events.
+     *
+     * @return The snapshot (never <code>null</code>).
+     */
+    public Dataset createSnapshot();
+
+}
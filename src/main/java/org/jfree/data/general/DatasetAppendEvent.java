@@ -0,0 +1,116 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation,
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------
+ * DatasetAppendEvent.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.general;
+
+/**
+ * A change event for a {@link SeriesDataset}, where items have been added to 
+ * the end of one series (or of all the series), and possibly removed from 
+ * the start of the series at the same time.  The x-values of the items that
+ * remain from before the change are not modified, although other values may 
+ * have been.  Listeners that keep information derived from the x-values can
+ * use this event to update that information incrementally, rather than 
+ * recalculating it from scratch.
+ *
+ * @see SeriesAppendEvent
+ */
+public class DatasetAppendEvent extends DatasetChangeEvent {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -3620961738418553017L;
+
+    /** The series index used for a change to all the series. */
+    public static final int ALL_SERIES = -1;
+
+    /** The series index (or {@link #ALL_SERIES}). */
+    private int series;
+
+    /** The number of items added to the end of the series. */
+    private int appendedItemCount;
+
+    /** The number of items removed from the start of the series. */
+    private int removedItemCount;
+
+    /**
+     * Creates a new event.
+     *
+     * @param source  the source of the event.
+     * @param dataset  the dataset that generated the event.
+     * @param series  the series index (zero-based), or {@link #ALL_SERIES}.
+     * @param appendedItemCount  the number of items added to the end of the 
+     *                           series.
+     * @param removedItemCount  the number of items removed from the start of
+     *                          the series.
+     */
+    public DatasetAppendEvent(Object source, Dataset dataset, int series, 
+                              int appendedItemCount, int removedItemCount) {
+        super(source, dataset);
+        this.series = series;
+        this.appendedItemCount = appendedItemCount;
+        this.removedItemCount = removedItemCount;
+    }
+
+    /**
+     * Returns the index of the series that changed.
+     *
+     * @return The series index (zero-based), or {@link #ALL_SERIES}.
+     */
+    public int getSeries() {
+        return this.series;
+    }
+
+    /**
+     * Returns the number of items added to the end of the series.
+     *
+     * @return The item count.
+     */
+    public int getAppendedItemCount() {
+        return this.appendedItemCount;
+    }
+
+    /**
+     * Returns the number of items removed from the start of the series.
+     *
+     * @return The item count.
+     */
+    public int getRemovedItemCount() {
+        return this.removedItemCount;
+    }
+
+}
@@ -99,6 +99,11 @@
  *               from DatasetUtilities --> DataUtilities (DG);
  * 22-Sep-2005 : Added new findStackedRangeBounds() method that takes base
  *               argument (DG);
+ * 18-Oct-2026 : The findStackedRangeBounds() methods for CategoryDataset now
+ *               read whole columns from a DenseCategoryDataset;
+ * 19-Oct-2026 : Category values are read with getDoubleValue();
+ * 19-Oct-2026 : Added parallel variants of the methods that iterate over 
+ *               a dataset to find bounds;
  * 
  */
 
@@ -107,6 +112,8 @@ package org.jfree.data.general;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 import org.jfree.data.DomainInfo;
 import org.jfree.data.KeyToGroupMap;
@@ -115,6 +122,7 @@ import org.jfree.data.Range;
 import org.jfree.data.RangeInfo;
 import org.jfree.data.category.CategoryDataset;
 import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.category.DenseCategoryDataset;
 import org.jfree.data.category.IntervalCategoryDataset;
 import org.jfree.data.function.Function2D;
 import org.jfree.data.xy.OHLCDataset;
@@ -130,6 +138,18 @@ import org.jfree.util.ArrayUtilities;
  */
 public final class DatasetUtilities {
     
+    /** 
+     * The number of items below which the parallel iteration methods process
+     * a block of data on the calling thread. 
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    /** 
+     * A flag that controls whether the iteration methods use the common 
+     * fork-join pool when they are not told otherwise. 
+     */
+    private static volatile boolean parallelIteration = false;
+
     /**
      * Private constructor for non-instanceability.
      */
@@ -137,6 +157,33 @@ public final class DatasetUtilities {
         // now try to instantiate this ;-)
     }
 
+    /**
+     * Returns the flag that controls whether the methods that iterate over 
+     * the items in a dataset to find bounds (for example 
+     * {@link #iterateDomainBounds(XYDataset)}) split the work across the 
+     * common fork-join pool.  The default is <code>false</code>.
+     *
+     * @return A boolean.
+     */
+    public static boolean isParallelIteration() {
+        return parallelIteration;
+    }
+
+    /**
+     * Sets the flag that controls whether the methods that iterate over the 
+     * items in a dataset to find bounds split the work across the common 
+     * fork-join pool.  Each method also has a variant with a 
+     * <code>parallel</code> argument that overrides this setting.
+     * <P>
+     * A dataset that is iterated in parallel is read from several threads at
+     * once, so it must not be modified until the method returns.
+     *
+     * @param parallel  the new flag value.
+     */
+    public static void setParallelIteration(boolean parallel) {
+        parallelIteration = parallel;
+    }
+
     /**
      * Calculates the total of all the values in a {@link PieDataset}.  If 
      * the dataset contains negative or <code>null</code> values, they are 
@@ -671,37 +718,35 @@ public final class DatasetUtilities {
      */
     public static Range iterateDomainBounds(XYDataset dataset, 
                                             boolean includeInterval) {
+        return iterateDomainBounds(dataset, includeInterval, 
+                isParallelIteration());
+    }
+    
+    /**
+     * Iterates over the items in an {@link XYDataset} to find
+     * the range of x-values.  If <code>parallel</code> is <code>true</code> 
+     * and the dataset contains more than {@link #PARALLEL_THRESHOLD} items,
+     * the series and items are split into blocks that are processed 
+     * concurrently in the common fork-join pool.
+     *  
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param includeInterval  a flag that determines, for an IntervalXYDataset,
+     *                         whether the x-interval or just the x-value is 
+     *                         used to determine the overall range.
+     * @param parallel  split the work across the fork-join pool?
+     *   
+     * @return The range (possibly <code>null</code>).
+     */
+    public static Range iterateDomainBounds(XYDataset dataset, 
+            boolean includeInterval, boolean parallel) {
         if (dataset == null) {
             throw new IllegalArgumentException("Null 'dataset' argument.");   
         }
-        double minimum = Double.POSITIVE_INFINITY;
-        double maximum = Double.NEGATIVE_INFINITY;
-        int seriesCount = dataset.getSeriesCount();
-        double lvalue;
-        double uvalue;
-        if (includeInterval && dataset instanceof IntervalXYDataset) {
-            IntervalXYDataset intervalXYData = (IntervalXYDataset) dataset;
-            for (int series = 0; series < seriesCount; series++) {
-                int itemCount = dataset.getItemCount(series);
-                for (int item = 0; item < itemCount; item++) {
-                    lvalue = intervalXYData.getStartXValue(series, item);
-                    uvalue = intervalXYData.getEndXValue(series, item);
-                    minimum = Math.min(minimum, lvalue);
-                    maximum = Math.max(maximum, uvalue);
-                }
-            }
-        }
-        else {
-            for (int series = 0; series < seriesCount; series++) {
-                int itemCount = dataset.getItemCount(series);
-                for (int item = 0; item < itemCount; item++) {
-                    lvalue = dataset.getXValue(series, item);
-                    uvalue = lvalue;
-                    minimum = Math.min(minimum, lvalue);
-                    maximum = Math.max(maximum, uvalue);
-                }
-            }
-        }
+        double[] bounds = iterate(
+            new DomainBoundsTask(dataset, includeInterval), parallel
+        );
+        double minimum = bounds[0];
+        double maximum = bounds[1];
         if (minimum > maximum) {
             return null;
         }
@@ -799,34 +844,31 @@ public final class DatasetUtilities {
      */
     public static Range iterateCategoryRangeBounds(CategoryDataset dataset, 
             boolean includeInterval) {
-        double minimum = Double.POSITIVE_INFINITY;
-        double maximum = Double.NEGATIVE_INFINITY;
-        boolean interval = includeInterval 
-                           && dataset instanceof IntervalCategoryDataset;
-        int rowCount = dataset.getRowCount();
-        int columnCount = dataset.getColumnCount();
-        for (int row = 0; row < rowCount; row++) {
-            for (int column = 0; column < columnCount; column++) {
-                Number lvalue;
-                Number uvalue;
-                if (interval) {
-                    IntervalCategoryDataset icd 
-                        = (IntervalCategoryDataset) dataset;
-                    lvalue = icd.getStartValue(row, column);
-                    uvalue = icd.getEndValue(row, column);
-                }
-                else {
-                    lvalue = dataset.getValue(row, column);
-                    uvalue = lvalue;
-                }
-                if (lvalue != null) {
-                    minimum = Math.min(minimum, lvalue.doubleValue());
-                }
-                if (uvalue != null) {
-                    maximum = Math.max(maximum, uvalue.doubleValue());
-                }
-            }
-        }
+        return iterateCategoryRangeBounds(dataset, includeInterval, 
+                isParallelIteration());
+    }
+    
+    /**
+     * Iterates over the data item of the category dataset to find
+     * the range bounds.  If <code>parallel</code> is <code>true</code> and 
+     * the dataset contains more than {@link #PARALLEL_THRESHOLD} items, the
+     * rows and columns are split into blocks that are processed concurrently
+     * in the common fork-join pool.
+     * 
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     * @param parallel  split the work across the fork-join pool?
+     * 
+     * @return The range (possibly <code>null</code>).
+     */
+    public static Range iterateCategoryRangeBounds(CategoryDataset dataset, 
+            boolean includeInterval, boolean parallel) {
+        double[] bounds = iterate(
+            new CategoryRangeBoundsTask(dataset, includeInterval), parallel
+        );
+        double minimum = bounds[0];
+        double maximum = bounds[1];
         if (minimum == Double.POSITIVE_INFINITY) {
             return null;
         }
@@ -844,37 +886,26 @@ public final class DatasetUtilities {
      * @return The range (possibly <code>null</code>).
      */
     public static Range iterateXYRangeBounds(XYDataset dataset) {
-        double minimum = Double.POSITIVE_INFINITY;
-        double maximum = Double.NEGATIVE_INFINITY;
-        int seriesCount = dataset.getSeriesCount();
-        for (int series = 0; series < seriesCount; series++) {
-            int itemCount = dataset.getItemCount(series);
-            for (int item = 0; item < itemCount; item++) {
-                double lvalue;
-                double uvalue;
-                if (dataset instanceof IntervalXYDataset) {
-                    IntervalXYDataset intervalXYData 
-                        = (IntervalXYDataset) dataset;
-                    lvalue = intervalXYData.getStartYValue(series, item);
-                    uvalue = intervalXYData.getEndYValue(series, item);
-                }
-                else if (dataset instanceof OHLCDataset) {
-                    OHLCDataset highLowData = (OHLCDataset) dataset;
-                    lvalue = highLowData.getLowValue(series, item);
-                    uvalue = highLowData.getHighValue(series, item);
-                }
-                else {
-                    lvalue = dataset.getYValue(series, item);
-                    uvalue = lvalue;
-                }
-                if (!Double.isNaN(lvalue)) {
-                    minimum = Math.min(minimum, lvalue);
-                }
-                if (!Double.isNaN(uvalue)) {     
-                    maximum = Math.max(maximum, uvalue);
-                }
-            }
-        }
+        return iterateXYRangeBounds(dataset, isParallelIteration());
+    }
+
+    /**
+     * Iterates over the data item of the xy dataset to find
+     * the range bounds.  If <code>parallel</code> is <code>true</code> and 
+     * the dataset contains more than {@link #PARALLEL_THRESHOLD} items, the
+     * series and items are split into blocks that are processed concurrently
+     * in the common fork-join pool.
+     * 
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param parallel  split the work across the fork-join pool?
+     * 
+     * @return The range (possibly <code>null</code>).
+     */
+    public static Range iterateXYRangeBounds(XYDataset dataset, 
+                                             boolean parallel) {
+        double[] bounds = iterate(new XYRangeBoundsTask(dataset), parallel);
+        double minimum = bounds[0];
+        double maximum = bounds[1];
         if (minimum == Double.POSITIVE_INFINITY) {
             return null;
         }
@@ -1256,6 +1287,11 @@ public final class DatasetUtilities {
         if (dataset == null) {
             throw new IllegalArgumentException("Null 'dataset' argument.");
         }
+        if (dataset instanceof DenseCategoryDataset) {
+            return iterateDenseStackedRangeBounds(
+                (DenseCategoryDataset) dataset, base
+            );
+        }
         Range result = null;
         double minimum = Double.POSITIVE_INFINITY;
         double maximum = Double.NEGATIVE_INFINITY;
@@ -1265,16 +1301,14 @@ public final class DatasetUtilities {
             double negative = base;
             int seriesCount = dataset.getRowCount();
             for (int series = 0; series < seriesCount; series++) {
-                Number number = dataset.getValue(series, item);
-                if (number != null) {
-                    double value = number.doubleValue();
-                    if (value > 0.0) {
-                        positive = positive + value;
-                    }
-                    if (value < 0.0) {
-                        negative = negative + value;  
-                        // '+', remember value is negative
-                    }
+                double value = dataset.getDoubleValue(series, item);
+                // missing values are NaN, so fail both tests...
+                if (value > 0.0) {
+                    positive = positive + value;
+                }
+                if (value < 0.0) {
+                    negative = negative + value;  
+                    // '+', remember value is negative
                 }
             }
             minimum = Math.min(minimum, negative);
@@ -1287,6 +1321,47 @@ public final class DatasetUtilities {
 
     }
 
+    /**
+     * Returns the stacked range bounds for a {@link DenseCategoryDataset}, 
+     * reading each category as a block of primitive values rather than one 
+     * <code>Number</code> at a time.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param base  the base value for the stacks.
+     *
+     * @return The range (<code>null</code> if the dataset contains no values).
+     */
+    private static Range iterateDenseStackedRangeBounds(
+            DenseCategoryDataset dataset, double base) {
+        Range result = null;
+        double minimum = Double.POSITIVE_INFINITY;
+        double maximum = Double.NEGATIVE_INFINITY;
+        int categoryCount = dataset.getColumnCount();
+        int seriesCount = dataset.getRowCount();
+        double[] values = null;
+        for (int item = 0; item < categoryCount; item++) {
+            values = dataset.getColumnValues(item, values);
+            double positive = base;
+            double negative = base;
+            for (int series = 0; series < seriesCount; series++) {
+                // missing values are NaN, so fail both tests...
+                double value = values[series];
+                if (value > 0.0) {
+                    positive = positive + value;
+                }
+                if (value < 0.0) {
+                    negative = negative + value;
+                }
+            }
+            minimum = Math.min(minimum, negative);
+            maximum = Math.max(maximum, positive);
+        }
+        if (minimum <= maximum) {
+            result = new Range(minimum, maximum);
+        }
+        return result;
+    }
+
     /**
      * Returns the minimum and maximum values for the dataset's range 
      * (y-values), assuming that the series in one category are stacked.
@@ -1316,24 +1391,36 @@ public final class DatasetUtilities {
             double[] minimum = new double[groupCount];
             double[] maximum = new double[groupCount];
             
+            DenseCategoryDataset dense = null;
+            if (dataset instanceof DenseCategoryDataset) {
+                dense = (DenseCategoryDataset) dataset;
+            }
+            double[] values = null;
             int categoryCount = dataset.getColumnCount();
             for (int item = 0; item < categoryCount; item++) {
                 double[] positive = new double[groupCount];
                 double[] negative = new double[groupCount];
                 int seriesCount = dataset.getRowCount();
+                if (dense != null) {
+                    values = dense.getColumnValues(item, values);
+                }
                 for (int series = 0; series < seriesCount; series++) {
-                    Number number = dataset.getValue(series, item);
-                    if (number != null) {
-                        double value = number.doubleValue();
-                        if (value > 0.0) {
-                            positive[groupIndex[series]] 
-                                 = positive[groupIndex[series]] + value;
-                        }
-                        if (value < 0.0) {
-                            negative[groupIndex[series]] 
-                                 = negative[groupIndex[series]] + value;
-                                 // '+', remember value is negative
-                        }
+                    double value;
+                    if (dense != null) {
+                        value = values[series];
+                    }
+                    else {
+                        value = dataset.getDoubleValue(series, item);
+                    }
+                    // missing values are NaN, so fail both tests...
+                    if (value > 0.0) {
+                        positive[groupIndex[series]] 
+                             = positive[groupIndex[series]] + value;
+                    }
+                    if (value < 0.0) {
+                        negative[groupIndex[series]] 
+                             = negative[groupIndex[series]] + value;
+                             // '+', remember value is negative
                     }
                 }
                 for (int g = 0; g < groupCount; g++) {
@@ -1447,33 +1534,33 @@ public final class DatasetUtilities {
      */
     public static Range findStackedRangeBounds(TableXYDataset dataset, 
                                                double base) {
+        return findStackedRangeBounds(dataset, base, isParallelIteration());
+    }
+
+    /**
+     * Returns the minimum and maximum values for the dataset's range,
+     * assuming that the series are stacked, using the specified base value.
+     * If <code>parallel</code> is <code>true</code> and the dataset contains
+     * more than {@link #PARALLEL_THRESHOLD} items, the items are split into 
+     * blocks that are processed concurrently in the common fork-join pool.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param base  the base value.
+     * @param parallel  split the work across the fork-join pool?
+     * 
+     * @return The range (<code>null</code> if the dataset contains no values).
+     */
+    public static Range findStackedRangeBounds(TableXYDataset dataset, 
+                                               double base, 
+                                               boolean parallel) {
         if (dataset == null) {
             throw new IllegalArgumentException("Null 'dataset' argument.");
         }
-        double minimum = base;
-        double maximum = base;
-        for (int itemNo = 0; itemNo < dataset.getItemCount(); itemNo++) {
-            double positive = base;
-            double negative = base;
-            int seriesCount = dataset.getSeriesCount();
-            for (int seriesNo = 0; seriesNo < seriesCount; seriesNo++) {
-                double y = dataset.getYValue(seriesNo, itemNo);
-                if (!Double.isNaN(y)) {
-                    if (y > 0.0) {
-                        positive += y;
-                    }
-                    else {
-                        negative += y;
-                    }
-                }
-            }
-            if (positive > maximum) {
-                maximum = positive;
-            } 
-            if (negative < minimum) {
-                minimum = negative;
-            } 
-        }
+        double[] bounds = iterate(
+            new StackedXYRangeBoundsTask(dataset, base), parallel
+        );
+        double minimum = Math.min(base, bounds[0]);
+        double maximum = Math.max(base, bounds[1]);
         if (minimum <= maximum) {
             return new Range(minimum, maximum);
         }
@@ -1491,36 +1578,735 @@ public final class DatasetUtilities {
      * @return The range.
      */
     public static Range findCumulativeRangeBounds(CategoryDataset dataset) {
+        return findCumulativeRangeBounds(dataset, isParallelIteration());
+    }
+
+    /**
+     * Calculates the range of values for a dataset where each item is the 
+     * running total of the items for the current series.  If 
+     * <code>parallel</code> is <code>true</code> and the dataset contains 
+     * more than {@link #PARALLEL_THRESHOLD} items, the rows and columns are
+     * split into blocks that are processed concurrently in the common 
+     * fork-join pool (the running totals for a block are offset by the total
+     * of the blocks before it when the results are combined).
+     * 
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param parallel  split the work across the fork-join pool?
+     * 
+     * @return The range.
+     */
+    public static Range findCumulativeRangeBounds(CategoryDataset dataset,
+                                                  boolean parallel) {
         
         if (dataset == null) {
             throw new IllegalArgumentException("Null 'dataset' argument.");
         }
         
-        boolean allItemsNull = true; // we'll set this to false if there is at 
-                                     // least one non-null data item... 
-        double minimum = 0.0;
-        double maximum = 0.0;
-        for (int row = 0; row < dataset.getRowCount(); row++) {
+        double[] bounds = iterate(
+            new CumulativeRangeBoundsTask(dataset), parallel
+        );
+        // the minimum is still infinite if all the data items are null...
+        if (bounds[0] != Double.POSITIVE_INFINITY) {
+            return new Range(Math.min(0.0, bounds[0]), 
+                    Math.max(0.0, bounds[1]));
+        }
+        else {
+            return null;
+        }
+        
+    }
+
+    /**
+     * Runs a task that finds bounds, either in the common fork-join pool or
+     * on the calling thread.
+     *
+     * @param task  the task.
+     * @param parallel  use the fork-join pool if the task is large enough?
+     *
+     * @return The bounds found by the task.
+     */
+    private static double[] iterate(BoundsTask task, boolean parallel) {
+        if (parallel && task.getSize() > PARALLEL_THRESHOLD) {
+            return (double[]) ForkJoinPool.commonPool().invoke(task);
+        }
+        return task.iterateAll();
+    }
+
+    /**
+     * A task that finds the bounds for part of a dataset.  The dataset is 
+     * treated as a table of series (or rows) and items (or columns).  A task
+     * that covers more than {@link #PARALLEL_THRESHOLD} items is split in 
+     * two, by series while it covers more than one series and otherwise by
+     * item, and the results of the two halves are combined.
+     * <P>
+     * The result is an array that holds the minimum in element 0 and the 
+     * maximum in element 1 (subclasses can add more elements).  
+     */
+    private abstract static class BoundsTask extends RecursiveTask {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 6561421677675056737L;
+
+        /** The index of the first series. */
+        private int firstSeries;
+
+        /** The index after the last series. */
+        private int lastSeries;
+
+        /** The index of the first item (if there is a single series). */
+        private int start;
+
+        /** The index after the last item (if there is a single series). */
+        private int end;
+
+        /**
+         * Sets the task to cover all the items in a number of series.
+         *
+         * @param seriesCount  the number of series.
+         */
+        protected void setSeriesCount(int seriesCount) {
+            this.firstSeries = 0;
+            this.lastSeries = seriesCount;
+            this.start = 0;
+            this.end = (seriesCount == 1 ? getItemCount(0) : 0);
+        }
+
+        /**
+         * Returns the number of items covered by the task.
+         *
+         * @return The number of items.
+         */
+        long getSize() {
+            if (this.lastSeries - this.firstSeries == 1) {
+                return this.end - this.start;
+            }
+            long result = 0L;
+            for (int s = this.firstSeries; s < this.lastSeries; s++) {
+                result += getItemCount(s);
+            }
+            return result;
+        }
+
+        /**
+         * Finds the bounds for all the items covered by the task, on the 
+         * calling thread.
+         *
+         * @return The bounds.
+         */
+        double[] iterateAll() {
+            double[] result = createResult();
+            if (this.lastSeries - this.firstSeries == 1) {
+                iterate(this.firstSeries, this.start, this.end, result);
+            }
+            else {
+                for (int s = this.firstSeries; s < this.lastSeries; s++) {
+                    iterate(s, 0, getItemCount(s), result);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Finds the bounds, splitting the task if it is too large.
+         *
+         * @return The bounds.
+         */
+        protected Object compute() {
+            if (getSize() <= PARALLEL_THRESHOLD) {
+                return iterateAll();
+            }
+            BoundsTask left = createSubtask();
+            BoundsTask right = createSubtask();
+            boolean split = this.lastSeries - this.firstSeries > 1;
+            if (split) {
+                int middle = (this.firstSeries + this.lastSeries) >>> 1;
+                left.setPart(this.firstSeries, middle);
+                right.setPart(middle, this.lastSeries);
+            }
+            else {
+                int middle = (this.start + this.end) >>> 1;
+                left.setPart(this.firstSeries, this.start, middle);
+                right.setPart(this.firstSeries, middle, this.end);
+            }
+            left.fork();
+            double[] rightResult = (double[]) right.compute();
+            double[] leftResult = (double[]) left.join();
+            return combine(leftResult, rightResult, !split);
+        }
+
+        /**
+         * Sets the task to cover all the items in a range of series.
+         *
+         * @param firstSeries  the index of the first series.
+         * @param lastSeries  the index after the last series.
+         */
+        private void setPart(int firstSeries, int lastSeries) {
+            this.firstSeries = firstSeries;
+            this.lastSeries = lastSeries;
+            this.start = 0;
+            this.end = (lastSeries - firstSeries == 1 
+                    ? getItemCount(firstSeries) : 0);
+        }
+
+        /**
+         * Sets the task to cover a range of items in one series.
+         *
+         * @param series  the series index.
+         * @param start  the index of the first item.
+         * @param end  the index after the last item.
+         */
+        private void setPart(int series, int start, int end) {
+            this.firstSeries = series;
+            this.lastSeries = series + 1;
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Returns a new result that contains no items.
+         *
+         * @return The result.
+         */
+        protected double[] createResult() {
+            return new double[] {Double.POSITIVE_INFINITY, 
+                    Double.NEGATIVE_INFINITY};
+        }
+
+        /**
+         * Combines the results for two adjacent parts of the dataset.
+         *
+         * @param first  the result for the first part.
+         * @param second  the result for the second part.
+         * @param sameSeries  <code>true</code> if the parts are two ranges of
+         *                    items in the same series.
+         *
+         * @return The combined result.
+         */
+        protected double[] combine(double[] first, double[] second, 
+                                   boolean sameSeries) {
+            first[0] = Math.min(first[0], second[0]);
+            first[1] = Math.max(first[1], second[1]);
+            return first;
+        }
+
+        /**
+         * Returns a new task for the same dataset (the part is set by the
+         * caller).
+         *
+         * @return The task.
+         */
+        protected abstract BoundsTask createSubtask();
+
+        /**
+         * Returns the number of items in a series.
+         *
+         * @param series  the series index.
+         *
+         * @return The item count.
+         */
+        protected abstract int getItemCount(int series);
+
+        /**
+         * Updates a result with a range of items in one series.
+         *
+         * @param series  the series index.
+         * @param start  the index of the first item.
+         * @param end  the index after the last item.
+         * @param result  the result to update.
+         */
+        protected abstract void iterate(int series, int start, int end, 
+                                        double[] result);
+
+    }
+
+    /**
+     * Finds the range of x-values in an {@link XYDataset}.
+     */
+    private static class DomainBoundsTask extends BoundsTask {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 3551793871565563694L;
+
+        /** The dataset. */
+        private XYDataset dataset;
+
+        /** Include the x-interval? */
+        private boolean includeInterval;
+
+        /**
+         * Creates a task for all the items in a dataset.
+         *
+         * @param dataset  the dataset.
+         * @param includeInterval  include the x-interval (only applies if 
+         *                         the dataset is an {@link IntervalXYDataset}).
+         */
+        DomainBoundsTask(XYDataset dataset, boolean includeInterval) {
+            this.dataset = dataset;
+            this.includeInterval = includeInterval 
+                    && dataset instanceof IntervalXYDataset;
+            setSeriesCount(dataset.getSeriesCount());
+        }
+
+        /**
+         * Returns a new task for the same dataset.
+         *
+         * @return The task.
+         */
+        protected BoundsTask createSubtask() {
+            return new DomainBoundsTask(this.dataset, this.includeInterval);
+        }
+
+        /**
+         * Returns the number of items in a series.
+         *
+         * @param series  the series index.
+         *
+         * @return The item count.
+         */
+        protected int getItemCount(int series) {
+            return this.dataset.getItemCount(series);
+        }
+
+        /**
+         * Updates a result with a range of items in one series.
+         *
+         * @param series  the series index.
+         * @param start  the index of the first item.
+         * @param end  the index after the last item.
+         * @param result  the result to update.
+         */
+        protected void iterate(int series, int start, int end, 
+                               double[] result) {
+            double minimum = result[0];
+            double maximum = result[1];
+            if (this.includeInterval) {
+                IntervalXYDataset intervalXYData 
+                    = (IntervalXYDataset) this.dataset;
+                for (int item = start; item < end; item++) {
+                    minimum = Math.min(minimum, 
+                            intervalXYData.getStartXValue(series, item));
+                    maximum = Math.max(maximum, 
+                            intervalXYData.getEndXValue(series, item));
+                }
+            }
+            else {
+                for (int item = start; item < end; item++) {
+                    double value = this.dataset.getXValue(series, item);
+                    minimum = Math.min(minimum, value);
+                    maximum = Math.max(maximum, value);
+                }
+            }
+            result[0] = minimum;
+            result[1] = maximum;
+        }
+
+    }
+
+    /**
+     * Finds the range of y-values in an {@link XYDataset}, taking into 
+     * account the y-interval of an {@link IntervalXYDataset} and the low and
+     * high values of an {@link OHLCDataset}.  <code>NaN</code> values are 
+     * ignored.
+     */
+    private static class XYRangeBoundsTask extends BoundsTask {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 8676170632290089262L;
+
+        /** The dataset. */
+        private XYDataset dataset;
+
+        /**
+         * Creates a task for all the items in a dataset.
+         *
+         * @param dataset  the dataset.
+         */
+        XYRangeBoundsTask(XYDataset dataset) {
+            this.dataset = dataset;
+            setSeriesCount(dataset.getSeriesCount());
+        }
+
+        /**
+         * Returns a new task for the same dataset.
+         *
+         * @return The task.
+         */
+        protected BoundsTask createSubtask() {
+            return new XYRangeBoundsTask(this.dataset);
+        }
+
+        /**
+         * Returns the number of items in a series.
+         *
+         * @param series  the series index.
+         *
+         * @return The item count.
+         */
+        protected int getItemCount(int series) {
+            return this.dataset.getItemCount(series);
+        }
+
+        /**
+         * Updates a result with a range of items in one series.
+         *
+         * @param series  the series index.
+         * @param start  the index of the first item.
+         * @param end  the index after the last item.
+         * @param result  the result to update.
+         */
+        protected void iterate(int series, int start, int end, 
+                               double[] result) {
+            double minimum = result[0];
+            double maximum = result[1];
+            for (int item = start; item < end; item++) {
+                double lvalue;
+                double uvalue;
+                if (this.dataset instanceof IntervalXYDataset) {
+                    IntervalXYDataset intervalXYData 
+                        = (IntervalXYDataset) this.dataset;
+                    lvalue = intervalXYData.getStartYValue(series, item);
+                    uvalue = intervalXYData.getEndYValue(series, item);
+                }
+                else if (this.dataset instanceof OHLCDataset) {
+                    OHLCDataset highLowData = (OHLCDataset) this.dataset;
+                    lvalue = highLowData.getLowValue(series, item);
+                    uvalue = highLowData.getHighValue(series, item);
+                }
+                else {
+                    lvalue = this.dataset.getYValue(series, item);
+                    uvalue = lvalue;
+                }
+                if (!Double.isNaN(lvalue)) {
+                    minimum = Math.min(minimum, lvalue);
+                }
+                if (!Double.isNaN(uvalue)) {     
+                    maximum = Math.max(maximum, uvalue);
+                }
+            }
+            result[0] = minimum;
+            result[1] = maximum;
+        }
+
+    }
+
+    /**
+     * Finds the range of values in a {@link CategoryDataset}, optionally 
+     * taking into account the start and end values of an 
+     * {@link IntervalCategoryDataset}.  The rows are treated as series and 
+     * the columns as items.
+     */
+    private static class CategoryRangeBoundsTask extends BoundsTask {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 710057441283203725L;
+
+        /** The dataset. */
+        private CategoryDataset dataset;
+
+        /** Include the interval? */
+        private boolean includeInterval;
+
+        /** The number of columns in the dataset. */
+        private int columnCount;
+
+        /**
+         * Creates a task for all the items in a dataset.
+         *
+         * @param dataset  the dataset.
+         * @param includeInterval  include the interval (only applies if the
+         *                         dataset is an 
+         *                         {@link IntervalCategoryDataset}).
+         */
+        CategoryRangeBoundsTask(CategoryDataset dataset, 
+                                boolean includeInterval) {
+            this(dataset, includeInterval 
+                    && dataset instanceof IntervalCategoryDataset, 
+                    dataset.getColumnCount());
+            setSeriesCount(dataset.getRowCount());
+        }
+
+        /**
+         * Creates a subtask.
+         *
+         * @param dataset  the dataset.
+         * @param includeInterval  include the interval?
+         * @param columnCount  the number of columns in the dataset.
+         */
+        private CategoryRangeBoundsTask(CategoryDataset dataset, 
+                                        boolean includeInterval,
+                                        int columnCount) {
+            this.dataset = dataset;
+            this.includeInterval = includeInterval;
+            this.columnCount = columnCount;
+        }
+
+        /**
+         * Returns a new task for the same dataset.
+         *
+         * @return The task.
+         */
+        protected BoundsTask createSubtask() {
+            return new CategoryRangeBoundsTask(this.dataset, 
+                    this.includeInterval, this.columnCount);
+        }
+
+        /**
+         * Returns the number of items in a series.
+         *
+         * @param series  the series index.
+         *
+         * @return The item count.
+         */
+        protected int getItemCount(int series) {
+            return this.columnCount;
+        }
+
+        /**
+         * Updates a result with a range of columns in one row.
+         *
+         * @param row  the row index.
+         * @param start  the index of the first column.
+         * @param end  the index after the last column.
+         * @param result  the result to update.
+         */
+        protected void iterate(int row, int start, int end, double[] result) {
+            double minimum = result[0];
+            double maximum = result[1];
+            for (int column = start; column < end; column++) {
+                if (this.includeInterval) {
+                    IntervalCategoryDataset icd 
+                        = (IntervalCategoryDataset) this.dataset;
+                    Number lvalue = icd.getStartValue(row, column);
+                    Number uvalue = icd.getEndValue(row, column);
+                    if (lvalue != null) {
+                        minimum = Math.min(minimum, lvalue.doubleValue());
+                    }
+                    if (uvalue != null) {
+                        maximum = Math.max(maximum, uvalue.doubleValue());
+                    }
+                }
+                else {
+                    double value = this.dataset.getDoubleValue(row, column);
+                    if (!Double.isNaN(value)) {
+                        minimum = Math.min(minimum, value);
+                        maximum = Math.max(maximum, value);
+                    }
+                }
+            }
+            result[0] = minimum;
+            result[1] = maximum;
+        }
+
+    }
+
+    /**
+     * Finds the range of the stacked values in a {@link TableXYDataset}.  The
+     * dataset is treated as a single series, since the values for one item 
+     * are stacked across all the series.  The bounds do not include the 
+     * base value.
+     */
+    private static class StackedXYRangeBoundsTask extends BoundsTask {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 7937360856299495414L;
+
+        /** The dataset. */
+        private TableXYDataset dataset;
+
+        /** The base value. */
+        private double base;
+
+        /**
+         * Creates a task for all the items in a dataset.
+         *
+         * @param dataset  the dataset.
+         * @param base  the base value.
+         */
+        StackedXYRangeBoundsTask(TableXYDataset dataset, double base) {
+            this.dataset = dataset;
+            this.base = base;
+            setSeriesCount(1);
+        }
+
+        /**
+         * Returns a new task for the same dataset.
+         *
+         * @return The task.
+         */
+        protected BoundsTask createSubtask() {
+            return new StackedXYRangeBoundsTask(this.dataset, this.base);
+        }
+
+        /**
+         * Returns the number of items in a series.
+         *
+         * @param series  the series index.
+         *
+         * @return The item count.
+         */
+        protected int getItemCount(int series) {
+            return this.dataset.getItemCount();
+        }
+
+        /**
+         * Updates a result with a range of items in one series.
+         *
+         * @param series  the series index.
+         * @param start  the index of the first item.
+         * @param end  the index after the last item.
+         * @param result  the result to update.
+         */
+        protected void iterate(int series, int start, int end, 
+                               double[] result) {
+            double minimum = result[0];
+            double maximum = result[1];
+            int seriesCount = this.dataset.getSeriesCount();
+            for (int itemNo = start; itemNo < end; itemNo++) {
+                double positive = this.base;
+                double negative = this.base;
+                for (int seriesNo = 0; seriesNo < seriesCount; seriesNo++) {
+                    double y = this.dataset.getYValue(seriesNo, itemNo);
+                    if (!Double.isNaN(y)) {
+                        if (y > 0.0) {
+                            positive += y;
+                        }
+                        else {
+                            negative += y;
+                        }
+                    }
+                }
+                if (positive > maximum) {
+                    maximum = positive;
+                } 
+                if (negative < minimum) {
+                    minimum = negative;
+                } 
+            }
+            result[0] = minimum;
+            result[1] = maximum;
+        }
+
+    }
+
+    /**
+     * Finds the range of the running totals for each row in a 
+     * {@link CategoryDataset} (the last column is not included).  The result 
+     * holds the total of the items in element 2, so that the running totals 
+     * for a range of columns can be offset by the total of the columns 
+     * before it.
+     */
+    private static class CumulativeRangeBoundsTask extends BoundsTask {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 6000243560826318837L;
+
+        /** The dataset. */
+        private CategoryDataset dataset;
+
+        /** The number of columns included for each row. */
+        private int columnCount;
+
+        /**
+         * Creates a task for all the items in a dataset.
+         *
+         * @param dataset  the dataset.
+         */
+        CumulativeRangeBoundsTask(CategoryDataset dataset) {
+            this(dataset, Math.max(dataset.getColumnCount() - 1, 0));
+            setSeriesCount(dataset.getRowCount());
+        }
+
+        /**
+         * Creates a subtask.
+         *
+         * @param dataset  the dataset.
+         * @param columnCount  the number of columns included for each row.
+         */
+        private CumulativeRangeBoundsTask(CategoryDataset dataset, 
+                                          int columnCount) {
+            this.dataset = dataset;
+            this.columnCount = columnCount;
+        }
+
+        /**
+         * Returns a new task for the same dataset.
+         *
+         * @return The task.
+         */
+        protected BoundsTask createSubtask() {
+            return new CumulativeRangeBoundsTask(this.dataset, 
+                    this.columnCount);
+        }
+
+        /**
+         * Returns the number of items in a series.
+         *
+         * @param series  the series index.
+         *
+         * @return The item count.
+         */
+        protected int getItemCount(int series) {
+            return this.columnCount;
+        }
+
+        /**
+         * Returns a new result that contains no items, with a zero total.
+         *
+         * @return The result.
+         */
+        protected double[] createResult() {
+            return new double[] {Double.POSITIVE_INFINITY, 
+                    Double.NEGATIVE_INFINITY, 0.0};
+        }
+
+        /**
+         * Updates a result with a range of columns in one row.
+         *
+         * @param row  the row index.
+         * @param start  the index of the first column.
+         * @param end  the index after the last column.
+         * @param result  the result to update.
+         */
+        protected void iterate(int row, int start, int end, double[] result) {
+            double minimum = result[0];
+            double maximum = result[1];
             double runningTotal = 0.0;
-            for (int column = 0; column < dataset.getColumnCount() - 1; 
-                 column++) {
-                Number n = dataset.getValue(row, column);
-                if (n != null) {
-                    allItemsNull = false;
-                    double value = n.doubleValue();
+            for (int column = start; column < end; column++) {
+                double value = this.dataset.getDoubleValue(row, column);
+                if (!Double.isNaN(value)) {
                     runningTotal = runningTotal + value;
                     minimum = Math.min(minimum, runningTotal);
                     maximum = Math.max(maximum, runningTotal);
                 }
-            }    
-        }
-        if (!allItemsNull) {
-            return new Range(minimum, maximum);
-        }
-        else {
-            return null;
+            }
+            result[0] = minimum;
+            result[1] = maximum;
+            result[2] = runningTotal;
+        }
+
+        /**
+         * Combines the results for two adjacent parts of the dataset.  If 
+         * the parts are in the same row, the running totals for the second
+         * part are offset by the total of the first part.
+         *
+         * @param first  the result for the first part.
+         * @param second  the result for the second part.
+         * @param sameSeries  <code>true</code> if the parts are two ranges of
+         *                    columns in the same row.
+         *
+         * @return The combined result.
+         */
+        protected double[] combine(double[] first, double[] second, 
+                                   boolean sameSeries) {
+            if (!sameSeries) {
+                return super.combine(first, second, sameSeries);
+            }
+            first[0] = Math.min(first[0], first[2] + second[0]);
+            first[1] = Math.max(first[1], first[2] + second[1]);
+            first[2] = first[2] + second[2];
+            return first;
         }
-        
+
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,175 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation,
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------
+ * EventThrottle.java
+ * ------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * Controls how often change events are sent by a dataset, plot or chart, and
+ * on which thread.  When an object has a throttle, its change events are
+ * sent at most once per interval (the default is about 60 times a second),
+ * and an event that arrives within the interval is held back and replaced
+ * by any later event, so that a burst of changes results in a single event.
+ * The events are sent on the Swing event dispatch thread, or by an
+ * {@link Executor} if one is given.
+ * <P>
+ * A throttle holds no state for the objects that use it, so it can be
+ * shared.
+ *
+ * @see ChangeEventCoalescer
+ */
+public final class EventThrottle {
+
+    /** The default minimum interval between events (in milliseconds). */
+    public static final long DEFAULT_MINIMUM_INTERVAL = 16L;
+
+    /** The timer that delays the events. */
+    private static ScheduledExecutorService timer;
+
+    /** The minimum interval between events (in milliseconds). */
+    private long minimumInterval;
+
+    /** The executor (<code>null</code> for the event dispatch thread). */
+    private Executor executor;
+
+    /**
+     * Creates a throttle that sends events at most every
+     * {@link #DEFAULT_MINIMUM_INTERVAL} milliseconds, on the event dispatch
+     * thread.
+     */
+    public EventThrottle() {
+        this(DEFAULT_MINIMUM_INTERVAL, null);
+    }
+
+    /**
+     * Creates a new throttle.
+     *
+     * @param minimumInterval  the minimum interval between events, in
+     *                         milliseconds (must not be negative).
+     * @param executor  the executor that sends the events
+     *                  (<code>null</code> for the event dispatch thread).
+     */
+    public EventThrottle(long minimumInterval, Executor executor) {
+        if (minimumInterval < 0L) {
+            throw new IllegalArgumentException(
+                "Requires 'minimumInterval' >= 0."
+            );
+        }
+        this.minimumInterval = minimumInterval;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns the minimum interval between events.
+     *
+     * @return The interval (in milliseconds).
+     */
+    public long getMinimumInterval() {
+        return this.minimumInterval;
+    }
+
+    /**
+     * Returns the executor that sends the events.
+     *
+     * @return The executor (<code>null</code> for the event dispatch
+     *         thread).
+     */
+    public Executor getExecutor() {
+        return this.executor;
+    }
+
+    /**
+     * Runs a task on the executor (or the event dispatch thread) after a
+     * delay.
+     *
+     * @param task  the task.
+     * @param delay  the delay (in milliseconds).
+     */
+    void schedule(final Runnable task, long delay) {
+        if (delay <= 0L) {
+            execute(task);
+            return;
+        }
+        getTimer().schedule(new Runnable() {
+            public void run() {
+                execute(task);
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs a task on the executor (or the event dispatch thread).
+     *
+     * @param task  the task.
+     */
+    private void execute(Runnable task) {
+        if (this.executor != null) {
+            this.executor.execute(task);
+        }
+        else {
+            SwingUtilities.invokeLater(task);
+        }
+    }
+
+    /**
+     * Returns the timer, creating it if necessary.
+     *
+     * @return The timer.
+     */
+    private static synchronized ScheduledExecutorService getTimer() {
+        if (timer == null) {
+            timer = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "JFreeChart event throttle");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return timer;
+    }
+
+}
@@ -47,6 +47,12 @@
  * 15-Oct-2003 : Added a flag to control whether or not change events are sent 
  *               to registered listeners (DG);
  * 19-May-2005 : Made abstract (DG);
+ * 18-Oct-2026 : Replaced EventListenerList with a copy-on-write array of
+ *               listeners, and only create events if there are
+ *               listeners;
+ * 18-Oct-2026 : Added fireSeriesAppended() method;
+ * 19-Oct-2026 : Kept the serialized form, and remove listeners by 
+ *               identity;
  *
  */
 
@@ -54,6 +60,10 @@ package org.jfree.data.general;
 
 import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 
 import javax.swing.event.EventListenerList;
@@ -74,6 +84,21 @@ public abstract class Series implements Cloneable, Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = -6906561437538683581L;
+
+    /** 
+     * The serialized fields.  The listeners are written as an 
+     * {@link EventListenerList}, as they were before they were kept in an 
+     * array, so that the serialized form is unchanged.
+     */
+    private static final ObjectStreamField[] serialPersistentFields = {
+        new ObjectStreamField("key", Comparable.class),
+        new ObjectStreamField("description", String.class),
+        new ObjectStreamField("listeners", EventListenerList.class),
+        new ObjectStreamField(
+            "propertyChangeSupport", PropertyChangeSupport.class
+        ),
+        new ObjectStreamField("notify", Boolean.TYPE)
+    };
     
     /** The key for the series. */
     private Comparable key;
@@ -81,8 +106,19 @@ public abstract class Series implements Cloneable, Serializable {
     /** A description of the series. */
     private String description;
 
-    /** Storage for registered change listeners. */
-    private EventListenerList listeners;
+    /** An empty array of listeners. */
+    private static final SeriesChangeListener[] NO_LISTENERS 
+        = new SeriesChangeListener[0];
+
+    /** 
+     * The registered change listeners, most recently added last.  The array
+     * is replaced (never modified) when a listener is added or removed, so
+     * events can be sent without locking or copying.
+     */
+    private transient volatile SeriesChangeListener[] listeners = NO_LISTENERS;
+
+    /** The lock for adding and removing listeners. */
+    private transient Object listenerLock = new Object();
 
     /** Object to support property change notification. */
     private PropertyChangeSupport propertyChangeSupport;
@@ -111,7 +147,6 @@ public abstract class Series implements Cloneable, Serializable {
         }
         this.key = key;
         this.description = description;
-        this.listeners = new EventListenerList();
         this.propertyChangeSupport = new PropertyChangeSupport(this);
         this.notify = true;
         
@@ -205,7 +240,8 @@ public abstract class Series implements Cloneable, Serializable {
     public Object clone() throws CloneNotSupportedException {
 
         Series clone = (Series) super.clone();
-        clone.listeners = new EventListenerList();
+        clone.listeners = NO_LISTENERS;
+        clone.listenerLock = new Object();
         clone.propertyChangeSupport = new PropertyChangeSupport(clone);
         return clone;
 
@@ -253,26 +289,46 @@ public abstract class Series implements Cloneable, Serializable {
     }
 
     /**
-     * Registers an object with this series, to receive notification whenever 
-     * the series changes.
-     * <P>
-     * Objects being registered must implement the {@link SeriesChangeListener} 
-     * interface.
+     * Registers an object to receive notification of changes to the series.
      *
-     * @param listener  the listener to register.
+     * @param listener  the object to register (<code>null</code> is 
+     *                  ignored).
      */
     public void addChangeListener(SeriesChangeListener listener) {
-        this.listeners.add(SeriesChangeListener.class, listener);
+        if (listener == null) {
+            return;
+        }
+        synchronized (this.listenerLock) {
+            SeriesChangeListener[] current = this.listeners;
+            SeriesChangeListener[] updated 
+                = new SeriesChangeListener[current.length + 1];
+            System.arraycopy(current, 0, updated, 0, current.length);
+            updated[current.length] = listener;
+            this.listeners = updated;
+        }
     }
 
     /**
-     * Deregisters an object, so that it not longer receives notification 
-     * whenever the series changes.
+     * Deregisters an object so that it no longer receives notification of 
+     * changes to the series.
      *
-     * @param listener  the listener to deregister.
+     * @param listener  the object to deregister.
      */
     public void removeChangeListener(SeriesChangeListener listener) {
-        this.listeners.remove(SeriesChangeListener.class, listener);
+        synchronized (this.listenerLock) {
+            SeriesChangeListener[] current = this.listeners;
+            for (int i = current.length - 1; i >= 0; i--) {
+                if (current[i] == listener) {
+                    SeriesChangeListener[] updated 
+                        = new SeriesChangeListener[current.length - 1];
+                    System.arraycopy(current, 0, updated, 0, i);
+                    System.arraycopy(current, i + 1, updated, i, 
+                            updated.length - i);
+                    this.listeners = updated;
+                    return;
+                }
+            }
+        }
     }
 
     /**
@@ -280,11 +336,30 @@ public abstract class Series implements Cloneable, Serializable {
      * has been changed.
      */
     public void fireSeriesChanged() {
-        if (this.notify) {
+        if (this.notify && this.listeners.length > 0) {
             notifyListeners(new SeriesChangeEvent(this));
         }
     }
 
+    /**
+     * Signals to registered listeners that items have been added to the end
+     * of the series (see {@link SeriesAppendEvent}).
+     *
+     * @param appendedItemCount  the number of items added to the end of the
+     *                           series.
+     * @param removedItemCount  the number of items removed from the start of
+     *                          the series.
+     */
+    protected void fireSeriesAppended(int appendedItemCount, 
+                                      int removedItemCount) {
+        if (this.notify && this.listeners.length > 0) {
+            notifyListeners(
+                new SeriesAppendEvent(this, appendedItemCount, 
+                        removedItemCount)
+            );
+        }
+    }
+
     /**
      * Sends a change event to all registered listeners.
      *
@@ -293,13 +368,9 @@ public abstract class Series implements Cloneable, Serializable {
      */
     protected void notifyListeners(SeriesChangeEvent event) {
 
-        Object[] listenerList = this.listeners.getListenerList();
-        for (int i = listenerList.length - 2; i >= 0; i -= 2) {
-            if (listenerList[i] == SeriesChangeListener.class) {
-                ((SeriesChangeListener) listenerList[i + 1]).seriesChanged(
-                    event
-                );
-            }
+        SeriesChangeListener[] current = this.listeners;
+        for (int i = current.length - 1; i >= 0; i--) {
+            current[i].seriesChanged(event);
         }
 
     }
@@ -337,4 +408,58 @@ public abstract class Series implements Cloneable, Serializable {
         );
     }
 
-}
\ No newline at end of file
+    /**
+     * Provides serialization support.  Only the listeners that are 
+     * serializable are written.
+     *
+     * @param stream  the output stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     */
+    private void writeObject(ObjectOutputStream stream) throws IOException {
+        EventListenerList listenerList = new EventListenerList();
+        SeriesChangeListener[] current = this.listeners;
+        for (int i = 0; i < current.length; i++) {
+            listenerList.add(SeriesChangeListener.class, current[i]);
+        }
+        ObjectOutputStream.PutField fields = stream.putFields();
+        fields.put("key", this.key);
+        fields.put("description", this.description);
+        fields.put("listeners", listenerList);
+        fields.put("propertyChangeSupport", this.propertyChangeSupport);
+        fields.put("notify", this.notify);
+        stream.writeFields();
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream) 
+            throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = stream.readFields();
+        this.key = (Comparable) fields.get("key", null);
+        this.description = (String) fields.get("description", null);
+        this.propertyChangeSupport = (PropertyChangeSupport) fields.get(
+            "propertyChangeSupport", null
+        );
+        this.notify = fields.get("notify", true);
+        this.listeners = NO_LISTENERS;
+        this.listenerLock = new Object();
+        EventListenerList listenerList 
+            = (EventListenerList) fields.get("listeners", null);
+        if (listenerList != null) {
+            Object[] pairs = listenerList.getListenerList();
+            for (int i = 0; i < pairs.length; i += 2) {
+                if (pairs[i] == SeriesChangeListener.class) {
+                    addChangeListener((SeriesChangeListener) pairs[i + 1]);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,95 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation,
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * SeriesAppendEvent.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.general;
+
+/**
+ * An event for a change that adds items to the end of a series, and possibly
+ * drops items from the start of the series at the same time (as happens when
+ * a series has a maximum item count).  The items that remain from before the
+ * change are not modified.
+ *
+ * @see DatasetAppendEvent
+ */
+public class SeriesAppendEvent extends SeriesChangeEvent {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 4208473862651807214L;
+
+    /** The number of items added to the end of the series. */
+    private int appendedItemCount;
+
+    /** The number of items removed from the start of the series. */
+    private int removedItemCount;
+
+    /**
+     * Creates a new event.
+     *
+     * @param source  the source of the event (the series).
+     * @param appendedItemCount  the number of items added to the end of the 
+     *                           series.
+     * @param removedItemCount  the number of items removed from the start of
+     *                          the series.
+     */
+    public SeriesAppendEvent(Object source, int appendedItemCount, 
+                             int removedItemCount) {
+        super(source);
+        this.appendedItemCount = appendedItemCount;
+        this.removedItemCount = removedItemCount;
+    }
+
+    /**
+     * Returns the number of items added to the end of the series.
+     *
+     * @return The item count.
+     */
+    public int getAppendedItemCount() {
+        return this.appendedItemCount;
+    }
+
+    /**
+     * Returns the number of items removed from the start of the series.
+     *
+     * @return The item count.
+     */
+    public int getRemovedItemCount() {
+        return this.removedItemCount;
+    }
+
+}
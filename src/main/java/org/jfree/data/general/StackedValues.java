@@ -0,0 +1,243 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * ------------------
+ * StackedValues.java
+ * ------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  JFreeChart contributors;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.general;
+
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.xy.TableXYDataset;
+
+/**
+ * A table of cumulative stack values for a dataset, calculated in a single 
+ * pass.  For each item (the column in a {@link CategoryDataset}, or the item 
+ * index in a {@link TableXYDataset}) the table records the sum of the 
+ * positive values and the sum of the negative values for all series before a
+ * given series.  Stacked renderers create an instance when they are 
+ * initialised, so that the base of each stacked item is found by a lookup 
+ * rather than by summing the values of all the preceding series.
+ * <P>
+ * Missing values (<code>null</code> or <code>Double.NaN</code>) are ignored.
+ * The table is a snapshot, it is not updated if the dataset changes.
+ */
+public class StackedValues {
+
+    /** The dataset that the values were calculated from. */
+    private Dataset dataset;
+
+    /** The number of series. */
+    private int seriesCount;
+
+    /** The number of items. */
+    private int itemCount;
+
+    /** 
+     * The cumulative positive values, indexed by 
+     * [item * (seriesCount + 1) + series]. 
+     */
+    private double[] positive;
+
+    /** 
+     * The cumulative negative values, indexed by 
+     * [item * (seriesCount + 1) + series]. 
+     */
+    private double[] negative;
+
+    /**
+     * Calculates the stack values for a category dataset.  The rows in the 
+     * dataset are the series, and the columns are the items.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     */
+    public StackedValues(CategoryDataset dataset) {
+        if (dataset == null) {
+            throw new IllegalArgumentException("Null 'dataset' argument.");
+        }
+        this.dataset = dataset;
+        this.seriesCount = dataset.getRowCount();
+        this.itemCount = dataset.getColumnCount();
+        allocate();
+        int stride = this.seriesCount + 1;
+        for (int item = 0; item < this.itemCount; item++) {
+            int offset = item * stride;
+            double pos = 0.0;
+            double neg = 0.0;
+            for (int series = 0; series < this.seriesCount; series++) {
+                this.positive[offset + series] = pos;
+                this.negative[offset + series] = neg;
+                Number n = dataset.getValue(series, item);
+                if (n != null) {
+                    double v = n.doubleValue();
+                    if (v > 0.0) {
+                        pos = pos + v;
+                    }
+                    else if (v < 0.0) {
+                        neg = neg + v;
+                    }
+                }
+            }
+            this.positive[offset + this.seriesCount] = pos;
+            this.negative[offset + this.seriesCount] = neg;
+        }
+    }
+
+    /**
+     * Calculates the stack values for a table XY dataset.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     */
+    public StackedValues(TableXYDataset dataset) {
+        if (dataset == null) {
+            throw new IllegalArgumentException("Null 'dataset' argument.");
+        }
+        this.dataset = dataset;
+        this.seriesCount = dataset.getSeriesCount();
+        this.itemCount = dataset.getItemCount();
+        allocate();
+        int stride = this.seriesCount + 1;
+        for (int item = 0; item < this.itemCount; item++) {
+            int offset = item * stride;
+            double pos = 0.0;
+            double neg = 0.0;
+            for (int series = 0; series < this.seriesCount; series++) {
+                this.positive[offset + series] = pos;
+                this.negative[offset + series] = neg;
+                double v = dataset.getYValue(series, item);
+                if (v > 0.0) {
+                    pos = pos + v;
+                }
+                else if (v < 0.0) {
+                    neg = neg + v;
+                }
+            }
+            this.positive[offset + this.seriesCount] = pos;
+            this.negative[offset + this.seriesCount] = neg;
+        }
+    }
+
+    /**
+     * Allocates the storage arrays.
+     */
+    private void allocate() {
+        int size = this.itemCount * (this.seriesCount + 1);
+        this.positive = new double[size];
+        this.negative = new double[size];
+    }
+
+    /**
+     * Returns the dataset that the values were calculated from.  Renderers 
+     * use this to check that the table matches the dataset being drawn.
+     *
+     * @return The dataset (never <code>null</code>).
+     */
+    public Dataset getDataset() {
+        return this.dataset;
+    }
+
+    /**
+     * Returns the number of series.
+     *
+     * @return The series count.
+     */
+    public int getSeriesCount() {
+        return this.seriesCount;
+    }
+
+    /**
+     * Returns the number of items.
+     *
+     * @return The item count.
+     */
+    public int getItemCount() {
+        return this.itemCount;
+    }
+
+    /**
+     * Returns the sum of the positive values for the series before 
+     * <code>series</code>, for the specified item.
+     *
+     * @param series  the series index (zero-based, use the series count to 
+     *                get the total for all series).
+     * @param item  the item index (zero-based).
+     *
+     * @return The cumulative positive value (zero or greater).
+     */
+    public double getPositiveBase(int series, int item) {
+        return this.positive[item * (this.seriesCount + 1) + series];
+    }
+
+    /**
+     * Returns the sum of the negative values for the series before 
+     * <code>series</code>, for the specified item.
+     *
+     * @param series  the series index (zero-based, use the series count to 
+     *                get the total for all series).
+     * @param item  the item index (zero-based).
+     *
+     * @return The cumulative negative value (zero or less).
+     */
+    public double getNegativeBase(int series, int item) {
+        return this.negative[item * (this.seriesCount + 1) + series];
+    }
+
+    /**
+     * Returns the sum of all values for the series before 
+     * <code>series</code>, for the specified item.
+     *
+     * @param series  the series index (zero-based, use the series count to 
+     *                get the total for all series).
+     * @param item  the item index (zero-based).
+     *
+     * @return The cumulative value.
+     */
+    public double getBase(int series, int item) {
+        int index = item * (this.seriesCount + 1) + series;
+        return this.positive[index] + this.negative[index];
+    }
+
+    /**
+     * Returns the sum of all the values for the specified item.
+     *
+     * @param item  the item index (zero-based).
+     *
+     * @return The total.
+     */
+    public double getTotal(int item) {
+        return getBase(this.seriesCount, item);
+    }
+
+}
@@ -46,6 +46,7 @@
  * 01-Feb-2005 : Changed minimumRangeValue and maximumRangeValue from Double
  *               to double (DG);
  * 05-Feb-2005 : Implemented equals() method (DG);
+ * 19-Oct-2026 : Override getDoubleValue() to avoid boxing;
  *
  */
 
@@ -120,6 +121,28 @@ public class DefaultStatisticalCategoryDataset extends AbstractDataset
         return getMeanValue(row, column);
     }
 
+    /**
+     * Returns the value for an item as a primitive (for this dataset, the 
+     * mean value is returned).
+     *
+     * @param row  the row index.
+     * @param column  the column index.
+     *
+     * @return The value (<code>Double.NaN</code> if the value is 
+     *         <code>null</code>).
+     */
+    public double getDoubleValue(int row, int column) {
+        MeanAndStandardDeviation masd 
+            = (MeanAndStandardDeviation) this.data.getObject(row, column);
+        if (masd != null) {
+            Number mean = masd.getMean();
+            if (mean != null) {
+                return mean.doubleValue();
+            }
+        }
+        return Double.NaN;
+    }
+
     /**
      * Returns the value for an item (for this dataset, the mean value is
      * returned).
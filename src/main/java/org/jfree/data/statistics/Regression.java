@@ -39,6 +39,9 @@
  * 18-Aug-2003 : Added 'abstract' (DG);
  * 15-Jul-2004 : Switched getX() with getXValue() and getY() with 
  *               getYValue() (DG);
+ * 18-Oct-2026 : Added double[] versions of the regression methods, and 
+ *               switched to single-pass accumulation (see 
+ *               RegressionAccumulator);
  *
  */
 
@@ -97,7 +100,9 @@ public abstract class Regression {
     /**
      * Returns the parameters 'a' and 'b' for an equation y = a + bx, fitted to 
      * the data using ordinary least squares regression. The result is returned 
-     * as a double[], where result[0] --> a, and result[1] --> b.
+     * as a double[], where result[0] --> a, and result[1] --> b.  Every item 
+     * is included, so a <code>NaN</code> value gives a <code>NaN</code> 
+     * result.
      *
      * @param data  the data.
      * @param series  the series (zero-based index).
@@ -110,32 +115,52 @@ public abstract class Regression {
         if (n < 2) {
             throw new IllegalArgumentException("Not enough data.");
         }
-
-        double sumX = 0;
-        double sumY = 0;
-        double sumXX = 0;
-        double sumXY = 0;
+        // every item is added, so a NaN value gives a NaN result...
+        RegressionAccumulator acc = new RegressionAccumulator();
         for (int i = 0; i < n; i++) {
-            double x = data.getXValue(series, i);
-            double y = data.getYValue(series, i);
-            sumX += x;
-            sumY += y;
-            double xx = x * x;
-            sumXX += xx;
-            double xy = x * y;
-            sumXY += xy;
+            acc.add(data.getXValue(series, i), data.getYValue(series, i));
         }
-        double sxx = sumXX - (sumX * sumX) / n;
-        double sxy = sumXY - (sumX * sumY) / n;
-        double xbar = sumX / n;
-        double ybar = sumY / n;
+        return acc.getLinearFit();
 
-        double[] result = new double[2];
-        result[1] = sxy / sxx;
-        result[0] = ybar - result[1] * xbar;
+    }
 
-        return result;
+    /**
+     * Returns the parameters 'a' and 'b' for an equation y = a + bx, fitted to
+     * the data using ordinary least squares regression.  The result is 
+     * returned as a double[], where result[0] --> a, and result[1] --> b.
+     *
+     * @param xData  the x-values (<code>null</code> not permitted).
+     * @param yData  the y-values (<code>null</code> not permitted).
+     *
+     * @return The parameters.
+     */
+    public static double[] getOLSRegression(double[] xData, double[] yData) {
+        return getOLSRegression(xData, yData, false);
+    }
 
+    /**
+     * Returns the parameters 'a' and 'b' for an equation y = a + bx, fitted to
+     * the data using ordinary least squares regression.  The result is 
+     * returned as a double[], where result[0] --> a, and result[1] --> b.
+     *
+     * @param xData  the x-values (<code>null</code> not permitted).
+     * @param yData  the y-values (<code>null</code> not permitted).
+     * @param parallel  if <code>true</code>, large arrays are reduced in 
+     *                  parallel.
+     *
+     * @return The parameters.
+     */
+    public static double[] getOLSRegression(double[] xData, double[] yData,
+                                            boolean parallel) {
+        if (xData == null) {
+            throw new IllegalArgumentException("Null 'xData' argument.");
+        }
+        if (xData.length < 2) {
+            throw new IllegalArgumentException("Not enough data.");
+        }
+        return RegressionAccumulator.accumulate(
+            xData, yData, 0, xData.length, parallel
+        ).getLinearFit();
     }
 
     /**
@@ -184,7 +209,9 @@ public abstract class Regression {
     /**
      * Returns the parameters 'a' and 'b' for an equation y = ax^b, fitted to 
      * the data using a power regression equation.  The result is returned as 
-     * an array, where double[0] --> a, and double[1] --> b.
+     * an array, where double[0] --> a, and double[1] --> b.  Every item is
+     * included, so a <code>NaN</code> (or non-positive) value gives a 
+     * <code>NaN</code> result.
      *
      * @param data  the data.
      * @param series  the series to fit the regression line against.
@@ -197,32 +224,47 @@ public abstract class Regression {
         if (n < 2) {
             throw new IllegalArgumentException("Not enough data.");
         }
-
-        double sumX = 0;
-        double sumY = 0;
-        double sumXX = 0;
-        double sumXY = 0;
+        RegressionAccumulator acc = new RegressionAccumulator();
         for (int i = 0; i < n; i++) {
-            double x = Math.log(data.getXValue(series, i));
-            double y = Math.log(data.getYValue(series, i));
-            sumX += x;
-            sumY += y;
-            double xx = x * x;
-            sumXX += xx;
-            double xy = x * y;
-            sumXY += xy;
+            acc.add(Math.log(data.getXValue(series, i)), 
+                    Math.log(data.getYValue(series, i)));
         }
-        double sxx = sumXX - (sumX * sumX) / n;
-        double sxy = sumXY - (sumX * sumY) / n;
-        double xbar = sumX / n;
-        double ybar = sumY / n;
+        double[] result = acc.getLinearFit();
+        result[0] = Math.exp(result[0]);
+        return result;
 
-        double[] result = new double[2];
-        result[1] = sxy / sxx;
-        result[0] = Math.pow(Math.exp(1.0), ybar - result[1] * xbar);
+    }
 
+    /**
+     * Returns the parameters 'a' and 'b' for an equation y = ax^b, fitted to 
+     * the data using a power regression equation.  The result is returned as 
+     * an array, where double[0] --> a, and double[1] --> b.
+     *
+     * @param xData  the x-values (<code>null</code> not permitted).
+     * @param yData  the y-values (<code>null</code> not permitted).
+     *
+     * @return The parameters.
+     */
+    public static double[] getPowerRegression(double[] xData, double[] yData) {
+        if (xData == null) {
+            throw new IllegalArgumentException("Null 'xData' argument.");
+        }
+        if (yData == null) {
+            throw new IllegalArgumentException("Null 'yData' argument.");
+        }
+        if (xData.length != yData.length) {
+            throw new IllegalArgumentException("Array lengths must be equal.");
+        }
+        if (xData.length < 2) {
+            throw new IllegalArgumentException("Not enough data.");
+        }
+        RegressionAccumulator acc = new RegressionAccumulator();
+        for (int i = 0; i < xData.length; i++) {
+            acc.add(Math.log(xData[i]), Math.log(yData[i]));
+        }
+        double[] result = acc.getLinearFit();
+        result[0] = Math.exp(result[0]);
         return result;
-
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,440 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * --------------------------
+ * RegressionAccumulator.java
+ * --------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  JFreeChart contributors;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.io.Serializable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * Accumulates the means, variances and co-variance of a set of (x, y) pairs 
+ * in a single pass, using Welford's updating formulae.  This avoids the loss 
+ * of precision that comes from subtracting large sums of squares, and allows 
+ * the regression line, correlation and standard deviations to be updated in 
+ * constant time as each pair is added or removed (for example, for a trend 
+ * line on a live series).
+ * <P>
+ * Two accumulators can be merged with {@link #add(RegressionAccumulator)}, 
+ * which is used by {@link #accumulate(double[], double[], int, int, boolean)}
+ * to reduce large arrays in parallel.
+ */
+public class RegressionAccumulator implements Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2736430516725318094L;
+
+    /** 
+     * The number of items below which the parallel reduction processes a 
+     * block of data on the calling thread. 
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    /** The number of (x, y) pairs. */
+    private long count;
+
+    /** The mean of the x-values. */
+    private double meanX;
+
+    /** The mean of the y-values. */
+    private double meanY;
+
+    /** The sum of the squared deviations of the x-values from their mean. */
+    private double m2X;
+
+    /** The sum of the squared deviations of the y-values from their mean. */
+    private double m2Y;
+
+    /** The sum of the products of the x and y deviations. */
+    private double cXY;
+
+    /**
+     * Creates a new empty accumulator.
+     */
+    public RegressionAccumulator() {
+        super();
+    }
+
+    /**
+     * Returns the number of (x, y) pairs that have been accumulated.
+     *
+     * @return The count.
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Adds an (x, y) pair to the accumulator.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    public void add(double x, double y) {
+        this.count++;
+        double dx = x - this.meanX;
+        double dy = y - this.meanY;
+        this.meanX += dx / this.count;
+        this.meanY += dy / this.count;
+        double dy2 = y - this.meanY;
+        this.m2X += dx * (x - this.meanX);
+        this.m2Y += dy * dy2;
+        this.cXY += dx * dy2;
+    }
+
+    /**
+     * Removes an (x, y) pair that was previously added to the accumulator.  
+     * This can be used to maintain the statistics over a sliding window.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    public void remove(double x, double y) {
+        if (this.count <= 1) {
+            clear();
+            return;
+        }
+        long n = this.count - 1;
+        double oldMeanX = (this.count * this.meanX - x) / n;
+        double oldMeanY = (this.count * this.meanY - y) / n;
+        this.m2X -= (x - oldMeanX) * (x - this.meanX);
+        this.m2Y -= (y - oldMeanY) * (y - this.meanY);
+        this.cXY -= (x - oldMeanX) * (y - this.meanY);
+        this.meanX = oldMeanX;
+        this.meanY = oldMeanY;
+        this.count = n;
+    }
+
+    /**
+     * Adds the (x, y) pairs from a range of items in two arrays.
+     *
+     * @param xData  the x-values (<code>null</code> not permitted).
+     * @param yData  the y-values (<code>null</code> not permitted).
+     * @param start  the index of the first item.
+     * @param end  the index after the last item.
+     */
+    public void add(double[] xData, double[] yData, int start, int end) {
+        for (int i = start; i < end; i++) {
+            add(xData[i], yData[i]);
+        }
+    }
+
+    /**
+     * Adds the (x, y) pairs from one series in a dataset.  Items with a 
+     * <code>NaN</code> x or y-value are ignored.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param series  the series index (zero-based).
+     */
+    public void add(XYDataset dataset, int series) {
+        int itemCount = dataset.getItemCount(series);
+        for (int i = 0; i < itemCount; i++) {
+            double x = dataset.getXValue(series, i);
+            double y = dataset.getYValue(series, i);
+            if (!Double.isNaN(x) && !Double.isNaN(y)) {
+                add(x, y);
+            }
+        }
+    }
+
+    /**
+     * Merges the statistics from another accumulator into this one.
+     *
+     * @param other  the other accumulator (<code>null</code> not permitted).
+     */
+    public void add(RegressionAccumulator other) {
+        if (other.count == 0) {
+            return;
+        }
+        if (this.count == 0) {
+            this.count = other.count;
+            this.meanX = other.meanX;
+            this.meanY = other.meanY;
+            this.m2X = other.m2X;
+            this.m2Y = other.m2Y;
+            this.cXY = other.cXY;
+            return;
+        }
+        double n = this.count + other.count;
+        double dx = other.meanX - this.meanX;
+        double dy = other.meanY - this.meanY;
+        double f = ((double) this.count) * other.count / n;
+        this.meanX += dx * other.count / n;
+        this.meanY += dy * other.count / n;
+        this.m2X += other.m2X + dx * dx * f;
+        this.m2Y += other.m2Y + dy * dy * f;
+        this.cXY += other.cXY + dx * dy * f;
+        this.count += other.count;
+    }
+
+    /**
+     * Resets the accumulator to its initial (empty) state.
+     */
+    public void clear() {
+        this.count = 0;
+        this.meanX = 0.0;
+        this.meanY = 0.0;
+        this.m2X = 0.0;
+        this.m2Y = 0.0;
+        this.cXY = 0.0;
+    }
+
+    /**
+     * Returns the mean of the x-values.
+     *
+     * @return The mean (<code>Double.NaN</code> if there is no data).
+     */
+    public double getMeanX() {
+        return (this.count > 0 ? this.meanX : Double.NaN);
+    }
+
+    /**
+     * Returns the mean of the y-values.
+     *
+     * @return The mean (<code>Double.NaN</code> if there is no data).
+     */
+    public double getMeanY() {
+        return (this.count > 0 ? this.meanY : Double.NaN);
+    }
+
+    /**
+     * Returns the sample standard deviation of the x-values.
+     *
+     * @return The standard deviation.
+     */
+    public double getStdDevX() {
+        return Math.sqrt(this.m2X / (this.count - 1));
+    }
+
+    /**
+     * Returns the sample standard deviation of the y-values.
+     *
+     * @return The standard deviation.
+     */
+    public double getStdDevY() {
+        return Math.sqrt(this.m2Y / (this.count - 1));
+    }
+
+    /**
+     * Returns the slope of the least squares regression line.
+     *
+     * @return The slope.
+     */
+    public double getSlope() {
+        return this.cXY / this.m2X;
+    }
+
+    /**
+     * Returns the intercept of the least squares regression line.
+     *
+     * @return The intercept.
+     */
+    public double getIntercept() {
+        return getMeanY() - getSlope() * getMeanX();
+    }
+
+    /**
+     * Returns the parameters 'a' and 'b' for the equation y = a + bx fitted 
+     * to the data, as a double[] where result[0] --> a, and result[1] --> b.
+     *
+     * @return The parameters.
+     */
+    public double[] getLinearFit() {
+        double[] result = new double[2];
+        result[1] = getSlope();
+        result[0] = getMeanY() - result[1] * getMeanX();
+        return result;
+    }
+
+    /**
+     * Returns the (Pearson) correlation between the x and y-values.
+     *
+     * @return The correlation.
+     */
+    public double getCorrelation() {
+        return this.cXY / Math.sqrt(this.m2X * this.m2Y);
+    }
+
+    /**
+     * Returns an accumulator for a range of items in two arrays.  If 
+     * <code>parallel</code> is <code>true</code> and the range is larger than
+     * {@link #PARALLEL_THRESHOLD}, the range is split into blocks that are 
+     * accumulated concurrently in the common fork-join pool and then merged.
+     *
+     * @param xData  the x-values (<code>null</code> not permitted).
+     * @param yData  the y-values (<code>null</code> not permitted).
+     * @param start  the index of the first item.
+     * @param end  the index after the last item.
+     * @param parallel  use a parallel reduction for large ranges?
+     *
+     * @return The accumulator.
+     */
+    public static RegressionAccumulator accumulate(double[] xData, 
+            double[] yData, int start, int end, boolean parallel) {
+        if (xData == null) {
+            throw new IllegalArgumentException("Null 'xData' argument.");
+        }
+        if (yData == null) {
+            throw new IllegalArgumentException("Null 'yData' argument.");
+        }
+        if (xData.length != yData.length) {
+            throw new IllegalArgumentException(
+                "Array lengths must be equal.");
+        }
+        if (parallel && end - start > PARALLEL_THRESHOLD) {
+            return (RegressionAccumulator) ForkJoinPool.commonPool().invoke(
+                new AccumulateTask(xData, yData, start, end)
+            );
+        }
+        RegressionAccumulator result = new RegressionAccumulator();
+        result.add(xData, yData, start, end);
+        return result;
+    }
+
+    /**
+     * Tests this accumulator for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof RegressionAccumulator)) {
+            return false;
+        }
+        RegressionAccumulator that = (RegressionAccumulator) obj;
+        return this.count == that.count 
+            && this.meanX == that.meanX && this.meanY == that.meanY
+            && this.m2X == that.m2X && this.m2Y == that.m2Y 
+            && this.cXY == that.cXY;
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    public int hashCode() {
+        long bits = this.count;
+        bits = 31 * bits + Double.doubleToLongBits(this.meanX);
+        bits = 31 * bits + Double.doubleToLongBits(this.meanY);
+        bits = 31 * bits + Double.doubleToLongBits(this.cXY);
+        return (int) (bits ^ (bits >>> 32));
+    }
+
+    /**
+     * Returns a clone of this accumulator.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException not thrown by this class.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        return super.clone();
+    }
+
+    /**
+     * A fork-join task that accumulates a range of items, splitting the range 
+     * in half until it falls below the threshold.
+     */
+    private static class AccumulateTask extends RecursiveTask {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 4417238090641245716L;
+
+        /** The x-values. */
+        private double[] xData;
+
+        /** The y-values. */
+        private double[] yData;
+
+        /** The index of the first item. */
+        private int start;
+
+        /** The index after the last item. */
+        private int end;
+
+        /**
+         * Creates a new task.
+         *
+         * @param xData  the x-values.
+         * @param yData  the y-values.
+         * @param start  the index of the first item.
+         * @param end  the index after the last item.
+         */
+        AccumulateTask(double[] xData, double[] yData, int start, int end) {
+            this.xData = xData;
+            this.yData = yData;
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Performs the accumulation.
+         *
+         * @return The accumulator for the range.
+         */
+        protected Object compute() {
+            if (this.end - this.start <= PARALLEL_THRESHOLD) {
+                RegressionAccumulator result = new RegressionAccumulator();
+                result.add(this.xData, this.yData, this.start, this.end);
+                return result;
+            }
+            int middle = (this.start + this.end) >>> 1;
+            AccumulateTask left = new AccumulateTask(this.xData, this.yData, 
+                    this.start, middle);
+            AccumulateTask right = new AccumulateTask(this.xData, this.yData,
+                    middle, this.end);
+            left.fork();
+            RegressionAccumulator result 
+                = (RegressionAccumulator) right.compute();
+            RegressionAccumulator leftResult 
+                = (RegressionAccumulator) left.join();
+            leftResult.add(result);
+            return leftResult;
+        }
+
+    }
+
+}
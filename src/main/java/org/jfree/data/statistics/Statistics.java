@@ -44,6 +44,9 @@
  * 02-Jun-2004 : Fixed bug in calculateMedian() method (DG);
  * 11-Jan-2005 : Removed deprecated code in preparation for the 1.0.0 
  *               release (DG);
+ * 18-Oct-2026 : Added single-pass double[] and XYDataset versions of 
+ *               getStdDev(), getLinearFit(), getSlope() and 
+ *               getCorrelation();
  *
  */
 
@@ -55,6 +58,8 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
+import org.jfree.data.xy.XYDataset;
+
 /**
  * A utility class that provides some simple statistical functions.
  */
@@ -251,6 +256,58 @@ public abstract class Statistics {
         return Math.sqrt(sum / (data.length - 1));
     }
 
+    /**
+     * Returns the (sample) standard deviation of an array of values, 
+     * calculated in a single pass using Welford's method.
+     *
+     * @param data  the data (<code>null</code> not permitted).
+     *
+     * @return The standard deviation.
+     */
+    public static double getStdDev(double[] data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Null 'data' argument.");
+        }
+        double mean = 0.0;
+        double m2 = 0.0;
+        for (int i = 0; i < data.length; i++) {
+            double delta = data[i] - mean;
+            mean += delta / (i + 1);
+            m2 += delta * (data[i] - mean);
+        }
+        return Math.sqrt(m2 / (data.length - 1));
+    }
+
+    /**
+     * Returns the (sample) standard deviation of the y-values in one series 
+     * of an {@link XYDataset}, calculated in a single pass.  Items with a 
+     * <code>NaN</code> y-value are ignored.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param series  the series index (zero-based).
+     *
+     * @return The standard deviation.
+     */
+    public static double getStdDev(XYDataset dataset, int series) {
+        if (dataset == null) {
+            throw new IllegalArgumentException("Null 'dataset' argument.");
+        }
+        long count = 0;
+        double mean = 0.0;
+        double m2 = 0.0;
+        int itemCount = dataset.getItemCount(series);
+        for (int i = 0; i < itemCount; i++) {
+            double y = dataset.getYValue(series, i);
+            if (!Double.isNaN(y)) {
+                count++;
+                double delta = y - mean;
+                mean += delta / count;
+                m2 += delta * (y - mean);
+            }
+        }
+        return Math.sqrt(m2 / (count - 1));
+    }
+
     /**
      * Fits a straight line to a set of (x, y) data, returning the slope and
      * intercept.
@@ -365,6 +422,121 @@ public abstract class Statistics {
                 * (n * sumY2 - sumY * sumY), 0.5);      
     }
 
+    /**
+     * Fits a straight line to a set of (x, y) data, returning the slope and
+     * intercept.  The calculation is performed in a single pass.
+     *
+     * @param xData  the x-data (<code>null</code> not permitted).
+     * @param yData  the y-data (<code>null</code> not permitted).
+     *
+     * @return A double array with the intercept in [0] and the slope in [1].
+     */
+    public static double[] getLinearFit(double[] xData, double[] yData) {
+        if (xData == null) {
+            throw new IllegalArgumentException("Null 'xData' argument.");
+        }
+        return RegressionAccumulator.accumulate(
+            xData, yData, 0, xData.length, false
+        ).getLinearFit();
+    }
+
+    /**
+     * Fits a straight line to the items in one series of an 
+     * {@link XYDataset}, returning the slope and intercept.  Items with a 
+     * <code>NaN</code> x or y-value are ignored.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param series  the series index (zero-based).
+     *
+     * @return A double array with the intercept in [0] and the slope in [1].
+     */
+    public static double[] getLinearFit(XYDataset dataset, int series) {
+        if (dataset == null) {
+            throw new IllegalArgumentException("Null 'dataset' argument.");
+        }
+        RegressionAccumulator acc = new RegressionAccumulator();
+        acc.add(dataset, series);
+        return acc.getLinearFit();
+    }
+
+    /**
+     * Finds the slope of a regression line using least squares.  The 
+     * calculation is performed in a single pass.
+     *
+     * @param xData  the x-values (<code>null</code> not permitted).
+     * @param yData  the y-values (<code>null</code> not permitted).
+     *
+     * @return The slope.
+     */
+    public static double getSlope(double[] xData, double[] yData) {
+        if (xData == null) {
+            throw new IllegalArgumentException("Null 'xData' argument.");
+        }
+        return RegressionAccumulator.accumulate(
+            xData, yData, 0, xData.length, false
+        ).getSlope();
+    }
+
+    /**
+     * Finds the slope of a regression line through the items in one series 
+     * of an {@link XYDataset}, using least squares.  Items with a 
+     * <code>NaN</code> x or y-value are ignored.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param series  the series index (zero-based).
+     *
+     * @return The slope.
+     */
+    public static double getSlope(XYDataset dataset, int series) {
+        if (dataset == null) {
+            throw new IllegalArgumentException("Null 'dataset' argument.");
+        }
+        RegressionAccumulator acc = new RegressionAccumulator();
+        acc.add(dataset, series);
+        return acc.getSlope();
+    }
+
+    /**
+     * Calculates the correlation between two arrays of values.  Both arrays 
+     * should contain the same number of items.  The calculation is performed 
+     * in a single pass.
+     *
+     * @param data1  the first array (<code>null</code> not permitted).
+     * @param data2  the second array (<code>null</code> not permitted).
+     *
+     * @return The correlation.
+     */
+    public static double getCorrelation(double[] data1, double[] data2) {
+        if (data1 == null) {
+            throw new IllegalArgumentException("Null 'data1' argument.");
+        }
+        if (data2 == null) {
+            throw new IllegalArgumentException("Null 'data2' argument.");
+        }
+        return RegressionAccumulator.accumulate(
+            data1, data2, 0, data1.length, false
+        ).getCorrelation();
+    }
+
+    /**
+     * Calculates the correlation between the x and y-values in one series of 
+     * an {@link XYDataset}.  Items with a <code>NaN</code> x or y-value are 
+     * ignored.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param series  the series index (zero-based).
+     *
+     * @return The correlation.
+     */
+    public static double getCorrelation(XYDataset dataset, int series) {
+        if (dataset == null) {
+            throw new IllegalArgumentException("Null 'dataset' argument.");
+        }
+        RegressionAccumulator acc = new RegressionAccumulator();
+        acc.add(dataset, series);
+        return acc.getCorrelation();
+    }
+
     /**
      * Returns a data set for a moving average on the data set passed in.
      *
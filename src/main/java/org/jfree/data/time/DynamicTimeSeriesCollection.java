@@ -54,6 +54,12 @@
  *               getYValue() (DG);
  * 11-Jan-2004 : Removed deprecated code in preparation for the 1.0.0 
  *               release (DG);
+ * 18-Oct-2026 : Made the collection safe for a single writer and many
+ *               readers with a sequence lock, added createSnapshot(), and
+ *               track the value range with monotonic deques;
+ * 19-Oct-2026 : Readers never take the lock, the range is recalculated by
+ *               the writer, and added a flag to include zero in the
+ *               range;
  * 
  */
 
@@ -61,10 +67,13 @@ package org.jfree.data.time;
 
 import java.util.Calendar;
 import java.util.TimeZone;
+import java.util.concurrent.locks.StampedLock;
 
 import org.jfree.data.DomainInfo;
 import org.jfree.data.Range;
 import org.jfree.data.RangeInfo;
+import org.jfree.data.general.ConcurrentDataset;
+import org.jfree.data.general.Dataset;
 import org.jfree.data.general.SeriesChangeEvent;
 import org.jfree.data.xy.AbstractIntervalXYDataset;
 import org.jfree.data.xy.IntervalXYDataset;
@@ -78,15 +87,37 @@ import org.jfree.data.xy.IntervalXYDataset;
  * real-time applications this subclass adds the ability to append new
  * data and discard the oldest.
  * In this class, the arrays used in FastTimeSeriesCollection become FIFO's.
- * NOTE:As presented here, all data is assumed >= 0, an assumption which is
- * embodied only in methods associated with interface RangeInfo.
+ * <p>
+ * The collection can be updated by one thread (for example, a thread that
+ * receives the data from a feed) while other threads read it.  The methods
+ * that modify the data hold a write lock for a short time, and the methods
+ * that read the data use optimistic reads of the same lock (a sequence 
+ * lock), retrying if a write happened in the meantime, so they never block
+ * the writer.  Each item that is read is consistent, and 
+ * {@link #createSnapshot()} returns a consistent copy of the whole 
+ * collection, which {@link org.jfree.chart.plot.XYPlot} uses when it draws
+ * the data.
+ * <p>
+ * The value range (for the {@link RangeInfo} interface) is kept up to date
+ * in amortized constant time when data is added with 
+ * {@link #advanceTime()} and {@link #appendData(float[])}.  Writing to any
+ * other time period causes the range to be recalculated by the writer, 
+ * before it sends its next change event.  By default the range includes 
+ * zero, as it always did; see {@link #setRangeIncludesZero(boolean)}.
+ * <p>
+ * For a live display, an {@link org.jfree.data.general.EventThrottle} can be
+ * set with {@link #setEventThrottle(org.jfree.data.general.EventThrottle)}, 
+ * so that the change events sent by {@link #advanceTime()} and 
+ * {@link #appendData(float[])} reach the chart no more often than the 
+ * display can be refreshed.
  *
  * @author Irv Thomae.
  */
 public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
                                          implements IntervalXYDataset,
                                                     DomainInfo,
-                                                    RangeInfo {
+                                                    RangeInfo,
+                                                    ConcurrentDataset {
 
     /** 
      * Useful constant for controlling the x-value returned for a time 
@@ -191,10 +222,16 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
     private boolean domainIsPointsInTime;
 
     /** index for mapping: points to the oldest valid time & data. */
-    private int oldestAt;  // as a class variable, initializes == 0
+    private volatile int oldestAt;  // as a class variable, initializes == 0
 
     /** Index of the newest data item. */
-    private int newestAt;
+    private volatile int newestAt;
+
+    /** 
+     * The lock that is held by the writer while the data is modified, and 
+     * that readers validate their optimistic reads against. 
+     */
+    private StampedLock lock = new StampedLock();
 
     // cached values used for interface DomainInfo:
 
@@ -202,25 +239,149 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
     private long deltaTime;
 
     /** Cached domain start (for use by DomainInfo). */
-    private Long domainStart;
+    private volatile Long domainStart;
 
     /** Cached domain end (for use by DomainInfo). */
-    private Long domainEnd;
+    private volatile Long domainEnd;
 
     /** Cached domain range (for use by DomainInfo). */
-    private Range domainRange;
+    private volatile Range domainRange;
 
-    // Cached values used for interface RangeInfo: (note minValue pinned at 0)
+    // Cached values used for interface RangeInfo:
     //   A single set of extrema covers the entire SeriesCollection
 
-    /** The minimum value. */
-    private Float minValue = new Float(0.0f);
+    /** 
+     * The value range (<code>null</code> if it needs to be recalculated).  
+     * This is replaced by the writer after each change. 
+     */
+    private volatile Range valueRange;  // autoinit's to null.
+
+    /** 
+     * A flag that indicates whether the extrema deques and slot values are
+     * up to date. 
+     */
+    private volatile boolean extremaValid;
+
+    /** A flag that controls whether or not the value range includes zero. */
+    private volatile boolean rangeIncludesZero = true;
+
+    /** 
+     * The most recent snapshot (<code>null</code> until one is created), 
+     * which is returned if the writer keeps a new one from being copied.
+     */
+    private transient volatile Dataset lastSnapshot;
+
+    /** 
+     * The largest value (over all series) in each time period except the
+     * newest, which is still being written. 
+     */
+    private float[] slotMaximum;
+
+    /** The smallest value (over all series) in each time period. */
+    private float[] slotMinimum;
+
+    /** The candidates for the maximum value, oldest first. */
+    private MonotonicDeque maxDeque;
+
+    /** The candidates for the minimum value, oldest first. */
+    private MonotonicDeque minDeque;
+
+    /**
+     * A double-ended queue of time periods (array indices) for finding the
+     * maximum (or minimum) of a sliding window.  The values of the periods 
+     * in the queue decrease (or increase) from front to back, so the front
+     * of the queue is always the extreme value.  Each period is added and
+     * removed at most once, so the cost is amortized constant time per 
+     * period.
+     */
+    private static class MonotonicDeque {
+
+        /** The values of the periods. */
+        private float[] values;
+
+        /** 
+         * A flag that indicates whether the queue finds the maximum 
+         * (<code>true</code>) or the minimum (<code>false</code>). 
+         */
+        private boolean maximum;
+
+        /** Storage for the periods (a circular buffer). */
+        private int[] periods;
+
+        /** The position of the front of the queue. */
+        private int head;
+
+        /** The number of periods in the queue. */
+        private int count;
+
+        /**
+         * Creates a new queue.
+         *
+         * @param values  the values of the periods.
+         * @param maximum  find the maximum (<code>true</code>) or the minimum
+         *                 (<code>false</code>).
+         */
+        MonotonicDeque(float[] values, boolean maximum) {
+            this.values = values;
+            this.maximum = maximum;
+            this.periods = new int[values.length];
+        }
+
+        /**
+         * Removes all the periods.
+         */
+        void clear() {
+            this.head = 0;
+            this.count = 0;
+        }
+
+        /**
+         * Adds a period at the back of the window, first removing any periods
+         * that can no longer be the extreme value.
+         *
+         * @param period  the period (array index).
+         */
+        void add(int period) {
+            float value = this.values[period];
+            while (this.count > 0) {
+                int last = this.periods[(this.head + this.count - 1) 
+                        % this.periods.length];
+                float v = this.values[last];
+                if (this.maximum ? v > value : v < value) {
+                    break;
+                }
+                this.count--;
+            }
+            this.periods[(this.head + this.count) % this.periods.length] 
+                    = period;
+            this.count++;
+        }
+
+        /**
+         * Removes a period that has left the front of the window.
+         *
+         * @param period  the period (array index).
+         */
+        void expire(int period) {
+            if (this.count > 0 && this.periods[this.head] == period) {
+                this.head = (this.head + 1) % this.periods.length;
+                this.count--;
+            }
+        }
 
-    /** The maximum value. */
-    private Float maxValue = null;
+        /**
+         * Returns the extreme value in the window.
+         *
+         * @return The value (<code>NaN</code> if the window is empty).
+         */
+        float getValue() {
+            if (this.count == 0) {
+                return Float.NaN;
+            }
+            return this.values[this.periods[this.head]];
+        }
 
-    /** The value range. */
-    private Range valueRange;  // autoinit's to null.
+    }
 
     /**
      * Constructs a dataset with capacity for N series, tied to default 
@@ -301,6 +462,10 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
         this.workingCalendar = Calendar.getInstance(zone);
         this.position = START;
         this.domainIsPointsInTime = true;
+        this.slotMaximum = new float[nMoments];
+        this.slotMinimum = new float[nMoments];
+        this.maxDeque = new MonotonicDeque(this.slotMaximum, true);
+        this.minDeque = new MonotonicDeque(this.slotMinimum, false);
     }
 
     /**
@@ -314,41 +479,54 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
      *
      * @return ??.
      */
-    public synchronized long setTimeBase(RegularTimePeriod start) {
-
-        if (this.pointsInTime[0] == null) {
-            this.pointsInTime[0] = start;
-            for (int i = 1; i < this.historyCount; i++) {
-                this.pointsInTime[i] = this.pointsInTime[i - 1].next();
+    public long setTimeBase(RegularTimePeriod start) {
+
+        long stamp = this.lock.writeLock();
+        try {
+            if (this.pointsInTime[0] == null) {
+                this.pointsInTime[0] = start;
+                for (int i = 1; i < this.historyCount; i++) {
+                    this.pointsInTime[i] = this.pointsInTime[i - 1].next();
+                }
             }
+            synchronized (this.workingCalendar) {
+                long oldestL = this.pointsInTime[0].getFirstMillisecond(
+                    this.workingCalendar
+                );
+                long nextL = this.pointsInTime[1].getFirstMillisecond(
+                    this.workingCalendar
+                );
+                this.deltaTime = nextL - oldestL;
+            }
+            this.oldestAt = 0;
+            this.newestAt = this.historyCount - 1;
+            findDomainLimits();
+            rebuildRangeInfo();
+        }
+        finally {
+            this.lock.unlockWrite(stamp);
         }
-        long oldestL = this.pointsInTime[0].getFirstMillisecond(
-            this.workingCalendar
-        );
-        long nextL = this.pointsInTime[1].getFirstMillisecond(
-            this.workingCalendar
-        );
-        this.deltaTime = nextL - oldestL;
-        this.oldestAt = 0;
-        this.newestAt = this.historyCount - 1;
-        findDomainLimits();
         return this.deltaTime;
 
     }
 
     /**
-     * Finds the domain limits.  Note: this doesn't need to be synchronized 
+     * Finds the domain limits.  Note: this doesn't need to be locked 
      * because it's called from within another method that already is.
      */
     protected void findDomainLimits() {
 
-        long startL = getOldestTime().getFirstMillisecond(this.workingCalendar);
+        long startL;
         long endL;
-        if (this.domainIsPointsInTime) {
-            endL = getNewestTime().getFirstMillisecond(this.workingCalendar);
-        }
-        else {
-            endL = getNewestTime().getLastMillisecond(this.workingCalendar);
+        synchronized (this.workingCalendar) {
+            startL = getOldestTime().getFirstMillisecond(this.workingCalendar);
+            if (this.domainIsPointsInTime) {
+                endL = getNewestTime().getFirstMillisecond(
+                        this.workingCalendar);
+            }
+            else {
+                endL = getNewestTime().getLastMillisecond(this.workingCalendar);
+            }
         }
         this.domainStart = new Long(startL);
         this.domainEnd = new Long(endL);
@@ -382,13 +560,10 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
      * @param seriesNumber  the series index (zero-based).
      * @param seriesKey  the series key.
      *
-     * Use this as-is during setup only, or add the synchronized keyword around 
-     * the copy loop.
      */
     public void addSeries(float[] values,
                           int seriesNumber, Comparable seriesKey) {
 
-        invalidateRangeInfo();
         int i;
         if (values == null) {
             throw new IllegalArgumentException("TimeSeriesDataset.addSeries(): "
@@ -398,34 +573,41 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
             throw new IllegalArgumentException("TimeSeriesDataset.addSeries(): "
                 + "cannot add more series than specified in c'tor");
         }
-        if (this.valueHistory[seriesNumber] == null) {
-            this.valueHistory[seriesNumber] 
-                = new ValueSequence(this.historyCount);
-            this.seriesCount++;
-        }   
-        // But if that series array already exists, just overwrite its contents
-
-        // Avoid IndexOutOfBoundsException:
-        int srcLength = values.length;
-        int copyLength = this.historyCount;
-        boolean fillNeeded = false;
-        if (srcLength < this.historyCount) {
-            fillNeeded = true;
-            copyLength = srcLength;
-        }
-        //{
-        for (i = 0; i < copyLength; i++) { // deep copy from values[], caller 
-                                           // can safely discard that array
-            this.valueHistory[seriesNumber].enterData(i, values[i]);
-        }
-        if (fillNeeded) {
-            for (i = copyLength; i < this.historyCount; i++) {
-                this.valueHistory[seriesNumber].enterData(i, 0.0f);
+        long stamp = this.lock.writeLock();
+        try {
+            invalidateRangeInfo();
+            if (this.valueHistory[seriesNumber] == null) {
+                this.valueHistory[seriesNumber] 
+                    = new ValueSequence(this.historyCount);
+                this.seriesCount++;
+            }   
+            // But if that series array already exists, just overwrite its 
+            // contents
+
+            // Avoid IndexOutOfBoundsException:
+            int srcLength = values.length;
+            int copyLength = this.historyCount;
+            boolean fillNeeded = false;
+            if (srcLength < this.historyCount) {
+                fillNeeded = true;
+                copyLength = srcLength;
+            }
+            for (i = 0; i < copyLength; i++) { // deep copy from values[], 
+                                               // caller can safely discard 
+                                               // that array
+                this.valueHistory[seriesNumber].enterData(i, values[i]);
+            }
+            if (fillNeeded) {
+                for (i = copyLength; i < this.historyCount; i++) {
+                    this.valueHistory[seriesNumber].enterData(i, 0.0f);
+                }
+            }
+            if (seriesKey != null) {
+                this.seriesKeys[seriesNumber] = seriesKey;
             }
         }
-      //}
-        if (seriesKey != null) {
-            this.seriesKeys[seriesNumber] = seriesKey;
+        finally {
+            this.lock.unlockWrite(stamp);
         }
         fireSeriesChanged();
 
@@ -450,23 +632,28 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
      */
     public void addValue(int seriesNumber, int index, float value) {
 
-        invalidateRangeInfo();
         if (seriesNumber >= this.valueHistory.length) {
             throw new IllegalArgumentException(
                 "TimeSeriesDataset.addValue(): series #"
                 + seriesNumber + "unspecified in c'tor"
             );
         }
-        if (this.valueHistory[seriesNumber] == null) {
-            this.valueHistory[seriesNumber] 
-                = new ValueSequence(this.historyCount);
-            this.seriesCount++;
-        }  
-        // But if that series array already exists, just overwrite its contents
-        //synchronized(this)
-        //{
+        long stamp = this.lock.writeLock();
+        try {
+            if (this.valueHistory[seriesNumber] == null) {
+                this.valueHistory[seriesNumber] 
+                    = new ValueSequence(this.historyCount);
+                this.seriesCount++;
+                invalidateRangeInfo();
+            }  
+            // But if that series array already exists, just overwrite its 
+            // contents
             this.valueHistory[seriesNumber].enterData(index, value);
-        //}
+            updateRangeInfo(index);
+        }
+        finally {
+            this.lock.unlockWrite(stamp);
+        }
         fireSeriesChanged();
     }
 
@@ -561,65 +748,214 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
      *
      * @return The new time period.
      */
-    public synchronized RegularTimePeriod advanceTime() {
-        RegularTimePeriod nextInstant = this.pointsInTime[this.newestAt].next();
-        this.newestAt = this.oldestAt;  // newestAt takes value previously held 
-                                        // by oldestAT
-        /*** 
-         * The next 10 lines or so should be expanded if data can be negative 
-         ***/
-        // if the oldest data contained a maximum Y-value, invalidate the stored
-        //   Y-max and Y-range data:
-        boolean extremaChanged = false;
-        float oldMax = 0.0f;
-        if (this.maxValue != null) {
-            oldMax = this.maxValue.floatValue();
-        }
-        for (int s = 0; s < getSeriesCount(); s++) {
-            if (this.valueHistory[s].getData(this.oldestAt) == oldMax) {
-                extremaChanged = true;
+    public RegularTimePeriod advanceTime() {
+        RegularTimePeriod nextInstant;
+        long stamp = this.lock.writeLock();
+        try {
+            nextInstant = this.pointsInTime[this.newestAt].next();
+            // the newest period is complete, so it joins the window used for
+            // the extrema, and the oldest period leaves it
+            if (this.extremaValid) {
+                closePeriod(this.newestAt);
+                this.maxDeque.expire(this.oldestAt);
+                this.minDeque.expire(this.oldestAt);
             }
-            if (extremaChanged) {
-                break;
+            int newest = this.oldestAt;  // newestAt takes value previously 
+                                         // held by oldestAT
+            //  wipe the next (about to be used) set of data slots
+            float wiper = (float) 0.0;
+            for (int s = 0; s < getSeriesCount(); s++) {
+                this.valueHistory[s].enterData(newest, wiper);
             }
-        }  /*** If data can be < 0, add code here to check the minimum    **/
-        if (extremaChanged) {
-            invalidateRangeInfo();
-        }
-        //  wipe the next (about to be used) set of data slots
-        float wiper = (float) 0.0;
-        for (int s = 0; s < getSeriesCount(); s++) {
-            this.valueHistory[s].enterData(this.newestAt, wiper);
+            // Update the array of TimePeriods:
+            this.pointsInTime[newest] = nextInstant;
+            // Now advance "oldestAt", wrapping at end of the array
+            int oldest = newest + 1;
+            if (oldest >= this.historyCount) {
+                oldest = 0;
+            }
+            this.newestAt = newest;
+            this.oldestAt = oldest;
+            // Update the domain limits:
+            long startL = this.domainStart.longValue();  //(time is kept in 
+                                                         // msec)
+            this.domainStart = new Long(startL + this.deltaTime);
+            long endL = this.domainEnd.longValue();
+            this.domainEnd = new Long(endL + this.deltaTime);
+            this.domainRange = new Range(startL, endL);
+            publishRangeInfo();
         }
-        // Update the array of TimePeriods:
-        this.pointsInTime[this.newestAt] = nextInstant;
-        // Now advance "oldestAt", wrapping at end of the array
-        this.oldestAt++;
-        if (this.oldestAt >= this.historyCount) {
-            this.oldestAt = 0;
+        finally {
+            this.lock.unlockWrite(stamp);
         }
-        // Update the domain limits:
-        long startL = this.domainStart.longValue();  //(time is kept in msec)
-        this.domainStart = new Long(startL + this.deltaTime);
-        long endL = this.domainEnd.longValue();
-        this.domainEnd = new Long(endL + this.deltaTime);
-        this.domainRange = new Range(startL, endL);
         fireSeriesChanged();
         return nextInstant;
     }
 
-    //  If data can be < 0, the next 2 methods should be modified
-
     /**
-     * Invalidates the range info.
+     * Invalidates the range info, so that it is recalculated (by the writer)
+     * before the next change event is sent.  Until then, the previous range
+     * is reported.
      */
     public void invalidateRangeInfo() {
-        this.maxValue = null;
-        this.valueRange = null;
+        this.extremaValid = false;
+    }
+
+    /**
+     * Returns the flag that controls whether or not the value range always
+     * includes zero.  The default is <code>true</code>, which matches the 
+     * range reported before the true minimum was tracked.
+     *
+     * @return A boolean.
+     */
+    public boolean getRangeIncludesZero() {
+        return this.rangeIncludesZero;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the value range always
+     * includes zero, and sends a change event to all registered listeners.
+     * Set it to <code>false</code> to report the true minimum and maximum.
+     *
+     * @param flag  the flag.
+     */
+    public void setRangeIncludesZero(boolean flag) {
+        long stamp = this.lock.writeLock();
+        try {
+            this.rangeIncludesZero = flag;
+            publishRangeInfo();
+        }
+        finally {
+            this.lock.unlockWrite(stamp);
+        }
+        fireSeriesChanged();
+    }
+
+    /**
+     * Updates the range info after a value is written to a time period.  
+     * Only the newest period can change without recalculating the range.  
+     * The caller must hold the write lock.
+     *
+     * @param index  the array index of the time period.
+     */
+    private void updateRangeInfo(int index) {
+        if (index == this.newestAt) {
+            publishRangeInfo();
+        }
+        else {
+            invalidateRangeInfo();
+        }
+    }
+
+    /**
+     * Records the largest and smallest values in a time period that is 
+     * complete, and adds the period to the back of the extrema deques.  The
+     * caller must hold the write lock.
+     *
+     * @param index  the array index of the time period.
+     */
+    private void closePeriod(int index) {
+        float max = Float.NaN;
+        float min = Float.NaN;
+        for (int s = 0; s < this.seriesCount; s++) {
+            if (this.valueHistory[s] != null) {
+                float value = this.valueHistory[s].getData(index);
+                if (Float.isNaN(value)) {
+                    continue;
+                }
+                if (Float.isNaN(max) || value > max) {
+                    max = value;
+                }
+                if (Float.isNaN(min) || value < min) {
+                    min = value;
+                }
+            }
+        }
+        this.slotMaximum[index] = max;
+        this.slotMinimum[index] = min;
+        if (!Float.isNaN(max)) {
+            this.maxDeque.add(index);
+            this.minDeque.add(index);
+        }
+    }
+
+    /**
+     * Replaces the published value range, using the extrema deques for the
+     * complete time periods and a scan of the newest period.  The caller 
+     * must hold the write lock.
+     */
+    private void publishRangeInfo() {
+        if (!this.extremaValid) {
+            rebuildRangeInfo();
+            return;
+        }
+        float max = this.maxDeque.getValue();
+        float min = this.minDeque.getValue();
+        for (int s = 0; s < this.seriesCount; s++) {
+            if (this.valueHistory[s] != null) {
+                float value = this.valueHistory[s].getData(this.newestAt);
+                if (Float.isNaN(value)) {
+                    continue;
+                }
+                if (Float.isNaN(max) || value > max) {
+                    max = value;
+                }
+                if (Float.isNaN(min) || value < min) {
+                    min = value;
+                }
+            }
+        }
+        this.valueRange = createRange(min, max, this.rangeIncludesZero);
+    }
+
+    /**
+     * Creates a value range.
+     *
+     * @param min  the minimum value (<code>NaN</code> if there is no data).
+     * @param max  the maximum value (<code>NaN</code> if there is no data).
+     * @param includeZero  extend the range to include zero?
+     *
+     * @return The range (<code>null</code> if there is no data).
+     */
+    private static Range createRange(float min, float max, 
+                                     boolean includeZero) {
+        if (Float.isNaN(max)) {
+            return null;
+        }
+        if (includeZero) {
+            return new Range(Math.min(min, 0.0f), Math.max(max, 0.0f));
+        }
+        return new Range(min, max);
+    }
+
+    /**
+     * Recalculates the extrema deques from all the data, and publishes the
+     * value range.  The caller must hold the write lock.
+     */
+    private void rebuildRangeInfo() {
+        this.maxDeque.clear();
+        this.minDeque.clear();
+        int index = this.oldestAt;
+        for (int i = 0; i < this.historyCount - 1; i++) {
+            closePeriod(index);
+            index = wrapOffset(index + 1);
+        }
+        this.extremaValid = true;
+        publishRangeInfo();
     }
 
     /**
-     * Returns the maximum value.
+     * Returns the value range.  This never takes the lock: the range is
+     * published by the writer.
+     *
+     * @return The range (possibly <code>null</code>).
+     */
+    private Range getValueRange() {
+        return this.valueRange;
+    }
+
+    /**
+     * Returns the maximum value, by scanning all the data.
      *
      * @return The maximum value.
      */
@@ -636,8 +972,6 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
         return max;
     }
 
-    /** End, positive-data-only code  **/
-
     /**
      * Returns the index of the oldest data item.
      *
@@ -670,14 +1004,22 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
                "More data than series to put them in"
             );
         }
-        int s;   // index to select the "series"
-        for (s = 0; s < nDataPoints; s++) {
-            // check whether the "valueHistory" array member exists; if not, 
-            // create them:
-            if (this.valueHistory[s] == null) {
-                this.valueHistory[s] = new ValueSequence(this.historyCount);
+        long stamp = this.lock.writeLock();
+        try {
+            int s;   // index to select the "series"
+            for (s = 0; s < nDataPoints; s++) {
+                // check whether the "valueHistory" array member exists; if 
+                // not, create them:
+                if (this.valueHistory[s] == null) {
+                    this.valueHistory[s] = new ValueSequence(
+                            this.historyCount);
+                }
+                this.valueHistory[s].enterData(this.newestAt, newData[s]);
             }
-            this.valueHistory[s].enterData(this.newestAt, newData[s]);
+            publishRangeInfo();
+        }
+        finally {
+            this.lock.unlockWrite(stamp);
         }
         fireSeriesChanged();
     }
@@ -697,11 +1039,19 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
                  "More data than series to put them " + "in"
              );
          }
-         for (int s = 0; s < nDataPoints; s++) {
-             if (this.valueHistory[s] == null) {
-                this.valueHistory[s] = new ValueSequence(this.historyCount);
+         long stamp = this.lock.writeLock();
+         try {
+             for (int s = 0; s < nDataPoints; s++) {
+                 if (this.valueHistory[s] == null) {
+                    this.valueHistory[s] = new ValueSequence(
+                            this.historyCount);
+                 }
+                 this.valueHistory[s].enterData(insertionIndex, newData[s]);
              }
-             this.valueHistory[s].enterData(insertionIndex, newData[s]);
+             updateRangeInfo(insertionIndex);
+         }
+         finally {
+             this.lock.unlockWrite(stamp);
          }
          if (refresh > 0) {
              insertionIndex++;
@@ -738,12 +1088,31 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
      * @return The value.
      */
     // getXxx() ftns can ignore the "series" argument:
-    // Don't synchronize this!! Instead, synchronize the loop that calls it.
+    // Don't lock this!! Readers use an optimistic read instead.
     public Number getX(int series, int item) {
-        RegularTimePeriod tp = this.pointsInTime[translateGet(item)];
+        RegularTimePeriod tp = getTimePeriod(item);
         return new Long(getX(tp));
     }
 
+    /**
+     * Returns the time period for an item, using an optimistic read that is
+     * retried if the data is modified while it is read.
+     *
+     * @param item  the item index (zero-based).
+     *
+     * @return The time period.
+     */
+    private RegularTimePeriod getTimePeriod(int item) {
+        long stamp = this.lock.tryOptimisticRead();
+        RegularTimePeriod result = this.pointsInTime[translateGet(item)];
+        while (!this.lock.validate(stamp)) {
+            Thread.yield();
+            stamp = this.lock.tryOptimisticRead();
+            result = this.pointsInTime[translateGet(item)];
+        }
+        return result;
+    }
+
     /**
      * Returns the y-value.
      *
@@ -753,10 +1122,17 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
      * @return The value.
      */
     public double getYValue(int series, int item) {  
-        // Don't synchronize this!!
-        // Instead, synchronize the loop that calls it.
+        // Don't lock this!!
+        // Instead, retry the read if the writer modified the data meanwhile.
         ValueSequence values = this.valueHistory[series];
-        return values.getData(translateGet(item)); 
+        long stamp = this.lock.tryOptimisticRead();
+        float result = values.getData(translateGet(item));
+        while (!this.lock.validate(stamp)) {
+            Thread.yield();
+            stamp = this.lock.tryOptimisticRead();
+            result = values.getData(translateGet(item));
+        }
+        return result; 
     }
 
     /**
@@ -780,8 +1156,10 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
      * @return The value.
      */
     public Number getStartX(int series, int item) {
-        RegularTimePeriod tp = this.pointsInTime[translateGet(item)];
-        return new Long(tp.getFirstMillisecond(this.workingCalendar));
+        RegularTimePeriod tp = getTimePeriod(item);
+        synchronized (this.workingCalendar) {
+            return new Long(tp.getFirstMillisecond(this.workingCalendar));
+        }
     }
 
     /**
@@ -793,8 +1171,10 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
      * @return The value.
      */
     public Number getEndX(int series, int item) {
-        RegularTimePeriod tp = this.pointsInTime[translateGet(item)];
-        return new Long(tp.getLastMillisecond(this.workingCalendar));
+        RegularTimePeriod tp = getTimePeriod(item);
+        synchronized (this.workingCalendar) {
+            return new Long(tp.getLastMillisecond(this.workingCalendar));
+        }
     }
 
     /**
@@ -844,9 +1224,22 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
     }
 
     /**
-     * Sends a {@link SeriesChangeEvent} to all registered listeners.
+     * Sends a {@link SeriesChangeEvent} to all registered listeners (through
+     * the event throttle, if there is one).  If the range info is out of 
+     * date, it is recalculated first, on the calling (writer) thread.
      */
     protected void fireSeriesChanged() {
+        if (!this.extremaValid) {
+            long stamp = this.lock.writeLock();
+            try {
+                if (!this.extremaValid) {
+                    rebuildRangeInfo();
+                }
+            }
+            finally {
+                this.lock.unlockWrite(stamp);
+            }
+        }
         seriesChanged(new SeriesChangeEvent(this));
     }
 
@@ -904,23 +1297,38 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
      * @return The x-value.
      */
     private long getX(RegularTimePeriod period) {
-        switch (this.position) {
+        synchronized (this.workingCalendar) {
+            return getX(period, this.position, this.workingCalendar);
+        }
+    }
+
+    /**
+     * Returns the x-value for a time period.
+     *
+     * @param period  the period.
+     * @param position  the position within the period (START, MIDDLE or 
+     *                  END).
+     * @param calendar  the calendar.
+     *
+     * @return The x-value.
+     */
+    private static long getX(RegularTimePeriod period, int position, 
+                             Calendar calendar) {
+        switch (position) {
             case (START) : 
-                return period.getFirstMillisecond(this.workingCalendar);
+                return period.getFirstMillisecond(calendar);
             case (MIDDLE) : 
-                return period.getMiddleMillisecond(this.workingCalendar);
+                return period.getMiddleMillisecond(calendar);
             case (END) : 
-                return period.getLastMillisecond(this.workingCalendar);
+                return period.getLastMillisecond(calendar);
             default: 
-                return period.getMiddleMillisecond(this.workingCalendar);
+                return period.getMiddleMillisecond(calendar);
         }
      }
 
     // The next 3 functions implement the RangeInfo interface.
-    // Using saved limits (updated by each updateTime() call) significantly
-    // improves performance.  WARNING: this code makes the simplifying 
-    // assumption that data is never negative.  Expand as needed for the 
-    // general case.
+    // Using saved limits (updated by each advanceTime() call) significantly
+    // improves performance.
 
     /**
      * Returns the minimum range value.
@@ -932,8 +1340,9 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
      */
     public double getRangeLowerBound(boolean includeInterval) {
         double result = Double.NaN;
-        if (this.minValue != null) {
-            result = this.minValue.doubleValue();
+        Range range = getValueRange();
+        if (range != null) {
+            result = range.getLowerBound();
         }
         return result;
     }
@@ -948,8 +1357,9 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
      */
     public double getRangeUpperBound(boolean includeInterval) {
         double result = Double.NaN;
-        if (this.maxValue != null) {
-            result = this.maxValue.doubleValue();
+        Range range = getValueRange();
+        if (range != null) {
+            result = range.getUpperBound();
         }
         return result;
     }
@@ -960,14 +1370,371 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
      * @param includeInterval  a flag that determines whether or not the
      *                         y-interval is taken into account.
      * 
-     * @return The range.
+     * @return The range (possibly <code>null</code>).
      */
     public Range getRangeBounds(boolean includeInterval) {
-        if (this.valueRange == null) {
-            double max = getRangeUpperBound(includeInterval);
-            this.valueRange = new Range(0.0, max);
+        return getValueRange();
+    }
+
+    /**
+     * Returns a copy of the current contents of the collection that will not
+     * change.  The copy is made with an optimistic read, which is retried if
+     * the data is modified meanwhile.  The lock is never taken, so the 
+     * writer is not blocked.  If a busy writer spoils a few attempts in a 
+     * row, the previous snapshot is returned instead (it is slightly out of 
+     * date, but consistent).
+     *
+     * @return The snapshot (an {@link IntervalXYDataset} that also 
+     *         implements {@link DomainInfo} and {@link RangeInfo}).
+     */
+    public Dataset createSnapshot() {
+        for (int attempt = 0; ; attempt++) {
+            long stamp = this.lock.tryOptimisticRead();
+            if (stamp != 0L) {
+                Snapshot result;
+                try {
+                    result = copyData();
+                }
+                catch (RuntimeException e) {
+                    // the arrays were changed during the copy
+                    result = null;
+                }
+                if (result != null && this.lock.validate(stamp)) {
+                    this.lastSnapshot = result;
+                    return result;
+                }
+            }
+            Dataset last = this.lastSnapshot;
+            if (attempt >= 3 && last != null) {
+                return last;
+            }
+            Thread.yield();
         }
-        return this.valueRange;
     }
-    
+
+    /**
+     * Copies the data into a new snapshot.  The result is only consistent if
+     * no write happens during the copy.
+     *
+     * @return The snapshot.
+     */
+    private Snapshot copyData() {
+        int seriesCount = Math.min(this.seriesCount, this.valueHistory.length);
+        int count = this.historyCount;
+        int oldest = this.oldestAt;
+        int tail = count - oldest;
+        Comparable[] keys = new Comparable[seriesCount];
+        System.arraycopy(this.seriesKeys, 0, keys, 0, seriesCount);
+        float[][] values = new float[seriesCount][count];
+        for (int s = 0; s < seriesCount; s++) {
+            ValueSequence sequence = this.valueHistory[s];
+            if (sequence != null) {
+                System.arraycopy(sequence.dataPoints, oldest, values[s], 0, 
+                        tail);
+                System.arraycopy(sequence.dataPoints, 0, values[s], tail, 
+                        oldest);
+            }
+        }
+        RegularTimePeriod[] periods = new RegularTimePeriod[count];
+        System.arraycopy(this.pointsInTime, oldest, periods, 0, tail);
+        System.arraycopy(this.pointsInTime, 0, periods, tail, oldest);
+        Calendar calendar;
+        synchronized (this.workingCalendar) {
+            calendar = (Calendar) this.workingCalendar.clone();
+        }
+        Range domain = null;
+        Long start = this.domainStart;
+        Long end = this.domainEnd;
+        if (start != null && end != null) {
+            domain = new Range(start.doubleValue(), end.doubleValue());
+        }
+        return new Snapshot(keys, values, periods, calendar, this.position, 
+                domain, this.extremaValid ? this.valueRange : null, 
+                this.rangeIncludesZero);
+    }
+
+    /**
+     * A copy of the contents of a {@link DynamicTimeSeriesCollection}, 
+     * ordered from the oldest item to the newest.
+     */
+    private static class Snapshot extends AbstractIntervalXYDataset 
+                                  implements DomainInfo, RangeInfo {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 2880547432863744315L;
+
+        /** The series keys. */
+        private Comparable[] keys;
+
+        /** The values for each series. */
+        private float[][] values;
+
+        /** The time periods. */
+        private RegularTimePeriod[] periods;
+
+        /** A calendar that is used only by this snapshot. */
+        private Calendar calendar;
+
+        /** The position within a time period to return as the x-value. */
+        private int position;
+
+        /** The domain range (<code>null</code> if unknown). */
+        private Range domainRange;
+
+        /** The value range (<code>null</code> until calculated). */
+        private Range valueRange;
+
+        /** A flag that controls whether or not the value range includes 0. */
+        private boolean rangeIncludesZero;
+
+        /**
+         * Creates a new snapshot.
+         *
+         * @param keys  the series keys.
+         * @param values  the values for each series.
+         * @param periods  the time periods.
+         * @param calendar  the calendar (not shared).
+         * @param position  the position within a time period to return as
+         *                  the x-value.
+         * @param domainRange  the domain range (<code>null</code> permitted).
+         * @param valueRange  the value range (<code>null</code> permitted).
+         * @param rangeIncludesZero  include zero in the value range?
+         */
+        Snapshot(Comparable[] keys, float[][] values, 
+                 RegularTimePeriod[] periods, Calendar calendar, int position,
+                 Range domainRange, Range valueRange, 
+                 boolean rangeIncludesZero) {
+            this.keys = keys;
+            this.values = values;
+            this.periods = periods;
+            this.calendar = calendar;
+            this.position = position;
+            this.domainRange = domainRange;
+            this.valueRange = valueRange;
+            this.rangeIncludesZero = rangeIncludesZero;
+        }
+
+        /**
+         * Returns the number of series.
+         *
+         * @return The series count.
+         */
+        public int getSeriesCount() {
+            return this.keys.length;
+        }
+
+        /**
+         * Returns the key for a series.
+         *
+         * @param series  the series index (zero-based).
+         *
+         * @return The key.
+         */
+        public Comparable getSeriesKey(int series) {
+            return this.keys[series];
+        }
+
+        /**
+         * Returns the number of items in a series.
+         *
+         * @param series  the series index (zero-based).
+         *
+         * @return The item count.
+         */
+        public int getItemCount(int series) {
+            return this.periods.length;
+        }
+
+        /**
+         * Returns the x-value.
+         *
+         * @param series  the series index (zero-based).
+         * @param item  the item index (zero-based).
+         *
+         * @return The value.
+         */
+        public Number getX(int series, int item) {
+            synchronized (this.calendar) {
+                return new Long(DynamicTimeSeriesCollection.getX(
+                        this.periods[item], this.position, this.calendar));
+            }
+        }
+
+        /**
+         * Returns the y-value.
+         *
+         * @param series  the series index (zero-based).
+         * @param item  the item index (zero-based).
+         *
+         * @return The value.
+         */
+        public double getYValue(int series, int item) {
+            return this.values[series][item];
+        }
+
+        /**
+         * Returns the y-value.
+         *
+         * @param series  the series index (zero-based).
+         * @param item  the item index (zero-based).
+         *
+         * @return The value.
+         */
+        public Number getY(int series, int item) {
+            return new Float(this.values[series][item]);
+        }
+
+        /**
+         * Returns the start x-value.
+         *
+         * @param series  the series index (zero-based).
+         * @param item  the item index (zero-based).
+         *
+         * @return The value.
+         */
+        public Number getStartX(int series, int item) {
+            synchronized (this.calendar) {
+                return new Long(
+                        this.periods[item].getFirstMillisecond(this.calendar));
+            }
+        }
+
+        /**
+         * Returns the end x-value.
+         *
+         * @param series  the series index (zero-based).
+         * @param item  the item index (zero-based).
+         *
+         * @return The value.
+         */
+        public Number getEndX(int series, int item) {
+            synchronized (this.calendar) {
+                return new Long(
+                        this.periods[item].getLastMillisecond(this.calendar));
+            }
+        }
+
+        /**
+         * Returns the start y-value.
+         *
+         * @param series  the series index (zero-based).
+         * @param item  the item index (zero-based).
+         *
+         * @return The value.
+         */
+        public Number getStartY(int series, int item) {
+            return getY(series, item);
+        }
+
+        /**
+         * Returns the end y-value.
+         *
+         * @param series  the series index (zero-based).
+         * @param item  the item index (zero-based).
+         *
+         * @return The value.
+         */
+        public Number getEndY(int series, int item) {
+            return getY(series, item);
+        }
+
+        /**
+         * Returns the minimum x-value in the dataset.
+         *
+         * @param includeInterval  a flag that determines whether or not the
+         *                         x-interval is taken into account.
+         * 
+         * @return The minimum value.
+         */
+        public double getDomainLowerBound(boolean includeInterval) {
+            Range range = getDomainBounds(includeInterval);
+            return range != null ? range.getLowerBound() : Double.NaN;
+        }
+
+        /**
+         * Returns the maximum x-value in the dataset.
+         *
+         * @param includeInterval  a flag that determines whether or not the
+         *                         x-interval is taken into account.
+         * 
+         * @return The maximum value.
+         */
+        public double getDomainUpperBound(boolean includeInterval) {
+            Range range = getDomainBounds(includeInterval);
+            return range != null ? range.getUpperBound() : Double.NaN;
+        }
+
+        /**
+         * Returns the range of the values in the dataset's domain.
+         *
+         * @param includeInterval  a flag that determines whether or not the
+         *                         x-interval is taken into account.
+         * 
+         * @return The range (possibly <code>null</code>).
+         */
+        public Range getDomainBounds(boolean includeInterval) {
+            return this.domainRange;
+        }
+
+        /**
+         * Returns the minimum range value.
+         *
+         * @param includeInterval  a flag that determines whether or not the
+         *                         y-interval is taken into account.
+         * 
+         * @return The minimum range value.
+         */
+        public double getRangeLowerBound(boolean includeInterval) {
+            Range range = getRangeBounds(includeInterval);
+            return range != null ? range.getLowerBound() : Double.NaN;
+        }
+
+        /**
+         * Returns the maximum range value.
+         *
+         * @param includeInterval  a flag that determines whether or not the
+         *                         y-interval is taken into account.
+         * 
+         * @return The maximum range value.
+         */
+        public double getRangeUpperBound(boolean includeInterval) {
+            Range range = getRangeBounds(includeInterval);
+            return range != null ? range.getUpperBound() : Double.NaN;
+        }
+
+        /**
+         * Returns the value range, calculating it the first time it is 
+         * needed.
+         *
+         * @param includeInterval  a flag that determines whether or not the
+         *                         y-interval is taken into account.
+         * 
+         * @return The range (possibly <code>null</code>).
+         */
+        public synchronized Range getRangeBounds(boolean includeInterval) {
+            if (this.valueRange == null) {
+                float min = Float.NaN;
+                float max = Float.NaN;
+                for (int s = 0; s < this.values.length; s++) {
+                    for (int i = 0; i < this.values[s].length; i++) {
+                        float value = this.values[s][i];
+                        if (Float.isNaN(value)) {
+                            continue;
+                        }
+                        if (Float.isNaN(max) || value > max) {
+                            max = value;
+                        }
+                        if (Float.isNaN(min) || value < min) {
+                            min = value;
+                        }
+                    }
+                }
+                this.valueRange = createRange(min, max, 
+                        this.rangeIncludesZero);
+            }
+            return this.valueRange;
+        }
+
+    }
+
 }
@@ -0,0 +1,328 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * LiveMovingAverage.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  JFreeChart contributors;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Keep NaN and infinite values out of the running sum;
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.io.Serializable;
+
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeListener;
+import org.jfree.util.ObjectUtilities;
+
+/**
+ * A moving average {@link TimeSeries} that is derived from a source series 
+ * and kept up to date as items are appended to the source.  Instances are 
+ * created via {@link MovingAverage#createLiveMovingAverage(TimeSeries, 
+ * String, int, int)}.
+ * <P>
+ * The items currently inside the averaging window are retained in a circular 
+ * buffer together with a running sum, so each item appended to the source 
+ * series is processed in constant (amortised) time.  Any other modification 
+ * that can be detected (for example, a change to the value of the most recent 
+ * item, or the removal of items from the middle of the source series) 
+ * triggers a full recalculation.  Changes to the values of older items cannot 
+ * be detected cheaply, so you should call {@link #recalculate()} after making 
+ * such changes.
+ */
+public class LiveMovingAverage implements SeriesChangeListener, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 4315642870361846911L;
+
+    /** The source series. */
+    private TimeSeries source;
+
+    /** The moving average series. */
+    private TimeSeries series;
+
+    /** The number of periods used in the average calculation. */
+    private int periodCount;
+
+    /** The number of initial periods to skip. */
+    private int skip;
+
+    /** The serial index of the first period to receive an average. */
+    private long firstSerial;
+
+    /** The serial indices of the periods in the window (circular buffer). */
+    private long[] windowSerials;
+
+    /** The values in the window (circular buffer). */
+    private double[] windowValues;
+
+    /** Flags for the non-<code>null</code> values in the window. */
+    private boolean[] windowPresent;
+
+    /** The buffer index of the oldest item in the window. */
+    private int windowStart;
+
+    /** The number of items in the window. */
+    private int windowSize;
+
+    /** The running sum of the non-<code>null</code> values in the window. */
+    private MovingSum sum;
+
+    /** The first item in the source series when last processed. */
+    private TimeSeriesDataItem firstItem;
+
+    /** The last item in the source series when last processed. */
+    private TimeSeriesDataItem lastItem;
+
+    /** The value of the last item when it was processed. */
+    private Number lastValue;
+
+    /** The number of items in the source series when last processed. */
+    private int lastCount;
+
+    /**
+     * Creates a new live moving average and registers it with the source 
+     * series.
+     *
+     * @param source  the source series (<code>null</code> not permitted).
+     * @param name  the name of the moving average series.
+     * @param periodCount  the number of periods used in the average 
+     *                     calculation.
+     * @param skip  the number of initial periods to skip.
+     */
+    public LiveMovingAverage(TimeSeries source, String name, int periodCount,
+                             int skip) {
+        if (source == null) {
+            throw new IllegalArgumentException("Null 'source' argument.");
+        }
+        if (periodCount < 1) {
+            throw new IllegalArgumentException(
+                "periodCount must be greater than or equal to 1."
+            );
+        }
+        this.source = source;
+        this.series = new TimeSeries(name, source.getTimePeriodClass());
+        this.series.setMaximumItemCount(source.getMaximumItemCount());
+        this.series.setMaximumItemAge(source.getMaximumItemAge());
+        this.periodCount = periodCount;
+        this.skip = skip;
+        int capacity = Math.min(periodCount, 64);
+        this.windowSerials = new long[capacity];
+        this.windowValues = new double[capacity];
+        this.windowPresent = new boolean[capacity];
+        this.sum = new MovingSum();
+        recalculate();
+        source.addChangeListener(this);
+    }
+
+    /**
+     * Returns the source series.
+     *
+     * @return The source series (never <code>null</code>).
+     */
+    public TimeSeries getSource() {
+        return this.source;
+    }
+
+    /**
+     * Returns the moving average series.  This series is updated whenever the
+     * source series changes, so it can be added directly to a 
+     * {@link TimeSeriesCollection}.
+     *
+     * @return The moving average series (never <code>null</code>).
+     */
+    public TimeSeries getSeries() {
+        return this.series;
+    }
+
+    /**
+     * Returns the number of periods used in the average calculation.
+     *
+     * @return The period count.
+     */
+    public int getPeriodCount() {
+        return this.periodCount;
+    }
+
+    /**
+     * Returns the number of initial periods that are skipped.
+     *
+     * @return The skip count.
+     */
+    public int getSkip() {
+        return this.skip;
+    }
+
+    /**
+     * Deregisters this object from the source series.  After this method is 
+     * called, the moving average series is no longer updated.
+     */
+    public void dispose() {
+        this.source.removeChangeListener(this);
+    }
+
+    /**
+     * Receives notification of a change to the source series.  Items that 
+     * have been appended since the last notification are processed 
+     * incrementally, any other change triggers a full recalculation.
+     *
+     * @param event  the event.
+     */
+    public void seriesChanged(SeriesChangeEvent event) {
+        int count = this.source.getItemCount();
+        if (count == 0 || this.lastItem == null) {
+            recalculate();
+            return;
+        }
+        int index = this.source.getIndex(this.lastItem.getPeriod());
+        boolean appendOnly = index >= 0
+            && this.source.getDataItem(index) == this.lastItem
+            && ObjectUtilities.equal(this.lastItem.getValue(), this.lastValue);
+        if (appendOnly && this.source.getDataItem(0) == this.firstItem) {
+            // nothing was removed from the front, so any change in the 
+            // position of the last item means the series was edited...
+            appendOnly = (index == this.lastCount - 1);
+        }
+        if (!appendOnly) {
+            recalculate();
+            return;
+        }
+        for (int i = index + 1; i < count; i++) {
+            append(this.source.getDataItem(i));
+        }
+        updateSnapshot();
+    }
+
+    /**
+     * Discards the current state and recalculates the moving average series 
+     * from the full source series.
+     */
+    public void recalculate() {
+        this.windowStart = 0;
+        this.windowSize = 0;
+        this.sum.clear();
+        boolean notify = this.series.getNotify();
+        this.series.setNotify(false);
+        this.series.clear();
+        int count = this.source.getItemCount();
+        if (count > 0) {
+            this.firstSerial = this.source.getDataItem(0).getPeriod()
+                .getSerialIndex() + this.skip;
+            for (int i = 0; i < count; i++) {
+                append(this.source.getDataItem(i));
+            }
+        }
+        updateSnapshot();
+        this.series.setNotify(notify);
+    }
+
+    /**
+     * Records the state of the source series after processing.
+     */
+    private void updateSnapshot() {
+        int count = this.source.getItemCount();
+        this.lastCount = count;
+        if (count > 0) {
+            this.firstItem = this.source.getDataItem(0);
+            this.lastItem = this.source.getDataItem(count - 1);
+            this.lastValue = this.lastItem.getValue();
+        }
+        else {
+            this.firstItem = null;
+            this.lastItem = null;
+            this.lastValue = null;
+        }
+    }
+
+    /**
+     * Adds an item to the window, drops the items that fall outside the 
+     * window and adds the resulting average to the moving average series.
+     *
+     * @param item  the item (<code>null</code> not permitted).
+     */
+    private void append(TimeSeriesDataItem item) {
+        RegularTimePeriod period = item.getPeriod();
+        long serial = period.getSerialIndex();
+        Number value = item.getValue();
+
+        if (this.windowSize == this.windowSerials.length) {
+            growWindow();
+        }
+        int slot = (this.windowStart + this.windowSize) 
+            % this.windowSerials.length;
+        this.windowSerials[slot] = serial;
+        this.windowPresent[slot] = (value != null);
+        if (value != null) {
+            double v = value.doubleValue();
+            this.windowValues[slot] = v;
+            this.sum.add(v);
+        }
+        this.windowSize++;
+
+        long serialLimit = serial - this.periodCount;
+        while (this.windowSerials[this.windowStart] <= serialLimit) {
+            if (this.windowPresent[this.windowStart]) {
+                this.sum.remove(this.windowValues[this.windowStart]);
+            }
+            this.windowStart = (this.windowStart + 1) 
+                % this.windowSerials.length;
+            this.windowSize--;
+        }
+        if (serial >= this.firstSerial) {
+            this.series.add(period, this.sum.getAverage());
+        }
+    }
+
+    /**
+     * Doubles the capacity of the window buffer, preserving its contents.
+     */
+    private void growWindow() {
+        int capacity = this.windowSerials.length;
+        int newCapacity = capacity * 2;
+        long[] serials = new long[newCapacity];
+        double[] values = new double[newCapacity];
+        boolean[] present = new boolean[newCapacity];
+        for (int i = 0; i < this.windowSize; i++) {
+            int slot = (this.windowStart + i) % capacity;
+            serials[i] = this.windowSerials[slot];
+            values[i] = this.windowValues[slot];
+            present[i] = this.windowPresent[slot];
+        }
+        this.windowSerials = serials;
+        this.windowValues = values;
+        this.windowPresent = present;
+        this.windowStart = 0;
+    }
+
+}
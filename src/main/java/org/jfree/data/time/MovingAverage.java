@@ -44,6 +44,9 @@
  *               getYValue() (DG);
  * 11-Jan-2005 : Removed deprecated code in preparation for the 1.0.0 
  *               release (DG);
+ * 18-Oct-2026 : Replaced the nested window loops with a running sum, and 
+ *               added createLiveMovingAverage();
+ * 19-Oct-2026 : Keep NaN and infinite values out of the running sum;
  *
  */
 
@@ -142,46 +145,35 @@ public class MovingAverage {
             long firstSerial 
                 = source.getDataItem(0).getPeriod().getSerialIndex() + skip;
 
-            for (int i = source.getItemCount() - 1; i >= 0; i--) {
+            // maintain a running sum over the items in the window 
+            // (start..i], so that each item is added and removed exactly 
+            // once...
+            int start = 0;
+            MovingSum sum = new MovingSum();
+            for (int i = 0; i < source.getItemCount(); i++) {
 
                 // get the current data item...
                 TimeSeriesDataItem current = source.getDataItem(i);
                 RegularTimePeriod period = current.getPeriod();
                 long serial = period.getSerialIndex();
+                Number v = current.getValue();
+                if (v != null) {
+                    sum.add(v.doubleValue());
+                }
 
-                if (serial >= firstSerial) {
-                    // work out the average for the earlier values...
-                    int n = 0;
-                    double sum = 0.0;
-                    long serialLimit = period.getSerialIndex() - periodCount;
-                    int offset = 0;
-                    boolean finished = false;
-
-                    while ((offset < periodCount) && (!finished)) {
-                        if ((i - offset) >= 0) {
-                            TimeSeriesDataItem item 
-                                = source.getDataItem(i - offset);
-                            RegularTimePeriod p = item.getPeriod();
-                            Number v = item.getValue();
-                            long currentIndex = p.getSerialIndex();
-                            if (currentIndex > serialLimit) {
-                                if (v != null) {
-                                    sum = sum + v.doubleValue();
-                                    n = n + 1;
-                                }
-                            }
-                            else {
-                                finished = true;
-                            }
-                        }
-                        offset = offset + 1;
-                    }
-                    if (n > 0) {
-                        result.add(period, sum / n);
-                    }
-                    else {
-                        result.add(period, null);
+                // drop the items that have fallen out of the window...
+                long serialLimit = serial - periodCount;
+                while (source.getDataItem(start).getPeriod().getSerialIndex()
+                        <= serialLimit) {
+                    Number old = source.getDataItem(start).getValue();
+                    if (old != null) {
+                        sum.remove(old.doubleValue());
                     }
+                    start = start + 1;
+                }
+
+                if (serial >= firstSerial) {
+                    result.add(period, sum.getAverage());
                 }
 
             }
@@ -191,6 +183,33 @@ public class MovingAverage {
 
     }
 
+    /**
+     * Creates a new {@link TimeSeries} containing moving average values for 
+     * the given series, and registers a listener with the source series so 
+     * that the moving average is updated incrementally as new items are 
+     * appended to the source.  Each appended item is processed in constant 
+     * (amortised) time, so this is suitable for overlaying moving averages 
+     * on live data feeds.
+     * <P>
+     * Call {@link LiveMovingAverage#dispose()} on the object returned by 
+     * {@link #createLiveMovingAverage(TimeSeries, String, int, int)} to stop 
+     * tracking the source series.
+     *
+     * @param source  the source series (<code>null</code> not permitted).
+     * @param name  the name of the new series.
+     * @param periodCount  the number of periods used in the average 
+     *                     calculation.
+     * @param skip  the number of initial periods to skip.
+     *
+     * @return The live moving average (never <code>null</code>).
+     */
+    public static LiveMovingAverage createLiveMovingAverage(TimeSeries source,
+                                                            String name,
+                                                            int periodCount,
+                                                            int skip) {
+        return new LiveMovingAverage(source, name, periodCount, skip);
+    }
+
     /**
      * Creates a new {@link TimeSeries} containing moving average values for 
      * the given series, calculated by number of points (irrespective of the 
@@ -333,50 +352,39 @@ public class MovingAverage {
 
         XYSeries result = new XYSeries(name);
 
-        if (source.getItemCount(series) > 0) {
+        int itemCount = source.getItemCount(series);
+        if (itemCount > 0) {
 
             // if the initial averaging period is to be excluded, then 
             // calculate the lowest x-value to have an average calculated...
             double first = source.getXValue(series, 0) + skip;
 
-            for (int i = source.getItemCount(series) - 1; i >= 0; i--) {
+            // maintain a running sum over the items in the window 
+            // (start..i], so that each item is added and removed exactly 
+            // once...
+            int start = 0;
+            MovingSum sum = new MovingSum();
+            for (int i = 0; i < itemCount; i++) {
 
                 // get the current data item...
                 double x = source.getXValue(series, i);
+                Number y = source.getY(series, i);
+                if (y != null) {
+                    sum.add(y.doubleValue());
+                }
 
-                if (x >= first) {
-                    // work out the average for the earlier values...
-                    int n = 0;
-                    double sum = 0.0;
-                    double limit = x - period;
-                    int offset = 0;
-                    boolean finished = false;
-
-                    while (!finished) {
-                        if ((i - offset) >= 0) {
-                            double xx = source.getXValue(series, i - offset);
-                            Number yy = source.getY(series, i - offset);
-                            if (xx > limit) {
-                                if (yy != null) {
-                                    sum = sum + yy.doubleValue();
-                                    n = n + 1;
-                                }
-                            }
-                            else {
-                                finished = true;
-                            }
-                        }
-                        else {
-                            finished = true;
-                        }
-                        offset = offset + 1;
-                    }
-                    if (n > 0) {
-                        result.add(x, sum / n);
-                    }
-                    else {
-                        result.add(x, null);
+                // drop the items that have fallen out of the window...
+                double limit = x - period;
+                while (source.getXValue(series, start) <= limit) {
+                    Number yy = source.getY(series, start);
+                    if (yy != null) {
+                        sum.remove(yy.doubleValue());
                     }
+                    start = start + 1;
+                }
+
+                if (x >= first) {
+                    result.add(x, sum.getAverage());
                 }
 
             }
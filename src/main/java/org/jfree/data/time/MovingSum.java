@@ -0,0 +1,161 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this library; if not, write to the Free Software Foundation, 
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * --------------
+ * MovingSum.java
+ * --------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  JFreeChart contributors;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.io.Serializable;
+
+/**
+ * The running sum of the values in a moving window, used by 
+ * {@link MovingAverage} and {@link LiveMovingAverage}.  <code>NaN</code> and
+ * infinite values are counted rather than added to the sum, so they affect
+ * the average only while they are in the window.
+ */
+class MovingSum implements Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2304958723489566253L;
+
+    /** The sum of the finite values in the window. */
+    private double sum;
+
+    /** The number of values in the window. */
+    private int count;
+
+    /** The number of <code>NaN</code> values in the window. */
+    private int nanCount;
+
+    /** The number of positive infinite values in the window. */
+    private int positiveInfinityCount;
+
+    /** The number of negative infinite values in the window. */
+    private int negativeInfinityCount;
+
+    /**
+     * Adds a value to the window.
+     *
+     * @param value  the value.
+     */
+    void add(double value) {
+        this.count++;
+        if (Double.isNaN(value)) {
+            this.nanCount++;
+        }
+        else if (value == Double.POSITIVE_INFINITY) {
+            this.positiveInfinityCount++;
+        }
+        else if (value == Double.NEGATIVE_INFINITY) {
+            this.negativeInfinityCount++;
+        }
+        else {
+            this.sum = this.sum + value;
+        }
+    }
+
+    /**
+     * Removes a value that was added earlier from the window.
+     *
+     * @param value  the value.
+     */
+    void remove(double value) {
+        this.count--;
+        if (Double.isNaN(value)) {
+            this.nanCount--;
+        }
+        else if (value == Double.POSITIVE_INFINITY) {
+            this.positiveInfinityCount--;
+        }
+        else if (value == Double.NEGATIVE_INFINITY) {
+            this.negativeInfinityCount--;
+        }
+        else {
+            this.sum = this.sum - value;
+        }
+        if (this.count == 0) {
+            this.sum = 0.0;  // discard any accumulated rounding error
+        }
+    }
+
+    /**
+     * Removes all the values from the window.
+     */
+    void clear() {
+        this.sum = 0.0;
+        this.count = 0;
+        this.nanCount = 0;
+        this.positiveInfinityCount = 0;
+        this.negativeInfinityCount = 0;
+    }
+
+    /**
+     * Returns the number of values in the window.
+     *
+     * @return The count.
+     */
+    int getCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the average of the values in the window.  This is the value a
+     * plain sum of the window would give: <code>NaN</code> if the window 
+     * holds a <code>NaN</code> or infinities of both signs, and infinite if
+     * it holds infinities of one sign.
+     *
+     * @return The average (<code>null</code> if the window is empty).
+     */
+    Number getAverage() {
+        if (this.count == 0) {
+            return null;
+        }
+        double total = this.sum;
+        if (this.nanCount > 0 || (this.positiveInfinityCount > 0 
+                && this.negativeInfinityCount > 0)) {
+            total = Double.NaN;
+        }
+        else if (this.positiveInfinityCount > 0) {
+            total = Double.POSITIVE_INFINITY;
+        }
+        else if (this.negativeInfinityCount > 0) {
+            total = Double.NEGATIVE_INFINITY;
+        }
+        return Double.valueOf(total / this.count);
+    }
+
+}
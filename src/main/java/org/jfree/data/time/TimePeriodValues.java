@@ -39,6 +39,11 @@
  * 30-Jul-2003 : Added clone and equals methods while testing (DG);
  * 11-Mar-2005 : Fixed bug in bounds recalculation - see bug report 
  *               1161329 (DG);
+ * 18-Oct-2026 : Added an index of the time periods sorted by start, with
+ *               getItemsIntersecting(), and removed the items in 
+ *               delete() in a single pass;
+ * 19-Oct-2026 : Publish the lazily built period index through a volatile
+ *               field;
  *
  */
 
@@ -46,6 +51,8 @@ package org.jfree.data.time;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 
 import org.jfree.data.general.Series;
@@ -54,7 +61,9 @@ import org.jfree.data.general.SeriesException;
 /**
  * A structure containing zero, one or many {@link TimePeriodValue} instances.  
  * The time periods can overlap, and are maintained in the order that they are 
- * added to the collection.
+ * added to the collection.  The items whose time period intersects a range
+ * can be found with {@link #getItemsIntersecting(long, long)}, which uses an
+ * index of the time periods sorted by start time.
  * <p>
  * This is similar to the {@link TimeSeries} class, except that the time 
  * periods can have irregular lengths.
@@ -97,6 +106,13 @@ public class TimePeriodValues extends Series implements Serializable {
     /** Index of the time period with the maximum end milliseconds. */
     private int maxEndIndex = -1;
 
+    /** 
+     * The index of the time periods (<code>null</code> if it needs to be
+     * rebuilt).  It is built lazily, and is volatile so that a reader sees 
+     * a fully built index.
+     */
+    private transient volatile PeriodIndex periodIndex;
+
     /**
      * Creates a new (empty) collection of time period values.
      *
@@ -206,6 +222,28 @@ public class TimePeriodValues extends Series implements Serializable {
         return getDataItem(index).getValue();
     }
 
+    /**
+     * Returns the indices of the items whose time period intersects a range.
+     * The first call builds an index of the time periods sorted by start time
+     * (in O(n log n) time), and later calls take O(log n + k) time for k 
+     * items, as long as the items are added in order of start time or the 
+     * index is not invalidated by other changes.
+     *
+     * @param start  the start of the range (in milliseconds, inclusive).
+     * @param end  the end of the range (in milliseconds, inclusive).
+     *
+     * @return The item indices in ascending order (possibly empty, but never
+     *         <code>null</code>).
+     */
+    public int[] getItemsIntersecting(long start, long end) {
+        PeriodIndex index = this.periodIndex;
+        if (index == null) {
+            index = new PeriodIndex(this.data);
+            this.periodIndex = index;
+        }
+        return index.getItemsIntersecting(start, end);
+    }
+
     /**
      * Adds a data item to the series.
      *
@@ -221,6 +259,11 @@ public class TimePeriodValues extends Series implements Serializable {
         // make the change
         this.data.add(item);
         updateBounds(item.getPeriod(), this.data.size() - 1);
+        PeriodIndex index = this.periodIndex;
+        if (index != null && !index.add(item.getPeriod(), 
+                this.data.size() - 1)) {
+            this.periodIndex = null;
+        }
 
     }
     
@@ -367,9 +410,10 @@ public class TimePeriodValues extends Series implements Serializable {
      * @param end  the index of the last period to delete.
      */
     public void delete(int start, int end) {
-        for (int i = 0; i <= (end - start); i++) {
-            this.data.remove(start);
+        if (end >= start) {
+            this.data.subList(start, end + 1).clear();
         }
+        this.periodIndex = null;
         recalculateBounds();
         fireSeriesChanged();
     }
@@ -472,6 +516,7 @@ public class TimePeriodValues extends Series implements Serializable {
         TimePeriodValues copy = (TimePeriodValues) super.clone();
 
         copy.data = new ArrayList();
+        copy.periodIndex = null;
         if (this.data.size() > 0) {
             for (int index = start; index <= end; index++) {
                 TimePeriodValue item = (TimePeriodValue) this.data.get(index);
@@ -488,6 +533,218 @@ public class TimePeriodValues extends Series implements Serializable {
 
     }
     
+    /**
+     * An index of the time periods, sorted by start time.  The maximum end 
+     * time in each part of the sorted list is held in a binary tree, so that
+     * a search for the periods that intersect a range can skip any part 
+     * where all the periods end before the range.
+     */
+    private static class PeriodIndex {
+
+        /** The number of periods. */
+        private int count;
+
+        /** The item indices, in order of start time. */
+        private int[] items;
+
+        /** The start times, in ascending order. */
+        private long[] starts;
+
+        /** 
+         * The binary tree of maximum end times.  The leaves (from 
+         * <code>items.length</code>) hold the end time of each period, and 
+         * each other node holds the maximum of its two children.
+         */
+        private long[] maxEnds;
+
+        /**
+         * Creates an index for a list of {@link TimePeriodValue} objects.
+         *
+         * @param data  the data.
+         */
+        PeriodIndex(List data) {
+            this.count = data.size();
+            int capacity = 16;
+            while (capacity < this.count) {
+                capacity = capacity * 2;
+            }
+            final long[] keys = new long[this.count];
+            long[] ends = new long[this.count];
+            boolean sorted = true;
+            for (int i = 0; i < this.count; i++) {
+                TimePeriod period = ((TimePeriodValue) data.get(i)).getPeriod();
+                keys[i] = period.getStart().getTime();
+                ends[i] = period.getEnd().getTime();
+                if (i > 0 && keys[i] < keys[i - 1]) {
+                    sorted = false;
+                }
+            }
+            this.items = new int[capacity];
+            this.starts = new long[capacity];
+            this.maxEnds = new long[2 * capacity];
+            Arrays.fill(this.maxEnds, Long.MIN_VALUE);
+            if (sorted) {
+                for (int i = 0; i < this.count; i++) {
+                    this.items[i] = i;
+                }
+            }
+            else {
+                // a stable sort, so that periods with the same start stay in
+                // the order of the items
+                Integer[] order = new Integer[this.count];
+                for (int i = 0; i < this.count; i++) {
+                    order[i] = new Integer(i);
+                }
+                Arrays.sort(order, new Comparator() {
+                    public int compare(Object o1, Object o2) {
+                        long s1 = keys[((Integer) o1).intValue()];
+                        long s2 = keys[((Integer) o2).intValue()];
+                        return (s1 < s2 ? -1 : (s1 == s2 ? 0 : 1));
+                    }
+                });
+                for (int i = 0; i < this.count; i++) {
+                    this.items[i] = order[i].intValue();
+                }
+            }
+            for (int i = 0; i < this.count; i++) {
+                this.starts[i] = keys[this.items[i]];
+                this.maxEnds[capacity + i] = ends[this.items[i]];
+            }
+            updateTree();
+        }
+
+        /**
+         * Calculates the maximum end times for all the nodes above the 
+         * leaves.
+         */
+        private void updateTree() {
+            for (int node = this.items.length - 1; node > 0; node--) {
+                this.maxEnds[node] = Math.max(this.maxEnds[2 * node], 
+                        this.maxEnds[2 * node + 1]);
+            }
+        }
+
+        /**
+         * Adds a period to the index, if it starts no earlier than the 
+         * periods already in the index.
+         *
+         * @param period  the period.
+         * @param item  the item index.
+         *
+         * @return <code>false</code> if the period could not be added, in 
+         *         which case the index must be rebuilt.
+         */
+        boolean add(TimePeriod period, int item) {
+            long start = period.getStart().getTime();
+            if (this.count > 0 && start < this.starts[this.count - 1]) {
+                return false;
+            }
+            int capacity = this.items.length;
+            if (this.count == capacity) {
+                int[] newItems = new int[capacity * 2];
+                long[] newStarts = new long[capacity * 2];
+                long[] newMaxEnds = new long[capacity * 4];
+                System.arraycopy(this.items, 0, newItems, 0, capacity);
+                System.arraycopy(this.starts, 0, newStarts, 0, capacity);
+                Arrays.fill(newMaxEnds, Long.MIN_VALUE);
+                System.arraycopy(this.maxEnds, capacity, newMaxEnds, 
+                        2 * capacity, capacity);
+                this.items = newItems;
+                this.starts = newStarts;
+                this.maxEnds = newMaxEnds;
+                updateTree();
+                capacity = capacity * 2;
+            }
+            this.items[this.count] = item;
+            this.starts[this.count] = start;
+            int node = capacity + this.count;
+            this.maxEnds[node] = period.getEnd().getTime();
+            while (node > 1) {
+                node = node / 2;
+                this.maxEnds[node] = Math.max(this.maxEnds[2 * node], 
+                        this.maxEnds[2 * node + 1]);
+            }
+            this.count++;
+            return true;
+        }
+
+        /**
+         * Returns the indices of the items whose time period intersects a 
+         * range.
+         *
+         * @param start  the start of the range (inclusive).
+         * @param end  the end of the range (inclusive).
+         *
+         * @return The item indices in ascending order.
+         */
+        int[] getItemsIntersecting(long start, long end) {
+            // the periods that start no later than the end of the range...
+            int low = 0;
+            int high = this.count;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (this.starts[mid] <= end) {
+                    low = mid + 1;
+                }
+                else {
+                    high = mid;
+                }
+            }
+            int limit = low;
+            // ...and end no earlier than the start of the range
+            int capacity = this.items.length;
+            int[] result = new int[16];
+            int size = 0;
+            boolean ascending = true;
+            int[] stack = new int[64];
+            int[] lows = new int[64];
+            int[] widths = new int[64];
+            stack[0] = 1;
+            lows[0] = 0;
+            widths[0] = capacity;
+            int depth = 1;
+            while (depth > 0) {
+                depth--;
+                int node = stack[depth];
+                int first = lows[depth];
+                int width = widths[depth];
+                if (first >= limit || this.maxEnds[node] < start) {
+                    continue;
+                }
+                if (width == 1) {
+                    if (size == result.length) {
+                        int[] grown = new int[size * 2];
+                        System.arraycopy(result, 0, grown, 0, size);
+                        result = grown;
+                    }
+                    int item = this.items[first];
+                    if (size > 0 && item < result[size - 1]) {
+                        ascending = false;
+                    }
+                    result[size++] = item;
+                    continue;
+                }
+                // push the right child first, so the left is visited first
+                int half = width / 2;
+                stack[depth] = 2 * node + 1;
+                lows[depth] = first + half;
+                widths[depth] = half;
+                depth++;
+                stack[depth] = 2 * node;
+                lows[depth] = first;
+                widths[depth] = half;
+                depth++;
+            }
+            int[] items = new int[size];
+            System.arraycopy(result, 0, items, 0, size);
+            if (!ascending) {
+                Arrays.sort(items);
+            }
+            return items;
+        }
+
+    }
+
     /**
      * Returns the index of the time period with the minimum start milliseconds.
      * 
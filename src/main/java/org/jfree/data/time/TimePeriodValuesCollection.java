@@ -41,6 +41,7 @@
  *               getYValue() (DG);
  * 06-Oct-2004 : Updated for changes in DomainInfo interface (DG);
  * 11-Jan-2005 : Removed deprecated code in preparation for 1.0.0 release (DG);
+ * 18-Oct-2026 : Implemented IntervalIndexedXYDataset;
  *
  */
 
@@ -53,6 +54,7 @@ import java.util.List;
 import org.jfree.data.DomainInfo;
 import org.jfree.data.Range;
 import org.jfree.data.xy.AbstractIntervalXYDataset;
+import org.jfree.data.xy.IntervalIndexedXYDataset;
 import org.jfree.data.xy.IntervalXYDataset;
 import org.jfree.util.ObjectUtilities;
 
@@ -66,6 +68,7 @@ import org.jfree.util.ObjectUtilities;
  */
 public class TimePeriodValuesCollection extends AbstractIntervalXYDataset
                                         implements IntervalXYDataset,
+                                                   IntervalIndexedXYDataset,
                                                    DomainInfo,
                                                    Serializable {
 
@@ -359,6 +362,24 @@ public class TimePeriodValuesCollection extends AbstractIntervalXYDataset
         return getY(series, item);
     }
 
+    /**
+     * Returns the indices of the items in a series whose time period 
+     * intersects a range (see 
+     * {@link TimePeriodValues#getItemsIntersecting(long, long)}).
+     *
+     * @param series  the series index (zero-based).
+     * @param lower  the lower bound of the range (in milliseconds).
+     * @param upper  the upper bound of the range (in milliseconds).
+     *
+     * @return The item indices in ascending order.
+     */
+    public int[] getItemsIntersecting(int series, double lower, 
+                                      double upper) {
+        return getSeries(series).getItemsIntersecting(
+            (long) Math.floor(lower), (long) Math.ceil(upper)
+        );
+    }
+
     /**
      * Returns the minimum x-value in the dataset.
      *
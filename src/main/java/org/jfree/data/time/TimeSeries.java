@@ -63,6 +63,7 @@
  * 15-Jun-2004 : Fixed NullPointerException in equals() method (DG);
  * 29-Nov-2004 : Fixed bug 1075255 (DG);
  * 17-Nov-2005 : Renamed historyCount --> maximumItemAge (DG);
+ * 18-Oct-2026 : Send a SeriesAppendEvent when add() appends an item;
  * 
  */
 
@@ -485,16 +486,19 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
 
         // make the change (if it's not a duplicate time period)...
         boolean added = false;
+        boolean appended = false;
         int count = getItemCount();
         if (count == 0) {
             this.data.add(item);
             added = true;
+            appended = true;
         }
         else {
             RegularTimePeriod last = getTimePeriod(getItemCount() - 1);
             if (item.getPeriod().compareTo(last) > 0) {
                 this.data.add(item);
                 added = true;
+                appended = true;
             }
             else {
                 int index = Collections.binarySearch(this.data, item);
@@ -523,7 +527,12 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             removeAgedItems(false);  // remove old items if necessary, but
                                      // don't notify anyone, because that
                                      // happens next anyway...
-            fireSeriesChanged();
+            if (appended && getItemCount() > 0) {
+                fireSeriesAppended(1, count + 1 - getItemCount());
+            }
+            else {
+                fireSeriesChanged();
+            }
         }
 
     }
@@ -71,6 +71,8 @@
  * 11-Jan-2005 : Removed deprecated code in preparation for the 1.0.0 
  *               release (DG);
  * 28-Mar-2005 : Fixed bug in getSeries(int) method (1170825) (DG);
+ * 18-Oct-2026 : Send a DatasetAppendEvent when items are appended to a
+ *               series;
  * 
  */
 
@@ -87,6 +89,8 @@ import java.util.TimeZone;
 import org.jfree.data.DomainInfo;
 import org.jfree.data.Range;
 import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.SeriesAppendEvent;
+import org.jfree.data.general.SeriesChangeEvent;
 import org.jfree.data.xy.AbstractIntervalXYDataset;
 import org.jfree.data.xy.IntervalXYDataset;
 import org.jfree.data.xy.XYDataset;
@@ -323,6 +327,28 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
 
     }
 
+    /**
+     * Called when a series belonging to the dataset changes.  If items were
+     * appended to the series, a {@link 
+     * org.jfree.data.general.DatasetAppendEvent} is sent to the registered
+     * listeners, and otherwise a plain {@link DatasetChangeEvent}.
+     *
+     * @param event  information about the change.
+     */
+    public void seriesChanged(SeriesChangeEvent event) {
+        if (event instanceof SeriesAppendEvent) {
+            SeriesAppendEvent e = (SeriesAppendEvent) event;
+            for (int i = 0; i < this.data.size(); i++) {
+                if (this.data.get(i) == e.getSource()) {
+                    fireDatasetAppended(i, e.getAppendedItemCount(), 
+                            e.getRemovedItemCount());
+                    return;
+                }
+            }
+        }
+        super.seriesChanged(event);
+    }
+
     /**
      * Returns the number of items in the specified series.  This method is 
      * provided for convenience.
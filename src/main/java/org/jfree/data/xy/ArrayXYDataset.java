@@ -0,0 +1,781 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation,
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------
+ * ArrayXYDataset.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+
+/**
+ * An {@link IntervalXYDataset} that is a view of data held in 
+ * <code>double[]</code> arrays or {@link DoubleBuffer} instances owned by 
+ * the caller.  The values are neither copied nor boxed, so a dataset can be
+ * created from the output of an analysis without any extra garbage.
+ * <P>
+ * Each series has an array (or buffer) of x-values and one of y-values, and
+ * optionally the start and end x- and y-values of each item.  Without 
+ * them, the start and end values are the same as the x- and y-values.  A 
+ * missing y-value is represented by <code>Double.NaN</code>.
+ * <P>
+ * Since the dataset cannot tell when the caller changes the values, the 
+ * caller must call {@link #dataChanged()} (or {@link #dataChanged(int)}) 
+ * afterwards.  This clears the bounds that the dataset has cached for the 
+ * {@link DomainInfo} and {@link RangeInfo} methods, and sends a 
+ * {@link org.jfree.data.general.DatasetChangeEvent} to the registered 
+ * listeners.
+ */
+public class ArrayXYDataset extends AbstractIntervalXYDataset 
+                            implements IntervalXYDataset, DomainInfo, 
+                                       RangeInfo {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 2310826398257190645L;
+
+    /** The index of the x-values. */
+    private static final int X = 0;
+
+    /** The index of the start x-values. */
+    private static final int START_X = 1;
+
+    /** The index of the end x-values. */
+    private static final int END_X = 2;
+
+    /** The index of the y-values. */
+    private static final int Y = 3;
+
+    /** The index of the start y-values. */
+    private static final int START_Y = 4;
+
+    /** The index of the end y-values. */
+    private static final int END_Y = 5;
+
+    /** The series (instances of {@link ArraySeries}). */
+    private List series;
+
+    /**
+     * Creates a new dataset with no series.
+     */
+    public ArrayXYDataset() {
+        this.series = new ArrayList();
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    public int getSeriesCount() {
+        return this.series.size();
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The key for the series.
+     */
+    public Comparable getSeriesKey(int series) {
+        return getSeries(series).key;
+    }
+
+    /**
+     * Returns the number of items in a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The item count.
+     */
+    public int getItemCount(int series) {
+        return getSeries(series).itemCount;
+    }
+
+    /**
+     * Returns a series.
+     *
+     * @param series  the series index.
+     *
+     * @return The series.
+     */
+    private ArraySeries getSeries(int series) {
+        if (series < 0 || series >= this.series.size()) {
+            throw new IllegalArgumentException("Invalid series index: " 
+                    + series);
+        }
+        return (ArraySeries) this.series.get(series);
+    }
+
+    /**
+     * Adds a series, or replaces the series with the same key, and sends a
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.  The arrays are not copied.
+     *
+     * @param seriesKey  the series key (<code>null</code> not permitted).
+     * @param x  the x-values (<code>null</code> not permitted).
+     * @param y  the y-values (<code>null</code> not permitted, and the same
+     *           length as <code>x</code>).
+     */
+    public void addSeries(Comparable seriesKey, double[] x, double[] y) {
+        addSeries(seriesKey, new double[][] {x, y});
+    }
+
+    /**
+     * Adds a series, or replaces the series with the same key, and sends a
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.  The arrays are not copied.  The data is either two arrays
+     * (the x-values and the y-values), or six arrays (the x-values, start 
+     * x-values, end x-values, y-values, start y-values and end y-values), 
+     * all with the same length.
+     *
+     * @param seriesKey  the series key (<code>null</code> not permitted).
+     * @param data  the data (<code>null</code> not permitted).
+     */
+    public void addSeries(Comparable seriesKey, double[][] data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Null 'data' argument.");
+        }
+        DoubleBuffer[] buffers = new DoubleBuffer[data.length];
+        for (int i = 0; i < data.length; i++) {
+            if (data[i] == null) {
+                throw new IllegalArgumentException(
+                    "Null array in 'data' argument."
+                );
+            }
+            buffers[i] = DoubleBuffer.wrap(data[i]);
+        }
+        addSeries(seriesKey, buffers);
+    }
+
+    /**
+     * Adds a series, or replaces the series with the same key, and sends a
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.  The dataset reads the values between the position and the
+     * limit of each buffer at the time this method is called, without 
+     * copying them (later changes to the position and limit of the buffers 
+     * have no effect).  The data is either two buffers (the x-values and the
+     * y-values), or six buffers (the x-values, start x-values, end x-values,
+     * y-values, start y-values and end y-values), all with the same number 
+     * of values.
+     *
+     * @param seriesKey  the series key (<code>null</code> not permitted).
+     * @param data  the data (<code>null</code> not permitted).
+     */
+    public void addSeries(Comparable seriesKey, DoubleBuffer[] data) {
+        if (seriesKey == null) {
+            throw new IllegalArgumentException("Null 'seriesKey' argument.");
+        }
+        if (data == null) {
+            throw new IllegalArgumentException("Null 'data' argument.");
+        }
+        if (data.length != 2 && data.length != 6) {
+            throw new IllegalArgumentException(
+                "The 'data' argument must have length 2 or 6."
+            );
+        }
+        DoubleBuffer[] columns = new DoubleBuffer[6];
+        for (int i = 0; i < data.length; i++) {
+            if (data[i] == null) {
+                throw new IllegalArgumentException(
+                    "Null buffer in 'data' argument."
+                );
+            }
+            if (data[i].remaining() != data[0].remaining()) {
+                throw new IllegalArgumentException(
+                    "The arrays in the 'data' argument must have the same "
+                    + "length."
+                );
+            }
+        }
+        if (data.length == 2) {
+            columns[X] = data[0].slice();
+            columns[Y] = data[1].slice();
+            columns[START_X] = columns[X];
+            columns[END_X] = columns[X];
+            columns[START_Y] = columns[Y];
+            columns[END_Y] = columns[Y];
+        }
+        else {
+            for (int i = 0; i < 6; i++) {
+                columns[i] = data[i].slice();
+            }
+        }
+        ArraySeries s = new ArraySeries(seriesKey, columns);
+        int index = indexOf(seriesKey);
+        if (index >= 0) {
+            this.series.set(index, s);
+        }
+        else {
+            this.series.add(s);
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a series and sends a 
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered 
+     * listeners.  If there is no series with the key, this method does 
+     * nothing.
+     *
+     * @param seriesKey  the series key (<code>null</code> not permitted).
+     */
+    public void removeSeries(Comparable seriesKey) {
+        if (seriesKey == null) {
+            throw new IllegalArgumentException("Null 'seriesKey' argument.");
+        }
+        int index = indexOf(seriesKey);
+        if (index >= 0) {
+            this.series.remove(index);
+            fireDatasetChanged();
+        }
+    }
+
+    /**
+     * Tells the dataset that the caller has changed the values in one or 
+     * more series.  The cached bounds are cleared and a 
+     * {@link org.jfree.data.general.DatasetChangeEvent} is sent to all 
+     * registered listeners.
+     */
+    public void dataChanged() {
+        for (int i = 0; i < this.series.size(); i++) {
+            ((ArraySeries) this.series.get(i)).boundsValid = false;
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Tells the dataset that the caller has changed the values in a series.
+     * The cached bounds for the series are cleared and a 
+     * {@link org.jfree.data.general.DatasetChangeEvent} is sent to all 
+     * registered listeners.
+     *
+     * @param series  the series index (zero-based).
+     */
+    public void dataChanged(int series) {
+        getSeries(series).boundsValid = false;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the order of the domain (x-) values.
+     *
+     * @return {@link DomainOrder#ASCENDING} if the x-values in every series
+     *         are in ascending order, and {@link DomainOrder#NONE} otherwise.
+     */
+    public DomainOrder getDomainOrder() {
+        for (int i = 0; i < this.series.size(); i++) {
+            ArraySeries s = (ArraySeries) this.series.get(i);
+            s.validateBounds();
+            if (!s.ascending) {
+                return DomainOrder.NONE;
+            }
+        }
+        return DomainOrder.ASCENDING;
+    }
+
+    /**
+     * Returns the x-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    public double getXValue(int series, int item) {
+        return getSeries(series).columns[X].get(item);
+    }
+
+    /**
+     * Returns the x-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    public Number getX(int series, int item) {
+        return new Double(getXValue(series, item));
+    }
+
+    /**
+     * Returns the start x-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The start x-value.
+     */
+    public double getStartXValue(int series, int item) {
+        return getSeries(series).columns[START_X].get(item);
+    }
+
+    /**
+     * Returns the start x-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The start x-value.
+     */
+    public Number getStartX(int series, int item) {
+        return new Double(getStartXValue(series, item));
+    }
+
+    /**
+     * Returns the end x-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The end x-value.
+     */
+    public double getEndXValue(int series, int item) {
+        return getSeries(series).columns[END_X].get(item);
+    }
+
+    /**
+     * Returns the end x-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The end x-value.
+     */
+    public Number getEndX(int series, int item) {
+        return new Double(getEndXValue(series, item));
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value (<code>Double.NaN</code> for a missing value).
+     */
+    public double getYValue(int series, int item) {
+        return getSeries(series).columns[Y].get(item);
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value (<code>null</code> for a missing value).
+     */
+    public Number getY(int series, int item) {
+        return toNumber(getYValue(series, item));
+    }
+
+    /**
+     * Returns the start y-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The start y-value (<code>Double.NaN</code> for a missing 
+     *         value).
+     */
+    public double getStartYValue(int series, int item) {
+        return getSeries(series).columns[START_Y].get(item);
+    }
+
+    /**
+     * Returns the start y-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The start y-value (<code>null</code> for a missing value).
+     */
+    public Number getStartY(int series, int item) {
+        return toNumber(getStartYValue(series, item));
+    }
+
+    /**
+     * Returns the end y-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The end y-value (<code>Double.NaN</code> for a missing 
+     *         value).
+     */
+    public double getEndYValue(int series, int item) {
+        return getSeries(series).columns[END_Y].get(item);
+    }
+
+    /**
+     * Returns the end y-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The end y-value (<code>null</code> for a missing value).
+     */
+    public Number getEndY(int series, int item) {
+        return toNumber(getEndYValue(series, item));
+    }
+
+    /**
+     * Returns a value as a <code>Number</code>.
+     *
+     * @param value  the value.
+     *
+     * @return The number (<code>null</code> for <code>Double.NaN</code>).
+     */
+    private static Number toNumber(double value) {
+        return (Double.isNaN(value) ? null : new Double(value));
+    }
+
+    /**
+     * Returns the minimum x-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The minimum value (<code>Double.NaN</code> if there is none).
+     */
+    public double getDomainLowerBound(boolean includeInterval) {
+        Range range = getDomainBounds(includeInterval);
+        return (range != null) ? range.getLowerBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum x-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The maximum value (<code>Double.NaN</code> if there is none).
+     */
+    public double getDomainUpperBound(boolean includeInterval) {
+        Range range = getDomainBounds(includeInterval);
+        return (range != null) ? range.getUpperBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the range of the x-values in the dataset.  The bounds of each
+     * series are cached until {@link #dataChanged()} is called.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The range (<code>null</code> if there are no x-values).
+     */
+    public Range getDomainBounds(boolean includeInterval) {
+        return getBounds(includeInterval ? START_X : X, 
+                includeInterval ? END_X : X);
+    }
+
+    /**
+     * Returns the minimum y-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     *
+     * @return The minimum value (<code>Double.NaN</code> if there is none).
+     */
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range range = getRangeBounds(includeInterval);
+        return (range != null) ? range.getLowerBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     *
+     * @return The maximum value (<code>Double.NaN</code> if there is none).
+     */
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range range = getRangeBounds(includeInterval);
+        return (range != null) ? range.getUpperBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the range of the y-values in the dataset.  The bounds of each
+     * series are cached until {@link #dataChanged()} is called.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     *
+     * @return The range (<code>null</code> if there are no y-values).
+     */
+    public Range getRangeBounds(boolean includeInterval) {
+        return getBounds(includeInterval ? START_Y : Y, 
+                includeInterval ? END_Y : Y);
+    }
+
+    /**
+     * Returns the range from the minimum of one column to the maximum of 
+     * another, over all the series.
+     *
+     * @param lowerColumn  the column for the lower bound.
+     * @param upperColumn  the column for the upper bound.
+     *
+     * @return The range (<code>null</code> if there are no values).
+     */
+    private Range getBounds(int lowerColumn, int upperColumn) {
+        double minimum = Double.POSITIVE_INFINITY;
+        double maximum = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < this.series.size(); i++) {
+            ArraySeries s = (ArraySeries) this.series.get(i);
+            s.validateBounds();
+            minimum = Math.min(minimum, s.minimum[lowerColumn]);
+            maximum = Math.max(maximum, s.maximum[upperColumn]);
+        }
+        return (minimum <= maximum ? new Range(minimum, maximum) : null);
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof ArrayXYDataset)) {
+            return false;
+        }
+        ArrayXYDataset that = (ArrayXYDataset) obj;
+        if (this.series.size() != that.series.size()) {
+            return false;
+        }
+        for (int i = 0; i < this.series.size(); i++) {
+            ArraySeries s1 = (ArraySeries) this.series.get(i);
+            ArraySeries s2 = (ArraySeries) that.series.get(i);
+            if (!s1.key.equals(s2.key) || s1.itemCount != s2.itemCount) {
+                return false;
+            }
+            for (int c = 0; c < 6; c++) {
+                if (!s1.columns[c].equals(s2.columns[c])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for the dataset.
+     *
+     * @return A hash code.
+     */
+    public int hashCode() {
+        int result = 193;
+        for (int i = 0; i < this.series.size(); i++) {
+            ArraySeries s = (ArraySeries) this.series.get(i);
+            result = 37 * result + s.key.hashCode();
+            result = 37 * result + s.itemCount;
+        }
+        return result;
+    }
+
+    /**
+     * Returns a clone of the dataset.  The clone is another view of the same
+     * arrays (or buffers).
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if the dataset cannot be cloned.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        ArrayXYDataset clone = (ArrayXYDataset) super.clone();
+        clone.series = new ArrayList();
+        for (int i = 0; i < this.series.size(); i++) {
+            ArraySeries s = (ArraySeries) this.series.get(i);
+            clone.series.add(new ArraySeries(s.key, s.columns));
+        }
+        return clone;
+    }
+
+    /**
+     * The data for one series.
+     */
+    private static class ArraySeries implements Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -8160295213548437025L;
+
+        /** The series key. */
+        private Comparable key;
+
+        /** 
+         * The x, start x, end x, y, start y and end y-values (the start and 
+         * end values may be the same buffers as the x- and y-values). 
+         */
+        private transient DoubleBuffer[] columns;
+
+        /** The number of items. */
+        private int itemCount;
+
+        /** A flag that indicates whether the cached bounds are valid. */
+        private transient boolean boundsValid;
+
+        /** The minimum value in each column. */
+        private transient double[] minimum;
+
+        /** The maximum value in each column. */
+        private transient double[] maximum;
+
+        /** A flag that indicates whether the x-values are ascending. */
+        private transient boolean ascending;
+
+        /**
+         * Creates a new series.
+         *
+         * @param key  the series key.
+         * @param columns  the values.
+         */
+        ArraySeries(Comparable key, DoubleBuffer[] columns) {
+            this.key = key;
+            this.columns = columns;
+            this.itemCount = columns[X].remaining();
+            this.minimum = new double[6];
+            this.maximum = new double[6];
+        }
+
+        /**
+         * Calculates the bounds of the columns (ignoring 
+         * <code>Double.NaN</code> values) and the domain order, if they are
+         * not already cached.
+         */
+        void validateBounds() {
+            if (this.boundsValid) {
+                return;
+            }
+            for (int c = 0; c < 6; c++) {
+                double min = Double.POSITIVE_INFINITY;
+                double max = Double.NEGATIVE_INFINITY;
+                DoubleBuffer values = this.columns[c];
+                for (int i = 0; i < this.itemCount; i++) {
+                    double v = values.get(i);
+                    if (v < min) {
+                        min = v;
+                    }
+                    if (v > max) {
+                        max = v;
+                    }
+                }
+                this.minimum[c] = min;
+                this.maximum[c] = max;
+            }
+            boolean asc = true;
+            DoubleBuffer x = this.columns[X];
+            for (int i = 1; i < this.itemCount && asc; i++) {
+                asc = x.get(i) >= x.get(i - 1);
+            }
+            this.ascending = asc;
+            this.boundsValid = true;
+        }
+
+        /**
+         * Provides serialization support.  The values are written out in
+         * full.
+         *
+         * @param stream  the output stream.
+         *
+         * @throws IOException  if there is an I/O error.
+         */
+        private void writeObject(ObjectOutputStream stream) 
+            throws IOException {
+            stream.defaultWriteObject();
+            boolean intervals = (this.columns[START_X] != this.columns[X]);
+            stream.writeBoolean(intervals);
+            for (int c = 0; c < 6; c++) {
+                if (intervals || c == X || c == Y) {
+                    for (int i = 0; i < this.itemCount; i++) {
+                        stream.writeDouble(this.columns[c].get(i));
+                    }
+                }
+            }
+        }
+
+        /**
+         * Provides serialization support.
+         *
+         * @param stream  the input stream.
+         *
+         * @throws IOException  if there is an I/O error.
+         * @throws ClassNotFoundException  if there is a classpath problem.
+         */
+        private void readObject(ObjectInputStream stream) 
+            throws IOException, ClassNotFoundException {
+            stream.defaultReadObject();
+            boolean intervals = stream.readBoolean();
+            this.columns = new DoubleBuffer[6];
+            for (int c = 0; c < 6; c++) {
+                if (intervals || c == X || c == Y) {
+                    double[] values = new double[this.itemCount];
+                    for (int i = 0; i < this.itemCount; i++) {
+                        values[i] = stream.readDouble();
+                    }
+                    this.columns[c] = DoubleBuffer.wrap(values);
+                }
+            }
+            if (!intervals) {
+                this.columns[START_X] = this.columns[X];
+                this.columns[END_X] = this.columns[X];
+                this.columns[START_Y] = this.columns[Y];
+                this.columns[END_Y] = this.columns[Y];
+            }
+            this.minimum = new double[6];
+            this.maximum = new double[6];
+        }
+
+    }
+
+}
@@ -42,6 +42,9 @@
  * 17-Nov-2004 : Updates required by changes to DomainInfo interface (DG);
  * 11-Jan-2005 : Removed deprecated code in preparation for 1.0.0 release (DG);
  * 05-Oct-2005 : Made the interval delegate a dataset change listener (DG);
+ * 18-Oct-2026 : Implemented UniformIntervalXYDataset, and send a 
+ *               DatasetAppendEvent when no x-value is inserted before
+ *               the existing ones;
  *
  */
 
@@ -50,6 +53,7 @@ package org.jfree.data.xy;
 import org.jfree.data.DefaultKeyedValues2D;
 import org.jfree.data.DomainInfo;
 import org.jfree.data.Range;
+import org.jfree.data.general.DatasetAppendEvent;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.DatasetUtilities;
 
@@ -71,6 +75,7 @@ import org.jfree.data.general.DatasetUtilities;
 public class CategoryTableXYDataset extends AbstractIntervalXYDataset
                                     implements TableXYDataset, 
                                                IntervalXYDataset, 
+                                               UniformIntervalXYDataset,
                                                DomainInfo {
     
     /**
@@ -112,9 +117,21 @@ public class CategoryTableXYDataset extends AbstractIntervalXYDataset
      * @param notify  notify listeners?
      */
     public void add(Number x, Number y, String seriesName, boolean notify) {
+        int rowCount = this.values.getRowCount();
+        int columnCount = this.values.getColumnCount();
         this.values.addValue(y, (Comparable) x, seriesName);
         if (notify) {
-            fireDatasetChanged();
+            // if the series and the x-values before this one are unchanged, 
+            // the interval delegate can update the interval incrementally
+            if (this.values.getColumnCount() == columnCount 
+                    && (this.values.getRowCount() == rowCount 
+                    || this.values.getRowIndex((Comparable) x) == rowCount)) {
+                fireDatasetAppended(DatasetAppendEvent.ALL_SERIES, 
+                        this.values.getRowCount() - rowCount, 0);
+            }
+            else {
+                fireDatasetChanged();
+            }
         }
     }
 
@@ -0,0 +1,849 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation,
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------------
+ * ColumnarTableXYDataset.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ * 18-Oct-2026 : Implemented UniformIntervalXYDataset;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jfree.data.DomainInfo;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.util.PublicCloneable;
+
+/**
+ * A {@link TableXYDataset} that stores its data in columns: one sorted array
+ * of x-values that is shared by all the series, and one array of y-values 
+ * for each series, with <code>Double.NaN</code> for a missing value.  This
+ * avoids the boxed values and the per-series lookups of 
+ * {@link DefaultTableXYDataset}, and a whole series can be added with a 
+ * single merge of the x-values (see 
+ * {@link #addSeries(Comparable, double[], double[])}), so the dataset is 
+ * suitable for large stacked charts (for example with the 
+ * {@link org.jfree.chart.renderer.xy.StackedXYAreaRenderer2} and 
+ * {@link org.jfree.chart.renderer.xy.StackedXYBarRenderer} classes).
+ * <P>
+ * The x-values are unique and in ascending order.  
+ * {@link #getY(int, int)} returns <code>null</code> for a missing value.
+ */
+public class ColumnarTableXYDataset extends AbstractIntervalXYDataset 
+                                    implements TableXYDataset, 
+                                               IntervalXYDataset, DomainInfo,
+                                               UniformIntervalXYDataset,
+                                               PublicCloneable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -3254182609725478014L;
+
+    /** The x-values, in ascending order (the array may have spare room). */
+    private double[] xValues;
+
+    /** The number of x-values. */
+    private int itemCount;
+
+    /** The series keys. */
+    private List seriesKeys;
+
+    /** 
+     * The y-values for each series (<code>double[]</code> arrays with the 
+     * same length as the x-values array, so every column has the same 
+     * capacity). 
+     */
+    private List seriesValues;
+
+    /** The delegate used to control the interval width. */
+    private IntervalXYDelegate intervalDelegate;
+
+    /**
+     * Creates a new empty dataset.
+     */
+    public ColumnarTableXYDataset() {
+        this.xValues = new double[0];
+        this.itemCount = 0;
+        this.seriesKeys = new ArrayList();
+        this.seriesValues = new ArrayList();
+        this.intervalDelegate = new IntervalXYDelegate(this, false);
+        addChangeListener(this.intervalDelegate);
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    public int getSeriesCount() {
+        return this.seriesKeys.size();
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series (zero-based index).
+     *
+     * @return The key for the series.
+     */
+    public Comparable getSeriesKey(int series) {
+        return (Comparable) this.seriesKeys.get(series);
+    }
+
+    /**
+     * Returns the number of x values in the dataset.
+     *
+     * @return The number of x values in the dataset.
+     */
+    public int getItemCount() {
+        return this.itemCount;
+    }
+
+    /**
+     * Returns the number of items in the specified series.  This is the same
+     * for all series.
+     *
+     * @param series  the series (zero-based index, ignored).
+     *
+     * @return The item count.
+     */
+    public int getItemCount(int series) {
+        return this.itemCount;
+    }
+
+    /**
+     * Returns the x-value for an item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The x-value.
+     */
+    public double getXValue(int series, int item) {
+        if (item >= this.itemCount) {
+            throw new IndexOutOfBoundsException("Item index out of bounds.");
+        }
+        return this.xValues[item];
+    }
+
+    /**
+     * Returns the x-value for an item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The x-value.
+     */
+    public Number getX(int series, int item) {
+        return new Double(getXValue(series, item));
+    }
+
+    /**
+     * Returns the starting x-value for an item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The starting x-value.
+     */
+    public Number getStartX(int series, int item) {
+        return this.intervalDelegate.getStartX(series, item);
+    }
+
+    /**
+     * Returns the starting x-value for an item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The starting x-value.
+     */
+    public double getStartXValue(int series, int item) {
+        return this.intervalDelegate.getStartXValue(series, item);
+    }
+
+    /**
+     * Returns the ending x-value for an item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The ending x-value.
+     */
+    public Number getEndX(int series, int item) {
+        return this.intervalDelegate.getEndX(series, item);
+    }
+
+    /**
+     * Returns the ending x-value for an item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The ending x-value.
+     */
+    public double getEndXValue(int series, int item) {
+        return this.intervalDelegate.getEndXValue(series, item);
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The y-value (<code>Double.NaN</code> for a missing value).
+     */
+    public double getYValue(int series, int item) {
+        if (item >= this.itemCount) {
+            throw new IndexOutOfBoundsException("Item index out of bounds.");
+        }
+        return ((double[]) this.seriesValues.get(series))[item];
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The y-value (<code>null</code> for a missing value).
+     */
+    public Number getY(int series, int item) {
+        double y = getYValue(series, item);
+        if (Double.isNaN(y)) {
+            return null;
+        }
+        return new Double(y);
+    }
+
+    /**
+     * Returns the starting y-value for an item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The starting y-value.
+     */
+    public Number getStartY(int series, int item) {
+        return getY(series, item);
+    }
+
+    /**
+     * Returns the ending y-value for an item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The ending y-value.
+     */
+    public Number getEndY(int series, int item) {
+        return getY(series, item);
+    }
+
+    /**
+     * Returns the index of the series with the specified key.
+     *
+     * @param seriesKey  the series key.
+     *
+     * @return The series index, or -1 if there is no series with the key.
+     */
+    public int indexOf(Comparable seriesKey) {
+        return this.seriesKeys.indexOf(seriesKey);
+    }
+
+    /**
+     * Returns the index of an x-value.
+     *
+     * @param x  the x-value.
+     *
+     * @return The item index, or a negative value 
+     *         (<code>-insertionPoint - 1</code>) if the x-value is not in the 
+     *         dataset.
+     */
+    public int indexOfX(double x) {
+        int low = 0;
+        int high = this.itemCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            double v = this.xValues[mid];
+            if (v < x) {
+                low = mid + 1;
+            }
+            else if (v > x) {
+                high = mid - 1;
+            }
+            else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Adds a data item to the dataset and sends a {@link DatasetChangeEvent} 
+     * to all registered listeners.  The series is created if necessary, and
+     * a y-value that is already in the series for the same x-value is 
+     * replaced.
+     *
+     * @param x  the x-value (<code>NaN</code> not permitted).
+     * @param y  the y-value (<code>NaN</code> for a missing value).
+     * @param seriesKey  the series key (<code>null</code> not permitted).
+     */
+    public void add(double x, double y, Comparable seriesKey) {
+        add(x, y, seriesKey, true);
+    }
+
+    /**
+     * Adds a data item to the dataset and, if requested, sends a 
+     * {@link DatasetChangeEvent} to all registered listeners.  If the 
+     * x-value is new, the other series have a missing value for it.  Adding
+     * items in ascending order of x is fastest; to add many items to one 
+     * series, use {@link #addSeries(Comparable, double[], double[])}.
+     *
+     * @param x  the x-value (<code>NaN</code> not permitted).
+     * @param y  the y-value (<code>NaN</code> for a missing value).
+     * @param seriesKey  the series key (<code>null</code> not permitted).
+     * @param notify  notify listeners?
+     */
+    public void add(double x, double y, Comparable seriesKey, 
+                    boolean notify) {
+        if (Double.isNaN(x)) {
+            throw new IllegalArgumentException("NaN 'x' argument.");
+        }
+        int series = getOrCreateSeries(seriesKey);
+        int item = indexOfX(x);
+        if (item < 0) {
+            item = -item - 1;
+            insertX(item, x);
+        }
+        ((double[]) this.seriesValues.get(series))[item] = y;
+        if (notify) {
+            fireDatasetChanged();
+        }
+    }
+
+    /**
+     * Adds the items for a series (or replaces them if the series is already
+     * in the dataset) and sends a {@link DatasetChangeEvent} to all 
+     * registered listeners.  The x-values are merged with the x-values 
+     * already in the dataset in a single pass, and the other series have a
+     * missing value for each new x-value.  When a series is replaced, it has
+     * a missing value for every x-value that is not in <code>x</code> (the
+     * x-values themselves are kept, see {@link #prune()}).  The x-values 
+     * need not be sorted, but sorted input avoids a sort.  If an x-value 
+     * occurs more than once, the last y-value for it is used.
+     *
+     * @param seriesKey  the series key (<code>null</code> not permitted).
+     * @param x  the x-values (<code>null</code> not permitted, and 
+     *           <code>NaN</code> not permitted).
+     * @param y  the y-values (<code>null</code> not permitted, 
+     *           <code>NaN</code> for a missing value).
+     */
+    public void addSeries(Comparable seriesKey, double[] x, double[] y) {
+        if (seriesKey == null) {
+            throw new IllegalArgumentException("Null 'seriesKey' argument.");
+        }
+        if (x == null) {
+            throw new IllegalArgumentException("Null 'x' argument.");
+        }
+        if (y == null) {
+            throw new IllegalArgumentException("Null 'y' argument.");
+        }
+        if (x.length != y.length) {
+            throw new IllegalArgumentException(
+                    "The 'x' and 'y' arrays must have the same length.");
+        }
+        int n = x.length;
+        double[] xx = x;
+        double[] yy = y;
+        for (int i = 0; i < n; i++) {
+            if (Double.isNaN(x[i])) {
+                throw new IllegalArgumentException("NaN in 'x' argument.");
+            }
+            if (i > 0 && x[i] < x[i - 1] && xx == x) {
+                xx = x.clone();
+                yy = y.clone();
+            }
+        }
+        if (xx != x) {
+            sort(xx, yy, 0, n, new double[n], new double[n]);
+        }
+
+        // merge the x-values (counting the new ones first)...
+        int added = 0;
+        int i = 0;
+        int j = 0;
+        while (j < n) {
+            if (j + 1 < n && xx[j + 1] == xx[j]) {
+                j++;
+                continue;
+            }
+            while (i < this.itemCount && this.xValues[i] < xx[j]) {
+                i++;
+            }
+            if (i == this.itemCount || this.xValues[i] != xx[j]) {
+                added++;
+            }
+            j++;
+        }
+        int series = indexOf(seriesKey);
+        int newCount = this.itemCount + added;
+        // without new x-values the arrays keep their capacity, otherwise 
+        // every array is replaced by one with the exact size
+        int capacity = (added > 0) ? newCount : this.xValues.length;
+        double[] mergedX = new double[newCount];
+        double[] seriesY = new double[capacity];
+        Arrays.fill(seriesY, Double.NaN);
+        int[] oldToNew = new int[this.itemCount];
+        i = 0;
+        j = 0;
+        int k = 0;
+        while (i < this.itemCount || j < n) {
+            if (j + 1 < n && xx[j + 1] == xx[j]) {
+                j++;
+                continue;
+            }
+            boolean takeOld = j == n 
+                    || (i < this.itemCount && this.xValues[i] <= xx[j]);
+            boolean takeNew = i == this.itemCount 
+                    || (j < n && xx[j] <= this.xValues[i]);
+            if (takeOld) {
+                mergedX[k] = this.xValues[i];
+                oldToNew[i] = k;
+                i++;
+            }
+            else {
+                mergedX[k] = xx[j];
+            }
+            if (takeNew) {
+                seriesY[k] = yy[j];
+                j++;
+            }
+            k++;
+        }
+
+        // ...then move the y-values of the other series to their new 
+        // positions (if there are new x-values)
+        int seriesCount = (added > 0) ? this.seriesKeys.size() : 0;
+        for (int s = 0; s < seriesCount; s++) {
+            if (s == series) {
+                continue;
+            }
+            double[] values = (double[]) this.seriesValues.get(s);
+            double[] merged = new double[newCount];
+            Arrays.fill(merged, Double.NaN);
+            for (int m = 0; m < this.itemCount; m++) {
+                merged[oldToNew[m]] = values[m];
+            }
+            this.seriesValues.set(s, merged);
+        }
+        if (added > 0) {
+            this.xValues = mergedX;
+            this.itemCount = newCount;
+        }
+        if (series >= 0) {
+            this.seriesValues.set(series, seriesY);
+        }
+        else {
+            this.seriesKeys.add(seriesKey);
+            this.seriesValues.add(seriesY);
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a series from the dataset and sends a 
+     * {@link DatasetChangeEvent} to all registered listeners.  The x-values
+     * are not changed (see {@link #prune()}).
+     *
+     * @param series  the series (zero based index).
+     */
+    public void removeSeries(int series) {
+        if ((series < 0) || (series >= getSeriesCount())) {
+            throw new IllegalArgumentException("Index outside valid range.");
+        }
+        this.seriesKeys.remove(series);
+        this.seriesValues.remove(series);
+        if (this.seriesKeys.isEmpty()) {
+            this.itemCount = 0;
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes all the series from the dataset and sends a 
+     * {@link DatasetChangeEvent} to all registered listeners.
+     */
+    public void removeAllSeries() {
+        this.seriesKeys.clear();
+        this.seriesValues.clear();
+        this.xValues = new double[0];
+        this.itemCount = 0;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes all x-values for which all the y-values are missing, and sends
+     * a {@link DatasetChangeEvent} to all registered listeners.
+     */
+    public void prune() {
+        int seriesCount = this.seriesKeys.size();
+        int k = 0;
+        for (int i = 0; i < this.itemCount; i++) {
+            boolean empty = true;
+            for (int s = 0; s < seriesCount && empty; s++) {
+                double[] values = (double[]) this.seriesValues.get(s);
+                empty = Double.isNaN(values[i]);
+            }
+            if (!empty) {
+                this.xValues[k] = this.xValues[i];
+                for (int s = 0; s < seriesCount; s++) {
+                    double[] values = (double[]) this.seriesValues.get(s);
+                    values[k] = values[i];
+                }
+                k++;
+            }
+        }
+        this.itemCount = k;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the index of a series, adding an empty series if there is no
+     * series with the key.
+     *
+     * @param seriesKey  the series key (<code>null</code> not permitted).
+     *
+     * @return The series index.
+     */
+    private int getOrCreateSeries(Comparable seriesKey) {
+        if (seriesKey == null) {
+            throw new IllegalArgumentException("Null 'seriesKey' argument.");
+        }
+        int result = indexOf(seriesKey);
+        if (result < 0) {
+            double[] values = new double[this.xValues.length];
+            Arrays.fill(values, Double.NaN);
+            this.seriesKeys.add(seriesKey);
+            this.seriesValues.add(values);
+            result = this.seriesKeys.size() - 1;
+        }
+        return result;
+    }
+
+    /**
+     * Inserts an x-value, with a missing value for every series, growing 
+     * the arrays if necessary.
+     *
+     * @param item  the index for the x-value.
+     * @param x  the x-value.
+     */
+    private void insertX(int item, double x) {
+        int seriesCount = this.seriesKeys.size();
+        if (this.itemCount == this.xValues.length) {
+            int capacity = Math.max(16, this.xValues.length * 2);
+            this.xValues = grow(this.xValues, this.itemCount, capacity);
+            for (int s = 0; s < seriesCount; s++) {
+                this.seriesValues.set(s, grow(
+                        (double[]) this.seriesValues.get(s), this.itemCount,
+                        capacity));
+            }
+        }
+        int tail = this.itemCount - item;
+        System.arraycopy(this.xValues, item, this.xValues, item + 1, tail);
+        this.xValues[item] = x;
+        for (int s = 0; s < seriesCount; s++) {
+            double[] values = (double[]) this.seriesValues.get(s);
+            System.arraycopy(values, item, values, item + 1, tail);
+            values[item] = Double.NaN;
+        }
+        this.itemCount++;
+    }
+
+    /**
+     * Returns a copy of the first <code>count</code> values of an array, 
+     * with a larger capacity that is filled with <code>NaN</code>.
+     *
+     * @param array  the array.
+     * @param count  the number of values to copy.
+     * @param capacity  the new capacity.
+     *
+     * @return The new array.
+     */
+    private static double[] grow(double[] array, int count, int capacity) {
+        double[] result = new double[capacity];
+        System.arraycopy(array, 0, result, 0, count);
+        Arrays.fill(result, count, capacity, Double.NaN);
+        return result;
+    }
+
+    /**
+     * Sorts a range of x-values into ascending order, applying the same 
+     * permutation to the y-values.  This is a stable merge sort, so the last
+     * of several equal x-values stays last.
+     *
+     * @param x  the x-values.
+     * @param y  the y-values.
+     * @param from  the index of the first item.
+     * @param to  the index after the last item.
+     * @param tx  working storage for the x-values.
+     * @param ty  working storage for the y-values.
+     */
+    private static void sort(double[] x, double[] y, int from, int to, 
+                             double[] tx, double[] ty) {
+        if (to - from < 2) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        sort(x, y, from, mid, tx, ty);
+        sort(x, y, mid, to, tx, ty);
+        if (x[mid - 1] <= x[mid]) {
+            return;
+        }
+        System.arraycopy(x, from, tx, from, to - from);
+        System.arraycopy(y, from, ty, from, to - from);
+        int i = from;
+        int j = mid;
+        for (int k = from; k < to; k++) {
+            if (j >= to || (i < mid && tx[i] <= tx[j])) {
+                x[k] = tx[i];
+                y[k] = ty[i];
+                i++;
+            }
+            else {
+                x[k] = tx[j];
+                y[k] = ty[j];
+                j++;
+            }
+        }
+    }
+
+    /**
+     * Returns the minimum x-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     * 
+     * @return The minimum value.
+     */
+    public double getDomainLowerBound(boolean includeInterval) {
+        Range range = getDomainBounds(includeInterval);
+        return (range != null) ? range.getLowerBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum x-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     * 
+     * @return The maximum value.
+     */
+    public double getDomainUpperBound(boolean includeInterval) {
+        Range range = getDomainBounds(includeInterval);
+        return (range != null) ? range.getUpperBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the range of the values in this dataset's domain.  Since the
+     * x-values are sorted, this does not need to look at every item.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     * 
+     * @return The range (<code>null</code> if the dataset is empty).
+     */
+    public Range getDomainBounds(boolean includeInterval) {
+        if (this.itemCount == 0 || this.seriesKeys.isEmpty()) {
+            return null;
+        }
+        if (includeInterval) {
+            return this.intervalDelegate.getDomainBounds(includeInterval);
+        }
+        return new Range(this.xValues[0], this.xValues[this.itemCount - 1]);
+    }
+
+    /**
+     * Returns the interval position factor. 
+     * 
+     * @return The interval position factor.
+     */
+    public double getIntervalPositionFactor() {
+        return this.intervalDelegate.getIntervalPositionFactor();
+    }
+
+    /**
+     * Sets the interval position factor (between 0.0 and 1.0 inclusive), and
+     * sends a {@link DatasetChangeEvent} to all registered listeners.
+     *  
+     * @param d the new interval position factor.
+     */
+    public void setIntervalPositionFactor(double d) {
+        this.intervalDelegate.setIntervalPositionFactor(d);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the full interval width. 
+     * 
+     * @return The interval width to use.
+     */
+    public double getIntervalWidth() {
+        return this.intervalDelegate.getIntervalWidth();
+    }
+
+    /**
+     * Sets the interval width to a fixed value, and sends a 
+     * {@link DatasetChangeEvent} to all registered listeners. 
+     * 
+     * @param d  the new interval width (must be > 0).
+     */
+    public void setIntervalWidth(double d) {
+        this.intervalDelegate.setFixedIntervalWidth(d);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns whether the interval width is automatically calculated or not.
+     * 
+     * @return A flag that determines whether or not the interval width is 
+     *         automatically calculated.
+     */
+    public boolean isAutoWidth() {
+        return this.intervalDelegate.isAutoWidth();
+    }
+
+    /**
+     * Sets the flag that indicates whether the interval width is 
+     * automatically calculated or not, and sends a 
+     * {@link DatasetChangeEvent} to all registered listeners.
+     * 
+     * @param b  a boolean.
+     */
+    public void setAutoWidth(boolean b) {
+        this.intervalDelegate.setAutoWidth(b);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof ColumnarTableXYDataset)) {
+            return false;
+        }
+        ColumnarTableXYDataset that = (ColumnarTableXYDataset) obj;
+        if (!this.intervalDelegate.equals(that.intervalDelegate)) {
+            return false;   
+        }
+        if (!this.seriesKeys.equals(that.seriesKeys)) {
+            return false;
+        }
+        if (this.itemCount != that.itemCount) {
+            return false;
+        }
+        for (int i = 0; i < this.itemCount; i++) {
+            if (this.xValues[i] != that.xValues[i]) {
+                return false;
+            }
+        }
+        for (int s = 0; s < this.seriesValues.size(); s++) {
+            double[] v1 = (double[]) this.seriesValues.get(s);
+            double[] v2 = (double[]) that.seriesValues.get(s);
+            for (int i = 0; i < this.itemCount; i++) {
+                if (Double.doubleToLongBits(v1[i]) 
+                        != Double.doubleToLongBits(v2[i])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code.
+     * 
+     * @return A hash code.
+     */
+    public int hashCode() {
+        int result = this.seriesKeys.hashCode();
+        result = 29 * result + this.itemCount;
+        if (this.itemCount > 0) {
+            long bits = Double.doubleToLongBits(this.xValues[0]);
+            result = 29 * result + (int) (bits ^ (bits >>> 32));
+        }
+        return result;
+    }
+
+    /**
+     * Returns an independent copy of the dataset.
+     * 
+     * @return A clone.
+     * 
+     * @throws CloneNotSupportedException if there is a problem cloning the
+     *     dataset.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        ColumnarTableXYDataset clone = (ColumnarTableXYDataset) super.clone();
+        clone.xValues = this.xValues.clone();
+        clone.seriesKeys = new ArrayList(this.seriesKeys);
+        clone.seriesValues = new ArrayList();
+        for (int s = 0; s < this.seriesValues.size(); s++) {
+            clone.seriesValues.add(
+                    ((double[]) this.seriesValues.get(s)).clone());
+        }
+        clone.intervalDelegate = new IntervalXYDelegate(clone, false);
+        clone.intervalDelegate.setFixedIntervalWidth(
+                this.intervalDelegate.getFixedIntervalWidth());
+        clone.intervalDelegate.setIntervalPositionFactor(
+                this.intervalDelegate.getIntervalPositionFactor());
+        // last, since setting the fixed width turns off the auto width
+        clone.intervalDelegate.setAutoWidth(
+                this.intervalDelegate.isAutoWidth());
+        clone.addChangeListener(clone.intervalDelegate);
+        return clone;
+    }
+
+}
@@ -55,6 +55,7 @@
  * 11-Jan-2005 : Removed deprecated code in preparation for the 1.0.0 
  *               release (DG);
  * 05-Oct-2005 : Made the interval delegate a dataset listener (DG);
+ * 18-Oct-2026 : Implemented UniformIntervalXYDataset;
  * 
  */
 
@@ -80,7 +81,8 @@ import org.jfree.util.ObjectUtilities;
  */
 public class DefaultTableXYDataset extends AbstractIntervalXYDataset 
                                    implements TableXYDataset, 
-                                              IntervalXYDataset, DomainInfo {
+                                              IntervalXYDataset, DomainInfo,
+                                              UniformIntervalXYDataset {
     
     /** 
      * Storage for the data - this list will contain zero, one or many 
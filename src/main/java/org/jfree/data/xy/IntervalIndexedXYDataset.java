@@ -0,0 +1,65 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation,
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------------
+ * IntervalIndexedXYDataset.java
+ * -----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.xy;
+
+/**
+ * An {@link IntervalXYDataset} that can find the items whose x-interval
+ * intersects a range without looking at every item.  The x-value of each 
+ * item must lie within its x-interval, so the items found include all the 
+ * items whose x-value lies in the range.  The 
+ * {@link org.jfree.chart.plot.XYPlot} class uses this to skip the items 
+ * outside the visible domain, when the renderer allows it.
+ */
+public interface IntervalIndexedXYDataset extends IntervalXYDataset {
+
+    /**
+     * Returns the indices of the items in a series whose x-interval 
+     * intersects a range (the bounds are included).
+     *
+     * @param series  the series index (zero-based).
+     * @param lower  the lower bound of the range.
+     * @param upper  the upper bound of the range.
+     *
+     * @return The item indices in ascending order (possibly empty, but never 
+     *         <code>null</code>).
+     */
+    public int[] getItemsIntersecting(int series, double lower, double upper);
+
+}
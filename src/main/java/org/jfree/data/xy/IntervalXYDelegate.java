@@ -46,16 +46,21 @@
  * 21-Feb-2005 : Made public and added equals() method (DG);
  * 06-Oct-2005 : Implemented DatasetChangeListener to recalculate 
  *               autoIntervalWidth (DG);
+ * 18-Oct-2026 : Maintain the automatic interval width incrementally when
+ *               items are appended to the series (DatasetAppendEvent);
  *   
  */
 
 package org.jfree.data.xy;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.jfree.data.DomainInfo;
 import org.jfree.data.Range;
 import org.jfree.data.RangeInfo;
+import org.jfree.data.general.DatasetAppendEvent;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.DatasetChangeListener;
 import org.jfree.data.general.DatasetUtilities;
@@ -77,6 +82,12 @@ import org.jfree.util.PublicCloneable;
  * dataset.  If there is only one item in the series, the auto width 
  * calculation fails and falls back on the manually set interval width (which 
  * is itself defaulted to 1.0). 
+ * <p>
+ * When a {@link DatasetAppendEvent} is received, the smallest gap is updated
+ * from the appended items only (and the items dropped from the start of the
+ * series), so that adding an item to a long series does not require all
+ * the x-values to be read again.  Any other change event causes the width to
+ * be recalculated from scratch.
  * 
  * @author andreas.schroeder
  */
@@ -113,6 +124,13 @@ public class IntervalXYDelegate implements DatasetChangeListener,
      */
     private double autoIntervalWidth;
     
+    /**
+     * The gaps between the x-values in each series, kept while the width is 
+     * calculated automatically (<code>null</code> if the gaps must be 
+     * recalculated from scratch).
+     */
+    private transient List seriesGaps;
+    
     /**
      * Creates a new delegate that.
      * 
@@ -166,6 +184,9 @@ public class IntervalXYDelegate implements DatasetChangeListener,
         if (b) {
             this.autoIntervalWidth = recalculateInterval();
         }
+        else {
+            this.seriesGaps = null;
+        }
     }
     
     /**
@@ -227,6 +248,7 @@ public class IntervalXYDelegate implements DatasetChangeListener,
         }
         this.fixedIntervalWidth = w;
         this.autoWidth = false;
+        this.seriesGaps = null;
     }
     
     /**
@@ -381,11 +403,11 @@ public class IntervalXYDelegate implements DatasetChangeListener,
      * @param e  the event.
      */    
     public void datasetChanged(DatasetChangeEvent e) {
-        // TODO: by coding the event with some information about what changed
-        // in the dataset, we could make the recalculation of the interval
-        // more efficient in some cases...
         if (this.autoWidth) {
-            this.autoIntervalWidth = recalculateInterval();
+            if (!(e instanceof DatasetAppendEvent) 
+                    || !updateInterval((DatasetAppendEvent) e)) {
+                this.autoIntervalWidth = recalculateInterval();
+            }
         }
     }
     
@@ -393,30 +415,61 @@ public class IntervalXYDelegate implements DatasetChangeListener,
      * Recalculate the minimum width "from scratch".
      */
     private double recalculateInterval() {
-        double result = Double.POSITIVE_INFINITY;
         int seriesCount = this.dataset.getSeriesCount();
+        List gaps = new ArrayList(seriesCount);
         for (int series = 0; series < seriesCount; series++) {
-            result = Math.min(result, calculateIntervalForSeries(series));
+            gaps.add(new SeriesGaps(this.dataset, series));
         }
-        return result;
+        this.seriesGaps = gaps;
+        return getMinimumGap();
     }
     
     /**
-     * Calculates the interval width for a given series.
-     *  
-     * @param series  the series index.
+     * Updates the minimum width for items that were appended to a series.
+     * 
+     * @param e  the event.
+     * 
+     * @return <code>false</code> if the change could not be applied 
+     *         incrementally, in which case the width must be recalculated.
      */
-    private double calculateIntervalForSeries(int series) {
-        double result = Double.POSITIVE_INFINITY;
-        int itemCount = this.dataset.getItemCount(series);
-        if (itemCount > 1) {
-            double prev = this.dataset.getXValue(series, 0);
-            for (int item = 1; item < itemCount; item++) {
-                double x = this.dataset.getXValue(series, item);
-                result = Math.min(result, x - prev);
-                prev = x;
+    private boolean updateInterval(DatasetAppendEvent e) {
+        List gaps = this.seriesGaps;
+        if (gaps == null || gaps.size() != this.dataset.getSeriesCount()) {
+            return false;
+        }
+        int first = e.getSeries();
+        int last = e.getSeries();
+        if (first == DatasetAppendEvent.ALL_SERIES) {
+            first = 0;
+            last = gaps.size() - 1;
+        }
+        else if (first < 0 || first >= gaps.size()) {
+            return false;
+        }
+        for (int series = first; series <= last; series++) {
+            SeriesGaps g = (SeriesGaps) gaps.get(series);
+            if (!g.update(this.dataset, series, e.getAppendedItemCount(), 
+                    e.getRemovedItemCount())) {
+                return false;
             }
         }
+        this.autoIntervalWidth = getMinimumGap();
+        return true;
+    }
+    
+    /**
+     * Returns the smallest gap between consecutive x-values over all the 
+     * series.
+     * 
+     * @return The smallest gap (<code>Double.POSITIVE_INFINITY</code> if no
+     *         series has more than one item).
+     */
+    private double getMinimumGap() {
+        double result = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < this.seriesGaps.size(); i++) {
+            SeriesGaps g = (SeriesGaps) this.seriesGaps.get(i);
+            result = Math.min(result, g.getMinimum());
+        }
         return result;
     }
     
@@ -453,7 +506,148 @@ public class IntervalXYDelegate implements DatasetChangeListener,
      * @throws CloneNotSupportedException if the object cannot be cloned.
      */
     public Object clone() throws CloneNotSupportedException {
-        return super.clone();
+        IntervalXYDelegate clone = (IntervalXYDelegate) super.clone();
+        clone.seriesGaps = null;
+        return clone;
+    }
+    
+    /**
+     * The gaps between consecutive x-values in one series, from which the
+     * smallest gap can be found after items are appended to the end of the 
+     * series, or removed from the start, without reading the other x-values.
+     * The gaps are held in a queue in order of item index, keeping only the
+     * gaps that are smaller than all the gaps that follow them, so the 
+     * smallest gap is at the head of the queue.
+     */
+    private static class SeriesGaps {
+        
+        /** The number of items in the series. */
+        private int itemCount;
+        
+        /** The number of items removed from the start of the series. */
+        private long removedCount;
+        
+        /** 
+         * The item index for each gap in the queue (counting items removed 
+         * from the start of the series).
+         */
+        private long[] items;
+        
+        /** The gaps in the queue. */
+        private double[] gaps;
+        
+        /** The index of the head of the queue in the arrays. */
+        private int head;
+        
+        /** The number of gaps in the queue. */
+        private int size;
+        
+        /**
+         * Reads the gaps for a series.
+         * 
+         * @param dataset  the dataset.
+         * @param series  the series index.
+         */
+        SeriesGaps(XYDataset dataset, int series) {
+            this.items = new long[16];
+            this.gaps = new double[16];
+            this.itemCount = dataset.getItemCount(series);
+            if (this.itemCount > 1) {
+                double prev = dataset.getXValue(series, 0);
+                for (int item = 1; item < this.itemCount; item++) {
+                    double x = dataset.getXValue(series, item);
+                    add(item, x - prev);
+                    prev = x;
+                }
+            }
+        }
+        
+        /**
+         * Returns the smallest gap.
+         * 
+         * @return The smallest gap (<code>Double.POSITIVE_INFINITY</code> if 
+         *         the series has less than two items, or <code>NaN</code> if
+         *         any gap is <code>NaN</code>).
+         */
+        double getMinimum() {
+            if (this.size == 0) {
+                return Double.POSITIVE_INFINITY;
+            }
+            return this.gaps[this.head];
+        }
+        
+        /**
+         * Updates the gaps after items are removed from the start of the 
+         * series and appended to the end.
+         * 
+         * @param dataset  the dataset.
+         * @param series  the series index.
+         * @param appended  the number of items appended.
+         * @param removed  the number of items removed.
+         * 
+         * @return <code>false</code> if the item counts do not agree with the
+         *         series, in which case the gaps are not valid.
+         */
+        boolean update(XYDataset dataset, int series, int appended, 
+                       int removed) {
+            int count = this.itemCount - removed;
+            if (appended < 0 || removed < 0 || count < 0 
+                    || dataset.getItemCount(series) != count + appended) {
+                return false;
+            }
+            this.removedCount += removed;
+            // the gap for an item is the gap to the previous item, so it 
+            // goes when the previous item is removed
+            while (this.size > 0 
+                    && this.items[this.head] <= this.removedCount) {
+                this.head = (this.head + 1) % this.items.length;
+                this.size--;
+            }
+            this.itemCount = count + appended;
+            for (int item = Math.max(count, 1); item < this.itemCount; item++) {
+                double gap = dataset.getXValue(series, item) 
+                        - dataset.getXValue(series, item - 1);
+                add(this.removedCount + item, gap);
+            }
+            return true;
+        }
+        
+        /**
+         * Adds a gap to the tail of the queue, first removing the gaps that 
+         * are not smaller.  A <code>NaN</code> gap is treated as smaller 
+         * than any other, to match the result of 
+         * {@link Math#min(double, double)}.
+         * 
+         * @param item  the item index.
+         * @param gap  the gap.
+         */
+        private void add(long item, double gap) {
+            while (this.size > 0) {
+                int tail = (this.head + this.size - 1) % this.items.length;
+                double g = this.gaps[tail];
+                if (g < gap || (Double.isNaN(g) && !Double.isNaN(gap))) {
+                    break;
+                }
+                this.size--;
+            }
+            if (this.size == this.items.length) {
+                long[] newItems = new long[this.size * 2];
+                double[] newGaps = new double[this.size * 2];
+                for (int i = 0; i < this.size; i++) {
+                    int j = (this.head + i) % this.items.length;
+                    newItems[i] = this.items[j];
+                    newGaps[i] = this.gaps[j];
+                }
+                this.items = newItems;
+                this.gaps = newGaps;
+                this.head = 0;
+            }
+            int tail = (this.head + this.size) % this.items.length;
+            this.items[tail] = item;
+            this.gaps[tail] = gap;
+            this.size++;
+        }
+        
     }
     
 }
\ No newline at end of file
@@ -0,0 +1,774 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation,
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------
+ * MappedXYDataset.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.general.SeriesException;
+
+/**
+ * An {@link XYDataset} with a single series that is stored in a file and 
+ * read through a memory-mapped buffer, so that the series does not need to 
+ * fit on the heap (or in memory at all - the operating system pages the
+ * data in as it is needed).  Items can be appended to the end of the 
+ * series, and the file can be reopened later, or read-only by another 
+ * process.
+ * <P>
+ * The file starts with a {@link #HEADER_SIZE}-byte header that holds the 
+ * item count, the minimum and maximum x- and y-values, and a flag that 
+ * records whether the x-values are in ascending order, so the 
+ * {@link DomainInfo} and {@link RangeInfo} methods, and 
+ * {@link #getDomainOrder()}, do not need to read the data.  The header is 
+ * followed by the items, each one an x-value and a y-value stored as 
+ * little-endian <code>double</code> values.  The file can be longer than the
+ * data, since room is reserved for appended items - the item count in the 
+ * header is what counts.
+ * <P>
+ * The items can be read by several threads while one thread appends.  The
+ * data is written to the file by the operating system, call {@link #flush()}
+ * to be sure that it has reached the disk.  Call {@link #close()} when the 
+ * dataset is no longer needed.
+ */
+public class MappedXYDataset extends AbstractXYDataset 
+                             implements XYDataset, DomainInfo, RangeInfo {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -6215392374526158832L;
+
+    /** The size of the file header (in bytes). */
+    public static final int HEADER_SIZE = 64;
+
+    /** The magic number at the start of the file ("JFXY"). */
+    private static final int MAGIC = 0x4A465859;
+
+    /** The file format version. */
+    private static final int VERSION = 1;
+
+    /** The offset of the item count in the header. */
+    private static final int COUNT_OFFSET = 8;
+
+    /** The offset of the minimum x-value in the header. */
+    private static final int MIN_X_OFFSET = 16;
+
+    /** The offset of the maximum x-value in the header. */
+    private static final int MAX_X_OFFSET = 24;
+
+    /** The offset of the minimum y-value in the header. */
+    private static final int MIN_Y_OFFSET = 32;
+
+    /** The offset of the maximum y-value in the header. */
+    private static final int MAX_Y_OFFSET = 40;
+
+    /** The offset of the flags in the header. */
+    private static final int FLAGS_OFFSET = 48;
+
+    /** The flag that is set while the x-values are in ascending order. */
+    private static final int ASCENDING_FLAG = 1;
+
+    /** The size of an item (in bytes). */
+    private static final int ITEM_SIZE = 16;
+
+    /** 
+     * The number of bits in an item index within a segment (each segment is
+     * mapped separately, since a buffer cannot exceed 2GB). 
+     */
+    private static final int SEGMENT_SHIFT = 26;
+
+    /** The maximum number of items in a segment. */
+    private static final int SEGMENT_CAPACITY = 1 << SEGMENT_SHIFT;
+
+    /** The mask for an item index within a segment. */
+    private static final int SEGMENT_MASK = SEGMENT_CAPACITY - 1;
+
+    /** The number of items that room is reserved for in a new file. */
+    private static final int MINIMUM_CAPACITY = 4096;
+
+    /** The series key. */
+    private Comparable seriesKey;
+
+    /** The file. */
+    private File file;
+
+    /** A flag that controls whether the dataset can be modified. */
+    private boolean readOnly;
+
+    /** The file channel (<code>null</code> once the dataset is closed). */
+    private transient FileChannel channel;
+
+    /** The header. */
+    private transient MappedByteBuffer header;
+
+    /** The mapped segments. */
+    private transient MappedByteBuffer[] buffers;
+
+    /** The mapped segments, as little-endian double buffers. */
+    private transient volatile DoubleBuffer[] segments;
+
+    /** The number of items that the mapped segments can hold. */
+    private transient long capacity;
+
+    /** The number of items. */
+    private transient volatile int itemCount;
+
+    /** The minimum x-value (<code>+Infinity</code> if there is none). */
+    private transient double minX;
+
+    /** The maximum x-value (<code>-Infinity</code> if there is none). */
+    private transient double maxX;
+
+    /** The minimum y-value (<code>+Infinity</code> if there is none). */
+    private transient double minY;
+
+    /** The maximum y-value (<code>-Infinity</code> if there is none). */
+    private transient double maxY;
+
+    /** A flag that indicates whether the x-values are in ascending order. */
+    private transient boolean ascending;
+
+    /**
+     * Opens a dataset for reading and appending, creating the file if it 
+     * does not exist.
+     *
+     * @param seriesKey  the series key (<code>null</code> not permitted).
+     * @param file  the file (<code>null</code> not permitted).
+     *
+     * @throws IOException if the file cannot be opened, or is not a dataset
+     *         file.
+     */
+    public MappedXYDataset(Comparable seriesKey, File file) 
+            throws IOException {
+        this(seriesKey, file, false);
+    }
+
+    /**
+     * Opens a dataset.  If <code>readOnly</code> is <code>false</code>, the
+     * file is created if it does not exist.
+     *
+     * @param seriesKey  the series key (<code>null</code> not permitted).
+     * @param file  the file (<code>null</code> not permitted).
+     * @param readOnly  if <code>true</code>, the file is opened read-only and
+     *                  items cannot be added.
+     *
+     * @throws IOException if the file cannot be opened, or is not a dataset
+     *         file.
+     */
+    public MappedXYDataset(Comparable seriesKey, File file, boolean readOnly) 
+            throws IOException {
+        if (seriesKey == null) {
+            throw new IllegalArgumentException("Null 'seriesKey' argument.");
+        }
+        if (file == null) {
+            throw new IllegalArgumentException("Null 'file' argument.");
+        }
+        this.seriesKey = seriesKey;
+        this.file = file;
+        this.readOnly = readOnly;
+        open();
+    }
+
+    /**
+     * Opens the file and maps the header and the items.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void open() throws IOException {
+        this.buffers = new MappedByteBuffer[0];
+        this.segments = new DoubleBuffer[0];
+        this.capacity = 0L;
+        RandomAccessFile raf = new RandomAccessFile(this.file, 
+                this.readOnly ? "r" : "rw");
+        this.channel = raf.getChannel();
+        try {
+            long size = this.channel.size();
+            boolean created = (size == 0L && !this.readOnly);
+            if (!created && size < HEADER_SIZE) {
+                throw new IOException("Not a dataset file: " + this.file);
+            }
+            this.header = this.channel.map(getMapMode(), 0L, HEADER_SIZE);
+            this.header.order(ByteOrder.LITTLE_ENDIAN);
+            if (created) {
+                this.header.putInt(0, MAGIC);
+                this.header.putInt(4, VERSION);
+                this.minX = Double.POSITIVE_INFINITY;
+                this.maxX = Double.NEGATIVE_INFINITY;
+                this.minY = Double.POSITIVE_INFINITY;
+                this.maxY = Double.NEGATIVE_INFINITY;
+                this.ascending = true;
+                writeHeader(0);
+            }
+            else {
+                if (this.header.getInt(0) != MAGIC) {
+                    throw new IOException("Not a dataset file: " + this.file);
+                }
+                if (this.header.getInt(4) != VERSION) {
+                    throw new IOException("Unsupported file version "
+                            + this.header.getInt(4) + ": " + this.file);
+                }
+                long count = this.header.getLong(COUNT_OFFSET);
+                if (count < 0L || count > Integer.MAX_VALUE 
+                        || HEADER_SIZE + count * ITEM_SIZE > size) {
+                    throw new IOException("Invalid item count " + count 
+                            + ": " + this.file);
+                }
+                this.minX = this.header.getDouble(MIN_X_OFFSET);
+                this.maxX = this.header.getDouble(MAX_X_OFFSET);
+                this.minY = this.header.getDouble(MIN_Y_OFFSET);
+                this.maxY = this.header.getDouble(MAX_Y_OFFSET);
+                this.ascending = (this.header.getInt(FLAGS_OFFSET) 
+                        & ASCENDING_FLAG) != 0;
+                if (this.readOnly) {
+                    map(count);
+                }
+                else {
+                    long available = (size - HEADER_SIZE) / ITEM_SIZE;
+                    map(Math.max(count, Math.min(available, 
+                            Integer.MAX_VALUE)));
+                }
+                this.itemCount = (int) count;
+            }
+        }
+        catch (IOException e) {
+            this.channel.close();
+            this.channel = null;
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the mode for mapping the file.
+     *
+     * @return The mode.
+     */
+    private FileChannel.MapMode getMapMode() {
+        return this.readOnly ? FileChannel.MapMode.READ_ONLY 
+                : FileChannel.MapMode.READ_WRITE;
+    }
+
+    /**
+     * Maps enough of the file to hold the specified number of items.  Only
+     * the segments that are new or have grown are mapped again, and the 
+     * file is extended if necessary.
+     *
+     * @param newCapacity  the number of items.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void map(long newCapacity) throws IOException {
+        int n = (int) ((newCapacity + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+        MappedByteBuffer[] newBuffers = new MappedByteBuffer[n];
+        DoubleBuffer[] newSegments = new DoubleBuffer[n];
+        int reuse = Math.min(n, this.buffers.length);
+        System.arraycopy(this.buffers, 0, newBuffers, 0, reuse);
+        System.arraycopy(this.segments, 0, newSegments, 0, reuse);
+        for (int i = 0; i < n; i++) {
+            long first = (long) i << SEGMENT_SHIFT;
+            long size = Math.min(newCapacity - first, SEGMENT_CAPACITY);
+            if (newBuffers[i] == null 
+                    || newBuffers[i].capacity() < size * ITEM_SIZE) {
+                MappedByteBuffer buffer = this.channel.map(getMapMode(), 
+                        HEADER_SIZE + first * ITEM_SIZE, size * ITEM_SIZE);
+                newBuffers[i] = buffer;
+                newSegments[i] = buffer.order(
+                        ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+            }
+        }
+        this.buffers = newBuffers;
+        this.segments = newSegments;
+        this.capacity = newCapacity;
+    }
+
+    /**
+     * Makes sure that the mapped segments can hold the specified number of
+     * items, doubling the capacity if necessary.
+     *
+     * @param required  the number of items.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void ensureCapacity(long required) throws IOException {
+        if (required > Integer.MAX_VALUE) {
+            throw new SeriesException("The series cannot hold more than " 
+                    + Integer.MAX_VALUE + " items.");
+        }
+        if (required > this.capacity) {
+            long newCapacity = Math.max(this.capacity * 2L, MINIMUM_CAPACITY);
+            map(Math.min(Math.max(newCapacity, required), Integer.MAX_VALUE));
+        }
+    }
+
+    /**
+     * Writes the item count, the bounds and the flags to the header.
+     *
+     * @param count  the item count.
+     */
+    private void writeHeader(int count) {
+        this.header.putDouble(MIN_X_OFFSET, this.minX);
+        this.header.putDouble(MAX_X_OFFSET, this.maxX);
+        this.header.putDouble(MIN_Y_OFFSET, this.minY);
+        this.header.putDouble(MAX_Y_OFFSET, this.maxY);
+        this.header.putInt(FLAGS_OFFSET, 
+                this.ascending ? ASCENDING_FLAG : 0);
+        this.header.putLong(COUNT_OFFSET, count);
+    }
+
+    /**
+     * Returns the file.
+     *
+     * @return The file (never <code>null</code>).
+     */
+    public File getFile() {
+        return this.file;
+    }
+
+    /**
+     * Returns <code>true</code> if the dataset is read-only.
+     *
+     * @return A boolean.
+     */
+    public boolean isReadOnly() {
+        return this.readOnly;
+    }
+
+    /**
+     * Returns the number of series in the dataset (always 1).
+     *
+     * @return The series count.
+     */
+    public int getSeriesCount() {
+        return 1;
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (must be zero).
+     *
+     * @return The key for the series.
+     */
+    public Comparable getSeriesKey(int series) {
+        if (series != 0) {
+            throw new IllegalArgumentException("Invalid series index: " 
+                    + series);
+        }
+        return this.seriesKey;
+    }
+
+    /**
+     * Returns the number of items in a series.
+     *
+     * @param series  the series index (ignored).
+     *
+     * @return The item count.
+     */
+    public int getItemCount(int series) {
+        return this.itemCount;
+    }
+
+    /**
+     * Returns the order of the domain (x-) values.
+     *
+     * @return The domain order.
+     */
+    public DomainOrder getDomainOrder() {
+        synchronized (this) {
+            return this.ascending ? DomainOrder.ASCENDING : DomainOrder.NONE;
+        }
+    }
+
+    /**
+     * Returns the x-value for an item.
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    public double getXValue(int series, int item) {
+        return getValue(item, 0);
+    }
+
+    /**
+     * Returns the x-value for an item.
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    public Number getX(int series, int item) {
+        return new Double(getXValue(series, item));
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value (possibly <code>Double.NaN</code>).
+     */
+    public double getYValue(int series, int item) {
+        return getValue(item, 1);
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value (<code>null</code> if the value is 
+     *         <code>Double.NaN</code>).
+     */
+    public Number getY(int series, int item) {
+        double y = getYValue(series, item);
+        return Double.isNaN(y) ? null : new Double(y);
+    }
+
+    /**
+     * Reads a value from the mapped segments.
+     *
+     * @param item  the item index.
+     * @param offset  0 for the x-value, 1 for the y-value.
+     *
+     * @return The value.
+     */
+    private double getValue(int item, int offset) {
+        if (item < 0 || item >= this.itemCount) {
+            throw new IndexOutOfBoundsException("Invalid item index: " 
+                    + item);
+        }
+        return read(item, offset);
+    }
+
+    /**
+     * Reads a value from the mapped segments, without checking the item 
+     * index.
+     *
+     * @param item  the item index.
+     * @param offset  0 for the x-value, 1 for the y-value.
+     *
+     * @return The value.
+     */
+    private double read(int item, int offset) {
+        DoubleBuffer segment = this.segments[item >>> SEGMENT_SHIFT];
+        return segment.get(((item & SEGMENT_MASK) << 1) + offset);
+    }
+
+    /**
+     * Appends an item to the series and sends a 
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value (<code>Double.NaN</code> for a missing value).
+     *
+     * @throws IOException if the file cannot be extended.
+     */
+    public void add(double x, double y) throws IOException {
+        synchronized (this) {
+            int count = this.itemCount;
+            checkWritable();
+            ensureCapacity(count + 1L);
+            put(count, x, y);
+            commit(count + 1);
+        }
+        fireDatasetAppended(0, 1, 0);
+    }
+
+    /**
+     * Appends some items to the series and sends a single
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.
+     *
+     * @param x  the x-values (<code>null</code> not permitted).
+     * @param y  the y-values (<code>null</code> not permitted, and the same
+     *           length as <code>x</code>).
+     *
+     * @throws IOException if the file cannot be extended.
+     */
+    public void add(double[] x, double[] y) throws IOException {
+        if (x == null) {
+            throw new IllegalArgumentException("Null 'x' argument.");
+        }
+        if (y == null) {
+            throw new IllegalArgumentException("Null 'y' argument.");
+        }
+        if (x.length != y.length) {
+            throw new IllegalArgumentException(
+                "The 'x' and 'y' arrays must have the same length."
+            );
+        }
+        if (x.length == 0) {
+            return;
+        }
+        synchronized (this) {
+            int count = this.itemCount;
+            checkWritable();
+            ensureCapacity((long) count + x.length);
+            for (int i = 0; i < x.length; i++) {
+                put(count + i, x[i], y[i]);
+            }
+            commit(count + x.length);
+        }
+        fireDatasetAppended(0, x.length, 0);
+    }
+
+    /**
+     * Checks that items can be added to the dataset.
+     */
+    private void checkWritable() {
+        if (this.channel == null) {
+            throw new IllegalStateException("The dataset is closed.");
+        }
+        if (this.readOnly) {
+            throw new IllegalStateException("The dataset is read-only.");
+        }
+    }
+
+    /**
+     * Writes an item (beyond the current item count) and updates the bounds.
+     *
+     * @param item  the item index.
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    private void put(int item, double x, double y) {
+        DoubleBuffer segment = this.segments[item >>> SEGMENT_SHIFT];
+        int index = (item & SEGMENT_MASK) << 1;
+        segment.put(index, x);
+        segment.put(index + 1, y);
+        if (this.ascending && item > 0 
+                && !(x >= read(item - 1, 0))) {
+            this.ascending = false;
+        }
+        if (x < this.minX) {
+            this.minX = x;
+        }
+        if (x > this.maxX) {
+            this.maxX = x;
+        }
+        if (y < this.minY) {
+            this.minY = y;
+        }
+        if (y > this.maxY) {
+            this.maxY = y;
+        }
+    }
+
+    /**
+     * Writes the header and makes the written items visible to readers.
+     *
+     * @param count  the new item count.
+     */
+    private void commit(int count) {
+        writeHeader(count);
+        this.itemCount = count;
+    }
+
+    /**
+     * Forces any changes to the dataset to be written to the disk.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public synchronized void flush() throws IOException {
+        if (this.channel == null || this.readOnly) {
+            return;
+        }
+        for (int i = 0; i < this.buffers.length; i++) {
+            this.buffers[i].force();
+        }
+        this.header.force();
+    }
+
+    /**
+     * Flushes and closes the dataset.  The dataset appears to be empty after
+     * it is closed.  Closing a dataset that is already closed has no effect.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void close() throws IOException {
+        synchronized (this) {
+            if (this.channel == null) {
+                return;
+            }
+            flush();
+            this.itemCount = 0;
+            this.segments = new DoubleBuffer[0];
+            this.buffers = new MappedByteBuffer[0];
+            this.header = null;
+            this.capacity = 0L;
+            this.minX = Double.POSITIVE_INFINITY;
+            this.maxX = Double.NEGATIVE_INFINITY;
+            this.minY = Double.POSITIVE_INFINITY;
+            this.maxY = Double.NEGATIVE_INFINITY;
+            try {
+                this.channel.close();
+            }
+            finally {
+                this.channel = null;
+            }
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the minimum x-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The minimum value (<code>Double.NaN</code> if there are no
+     *         x-values).
+     */
+    public double getDomainLowerBound(boolean includeInterval) {
+        Range range = getDomainBounds(includeInterval);
+        return (range != null) ? range.getLowerBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum x-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The maximum value (<code>Double.NaN</code> if there are no
+     *         x-values).
+     */
+    public double getDomainUpperBound(boolean includeInterval) {
+        Range range = getDomainBounds(includeInterval);
+        return (range != null) ? range.getUpperBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the range of the x-values in the dataset, from the summary in 
+     * the file header.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The range (<code>null</code> if there are no x-values).
+     */
+    public synchronized Range getDomainBounds(boolean includeInterval) {
+        if (this.minX > this.maxX) {
+            return null;
+        }
+        return new Range(this.minX, this.maxX);
+    }
+
+    /**
+     * Returns the minimum y-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The minimum value (<code>Double.NaN</code> if there are no
+     *         y-values).
+     */
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range range = getRangeBounds(includeInterval);
+        return (range != null) ? range.getLowerBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The maximum value (<code>Double.NaN</code> if there are no
+     *         y-values).
+     */
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range range = getRangeBounds(includeInterval);
+        return (range != null) ? range.getUpperBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the range of the y-values in the dataset, from the summary in 
+     * the file header.  Missing (<code>Double.NaN</code>) values are ignored.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The range (<code>null</code> if there are no y-values).
+     */
+    public synchronized Range getRangeBounds(boolean includeInterval) {
+        if (this.minY > this.maxY) {
+            return null;
+        }
+        return new Range(this.minY, this.maxY);
+    }
+
+    /**
+     * A mapped dataset cannot be cloned, since the clone would share the 
+     * file.
+     *
+     * @return Never returns.
+     *
+     * @throws CloneNotSupportedException always.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        throw new CloneNotSupportedException(
+            "A MappedXYDataset cannot be cloned."
+        );
+    }
+
+    /**
+     * Provides serialization support.  The file is opened again, so it must
+     * be accessible where the dataset is deserialized.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream) 
+        throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        open();
+    }
+
+}
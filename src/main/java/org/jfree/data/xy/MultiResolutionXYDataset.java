@@ -0,0 +1,81 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation,
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------------
+ * MultiResolutionXYDataset.java
+ * -----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Added getItemIndex();
+ *
+ */
+
+package org.jfree.data.xy;
+
+/**
+ * An {@link XYDataset} that can supply a reduced view of its data for 
+ * drawing at a given scale.  An {@link org.jfree.chart.plot.XYPlot} draws 
+ * the view in place of the dataset, so the cost of drawing depends on the 
+ * size of the plot rather than the size of the dataset.
+ */
+public interface MultiResolutionXYDataset extends XYDataset {
+
+    /**
+     * Returns a view of the dataset with enough detail to draw the items 
+     * in an x-range across a number of pixels.  The view has the same series
+     * (with the same keys) as the dataset, but it may leave out items that 
+     * cannot be seen, either because they are outside the x-range or 
+     * because they are hidden by other items at this scale.
+     *
+     * @param lower  the lower bound of the x-range.
+     * @param upper  the upper bound of the x-range.
+     * @param resolution  the number of pixels across the x-range.
+     *
+     * @return The view (possibly the dataset itself, but never 
+     *         <code>null</code>).
+     */
+    public XYDataset getView(double lower, double upper, int resolution);
+
+    /**
+     * Returns the index in this dataset of an item in a view.  The plot uses
+     * this method so that the entities for the items drawn from a view refer
+     * to the items in the dataset.
+     *
+     * @param view  a view returned by 
+     *              {@link #getView(double, double, int)}.
+     * @param series  the series index (zero-based).
+     * @param item  the item index in the view (zero-based).
+     *
+     * @return The item index in this dataset.
+     */
+    public int getItemIndex(XYDataset view, int series, int item);
+
+}
@@ -0,0 +1,1067 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation,
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------
+ * PyramidXYDataset.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Kept the pyramid when items are removed from the start, and
+ *               added getItemIndex();
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+
+import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.general.DatasetAppendEvent;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+
+/**
+ * A {@link MultiResolutionXYDataset} that wraps another dataset (for example
+ * a {@link org.jfree.data.time.TimeSeriesCollection}, an 
+ * {@link XYSeriesCollection} or a {@link MappedXYDataset}) and keeps a 
+ * pyramid of summaries for each series, so that a plot of a very long 
+ * series can be drawn at any zoom level from a number of items that depends
+ * on the width of the plot rather than the length of the series.
+ * <P>
+ * The items of a series are divided into blocks of 16, 32, 64 and so on 
+ * items (one level of the pyramid for each block size), and the pyramid 
+ * records the items with the minimum and maximum y-value in each block.  A 
+ * view for a given x-range and width uses the smallest blocks that give no
+ * more than two blocks per pixel, and includes the first, minimum, maximum 
+ * and last item of each block, in order.  Lines drawn through these items 
+ * cover almost the same pixels as lines drawn through all the items, and 
+ * the view always includes the true extremes of the data.  Where the 
+ * x-range holds few enough items, the view simply leaves out the items 
+ * outside the range.
+ * <P>
+ * The pyramid is only used for series with x-values in ascending order
+ * (other series are drawn in full), and it is built when it is first 
+ * needed.  When items are appended to the underlying dataset (signalled by
+ * a {@link DatasetAppendEvent}), only the blocks at the end of each level 
+ * are updated, together with the first block of each level when items are 
+ * removed from the start; any other change causes the pyramid to be 
+ * rebuilt.
+ * <P>
+ * The dataset itself has the same items as the underlying dataset, and 
+ * answers the {@link DomainInfo} and {@link RangeInfo} methods from the 
+ * pyramid when the underlying dataset does not.
+ */
+public class PyramidXYDataset extends AbstractXYDataset 
+                              implements MultiResolutionXYDataset, 
+                                         DomainInfo, RangeInfo,
+                                         DatasetChangeListener {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 3876904532891164037L;
+
+    /** The number of bits in the size of the smallest blocks. */
+    private static final int BASE_SHIFT = 4;
+
+    /** 
+     * The number of items per pixel that is drawn without using the 
+     * pyramid. 
+     */
+    private static final int ITEMS_PER_PIXEL = 4;
+
+    /** 
+     * The maximum number of blocks per pixel in a view (more than one, since
+     * the blocks do not line up with the pixels). 
+     */
+    private static final int BLOCKS_PER_PIXEL = 2;
+
+    /** The underlying dataset. */
+    private XYDataset source;
+
+    /** 
+     * The pyramid for each series (<code>null</code> if the pyramids must be
+     * rebuilt). 
+     */
+    private transient Pyramid[] pyramids;
+
+    /** The most recent view (<code>null</code> if there is none). */
+    private transient XYDataset view;
+
+    /** The lower bound of the x-range for the most recent view. */
+    private transient double viewLower;
+
+    /** The upper bound of the x-range for the most recent view. */
+    private transient double viewUpper;
+
+    /** The resolution for the most recent view. */
+    private transient int viewResolution;
+
+    /**
+     * Creates a new dataset.  The dataset registers itself as a listener 
+     * with the underlying dataset.
+     *
+     * @param source  the underlying dataset (<code>null</code> not 
+     *                permitted).
+     */
+    public PyramidXYDataset(XYDataset source) {
+        if (source == null) {
+            throw new IllegalArgumentException("Null 'source' argument.");
+        }
+        this.source = source;
+        this.source.addChangeListener(this);
+    }
+
+    /**
+     * Returns the underlying dataset.
+     *
+     * @return The underlying dataset (never <code>null</code>).
+     */
+    public XYDataset getSource() {
+        return this.source;
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    public int getSeriesCount() {
+        return this.source.getSeriesCount();
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The key for the series.
+     */
+    public Comparable getSeriesKey(int series) {
+        return this.source.getSeriesKey(series);
+    }
+
+    /**
+     * Returns the number of items in a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The item count.
+     */
+    public int getItemCount(int series) {
+        return this.source.getItemCount(series);
+    }
+
+    /**
+     * Returns the order of the domain (x-) values.
+     *
+     * @return The domain order.
+     */
+    public DomainOrder getDomainOrder() {
+        return this.source.getDomainOrder();
+    }
+
+    /**
+     * Returns the x-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    public Number getX(int series, int item) {
+        return this.source.getX(series, item);
+    }
+
+    /**
+     * Returns the x-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    public double getXValue(int series, int item) {
+        return this.source.getXValue(series, item);
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value (possibly <code>null</code>).
+     */
+    public Number getY(int series, int item) {
+        return this.source.getY(series, item);
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value.
+     */
+    public double getYValue(int series, int item) {
+        return this.source.getYValue(series, item);
+    }
+
+    /**
+     * Returns a view of the dataset for drawing an x-range across a number 
+     * of pixels.
+     *
+     * @param lower  the lower bound of the x-range.
+     * @param upper  the upper bound of the x-range.
+     * @param resolution  the number of pixels across the x-range.
+     *
+     * @return The view (this dataset if no items can be left out).
+     */
+    public synchronized XYDataset getView(double lower, double upper, 
+                                          int resolution) {
+        if (this.view != null && this.viewLower == lower 
+                && this.viewUpper == upper 
+                && this.viewResolution == resolution) {
+            return this.view;
+        }
+        int seriesCount = this.source.getSeriesCount();
+        int[][] items = new int[seriesCount][];
+        boolean reduced = false;
+        for (int series = 0; series < seriesCount; series++) {
+            items[series] = getViewItems(series, lower, upper, 
+                    Math.max(resolution, 1));
+            reduced = reduced || items[series] != null;
+        }
+        this.view = (reduced ? (XYDataset) new View(this.source, items) 
+                : this);
+        this.viewLower = lower;
+        this.viewUpper = upper;
+        this.viewResolution = resolution;
+        return this.view;
+    }
+
+    /**
+     * Returns the index in this dataset of an item in a view.
+     *
+     * @param view  a view returned by 
+     *              {@link #getView(double, double, int)}.
+     * @param series  the series index (zero-based).
+     * @param item  the item index in the view (zero-based).
+     *
+     * @return The item index in this dataset.
+     */
+    public int getItemIndex(XYDataset view, int series, int item) {
+        if (view instanceof View && ((View) view).dataset == this.source) {
+            return ((View) view).getItem(series, item);
+        }
+        return item;
+    }
+
+    /**
+     * Returns the indices of the items in a series that are included in a
+     * view.
+     *
+     * @param series  the series index.
+     * @param lower  the lower bound of the x-range.
+     * @param upper  the upper bound of the x-range.
+     * @param resolution  the number of pixels across the x-range.
+     *
+     * @return The item indices in ascending order, or <code>null</code> for
+     *         all the items.
+     */
+    private int[] getViewItems(int series, double lower, double upper, 
+                               int resolution) {
+        Pyramid pyramid = getPyramid(series);
+        int count = pyramid.itemCount;
+        if (!pyramid.ascending || count == 0) {
+            return null;
+        }
+        // include one item either side of the range, so that lines to the
+        // items just outside the range are drawn...
+        int first = Math.max(indexOfFirst(series, lower, count) - 1, 0);
+        int last = Math.min(indexOfLast(series, upper, count) + 1, count - 1);
+        int n = last - first + 1;
+        if (n <= ITEMS_PER_PIXEL * resolution) {
+            if (n == count) {
+                return null;
+            }
+            int[] result = new int[n];
+            for (int i = 0; i < n; i++) {
+                result[i] = first + i;
+            }
+            return result;
+        }
+        int shift = BASE_SHIFT;
+        while ((n >> shift) > BLOCKS_PER_PIXEL * resolution) {
+            shift++;
+        }
+        int level = Math.min(shift - BASE_SHIFT, pyramid.levelCount - 1);
+        shift = BASE_SHIFT + level;
+        int origin = pyramid.origin;
+        int firstBlock = (origin + first) >> shift;
+        int lastBlock = (origin + last) >> shift;
+        int[] result = new int[(lastBlock - firstBlock + 1) * 4];
+        int m = 0;
+        for (int b = firstBlock; b <= lastBlock; b++) {
+            int start = Math.max(b << shift, origin) - origin;
+            int end = (int) Math.min((((long) b + 1) << shift) - 1 - origin, 
+                    count - 1);
+            int min = pyramid.getMinItem(level, b);
+            int max = pyramid.getMaxItem(level, b);
+            result[m++] = start;
+            if (min >= 0) {
+                int a = Math.min(min, max);
+                int c = Math.max(min, max);
+                if (a > result[m - 1]) {
+                    result[m++] = a;
+                }
+                if (c > result[m - 1]) {
+                    result[m++] = c;
+                }
+            }
+            if (end > result[m - 1]) {
+                result[m++] = end;
+            }
+        }
+        int[] trimmed = new int[m];
+        System.arraycopy(result, 0, trimmed, 0, m);
+        return trimmed;
+    }
+
+    /**
+     * Returns the index of the first item in a series with an x-value 
+     * greater than or equal to a value (the x-values must be in ascending 
+     * order).
+     *
+     * @param series  the series index.
+     * @param x  the value.
+     * @param count  the item count.
+     *
+     * @return The index (<code>count</code> if there is no such item).
+     */
+    private int indexOfFirst(int series, double x, int count) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.source.getXValue(series, mid) < x) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the last item in a series with an x-value less 
+     * than or equal to a value (the x-values must be in ascending order).
+     *
+     * @param series  the series index.
+     * @param x  the value.
+     * @param count  the item count.
+     *
+     * @return The index (-1 if there is no such item).
+     */
+    private int indexOfLast(int series, double x, int count) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.source.getXValue(series, mid) <= x) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low - 1;
+    }
+
+    /**
+     * Returns the pyramid for a series, bringing it up to date first.
+     *
+     * @param series  the series index.
+     *
+     * @return The pyramid.
+     */
+    private Pyramid getPyramid(int series) {
+        int seriesCount = this.source.getSeriesCount();
+        if (this.pyramids == null || this.pyramids.length != seriesCount) {
+            this.pyramids = new Pyramid[seriesCount];
+        }
+        Pyramid pyramid = this.pyramids[series];
+        if (pyramid == null) {
+            pyramid = new Pyramid();
+            this.pyramids[series] = pyramid;
+        }
+        pyramid.update(this.source, series);
+        return pyramid;
+    }
+
+    /**
+     * Receives notification of a change to the underlying dataset, and 
+     * passes it on to the listeners of this dataset.
+     *
+     * @param event  information about the change.
+     */
+    public void datasetChanged(DatasetChangeEvent event) {
+        DatasetAppendEvent append = null;
+        if (event instanceof DatasetAppendEvent) {
+            append = (DatasetAppendEvent) event;
+        }
+        synchronized (this) {
+            this.view = null;
+            if (append == null) {
+                this.pyramids = null;
+            }
+            else if (append.getRemovedItemCount() > 0 
+                    && this.pyramids != null) {
+                for (int s = 0; s < this.pyramids.length; s++) {
+                    if (this.pyramids[s] != null 
+                            && (s == append.getSeries() || append.getSeries()
+                            == DatasetAppendEvent.ALL_SERIES)) {
+                        this.pyramids[s].itemsRemoved(
+                                append.getRemovedItemCount());
+                    }
+                }
+            }
+        }
+        if (append != null) {
+            fireDatasetAppended(append.getSeries(), 
+                    append.getAppendedItemCount(), 
+                    append.getRemovedItemCount());
+        }
+        else {
+            fireDatasetChanged();
+        }
+    }
+
+    /**
+     * Returns the minimum x-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The minimum value (<code>Double.NaN</code> if there is none).
+     */
+    public double getDomainLowerBound(boolean includeInterval) {
+        Range range = getDomainBounds(includeInterval);
+        return (range != null) ? range.getLowerBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum x-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The maximum value (<code>Double.NaN</code> if there is none).
+     */
+    public double getDomainUpperBound(boolean includeInterval) {
+        Range range = getDomainBounds(includeInterval);
+        return (range != null) ? range.getUpperBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the range of the x-values in the dataset.  If the underlying
+     * dataset implements {@link DomainInfo}, it supplies the range, and 
+     * otherwise the first and last x-values are used for the series with 
+     * x-values in ascending order.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The range (<code>null</code> if there are no x-values).
+     */
+    public synchronized Range getDomainBounds(boolean includeInterval) {
+        if (this.source instanceof DomainInfo) {
+            return ((DomainInfo) this.source).getDomainBounds(
+                    includeInterval);
+        }
+        double minimum = Double.POSITIVE_INFINITY;
+        double maximum = Double.NEGATIVE_INFINITY;
+        for (int series = 0; series < getSeriesCount(); series++) {
+            Pyramid pyramid = getPyramid(series);
+            int count = pyramid.itemCount;
+            if (pyramid.ascending && count > 0) {
+                minimum = Math.min(minimum, getXValue(series, 0));
+                maximum = Math.max(maximum, getXValue(series, count - 1));
+            }
+            else {
+                for (int item = 0; item < count; item++) {
+                    double x = getXValue(series, item);
+                    if (!Double.isNaN(x)) {
+                        minimum = Math.min(minimum, x);
+                        maximum = Math.max(maximum, x);
+                    }
+                }
+            }
+        }
+        return (minimum <= maximum ? new Range(minimum, maximum) : null);
+    }
+
+    /**
+     * Returns the minimum y-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     *
+     * @return The minimum value (<code>Double.NaN</code> if there is none).
+     */
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range range = getRangeBounds(includeInterval);
+        return (range != null) ? range.getLowerBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     *
+     * @return The maximum value (<code>Double.NaN</code> if there is none).
+     */
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range range = getRangeBounds(includeInterval);
+        return (range != null) ? range.getUpperBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the range of the y-values in the dataset.  If the underlying
+     * dataset implements {@link RangeInfo}, it supplies the range, and 
+     * otherwise the top level of the pyramid is used for the series with 
+     * x-values in ascending order.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     *
+     * @return The range (<code>null</code> if there are no y-values).
+     */
+    public synchronized Range getRangeBounds(boolean includeInterval) {
+        if (this.source instanceof RangeInfo) {
+            return ((RangeInfo) this.source).getRangeBounds(includeInterval);
+        }
+        double minimum = Double.POSITIVE_INFINITY;
+        double maximum = Double.NEGATIVE_INFINITY;
+        for (int series = 0; series < getSeriesCount(); series++) {
+            Pyramid pyramid = getPyramid(series);
+            if (pyramid.ascending && pyramid.levelCount > 0) {
+                int top = pyramid.levelCount - 1;
+                int block = pyramid.origin >> (BASE_SHIFT + top);
+                int min = pyramid.getMinItem(top, block);
+                if (min >= 0) {
+                    minimum = Math.min(minimum, getYValue(series, min));
+                    maximum = Math.max(maximum, getYValue(series, 
+                            pyramid.getMaxItem(top, block)));
+                }
+            }
+            else {
+                for (int item = 0; item < pyramid.itemCount; item++) {
+                    double y = getYValue(series, item);
+                    if (!Double.isNaN(y)) {
+                        minimum = Math.min(minimum, y);
+                        maximum = Math.max(maximum, y);
+                    }
+                }
+            }
+        }
+        return (minimum <= maximum ? new Range(minimum, maximum) : null);
+    }
+
+    /**
+     * Returns a clone of the dataset.  The clone shares the underlying 
+     * dataset, and registers itself as a listener with it.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if the dataset cannot be cloned.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        PyramidXYDataset clone = (PyramidXYDataset) super.clone();
+        clone.pyramids = null;
+        clone.view = null;
+        clone.source.addChangeListener(clone);
+        return clone;
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream) 
+        throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.source.addChangeListener(this);
+    }
+
+    /**
+     * The summaries for one series.  Level <code>k</code> of the pyramid 
+     * divides the items into blocks of <code>2^(BASE_SHIFT + k)</code> 
+     * items, and the top level has a single block.  The blocks are counted
+     * from a fixed position, so that when items are removed from the start 
+     * of the series only the first block of each level has to be updated.
+     */
+    private static class Pyramid {
+
+        /** The number of items summarised. */
+        private int itemCount;
+
+        /** 
+         * The position of the first item (the number of items removed from
+         * the start of the series since the pyramid was built). 
+         */
+        private int origin;
+
+        /** 
+         * The number of items removed from the start of the series since the
+         * pyramid was last brought up to date.
+         */
+        private int removedCount;
+
+        /** A flag that indicates whether the x-values are ascending. */
+        private boolean ascending = true;
+
+        /** The number of levels. */
+        private int levelCount;
+
+        /** The number of the block held first in the arrays of each level. */
+        private int[] firstBlocks = new int[0];
+
+        /** 
+         * The position of the item with the minimum y-value in each block of 
+         * each level (-1 if all the y-values in a block are missing). 
+         */
+        private int[][] minItems = new int[0][];
+
+        /** 
+         * The position of the item with the maximum y-value in each block of 
+         * each level (-1 if all the y-values in a block are missing). 
+         */
+        private int[][] maxItems = new int[0][];
+
+        /**
+         * Records that items have been removed from the start of the series.
+         *
+         * @param count  the number of items removed.
+         */
+        void itemsRemoved(int count) {
+            this.removedCount += count;
+        }
+
+        /**
+         * Returns the index of the item with the minimum y-value in a block.
+         *
+         * @param level  the level.
+         * @param block  the block number.
+         *
+         * @return The item index (-1 if all the y-values are missing).
+         */
+        int getMinItem(int level, int block) {
+            int p = this.minItems[level][block - this.firstBlocks[level]];
+            return (p >= 0 ? p - this.origin : -1);
+        }
+
+        /**
+         * Returns the index of the item with the maximum y-value in a block.
+         *
+         * @param level  the level.
+         * @param block  the block number.
+         *
+         * @return The item index (-1 if all the y-values are missing).
+         */
+        int getMaxItem(int level, int block) {
+            int p = this.maxItems[level][block - this.firstBlocks[level]];
+            return (p >= 0 ? p - this.origin : -1);
+        }
+
+        /**
+         * Brings the pyramid up to date with a series.  The items after 
+         * those already summarised are assumed to have been appended, after
+         * the items recorded by {@link #itemsRemoved(int)} were removed from
+         * the start.
+         *
+         * @param dataset  the dataset.
+         * @param series  the series index.
+         */
+        void update(XYDataset dataset, int series) {
+            int count = dataset.getItemCount(series);
+            int removed = this.removedCount;
+            this.removedCount = 0;
+            int kept = this.itemCount - removed;
+            if (kept < 0 || count < kept || (removed > 0 && !this.ascending)
+                    || (long) this.origin + removed + count 
+                    > Integer.MAX_VALUE) {
+                // start again...
+                this.itemCount = 0;
+                this.origin = 0;
+                this.ascending = true;
+                this.levelCount = 0;
+                removed = 0;
+                kept = 0;
+            }
+            if (!this.ascending || (removed == 0 && count == kept)) {
+                this.itemCount = count;
+                return;
+            }
+            double previous = (kept > 0 ? dataset.getXValue(series, kept - 1) 
+                    : Double.NEGATIVE_INFINITY);
+            for (int item = kept; item < count; item++) {
+                double x = dataset.getXValue(series, item);
+                if (!(x >= previous)) {
+                    this.ascending = false;
+                    this.levelCount = 0;
+                    this.firstBlocks = new int[0];
+                    this.minItems = new int[0][];
+                    this.maxItems = new int[0][];
+                    this.itemCount = count;
+                    return;
+                }
+                previous = x;
+            }
+            this.origin += removed;
+            this.itemCount = count;
+            if (count == 0) {
+                this.levelCount = 0;
+                return;
+            }
+            int oldLevelCount = (kept > 0 ? this.levelCount : 0);
+            int appended = this.origin + kept;
+            int last = this.origin + count - 1;
+            for (int level = 0; ; level++) {
+                int shift = BASE_SHIFT + level;
+                int firstBlock = this.origin >> shift;
+                int lastBlock = last >> shift;
+                boolean rebuild = level >= oldLevelCount;
+                prepare(level, firstBlock, lastBlock, rebuild);
+                int from = (rebuild ? firstBlock : appended >> shift);
+                if (from > firstBlock && removed > 0) {
+                    updateBlock(dataset, series, level, firstBlock);
+                }
+                for (int b = from; b <= lastBlock; b++) {
+                    updateBlock(dataset, series, level, b);
+                }
+                if (firstBlock == lastBlock) {
+                    this.levelCount = level + 1;
+                    break;
+                }
+            }
+        }
+
+        /**
+         * Finds the items with the minimum and maximum y-values in a block,
+         * from the items in the series for the first level and from the
+         * blocks of the level below for the others.
+         *
+         * @param dataset  the dataset.
+         * @param series  the series index.
+         * @param level  the level.
+         * @param block  the block number.
+         */
+        private void updateBlock(XYDataset dataset, int series, int level, 
+                                 int block) {
+            int[] min = this.minItems[level];
+            int[] max = this.maxItems[level];
+            int i = block - this.firstBlocks[level];
+            int first = this.origin;
+            int last = this.origin + this.itemCount - 1;
+            if (level == 0) {
+                int start = Math.max(block << BASE_SHIFT, first);
+                int end = (int) Math.min(
+                        (((long) block + 1) << BASE_SHIFT) - 1, last);
+                min[i] = -1;
+                max[i] = -1;
+                for (int p = start; p <= end; p++) {
+                    double y = dataset.getYValue(series, p - this.origin);
+                    if (Double.isNaN(y)) {
+                        continue;
+                    }
+                    if (min[i] < 0 || y < yValue(dataset, series, min[i])) {
+                        min[i] = p;
+                    }
+                    if (max[i] < 0 || y > yValue(dataset, series, max[i])) {
+                        max[i] = p;
+                    }
+                }
+            }
+            else {
+                int childShift = BASE_SHIFT + level - 1;
+                int firstChild = first >> childShift;
+                int lastChild = last >> childShift;
+                min[i] = -1;
+                max[i] = -1;
+                for (int c = 2 * block; c <= 2 * block + 1; c++) {
+                    if (c >= firstChild && c <= lastChild) {
+                        int j = c - this.firstBlocks[level - 1];
+                        min[i] = select(dataset, series, min[i], 
+                                this.minItems[level - 1][j], true);
+                        max[i] = select(dataset, series, max[i], 
+                                this.maxItems[level - 1][j], false);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Returns the y-value of the item at a position.
+         *
+         * @param dataset  the dataset.
+         * @param series  the series index.
+         * @param position  the position.
+         *
+         * @return The y-value.
+         */
+        private double yValue(XYDataset dataset, int series, int position) {
+            return dataset.getYValue(series, position - this.origin);
+        }
+
+        /**
+         * Returns the item with the smaller (or larger) y-value, ignoring 
+         * missing items.
+         *
+         * @param dataset  the dataset.
+         * @param series  the series index.
+         * @param p1  the position of the first item (-1 for none).
+         * @param p2  the position of the second item (-1 for none).
+         * @param smaller  <code>true</code> to select the smaller y-value.
+         *
+         * @return The position (the first item if the y-values are equal).
+         */
+        private int select(XYDataset dataset, int series, int p1, int p2, 
+                           boolean smaller) {
+            if (p1 < 0) {
+                return p2;
+            }
+            if (p2 < 0) {
+                return p1;
+            }
+            double y1 = yValue(dataset, series, p1);
+            double y2 = yValue(dataset, series, p2);
+            return ((smaller ? y2 < y1 : y2 > y1) ? p2 : p1);
+        }
+
+        /**
+         * Makes sure that a level can hold a range of blocks, dropping the
+         * blocks before the range when the arrays have to be moved.
+         *
+         * @param level  the level.
+         * @param firstBlock  the first block.
+         * @param lastBlock  the last block.
+         * @param clear  <code>true</code> if the blocks held can be dropped.
+         */
+        private void prepare(int level, int firstBlock, int lastBlock, 
+                             boolean clear) {
+            if (level >= this.minItems.length) {
+                int[][] min = new int[level + 1][];
+                int[][] max = new int[level + 1][];
+                int[] first = new int[level + 1];
+                System.arraycopy(this.minItems, 0, min, 0, 
+                        this.minItems.length);
+                System.arraycopy(this.maxItems, 0, max, 0, 
+                        this.maxItems.length);
+                System.arraycopy(this.firstBlocks, 0, first, 0, 
+                        this.firstBlocks.length);
+                for (int i = this.minItems.length; i <= level; i++) {
+                    min[i] = new int[0];
+                    max[i] = new int[0];
+                }
+                this.minItems = min;
+                this.maxItems = max;
+                this.firstBlocks = first;
+            }
+            int[] min = this.minItems[level];
+            int base = this.firstBlocks[level];
+            if (clear) {
+                this.firstBlocks[level] = firstBlock;
+                base = firstBlock;
+            }
+            if (lastBlock - base < min.length) {
+                return;
+            }
+            int blockCount = lastBlock - firstBlock + 1;
+            int capacity = Math.max(2 * blockCount, min.length);
+            int[] newMin = new int[capacity];
+            int[] newMax = new int[capacity];
+            int kept = (clear ? 0 : base + min.length - firstBlock);
+            if (kept > 0) {
+                System.arraycopy(min, firstBlock - base, newMin, 0, kept);
+                System.arraycopy(this.maxItems[level], firstBlock - base, 
+                        newMax, 0, kept);
+            }
+            this.minItems[level] = newMin;
+            this.maxItems[level] = newMax;
+            this.firstBlocks[level] = firstBlock;
+        }
+
+    }
+
+    /**
+     * A view of some of the items in a dataset.
+     */
+    private static class View extends AbstractXYDataset {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -571304389258627612L;
+
+        /** The dataset. */
+        private XYDataset dataset;
+
+        /** 
+         * The indices of the items in each series (<code>null</code> for all
+         * the items). 
+         */
+        private int[][] items;
+
+        /**
+         * Creates a new view.
+         *
+         * @param dataset  the dataset.
+         * @param items  the indices of the items in each series.
+         */
+        View(XYDataset dataset, int[][] items) {
+            this.dataset = dataset;
+            this.items = items;
+        }
+
+        /**
+         * Returns the number of series in the view.
+         *
+         * @return The series count.
+         */
+        public int getSeriesCount() {
+            return this.items.length;
+        }
+
+        /**
+         * Returns the key for a series.
+         *
+         * @param series  the series index (zero-based).
+         *
+         * @return The key for the series.
+         */
+        public Comparable getSeriesKey(int series) {
+            return this.dataset.getSeriesKey(series);
+        }
+
+        /**
+         * Returns the number of items in a series.
+         *
+         * @param series  the series index (zero-based).
+         *
+         * @return The item count.
+         */
+        public int getItemCount(int series) {
+            int[] a = this.items[series];
+            return (a != null ? a.length : this.dataset.getItemCount(series));
+        }
+
+        /**
+         * Returns the order of the domain (x-) values.
+         *
+         * @return The domain order.
+         */
+        public DomainOrder getDomainOrder() {
+            return this.dataset.getDomainOrder();
+        }
+
+        /**
+         * Returns the index of an item in the dataset.
+         *
+         * @param series  the series index.
+         * @param item  the item index in the view.
+         *
+         * @return The item index in the dataset.
+         */
+        private int getItem(int series, int item) {
+            int[] a = this.items[series];
+            return (a != null ? a[item] : item);
+        }
+
+        /**
+         * Returns the x-value for an item.
+         *
+         * @param series  the series index (zero-based).
+         * @param item  the item index (zero-based).
+         *
+         * @return The x-value.
+         */
+        public Number getX(int series, int item) {
+            return this.dataset.getX(series, getItem(series, item));
+        }
+
+        /**
+         * Returns the x-value for an item.
+         *
+         * @param series  the series index (zero-based).
+         * @param item  the item index (zero-based).
+         *
+         * @return The x-value.
+         */
+        public double getXValue(int series, int item) {
+            return this.dataset.getXValue(series, getItem(series, item));
+        }
+
+        /**
+         * Returns the y-value for an item.
+         *
+         * @param series  the series index (zero-based).
+         * @param item  the item index (zero-based).
+         *
+         * @return The y-value (possibly <code>null</code>).
+         */
+        public Number getY(int series, int item) {
+            return this.dataset.getY(series, getItem(series, item));
+        }
+
+        /**
+         * Returns the y-value for an item.
+         *
+         * @param series  the series index (zero-based).
+         * @param item  the item index (zero-based).
+         *
+         * @return The y-value.
+         */
+        public double getYValue(int series, int item) {
+            return this.dataset.getYValue(series, getItem(series, item));
+        }
+
+    }
+
+}
@@ -0,0 +1,75 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation,
+ * Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------------
+ * UniformIntervalXYDataset.java
+ * -----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.xy;
+
+/**
+ * An {@link IntervalXYDataset} where the x-interval for every item has the 
+ * same width and the same position relative to the x-value, as is the case 
+ * for the datasets that use an {@link IntervalXYDelegate}.  The start and 
+ * end x-values must be equal to:
+ * <p>
+ * <code>x - getIntervalPositionFactor() * getIntervalWidth()</code>
+ * <p>
+ * and
+ * <p>
+ * <code>x + (1.0 - getIntervalPositionFactor()) * getIntervalWidth()</code>
+ * <p>
+ * respectively, so that a renderer can read the interval once and calculate
+ * the start and end x-values for each item without calling the dataset.
+ */
+public interface UniformIntervalXYDataset extends IntervalXYDataset {
+
+    /**
+     * Returns the width of the x-interval.
+     *
+     * @return The interval width.
+     */
+    public double getIntervalWidth();
+
+    /**
+     * Returns the position of the x-value within the x-interval, in the 
+     * range <code>0.0</code> (at the start of the interval) to 
+     * <code>1.0</code> (at the end).
+     *
+     * @return The interval position factor.
+     */
+    public double getIntervalPositionFactor();
+
+}
@@ -65,6 +65,8 @@
  *               fixed the add() and addOrUpdate() methods to handle unsorted 
  *               series (DG);
  * 11-Jan-2005 : Renamed update(int, Number) --> updateByIndex() (DG);
+ * 18-Oct-2026 : Send a SeriesAppendEvent when add() appends an item to the
+ *               end of the series;
  * 
  */
 
@@ -340,9 +342,11 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             throw new IllegalArgumentException("Null 'item' argument.");
         }
 
+        boolean appended = true;
         if (this.autoSort) {
             int index = Collections.binarySearch(this.data, item);
             if (index < 0) {
+                appended = (-index - 1 == this.data.size());
                 this.data.add(-index - 1, item);
             }
             else {
@@ -354,6 +358,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
                         index++;
                     }
                     if (index < this.data.size()) {
+                        appended = false;
                         this.data.add(index, item);
                     }
                     else {
@@ -376,11 +381,18 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             }
             this.data.add(item);
         }
+        int removed = 0;
         if (getItemCount() > this.maximumItemCount) {
             this.data.remove(0);
+            removed = 1;
         }                    
         if (notify) {
-            fireSeriesChanged();
+            if (appended && getItemCount() > 0) {
+                fireSeriesAppended(1, removed);
+            }
+            else {
+                fireSeriesChanged();
+            }
         }
     }
 
@@ -48,6 +48,9 @@
  * 11-Jan-2005 : Removed deprecated code in preparation for 1.0.0 release (DG);
  * 28-Mar-2005 : Fixed bug in getSeries(int) method (1170825) (DG);
  * 05-Oct-2005 : Made the interval delegate a dataset listener (DG);
+ * 18-Oct-2026 : Implemented UniformIntervalXYDataset, and pass on the
+ *               details of items appended to a series (see 
+ *               DatasetAppendEvent);
  *
  */
 
@@ -60,6 +63,8 @@ import java.util.List;
 import org.jfree.data.DomainInfo;
 import org.jfree.data.Range;
 import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.SeriesAppendEvent;
+import org.jfree.data.general.SeriesChangeEvent;
 import org.jfree.data.general.DatasetUtilities;
 import org.jfree.util.ObjectUtilities;
 
@@ -69,6 +74,7 @@ import org.jfree.util.ObjectUtilities;
  */
 public class XYSeriesCollection extends AbstractIntervalXYDataset
                                 implements IntervalXYDataset, DomainInfo, 
+                                           UniformIntervalXYDataset,
                                            Serializable {
 
     /** For serialization. */
@@ -370,6 +376,28 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         return this.intervalDelegate.getDomainUpperBound(includeInterval);
     }
 
+    /**
+     * Called when a series belonging to the dataset changes.  If items were
+     * appended to the series, a {@link 
+     * org.jfree.data.general.DatasetAppendEvent} is sent to the registered
+     * listeners, and otherwise a plain {@link DatasetChangeEvent}.
+     *
+     * @param event  information about the change.
+     */
+    public void seriesChanged(SeriesChangeEvent event) {
+        if (event instanceof SeriesAppendEvent) {
+            SeriesAppendEvent e = (SeriesAppendEvent) event;
+            for (int i = 0; i < this.data.size(); i++) {
+                if (this.data.get(i) == e.getSource()) {
+                    fireDatasetAppended(i, e.getAppendedItemCount(), 
+                            e.getRemovedItemCount());
+                    return;
+                }
+            }
+        }
+        super.seriesChanged(event);
+    }
+
     /**
      * Returns the range of the values in this dataset's domain.
      *
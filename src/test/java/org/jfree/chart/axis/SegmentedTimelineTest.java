@@ -0,0 +1,234 @@
+package org.jfree.chart.axis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the exception segments of the {@link SegmentedTimeline}
+ * class.
+ */
+class SegmentedTimelineTest {
+
+	/** One day in milliseconds. */
+	private static final long DAY = SegmentedTimeline.DAY_SEGMENT_SIZE;
+
+	/** A Monday to Friday timeline with no exceptions. */
+	private SegmentedTimeline timeline;
+
+	/** The start of the first Monday of the timeline. */
+	private long monday;
+
+	/** Creates the timeline. */
+	@BeforeEach
+	public void setup() {
+		this.timeline = SegmentedTimeline.newMondayThroughFridayTimeline();
+		this.monday = this.timeline.getStartTime();
+	}
+
+	/** Changing the caller's list does not change the timeline. */
+	@Test
+	public void setExceptionSegmentsCopiesList() {
+		List segments = new ArrayList();
+		segments.add(this.timeline.getSegment(this.monday + 1 * DAY));
+		segments.add(this.timeline.getSegment(this.monday + 8 * DAY));
+		this.timeline.setExceptionSegments(segments);
+		assertFalse(this.timeline.containsDomainValue(this.monday + DAY));
+		long before = this.timeline.toTimelineValue(this.monday + 14 * DAY);
+
+		// replace an element, so the list keeps the same size
+		segments.set(0, this.timeline.getSegment(this.monday + 2 * DAY));
+		assertFalse(this.timeline.containsDomainValue(this.monday + DAY));
+		assertTrue(this.timeline.containsDomainValue(
+				this.monday + 2 * DAY));
+		assertEquals(before,
+				this.timeline.toTimelineValue(this.monday + 14 * DAY));
+		assertEquals(2, this.timeline.getExceptionSegments().size());
+	}
+
+	/** Replacing the list with one of the same size rebuilds the index. */
+	@Test
+	public void setExceptionSegmentsSameSize() {
+		this.timeline.addException(this.monday + 1 * DAY);
+		assertFalse(this.timeline.containsDomainValue(this.monday + DAY));
+		List segments = new ArrayList();
+		segments.add(this.timeline.getSegment(this.monday + 3 * DAY));
+		this.timeline.setExceptionSegments(segments);
+		assertTrue(this.timeline.containsDomainValue(this.monday + DAY));
+		assertFalse(this.timeline.containsDomainValue(
+				this.monday + 3 * DAY));
+
+		SegmentedTimeline expected
+				= SegmentedTimeline.newMondayThroughFridayTimeline();
+		expected.addException(this.monday + 3 * DAY);
+		for (int d = 0; d < 21; d++) {
+			long ms = this.monday + d * DAY;
+			assertEquals(expected.toTimelineValue(ms),
+					this.timeline.toTimelineValue(ms));
+		}
+	}
+
+	/** A <code>null</code> list is rejected. */
+	@Test
+	public void setExceptionSegmentsNull() {
+		assertThrows(IllegalArgumentException.class,
+				() -> this.timeline.setExceptionSegments(null));
+	}
+
+	/** Adding an exception to a clone does not change the original. */
+	@Test
+	public void cloneHasIndependentExceptions() throws Exception {
+		this.timeline.addException(this.monday + 1 * DAY);
+		long before = this.timeline.toTimelineValue(this.monday + 14 * DAY);
+		SegmentedTimeline clone = (SegmentedTimeline) this.timeline.clone();
+		clone.addException(this.monday + 2 * DAY);
+		assertFalse(clone.containsDomainValue(this.monday + 2 * DAY));
+		assertTrue(this.timeline.containsDomainValue(
+				this.monday + 2 * DAY));
+		assertEquals(1, this.timeline.getExceptionSegments().size());
+		assertEquals(before,
+				this.timeline.toTimelineValue(this.monday + 14 * DAY));
+	}
+
+	/**
+	 * Adds single day and multi-day exceptions to the timeline, on weekdays
+	 * in the first <code>weeks</code> weeks.
+	 *
+	 * @param random  the random number generator.
+	 * @param weeks  the number of weeks.
+	 */
+	private void addRandomExceptions(Random random, int weeks) {
+		for (int w = 0; w < weeks; w++) {
+			long weekStart = this.monday + w * 7 * DAY;
+			int kind = random.nextInt(3);
+			if (kind == 1) {
+				this.timeline.addException(
+						weekStart + random.nextInt(5) * DAY + DAY / 2);
+			}
+			else if (kind == 2) {
+				int first = random.nextInt(4);
+				int last = first + 1 + random.nextInt(4 - first);
+				this.timeline.addException(weekStart + first * DAY,
+						weekStart + last * DAY + DAY - 1);
+			}
+		}
+	}
+
+	/**
+	 * Counts the exception segments in an interval by intersecting every
+	 * exception with the interval, as the timeline did before the index.
+	 *
+	 * @param from  the start of the interval.
+	 * @param to  the end of the interval.
+	 *
+	 * @return The segment count.
+	 */
+	private long countByLinearScan(long from, long to) {
+		if (to < from) {
+			return 0;
+		}
+		long n = 0;
+		Iterator iterator = this.timeline.getExceptionSegments().iterator();
+		while (iterator.hasNext()) {
+			SegmentedTimeline.Segment segment
+					= (SegmentedTimeline.Segment) iterator.next();
+			SegmentedTimeline.Segment intersection
+					= segment.intersect(from, to);
+			if (intersection != null) {
+				n += intersection.getSegmentCount();
+			}
+		}
+		return n;
+	}
+
+	/** The indexed count agrees with a linear scan of the exceptions. */
+	@Test
+	public void exceptionCountMatchesLinearScan() {
+		Random random = new Random(31L);
+		addRandomExceptions(random, 60);
+		long span = 60 * 7 * DAY;
+		for (int i = 0; i < 2000; i++) {
+			long from = this.monday - 7 * DAY
+					+ (long) (random.nextDouble() * (span + 14 * DAY));
+			long to = from + (long) (random.nextDouble() * 30 * DAY);
+			assertEquals(countByLinearScan(from, to),
+					this.timeline.getExceptionSegmentCount(from, to));
+		}
+	}
+
+	/** An interval that cuts a segment range counts the days inside it. */
+	@Test
+	public void segmentRangePartialCounts() {
+		// Tuesday to Thursday of the second week
+		long start = this.monday + 8 * DAY;
+		this.timeline.addException(start, start + 3 * DAY - 1);
+		assertEquals(3, this.timeline.getExceptionSegmentCount(
+				this.monday, this.monday + 14 * DAY));
+		assertEquals(2, this.timeline.getExceptionSegmentCount(
+				this.monday, start + DAY + 1));
+		assertEquals(1, this.timeline.getExceptionSegmentCount(
+				start + 2 * DAY, start + 5 * DAY));
+		assertEquals(1, this.timeline.getExceptionSegmentCount(
+				start + DAY + 1, start + DAY + 2));
+		assertEquals(0, this.timeline.getExceptionSegmentCount(
+				start + 3 * DAY, start + 5 * DAY));
+	}
+
+	/**
+	 * Converting the start of a segment to a timeline value and back gives
+	 * the same time.  (Times inside a segment that follows an exception do
+	 * not round trip, in this version or the original linear one.)
+	 */
+	@Test
+	public void toMillisecondRoundTrip() {
+		addRandomExceptions(new Random(7L), 20);
+		for (long ms = this.monday; ms < this.monday + 20 * 7 * DAY;
+				ms += DAY) {
+			if (this.timeline.containsDomainValue(ms)) {
+				long value = this.timeline.toTimelineValue(ms);
+				assertEquals(ms, this.timeline.toMillisecond(value));
+			}
+		}
+		for (long value = 0; value < 60 * DAY; value += DAY) {
+			long ms = this.timeline.toMillisecond(value);
+			assertTrue(this.timeline.containsDomainValue(ms));
+			assertEquals(value, this.timeline.toTimelineValue(ms));
+		}
+	}
+
+	/** An unsorted list is sorted, and overlapping segments are rejected. */
+	@Test
+	public void setExceptionSegmentsSortsList() {
+		List segments = new ArrayList();
+		segments.add(this.timeline.getSegment(this.monday + 8 * DAY));
+		segments.add(this.timeline.getSegment(this.monday + 1 * DAY));
+		this.timeline.setExceptionSegments(segments);
+		List sorted = this.timeline.getExceptionSegments();
+		assertEquals(segments.get(1), sorted.get(0));
+		assertEquals(segments.get(0), sorted.get(1));
+
+		SegmentedTimeline expected
+				= SegmentedTimeline.newMondayThroughFridayTimeline();
+		expected.addException(this.monday + 1 * DAY);
+		expected.addException(this.monday + 8 * DAY);
+		for (int d = 0; d < 21; d++) {
+			long ms = this.monday + d * DAY;
+			assertEquals(expected.toTimelineValue(ms),
+					this.timeline.toTimelineValue(ms));
+		}
+
+		segments.add(this.timeline.getSegment(this.monday + 1 * DAY));
+		assertThrows(IllegalArgumentException.class,
+				() -> this.timeline.setExceptionSegments(segments));
+	}
+
+}
@@ -0,0 +1,118 @@
+package org.jfree.chart.axis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.geom.Rectangle2D;
+
+import org.jfree.ui.RectangleEdge;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the <code>valuesToJava2D()</code> method of the 
+ * {@link ValueAxis} subclasses.
+ */
+class ValueAxisTest {
+
+	/** The data area. */
+	private static final Rectangle2D AREA
+			= new Rectangle2D.Double(10.0, 20.0, 300.0, 200.0);
+
+	/** The values to convert. */
+	private static final double[] VALUES = {0.5, 1.0, 2.5, 7.0, 10.0};
+
+	/**
+	 * Checks that <code>valuesToJava2D()</code> matches 
+	 * <code>valueToJava2D()</code> for every value.
+	 *
+	 * @param axis  the axis.
+	 * @param edge  the edge.
+	 */
+	private static void checkMatches(ValueAxis axis, RectangleEdge edge) {
+		double[] result = new double[VALUES.length];
+		axis.valuesToJava2D(VALUES, 0, VALUES.length, result, AREA, edge);
+		for (int i = 0; i < VALUES.length; i++) {
+			assertEquals(axis.valueToJava2D(VALUES[i], AREA, edge),
+					result[i], 1e-9);
+		}
+	}
+
+	/** The optimised conversion matches the single value conversion. */
+	@Test
+	public void numberAxis() {
+		NumberAxis axis = new NumberAxis();
+		axis.setRange(0.0, 10.0);
+		checkMatches(axis, RectangleEdge.BOTTOM);
+		checkMatches(axis, RectangleEdge.LEFT);
+		axis.setInverted(true);
+		checkMatches(axis, RectangleEdge.BOTTOM);
+	}
+
+	/** A subclass that only overrides valueToJava2D() is respected. */
+	@Test
+	public void numberAxisSubclass() {
+		NumberAxis axis = new NumberAxis() {
+			public double valueToJava2D(double value, Rectangle2D area,
+					RectangleEdge edge) {
+				return 2.0 * super.valueToJava2D(value, area, edge);
+			}
+		};
+		axis.setRange(0.0, 10.0);
+		checkMatches(axis, RectangleEdge.BOTTOM);
+		checkMatches(axis, RectangleEdge.LEFT);
+		assertTrue(axis.isValueToJava2DOverridden(NumberAxis.class));
+		assertFalse(axis.isValueToJava2DOverridden(axis.getClass()));
+	}
+
+	/** Subclasses that do not override valueToJava2D() use the fast path. */
+	@Test
+	public void subclassesWithoutOverride() {
+		NumberAxis3D axis3D = new NumberAxis3D();
+		axis3D.setRange(0.0, 10.0);
+		assertFalse(axis3D.isValueToJava2DOverridden(NumberAxis.class));
+		checkMatches(axis3D, RectangleEdge.BOTTOM);
+		SymbolAxis symbolAxis = new SymbolAxis("X",
+				new String[] {"A", "B", "C"});
+		symbolAxis.setRange(0.0, 10.0);
+		assertFalse(symbolAxis.isValueToJava2DOverridden(NumberAxis.class));
+		checkMatches(symbolAxis, RectangleEdge.LEFT);
+		assertFalse(new NumberAxis().isValueToJava2DOverridden(
+				NumberAxis.class));
+	}
+
+	/** A subclass of a subclass is respected too. */
+	@Test
+	public void logarithmicAxisSubclass() {
+		LogarithmicAxis axis = new LogarithmicAxis("X") {
+			public double valueToJava2D(double value, Rectangle2D area,
+					RectangleEdge edge) {
+				return -1.0;
+			}
+		};
+		axis.setRange(0.1, 100.0);
+		checkMatches(axis, RectangleEdge.BOTTOM);
+	}
+
+	/** The same for a date axis subclass. */
+	@Test
+	public void dateAxisSubclass() {
+		DateAxis axis = new DateAxis() {
+			public double valueToJava2D(double value, Rectangle2D area,
+					RectangleEdge edge) {
+				return value + 1.0;
+			}
+		};
+		axis.setRange(0.0, 10.0);
+		checkMatches(axis, RectangleEdge.BOTTOM);
+	}
+
+	/** The cyclic axis keeps its own conversion. */
+	@Test
+	public void cyclicNumberAxis() {
+		CyclicNumberAxis axis = new CyclicNumberAxis(4.0);
+		axis.setRange(0.0, 10.0);
+		checkMatches(axis, RectangleEdge.BOTTOM);
+	}
+
+}
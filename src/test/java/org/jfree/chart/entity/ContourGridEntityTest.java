@@ -0,0 +1,80 @@
+package org.jfree.chart.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.awt.geom.Rectangle2D;
+
+import org.jfree.chart.labels.ContourToolTipGenerator;
+import org.jfree.data.contour.DefaultContourDataset;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the {@link ContourGridEntity} class.
+ */
+class ContourGridEntityTest {
+
+	/** The area covered by the 2 x 2 grid. */
+	private static final Rectangle2D AREA
+			= new Rectangle2D.Double(0.0, 0.0, 100.0, 100.0);
+
+	/** The column centres. */
+	private static final double[] COLUMNS = {0.0, 100.0};
+
+	/** The column starts. */
+	private static final int[] STARTS = {0, 2, 4};
+
+	/** The item centres (y increases downwards in Java2D). */
+	private static final double[] ITEMS = {100.0, 0.0, 100.0, 0.0};
+
+	/**
+	 * Creates a grid entity.
+	 *
+	 * @param generator  the tooltip generator.
+	 *
+	 * @return The entity.
+	 */
+	private static ContourGridEntity createEntity(
+			ContourToolTipGenerator generator) {
+		Double[] x = {1.0, 1.0, 2.0, 2.0};
+		Double[] y = {1.0, 2.0, 1.0, 2.0};
+		Double[] z = {5.0, 6.0, 7.0, 8.0};
+		DefaultContourDataset dataset = new DefaultContourDataset("S", x, y,
+				z);
+		return new ContourGridEntity(AREA, "grid", dataset, generator,
+				COLUMNS.clone(), STARTS.clone(),
+				ITEMS.clone());
+	}
+
+	/** The tooltip is generated for the cell under the point. */
+	@Test
+	public void toolTipPerCell() {
+		ContourGridEntity entity = createEntity(
+				(data, item) -> "item " + item);
+		assertEquals("item 0", entity.getToolTipText(10.0, 90.0));
+		assertEquals("item 1", entity.getToolTipText(10.0, 10.0));
+		assertEquals("item 2", entity.getToolTipText(90.0, 90.0));
+		assertEquals("item 3", entity.getToolTipText(90.0, 10.0));
+		assertEquals("grid", entity.getToolTipText(200.0, 10.0));
+	}
+
+	/** Without a generator the fixed tooltip is used. */
+	@Test
+	public void toolTipWithoutGenerator() {
+		ContourGridEntity entity = createEntity(null);
+		assertEquals("grid", entity.getToolTipText(10.0, 10.0));
+		ContourGridEntity plain = new ContourGridEntity(AREA, null,
+				COLUMNS, STARTS, ITEMS);
+		assertNull(plain.getToolTipText(10.0, 10.0));
+	}
+
+	/** Equal entities have equal hash codes. */
+	@Test
+	public void hashCodeMatchesEquals() {
+		ContourGridEntity e1 = createEntity(null);
+		ContourGridEntity e2 = createEntity(null);
+		assertEquals(e1, e2);
+		assertEquals(e1.hashCode(), e2.hashCode());
+	}
+
+}
@@ -0,0 +1,208 @@
+package org.jfree.chart.plot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.axis.CategoryAxis;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.renderer.category.BarRenderer;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that the combined plots draw the same output, and collect the same
+ * rendering info, whether or not the subplots are drawn concurrently.
+ */
+class CombinedPlotParallelRenderingTest {
+
+	/** The image width. */
+	private static final int WIDTH = 400;
+
+	/** The image height. */
+	private static final int HEIGHT = 300;
+
+	/** Parallel rendering of a combined domain category plot. */
+	@Test
+	void combinedDomainCategoryPlot() {
+		CombinedDomainCategoryPlot sequential = createDomainCategoryPlot();
+		CombinedDomainCategoryPlot parallel = createDomainCategoryPlot();
+		parallel.setParallelRendering(true);
+		assertSameOutput(sequential, parallel);
+	}
+
+	/** Parallel rendering of a combined range category plot. */
+	@Test
+	void combinedRangeCategoryPlot() {
+		CombinedRangeCategoryPlot sequential = createRangeCategoryPlot();
+		CombinedRangeCategoryPlot parallel = createRangeCategoryPlot();
+		parallel.setParallelRendering(true);
+		assertSameOutput(sequential, parallel);
+	}
+
+	/**
+	 * Draws a plot into an image.  The plot is drawn directly, since the 
+	 * chart does not pass the rendering info on to its plot, after fetching
+	 * the legend items as the chart's legend would.
+	 *
+	 * @param plot  the plot.
+	 * @param info  collects the rendering info.
+	 *
+	 * @return The image.
+	 */
+	private static BufferedImage draw(Plot plot, ChartRenderingInfo info) {
+		BufferedImage image = new BufferedImage(WIDTH, HEIGHT,
+				BufferedImage.TYPE_INT_RGB);
+		Graphics2D g2 = image.createGraphics();
+		g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+				RenderingHints.VALUE_ANTIALIAS_ON);
+		g2.setPaint(Color.white);
+		g2.fillRect(0, 0, WIDTH, HEIGHT);
+		plot.getLegendItems();
+		plot.draw(g2, new Rectangle2D.Double(0, 0, WIDTH, HEIGHT), null,
+				null, info.getPlotInfo());
+		g2.dispose();
+		return image;
+	}
+
+	/**
+	 * Draws two plots and checks that the images, the entities and the
+	 * subplot rendering info are the same.
+	 *
+	 * @param expected  the plot drawn sequentially.
+	 * @param actual  the plot drawn in parallel.
+	 */
+	private static void assertSameOutput(Plot expected, Plot actual) {
+		ChartRenderingInfo expectedInfo = new ChartRenderingInfo();
+		BufferedImage expectedImage = draw(expected, expectedInfo);
+		ChartRenderingInfo actualInfo = new ChartRenderingInfo();
+		BufferedImage actualImage = draw(actual, actualInfo);
+
+		// antialiased edges are blended into the tile first, then onto the
+		// image, so the rounding can differ by one level
+		for (int y = 0; y < HEIGHT; y++) {
+			for (int x = 0; x < WIDTH; x++) {
+				int e = expectedImage.getRGB(x, y);
+				int a = actualImage.getRGB(x, y);
+				for (int shift = 0; shift < 32; shift += 8) {
+					int diff = ((e >> shift) & 0xFF) - ((a >> shift) & 0xFF);
+					assertTrue(Math.abs(diff) <= 1,
+							"pixel (" + x + ", " + y + ")");
+				}
+			}
+		}
+
+		EntityCollection expectedEntities =
+				expectedInfo.getEntityCollection();
+		EntityCollection actualEntities = actualInfo.getEntityCollection();
+		assertTrue(expectedEntities.getEntityCount() > 0);
+		assertTrue(expectedInfo.getPlotInfo().getSubplotCount() > 1);
+		assertEquals(expectedEntities.getEntityCount(),
+				actualEntities.getEntityCount());
+		Iterator expectedIterator = expectedEntities.iterator();
+		Iterator actualIterator = actualEntities.iterator();
+		while (expectedIterator.hasNext()) {
+			ChartEntity e = (ChartEntity) expectedIterator.next();
+			ChartEntity a = (ChartEntity) actualIterator.next();
+			assertEquals(e.getClass(), a.getClass());
+			assertEquals(e.getArea().getBounds2D(), a.getArea().getBounds2D());
+			assertEquals(e.getToolTipText(), a.getToolTipText());
+		}
+
+		assertSameInfo(expectedInfo.getPlotInfo(), actualInfo.getPlotInfo());
+	}
+
+	/**
+	 * Checks that two plot rendering info objects (and their subplot info)
+	 * record the same areas.
+	 *
+	 * @param expected  the expected info.
+	 * @param actual  the actual info.
+	 */
+	private static void assertSameInfo(PlotRenderingInfo expected,
+			PlotRenderingInfo actual) {
+		assertEquals(expected.getPlotArea(), actual.getPlotArea());
+		assertEquals(expected.getDataArea(), actual.getDataArea());
+		assertEquals(expected.getSubplotCount(), actual.getSubplotCount());
+		for (int i = 0; i < expected.getSubplotCount(); i++) {
+			assertSameInfo(expected.getSubplotInfo(i),
+					actual.getSubplotInfo(i));
+		}
+	}
+
+	/**
+	 * Creates a category dataset.
+	 *
+	 * @param offset  an offset for the values.
+	 *
+	 * @return The dataset.
+	 */
+	private static DefaultCategoryDataset createCategoryDataset(int offset) {
+		DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+		for (int r = 0; r < 2; r++) {
+			for (int c = 0; c < 4; c++) {
+				dataset.addValue(new Double(offset + r * 3 + c), "R" + r,
+						"C" + c);
+			}
+		}
+		return dataset;
+	}
+
+	/**
+	 * Creates a category subplot.
+	 *
+	 * @param offset  an offset for the values.
+	 *
+	 * @return The subplot.
+	 */
+	private static CategoryPlot createCategoryPlot(int offset) {
+		return new CategoryPlot(createCategoryDataset(offset),
+				new CategoryAxis("Category"), new NumberAxis("Value"),
+				new BarRenderer());
+	}
+
+	/**
+	 * Creates a combined domain category plot with three subplots.
+	 *
+	 * @return The plot.
+	 */
+	private static CombinedDomainCategoryPlot createDomainCategoryPlot() {
+		// only the subplots are drawn in parallel, so the shared axis is
+		// left out of the comparison
+		CategoryAxis axis = new CategoryAxis("Category");
+		axis.setVisible(false);
+		CombinedDomainCategoryPlot plot = new CombinedDomainCategoryPlot(axis);
+		for (int i = 0; i < 3; i++) {
+			CategoryPlot subplot = createCategoryPlot(i * 5);
+			subplot.setDomainAxis(null);
+			plot.add(subplot);
+		}
+		return plot;
+	}
+
+	/**
+	 * Creates a combined range category plot with two subplots.
+	 *
+	 * @return The plot.
+	 */
+	private static CombinedRangeCategoryPlot createRangeCategoryPlot() {
+		CombinedRangeCategoryPlot plot = new CombinedRangeCategoryPlot(
+				new NumberAxis("Value"));
+		for (int i = 0; i < 2; i++) {
+			CategoryPlot subplot = createCategoryPlot(i * 5);
+			subplot.setRangeAxis(null);
+			plot.add(subplot);
+		}
+		return plot;
+	}
+
+}
@@ -0,0 +1,169 @@
+package org.jfree.chart.plot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+import org.jfree.chart.axis.ColorBar;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.data.contour.DefaultContourDataset;
+import org.jfree.ui.RectangleEdge;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the image rendering mode of the {@link ContourPlot}
+ * class against the vector rendering mode.
+ */
+class ContourPlotTest {
+
+	/** The number of columns in the grid. */
+	private static final int COLUMNS = 4;
+
+	/** The number of rows in the grid. */
+	private static final int ROWS = 3;
+
+	/** The area in which the data is drawn. */
+	private static final Rectangle2D DATA_AREA
+			= new Rectangle2D.Double(10.0, 10.0, 380.0, 280.0);
+
+	/** The number of pixels along the cell edges in the data area. */
+	private static final int EDGE_PIXELS = (int) ((COLUMNS + 1)
+			* DATA_AREA.getHeight() + (ROWS + 1) * DATA_AREA.getWidth());
+
+	/**
+	 * Creates a plot for a regular grid where every cell has a different
+	 * z-value.
+	 *
+	 * @return The plot.
+	 */
+	private static ContourPlot createPlot() {
+		int n = COLUMNS * ROWS;
+		Double[] x = new Double[n];
+		Double[] y = new Double[n];
+		Double[] z = new Double[n];
+		for (int c = 0; c < COLUMNS; c++) {
+			for (int r = 0; r < ROWS; r++) {
+				int i = c * ROWS + r;
+				x[i] = Double.valueOf(c);
+				y[i] = Double.valueOf(r);
+				z[i] = Double.valueOf((i * 7) % n);
+			}
+		}
+		DefaultContourDataset dataset = new DefaultContourDataset("S", x, y,
+				z);
+		return new ContourPlot(dataset, new NumberAxis("X"),
+				new NumberAxis("Y"), new ColorBar("Z"));
+	}
+
+	/**
+	 * Renders the data of a plot into an image.
+	 *
+	 * @param plot  the plot.
+	 *
+	 * @return The image.
+	 */
+	private static BufferedImage render(ContourPlot plot) {
+		BufferedImage image = new BufferedImage(400, 300,
+				BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g2 = image.createGraphics();
+		g2.setPaint(Color.white);
+		g2.fillRect(0, 0, 400, 300);
+		plot.render(g2, DATA_AREA, null, new CrosshairState());
+		g2.dispose();
+		return image;
+	}
+
+	/**
+	 * Checks that two images have nearly the same colour at the centre of
+	 * every cell.
+	 *
+	 * @param plot  the plot.
+	 * @param expected  the expected image.
+	 * @param actual  the actual image.
+	 * @param tolerance  the largest difference allowed in each colour
+	 *                   channel.
+	 */
+	private static void assertSameAtCellCentres(ContourPlot plot,
+			BufferedImage expected, BufferedImage actual, int tolerance) {
+		for (int c = 0; c < COLUMNS; c++) {
+			for (int r = 0; r < ROWS; r++) {
+				int px = (int) plot.getDomainAxis().valueToJava2D(c,
+						DATA_AREA, RectangleEdge.BOTTOM);
+				int py = (int) plot.getRangeAxis().valueToJava2D(r,
+						DATA_AREA, RectangleEdge.LEFT);
+				// the outer cells are clipped at their centres
+				px = Math.min(px, (int) DATA_AREA.getMaxX() - 1);
+				py = Math.min(py, (int) DATA_AREA.getMaxY() - 1);
+				int rgb1 = expected.getRGB(px, py);
+				int rgb2 = actual.getRGB(px, py);
+				for (int shift = 0; shift < 32; shift += 8) {
+					int d = ((rgb1 >> shift) & 0xFF) - ((rgb2 >> shift) & 0xFF);
+					assertTrue(Math.abs(d) <= tolerance,
+							"cell " + c + "," + r);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of pixels in the data area that differ between
+	 * two images.
+	 *
+	 * @param i1  the first image.
+	 * @param i2  the second image.
+	 *
+	 * @return The number of different pixels.
+	 */
+	private static int countDifferences(BufferedImage i1, BufferedImage i2) {
+		int count = 0;
+		for (int x = (int) DATA_AREA.getMinX();
+				x < (int) DATA_AREA.getMaxX(); x++) {
+			for (int y = (int) DATA_AREA.getMinY();
+					y < (int) DATA_AREA.getMaxY(); y++) {
+				if (i1.getRGB(x, y) != i2.getRGB(x, y)) {
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * The image mode gives the same picture as the vector mode, apart from
+	 * rounding at the cell edges.
+	 */
+	@Test
+	public void imageMatchesVectorRendering() {
+		ContourPlot vectorPlot = createPlot();
+		BufferedImage vector = render(vectorPlot);
+		ContourPlot imagePlot = createPlot();
+		imagePlot.setRenderAsImage(true);
+		BufferedImage image = render(imagePlot);
+
+		assertSameAtCellCentres(vectorPlot, vector, image, 0);
+		assertTrue(countDifferences(vector, image) <= EDGE_PIXELS);
+	}
+
+	/**
+	 * The interpolated image has (up to the sampling at pixel centres) the
+	 * cell colours at the cell centres, and blends the colours in between.
+	 */
+	@Test
+	public void interpolatedImageBlendsBetweenCentres() {
+		ContourPlot imagePlot = createPlot();
+		imagePlot.setRenderAsImage(true);
+		BufferedImage image = render(imagePlot);
+		ContourPlot interpolatedPlot = createPlot();
+		interpolatedPlot.setRenderAsImage(true);
+		interpolatedPlot.setImageInterpolated(true);
+		BufferedImage interpolated = render(interpolatedPlot);
+
+		assertSameAtCellCentres(imagePlot, image, interpolated, 16);
+		assertTrue(countDifferences(image, interpolated) > EDGE_PIXELS);
+	}
+
+}
@@ -0,0 +1,177 @@
+package org.jfree.chart.plot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.ui.ColorPalette;
+import org.jfree.chart.ui.GreyPalette;
+import org.jfree.ui.RectangleEdge;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the density rendering mode of the {@link FastScatterPlot}
+ * class.
+ */
+class FastScatterPlotTest {
+
+	/** The image width. */
+	private static final int WIDTH = 120;
+
+	/** The image height. */
+	private static final int HEIGHT = 100;
+
+	/** The data area. */
+	private static final Rectangle2D DATA_AREA
+			= new Rectangle2D.Double(10.0, 10.0, 100.0, 80.0);
+
+	/**
+	 * Creates some data that is denser near the origin, with enough points
+	 * for the counting to be split between several tasks.
+	 *
+	 * @return The data.
+	 */
+	private static float[][] createData() {
+		Random random = new Random(42L);
+		int count = 600000;
+		float[][] data = new float[2][count];
+		for (int i = 0; i < count; i++) {
+			double u = random.nextDouble();
+			double v = random.nextDouble();
+			data[0][i] = (float) (u * u * 110.0 - 5.0);
+			data[1][i] = (float) (v * v * v * 90.0 - 5.0);
+		}
+		return data;
+	}
+
+	/**
+	 * Creates a plot that draws the density of some data.
+	 *
+	 * @param data  the data.
+	 * @param palette  the density palette.
+	 *
+	 * @return The plot.
+	 */
+	private static FastScatterPlot createPlot(float[][] data,
+			ColorPalette palette) {
+		NumberAxis domainAxis = new NumberAxis("X");
+		domainAxis.setRange(0.0, 100.0);
+		NumberAxis rangeAxis = new NumberAxis("Y");
+		rangeAxis.setRange(0.0, 80.0);
+		FastScatterPlot plot = new FastScatterPlot(data, domainAxis,
+				rangeAxis);
+		plot.setRenderAsDensity(true);
+		plot.setDensityPalette(palette);
+		return plot;
+	}
+
+	/**
+	 * Draws the density of the points in a data area.
+	 *
+	 * @param plot  the plot.
+	 * @param dataArea  the data area.
+	 *
+	 * @return The image.
+	 */
+	private static BufferedImage drawDensity(FastScatterPlot plot,
+			Rectangle2D dataArea) {
+		BufferedImage image = new BufferedImage(WIDTH, HEIGHT,
+				BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g2 = image.createGraphics();
+		plot.renderDensity(g2, dataArea);
+		g2.dispose();
+		return image;
+	}
+
+	/**
+	 * The image matches the counts made one point at a time with
+	 * valueToJava2D().
+	 */
+	@Test
+	public void densityMatchesSequentialCount() {
+		float[][] data = createData();
+		FastScatterPlot plot = createPlot(data, new GreyPalette());
+		BufferedImage image = drawDensity(plot, DATA_AREA);
+
+		int[][] counts = new int[WIDTH][HEIGHT];
+		int maxCount = 0;
+		for (int i = 0; i < data[0].length; i++) {
+			double x = plot.getDomainAxis().valueToJava2D(data[0][i],
+					DATA_AREA, RectangleEdge.BOTTOM);
+			double y = plot.getRangeAxis().valueToJava2D(data[1][i],
+					DATA_AREA, RectangleEdge.LEFT);
+			int column = (int) Math.floor(x);
+			int row = (int) Math.floor(y);
+			if (column >= 10 && column < 110 && row >= 10 && row < 90) {
+				counts[column][row]++;
+				maxCount = Math.max(maxCount, counts[column][row]);
+			}
+		}
+		assertTrue(maxCount > 1);
+		ColorPalette palette = new GreyPalette();
+		palette.setMinZ(1.0);
+		palette.setMaxZ(maxCount);
+		for (int x = 0; x < WIDTH; x++) {
+			for (int y = 0; y < HEIGHT; y++) {
+				int c = counts[x][y];
+				int expected = c == 0 ? 0
+						: palette.getRGB(palette.getColorIndex(c));
+				assertEquals(expected, image.getRGB(x, y),
+						"pixel (" + x + ", " + y + ")");
+			}
+		}
+	}
+
+	/** The counts are colored differently on a log scale. */
+	@Test
+	public void logAndLinearPalettesDiffer() {
+		float[][] data = createData();
+		BufferedImage linear = drawDensity(
+				createPlot(data, new GreyPalette()), DATA_AREA);
+		GreyPalette logPalette = new GreyPalette();
+		logPalette.setLogscale(true);
+		BufferedImage log = drawDensity(createPlot(data, logPalette),
+				DATA_AREA);
+		boolean differ = false;
+		for (int x = 0; x < WIDTH && !differ; x++) {
+			for (int y = 0; y < HEIGHT && !differ; y++) {
+				// the same pixels are colored...
+				assertEquals(linear.getRGB(x, y) == 0, log.getRGB(x, y) == 0);
+				differ = linear.getRGB(x, y) != log.getRGB(x, y);
+			}
+		}
+		assertTrue(differ);
+	}
+
+	/** Nothing is drawn for an empty data area or an empty dataset. */
+	@Test
+	public void emptyDataAreaOrData() {
+		FastScatterPlot plot = createPlot(createData(), new GreyPalette());
+		assertBlank(drawDensity(plot,
+				new Rectangle2D.Double(10.0, 10.0, 0.0, 0.0)));
+		assertBlank(drawDensity(plot,
+				new Rectangle2D.Double(10.0, 10.0, 100.0, -5.0)));
+		plot.setData(new float[2][0]);
+		assertBlank(drawDensity(plot, DATA_AREA));
+	}
+
+	/**
+	 * Checks that nothing was drawn in an image.
+	 *
+	 * @param image  the image.
+	 */
+	private static void assertBlank(BufferedImage image) {
+		for (int x = 0; x < WIDTH; x++) {
+			for (int y = 0; y < HEIGHT; y++) {
+				assertEquals(0, image.getRGB(x, y),
+						"pixel (" + x + ", " + y + ")");
+			}
+		}
+	}
+
+}
@@ -0,0 +1,145 @@
+package org.jfree.chart.plot;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.labels.StandardXYItemLabelGenerator;
+import org.jfree.chart.labels.StandardXYToolTipGenerator;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the {@link ParallelXYDatasetRenderer} class against 
+ * sequential rendering.
+ */
+class ParallelXYDatasetRendererTest {
+
+	/** The plot, with three datasets. */
+	private XYPlot plot;
+
+	/** Creates the plot. */
+	@BeforeEach
+	public void setup() {
+		this.plot = new XYPlot();
+		this.plot.setDomainAxis(new NumberAxis("X"));
+		this.plot.setRangeAxis(new NumberAxis("Y"));
+		for (int d = 0; d < 3; d++) {
+			XYSeriesCollection dataset = new XYSeriesCollection();
+			for (int s = 0; s < 2; s++) {
+				XYSeries series = new XYSeries("S" + d + "-" + s);
+				for (int i = 0; i < 50; i++) {
+					series.add(i, Math.sin(i * 0.2 + d + s) * (d + 1));
+				}
+				dataset.addSeries(series);
+			}
+			this.plot.setDataset(d, dataset);
+			XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer();
+			renderer.setToolTipGenerator(new StandardXYToolTipGenerator());
+			this.plot.setRenderer(d, renderer);
+		}
+	}
+
+	/**
+	 * Draws a chart for the plot into an image.
+	 *
+	 * @param parallel  render the datasets concurrently?
+	 * @param info  the rendering info.
+	 *
+	 * @return The pixels of the image.
+	 */
+	private int[] draw(boolean parallel, ChartRenderingInfo info) {
+		this.plot.setParallelRendering(parallel);
+		JFreeChart chart = new JFreeChart("Title", this.plot);
+		chart.setAntiAlias(false);
+		BufferedImage image = new BufferedImage(400, 300,
+				BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g2 = image.createGraphics();
+		chart.draw(g2, new Rectangle2D.Double(0, 0, 400, 300),
+				info);
+		g2.dispose();
+		return image.getRGB(0, 0, 400, 300, null, 0, 400);
+	}
+
+	/** Parallel rendering draws the same pixels and entities. */
+	@Test
+	public void sameOutputAsSequential() {
+		BufferedImage probe = new BufferedImage(1, 1,
+				BufferedImage.TYPE_INT_ARGB);
+		assertTrue(ParallelXYDatasetRenderer.isSupported(this.plot,
+				probe.createGraphics()));
+		ChartRenderingInfo sequentialInfo = new ChartRenderingInfo();
+		int[] sequential = draw(false, sequentialInfo);
+		ChartRenderingInfo parallelInfo = new ChartRenderingInfo();
+		int[] parallel = draw(true, parallelInfo);
+		assertArrayEquals(sequential, parallel);
+
+		EntityCollection e1 = sequentialInfo.getEntityCollection();
+		EntityCollection e2 = parallelInfo.getEntityCollection();
+		assertEquals(e1.getEntityCount(), e2.getEntityCount());
+		for (int i = 0; i < e1.getEntityCount(); i++) {
+			ChartEntity a = e1.getEntity(i);
+			ChartEntity b = e2.getEntity(i);
+			assertEquals(a.getToolTipText(), b.getToolTipText());
+			assertEquals(a.getArea().getBounds2D(), b.getArea().getBounds2D());
+		}
+	}
+
+	/** A tooltip generator shared by two renderers disables the option. */
+	@Test
+	public void sharedGeneratorNotSupported() {
+		StandardXYToolTipGenerator shared = new StandardXYToolTipGenerator();
+		this.plot.getRenderer(0).setToolTipGenerator(shared);
+		this.plot.getRenderer(2).setToolTipGenerator(shared);
+		BufferedImage probe = new BufferedImage(1, 1,
+				BufferedImage.TYPE_INT_ARGB);
+		assertFalse(ParallelXYDatasetRenderer.isSupported(this.plot,
+				probe.createGraphics()));
+	}
+
+	/**
+	 * A series or base generator shared by two renderers disables the 
+	 * option, even when it is not the generator for the first series.
+	 */
+	@Test
+	public void sharedSeriesOrBaseGeneratorNotSupported() {
+		BufferedImage probe = new BufferedImage(1, 1,
+				BufferedImage.TYPE_INT_ARGB);
+		StandardXYItemLabelGenerator shared = 
+				new StandardXYItemLabelGenerator();
+		this.plot.getRenderer(0).setSeriesItemLabelGenerator(1, shared);
+		assertTrue(ParallelXYDatasetRenderer.isSupported(this.plot,
+				probe.createGraphics()));
+		this.plot.getRenderer(2).setBaseItemLabelGenerator(shared);
+		assertFalse(ParallelXYDatasetRenderer.isSupported(this.plot,
+				probe.createGraphics()));
+		this.plot.getRenderer(2).setBaseItemLabelGenerator(null);
+		this.plot.getRenderer(1).setSeriesItemLabelGenerator(1, shared);
+		assertFalse(ParallelXYDatasetRenderer.isSupported(this.plot,
+				probe.createGraphics()));
+	}
+
+	/** Equal but distinct renderers are still supported. */
+	@Test
+	public void equalRenderersSupported() {
+		BufferedImage probe = new BufferedImage(1, 1,
+				BufferedImage.TYPE_INT_ARGB);
+		assertEquals(this.plot.getRenderer(0), this.plot.getRenderer(1));
+		assertTrue(ParallelXYDatasetRenderer.isSupported(this.plot,
+				probe.createGraphics()));
+	}
+
+}
@@ -0,0 +1,85 @@
+package org.jfree.chart.plot;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.event.ChartChangeEvent;
+import org.jfree.chart.event.ChartChangeListener;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the change events sent by the {@link Plot} class.
+ */
+class PlotTest {
+
+	/** The chart that owns the plot. */
+	private JFreeChart chart;
+
+	/** The plot under test. */
+	private XYPlot plot;
+
+	/** Set to <code>true</code> when the chart sends a change event. */
+	private boolean changed;
+
+	/** Creates a line chart and listens for its change events. */
+	@BeforeEach
+	public void setup() {
+		XYSeries series = new XYSeries("S1");
+		series.add(1.0, 2.0);
+		series.add(3.0, 4.0);
+		this.chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+				new XYSeriesCollection(series), PlotOrientation.VERTICAL,
+				true, false, false);
+		this.plot = this.chart.getXYPlot();
+		this.changed = false;
+		this.chart.addChangeListener(new ChartChangeListener() {
+			public void chartChanged(ChartChangeEvent event) {
+				PlotTest.this.changed = true;
+			}
+		});
+	}
+
+	/** A change to a plot property reaches the chart. */
+	@Test
+	public void plotPropertyChangeNotifiesChart() {
+		this.plot.setForegroundAlpha(0.5f);
+		assertTrue(this.changed);
+	}
+
+	/** A change to a plot attribute in a subclass reaches the chart. */
+	@Test
+	public void gridlineChangeNotifiesChart() {
+		this.plot.setDomainGridlinesVisible(false);
+		assertTrue(this.changed);
+	}
+
+	/** A change to an axis reaches the chart through the plot. */
+	@Test
+	public void axisChangeNotifiesChart() {
+		this.plot.getDomainAxis().setRange(0.0, 10.0);
+		assertTrue(this.changed);
+	}
+
+	/** A <code>null</code> listener is ignored. */
+	@Test
+	public void nullListenerIsIgnored() {
+		this.plot.addChangeListener(null);
+		this.plot.setForegroundAlpha(0.25f);
+		assertTrue(this.changed);
+		this.plot.removeChangeListener(null);
+	}
+
+	/** A removed listener receives no more events. */
+	@Test
+	public void removedListenerIsNotNotified() {
+		this.plot.removeChangeListener(this.chart);
+		this.plot.setForegroundAlpha(0.5f);
+		assertFalse(this.changed);
+	}
+
+}
@@ -0,0 +1,355 @@
+package org.jfree.chart.plot;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+import org.jfree.chart.axis.DateAxis;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.axis.SegmentedTimeline;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.renderer.xy.XYItemRendererState;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.time.DynamicTimeSeriesCollection;
+import org.jfree.data.time.Second;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the {@link XYTileCache} class.
+ */
+class XYTileCacheTest {
+
+	/** The width of the data area. */
+	private static final int WIDTH = 300;
+
+	/** The height of the data area. */
+	private static final int HEIGHT = 200;
+
+	/** The tile size used by the tests. */
+	private static final int TILE_SIZE = 64;
+
+	/** The memory used by one tile. */
+	private static final long TILE_BYTES = 4L * TILE_SIZE * TILE_SIZE;
+
+	/** A renderer that counts the items it draws. */
+	static class CountingRenderer extends XYLineAndShapeRenderer {
+
+		/** For serialization. */
+		private static final long serialVersionUID = 1L;
+
+		/** The number of items drawn. */
+		int count;
+
+		/**
+		 * Counts and draws an item.
+		 *
+		 * @param g2  the graphics device.
+		 * @param state  the renderer state.
+		 * @param dataArea  the data area.
+		 * @param info  the plot rendering info.
+		 * @param plot  the plot.
+		 * @param domainAxis  the domain axis.
+		 * @param rangeAxis  the range axis.
+		 * @param dataset  the dataset.
+		 * @param series  the series index.
+		 * @param item  the item index.
+		 * @param crosshairState  the crosshair state.
+		 * @param pass  the pass index.
+		 */
+		public void drawItem(Graphics2D g2, XYItemRendererState state,
+				Rectangle2D dataArea, PlotRenderingInfo info, XYPlot plot,
+				ValueAxis domainAxis, ValueAxis rangeAxis, XYDataset dataset,
+				int series, int item, CrosshairState crosshairState,
+				int pass) {
+			this.count++;
+			super.drawItem(g2, state, dataArea, info, plot, domainAxis,
+					rangeAxis, dataset, series, item, crosshairState, pass);
+		}
+
+	}
+
+	/**
+	 * Creates a series.
+	 *
+	 * @return The series.
+	 */
+	private static XYSeries createSeries() {
+		XYSeries series = new XYSeries("S");
+		for (int i = 0; i < 200; i++) {
+			series.add(i * 0.5, 25.0 + Math.sin(i * 0.1) * 20.0);
+		}
+		return series;
+	}
+
+	/**
+	 * Creates a plot with fixed axis ranges.  The scales are powers of two
+	 * (8 pixels per unit across and 4 down) and the offsets are whole
+	 * pixels, so the tiles place the data exactly where direct rendering
+	 * does.
+	 *
+	 * @param series  the series.
+	 * @param renderer  the renderer.
+	 *
+	 * @return The plot.
+	 */
+	private static XYPlot createPlot(XYSeries series,
+			XYLineAndShapeRenderer renderer) {
+		NumberAxis xAxis = new NumberAxis("X");
+		xAxis.setRange(0.0, WIDTH / 8.0);
+		NumberAxis yAxis = new NumberAxis("Y");
+		yAxis.setRange(0.0, HEIGHT / 4.0);
+		return new XYPlot(new XYSeriesCollection(series), xAxis, yAxis,
+				renderer);
+	}
+
+	/**
+	 * Renders the dataset of a plot into an image.
+	 *
+	 * @param plot  the plot.
+	 *
+	 * @return The pixels.
+	 */
+	private static int[] render(XYPlot plot) {
+		BufferedImage image = new BufferedImage(WIDTH, HEIGHT,
+				BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g2 = image.createGraphics();
+		Rectangle2D area = new Rectangle2D.Double(0, 0, WIDTH, HEIGHT);
+		assertTrue(plot.render(g2, area, 0, null, new CrosshairState()));
+		g2.dispose();
+		return image.getRGB(0, 0, WIDTH, HEIGHT, null, 0, WIDTH);
+	}
+
+	/**
+	 * Renders the dataset of a plot without a cache.
+	 *
+	 * @param plot  the plot.
+	 *
+	 * @return The pixels.
+	 */
+	private static int[] renderDirectly(XYPlot plot) {
+		XYTileCache cache = plot.getTileCache();
+		plot.setTileCache(null);
+		try {
+			return render(plot);
+		}
+		finally {
+			plot.setTileCache(cache);
+		}
+	}
+
+	/**
+	 * Checks that two images are the same, apart from edges that have moved
+	 * by one pixel: each pixel must match a pixel of the other image at the
+	 * same position or next to it.  After panning, the tiles were rendered
+	 * with axes of a different range, so the rounding of the coordinates
+	 * can differ slightly from direct rendering.
+	 *
+	 * @param expected  the expected pixels.
+	 * @param actual  the actual pixels.
+	 */
+	private static void assertNearlyEqual(int[] expected, int[] actual) {
+		for (int y = 0; y < HEIGHT; y++) {
+			for (int x = 0; x < WIDTH; x++) {
+				assertTrue(hasNeighbour(actual, x, y, expected[y * WIDTH + x])
+						&& hasNeighbour(expected, x, y,
+								actual[y * WIDTH + x]),
+						"pixel (" + x + ", " + y + ")");
+			}
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if a pixel or one of its neighbours has a
+	 * given value.
+	 *
+	 * @param pixels  the pixels.
+	 * @param x  the x-coordinate.
+	 * @param y  the y-coordinate.
+	 * @param rgb  the value.
+	 *
+	 * @return A boolean.
+	 */
+	private static boolean hasNeighbour(int[] pixels, int x, int y, int rgb) {
+		for (int j = Math.max(y - 1, 0); j <= Math.min(y + 1, HEIGHT - 1);
+				j++) {
+			for (int i = Math.max(x - 1, 0); i <= Math.min(x + 1, WIDTH - 1);
+					i++) {
+				if (pixels[j * WIDTH + i] == rgb) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Renders a dataset twice in a plot with a tile cache.
+	 *
+	 * @param dataset  the dataset.
+	 *
+	 * @return The cache.
+	 */
+	private static XYTileCache render(XYDataset dataset) {
+		XYPlot plot = new XYPlot(dataset, new NumberAxis("X"),
+				new NumberAxis("Y"), new XYLineAndShapeRenderer());
+		XYTileCache cache = new XYTileCache();
+		plot.setTileCache(cache);
+		BufferedImage image = new BufferedImage(300, 200,
+				BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g2 = image.createGraphics();
+		Rectangle2D area = new Rectangle2D.Double(0, 0, 300, 200);
+		for (int i = 0; i < 2; i++) {
+			assertTrue(plot.render(g2, area, 0, null, new CrosshairState()));
+		}
+		g2.dispose();
+		return cache;
+	}
+
+	/** The tiles of an ordinary dataset are cached. */
+	@Test
+	public void cachesOrdinaryDataset() {
+		XYSeries series = new XYSeries("S");
+		for (int i = 0; i < 20; i++) {
+			series.add(i, i * i);
+		}
+		XYTileCache cache = render(new XYSeriesCollection(series));
+		assertTrue(cache.getTileCount() > 0);
+	}
+
+	/** The cached tiles draw the same pixels as direct rendering. */
+	@Test
+	public void cachedOutputMatchesDirectRendering() {
+		CountingRenderer renderer = new CountingRenderer();
+		XYPlot plot = createPlot(createSeries(), renderer);
+		plot.setTileCache(new XYTileCache(TILE_SIZE,
+				XYTileCache.DEFAULT_MEMORY_BUDGET));
+		int[] expected = renderDirectly(plot);
+		int[] first = render(plot);
+		int count = renderer.count;
+		int[] second = render(plot);
+		assertEquals(count, renderer.count);
+		assertArrayEquals(expected, first);
+		assertArrayEquals(expected, second);
+	}
+
+	/** A change to the dataset invalidates the tiles. */
+	@Test
+	public void datasetChangeInvalidatesTiles() {
+		XYSeries series = createSeries();
+		CountingRenderer renderer = new CountingRenderer();
+		XYPlot plot = createPlot(series, renderer);
+		plot.setTileCache(new XYTileCache(TILE_SIZE,
+				XYTileCache.DEFAULT_MEMORY_BUDGET));
+		render(plot);
+		int count = renderer.count;
+		series.add(20.25, 45.0);
+		int[] actual = render(plot);
+		assertTrue(renderer.count > count);
+		assertArrayEquals(renderDirectly(plot), actual);
+	}
+
+	/** Panning within the tiles already rendered reuses them. */
+	@Test
+	public void panningReusesTiles() {
+		CountingRenderer renderer = new CountingRenderer();
+		XYPlot plot = createPlot(createSeries(), renderer);
+		XYTileCache cache = new XYTileCache(TILE_SIZE,
+				XYTileCache.DEFAULT_MEMORY_BUDGET);
+		plot.setTileCache(cache);
+		render(plot);
+		int tiles = cache.getTileCount();
+		int count = renderer.count;
+
+		// 2 units is 16 pixels, which stays within the same tile columns
+		plot.getDomainAxis().setRange(2.0, 2.0 + WIDTH / 8.0);
+		int[] actual = render(plot);
+		assertEquals(tiles, cache.getTileCount());
+		assertEquals(count, renderer.count);
+		assertNearlyEqual(renderDirectly(plot), actual);
+
+		// a larger pan renders the newly exposed tiles only
+		plot.getDomainAxis().setRange(10.0, 10.0 + WIDTH / 8.0);
+		actual = render(plot);
+		int added = cache.getTileCount() - tiles;
+		assertTrue(added > 0 && added < tiles);
+		assertNearlyEqual(renderDirectly(plot), actual);
+	}
+
+	/** The least recently used tiles are discarded first. */
+	@Test
+	public void evictsLeastRecentlyUsedTiles() {
+		CountingRenderer renderer = new CountingRenderer();
+		XYPlot plot = createPlot(createSeries(), renderer);
+		XYTileCache cache = new XYTileCache(TILE_SIZE,
+				XYTileCache.DEFAULT_MEMORY_BUDGET);
+		plot.setTileCache(cache);
+		ValueAxis xAxis = plot.getDomainAxis();
+
+		// view A, then view B (48 units is 6 tiles further on), then A again
+		render(plot);
+		int tiles = cache.getTileCount();
+		xAxis.setRange(48.0, 48.0 + WIDTH / 8.0);
+		render(plot);
+		assertTrue(cache.getTileCount() > tiles);
+		xAxis.setRange(0.0, WIDTH / 8.0);
+		int count = renderer.count;
+		render(plot);
+		assertEquals(count, renderer.count);
+
+		// shrinking the budget keeps the tiles for view A
+		cache.setMemoryBudget(tiles * TILE_BYTES);
+		assertEquals(tiles, cache.getTileCount());
+		assertEquals(tiles * TILE_BYTES, cache.getMemoryUsage());
+		render(plot);
+		assertEquals(count, renderer.count);
+		xAxis.setRange(48.0, 48.0 + WIDTH / 8.0);
+		render(plot);
+		assertTrue(renderer.count > count);
+		assertTrue(cache.getMemoryUsage() <= cache.getMemoryBudget());
+	}
+
+	/** The cache is only used for date axes with the default timeline. */
+	@Test
+	public void segmentedTimelineNotCached() {
+		XYSeries series = new XYSeries("S");
+		for (int i = 0; i < 20; i++) {
+			series.add(i * 86400000.0, i);
+		}
+		DateAxis xAxis = new DateAxis("X");
+		XYPlot plot = new XYPlot(new XYSeriesCollection(series), xAxis,
+				new NumberAxis("Y"), new XYLineAndShapeRenderer());
+		XYTileCache cache = new XYTileCache();
+		plot.setTileCache(cache);
+		render(plot);
+		assertTrue(cache.getTileCount() > 0);
+
+		cache.clear();
+		xAxis.setTimeline(SegmentedTimeline.newMondayThroughFridayTimeline());
+		render(plot);
+		assertEquals(0, cache.getTileCount());
+	}
+
+	/** The snapshots of a concurrent dataset are not cached. */
+	@Test
+	public void skipsSnapshots() {
+		DynamicTimeSeriesCollection dataset
+				= new DynamicTimeSeriesCollection(1, 20, new Second());
+		dataset.setTimeBase(new Second(0, 0, 0, 1, 1, 2000));
+		float[] values = new float[20];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = i;
+		}
+		dataset.addSeries(values, 0, "S");
+		XYTileCache cache = render(dataset);
+		assertEquals(0, cache.getTileCount());
+		assertEquals(0L, cache.getMemoryUsage());
+	}
+
+}
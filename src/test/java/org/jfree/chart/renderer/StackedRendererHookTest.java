@@ -0,0 +1,237 @@
+package org.jfree.chart.renderer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.CategoryAxis;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.CategoryPlot;
+import org.jfree.chart.plot.CrosshairState;
+import org.jfree.chart.plot.SeriesRenderingOrder;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.category.StackedAreaRenderer;
+import org.jfree.chart.renderer.xy.StackedXYAreaRenderer;
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.general.StackedValues;
+import org.jfree.data.xy.DefaultTableXYDataset;
+import org.jfree.data.xy.TableXYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class checks that the stacked area renderers still call an 
+ * overridden <code>getPreviousHeight()</code> method, and that the 
+ * precalculated stack values agree with that method.
+ */
+class StackedRendererHookTest {
+
+	/** Exposes the previous height hook of the category renderer. */
+	static class CategoryRenderer extends StackedAreaRenderer {
+
+		/** For serialization. */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * Calls the previous height hook.
+		 *
+		 * @param data  the dataset.
+		 * @param series  the series index.
+		 * @param category  the category index.
+		 *
+		 * @return The previous height.
+		 */
+		double previousHeight(CategoryDataset data, int series,
+				int category) {
+			return getPreviousHeight(data, series, category);
+		}
+
+	}
+
+	/** Exposes the previous height hook of the xy renderer. */
+	static class XYRenderer extends StackedXYAreaRenderer {
+
+		/** For serialization. */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * Calls the previous height hook.
+		 *
+		 * @param data  the dataset.
+		 * @param series  the series index.
+		 * @param index  the item index.
+		 *
+		 * @return The previous height.
+		 */
+		double previousHeight(TableXYDataset data, int series, int index) {
+			return getPreviousHeight(data, series, index);
+		}
+
+	}
+
+	/** The number of calls to the overridden methods. */
+	private int calls;
+
+	/** The category renderer calls an overridden hook. */
+	@Test
+	public void categoryHookIsCalled() {
+		DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+		for (int c = 0; c < 3; c++) {
+			dataset.addValue(1.0 + c, "R1", "C" + c);
+			dataset.addValue(2.0 + c, "R2", "C" + c);
+		}
+		StackedAreaRenderer renderer = new StackedAreaRenderer() {
+			protected double getPreviousHeight(CategoryDataset data,
+					int series, int category) {
+				StackedRendererHookTest.this.calls++;
+				return super.getPreviousHeight(data, series, category);
+			}
+		};
+		CategoryPlot plot = new CategoryPlot(dataset, new CategoryAxis("X"),
+				new NumberAxis("Y"), renderer);
+		draw(new JFreeChart(plot));
+		assertTrue(this.calls > 0);
+	}
+
+	/** The xy renderer calls an overridden hook. */
+	@Test
+	public void xyHookIsCalled() {
+		DefaultTableXYDataset dataset = new DefaultTableXYDataset();
+		for (int s = 0; s < 2; s++) {
+			XYSeries series = new XYSeries("S" + s, true, false);
+			for (int i = 0; i < 3; i++) {
+				series.add(i, 1.0 + s + i);
+			}
+			dataset.addSeries(series);
+		}
+		StackedXYAreaRenderer renderer = new StackedXYAreaRenderer() {
+			protected double getPreviousHeight(TableXYDataset data,
+					int series, int index) {
+				StackedRendererHookTest.this.calls++;
+				return super.getPreviousHeight(data, series, index);
+			}
+		};
+		XYPlot plot = new XYPlot(dataset, new NumberAxis("X"),
+				new NumberAxis("Y"), renderer);
+		plot.setSeriesRenderingOrder(SeriesRenderingOrder.FORWARD);
+		NumberAxis xAxis = (NumberAxis) plot.getDomainAxis();
+		xAxis.setRange(0.0, 2.0);
+		plot.getRangeAxis().setRange(0.0, 10.0);
+		BufferedImage image = new BufferedImage(200, 100,
+				BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g2 = image.createGraphics();
+		plot.render(g2, new Rectangle2D.Double(0, 0, 200, 100), 0, null,
+				new CrosshairState());
+		g2.dispose();
+		assertTrue(this.calls > 0);
+	}
+
+	/**
+	 * Returns a category dataset with positive, negative, <code>null</code>
+	 * and <code>NaN</code> values.
+	 *
+	 * @return The dataset.
+	 */
+	private static DefaultCategoryDataset createMixedCategoryDataset() {
+		double[][] values = {
+				{ 1.5, -2.0, 3.0, Double.NaN },
+				{ -0.5, 4.25, Double.NaN, -1.0 },
+				{ 2.0, -3.5, -1.25, 6.0 },
+				{ Double.NaN, 1.0, 0.75, -2.5 } };
+		DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+		for (int r = 0; r < values.length; r++) {
+			for (int c = 0; c < values[r].length; c++) {
+				dataset.addValue(values[r][c], "R" + r, "C" + c);
+			}
+		}
+		dataset.addValue(null, "R1", "C0");
+		return dataset;
+	}
+
+	/**
+	 * Returns a table xy dataset with positive, negative and
+	 * <code>NaN</code> y-values.
+	 *
+	 * @return The dataset.
+	 */
+	private static DefaultTableXYDataset createMixedXYDataset() {
+		double[][] values = {
+				{ 1.5, -2.0, 3.0, Double.NaN },
+				{ -0.5, 4.25, Double.NaN, -1.0 },
+				{ 2.0, -3.5, -1.25, 6.0 } };
+		DefaultTableXYDataset dataset = new DefaultTableXYDataset();
+		for (int s = 0; s < values.length; s++) {
+			XYSeries series = new XYSeries("S" + s, true, false);
+			for (int i = 0; i < values[s].length; i++) {
+				series.add(i, values[s][i]);
+			}
+			dataset.addSeries(series);
+		}
+		return dataset;
+	}
+
+	/** The table bases equal the category hook for mixed signs and NaN. */
+	@Test
+	public void categoryStackedValuesMatchHook() {
+		DefaultCategoryDataset dataset = createMixedCategoryDataset();
+		StackedValues stacks = new StackedValues(dataset);
+		CategoryRenderer renderer = new CategoryRenderer();
+		for (int r = 0; r < dataset.getRowCount(); r++) {
+			for (int c = 0; c < dataset.getColumnCount(); c++) {
+				assertEquals(renderer.previousHeight(dataset, r, c),
+						stacks.getBase(r, c), 1e-12);
+			}
+		}
+	}
+
+	/** The table bases equal the xy hook for mixed signs and NaN. */
+	@Test
+	public void xyStackedValuesMatchHook() {
+		DefaultTableXYDataset dataset = createMixedXYDataset();
+		StackedValues stacks = new StackedValues(dataset);
+		XYRenderer renderer = new XYRenderer();
+		for (int s = 0; s < dataset.getSeriesCount(); s++) {
+			for (int i = 0; i < dataset.getItemCount(); i++) {
+				assertEquals(renderer.previousHeight(dataset, s, i),
+						stacks.getBase(s, i), 1e-12);
+			}
+		}
+	}
+
+	/** Precalculating the heights does not change the chart. */
+	@Test
+	public void precalculatedHeightsDrawTheSameChart() {
+		DefaultCategoryDataset dataset = createMixedCategoryDataset();
+		StackedAreaRenderer r1 = new StackedAreaRenderer();
+		StackedAreaRenderer r2 = new StackedAreaRenderer();
+		r2.setPrecalculateHeights(true);
+		assertTrue(!r1.equals(r2));
+		BufferedImage i1 = new JFreeChart(new CategoryPlot(dataset,
+				new CategoryAxis("X"), new NumberAxis("Y"), r1))
+				.createBufferedImage(200, 100);
+		BufferedImage i2 = new JFreeChart(new CategoryPlot(dataset,
+				new CategoryAxis("X"), new NumberAxis("Y"), r2))
+				.createBufferedImage(200, 100);
+		for (int x = 0; x < 200; x++) {
+			for (int y = 0; y < 100; y++) {
+				assertEquals(i1.getRGB(x, y), i2.getRGB(x, y));
+			}
+		}
+	}
+
+	/**
+	 * Draws a chart into an image.
+	 *
+	 * @param chart  the chart.
+	 */
+	private static void draw(JFreeChart chart) {
+		BufferedImage image = chart.createBufferedImage(200, 100);
+		assertTrue(image != null);
+	}
+
+}
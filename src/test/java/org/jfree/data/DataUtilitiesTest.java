@@ -216,6 +216,58 @@ class DataUtilitiesTest {
 		assertArrayEquals(NUMBER_ARRAY_2D, createNumberArray2D(DOUBLE_ARRAY_2D));
 	}
 
+	/**
+	 * A stored <code>NaN</code> propagates into the column and row totals, while
+	 * <code>null</code> values are skipped.
+	 */
+	@Test
+	public void nanPropagatesToTotals() {
+		DefaultKeyedValues2D data = new DefaultKeyedValues2D();
+		data.addValue(1.0, "R1", "C1");
+		data.addValue(Double.NaN, "R1", "C2");
+		data.addValue(2.0, "R2", "C1");
+		data.addValue(null, "R2", "C2");
+		data.addValue(4.0, "R3", "C2");
+		assertAll(() -> assertEquals(3.0, calculateColumnTotal(data, 0)),
+				() -> assertEquals(Double.NaN, calculateColumnTotal(data, 1)),
+				() -> assertEquals(Double.NaN, calculateRowTotal(data, 0)),
+				() -> assertEquals(2.0, calculateRowTotal(data, 1)));
+	}
+
+	/**
+	 * The default <code>getDoubleValue()</code> methods unbox the value and map
+	 * <code>null</code> to <code>NaN</code>.
+	 */
+	@Test
+	public void defaultDoubleValueMapsNullToNaN() {
+		Values2D table = new Values2D() {
+			public int getRowCount() {
+				return 1;
+			}
+
+			public int getColumnCount() {
+				return 2;
+			}
+
+			public Number getValue(int row, int column) {
+				return (column == 0 ? Integer.valueOf(7) : null);
+			}
+		};
+		Values list = new Values() {
+			public int getItemCount() {
+				return 2;
+			}
+
+			public Number getValue(int item) {
+				return (item == 0 ? Double.valueOf(1.5) : null);
+			}
+		};
+		assertAll(() -> assertEquals(7.0, table.getDoubleValue(0, 0)),
+				() -> assertEquals(Double.NaN, table.getDoubleValue(0, 1)),
+				() -> assertEquals(1.5, list.getDoubleValue(0)),
+				() -> assertEquals(Double.NaN, list.getDoubleValue(1)));
+	}
+
 	/**
 	 * Make the assertion operate on the interface, not a given implementation;
 	 * therefore, the first interface of the implementing class is asserted to be of
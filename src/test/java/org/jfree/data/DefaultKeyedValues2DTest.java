@@ -0,0 +1,104 @@
+package org.jfree.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the row and column key indices in the {@link DefaultKeyedValues2D}
+ * class.
+ */
+class DefaultKeyedValues2DTest {
+
+	/**
+	 * Checks that every row and column key maps to its position.
+	 *
+	 * @param data  the table.
+	 */
+	private static void assertIndexConsistent(DefaultKeyedValues2D data) {
+		for (int r = 0; r < data.getRowCount(); r++) {
+			assertEquals(r, data.getRowIndex(data.getRowKey(r)));
+		}
+		for (int c = 0; c < data.getColumnCount(); c++) {
+			assertEquals(c, data.getColumnIndex(data.getColumnKey(c)));
+		}
+	}
+
+	/**
+	 * Returns a table with three rows and three columns, with a value in
+	 * every cell.
+	 *
+	 * @return The table.
+	 */
+	private static DefaultKeyedValues2D createTable() {
+		DefaultKeyedValues2D data = new DefaultKeyedValues2D();
+		for (int r = 1; r <= 3; r++) {
+			for (int c = 1; c <= 3; c++) {
+				data.addValue(Double.valueOf(r * c), "R" + r, "C" + c);
+			}
+		}
+		return data;
+	}
+
+	/** Removing rows and columns moves the keys that follow them. */
+	@Test
+	public void lookupAfterRemove() {
+		DefaultKeyedValues2D data = createTable();
+		data.removeRow("R1");
+		assertEquals(-1, data.getRowIndex("R1"));
+		assertEquals(0, data.getRowIndex("R2"));
+		data.removeColumn("C2");
+		assertEquals(-1, data.getColumnIndex("C2"));
+		assertEquals(1, data.getColumnIndex("C3"));
+		assertEquals(9.0, data.getValue("R3", "C3").doubleValue());
+		assertIndexConsistent(data);
+
+		// removing the last value in a row drops the row
+		data.removeValue("R2", "C1");
+		assertEquals(0, data.getRowIndex("R2"));
+		data.removeValue("R2", "C3");
+		assertEquals(-1, data.getRowIndex("R2"));
+		assertEquals(0, data.getRowIndex("R3"));
+		assertEquals(9.0, data.getValue("R3", "C3").doubleValue());
+		assertIndexConsistent(data);
+	}
+
+	/**
+	 * Rows inserted in sorted mode shift the rows after them, and unknown
+	 * keys still give the binary search insertion point.
+	 */
+	@Test
+	public void lookupAfterSortedInsert() {
+		DefaultKeyedValues2D data = new DefaultKeyedValues2D(true);
+		data.addValue(Double.valueOf(1.0), "D", "C1");
+		data.addValue(Double.valueOf(2.0), "B", "C1");
+		data.addValue(Double.valueOf(3.0), "C", "C1");
+		data.addValue(Double.valueOf(4.0), "A", "C1");
+		assertEquals(0, data.getRowIndex("A"));
+		assertEquals(3, data.getRowIndex("D"));
+		assertEquals(-3, data.getRowIndex("BB"));
+		assertEquals(-5, data.getRowIndex("E"));
+		assertIndexConsistent(data);
+	}
+
+	/**
+	 * The indices are not serialized, so they must be rebuilt when the
+	 * table is restored, including those of the rows.
+	 *
+	 * @throws Exception if there is a problem.
+	 */
+	@Test
+	public void lookupAfterDeserialization() throws Exception {
+		DefaultKeyedValues2D data = createTable();
+		data.removeRow(0);
+		DefaultKeyedValues2D restored
+				= (DefaultKeyedValues2D) DefaultKeyedValuesTest.restore(data);
+		assertEquals(data, restored);
+		assertEquals(0, restored.getRowIndex("R2"));
+		assertEquals(1, restored.getColumnIndex("C2"));
+		assertEquals(6.0, restored.getValue("R2", "C3").doubleValue());
+		restored.addValue(Double.valueOf(4.0), "R4", "C4");
+		assertIndexConsistent(restored);
+	}
+
+}
@@ -0,0 +1,123 @@
+package org.jfree.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.jfree.util.SortOrder;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the key index in the {@link DefaultKeyedValues} class.
+ */
+class DefaultKeyedValuesTest {
+
+	/**
+	 * Returns a collection with the keys "A" to "E" and values that are in
+	 * the reverse order to the keys.
+	 *
+	 * @return The collection.
+	 */
+	private static DefaultKeyedValues createValues() {
+		DefaultKeyedValues values = new DefaultKeyedValues();
+		values.addValue("A", 5.0);
+		values.addValue("B", 4.0);
+		values.addValue("C", 3.0);
+		values.addValue("D", 2.0);
+		values.addValue("E", 1.0);
+		return values;
+	}
+
+	/**
+	 * Checks that every key maps to its position in the list.
+	 *
+	 * @param values  the collection.
+	 */
+	private static void assertIndexConsistent(DefaultKeyedValues values) {
+		for (int i = 0; i < values.getItemCount(); i++) {
+			assertEquals(i, values.getIndex(values.getKey(i)));
+		}
+	}
+
+	/**
+	 * Serializes and deserializes an object.
+	 *
+	 * @param obj  the object.
+	 *
+	 * @return The restored object.
+	 *
+	 * @throws Exception if there is a problem.
+	 */
+	static Object restore(Object obj) throws Exception {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		ObjectOutputStream out = new ObjectOutputStream(buffer);
+		out.writeObject(obj);
+		out.close();
+		ObjectInputStream in = new ObjectInputStream(
+				new ByteArrayInputStream(buffer.toByteArray()));
+		return in.readObject();
+	}
+
+	/** Removing an item moves the keys that follow it down by one. */
+	@Test
+	public void lookupAfterRemove() {
+		DefaultKeyedValues values = createValues();
+		values.removeValue("B");
+		assertEquals(-1, values.getIndex("B"));
+		assertEquals(1, values.getIndex("C"));
+		assertEquals(3, values.getIndex("E"));
+		assertEquals(1.0, values.getValue("E").doubleValue());
+		values.removeValue(0);
+		assertEquals(-1, values.getIndex("A"));
+		assertIndexConsistent(values);
+		values.addValue("B", 9.0);
+		assertEquals(3, values.getIndex("B"));
+		assertIndexConsistent(values);
+	}
+
+	/** Setting an existing key keeps its position. */
+	@Test
+	public void lookupAfterReplace() {
+		DefaultKeyedValues values = createValues();
+		values.setValue("C", 7.0);
+		assertEquals(2, values.getIndex("C"));
+		assertEquals(7.0, values.getValue("C").doubleValue());
+		assertEquals(5, values.getItemCount());
+	}
+
+	/** Sorting reorders the index with the items. */
+	@Test
+	public void lookupAfterSort() {
+		DefaultKeyedValues values = createValues();
+		values.sortByValues(SortOrder.ASCENDING);
+		assertEquals(0, values.getIndex("E"));
+		assertEquals(4, values.getIndex("A"));
+		assertIndexConsistent(values);
+		values.sortByKeys(SortOrder.DESCENDING);
+		assertEquals(0, values.getIndex("E"));
+		assertIndexConsistent(values);
+	}
+
+	/**
+	 * The index is not serialized, so it must be rebuilt when the
+	 * collection is restored.
+	 *
+	 * @throws Exception if there is a problem.
+	 */
+	@Test
+	public void lookupAfterDeserialization() throws Exception {
+		DefaultKeyedValues values = createValues();
+		values.removeValue("A");
+		DefaultKeyedValues restored = (DefaultKeyedValues) restore(values);
+		assertEquals(values, restored);
+		assertEquals(0, restored.getIndex("B"));
+		assertEquals(-1, restored.getIndex("A"));
+		assertEquals(2.0, restored.getValue("D").doubleValue());
+		restored.addValue("F", 0.0);
+		assertEquals(4, restored.getIndex("F"));
+	}
+
+}
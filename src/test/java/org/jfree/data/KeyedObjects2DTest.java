@@ -0,0 +1,84 @@
+package org.jfree.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the key indices in the {@link KeyedObjects} and
+ * {@link KeyedObjects2D} classes.
+ */
+class KeyedObjects2DTest {
+
+	/**
+	 * Returns a table with three rows and three columns, with an object in
+	 * every cell.
+	 *
+	 * @return The table.
+	 */
+	private static KeyedObjects2D createTable() {
+		KeyedObjects2D data = new KeyedObjects2D();
+		for (int r = 1; r <= 3; r++) {
+			for (int c = 1; c <= 3; c++) {
+				data.addObject(r + "," + c, "R" + r, "C" + c);
+			}
+		}
+		return data;
+	}
+
+	/** Removing an item moves the keys that follow it down by one. */
+	@Test
+	public void keyedObjectsLookupAfterRemove() {
+		KeyedObjects objects = new KeyedObjects();
+		objects.addObject("K1", "A");
+		objects.addObject("K2", "B");
+		objects.addObject("K3", "C");
+		objects.removeValue("K1");
+		assertEquals(-1, objects.getIndex("K1"));
+		assertEquals(0, objects.getIndex("K2"));
+		assertEquals("C", objects.getObject("K3"));
+		objects.setObject("K2", "D");
+		assertEquals(0, objects.getIndex("K2"));
+		assertEquals("D", objects.getObject(0));
+	}
+
+	/** Removing rows and columns moves the keys that follow them. */
+	@Test
+	public void lookupAfterRemove() {
+		KeyedObjects2D data = createTable();
+		data.removeRow("R2");
+		assertEquals(-1, data.getRowIndex("R2"));
+		assertEquals(1, data.getRowIndex("R3"));
+		data.removeColumn("C1");
+		assertEquals(-1, data.getColumnIndex("C1"));
+		assertEquals(1, data.getColumnIndex("C3"));
+		assertEquals("3,3", data.getObject("R3", "C3"));
+		assertEquals("3,2", data.getObject(1, 0));
+		assertNull(data.getObject("R2", "C2"));
+		data.addObject("D", "R4", "C4");
+		assertEquals(2, data.getRowIndex("R4"));
+		assertEquals(2, data.getColumnIndex("C4"));
+	}
+
+	/**
+	 * The indices are not serialized, so they must be rebuilt when the
+	 * table is restored, including those of the rows.
+	 *
+	 * @throws Exception if there is a problem.
+	 */
+	@Test
+	public void lookupAfterDeserialization() throws Exception {
+		KeyedObjects2D data = createTable();
+		data.removeRow(0);
+		KeyedObjects2D restored
+				= (KeyedObjects2D) DefaultKeyedValuesTest.restore(data);
+		assertEquals(data, restored);
+		assertEquals(0, restored.getRowIndex("R2"));
+		assertEquals(2, restored.getColumnIndex("C3"));
+		assertEquals("3,3", restored.getObject("R3", "C3"));
+		restored.removeColumn("C2");
+		assertEquals(1, restored.getColumnIndex("C3"));
+	}
+
+}
@@ -0,0 +1,156 @@
+package org.jfree.data.category;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the {@link ArrayCategoryDataset} class.
+ */
+class ArrayCategoryDatasetTest {
+
+	/** The row keys. */
+	private static final Comparable[] ROWS = new Comparable[] {"R1", "R2"};
+
+	/** The column keys. */
+	private static final Comparable[] COLUMNS
+			= new Comparable[] {"C1", "C2", "C3"};
+
+	/** The dataset is a view of the array, so changes are seen. */
+	@Test
+	public void arrayIsNotCopied() {
+		double[][] data = new double[][] {{1.0, 2.0, 3.0}, {4.0, Double.NaN,
+				6.0}};
+		ArrayCategoryDataset dataset = new ArrayCategoryDataset(ROWS, COLUMNS,
+				data);
+		assertEquals(new Double(2.0), dataset.getValue(0, 1));
+		assertNull(dataset.getValue("R2", "C2"));
+		data[1][1] = 5.0;
+		assertEquals(new Double(5.0), dataset.getValue("R2", "C2"));
+		assertEquals(5.0, dataset.getDoubleValue(1, 1), 0.0);
+	}
+
+	/** The cached bounds are kept until dataChanged() is called. */
+	@Test
+	public void boundsResetOnDataChanged() {
+		double[][] data = new double[][] {{1.0, 2.0, 3.0}, {4.0, Double.NaN,
+				6.0}};
+		ArrayCategoryDataset dataset = new ArrayCategoryDataset(ROWS, COLUMNS,
+				data);
+		final int[] events = new int[1];
+		dataset.addChangeListener(new DatasetChangeListener() {
+			public void datasetChanged(DatasetChangeEvent event) {
+				events[0]++;
+			}
+		});
+		assertEquals(new Range(1.0, 6.0), dataset.getRangeBounds(false));
+		data[0][0] = -10.0;
+		assertEquals(new Range(1.0, 6.0), dataset.getRangeBounds(false));
+		dataset.dataChanged();
+		assertEquals(1, events[0]);
+		assertEquals(new Range(-10.0, 6.0), dataset.getRangeBounds(true));
+		assertEquals(-10.0, dataset.getRangeLowerBound(false), 0.0);
+
+		for (int r = 0; r < 2; r++) {
+			for (int c = 0; c < 3; c++) {
+				data[r][c] = Double.NaN;
+			}
+		}
+		dataset.dataChanged();
+		assertNull(dataset.getRangeBounds(false));
+		assertEquals(Double.NaN, dataset.getRangeUpperBound(false));
+	}
+
+	/**
+	 * A buffer is read in row order from its position to its limit, without
+	 * copying.
+	 */
+	@Test
+	public void bufferSlicing() {
+		DoubleBuffer buffer = ByteBuffer.allocateDirect(8 * 8)
+				.order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+		for (int i = 0; i < 8; i++) {
+			buffer.put(i, i);
+		}
+		buffer.position(1);
+		buffer.limit(7);
+		ArrayCategoryDataset dataset = new ArrayCategoryDataset(ROWS, COLUMNS,
+				buffer);
+		buffer.clear();
+		assertEquals(1.0, dataset.getDoubleValue(0, 0), 0.0);
+		assertEquals(3.0, dataset.getDoubleValue(0, 2), 0.0);
+		assertEquals(4.0, dataset.getDoubleValue(1, 0), 0.0);
+		assertEquals(6.0, dataset.getDoubleValue(1, 2), 0.0);
+		buffer.put(5, 50.0);
+		assertEquals(50.0, dataset.getDoubleValue(1, 1), 0.0);
+
+		buffer.position(1);
+		buffer.limit(6);
+		assertThrows(IllegalArgumentException.class,
+				() -> new ArrayCategoryDataset(ROWS, COLUMNS, buffer));
+	}
+
+	/** Only another ArrayCategoryDataset with the same data is equal. */
+	@Test
+	public void equalsAndHashCode() {
+		ArrayCategoryDataset d1 = new ArrayCategoryDataset(ROWS, COLUMNS,
+				new double[][] {{1.0, 2.0, 3.0}, {4.0, Double.NaN, 6.0}});
+		ArrayCategoryDataset d2 = new ArrayCategoryDataset(ROWS, COLUMNS,
+				DoubleBuffer.wrap(new double[] {1.0, 2.0, 3.0, 4.0,
+				Double.NaN, 6.0}));
+		assertEquals(d1, d2);
+		assertEquals(d1.hashCode(), d2.hashCode());
+
+		DefaultCategoryDataset other = new DefaultCategoryDataset();
+		for (int r = 0; r < 2; r++) {
+			for (int c = 0; c < 3; c++) {
+				other.addValue(d1.getValue(r, c), ROWS[r], COLUMNS[c]);
+			}
+		}
+		assertNotEquals(d1, other);
+
+		d2 = new ArrayCategoryDataset(ROWS, COLUMNS,
+				new double[][] {{1.0, 2.0, 3.0}, {4.0, 5.0, 6.0}});
+		assertNotEquals(d1, d2);
+	}
+
+	/** A serialized dataset holds a copy of the values. */
+	@Test
+	public void serialization() throws Exception {
+		DoubleBuffer buffer = ByteBuffer.allocateDirect(6 * 8)
+				.asDoubleBuffer();
+		for (int i = 0; i < 6; i++) {
+			buffer.put(i, i == 4 ? Double.NaN : i);
+		}
+		ArrayCategoryDataset d1 = new ArrayCategoryDataset(ROWS, COLUMNS,
+				buffer);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ObjectOutputStream out = new ObjectOutputStream(bytes);
+		out.writeObject(d1);
+		out.close();
+		ObjectInputStream in = new ObjectInputStream(
+				new ByteArrayInputStream(bytes.toByteArray()));
+		ArrayCategoryDataset d2 = (ArrayCategoryDataset) in.readObject();
+		in.close();
+		assertEquals(d1, d2);
+		assertEquals(1, d2.getColumnIndex("C2"));
+		assertEquals(new Range(0.0, 5.0), d2.getRangeBounds(false));
+		buffer.put(0, 99.0);
+		assertEquals(0.0, d2.getDoubleValue(0, 0), 0.0);
+	}
+
+}
@@ -0,0 +1,100 @@
+package org.jfree.data.category;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.jfree.data.DataUtilities;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the {@link DenseCategoryDataset} class.
+ */
+class DenseCategoryDatasetTest {
+
+	/** A dataset with two rows and two columns. */
+	private DenseCategoryDataset dataset;
+
+	/** Creates the dataset (its storage is larger than its size). */
+	@BeforeEach
+	public void setup() {
+		this.dataset = new DenseCategoryDataset();
+		this.dataset.addValue(1.0, "R1", "C1");
+		this.dataset.addValue(2.0, "R1", "C2");
+		this.dataset.addValue(3.0, "R2", "C1");
+		this.dataset.addValue(null, "R2", "C2");
+	}
+
+	/** The totals skip missing values. */
+	@Test
+	public void totals() {
+		assertEquals(3.0, this.dataset.calculateRowTotal(0));
+		assertEquals(3.0, this.dataset.calculateRowTotal(1));
+		assertEquals(4.0, this.dataset.calculateColumnTotal(0));
+		assertEquals(2.0, this.dataset.calculateColumnTotal(1));
+		assertEquals(4.0, DataUtilities.calculateColumnTotal(this.dataset, 0));
+	}
+
+	/** A row index past the row count is rejected. */
+	@Test
+	public void rowIndexOutOfBounds() {
+		assertThrows(IndexOutOfBoundsException.class,
+				() -> this.dataset.getRowValues(2, null));
+		assertThrows(IndexOutOfBoundsException.class,
+				() -> this.dataset.calculateRowTotal(2));
+		assertThrows(IndexOutOfBoundsException.class,
+				() -> this.dataset.getDoubleValue(-1, 0));
+	}
+
+	/** A column index past the column count is rejected. */
+	@Test
+	public void columnIndexOutOfBounds() {
+		assertThrows(IndexOutOfBoundsException.class,
+				() -> this.dataset.getColumnValues(2, null));
+		assertThrows(IndexOutOfBoundsException.class,
+				() -> this.dataset.calculateColumnTotal(2));
+		assertThrows(IndexOutOfBoundsException.class,
+				() -> this.dataset.getDoubleValue(0, 2));
+	}
+
+	/** The keyed constructor rejects duplicate keys. */
+	@Test
+	public void duplicateKeysAreRejected() {
+		double[][] data = { { 1.0, 2.0 }, { 3.0, 4.0 } };
+		assertThrows(IllegalArgumentException.class,
+				() -> new DenseCategoryDataset(new Comparable[] { "R", "R" },
+						new Comparable[] { "C1", "C2" }, data));
+		assertThrows(IllegalArgumentException.class,
+				() -> new DenseCategoryDataset(new Comparable[] { "R1", "R2" },
+						new Comparable[] { "C", "C" }, data));
+	}
+
+	/**
+	 * Only another dense dataset can be equal, so that equal datasets
+	 * always have equal hash codes.
+	 *
+	 * @throws CloneNotSupportedException if the clone fails.
+	 */
+	@Test
+	public void equalsIsConsistentWithHashCode()
+			throws CloneNotSupportedException {
+		DenseCategoryDataset copy = new DenseCategoryDataset(this.dataset);
+		assertEquals(this.dataset, copy);
+		assertEquals(this.dataset.hashCode(), copy.hashCode());
+		Object clone = this.dataset.clone();
+		assertEquals(this.dataset, clone);
+		assertEquals(this.dataset.hashCode(), clone.hashCode());
+
+		DefaultCategoryDataset other = new DefaultCategoryDataset();
+		other.addValue(1.0, "R1", "C1");
+		other.addValue(2.0, "R1", "C2");
+		other.addValue(3.0, "R2", "C1");
+		other.addValue(null, "R2", "C2");
+		assertNotEquals(this.dataset, other);
+
+		copy.setValue(5.0, "R2", "C2");
+		assertNotEquals(this.dataset, copy);
+	}
+
+}
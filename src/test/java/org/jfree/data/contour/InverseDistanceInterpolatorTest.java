@@ -0,0 +1,67 @@
+package org.jfree.data.contour;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the {@link InverseDistanceInterpolator} class.
+ */
+class InverseDistanceInterpolatorTest {
+
+	/** The number of grid points along each axis. */
+	private static final int GRID_SIZE = 60;
+
+	/** The number of data points. */
+	private static final int DATA_COUNT = 400;
+
+	/**
+	 * Interpolates random data onto a grid of more points than the parallel
+	 * threshold and checks that the parallel result matches the sequential one
+	 * exactly.
+	 *
+	 * @param neighbourCount  the number of nearest data points to use.
+	 */
+	private static void checkParallelMatchesSequential(int neighbourCount) {
+		Random random = new Random(50L);
+		double[] xData = new double[DATA_COUNT];
+		double[] yData = new double[DATA_COUNT];
+		double[] zData = new double[DATA_COUNT];
+		for (int i = 0; i < DATA_COUNT; i++) {
+			xData[i] = random.nextDouble() * 100.0;
+			yData[i] = random.nextDouble() * 50.0;
+			zData[i] = random.nextGaussian() * 10.0;
+		}
+		double[] xGrid = new double[GRID_SIZE * GRID_SIZE];
+		double[] yGrid = new double[GRID_SIZE * GRID_SIZE];
+		for (int i = 0; i < GRID_SIZE; i++) {
+			for (int j = 0; j < GRID_SIZE; j++) {
+				xGrid[i * GRID_SIZE + j] = i * 100.0 / (GRID_SIZE - 1);
+				yGrid[i * GRID_SIZE + j] = j * 50.0 / (GRID_SIZE - 1);
+			}
+		}
+		double[] sequential = new InverseDistanceInterpolator(2,
+				neighbourCount, false).interpolate(xData, yData, zData, xGrid,
+				yGrid);
+		double[] parallel = new InverseDistanceInterpolator(2, neighbourCount,
+				true).interpolate(xData, yData, zData, xGrid, yGrid);
+		assertEquals(xGrid.length, parallel.length);
+		assertArrayEquals(sequential, parallel);
+	}
+
+	/** All the data points are used for each grid point. */
+	@Test
+	public void parallelMatchesSequentialForAllPoints() {
+		checkParallelMatchesSequential(0);
+	}
+
+	/** The nearest data points are found with the index. */
+	@Test
+	public void parallelMatchesSequentialForNearestPoints() {
+		checkParallelMatchesSequential(8);
+	}
+
+}
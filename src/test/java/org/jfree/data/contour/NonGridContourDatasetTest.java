@@ -0,0 +1,60 @@
+package org.jfree.data.contour;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the interpolator constructor of the
+ * {@link NonGridContourDataset} class.
+ */
+class NonGridContourDatasetTest {
+
+	/** The x-values. */
+	private static final double[] X = { 0.0, 1.0, 0.0, 1.0 };
+
+	/** The y-values. */
+	private static final double[] Y = { 0.0, 0.0, 1.0, 1.0 };
+
+	/** The z-values. */
+	private static final double[] Z = { 1.0, 2.0, 3.0, 4.0 };
+
+	/**
+	 * Creates a dataset with the interpolator constructor.
+	 *
+	 * @param x  the x-values.
+	 * @param y  the y-values.
+	 * @param z  the z-values.
+	 *
+	 * @return The dataset.
+	 */
+	private static NonGridContourDataset create(double[] x, double[] y,
+			double[] z) {
+		return new NonGridContourDataset("S", x, y, z, 3, 3,
+				new InverseDistanceInterpolator(2));
+	}
+
+	/** Missing or mismatched arrays are rejected before the grid is built. */
+	@Test
+	public void invalidArraysAreRejected() {
+		assertThrows(IllegalArgumentException.class,
+				() -> create(null, Y, Z));
+		assertThrows(IllegalArgumentException.class,
+				() -> create(X, null, Z));
+		assertThrows(IllegalArgumentException.class,
+				() -> create(X, Y, null));
+		assertThrows(IllegalArgumentException.class,
+				() -> create(X, Y, new double[] { 1.0 }));
+		assertThrows(IllegalArgumentException.class,
+				() -> new NonGridContourDataset("S", X, Y, Z, 3, 3, null));
+	}
+
+	/** Valid arrays give a grid of the requested size. */
+	@Test
+	public void gridHasRequestedSize() {
+		NonGridContourDataset dataset = create(X, Y, Z);
+		assertEquals(9, dataset.getItemCount(0));
+	}
+
+}
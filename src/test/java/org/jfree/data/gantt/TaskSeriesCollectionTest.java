@@ -0,0 +1,170 @@
+package org.jfree.data.gantt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.jfree.data.time.SimpleTimePeriod;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the lookups by key in the {@link TaskSeries} and
+ * {@link TaskSeriesCollection} classes.
+ */
+class TaskSeriesCollectionTest {
+
+	/**
+	 * Creates a task.
+	 *
+	 * @param description  the description.
+	 * @param start  the start time.
+	 * @param end  the end time.
+	 *
+	 * @return The task.
+	 */
+	private static Task task(String description, long start, long end) {
+		return new Task(description, new SimpleTimePeriod(start, end));
+	}
+
+	/**
+	 * Creates a series with one task for each description.
+	 *
+	 * @param name  the series name.
+	 * @param descriptions  the task descriptions.
+	 *
+	 * @return The series.
+	 */
+	private static TaskSeries series(String name, String[] descriptions) {
+		TaskSeries series = new TaskSeries(name);
+		for (int i = 0; i < descriptions.length; i++) {
+			series.add(task(descriptions[i], i * 10L, i * 10L + 5L));
+		}
+		return series;
+	}
+
+	/** When two tasks have the same description, the first one is used. */
+	@Test
+	public void duplicateDescriptions() {
+		TaskSeries series = new TaskSeries("S");
+		Task first = task("A", 1L, 2L);
+		Task second = task("A", 3L, 4L);
+		series.add(first);
+		series.add(second);
+		assertSame(first, series.get("A"));
+
+		// ...also when the index has already been built
+		Task third = task("A", 5L, 6L);
+		series.add(third);
+		assertSame(first, series.get("A"));
+
+		TaskSeriesCollection collection = new TaskSeriesCollection();
+		collection.add(series);
+		assertEquals(1, collection.getColumnCount());
+		assertEquals(1L, collection.getStartValue("S", "A").longValue());
+		assertEquals(2L, collection.getEndValue(0, 0).longValue());
+
+		series.remove(first);
+		assertSame(second, series.get("A"));
+		assertEquals(3L, collection.getStartValue("S", "A").longValue());
+		assertEquals(4L, collection.getEndValue(0, 0).longValue());
+	}
+
+	/** The row index is kept up to date when series are removed. */
+	@Test
+	public void removeSeries() {
+		TaskSeriesCollection collection = new TaskSeriesCollection();
+		String[] descriptions = new String[] {"A", "B"};
+		TaskSeries s1 = series("S1", descriptions);
+		TaskSeries s2 = series("S2", descriptions);
+		TaskSeries s3 = series("S3", descriptions);
+		collection.add(s1);
+		collection.add(s2);
+		collection.add(s3);
+		assertEquals(1, collection.getRowIndex("S2"));
+		assertEquals(2, collection.getRowIndex("S3"));
+
+		collection.remove(s2);
+		assertEquals(-1, collection.getRowIndex("S2"));
+		assertEquals(1, collection.getRowIndex("S3"));
+		assertSame(s3, collection.getSeries("S3"));
+
+		collection.remove(0);
+		assertEquals(-1, collection.getRowIndex("S1"));
+		assertEquals(0, collection.getRowIndex("S3"));
+		assertEquals(10L, collection.getStartValue("S3", "B").longValue());
+
+		collection.removeAll();
+		assertEquals(-1, collection.getRowIndex("S3"));
+		assertEquals(0, collection.getRowCount());
+		assertNull(collection.getSeries("S3"));
+	}
+
+	/**
+	 * A series key can be changed without a change event, so an index hit
+	 * is checked against the series.
+	 */
+	@Test
+	public void renameSeriesWithoutEvent() {
+		TaskSeriesCollection collection = new TaskSeriesCollection();
+		String[] descriptions = new String[] {"A"};
+		TaskSeries s1 = series("S1", descriptions);
+		TaskSeries s2 = series("S2", descriptions);
+		collection.add(s1);
+		collection.add(s2);
+		assertEquals(0, collection.getRowIndex("S1"));
+		assertEquals(1, collection.getRowIndex("S2"));
+
+		s1.setKey("X");
+		assertEquals(-1, collection.getRowIndex("S1"));
+		assertEquals(0, collection.getRowIndex("X"));
+
+		// swap the keys...
+		s1.setKey("S2");
+		s2.setKey("S1");
+		assertEquals(1, collection.getRowIndex("S1"));
+		assertEquals(0, collection.getRowIndex("S2"));
+		assertSame(s2, collection.getSeries("S1"));
+		assertEquals("S1", collection.getRowKey(1));
+	}
+
+	/** Sub-intervals can be read by index and by key. */
+	@Test
+	public void subIntervals() {
+		Task task = task("A", 0L, 100L);
+		task.addSubtask(task("A1", 0L, 30L));
+		task.addSubtask(task("A2", 60L, 100L));
+		TaskSeries s1 = new TaskSeries("S1");
+		s1.add(task);
+		s1.add(task("B", 200L, 300L));
+		TaskSeries s2 = new TaskSeries("S2");
+		s2.add(task("A", 50L, 80L));
+		TaskSeriesCollection collection = new TaskSeriesCollection();
+		collection.add(s1);
+		collection.add(s2);
+
+		assertEquals(2, collection.getSubIntervalCount(0, 0));
+		assertEquals(2, collection.getSubIntervalCount("S1", "A"));
+		assertEquals(60L, collection.getStartValue(0, 0, 1).longValue());
+		assertEquals(30L, collection.getEndValue(0, 0, 0).longValue());
+		assertEquals(0L,
+				collection.getStartValue("S1", "A", 0).longValue());
+		assertEquals(100L,
+				collection.getEndValue("S1", "A", 1).longValue());
+
+		// a task without sub-intervals...
+		assertEquals(0, collection.getSubIntervalCount(0, 1));
+		assertEquals(0, collection.getSubIntervalCount("S2", "A"));
+
+		// ...and a missing task
+		assertEquals(0, collection.getSubIntervalCount(1, 1));
+		assertEquals(0, collection.getSubIntervalCount("S2", "B"));
+		assertNull(collection.getStartValue(1, 1, 0));
+		assertNull(collection.getEndValue("S2", "B", 0));
+
+		// a sub-interval added in place is seen
+		task.addSubtask(task("A3", 90L, 95L));
+		assertEquals(3, collection.getSubIntervalCount("S1", "A"));
+		assertEquals(95L, collection.getEndValue(0, 0, 2).longValue());
+	}
+
+}
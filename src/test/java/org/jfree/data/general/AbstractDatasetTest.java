@@ -0,0 +1,188 @@
+package org.jfree.data.general;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.beans.PropertyChangeSupport;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+
+import javax.swing.event.EventListenerList;
+
+import org.jfree.data.xy.XYSeries;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the listener handling in the {@link AbstractDataset} and
+ * {@link Series} classes.
+ */
+class AbstractDatasetTest {
+
+	/** Set to <code>true</code> when an event is received. */
+	private boolean changed;
+
+	/** A <code>null</code> dataset listener is ignored. */
+	@Test
+	public void nullDatasetListenerIsIgnored() {
+		DefaultPieDataset dataset = new DefaultPieDataset();
+		dataset.addChangeListener(null);
+		assertFalse(dataset.hasListener(null));
+		dataset.addChangeListener(new DatasetChangeListener() {
+			public void datasetChanged(DatasetChangeEvent event) {
+				AbstractDatasetTest.this.changed = true;
+			}
+		});
+		dataset.setValue("A", 1.0);
+		assertTrue(this.changed);
+		dataset.removeChangeListener(null);
+	}
+
+	/**
+	 * Reading the throttle does not change how events are sent: with no
+	 * throttle, an event still arrives immediately.
+	 */
+	@Test
+	public void getEventThrottleHasNoSideEffect() {
+		DefaultPieDataset dataset = new DefaultPieDataset();
+		assertNull(dataset.getEventThrottle());
+		dataset.setEventThrottle(null);
+		dataset.addChangeListener(new DatasetChangeListener() {
+			public void datasetChanged(DatasetChangeEvent event) {
+				AbstractDatasetTest.this.changed = true;
+			}
+		});
+		dataset.setValue("A", 1.0);
+		assertTrue(this.changed);
+		assertNull(dataset.getEventThrottle());
+	}
+
+	/** A <code>null</code> series listener is ignored. */
+	@Test
+	public void nullSeriesListenerIsIgnored() {
+		XYSeries series = new XYSeries("S1");
+		series.addChangeListener(null);
+		series.addChangeListener(new SeriesChangeListener() {
+			public void seriesChanged(SeriesChangeEvent event) {
+				AbstractDatasetTest.this.changed = true;
+			}
+		});
+		series.add(1.0, 2.0);
+		assertTrue(this.changed);
+		series.removeChangeListener(null);
+	}
+
+	/** A series listener that is equal to every other one. */
+	static class EqualListener implements SeriesChangeListener, Serializable {
+
+		/** For serialization. */
+		private static final long serialVersionUID = 1L;
+
+		/** The number of events received by all listeners of this class. */
+		static int total;
+
+		/** The number of events received. */
+		int count;
+
+		/**
+		 * Counts an event.
+		 *
+		 * @param event  the event.
+		 */
+		public void seriesChanged(SeriesChangeEvent event) {
+			this.count++;
+			total++;
+		}
+
+		/**
+		 * Returns <code>true</code> for any listener of this class.
+		 *
+		 * @param obj  the object.
+		 *
+		 * @return A boolean.
+		 */
+		public boolean equals(Object obj) {
+			return obj instanceof EqualListener;
+		}
+
+		/**
+		 * Returns a hash code.
+		 *
+		 * @return A hash code.
+		 */
+		public int hashCode() {
+			return 0;
+		}
+
+	}
+
+	/** Listeners are removed by identity, not by equality. */
+	@Test
+	public void removeSeriesListenerByIdentity() {
+		XYSeries series = new XYSeries("S1");
+		EqualListener registered = new EqualListener();
+		series.addChangeListener(registered);
+		series.removeChangeListener(new EqualListener());
+		series.add(1.0, 2.0);
+		assertEquals(1, registered.count);
+		series.removeChangeListener(registered);
+		series.add(2.0, 3.0);
+		assertEquals(1, registered.count);
+	}
+
+	/**
+	 * The listeners are still serialized as an {@link EventListenerList}, so
+	 * streams written before the listeners were kept in an array can be read.
+	 */
+	@Test
+	public void seriesSerializedFormIsUnchanged() throws Exception {
+		ObjectStreamClass c = ObjectStreamClass.lookup(Series.class);
+		assertEquals(-6906561437538683581L, c.getSerialVersionUID());
+		assertEquals(5, c.getFields().length);
+		assertEquals(EventListenerList.class,
+				c.getField("listeners").getType());
+		assertEquals(Comparable.class, c.getField("key").getType());
+		assertEquals(String.class, c.getField("description").getType());
+		assertEquals(PropertyChangeSupport.class,
+				c.getField("propertyChangeSupport").getType());
+		assertEquals(Boolean.TYPE, c.getField("notify").getType());
+	}
+
+	/** The serializable series listeners are restored. */
+	@Test
+	public void seriesListenersSerialized() throws Exception {
+		XYSeries series = new XYSeries("S1", true, false);
+		series.setDescription("Description");
+		series.addChangeListener(new EqualListener());
+		series.addChangeListener(new SeriesChangeListener() {
+			public void seriesChanged(SeriesChangeEvent event) {
+				AbstractDatasetTest.this.changed = true;
+			}
+		});
+		series.add(1.0, 2.0);
+
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		ObjectOutputStream out = new ObjectOutputStream(buffer);
+		out.writeObject(series);
+		out.close();
+		ObjectInputStream in = new ObjectInputStream(
+				new ByteArrayInputStream(buffer.toByteArray()));
+		XYSeries restored = (XYSeries) in.readObject();
+		in.close();
+
+		assertEquals(series, restored);
+		assertEquals("Description", restored.getDescription());
+		assertTrue(restored.getNotify());
+		this.changed = false;
+		EqualListener.total = 0;
+		restored.add(2.0, 3.0);
+		assertEquals(1, EqualListener.total);
+		assertFalse(this.changed);
+	}
+
+}
@@ -0,0 +1,231 @@
+package org.jfree.data.general;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.EventObject;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the {@link ChangeEventCoalescer} and {@link EventThrottle}
+ * classes.
+ */
+class ChangeEventCoalescerTest {
+
+	/** A coalescer that records the events it sends. */
+	static class RecordingCoalescer extends ChangeEventCoalescer {
+
+		/** The events sent, in order. */
+		List events = new ArrayList();
+
+		/** Counted down for each event sent. */
+		CountDownLatch latch = new CountDownLatch(1);
+
+		/**
+		 * Records an event.
+		 *
+		 * @param event  the event.
+		 */
+		protected synchronized void dispatch(EventObject event) {
+			this.events.add(event);
+			this.latch.countDown();
+		}
+
+		/**
+		 * Returns the events sent so far.
+		 *
+		 * @return The events.
+		 */
+		synchronized List getEvents() {
+			return new ArrayList(this.events);
+		}
+
+	}
+
+	/** An executor that queues the tasks until they are run by the test. */
+	static class QueueExecutor implements Executor {
+
+		/** The tasks waiting to run. */
+		List tasks = new ArrayList();
+
+		/**
+		 * Queues a task.
+		 *
+		 * @param task  the task.
+		 */
+		public synchronized void execute(Runnable task) {
+			this.tasks.add(task);
+		}
+
+		/**
+		 * Runs the tasks that are waiting.
+		 *
+		 * @return The number of tasks run.
+		 */
+		int runAll() {
+			List pending;
+			synchronized (this) {
+				pending = new ArrayList(this.tasks);
+				this.tasks.clear();
+			}
+			for (int i = 0; i < pending.size(); i++) {
+				((Runnable) pending.get(i)).run();
+			}
+			return pending.size();
+		}
+
+	}
+
+	/**
+	 * Creates an event.
+	 *
+	 * @param name  the source of the event.
+	 *
+	 * @return The event.
+	 */
+	private static EventObject event(String name) {
+		return new EventObject(name);
+	}
+
+	/** Without an update or a throttle, events are sent immediately. */
+	@Test
+	public void sendsImmediately() {
+		RecordingCoalescer coalescer = new RecordingCoalescer();
+		EventObject e1 = event("1");
+		EventObject e2 = event("2");
+		coalescer.post(e1);
+		coalescer.post(e2);
+		assertEquals(2, coalescer.getEvents().size());
+		assertSame(e1, coalescer.getEvents().get(0));
+		assertSame(e2, coalescer.getEvents().get(1));
+	}
+
+	/** The events posted during an update are sent as the last one. */
+	@Test
+	public void updateSendsLastEvent() {
+		RecordingCoalescer coalescer = new RecordingCoalescer();
+		coalescer.beginUpdate();
+		assertTrue(coalescer.isUpdating());
+		coalescer.post(event("1"));
+		coalescer.post(event("2"));
+		EventObject last = event("3");
+		coalescer.post(last);
+		assertTrue(coalescer.getEvents().isEmpty());
+		coalescer.endUpdate();
+		assertFalse(coalescer.isUpdating());
+		assertEquals(1, coalescer.getEvents().size());
+		assertSame(last, coalescer.getEvents().get(0));
+	}
+
+	/** An update with no events sends nothing. */
+	@Test
+	public void emptyUpdateSendsNothing() {
+		RecordingCoalescer coalescer = new RecordingCoalescer();
+		coalescer.beginUpdate();
+		coalescer.endUpdate();
+		assertTrue(coalescer.getEvents().isEmpty());
+	}
+
+	/** Events are held back until the outermost update ends. */
+	@Test
+	public void nestedUpdates() {
+		RecordingCoalescer coalescer = new RecordingCoalescer();
+		coalescer.beginUpdate();
+		coalescer.post(event("1"));
+		coalescer.beginUpdate();
+		EventObject last = event("2");
+		coalescer.post(last);
+		coalescer.endUpdate();
+		assertTrue(coalescer.isUpdating());
+		assertTrue(coalescer.getEvents().isEmpty());
+		coalescer.endUpdate();
+		assertEquals(1, coalescer.getEvents().size());
+		assertSame(last, coalescer.getEvents().get(0));
+	}
+
+	/** Ending an update that was not started throws an exception. */
+	@Test
+	public void unbalancedEndUpdate() {
+		RecordingCoalescer coalescer = new RecordingCoalescer();
+		assertThrows(IllegalStateException.class, coalescer::endUpdate);
+		coalescer.beginUpdate();
+		coalescer.endUpdate();
+		assertThrows(IllegalStateException.class, coalescer::endUpdate);
+		assertFalse(coalescer.isUpdating());
+	}
+
+	/**
+	 * With a throttle, the events that arrive before the throttle runs are
+	 * replaced by the last one, and a later event waits for the interval.
+	 */
+	@Test
+	public void throttleSendsLastEvent() {
+		QueueExecutor executor = new QueueExecutor();
+		RecordingCoalescer coalescer = new RecordingCoalescer();
+		coalescer.setThrottle(new EventThrottle(60000L, executor));
+		coalescer.post(event("1"));
+		coalescer.post(event("2"));
+		EventObject last = event("3");
+		coalescer.post(last);
+		assertTrue(coalescer.getEvents().isEmpty());
+		assertEquals(1, executor.runAll());
+		assertEquals(1, coalescer.getEvents().size());
+		assertSame(last, coalescer.getEvents().get(0));
+
+		// the next event is held for the interval
+		coalescer.post(event("4"));
+		assertEquals(0, executor.runAll());
+		assertEquals(1, coalescer.getEvents().size());
+	}
+
+	/** A throttled event is sent once the interval has passed. */
+	@Test
+	public void throttleSendsAfterInterval() throws InterruptedException {
+		RecordingCoalescer coalescer = new RecordingCoalescer();
+		coalescer.setThrottle(new EventThrottle(200L, new Executor() {
+			public void execute(Runnable task) {
+				task.run();
+			}
+		}));
+		coalescer.post(event("1"));
+		assertEquals(1, coalescer.getEvents().size());
+		coalescer.latch = new CountDownLatch(1);
+		coalescer.post(event("2"));
+		EventObject last = event("3");
+		coalescer.post(last);
+		assertTrue(coalescer.latch.await(10, TimeUnit.SECONDS));
+		List events = coalescer.getEvents();
+		assertEquals(2, events.size());
+		assertSame(last, events.get(1));
+	}
+
+	/** An update on a dataset sends a single change event. */
+	@Test
+	public void datasetUpdateSendsOneEvent() {
+		DefaultPieDataset dataset = new DefaultPieDataset();
+		final List events = new ArrayList();
+		dataset.addChangeListener(new DatasetChangeListener() {
+			public void datasetChanged(DatasetChangeEvent event) {
+				events.add(event);
+			}
+		});
+		dataset.beginUpdate();
+		dataset.setValue("A", 1.0);
+		dataset.setValue("B", 2.0);
+		dataset.setValue("A", 3.0);
+		assertTrue(events.isEmpty());
+		dataset.endUpdate();
+		assertEquals(1, events.size());
+		assertEquals(3.0, dataset.getValue("A").doubleValue(), 0.0);
+	}
+
+}
@@ -0,0 +1,349 @@
+package org.jfree.data.general;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.jfree.data.Range;
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.category.DefaultIntervalCategoryDataset;
+import org.jfree.data.category.DenseCategoryDataset;
+import org.jfree.data.xy.ArrayXYDataset;
+import org.jfree.data.xy.ColumnarTableXYDataset;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class checks that the parallel iteration methods in
+ * {@link DatasetUtilities} give the same results as the sequential ones for
+ * datasets larger than {@link DatasetUtilities#PARALLEL_THRESHOLD}, and that
+ * both handle empty datasets, missing values and intervals.
+ */
+class DatasetUtilitiesTest {
+
+	/** The number of items in each large series. */
+	private static final int ITEMS = DatasetUtilities.PARALLEL_THRESHOLD + 4321;
+
+	/**
+	 * Returns a test value. The values are whole numbers, so sums are exact in
+	 * any order, and every 97th value is missing.
+	 *
+	 * @param series  the series index.
+	 * @param item  the item index.
+	 *
+	 * @return The value.
+	 */
+	private static double value(int series, int item) {
+		if ((item + series) % 97 == 0) {
+			return Double.NaN;
+		}
+		return ((item * 7919L + series * 104729L) % 2001L) - 1000.0;
+	}
+
+	/**
+	 * Creates an xy dataset.
+	 *
+	 * @param seriesCount  the number of series.
+	 * @param itemCount  the number of items in each series.
+	 *
+	 * @return The dataset.
+	 */
+	private static ColumnarTableXYDataset createXYDataset(int seriesCount,
+			int itemCount) {
+		ColumnarTableXYDataset dataset = new ColumnarTableXYDataset();
+		for (int s = 0; s < seriesCount; s++) {
+			double[] x = new double[itemCount];
+			double[] y = new double[itemCount];
+			for (int i = 0; i < itemCount; i++) {
+				x[i] = i * 0.5 - 100.0;
+				y[i] = value(s, i);
+			}
+			dataset.addSeries("S" + s, x, y);
+		}
+		return dataset;
+	}
+
+	/**
+	 * Creates a table of values.
+	 *
+	 * @param rowCount  the number of rows.
+	 * @param columnCount  the number of columns.
+	 * @param offset  an amount added to every value.
+	 * @param missing  the value used in place of a missing value.
+	 *
+	 * @return The values.
+	 */
+	private static double[][] createValues(int rowCount, int columnCount,
+			double offset, double missing) {
+		double[][] data = new double[rowCount][columnCount];
+		for (int r = 0; r < rowCount; r++) {
+			for (int c = 0; c < columnCount; c++) {
+				double v = value(r, c);
+				data[r][c] = (Double.isNaN(v) ? missing : v + offset);
+			}
+		}
+		return data;
+	}
+
+	/**
+	 * Creates a category dataset.
+	 *
+	 * @param rowCount  the number of rows.
+	 * @param columnCount  the number of columns.
+	 *
+	 * @return The dataset.
+	 */
+	private static CategoryDataset createCategoryDataset(int rowCount,
+			int columnCount) {
+		return createCategoryDataset(createValues(rowCount, columnCount, 0.0,
+				Double.NaN));
+	}
+
+	/**
+	 * Creates a category dataset from a table of values.
+	 *
+	 * @param values  the values, indexed by [row][column].
+	 *
+	 * @return The dataset.
+	 */
+	private static CategoryDataset createCategoryDataset(double[][] values) {
+		Comparable[] rowKeys = new Comparable[values.length];
+		for (int r = 0; r < rowKeys.length; r++) {
+			rowKeys[r] = "R" + r;
+		}
+		Comparable[] columnKeys = new Comparable[values[0].length];
+		for (int c = 0; c < columnKeys.length; c++) {
+			columnKeys[c] = Integer.valueOf(c);
+		}
+		return new DenseCategoryDataset(rowKeys, columnKeys, values);
+	}
+
+	/**
+	 * Returns the range of some values, ignoring missing values.
+	 *
+	 * @param values  the values.
+	 *
+	 * @return The range (<code>null</code> if all the values are missing).
+	 */
+	private static Range scan(double[][] values) {
+		double min = Double.POSITIVE_INFINITY;
+		double max = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < values.length; i++) {
+			for (int j = 0; j < values[i].length; j++) {
+				if (!Double.isNaN(values[i][j])) {
+					min = Math.min(min, values[i][j]);
+					max = Math.max(max, values[i][j]);
+				}
+			}
+		}
+		return (min <= max ? new Range(min, max) : null);
+	}
+
+	/**
+	 * Checks that a range was found and matches the sequential result.
+	 *
+	 * @param sequential  the range found sequentially.
+	 * @param parallel  the range found in parallel.
+	 */
+	private static void checkSame(Range sequential, Range parallel) {
+		assertNotNull(sequential);
+		assertEquals(sequential, parallel);
+	}
+
+	/**
+	 * The domain and range bounds of a large xy dataset are the same whether
+	 * the series and items are split or not.
+	 */
+	@Test
+	public void xyBoundsMatchSequential() {
+		ColumnarTableXYDataset[] datasets = new ColumnarTableXYDataset[] {
+				createXYDataset(1, ITEMS), createXYDataset(3, ITEMS / 2) };
+		for (int i = 0; i < datasets.length; i++) {
+			ColumnarTableXYDataset d = datasets[i];
+			assertTrue(d.getSeriesCount() * (long) d.getItemCount()
+					> DatasetUtilities.PARALLEL_THRESHOLD);
+			checkSame(DatasetUtilities.iterateDomainBounds(d, false, false),
+					DatasetUtilities.iterateDomainBounds(d, false, true));
+			checkSame(DatasetUtilities.iterateDomainBounds(d, true, false),
+					DatasetUtilities.iterateDomainBounds(d, true, true));
+			checkSame(DatasetUtilities.iterateXYRangeBounds(d, false),
+					DatasetUtilities.iterateXYRangeBounds(d, true));
+			checkSame(DatasetUtilities.findStackedRangeBounds(d, 0.0, false),
+					DatasetUtilities.findStackedRangeBounds(d, 0.0, true));
+			checkSame(DatasetUtilities.findStackedRangeBounds(d, 25.0, false),
+					DatasetUtilities.findStackedRangeBounds(d, 25.0, true));
+		}
+	}
+
+	/**
+	 * The range and cumulative bounds of a large category dataset are the
+	 * same whether the rows and columns are split or not.
+	 */
+	@Test
+	public void categoryBoundsMatchSequential() {
+		CategoryDataset[] datasets = new CategoryDataset[] {
+				createCategoryDataset(1, ITEMS),
+				createCategoryDataset(4, ITEMS / 3) };
+		for (int i = 0; i < datasets.length; i++) {
+			CategoryDataset d = datasets[i];
+			assertTrue(d.getRowCount() * (long) d.getColumnCount()
+					> DatasetUtilities.PARALLEL_THRESHOLD);
+			checkSame(DatasetUtilities.iterateCategoryRangeBounds(d, false,
+					false), DatasetUtilities.iterateCategoryRangeBounds(d,
+					false, true));
+			checkSame(DatasetUtilities.findCumulativeRangeBounds(d, false),
+					DatasetUtilities.findCumulativeRangeBounds(d, true));
+		}
+	}
+
+	/**
+	 * The bounds of a large interval category dataset, including the
+	 * intervals, are the same whether the work is split or not.  A
+	 * <code>NaN</code> interval end spoils the bounds, so there are no
+	 * missing values here.
+	 */
+	@Test
+	public void intervalCategoryBoundsMatchSequential() {
+		int columns = ITEMS / 2;
+		DefaultIntervalCategoryDataset d = new DefaultIntervalCategoryDataset(
+				createValues(2, columns, -3000.0, -3000.0),
+				createValues(2, columns, 3000.0, 3000.0));
+		checkSame(DatasetUtilities.iterateCategoryRangeBounds(d, true, false),
+				DatasetUtilities.iterateCategoryRangeBounds(d, true, true));
+		checkSame(DatasetUtilities.iterateCategoryRangeBounds(d, false, false),
+				DatasetUtilities.iterateCategoryRangeBounds(d, false, true));
+	}
+
+	/** Empty datasets have no bounds, whether iterated in parallel or not. */
+	@Test
+	public void emptyDatasets() {
+		ColumnarTableXYDataset noSeries = new ColumnarTableXYDataset();
+		ArrayXYDataset noItems = new ArrayXYDataset();
+		noItems.addSeries("S", new double[0], new double[0]);
+		DefaultCategoryDataset noRows = new DefaultCategoryDataset();
+		CategoryDataset noValues = createCategoryDataset(
+				new double[][] {{Double.NaN}, {Double.NaN}});
+		for (int i = 0; i < 2; i++) {
+			boolean parallel = (i == 1);
+			assertNull(DatasetUtilities.iterateDomainBounds(noSeries, true,
+					parallel));
+			assertNull(DatasetUtilities.iterateXYRangeBounds(noSeries,
+					parallel));
+			assertEquals(new Range(5.0, 5.0),
+					DatasetUtilities.findStackedRangeBounds(noSeries, 5.0,
+					parallel));
+			assertNull(DatasetUtilities.iterateDomainBounds(noItems, true,
+					parallel));
+			assertNull(DatasetUtilities.iterateXYRangeBounds(noItems,
+					parallel));
+			assertNull(DatasetUtilities.iterateCategoryRangeBounds(noRows,
+					true, parallel));
+			assertNull(DatasetUtilities.findCumulativeRangeBounds(noRows,
+					parallel));
+			assertNull(DatasetUtilities.iterateCategoryRangeBounds(noValues,
+					false, parallel));
+			assertNull(DatasetUtilities.findCumulativeRangeBounds(noValues,
+					parallel));
+		}
+	}
+
+	/**
+	 * A series with only missing values adds nothing to the range bounds,
+	 * and a large dataset with only missing values has none.
+	 */
+	@Test
+	public void allNaNSeries() {
+		double[] x = new double[ITEMS];
+		double[] y = new double[ITEMS];
+		double[] nan = new double[ITEMS];
+		for (int i = 0; i < ITEMS; i++) {
+			x[i] = i;
+			y[i] = value(0, i);
+			nan[i] = Double.NaN;
+		}
+		ColumnarTableXYDataset xy = new ColumnarTableXYDataset();
+		xy.addSeries("NaN", x, nan);
+		xy.addSeries("S", x, y);
+		Range expected = scan(new double[][] {y});
+		for (int i = 0; i < 2; i++) {
+			boolean parallel = (i == 1);
+			assertEquals(expected, DatasetUtilities.iterateXYRangeBounds(xy,
+					parallel));
+			assertEquals(new Range(0.0, ITEMS - 1.0),
+					DatasetUtilities.iterateDomainBounds(xy, false, parallel));
+		}
+		xy.removeSeries(1);
+		for (int i = 0; i < 2; i++) {
+			boolean parallel = (i == 1);
+			assertNull(DatasetUtilities.iterateXYRangeBounds(xy, parallel));
+			assertEquals(new Range(0.0, ITEMS - 1.0),
+					DatasetUtilities.iterateDomainBounds(xy, false, parallel));
+		}
+
+		double[][] values = createValues(2, ITEMS, 0.0, Double.NaN);
+		values[0] = nan;
+		CategoryDataset category = createCategoryDataset(values);
+		for (int i = 0; i < 2; i++) {
+			boolean parallel = (i == 1);
+			assertEquals(scan(values),
+					DatasetUtilities.iterateCategoryRangeBounds(category,
+					false, parallel));
+			checkSame(DatasetUtilities.findCumulativeRangeBounds(category,
+					false), DatasetUtilities.findCumulativeRangeBounds(
+					category, parallel));
+		}
+		category = createCategoryDataset(new double[][] {nan, nan});
+		for (int i = 0; i < 2; i++) {
+			boolean parallel = (i == 1);
+			assertNull(DatasetUtilities.iterateCategoryRangeBounds(category,
+					true, parallel));
+			assertNull(DatasetUtilities.findCumulativeRangeBounds(category,
+					parallel));
+		}
+	}
+
+	/**
+	 * With <code>includeInterval</code> set, the bounds of interval datasets
+	 * come from the start and end values.
+	 */
+	@Test
+	public void intervalDatasetsIncludeInterval() {
+		double[][] columns = new double[6][ITEMS];
+		for (int i = 0; i < ITEMS; i++) {
+			columns[0][i] = i;
+			columns[1][i] = i - 0.25;
+			columns[2][i] = i + 0.5;
+			columns[3][i] = value(0, i);
+			columns[4][i] = columns[3][i] - (i % 7);
+			columns[5][i] = columns[3][i] + (i % 11);
+		}
+		ArrayXYDataset xy = new ArrayXYDataset();
+		xy.addSeries("S", columns);
+		for (int i = 0; i < 2; i++) {
+			boolean parallel = (i == 1);
+			assertEquals(new Range(-0.25, ITEMS - 0.5),
+					DatasetUtilities.iterateDomainBounds(xy, true, parallel));
+			assertEquals(new Range(0.0, ITEMS - 1.0),
+					DatasetUtilities.iterateDomainBounds(xy, false, parallel));
+			assertEquals(new Range(scan(new double[][] {columns[4]})
+					.getLowerBound(), scan(new double[][] {columns[5]})
+					.getUpperBound()),
+					DatasetUtilities.iterateXYRangeBounds(xy, parallel));
+		}
+
+		int count = ITEMS / 2;
+		double[][] starts = createValues(2, count, -3000.0, -3000.0);
+		double[][] ends = createValues(2, count, 3000.0, 3000.0);
+		DefaultIntervalCategoryDataset category
+				= new DefaultIntervalCategoryDataset(starts, ends);
+		for (int i = 0; i < 2; i++) {
+			boolean parallel = (i == 1);
+			assertEquals(new Range(scan(starts).getLowerBound(),
+					scan(ends).getUpperBound()),
+					DatasetUtilities.iterateCategoryRangeBounds(category, true,
+					parallel));
+		}
+	}
+
+}
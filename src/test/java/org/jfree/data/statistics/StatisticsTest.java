@@ -0,0 +1,138 @@
+package org.jfree.data.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the primitive and dataset versions of the methods in the
+ * {@link Statistics} and {@link Regression} classes.
+ */
+class StatisticsTest {
+
+	/** The x-values. */
+	private static final double[] X = { 1.0, 2.0, 3.0, 4.0, 5.0 };
+
+	/** The y-values. */
+	private static final double[] Y = { 2.1, 3.9, 6.2, 7.8, 10.1 };
+
+	/** The tolerance for comparisons. */
+	private static final double EPSILON = 1e-12;
+
+	/**
+	 * Returns a dataset with one series holding the test values.
+	 *
+	 * @return The dataset.
+	 */
+	private static XYSeriesCollection createDataset() {
+		XYSeries series = new XYSeries("S1");
+		for (int i = 0; i < X.length; i++) {
+			series.add(X[i], Y[i]);
+		}
+		return new XYSeriesCollection(series);
+	}
+
+	/** A <code>null</code> array is rejected with the usual exception. */
+	@Test
+	public void nullArraysAreRejected() {
+		assertThrows(IllegalArgumentException.class,
+				() -> Statistics.getLinearFit((double[]) null, Y));
+		assertThrows(IllegalArgumentException.class,
+				() -> Statistics.getSlope((double[]) null, Y));
+		assertThrows(IllegalArgumentException.class,
+				() -> Statistics.getCorrelation((double[]) null, Y));
+		assertThrows(IllegalArgumentException.class,
+				() -> Statistics.getCorrelation(X, (double[]) null));
+	}
+
+	/** The dataset versions agree with the array versions. */
+	@Test
+	public void datasetVersionsMatchArrayVersions() {
+		XYSeriesCollection dataset = createDataset();
+		assertEquals(Statistics.getSlope(X, Y),
+				Statistics.getSlope(dataset, 0), EPSILON);
+		assertEquals(Statistics.getStdDev(Y),
+				Statistics.getStdDev(dataset, 0), EPSILON);
+		assertEquals(Statistics.getCorrelation(X, Y),
+				Statistics.getCorrelation(dataset, 0), EPSILON);
+	}
+
+	/** An item with a <code>NaN</code> y-value gives a NaN regression. */
+	@Test
+	public void olsRegressionPropagatesNaN() {
+		XYSeriesCollection dataset = createDataset();
+		dataset.getSeries(0).add(6.0, Double.NaN);
+		double[] result = Regression.getOLSRegression(dataset, 0);
+		assertTrue(Double.isNaN(result[0]));
+		assertTrue(Double.isNaN(result[1]));
+	}
+
+	/** Removing items leaves the same statistics as never adding them. */
+	@Test
+	public void removeUndoesAdd() {
+		RegressionAccumulator expected = new RegressionAccumulator();
+		expected.add(X, Y, 0, 3);
+		RegressionAccumulator a = new RegressionAccumulator();
+		a.add(X, Y, 0, X.length);
+		a.remove(X[4], Y[4]);
+		a.remove(X[3], Y[3]);
+		assertEquals(3, a.getCount());
+		assertEquals(expected.getMeanX(), a.getMeanX(), EPSILON);
+		assertEquals(expected.getMeanY(), a.getMeanY(), EPSILON);
+		assertEquals(expected.getSlope(), a.getSlope(), EPSILON);
+		assertEquals(expected.getCorrelation(), a.getCorrelation(), EPSILON);
+		a.remove(X[2], Y[2]);
+		a.remove(X[1], Y[1]);
+		a.remove(X[0], Y[0]);
+		assertEquals(new RegressionAccumulator(), a);
+	}
+
+	/** Merging two accumulators matches accumulating all the items. */
+	@Test
+	public void mergeMatchesSingleAccumulator() {
+		RegressionAccumulator all = new RegressionAccumulator();
+		all.add(X, Y, 0, X.length);
+		RegressionAccumulator left = new RegressionAccumulator();
+		left.add(X, Y, 0, 2);
+		RegressionAccumulator right = new RegressionAccumulator();
+		right.add(X, Y, 2, X.length);
+		left.add(right);
+		assertEquals(all.getCount(), left.getCount());
+		assertEquals(all.getMeanX(), left.getMeanX(), EPSILON);
+		assertEquals(all.getStdDevY(), left.getStdDevY(), EPSILON);
+		assertEquals(all.getSlope(), left.getSlope(), EPSILON);
+		assertEquals(all.getIntercept(), left.getIntercept(), EPSILON);
+		assertEquals(all.getCorrelation(), left.getCorrelation(), EPSILON);
+
+		RegressionAccumulator empty = new RegressionAccumulator();
+		empty.add(all);
+		assertEquals(all, empty);
+	}
+
+	/** The parallel reduction agrees with the sequential one. */
+	@Test
+	public void parallelMatchesSequential() {
+		int n = 3 * RegressionAccumulator.PARALLEL_THRESHOLD + 17;
+		double[] x = new double[n];
+		double[] y = new double[n];
+		for (int i = 0; i < n; i++) {
+			x[i] = i * 0.001;
+			y[i] = 2.5 * x[i] + Math.sin(i);
+		}
+		RegressionAccumulator sequential
+				= RegressionAccumulator.accumulate(x, y, 0, n, false);
+		RegressionAccumulator parallel
+				= RegressionAccumulator.accumulate(x, y, 0, n, true);
+		assertEquals(sequential.getCount(), parallel.getCount());
+		assertEquals(sequential.getMeanX(), parallel.getMeanX(), 1e-9);
+		assertEquals(sequential.getMeanY(), parallel.getMeanY(), 1e-9);
+		assertEquals(sequential.getSlope(), parallel.getSlope(), 1e-9);
+		assertEquals(sequential.getCorrelation(), parallel.getCorrelation(),
+				1e-9);
+	}
+
+}
@@ -0,0 +1,308 @@
+package org.jfree.data.time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.general.EventThrottle;
+import org.jfree.data.xy.XYDataset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the value range, snapshots and concurrent use of the
+ * {@link DynamicTimeSeriesCollection} class.
+ */
+class DynamicTimeSeriesCollectionTest {
+
+	/** The number of series. */
+	private static final int SERIES = 3;
+
+	/** The number of time periods. */
+	private static final int MOMENTS = 50;
+
+	/** The dataset, with value i for every series at item i. */
+	private DynamicTimeSeriesCollection dataset;
+
+	/** Creates the dataset. */
+	@BeforeEach
+	public void setup() {
+		this.dataset = new DynamicTimeSeriesCollection(SERIES, MOMENTS,
+				new Second());
+		this.dataset.setRangeIncludesZero(false);
+		this.dataset.setTimeBase(new Second(0, 0, 0, 1, 1, 2000));
+		float[] values = new float[MOMENTS];
+		for (int i = 0; i < MOMENTS; i++) {
+			values[i] = i;
+		}
+		for (int s = 0; s < SERIES; s++) {
+			this.dataset.addSeries(values, s, "S" + s);
+		}
+	}
+
+	/**
+	 * Returns the range of the y-values of a dataset, by scanning all the
+	 * items.
+	 *
+	 * @param data  the dataset.
+	 *
+	 * @return The range (<code>null</code> if there are no values).
+	 */
+	private static Range scanRange(XYDataset data) {
+		double min = Double.NaN;
+		double max = Double.NaN;
+		for (int s = 0; s < data.getSeriesCount(); s++) {
+			for (int i = 0; i < data.getItemCount(s); i++) {
+				double y = data.getYValue(s, i);
+				if (Double.isNaN(y)) {
+					continue;
+				}
+				min = Double.isNaN(min) ? y : Math.min(min, y);
+				max = Double.isNaN(max) ? y : Math.max(max, y);
+			}
+		}
+		return Double.isNaN(min) ? null : new Range(min, max);
+	}
+
+	/** The range follows the data as time advances. */
+	@Test
+	public void rangeWhileAdvancing() {
+		Random random = new Random(42L);
+		float[] data = new float[SERIES];
+		assertEquals(scanRange(this.dataset),
+				this.dataset.getRangeBounds(false));
+		for (int k = 0; k < 500; k++) {
+			this.dataset.advanceTime();
+			for (int s = 0; s < SERIES; s++) {
+				data[s] = (float) (random.nextGaussian() * 100.0);
+			}
+			if (k % 7 == 0) {
+				data[k % SERIES] = Float.NaN;
+			}
+			this.dataset.appendData(data);
+			assertEquals(scanRange(this.dataset),
+					this.dataset.getRangeBounds(false), "step " + k);
+			assertEquals(this.dataset.getRangeBounds(false).getLowerBound(),
+					this.dataset.getRangeLowerBound(false), 0.0);
+			assertEquals(this.dataset.getRangeBounds(false).getUpperBound(),
+					this.dataset.getRangeUpperBound(false), 0.0);
+		}
+	}
+
+	/** Writing to an older time period recalculates the range. */
+	@Test
+	public void rangeAfterAddValue() {
+		this.dataset.getRangeBounds(false);
+		this.dataset.addValue(1, 5, 1000.0f);
+		assertEquals(new Range(0.0, 1000.0),
+				this.dataset.getRangeBounds(false));
+		this.dataset.addValue(1, 5, 5.0f);
+		this.dataset.addValue(0, 0, -3.0f);
+		assertEquals(new Range(-3.0, 49.0),
+				this.dataset.getRangeBounds(false));
+		this.dataset.advanceTime();
+		this.dataset.appendData(new float[] {7.0f, 7.0f, 7.0f});
+		assertEquals(scanRange(this.dataset),
+				this.dataset.getRangeBounds(false));
+	}
+
+	/** By default, the range includes zero. */
+	@Test
+	public void rangeIncludesZero() {
+		DynamicTimeSeriesCollection d = new DynamicTimeSeriesCollection(1,
+				10, new Second());
+		d.setTimeBase(new Second(0, 0, 0, 1, 1, 2000));
+		assertTrue(d.getRangeIncludesZero());
+		d.addSeries(new float[] {5.0f, 8.0f, 6.0f}, 0, "S");
+		assertEquals(new Range(0.0, 8.0), d.getRangeBounds(false));
+		d.setRangeIncludesZero(false);
+		assertEquals(new Range(0.0, 8.0), d.getRangeBounds(false));
+		d.addValue(0, 7, 5.0f);
+		d.addValue(0, 8, 5.0f);
+		d.addValue(0, 9, 5.0f);
+		d.addValue(0, 3, 5.0f);
+		d.addValue(0, 4, 5.0f);
+		d.addValue(0, 5, 5.0f);
+		d.addValue(0, 6, 5.0f);
+		assertEquals(new Range(5.0, 8.0), d.getRangeBounds(false));
+		assertEquals(new Range(5.0, 8.0),
+				((RangeInfo) d.createSnapshot()).getRangeBounds(false));
+		d.setRangeIncludesZero(true);
+		assertEquals(new Range(0.0, 8.0), d.getRangeBounds(false));
+		assertEquals(new Range(0.0, 8.0),
+				((RangeInfo) d.createSnapshot()).getRangeBounds(false));
+		d.addValue(0, 1, -2.0f);
+		assertEquals(new Range(-2.0, 6.0), d.getRangeBounds(false));
+	}
+
+	/**
+	 * The range is recalculated by the writer, so it is up to date when the 
+	 * listeners receive the change event.
+	 */
+	@Test
+	public void rangeUpToDateInEvent() {
+		final List ranges = new ArrayList();
+		this.dataset.addChangeListener(new DatasetChangeListener() {
+			public void datasetChanged(DatasetChangeEvent event) {
+				ranges.add(DynamicTimeSeriesCollectionTest.this.dataset
+						.getRangeBounds(false));
+			}
+		});
+		this.dataset.addValue(2, 10, -7.0f);
+		this.dataset.addValue(2, 10, 10.0f);
+		assertEquals(2, ranges.size());
+		assertEquals(new Range(-7.0, 49.0), ranges.get(0));
+		assertEquals(new Range(0.0, 49.0), ranges.get(1));
+	}
+
+	/** With an event throttle, a burst of updates sends one event. */
+	@Test
+	public void throttledEvents() {
+		final List tasks = new ArrayList();
+		this.dataset.setEventThrottle(new EventThrottle(60000L,
+				new Executor() {
+					public void execute(Runnable task) {
+						tasks.add(task);
+					}
+				}));
+		final List events = new ArrayList();
+		this.dataset.addChangeListener(new DatasetChangeListener() {
+			public void datasetChanged(DatasetChangeEvent event) {
+				events.add(event);
+			}
+		});
+		float[] data = new float[SERIES];
+		for (int k = 0; k < 100; k++) {
+			this.dataset.advanceTime();
+			this.dataset.appendData(data);
+		}
+		assertTrue(events.isEmpty());
+		assertEquals(1, tasks.size());
+		((Runnable) tasks.get(0)).run();
+		assertEquals(1, events.size());
+		assertSame(this.dataset,
+				((DatasetChangeEvent) events.get(0)).getDataset());
+	}
+
+	/** An empty dataset has no range. */
+	@Test
+	public void rangeOfEmptyDataset() {
+		DynamicTimeSeriesCollection empty = new DynamicTimeSeriesCollection(
+				2, 10, new Second());
+		empty.setTimeBase(new Second(0, 0, 0, 1, 1, 2000));
+		assertNull(empty.getRangeBounds(false));
+	}
+
+	/** A snapshot matches the dataset and does not change afterwards. */
+	@Test
+	public void snapshot() {
+		this.dataset.advanceTime();
+		this.dataset.appendData(new float[] {100.0f, 101.0f, 102.0f});
+		XYDataset snapshot = (XYDataset) this.dataset.createSnapshot();
+		assertEquals(SERIES, snapshot.getSeriesCount());
+		for (int s = 0; s < SERIES; s++) {
+			assertEquals("S" + s, snapshot.getSeriesKey(s));
+			assertEquals(MOMENTS, snapshot.getItemCount(s));
+			for (int i = 0; i < MOMENTS; i++) {
+				assertEquals(this.dataset.getXValue(s, i),
+						snapshot.getXValue(s, i), 0.0);
+				assertEquals(this.dataset.getYValue(s, i),
+						snapshot.getYValue(s, i), 0.0);
+			}
+		}
+		double newest = snapshot.getYValue(2, MOMENTS - 1);
+		double oldestX = snapshot.getXValue(0, 0);
+		this.dataset.advanceTime();
+		this.dataset.appendData(new float[] {-1.0f, -1.0f, -1.0f});
+		assertEquals(102.0, newest, 0.0);
+		assertEquals(newest, snapshot.getYValue(2, MOMENTS - 1), 0.0);
+		assertEquals(oldestX, snapshot.getXValue(0, 0), 0.0);
+		assertEquals(scanRange(snapshot),
+				((RangeInfo) snapshot).getRangeBounds(false));
+	}
+
+	/**
+	 * Snapshots taken while another thread appends data are always
+	 * consistent: the series agree with each other, and the values of the
+	 * complete time periods are consecutive.
+	 */
+	@Test
+	public void snapshotsWhileWriting() throws Exception {
+		final AtomicBoolean done = new AtomicBoolean();
+		final AtomicReference failure = new AtomicReference();
+		Thread writer = new Thread(new Runnable() {
+			public void run() {
+				try {
+					float[] data = new float[SERIES];
+					for (int k = MOMENTS; k < 20000; k++) {
+						DynamicTimeSeriesCollectionTest.this.dataset
+								.advanceTime();
+						for (int s = 0; s < SERIES; s++) {
+							data[s] = k;
+						}
+						DynamicTimeSeriesCollectionTest.this.dataset
+								.appendData(data);
+					}
+				}
+				catch (Throwable t) {
+					failure.compareAndSet(null, t);
+				}
+				finally {
+					done.set(true);
+				}
+			}
+		});
+		writer.start();
+		int snapshots = 0;
+		while (!done.get() || snapshots == 0) {
+			XYDataset snapshot
+					= (XYDataset) this.dataset.createSnapshot();
+			snapshots++;
+			double first = snapshot.getYValue(0, 0);
+			double firstX = snapshot.getXValue(0, 0);
+			for (int i = 0; i < MOMENTS - 1; i++) {
+				for (int s = 0; s < SERIES; s++) {
+					if (snapshot.getYValue(s, i) != first + i) {
+						fail("Inconsistent snapshot at item " + i
+								+ " of series " + s);
+					}
+				}
+				if (snapshot.getXValue(0, i) != firstX + i * 1000.0) {
+					fail("Inconsistent time at item " + i);
+				}
+			}
+			double last = snapshot.getYValue(0, MOMENTS - 1);
+			if (last != 0.0 && last != first + MOMENTS - 1) {
+				fail("Inconsistent newest item " + last);
+			}
+			// the newest period is zero between advanceTime() and
+			// appendData()
+			Range range = this.dataset.getRangeBounds(false);
+			if (range == null || (range.getLength() != MOMENTS - 1
+					&& range.getLowerBound() != 0.0)) {
+				fail("Inconsistent range " + range);
+			}
+		}
+		writer.join();
+		if (failure.get() != null) {
+			throw new AssertionError((Throwable) failure.get());
+		}
+		assertEquals(19999.0, this.dataset.getYValue(1, MOMENTS - 1), 0.0);
+		assertEquals(new Range(19950.0, 19999.0),
+				this.dataset.getRangeBounds(false));
+	}
+
+}
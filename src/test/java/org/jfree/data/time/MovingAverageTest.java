@@ -0,0 +1,283 @@
+package org.jfree.data.time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the {@link MovingAverage} and {@link LiveMovingAverage}
+ * classes.
+ */
+class MovingAverageTest {
+
+	/** The tolerance for comparing a running sum with a fresh sum. */
+	private static final double EPSILON = 1e-9;
+
+	/**
+	 * Calculates a moving average with the nested loops that
+	 * {@link MovingAverage} used before it kept a running sum.
+	 *
+	 * @param source  the source series.
+	 * @param periodCount  the number of periods in the window.
+	 * @param skip  the number of initial periods to skip.
+	 *
+	 * @return The moving average.
+	 */
+	private static TimeSeries naiveAverage(TimeSeries source, int periodCount,
+			int skip) {
+		TimeSeries result = new TimeSeries("Naive", source.getTimePeriodClass());
+		if (source.getItemCount() == 0) {
+			return result;
+		}
+		long firstSerial = source.getDataItem(0).getPeriod().getSerialIndex()
+				+ skip;
+		for (int i = source.getItemCount() - 1; i >= 0; i--) {
+			RegularTimePeriod period = source.getDataItem(i).getPeriod();
+			long serial = period.getSerialIndex();
+			if (serial >= firstSerial) {
+				int n = 0;
+				double sum = 0.0;
+				long serialLimit = serial - periodCount;
+				int offset = 0;
+				boolean finished = false;
+				while ((offset < periodCount) && (!finished)) {
+					if ((i - offset) >= 0) {
+						TimeSeriesDataItem item = source.getDataItem(i - offset);
+						if (item.getPeriod().getSerialIndex() > serialLimit) {
+							if (item.getValue() != null) {
+								sum = sum + item.getValue().doubleValue();
+								n = n + 1;
+							}
+						}
+						else {
+							finished = true;
+						}
+					}
+					offset = offset + 1;
+				}
+				if (n > 0) {
+					result.add(period, sum / n);
+				}
+				else {
+					result.add(period, null);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Checks that two series hold the same periods and (nearly) the same
+	 * values.
+	 *
+	 * @param expected  the expected series.
+	 * @param actual  the series to check.
+	 */
+	private static void assertSameValues(TimeSeries expected,
+			TimeSeries actual) {
+		assertEquals(expected.getItemCount(), actual.getItemCount());
+		for (int i = 0; i < expected.getItemCount(); i++) {
+			assertEquals(expected.getTimePeriod(i), actual.getTimePeriod(i));
+			Number e = expected.getValue(i);
+			Number a = actual.getValue(i);
+			if (e == null) {
+				assertNull(a, "item " + i);
+			}
+			else {
+				assertEquals(e.doubleValue(), a.doubleValue(), EPSILON,
+						"item " + i);
+			}
+		}
+	}
+
+	/**
+	 * Creates a daily series with gaps, <code>null</code> values and a few
+	 * <code>NaN</code> values.
+	 *
+	 * @param count  the number of items.
+	 * @param seed  the random seed.
+	 *
+	 * @return The series.
+	 */
+	private static TimeSeries createSeries(int count, long seed) {
+		Random random = new Random(seed);
+		TimeSeries series = new TimeSeries("Source", Day.class);
+		RegularTimePeriod period = new Day(1, 1, 2026);
+		for (int i = 0; i < count; i++) {
+			int r = random.nextInt(20);
+			if (r == 0) {
+				series.add(period, (Number) null);
+			}
+			else if (r == 1) {
+				series.add(period, Double.NaN);
+			}
+			else {
+				series.add(period, random.nextDouble() * 100.0 - 50.0);
+			}
+			period = period.next();
+			if (random.nextInt(8) == 0) {
+				period = period.next().next();
+			}
+		}
+		return series;
+	}
+
+	/**
+	 * The running sum gives the same averages as the nested loops, including
+	 * gaps, <code>null</code> values and <code>NaN</code> values that leave
+	 * the window.
+	 */
+	@Test
+	public void timeSeriesAverageMatchesNaiveLoops() {
+		TimeSeries source = createSeries(500, 26L);
+		int[][] cases = { { 1, 0 }, { 5, 0 }, { 7, 3 }, { 30, 10 } };
+		for (int i = 0; i < cases.length; i++) {
+			assertSameValues(naiveAverage(source, cases[i][0], cases[i][1]),
+					MovingAverage.createMovingAverage(source, "MA", cases[i][0],
+							cases[i][1]));
+		}
+	}
+
+	/**
+	 * A <code>NaN</code> value only affects the averages while it is in the
+	 * window.
+	 */
+	@Test
+	public void nanLeavesTheWindow() {
+		TimeSeries source = new TimeSeries("Source", Day.class);
+		RegularTimePeriod period = new Day(1, 1, 2026);
+		double[] values = { 1.0, Double.NaN, 3.0, 5.0, 7.0 };
+		for (int i = 0; i < values.length; i++) {
+			source.add(period, values[i]);
+			period = period.next();
+		}
+		TimeSeries ma = MovingAverage.createMovingAverage(source, "MA", 2, 0);
+		assertEquals(1.0, ma.getValue(0).doubleValue(), EPSILON);
+		assertTrue(Double.isNaN(ma.getValue(1).doubleValue()));
+		assertTrue(Double.isNaN(ma.getValue(2).doubleValue()));
+		assertEquals(4.0, ma.getValue(3).doubleValue(), EPSILON);
+		assertEquals(6.0, ma.getValue(4).doubleValue(), EPSILON);
+	}
+
+	/**
+	 * The XY version with a running sum gives the same averages as the nested
+	 * loops.
+	 */
+	@Test
+	public void xyAverageMatchesNaiveLoops() {
+		Random random = new Random(260L);
+		XYSeries source = new XYSeries("Source");
+		double x = 0.0;
+		for (int i = 0; i < 400; i++) {
+			x += 0.25 + random.nextDouble();
+			source.add(x, (i % 37 == 0 ? null
+					: Double.valueOf(random.nextGaussian())));
+		}
+		XYSeriesCollection dataset = new XYSeriesCollection(source);
+		XYSeries ma = MovingAverage.createMovingAverage(dataset, 0, "MA", 4.0,
+				2.0);
+		double first = source.getX(0).doubleValue() + 2.0;
+		int index = 0;
+		for (int i = 0; i < source.getItemCount(); i++) {
+			double xi = source.getX(i).doubleValue();
+			if (xi < first) {
+				continue;
+			}
+			int n = 0;
+			double sum = 0.0;
+			for (int j = i; j >= 0; j--) {
+				if (source.getX(j).doubleValue() <= xi - 4.0) {
+					break;
+				}
+				if (source.getY(j) != null) {
+					sum += source.getY(j).doubleValue();
+					n++;
+				}
+			}
+			assertEquals(xi, ma.getX(index).doubleValue(), 0.0);
+			if (n == 0) {
+				assertNull(ma.getY(index));
+			}
+			else {
+				assertEquals(sum / n, ma.getY(index).doubleValue(), EPSILON);
+			}
+			index++;
+		}
+		assertEquals(index, ma.getItemCount());
+	}
+
+	/**
+	 * A live moving average follows the source as items are appended one at a
+	 * time, and always matches a moving average calculated from scratch.
+	 */
+	@Test
+	public void liveAverageSlidesWithAppends() {
+		TimeSeries all = createSeries(300, 2026L);
+		TimeSeries source = new TimeSeries("Source", Day.class);
+		LiveMovingAverage live = MovingAverage.createLiveMovingAverage(source,
+				"Live", 10, 4);
+		for (int i = 0; i < all.getItemCount(); i++) {
+			source.add(all.getDataItem(i));
+			assertSameValues(MovingAverage.createMovingAverage(source, "MA", 10,
+					4), live.getSeries());
+		}
+	}
+
+	/**
+	 * Changes other than appends, such as a new value for the last item or
+	 * items dropped by the maximum item count, are picked up.
+	 */
+	@Test
+	public void liveAverageFollowsOtherChanges() {
+		TimeSeries source = createSeries(50, 7L);
+		LiveMovingAverage live = MovingAverage.createLiveMovingAverage(source,
+				"Live", 6, 0);
+		source.update(source.getItemCount() - 1, Double.valueOf(1000.0));
+		assertSameValues(MovingAverage.createMovingAverage(source, "MA", 6, 0),
+				live.getSeries());
+		source.delete(source.getTimePeriod(20));
+		assertSameValues(MovingAverage.createMovingAverage(source, "MA", 6, 0),
+				live.getSeries());
+
+		source.setMaximumItemCount(30);
+		RegularTimePeriod next = source.getTimePeriod(
+				source.getItemCount() - 1).next();
+		for (int i = 0; i < 40; i++) {
+			source.add(next, i % 9 == 0 ? Double.NaN : i);
+			next = next.next();
+			TimeSeries expected = MovingAverage.createMovingAverage(source,
+					"MA", 6, 0);
+			TimeSeries actual = live.getSeries();
+			// the live window still holds the items that were dropped from
+			// the front of the source, so only compare full windows
+			long fullWindow = source.getTimePeriod(0).getSerialIndex() + 5;
+			for (int j = 0; j < expected.getItemCount(); j++) {
+				if (expected.getTimePeriod(j).getSerialIndex() < fullWindow) {
+					continue;
+				}
+				int k = actual.getIndex(expected.getTimePeriod(j));
+				assertTrue(k >= 0);
+				Number e = expected.getValue(j);
+				Number a = actual.getValue(k);
+				if (e == null) {
+					assertNull(a);
+				}
+				else {
+					assertEquals(e.doubleValue(), a.doubleValue(), EPSILON);
+				}
+			}
+		}
+
+		live.dispose();
+		int count = live.getSeries().getItemCount();
+		source.add(next, 1.0);
+		assertEquals(count, live.getSeries().getItemCount());
+	}
+
+}
@@ -0,0 +1,231 @@
+package org.jfree.data.time;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.axis.DateAxis;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.plot.CrosshairState;
+import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYBarRenderer;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.chart.renderer.xy.XYItemRendererState;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.xy.XYDataset;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the interval index of the {@link TimePeriodValues} class.
+ */
+class TimePeriodValuesTest {
+
+	/** A bar renderer that records the items it draws. */
+	static class RecordingBarRenderer extends XYBarRenderer {
+
+		/** The items drawn. */
+		List items = new ArrayList();
+
+		/**
+		 * Records an item, then draws it.
+		 */
+		public void drawItem(Graphics2D g2, XYItemRendererState state,
+				Rectangle2D dataArea, PlotRenderingInfo info, XYPlot plot,
+				ValueAxis domainAxis, ValueAxis rangeAxis, XYDataset dataset,
+				int series, int item, CrosshairState crosshairState,
+				int pass) {
+			this.items.add(new Integer(item));
+			super.drawItem(g2, state, dataArea, info, plot, domainAxis,
+					rangeAxis, dataset, series, item, crosshairState, pass);
+		}
+
+	}
+
+	/**
+	 * Returns the indices of the items whose time period intersects a
+	 * range, by checking every item.
+	 *
+	 * @param values  the series.
+	 * @param start  the start of the range.
+	 * @param end  the end of the range.
+	 *
+	 * @return The item indices.
+	 */
+	private static int[] scan(TimePeriodValues values, long start, long end) {
+		List found = new ArrayList();
+		for (int i = 0; i < values.getItemCount(); i++) {
+			TimePeriod period = values.getTimePeriod(i);
+			if (period.getStart().getTime() <= end
+					&& period.getEnd().getTime() >= start) {
+				found.add(new Integer(i));
+			}
+		}
+		int[] result = new int[found.size()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = ((Integer) found.get(i)).intValue();
+		}
+		return result;
+	}
+
+	/**
+	 * Creates a series with random periods, some of them zero-length.
+	 *
+	 * @param random  the random number generator.
+	 * @param count  the number of items.
+	 * @param sorted  add the items in order of start time?
+	 *
+	 * @return The series.
+	 */
+	private static TimePeriodValues createValues(Random random, int count,
+			boolean sorted) {
+		TimePeriodValues values = new TimePeriodValues("S");
+		long start = 0L;
+		for (int i = 0; i < count; i++) {
+			if (sorted) {
+				start += random.nextInt(10);
+			}
+			else {
+				start = random.nextInt(1000);
+			}
+			long length = (random.nextInt(4) == 0 ? 0L : random.nextInt(50));
+			values.add(new SimpleTimePeriod(start, start + length), i);
+		}
+		return values;
+	}
+
+	/** Both ends of the range and of each period are included. */
+	@Test
+	public void boundaries() {
+		TimePeriodValues values = new TimePeriodValues("S");
+		values.add(new SimpleTimePeriod(10L, 20L), 1.0);
+		values.add(new SimpleTimePeriod(30L, 40L), 2.0);
+		assertArrayEquals(new int[] {0}, values.getItemsIntersecting(0L, 10L));
+		assertArrayEquals(new int[] {0}, values.getItemsIntersecting(20L, 29L));
+		assertArrayEquals(new int[] {0, 1},
+				values.getItemsIntersecting(20L, 30L));
+		assertArrayEquals(new int[] {1}, values.getItemsIntersecting(40L, 40L));
+		assertArrayEquals(new int[0], values.getItemsIntersecting(21L, 29L));
+		assertArrayEquals(new int[0], values.getItemsIntersecting(0L, 9L));
+		assertArrayEquals(new int[0], values.getItemsIntersecting(41L, 99L));
+	}
+
+	/** A zero-length period is found when the range contains its instant. */
+	@Test
+	public void zeroLengthPeriods() {
+		TimePeriodValues values = new TimePeriodValues("S");
+		values.add(new SimpleTimePeriod(10L, 10L), 1.0);
+		values.add(new SimpleTimePeriod(5L, 15L), 2.0);
+		values.add(new SimpleTimePeriod(12L, 12L), 3.0);
+		assertArrayEquals(new int[] {0, 1},
+				values.getItemsIntersecting(10L, 10L));
+		assertArrayEquals(new int[] {0, 1, 2},
+				values.getItemsIntersecting(0L, 12L));
+		assertArrayEquals(new int[] {1}, values.getItemsIntersecting(11L, 11L));
+		assertArrayEquals(new int[] {1, 2},
+				values.getItemsIntersecting(12L, 20L));
+	}
+
+	/**
+	 * The results match a scan of all the items, whether the items are added
+	 * in order (so that the index is updated in place) or not.
+	 */
+	@Test
+	public void matchesScan() {
+		Random random = new Random(7L);
+		for (int pass = 0; pass < 2; pass++) {
+			TimePeriodValues values = createValues(random, 300, pass == 0);
+			for (int k = 0; k < 200; k++) {
+				long start = random.nextInt(1100) - 50L;
+				long end = start + random.nextInt(100);
+				assertArrayEquals(scan(values, start, end),
+						values.getItemsIntersecting(start, end),
+						"[" + start + ", " + end + "]");
+				// grow the series after the index is built
+				long s = (pass == 0 ? 3000L + k : random.nextInt(1000));
+				values.add(new SimpleTimePeriod(s, s + random.nextInt(20)),
+						k);
+			}
+		}
+	}
+
+	/** After items are deleted, the item indices refer to the new items. */
+	@Test
+	public void afterDelete() {
+		Random random = new Random(8L);
+		TimePeriodValues values = createValues(random, 100, true);
+		values.getItemsIntersecting(0L, 1000L);
+		values.delete(10, 39);
+		assertEquals(70, values.getItemCount());
+		for (int k = 0; k < 100; k++) {
+			long start = random.nextInt(600);
+			long end = start + random.nextInt(60);
+			assertArrayEquals(scan(values, start, end),
+					values.getItemsIntersecting(start, end),
+					"[" + start + ", " + end + "]");
+		}
+		values.delete(0, values.getItemCount() - 1);
+		assertArrayEquals(new int[0], values.getItemsIntersecting(0L, 1000L));
+	}
+
+	/**
+	 * Draws a plot of a dataset.
+	 *
+	 * @param dataset  the dataset.
+	 * @param renderer  the renderer.
+	 */
+	private static void draw(TimePeriodValuesCollection dataset,
+			XYItemRenderer renderer) {
+		DateAxis xAxis = new DateAxis("X");
+		xAxis.setRange(200.0, 400.0);
+		XYPlot plot = new XYPlot(dataset, xAxis, new NumberAxis("Y"),
+				renderer);
+		BufferedImage image = new BufferedImage(400, 300,
+				BufferedImage.TYPE_INT_RGB);
+		Graphics2D g2 = image.createGraphics();
+		plot.draw(g2, new Rectangle2D.Double(0, 0, 400, 300), null, null,
+				new ChartRenderingInfo().getPlotInfo());
+		g2.dispose();
+	}
+
+	/**
+	 * The plot draws only the items in the visible domain for a bar
+	 * renderer, and all the items for other renderers.
+	 */
+	@Test
+	public void plotDrawsVisibleItems() {
+		TimePeriodValues values = createValues(new Random(9L), 200, false);
+		TimePeriodValuesCollection dataset = new TimePeriodValuesCollection();
+		dataset.addSeries(values);
+
+		RecordingBarRenderer renderer = new RecordingBarRenderer();
+		draw(dataset, renderer);
+		int[] expected = scan(values, 200L, 400L);
+		assertEquals(expected.length, renderer.items.size());
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i],
+					((Integer) renderer.items.get(i)).intValue());
+		}
+
+		final List all = new ArrayList();
+		draw(dataset, new XYLineAndShapeRenderer() {
+			public void drawItem(Graphics2D g2, XYItemRendererState state,
+					Rectangle2D dataArea, PlotRenderingInfo info,
+					XYPlot plot, ValueAxis domainAxis, ValueAxis rangeAxis,
+					XYDataset dataset, int series, int item,
+					CrosshairState crosshairState, int pass) {
+				all.add(new Integer(item));
+			}
+		});
+		assertEquals(200 * 2, all.size());
+	}
+
+}
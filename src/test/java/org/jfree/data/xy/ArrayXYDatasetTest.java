@@ -0,0 +1,167 @@
+package org.jfree.data.xy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the {@link ArrayXYDataset} class.
+ */
+class ArrayXYDatasetTest {
+
+	/** The dataset is a view of the arrays, so changes are seen. */
+	@Test
+	public void arraysAreNotCopied() {
+		double[] x = new double[] {1.0, 2.0, 3.0};
+		double[] y = new double[] {10.0, Double.NaN, 30.0};
+		ArrayXYDataset dataset = new ArrayXYDataset();
+		dataset.addSeries("S", x, y);
+		assertEquals(3, dataset.getItemCount(0));
+		assertNull(dataset.getY(0, 1));
+		assertEquals(2.0, dataset.getStartXValue(0, 1), 0.0);
+		y[1] = 20.0;
+		x[2] = 4.0;
+		assertEquals(new Double(20.0), dataset.getY(0, 1));
+		assertEquals(20.0, dataset.getEndYValue(0, 1), 0.0);
+		assertEquals(4.0, dataset.getXValue(0, 2), 0.0);
+
+		// a series with the same key is replaced...
+		dataset.addSeries("S", new double[] {5.0}, new double[] {6.0});
+		assertEquals(1, dataset.getSeriesCount());
+		assertEquals(1, dataset.getItemCount(0));
+		dataset.removeSeries("S");
+		assertEquals(0, dataset.getSeriesCount());
+	}
+
+	/**
+	 * The cached bounds and domain order are kept until dataChanged() is
+	 * called.
+	 */
+	@Test
+	public void cacheResetOnDataChanged() {
+		double[] x = new double[] {1.0, 2.0, 3.0};
+		double[] y = new double[] {10.0, 20.0, 30.0};
+		double[] x2 = new double[] {0.0, 1.0};
+		double[] y2 = new double[] {0.0, 1.0};
+		ArrayXYDataset dataset = new ArrayXYDataset();
+		dataset.addSeries("S1", x, y);
+		dataset.addSeries("S2", x2, y2);
+		final int[] events = new int[1];
+		dataset.addChangeListener(new DatasetChangeListener() {
+			public void datasetChanged(DatasetChangeEvent event) {
+				events[0]++;
+			}
+		});
+		assertEquals(new Range(0.0, 3.0), dataset.getDomainBounds(false));
+		assertEquals(new Range(0.0, 30.0), dataset.getRangeBounds(false));
+		assertEquals(DomainOrder.ASCENDING, dataset.getDomainOrder());
+
+		x[0] = 5.0;
+		y[0] = -10.0;
+		assertEquals(new Range(0.0, 3.0), dataset.getDomainBounds(false));
+		assertEquals(DomainOrder.ASCENDING, dataset.getDomainOrder());
+		dataset.dataChanged(0);
+		assertEquals(1, events[0]);
+		assertEquals(new Range(0.0, 5.0), dataset.getDomainBounds(false));
+		assertEquals(new Range(-10.0, 30.0), dataset.getRangeBounds(false));
+		assertEquals(DomainOrder.NONE, dataset.getDomainOrder());
+
+		x2[0] = -1.0;
+		dataset.dataChanged();
+		assertEquals(2, events[0]);
+		assertEquals(-1.0, dataset.getDomainLowerBound(false), 0.0);
+	}
+
+	/** The interval columns are used for the bounds with intervals. */
+	@Test
+	public void intervals() {
+		ArrayXYDataset dataset = new ArrayXYDataset();
+		dataset.addSeries("S", new double[][] {{1.0, 2.0}, {0.5, 1.5},
+				{1.5, 2.5}, {10.0, Double.NaN}, {9.0, 19.0}, {11.0, 21.0}});
+		assertEquals(new Range(1.0, 2.0), dataset.getDomainBounds(false));
+		assertEquals(new Range(0.5, 2.5), dataset.getDomainBounds(true));
+		assertEquals(new Range(10.0, 10.0), dataset.getRangeBounds(false));
+		assertEquals(new Range(9.0, 21.0), dataset.getRangeBounds(true));
+		assertEquals(new Double(1.5), dataset.getEndX(0, 0));
+		assertNull(dataset.getY(0, 1));
+
+		assertThrows(IllegalArgumentException.class,
+				() -> dataset.addSeries("T", new double[3][]));
+		assertThrows(IllegalArgumentException.class,
+				() -> dataset.addSeries("T", new double[] {1.0},
+				new double[] {1.0, 2.0}));
+	}
+
+	/**
+	 * A buffer is read from its position to its limit, without copying, and
+	 * later changes to the position and limit have no effect.
+	 */
+	@Test
+	public void bufferSlicing() {
+		DoubleBuffer x = ByteBuffer.allocateDirect(10 * 8)
+				.order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+		DoubleBuffer y = DoubleBuffer.allocate(10);
+		for (int i = 0; i < 10; i++) {
+			x.put(i, i);
+			y.put(i, i * 10.0);
+		}
+		x.position(2);
+		x.limit(5);
+		y.position(7);
+		ArrayXYDataset dataset = new ArrayXYDataset();
+		dataset.addSeries("S", new DoubleBuffer[] {x, y});
+		x.clear();
+		y.clear();
+		assertEquals(3, dataset.getItemCount(0));
+		assertEquals(2.0, dataset.getXValue(0, 0), 0.0);
+		assertEquals(90.0, dataset.getYValue(0, 2), 0.0);
+		x.put(3, 33.0);
+		assertEquals(33.0, dataset.getXValue(0, 1), 0.0);
+		assertThrows(IndexOutOfBoundsException.class,
+				() -> dataset.getXValue(0, 3));
+	}
+
+	/** A serialized dataset holds a copy of the values. */
+	@Test
+	public void serialization() throws Exception {
+		DoubleBuffer x = ByteBuffer.allocateDirect(3 * 8).asDoubleBuffer();
+		for (int i = 0; i < 3; i++) {
+			x.put(i, i);
+		}
+		ArrayXYDataset d1 = new ArrayXYDataset();
+		d1.addSeries("S1", new DoubleBuffer[] {x,
+				DoubleBuffer.wrap(new double[] {1.0, Double.NaN, 3.0})});
+		d1.addSeries("S2", new double[][] {{1.0}, {0.0}, {2.0}, {5.0},
+				{4.0}, {6.0}});
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ObjectOutputStream out = new ObjectOutputStream(bytes);
+		out.writeObject(d1);
+		out.close();
+		ObjectInputStream in = new ObjectInputStream(
+				new ByteArrayInputStream(bytes.toByteArray()));
+		ArrayXYDataset d2 = (ArrayXYDataset) in.readObject();
+		in.close();
+		assertEquals(d1, d2);
+		assertEquals(d1.hashCode(), d2.hashCode());
+		assertNull(d2.getY(0, 1));
+		assertEquals(new Range(0.0, 2.0), d2.getDomainBounds(true));
+		assertEquals(new Range(1.0, 6.0), d2.getRangeBounds(true));
+		x.put(0, 99.0);
+		assertEquals(0.0, d2.getXValue(0, 0), 0.0);
+	}
+
+}
@@ -0,0 +1,202 @@
+package org.jfree.data.xy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.jfree.data.Range;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the {@link ColumnarTableXYDataset} class.
+ */
+class ColumnarTableXYDatasetTest {
+
+	/**
+	 * Checks that a dataset holds the same items as a reference dataset.
+	 *
+	 * @param expected  the reference dataset.
+	 * @param actual  the dataset.
+	 */
+	private static void checkSame(DefaultTableXYDataset expected,
+			ColumnarTableXYDataset actual) {
+		assertEquals(expected.getSeriesCount(), actual.getSeriesCount());
+		assertEquals(expected.getItemCount(), actual.getItemCount());
+		for (int s = 0; s < expected.getSeriesCount(); s++) {
+			assertEquals(expected.getSeriesKey(s), actual.getSeriesKey(s));
+			for (int i = 0; i < expected.getItemCount(); i++) {
+				assertEquals(expected.getXValue(s, i),
+						actual.getXValue(s, i), 0.0);
+				assertEquals(expected.getY(s, i), actual.getY(s, i));
+			}
+		}
+	}
+
+	/** Items added in any order are kept sorted by x. */
+	@Test
+	public void addKeepsXSorted() {
+		ColumnarTableXYDataset dataset = new ColumnarTableXYDataset();
+		dataset.add(3.0, 30.0, "A");
+		dataset.add(1.0, 10.0, "A");
+		dataset.add(2.0, 20.0, "B");
+		dataset.add(1.0, 11.0, "A");
+		assertEquals(3, dataset.getItemCount());
+		assertEquals(1.0, dataset.getXValue(0, 0), 0.0);
+		assertEquals(2.0, dataset.getXValue(0, 1), 0.0);
+		assertEquals(3.0, dataset.getXValue(0, 2), 0.0);
+		assertEquals(11.0, dataset.getYValue(0, 0), 0.0);
+		assertNull(dataset.getY(0, 1));
+		assertNull(dataset.getY(1, 0));
+		assertEquals(20.0, dataset.getYValue(1, 1), 0.0);
+		assertEquals(-2, dataset.indexOfX(1.5));
+		assertThrows(IllegalArgumentException.class,
+				() -> dataset.add(Double.NaN, 1.0, "A"));
+	}
+
+	/**
+	 * Adding an item after prune() and addSeries() with no new x-values 
+	 * grows every array consistently.
+	 */
+	@Test
+	public void addAfterPruneAndAddSeries() {
+		ColumnarTableXYDataset dataset = new ColumnarTableXYDataset();
+		double[] x = new double[40];
+		for (int i = 0; i < 40; i++) {
+			x[i] = i;
+			dataset.add(i, i, "A");
+		}
+		for (int i = 5; i < 40; i++) {
+			dataset.add(i, Double.NaN, "A");
+		}
+		dataset.prune();
+		assertEquals(5, dataset.getItemCount());
+		double[] x5 = new double[5];
+		System.arraycopy(x, 0, x5, 0, 5);
+		dataset.addSeries("B", x5, x5);
+		dataset.add(100.0, 1.0, "A");
+		for (int i = 41; i < 80; i++) {
+			dataset.add(i, 2.0, "B");
+		}
+		assertEquals(45, dataset.getItemCount());
+		assertEquals(100.0, dataset.getXValue(0, 44), 0.0);
+		assertEquals(1.0, dataset.getYValue(0, 44), 0.0);
+		assertNull(dataset.getY(1, 44));
+		assertEquals(4.0, dataset.getYValue(1, 4), 0.0);
+		assertEquals(2.0, dataset.getYValue(1, 5), 0.0);
+	}
+
+	/** Replacing a series clears its values at the other x-values. */
+	@Test
+	public void addSeriesReplaces() {
+		ColumnarTableXYDataset dataset = new ColumnarTableXYDataset();
+		dataset.addSeries("A", new double[] {1.0, 2.0, 3.0},
+				new double[] {10.0, 20.0, 30.0});
+		dataset.addSeries("A", new double[] {2.0, 4.0},
+				new double[] {21.0, 41.0});
+		assertEquals(1, dataset.getSeriesCount());
+		assertEquals(4, dataset.getItemCount());
+		assertNull(dataset.getY(0, 0));
+		assertEquals(21.0, dataset.getYValue(0, 1), 0.0);
+		assertNull(dataset.getY(0, 2));
+		assertEquals(41.0, dataset.getYValue(0, 3), 0.0);
+		dataset.prune();
+		assertEquals(2, dataset.getItemCount());
+		assertEquals(2.0, dataset.getXValue(0, 0), 0.0);
+		assertEquals(4.0, dataset.getXValue(0, 1), 0.0);
+	}
+
+	/** Unsorted input with repeated x-values uses the last y-value. */
+	@Test
+	public void addSeriesUnsortedWithDuplicates() {
+		ColumnarTableXYDataset dataset = new ColumnarTableXYDataset();
+		double[] x = {3.0, 1.0, 2.0, 1.0};
+		double[] y = {30.0, 10.0, 20.0, 11.0};
+		dataset.addSeries("A", x, y);
+		assertEquals(3, dataset.getItemCount());
+		assertEquals(11.0, dataset.getYValue(0, 0), 0.0);
+		assertEquals(3.0, x[0], 0.0);
+		assertThrows(IllegalArgumentException.class,
+				() -> dataset.addSeries("B", new double[] {Double.NaN},
+						new double[] {1.0}));
+		assertThrows(IllegalArgumentException.class,
+				() -> dataset.addSeries("B", new double[] {1.0},
+						new double[0]));
+	}
+
+	/** Random operations give the same items as DefaultTableXYDataset. */
+	@Test
+	public void matchesDefaultTableXYDataset() {
+		Random random = new Random(7L);
+		ColumnarTableXYDataset dataset = new ColumnarTableXYDataset();
+		DefaultTableXYDataset expected = new DefaultTableXYDataset();
+		XYSeries[] series = new XYSeries[3];
+		for (int s = 0; s < series.length; s++) {
+			series[s] = new XYSeries("S" + s, true, false);
+			expected.addSeries(series[s]);
+			dataset.addSeries("S" + s, new double[0], new double[0]);
+		}
+		for (int k = 0; k < 500; k++) {
+			int s = random.nextInt(series.length);
+			double x = random.nextInt(200);
+			double y = random.nextInt(1000);
+			dataset.add(x, y, "S" + s);
+			series[s].addOrUpdate(x, y);
+		}
+		checkSame(expected, dataset);
+	}
+
+	/** The domain bounds come from the first and last x-values. */
+	@Test
+	public void domainBounds() {
+		ColumnarTableXYDataset dataset = new ColumnarTableXYDataset();
+		assertNull(dataset.getDomainBounds(false));
+		dataset.addSeries("A", new double[] {5.0, -2.0, 8.0},
+				new double[] {1.0, 2.0, 3.0});
+		assertEquals(new Range(-2.0, 8.0), dataset.getDomainBounds(false));
+		dataset.removeSeries(0);
+		assertNull(dataset.getDomainBounds(false));
+	}
+
+	/** A clone is equal, and independent of the original. */
+	@Test
+	public void cloneIsIndependent() throws Exception {
+		ColumnarTableXYDataset dataset = new ColumnarTableXYDataset();
+		dataset.add(1.0, 2.0, "A");
+		ColumnarTableXYDataset clone
+				= (ColumnarTableXYDataset) dataset.clone();
+		assertNotSame(dataset, clone);
+		assertEquals(dataset, clone);
+		assertEquals(dataset.hashCode(), clone.hashCode());
+		clone.add(1.0, 3.0, "A");
+		assertEquals(2.0, dataset.getYValue(0, 0), 0.0);
+		assertTrue(!dataset.equals(clone));
+	}
+
+	/** A clone keeps the auto width setting and the interval width. */
+	@Test
+	public void cloneKeepsAutoWidth() throws Exception {
+		ColumnarTableXYDataset dataset = new ColumnarTableXYDataset();
+		dataset.add(1.0, 2.0, "A");
+		dataset.add(3.0, 2.0, "A");
+		dataset.add(4.0, 2.0, "A");
+		dataset.setAutoWidth(true);
+		ColumnarTableXYDataset clone
+				= (ColumnarTableXYDataset) dataset.clone();
+		assertTrue(clone.isAutoWidth());
+		assertEquals(1.0, clone.getIntervalWidth(), 0.0);
+		assertEquals(dataset, clone);
+		clone.add(3.5, 2.0, "A");
+		assertEquals(0.5, clone.getIntervalWidth(), 0.0);
+		assertEquals(1.0, dataset.getIntervalWidth(), 0.0);
+
+		dataset.setIntervalWidth(2.5);
+		clone = (ColumnarTableXYDataset) dataset.clone();
+		assertTrue(!clone.isAutoWidth());
+		assertEquals(2.5, clone.getIntervalWidth(), 0.0);
+	}
+
+}
@@ -0,0 +1,223 @@
+package org.jfree.data.xy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.jfree.data.general.DatasetAppendEvent;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the incremental update of the automatic interval width in
+ * the {@link IntervalXYDelegate} class.
+ */
+class IntervalXYDelegateTest {
+
+	/** Records the events sent by a dataset. */
+	static class EventRecorder implements DatasetChangeListener {
+
+		/** The events received. */
+		List events = new ArrayList();
+
+		/**
+		 * Records an event.
+		 *
+		 * @param event  the event.
+		 */
+		public void datasetChanged(DatasetChangeEvent event) {
+			this.events.add(event);
+		}
+
+	}
+
+	/**
+	 * Creates a delegate with an automatic width that listens to a dataset.
+	 *
+	 * @param dataset  the dataset.
+	 *
+	 * @return The delegate.
+	 */
+	private static IntervalXYDelegate listen(XYSeriesCollection dataset) {
+		IntervalXYDelegate delegate = new IntervalXYDelegate(dataset, false);
+		delegate.setAutoWidth(true);
+		dataset.addChangeListener(delegate);
+		return delegate;
+	}
+
+	/**
+	 * Checks that an interval width kept up to date incrementally matches the
+	 * width calculated from scratch by a new delegate.
+	 *
+	 * @param width  the width.
+	 * @param dataset  the dataset.
+	 * @param message  the message for a failure.
+	 */
+	private static void assertWidth(double width, XYDataset dataset,
+			String message) {
+		IntervalXYDelegate fresh = new IntervalXYDelegate(dataset, false);
+		fresh.setAutoWidth(true);
+		assertEquals(fresh.getIntervalWidth(), width, 0.0, message);
+	}
+
+	/** The width kept across appends matches a full recalculation. */
+	@Test
+	public void appendsMatchRecalculation() {
+		XYSeriesCollection dataset = new XYSeriesCollection();
+		XYSeries s1 = new XYSeries("S1");
+		XYSeries s2 = new XYSeries("S2");
+		dataset.addSeries(s1);
+		dataset.addSeries(s2);
+		IntervalXYDelegate delegate = listen(dataset);
+		EventRecorder recorder = new EventRecorder();
+		dataset.addChangeListener(recorder);
+		Random random = new Random(1L);
+		double x1 = 0.0;
+		double x2 = 0.0;
+		for (int i = 0; i < 200; i++) {
+			x1 += 0.5 + random.nextInt(20);
+			s1.add(x1, i);
+			assertWidth(delegate.getIntervalWidth(), dataset, "s1 item " + i);
+			x2 += 1.0 + random.nextInt(30);
+			s2.add(x2, i);
+			assertWidth(delegate.getIntervalWidth(), dataset, "s2 item " + i);
+		}
+		assertTrue(recorder.events.get(0) instanceof DatasetAppendEvent);
+
+		// an item added in the middle is not an append...
+		s1.add(x1 - 0.25, 0.0);
+		assertFalse(recorder.events.get(recorder.events.size() - 1)
+				instanceof DatasetAppendEvent);
+		assertEquals(0.25, delegate.getIntervalWidth(), 0.0);
+		assertWidth(delegate.getIntervalWidth(), dataset, "insert");
+	}
+
+	/**
+	 * The width is kept up to date when a series drops its oldest items
+	 * because of its maximum item count.
+	 */
+	@Test
+	public void maximumItemCountDrops() {
+		XYSeriesCollection dataset = new XYSeriesCollection();
+		XYSeries series = new XYSeries("S");
+		series.setMaximumItemCount(5);
+		dataset.addSeries(series);
+		IntervalXYDelegate delegate = listen(dataset);
+		EventRecorder recorder = new EventRecorder();
+		dataset.addChangeListener(recorder);
+		Random random = new Random(2L);
+		double x = 0.0;
+		for (int i = 0; i < 300; i++) {
+			x += 1.0 + random.nextInt(10);
+			series.add(x, i);
+			assertWidth(delegate.getIntervalWidth(), dataset, "item " + i);
+		}
+		DatasetAppendEvent last = (DatasetAppendEvent)
+				recorder.events.get(recorder.events.size() - 1);
+		assertEquals(1, last.getAppendedItemCount());
+		assertEquals(1, last.getRemovedItemCount());
+	}
+
+	/**
+	 * A <code>NaN</code> x-value makes the width <code>NaN</code> until the
+	 * item is dropped.
+	 */
+	@Test
+	public void nanXValues() {
+		XYSeriesCollection dataset = new XYSeriesCollection();
+		XYSeries series = new XYSeries("S", false, true);
+		series.setMaximumItemCount(4);
+		dataset.addSeries(series);
+		IntervalXYDelegate delegate = listen(dataset);
+		series.add(1.0, 1.0);
+		series.add(3.0, 1.0);
+		assertEquals(2.0, delegate.getIntervalWidth(), 0.0);
+		series.add(Double.NaN, 1.0);
+		assertTrue(Double.isNaN(delegate.getIntervalWidth()));
+		assertWidth(delegate.getIntervalWidth(), dataset, "NaN added");
+		series.add(10.0, 1.0);
+		series.add(13.0, 1.0);
+		assertTrue(Double.isNaN(delegate.getIntervalWidth()));
+		assertWidth(delegate.getIntervalWidth(), dataset, "NaN kept");
+		series.add(20.0, 1.0);
+		series.add(24.0, 1.0);
+		assertEquals(3.0, delegate.getIntervalWidth(), 0.0);
+		assertWidth(delegate.getIntervalWidth(), dataset, "NaN dropped");
+	}
+
+	/**
+	 * A {@link CategoryTableXYDataset} sends append events for all the series,
+	 * and the width kept matches a full recalculation.
+	 */
+	@Test
+	public void allSeriesEvents() {
+		CategoryTableXYDataset dataset = new CategoryTableXYDataset();
+		dataset.setAutoWidth(true);
+		EventRecorder recorder = new EventRecorder();
+		dataset.addChangeListener(recorder);
+		Random random = new Random(3L);
+		double x = 0.0;
+		for (int i = 0; i < 100; i++) {
+			x += 1.0 + random.nextInt(10);
+			dataset.add(x, i, "A");
+			dataset.add(x, -i, "B");
+			assertWidth(dataset.getIntervalWidth(), dataset, "item " + i);
+		}
+		DatasetAppendEvent last = (DatasetAppendEvent)
+				recorder.events.get(recorder.events.size() - 1);
+		assertEquals(DatasetAppendEvent.ALL_SERIES, last.getSeries());
+
+		// a new series with an earlier x-value is not an append...
+		dataset.add(0.5, 1.0, "C");
+		assertFalse(recorder.events.get(recorder.events.size() - 1)
+				instanceof DatasetAppendEvent);
+		assertWidth(dataset.getIntervalWidth(), dataset, "series C");
+	}
+
+	/**
+	 * The append events held back during an update are combined, and the
+	 * width matches a full recalculation afterwards.
+	 */
+	@Test
+	public void coalescedEvents() {
+		XYSeriesCollection dataset = new XYSeriesCollection();
+		XYSeries s1 = new XYSeries("S1");
+		s1.setMaximumItemCount(10);
+		XYSeries s2 = new XYSeries("S2");
+		dataset.addSeries(s1);
+		dataset.addSeries(s2);
+		IntervalXYDelegate delegate = listen(dataset);
+		EventRecorder recorder = new EventRecorder();
+		dataset.addChangeListener(recorder);
+
+		dataset.beginUpdate();
+		for (int i = 0; i < 15; i++) {
+			s1.add(i * (i + 1.0), i);
+		}
+		dataset.endUpdate();
+		assertEquals(1, recorder.events.size());
+		DatasetAppendEvent e = (DatasetAppendEvent) recorder.events.get(0);
+		assertEquals(0, e.getSeries());
+		assertEquals(15, e.getAppendedItemCount());
+		assertEquals(5, e.getRemovedItemCount());
+		assertEquals(12.0, delegate.getIntervalWidth(), 0.0);
+		assertWidth(delegate.getIntervalWidth(), dataset, "series 0");
+
+		// appends to different series are sent as a plain change...
+		dataset.beginUpdate();
+		s1.add(1000.0, 0.0);
+		s2.add(1.0, 0.0);
+		s2.add(1.5, 0.0);
+		dataset.endUpdate();
+		assertEquals(2, recorder.events.size());
+		assertFalse(recorder.events.get(1) instanceof DatasetAppendEvent);
+		assertEquals(0.5, delegate.getIntervalWidth(), 0.0);
+		assertWidth(delegate.getIntervalWidth(), dataset, "both series");
+	}
+
+}
@@ -0,0 +1,242 @@
+package org.jfree.data.xy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
+
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * This class tests the {@link MappedXYDataset} class.
+ */
+class MappedXYDatasetTest {
+
+	/** A directory for the dataset files. */
+	@TempDir
+	File directory;
+
+	/**
+	 * Returns a file in the temporary directory.
+	 *
+	 * @param name  the file name.
+	 *
+	 * @return The file.
+	 */
+	private File file(String name) {
+		return new File(this.directory, name);
+	}
+
+	/** Items can be appended, and are still there when the file is reopened. */
+	@Test
+	public void createAppendCloseReopen() throws IOException {
+		File f = file("data.jfxy");
+		MappedXYDataset dataset = new MappedXYDataset("S", f);
+		assertEquals(1, dataset.getSeriesCount());
+		assertEquals("S", dataset.getSeriesKey(0));
+		assertEquals(0, dataset.getItemCount(0));
+		dataset.add(1.0, 10.0);
+		dataset.add(new double[] {2.0, 3.0}, new double[] {20.0, 30.0});
+		assertEquals(3, dataset.getItemCount(0));
+		assertEquals(3.0, dataset.getXValue(0, 2), 0.0);
+		assertEquals(new Double(20.0), dataset.getY(0, 1));
+
+		dataset.close();
+		assertEquals(0, dataset.getItemCount(0));
+		assertThrows(IllegalStateException.class, () -> dataset.add(4.0, 40.0));
+		dataset.close();
+
+		MappedXYDataset reopened = new MappedXYDataset("S", f);
+		try {
+			assertEquals(3, reopened.getItemCount(0));
+			assertEquals(1.0, reopened.getXValue(0, 0), 0.0);
+			assertEquals(30.0, reopened.getYValue(0, 2), 0.0);
+			reopened.add(4.0, 40.0);
+			assertEquals(4, reopened.getItemCount(0));
+			assertEquals(40.0, reopened.getYValue(0, 3), 0.0);
+		}
+		finally {
+			reopened.close();
+		}
+	}
+
+	/** A file opened read-only can be read but not changed. */
+	@Test
+	public void readOnlyReopen() throws IOException {
+		File f = file("data.jfxy");
+		MappedXYDataset dataset = new MappedXYDataset("S", f);
+		dataset.add(1.0, 10.0);
+		dataset.add(2.0, 20.0);
+		dataset.close();
+		long length = f.length();
+
+		MappedXYDataset readOnly = new MappedXYDataset("S", f, true);
+		try {
+			assertTrue(readOnly.isReadOnly());
+			assertEquals(2, readOnly.getItemCount(0));
+			assertEquals(20.0, readOnly.getYValue(0, 1), 0.0);
+			assertThrows(IllegalStateException.class,
+					() -> readOnly.add(3.0, 30.0));
+			readOnly.flush();
+		}
+		finally {
+			readOnly.close();
+		}
+		assertEquals(length, f.length());
+
+		// a missing file is not created in read-only mode
+		File missing = file("missing.jfxy");
+		assertThrows(IOException.class,
+				() -> new MappedXYDataset("S", missing, true));
+		assertFalse(missing.exists());
+	}
+
+	/** The bounds and the order of the x-values are kept in the header. */
+	@Test
+	public void headerBoundsAndOrder() throws IOException {
+		File f = file("data.jfxy");
+		MappedXYDataset dataset = new MappedXYDataset("S", f);
+		assertNull(dataset.getDomainBounds(false));
+		assertNull(dataset.getRangeBounds(false));
+		assertTrue(Double.isNaN(dataset.getDomainLowerBound(false)));
+		assertEquals(DomainOrder.ASCENDING, dataset.getDomainOrder());
+		dataset.add(1.0, 5.0);
+		dataset.add(1.0, Double.NaN);
+		dataset.add(4.0, -2.0);
+		assertEquals(new Range(1.0, 4.0), dataset.getDomainBounds(false));
+		assertEquals(new Range(-2.0, 5.0), dataset.getRangeBounds(false));
+		assertEquals(DomainOrder.ASCENDING, dataset.getDomainOrder());
+		dataset.close();
+
+		dataset = new MappedXYDataset("S", f);
+		assertEquals(new Range(1.0, 4.0), dataset.getDomainBounds(false));
+		assertEquals(new Range(-2.0, 5.0), dataset.getRangeBounds(false));
+		assertEquals(DomainOrder.ASCENDING, dataset.getDomainOrder());
+		dataset.add(3.0, 7.0);
+		assertEquals(DomainOrder.NONE, dataset.getDomainOrder());
+		assertEquals(7.0, dataset.getRangeUpperBound(false), 0.0);
+		dataset.close();
+
+		dataset = new MappedXYDataset("S", f, true);
+		assertEquals(DomainOrder.NONE, dataset.getDomainOrder());
+		assertEquals(new Range(-2.0, 7.0), dataset.getRangeBounds(false));
+		dataset.close();
+	}
+
+	/** The file grows as items are added beyond the reserved room. */
+	@Test
+	public void capacityGrowth() throws IOException {
+		File f = file("data.jfxy");
+		MappedXYDataset dataset = new MappedXYDataset("S", f);
+		int count = 4096 * 2 + 100;
+		for (int i = 0; i < count; i++) {
+			dataset.add(i, -i);
+		}
+		assertEquals(count, dataset.getItemCount(0));
+		assertTrue(f.length() >= MappedXYDataset.HEADER_SIZE + count * 16L);
+		for (int i = 0; i < count; i += 97) {
+			assertEquals(i, dataset.getXValue(0, i), 0.0);
+			assertEquals(-i, dataset.getYValue(0, i), 0.0);
+		}
+		assertThrows(IndexOutOfBoundsException.class,
+				() -> dataset.getXValue(0, count));
+		dataset.close();
+
+		// the room reserved in the file is reused after reopening
+		MappedXYDataset reopened = new MappedXYDataset("S", f);
+		long length = f.length();
+		reopened.add(count, -count);
+		assertEquals(count + 1, reopened.getItemCount(0));
+		assertEquals(length, f.length());
+		assertEquals(4096.0, reopened.getXValue(0, 4096), 0.0);
+		reopened.close();
+	}
+
+	/**
+	 * Writes an int into a file, little-endian.
+	 *
+	 * @param f  the file.
+	 * @param offset  the offset.
+	 * @param value  the value.
+	 */
+	private static void writeInt(File f, long offset, int value)
+			throws IOException {
+		RandomAccessFile raf = new RandomAccessFile(f, "rw");
+		try {
+			raf.seek(offset);
+			raf.writeInt(Integer.reverseBytes(value));
+		}
+		finally {
+			raf.close();
+		}
+	}
+
+	/** Files with a bad magic number, version or length are rejected. */
+	@Test
+	public void rejectsBadFiles() throws IOException {
+		File f = file("data.jfxy");
+		MappedXYDataset dataset = new MappedXYDataset("S", f);
+		dataset.add(1.0, 1.0);
+		dataset.close();
+
+		writeInt(f, 4, 2);
+		assertThrows(IOException.class, () -> new MappedXYDataset("S", f));
+		writeInt(f, 4, 1);
+		new MappedXYDataset("S", f).close();
+		writeInt(f, 0, 0x12345678);
+		assertThrows(IOException.class,
+				() -> new MappedXYDataset("S", f, true));
+
+		File shortFile = file("short.jfxy");
+		RandomAccessFile raf = new RandomAccessFile(shortFile, "rw");
+		raf.write(new byte[10]);
+		raf.close();
+		assertThrows(IOException.class,
+				() -> new MappedXYDataset("S", shortFile));
+	}
+
+	/** A serialized dataset opens the file again. */
+	@Test
+	public void serialization() throws Exception {
+		File f = file("data.jfxy");
+		MappedXYDataset dataset = new MappedXYDataset("S", f);
+		dataset.add(1.0, 10.0);
+		dataset.add(2.0, 20.0);
+		dataset.flush();
+
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		ObjectOutputStream out = new ObjectOutputStream(buffer);
+		out.writeObject(dataset);
+		out.close();
+		dataset.close();
+		ObjectInputStream in = new ObjectInputStream(
+				new ByteArrayInputStream(buffer.toByteArray()));
+		MappedXYDataset copy = (MappedXYDataset) in.readObject();
+		in.close();
+		try {
+			assertEquals("S", copy.getSeriesKey(0));
+			assertEquals(f, copy.getFile());
+			assertEquals(2, copy.getItemCount(0));
+			assertEquals(20.0, copy.getYValue(0, 1), 0.0);
+			assertEquals(new Range(1.0, 2.0), copy.getDomainBounds(false));
+			copy.add(3.0, 30.0);
+			assertEquals(3, copy.getItemCount(0));
+		}
+		finally {
+			copy.close();
+		}
+	}
+
+}
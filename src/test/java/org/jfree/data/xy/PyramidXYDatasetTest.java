@@ -0,0 +1,250 @@
+package org.jfree.data.xy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.XYItemEntity;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.Range;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the {@link PyramidXYDataset} class.
+ */
+class PyramidXYDatasetTest {
+
+	/**
+	 * Adds items with ascending x-values and random y-values (some of them
+	 * missing) to a series.
+	 *
+	 * @param series  the series.
+	 * @param random  the random number generator.
+	 * @param count  the number of items.
+	 */
+	private static void append(XYSeries series, Random random, int count) {
+		double x = (series.getItemCount() > 0
+				? series.getX(series.getItemCount() - 1).doubleValue() : 0.0);
+		for (int i = 0; i < count; i++) {
+			x += random.nextInt(3);
+			double y = random.nextGaussian() * 100.0;
+			series.add(x, random.nextInt(50) == 0 ? Double.NaN : y);
+		}
+	}
+
+	/**
+	 * Checks a view against a scan of the items in the dataset: the items in
+	 * the view must be in order, cover the x-range, and have the same
+	 * minimum and maximum y-values as the items they span.
+	 *
+	 * @param dataset  the dataset.
+	 * @param lower  the lower bound of the x-range.
+	 * @param upper  the upper bound of the x-range.
+	 * @param resolution  the resolution.
+	 */
+	private static void checkView(PyramidXYDataset dataset, double lower,
+			double upper, int resolution) {
+		XYDataset view = dataset.getView(lower, upper, resolution);
+		if (view == dataset) {
+			return;
+		}
+		String message = "[" + lower + ", " + upper + "] at " + resolution;
+		int count = view.getItemCount(0);
+		int first = dataset.getItemIndex(view, 0, 0);
+		int last = dataset.getItemIndex(view, 0, count - 1);
+		for (int i = 1; i < count; i++) {
+			assertTrue(dataset.getItemIndex(view, 0, i)
+					> dataset.getItemIndex(view, 0, i - 1), message);
+		}
+		assertTrue(first == 0 || dataset.getXValue(0, first) < lower, message);
+		assertTrue(last == dataset.getItemCount(0) - 1
+				|| dataset.getXValue(0, last) > upper, message);
+		assertEquals(minMax(dataset, first, last),
+				minMax(view, 0, count - 1), message);
+	}
+
+	/**
+	 * Returns the range of the y-values for some items in the first series.
+	 *
+	 * @param dataset  the dataset.
+	 * @param first  the first item.
+	 * @param last  the last item.
+	 *
+	 * @return The range (<code>null</code> if all the values are missing).
+	 */
+	private static Range minMax(XYDataset dataset, int first, int last) {
+		double min = Double.POSITIVE_INFINITY;
+		double max = Double.NEGATIVE_INFINITY;
+		for (int i = first; i <= last; i++) {
+			double y = dataset.getYValue(0, i);
+			if (!Double.isNaN(y)) {
+				min = Math.min(min, y);
+				max = Math.max(max, y);
+			}
+		}
+		return (min <= max ? new Range(min, max) : null);
+	}
+
+	/**
+	 * Checks some views with random x-ranges and resolutions.
+	 *
+	 * @param dataset  the dataset.
+	 * @param random  the random number generator.
+	 */
+	private static void checkViews(PyramidXYDataset dataset, Random random) {
+		int count = dataset.getItemCount(0);
+		double x0 = dataset.getXValue(0, 0);
+		double x1 = dataset.getXValue(0, count - 1);
+		checkView(dataset, x0, x1, 1 + random.nextInt(400));
+		for (int k = 0; k < 20; k++) {
+			double a = x0 + random.nextDouble() * (x1 - x0);
+			double b = x0 + random.nextDouble() * (x1 - x0);
+			checkView(dataset, Math.min(a, b), Math.max(a, b),
+					1 + random.nextInt(200));
+		}
+		assertEquals(minMax(dataset, 0, count - 1),
+				dataset.getRangeBounds(false));
+	}
+
+	/**
+	 * The pyramid kept up to date across appends gives the same extremes as
+	 * a scan of the items.
+	 */
+	@Test
+	public void incrementalAppend() {
+		Random random = new Random(1L);
+		XYSeries series = new XYSeries("S");
+		XYSeriesCollection source = new XYSeriesCollection(series);
+		PyramidXYDataset dataset = new PyramidXYDataset(source);
+		append(series, random, 5000);
+		checkViews(dataset, random);
+		for (int i = 0; i < 20; i++) {
+			append(series, random, 1 + random.nextInt(3000));
+			checkViews(dataset, random);
+		}
+	}
+
+	/**
+	 * The pyramid is kept up to date when the oldest items are dropped from
+	 * the start of a series as new items are appended.
+	 */
+	@Test
+	public void appendWithRemoval() {
+		Random random = new Random(2L);
+		XYSeries series = new XYSeries("S");
+		series.setMaximumItemCount(20000);
+		XYSeriesCollection source = new XYSeriesCollection(series);
+		PyramidXYDataset dataset = new PyramidXYDataset(source);
+		append(series, random, 19000);
+		checkViews(dataset, random);
+		for (int i = 0; i < 30; i++) {
+			append(series, random, 1 + random.nextInt(i % 5 == 0 ? 9000 : 700));
+			assertEquals(Math.min(series.getItemCount(), 20000),
+					dataset.getItemCount(0));
+			checkViews(dataset, random);
+		}
+
+		// several removals before the pyramid is brought up to date...
+		for (int i = 0; i < 10; i++) {
+			append(series, random, 1 + random.nextInt(100));
+		}
+		checkViews(dataset, random);
+	}
+
+	/**
+	 * A short x-range is drawn from the items in the range, and a long one
+	 * from a number of items that depends on the resolution.
+	 */
+	@Test
+	public void levelSelection() {
+		Random random = new Random(3L);
+		XYSeries series = new XYSeries("S");
+		append(series, random, 100000);
+		PyramidXYDataset dataset = new PyramidXYDataset(
+				new XYSeriesCollection(series));
+		double x0 = series.getX(0).doubleValue();
+		double x1 = series.getX(99999).doubleValue();
+
+		// few items in the range...
+		double lower = series.getX(5000).doubleValue();
+		double upper = series.getX(5300).doubleValue();
+		XYDataset view = dataset.getView(lower, upper, 100);
+		int count = view.getItemCount(0);
+		assertTrue(count <= 4 * 100);
+		int first = dataset.getItemIndex(view, 0, 0);
+		for (int i = 0; i < count; i++) {
+			assertEquals(first + i, dataset.getItemIndex(view, 0, i));
+		}
+		assertSame(dataset, dataset.getView(x0, x1, 100000));
+
+		// ...and many
+		int previous = 0;
+		for (int resolution = 10; resolution <= 10000; resolution *= 10) {
+			view = dataset.getView(x0, x1, resolution);
+			assertNotSame(dataset, view);
+			count = view.getItemCount(0);
+			assertTrue(count <= 4 * (2 * resolution + 2), "" + resolution);
+			assertTrue(count > previous, "" + resolution);
+			assertEquals(minMax(dataset, 0, dataset.getItemCount(0) - 1),
+					minMax(view, 0, count - 1));
+			previous = count;
+		}
+		assertSame(view, dataset.getView(x0, x1, 10000));
+	}
+
+	/**
+	 * The entities for the items drawn from a view refer to the items in the
+	 * dataset.
+	 */
+	@Test
+	public void entitiesReferToDataset() {
+		Random random = new Random(4L);
+		XYSeries series = new XYSeries("S");
+		append(series, random, 50000);
+		PyramidXYDataset dataset = new PyramidXYDataset(
+				new XYSeriesCollection(series));
+		NumberAxis xAxis = new NumberAxis("X");
+		NumberAxis yAxis = new NumberAxis("Y");
+		XYPlot plot = new XYPlot(dataset, xAxis, yAxis,
+				new XYLineAndShapeRenderer());
+		ChartRenderingInfo info = new ChartRenderingInfo();
+		BufferedImage image = new BufferedImage(400, 300,
+				BufferedImage.TYPE_INT_RGB);
+		Graphics2D g2 = image.createGraphics();
+		plot.draw(g2, new Rectangle2D.Double(0, 0, 400, 300), null, null,
+				info.getPlotInfo());
+		g2.dispose();
+
+		EntityCollection entities = info.getEntityCollection();
+		int itemEntities = 0;
+		for (int i = 0; i < entities.getEntityCount(); i++) {
+			ChartEntity entity = entities.getEntity(i);
+			if (entity instanceof XYItemEntity) {
+				XYItemEntity e = (XYItemEntity) entity;
+				assertSame(dataset, e.getDataset());
+				Rectangle2D bounds = e.getArea().getBounds2D();
+				double x = xAxis.valueToJava2D(
+						dataset.getXValue(0, e.getItem()),
+						info.getPlotInfo().getDataArea(),
+						plot.getDomainAxisEdge());
+				assertTrue(Math.abs(bounds.getCenterX() - x) < 1.0E-6,
+						"item " + e.getItem());
+				itemEntities++;
+			}
+		}
+		assertTrue(itemEntities > 0);
+		assertTrue(itemEntities < 50000);
+	}
+
+}